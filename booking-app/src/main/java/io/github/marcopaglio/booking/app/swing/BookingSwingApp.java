@@ -9,7 +9,14 @@ import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
 
 import java.awt.EventQueue;
 import java.awt.Frame;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Period;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
@@ -24,21 +31,48 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
-import io.github.marcopaglio.booking.presenter.BookingPresenter;
+import io.github.marcopaglio.booking.changefeed.ChangeFeed;
+import io.github.marcopaglio.booking.changefeed.mongo.ChangeMongoFeed;
+import io.github.marcopaglio.booking.changefeed.postgres.ChangePostgresFeed;
+import io.github.marcopaglio.booking.changefeed.postgres.ChangeTriggerInstaller;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyStore;
+import io.github.marcopaglio.booking.idempotency.mongo.IdempotencyMongoStore;
+import io.github.marcopaglio.booking.idempotency.postgres.IdempotencyPostgresStore;
+import io.github.marcopaglio.booking.presenter.dispatching.DispatchingBookingPresenter;
+import io.github.marcopaglio.booking.presenter.dispatching.KeyedDispatcher;
 import io.github.marcopaglio.booking.presenter.served.ServedBookingPresenter;
 import io.github.marcopaglio.booking.repository.factory.ClientRepositoryFactory;
 import io.github.marcopaglio.booking.repository.factory.ReservationRepositoryFactory;
+import io.github.marcopaglio.booking.repository.mongo.ClientMongoSearchIndexer;
+import io.github.marcopaglio.booking.repository.mongo.ReservationMongoMigrator;
+import io.github.marcopaglio.booking.repository.postgres.ClientSearchIndexer;
+import io.github.marcopaglio.booking.repository.postgres.ReservationPartitioner;
+import io.github.marcopaglio.booking.repository.postgres.ReservationResourceMigrator;
 import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.service.archiving.ArchivingJob;
+import io.github.marcopaglio.booking.service.availability.AvailabilityIndex;
+import io.github.marcopaglio.booking.service.caching.CachingBookingService;
+import io.github.marcopaglio.booking.service.idempotent.IdempotentBookingService;
 import io.github.marcopaglio.booking.service.transactional.TransactionalBookingService;
 import io.github.marcopaglio.booking.transaction.handler.factory.TransactionHandlerFactory;
+import io.github.marcopaglio.booking.transaction.interceptor.SlowTransactionInterceptor;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionInterceptor;
 import io.github.marcopaglio.booking.transaction.manager.TransactionManager;
+import io.github.marcopaglio.booking.transaction.manager.intercepted.InterceptedTransactionManager;
 import io.github.marcopaglio.booking.transaction.manager.mongo.TransactionMongoManager;
 import io.github.marcopaglio.booking.transaction.manager.postgres.TransactionPostgresManager;
 import io.github.marcopaglio.booking.validator.ClientValidator;
 import io.github.marcopaglio.booking.validator.ReservationValidator;
 import io.github.marcopaglio.booking.validator.restricted.RestrictedClientValidator;
 import io.github.marcopaglio.booking.validator.restricted.RestrictedReservationValidator;
+import io.github.marcopaglio.booking.view.BookingView;
+import io.github.marcopaglio.booking.view.headless.BatchReport;
+import io.github.marcopaglio.booking.view.headless.BatchRunner;
+import io.github.marcopaglio.booking.view.headless.BatchScript;
+import io.github.marcopaglio.booking.view.headless.HeadlessBookingView;
 import io.github.marcopaglio.booking.view.swing.BookingSwingView;
+import io.github.marcopaglio.booking.view.swing.EdtWatchdog;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 import picocli.CommandLine;
@@ -62,6 +96,16 @@ public class BookingSwingApp implements Callable<Void> {
 	 */
 	private static final int STARTUP_FAILURE_STATUS = 255;
 
+	/**
+	 * Maximum number of served requests remembered in memory when deduplication is enabled.
+	 */
+	private static final int IDEMPOTENCY_CACHE_SIZE = 1000;
+
+	/**
+	 * Delay between two runs of the archiving of past reservations, when enabled.
+	 */
+	private static final Duration ARCHIVING_PERIOD = Duration.ofDays(1);
+
 	/**
 	 * Argument value for DBMS choice. By default {@code POSTGRES} is used.
 	 */
@@ -100,6 +144,129 @@ public class BookingSwingApp implements Callable<Void> {
 	@Option(names = { "--pswd", "-pswd", }, description = "Password for logging into the database")
 	private String pswd = "postgres-pswd";
 
+	/**
+	 * Argument value for the threshold in milliseconds over which transactions are logged as slow.
+	 * By default {@code 0} is used, that disables the logging of slow transactions.
+	 */
+	@Option(names = { "--slow-txn-ms", "-slow-txn-ms" }, description = "Threshold in milliseconds over which transactions are logged as slow (0 to disable)")
+	private long slowTransactionThreshold = 0;
+
+	/**
+	 * Argument value for the maximum number of entries of each cache of the service layer.
+	 * By default {@code 0} is used, that disables caching.
+	 */
+	@Option(names = { "--cache-size", "-cache-size" }, description = "Maximum number of entries of each service cache (0 to disable)")
+	private int cacheSize = 0;
+
+	/**
+	 * Argument value for the time in milliseconds after which cached entries expire.
+	 * By default {@code 30000} is used.
+	 */
+	@Option(names = { "--cache-ttl-ms", "-cache-ttl-ms" }, description = "Time in milliseconds after which cached entries expire")
+	private long cacheTimeToLive = 30000;
+
+	/**
+	 * Argument value for following the changes made to the database by other instances.
+	 * By default {@code true} is used.
+	 */
+	@Option(names = { "--change-feed", "-change-feed" }, negatable = true, description = "Follow the changes made by other instances of the application (enabled by default)")
+	private boolean changeFeed = true;
+
+	/**
+	 * Argument value for the time in milliseconds during which served requests with
+	 * an idempotency key are remembered. By default {@code 0} is used, that disables
+	 * the deduplication of retried requests.
+	 */
+	@Option(names = { "--idempotency-ttl-ms", "-idempotency-ttl-ms" }, description = "Time in milliseconds during which retried requests are recognized (0 to disable)")
+	private long idempotencyTimeToLive = 0;
+
+	/**
+	 * Argument value for the number of days for which past reservations are kept in use
+	 * before being archived. By default {@code 0} is used, that disables the archiving.
+	 */
+	@Option(names = { "--archive-after-days", "-archive-after-days" }, description = "Days after which past reservations are archived (0 to disable)")
+	private int archiveAfterDays = 0;
+
+	/**
+	 * Argument value for the maximum number of reservations archived in a single transaction.
+	 * By default {@code 500} is used.
+	 */
+	@Option(names = { "--archive-batch-size", "-archive-batch-size" }, description = "Maximum number of reservations archived in a single transaction")
+	private int archiveBatchSize = 500;
+
+	/**
+	 * Argument value for the number of years after the current one for which yearly partitions
+	 * of reservations are created in PostgreSQL. By default {@code -1} is used, that leaves
+	 * the table of reservations unpartitioned.
+	 */
+	@Option(names = { "--partition-years-ahead", "-partition-years-ahead" }, description = "Years ahead for which yearly partitions of reservations are created in PostgreSQL (negative to disable)")
+	private int partitionYearsAhead = -1;
+
+	/**
+	 * Argument value for the number of threads running the operations requested through the view.
+	 * By default {@code 4} is used.
+	 */
+	@Option(names = { "--dispatch-workers", "-dispatch-workers" }, description = "Number of threads running the operations requested through the view")
+	private int dispatchWorkers = 4;
+
+	/**
+	 * Argument value for the maximum number of operations requested through the view waiting
+	 * to be run, over which new ones are refused. By default {@code 64} is used.
+	 */
+	@Option(names = { "--dispatch-capacity", "-dispatch-capacity" }, description = "Maximum number of operations waiting to be run, over which new ones are refused")
+	private int dispatchCapacity = 64;
+
+	/**
+	 * Argument value for the window in milliseconds over which the full refreshes requested
+	 * after failed operations are merged. By default {@code 250} is used.
+	 */
+	@Option(names = { "--refresh-debounce-ms", "-refresh-debounce-ms" }, description = "Window in milliseconds over which refreshes after failed operations are merged (0 to refresh at once)")
+	private long refreshDebounce = 250;
+
+	/**
+	 * Argument value for the number of reservations of each page loaded by the view while
+	 * scrolling. By default {@code 0} is used, that makes the view hold all the reservations.
+	 */
+	@Option(names = { "--reservation-page-size", "-reservation-page-size" }, description = "Number of reservations of each page loaded while scrolling (0 to hold all of them)")
+	private int reservationPageSize = 0;
+
+	/**
+	 * Argument value for the maximum number of pages of reservations held by the view.
+	 * By default {@code 16} is used.
+	 */
+	@Option(names = { "--reservation-cached-pages", "-reservation-cached-pages" }, description = "Maximum number of pages of reservations held by the view")
+	private int reservationCachedPages = 16;
+
+	/**
+	 * Argument value for showing the insertions and renaming as pending before the database
+	 * confirms them. By default {@code false} is used.
+	 */
+	@Option(names = { "--optimistic", "-optimistic" }, description = "Show added and renamed entities as pending until the database confirms them")
+	private boolean optimistic = false;
+
+	/**
+	 * Argument value for the threshold in milliseconds over which the tasks of the view
+	 * waiting or running on the event dispatch thread are logged as stalls.
+	 * By default {@code 0} is used, i.e. the event dispatch thread is not watched.
+	 */
+	@Option(names = { "--edt-stall-ms", "-edt-stall-ms" }, description = "Threshold in milliseconds over which tasks of the view stalling the event dispatch thread are logged (0 to disable)")
+	private long edtStallThreshold = 0;
+
+	/**
+	 * The dispatcher running the operations requested through the view, once started.
+	 */
+	private volatile KeyedDispatcher dispatcher;
+
+	/**
+	 * The job archiving past reservations, once started.
+	 */
+	private volatile ArchivingJob archivingJob;
+
+	/**
+	 * The watchdog of the event dispatch thread, once started.
+	 */
+	private volatile EdtWatchdog edtWatchdog;
+
 	/**
 	 * Main method using Picocli framework for managing arguments.
 	 * 
@@ -119,28 +286,29 @@ public class BookingSwingApp implements Callable<Void> {
 		LOGGER.info("BookingApp is starting...");
 		EventQueue.invokeLater(() -> {
 			try {
-				TransactionHandlerFactory transactionHandlerFactory = new TransactionHandlerFactory();
-				ClientRepositoryFactory clientRepositoryFactory = new ClientRepositoryFactory();
-				ReservationRepositoryFactory reservationRepositoryFactory = new ReservationRepositoryFactory();
-				
 				LOGGER.info(String.format("BookingApp is connecting with %s...", dbHelper.getDBName()));
 				dbHelper.openDatabaseConnection();
 				LOGGER.info(String.format("The connection to %s has been established.", dbHelper.getDBName()));
 				
-				TransactionManager transactionManager = dbHelper.getTransactionDBManager(transactionHandlerFactory,
-						clientRepositoryFactory, reservationRepositoryFactory);
-				
-				BookingService bookingService = new TransactionalBookingService(transactionManager);
-				ClientValidator clientValidator = new RestrictedClientValidator();
-				ReservationValidator reservationValidator = new RestrictedReservationValidator();
+				TransactionManager transactionManager = createTransactionManager(dbHelper);
+				ChangeFeed feed = startChangeFeed(changeFeed ? dbHelper.getChangeFeed() : null);
+				BookingService bookingService = createBookingService(transactionManager, feed, dbHelper);
+				archivingJob = startArchivingJob(bookingService);
 				
 				BookingSwingView bookingSwingView = new BookingSwingView();
-				BookingPresenter bookingPresenter = new ServedBookingPresenter(bookingSwingView,
-						bookingService, clientValidator, reservationValidator);
-				bookingSwingView.setBookingPresenter(bookingPresenter);
+				if (edtStallThreshold > 0) {
+					edtWatchdog = new EdtWatchdog(Duration.ofMillis(edtStallThreshold));
+					edtWatchdog.start();
+					bookingSwingView.setEdtWatchdog(edtWatchdog);
+				}
+				if (reservationPageSize > 0)
+					bookingSwingView.pageReservations(reservationPageSize, reservationCachedPages);
+				ServedBookingPresenter bookingPresenter = createPresenter(bookingSwingView, bookingService, feed);
+				dispatcher = new KeyedDispatcher(dispatchWorkers, dispatchCapacity);
+				bookingSwingView.setBookingPresenter(
+						new DispatchingBookingPresenter(bookingPresenter, bookingSwingView, dispatcher));
 				bookingSwingView.setVisible(true);
-				bookingPresenter.allClients();
-				bookingPresenter.allReservations();
+				bookingPresenter.allClientsAndReservations();
 				LOGGER.info("BookingApp is ready to be used.");
 			} catch(Exception e) {
 				LOGGER.error(() -> "BookingApp startup fails due to an unexpected error.");
@@ -157,6 +325,14 @@ public class BookingSwingApp implements Callable<Void> {
 		Runtime.getRuntime().addShutdownHook(new Thread() {
 			@Override
 			public void run() {
+				if (archivingJob != null)
+					archivingJob.close();
+				if (dispatcher != null)
+					dispatcher.close();
+				if (edtWatchdog != null) {
+					edtWatchdog.close();
+					LOGGER.info(edtWatchdog::format);
+				}
 				LOGGER.info(String.format("BookingApp is closing connection with %s...", dbHelper.getDBName()));
 				dbHelper.closeDatabaseConnection();
 				LOGGER.info(String.format("BookingApp is no longer connected to %s.", dbHelper.getDBName()));
@@ -166,6 +342,56 @@ public class BookingSwingApp implements Callable<Void> {
 		return null;
 	}
 
+	/**
+	 * Runs a batch of operations through the presenter and the service layer of the application,
+	 * without the GUI, and prints the throughput and the latency percentiles of the operations.
+	 * The operations are read from a script, if given, or generated otherwise.
+	 * 
+	 * @param script				the file of the script, or {@code null} for generating the operations.
+	 * @param sessions				the number of sessions of operations to generate.
+	 * @param seed					the seed of the generated operations.
+	 * @param workers				the number of sessions run at the same time.
+	 * @return						zero if the batch has been run; the startup failure status otherwise.
+	 * @throws InterruptedException	if the batch is interrupted.
+	 */
+	@Command(name = "batch", mixinStandardHelpOptions = true, description = "Run scripted or generated operations without the GUI and print throughput and latency percentiles")
+	public int batch(
+			@Option(names = { "--script", "-script" }, paramLabel = "<file>", description = "File of operations to run, one per line; sessions are separated by blank lines") Path script,
+			@Option(names = { "--sessions", "-sessions" }, paramLabel = "<sessions>", defaultValue = "100", description = "Number of sessions to generate when no script is given") int sessions,
+			@Option(names = { "--seed", "-seed" }, paramLabel = "<seed>", defaultValue = "42", description = "Seed of the generated sessions") long seed,
+			@Option(names = { "--workers", "-workers" }, paramLabel = "<workers>", defaultValue = "4", description = "Number of sessions run concurrently") int workers)
+			throws InterruptedException {
+		DatabaseHelper dbHelper = createDatabaseHelper(dbms);
+		try {
+			BatchScript batchScript = script != null
+					? BatchScript.parse(Files.readAllLines(script))
+					: BatchScript.generate(sessions, seed);
+			
+			LOGGER.info(String.format("BookingApp is connecting with %s...", dbHelper.getDBName()));
+			dbHelper.openDatabaseConnection();
+			TransactionManager transactionManager = createTransactionManager(dbHelper);
+			ChangeFeed feed = startChangeFeed(changeFeed ? dbHelper.getChangeFeed() : null);
+			BookingService bookingService = createBookingService(transactionManager, feed, dbHelper);
+			
+			HeadlessBookingView view = new HeadlessBookingView();
+			ServedBookingPresenter bookingPresenter = createPresenter(view, bookingService, feed);
+			bookingPresenter.allClientsAndReservations();
+			BatchReport report = new BatchRunner(bookingPresenter, view, workers).run(batchScript);
+			
+			System.out.println(report.format());
+			System.out.println(String.format("Changes shown: %d, operation errors: %d, form errors: %d",
+					view.getChangeCount(), view.getOperationErrorCount(), view.getFormErrorCount()));
+			view.getRecentErrors().forEach(error -> System.out.println("  " + error));
+			return 0;
+		} catch(IOException | IllegalArgumentException | DatabaseException e) {
+			LOGGER.error(() -> String.format("The batch cannot be run: %s", e.getMessage()));
+			return STARTUP_FAILURE_STATUS;
+		} finally {
+			LOGGER.info(String.format("BookingApp is closing connection with %s...", dbHelper.getDBName()));
+			dbHelper.closeDatabaseConnection();
+		}
+	}
+
 	/**
 	 * Creates an helper for the chosen database.
 	 * 
@@ -182,6 +408,122 @@ public class BookingSwingApp implements Callable<Void> {
 				String.format("Cannot create a database helper for the given DBMS=%s", dbms));
 	}
 
+	/**
+	 * Creates the transaction manager of the chosen database, intercepted by the chain
+	 * of interceptors enabled. The connection to the database must be open.
+	 * 
+	 * @param dbHelper	the {@code DatabaseHelper} of the chosen database.
+	 * @return			a {@code TransactionManager} operating on the database.
+	 */
+	private TransactionManager createTransactionManager(DatabaseHelper dbHelper) {
+		return new InterceptedTransactionManager(
+				dbHelper.getTransactionDBManager(new TransactionHandlerFactory(),
+						new ClientRepositoryFactory(), new ReservationRepositoryFactory()),
+				dbHelper.getDBName(), createTransactionInterceptors());
+	}
+
+	/**
+	 * Creates the presenter of the view, following the change feed, if any.
+	 * 
+	 * @param view				the {@code BookingView} of the presenter.
+	 * @param bookingService	the {@code BookingService} used by the presenter.
+	 * @param feed				the running {@code ChangeFeed}, or {@code null} if disabled or failed.
+	 * @return					a {@code ServedBookingPresenter} of {@code view}.
+	 */
+	private ServedBookingPresenter createPresenter(BookingView view, BookingService bookingService,
+			ChangeFeed feed) {
+		ClientValidator clientValidator = new RestrictedClientValidator();
+		ReservationValidator reservationValidator = new RestrictedReservationValidator();
+		ServedBookingPresenter bookingPresenter = new ServedBookingPresenter(view, bookingService,
+				clientValidator, reservationValidator, Duration.ofMillis(refreshDebounce));
+		if (feed != null)
+			bookingPresenter.followChanges(feed);
+		bookingPresenter.setOptimistic(optimistic);
+		return bookingPresenter;
+	}
+
+	/**
+	 * Creates the chain of interceptors applied to every transaction.
+	 * 
+	 * @return	a {@code List} of {@code TransactionInterceptor}s, possibly empty.
+	 */
+	private List<TransactionInterceptor> createTransactionInterceptors() {
+		List<TransactionInterceptor> interceptors = new ArrayList<>();
+		if (slowTransactionThreshold > 0)
+			interceptors.add(new SlowTransactionInterceptor(slowTransactionThreshold));
+		return interceptors;
+	}
+
+	/**
+	 * Creates the service layer, decorated with caches and deduplication of retried
+	 * requests if enabled. Each layer holding state derived from the database listens
+	 * to the change feed, if any. The availability index is enabled only with a running
+	 * change feed, since otherwise it would miss the bookings of other writers.
+	 * Deduplication is the outermost layer, so that a retried request is answered with
+	 * the remembered result before reaching any cache or opening any transaction.
+	 * Note: the layers start empty, hence the changes made before they listen are not missed.
+	 * 
+	 * @param transactionManager	the {@code TransactionManager} used by the service.
+	 * @param feed					the running {@code ChangeFeed} of the database,
+	 * 								or {@code null} if disabled or failed.
+	 * @param dbHelper				the {@code DatabaseHelper} of the chosen database.
+	 * @return						a {@code BookingService} operating on the database.
+	 */
+	private BookingService createBookingService(TransactionManager transactionManager, ChangeFeed feed,
+			DatabaseHelper dbHelper) {
+		TransactionalBookingService transactionalService = new TransactionalBookingService(transactionManager,
+				feed != null ? new AvailabilityIndex() : null);
+		if (feed != null)
+			feed.addListener(transactionalService);
+		BookingService bookingService = transactionalService;
+		if (cacheSize > 0) {
+			CachingBookingService cachingService = new CachingBookingService(transactionalService, cacheSize,
+					Duration.ofMillis(cacheTimeToLive));
+			if (feed != null)
+				feed.addListener(cachingService);
+			bookingService = cachingService;
+		}
+		if (idempotencyTimeToLive > 0) {
+			Duration timeToLive = Duration.ofMillis(idempotencyTimeToLive);
+			bookingService = new IdempotentBookingService(bookingService,
+					dbHelper.getIdempotencyStore(timeToLive), IDEMPOTENCY_CACHE_SIZE, timeToLive);
+		}
+		return bookingService;
+	}
+
+	/**
+	 * Starts following the changes of the database. A failure does not prevent the startup,
+	 * since the application keeps working without live updates.
+	 * 
+	 * @param feed	the {@code ChangeFeed} to start, or {@code null} if disabled.
+	 * @return		the running {@code ChangeFeed}, or {@code null} if disabled or failed.
+	 */
+	private ChangeFeed startChangeFeed(ChangeFeed feed) {
+		if (feed == null)
+			return null;
+		try {
+			feed.start();
+			return feed;
+		} catch(DatabaseException e) {
+			LOGGER.warn(() -> String.format("BookingApp runs without following changes: %s", e.getMessage()));
+			return null;
+		}
+	}
+
+	/**
+	 * Starts archiving past reservations periodically, if enabled.
+	 * 
+	 * @param bookingService	the {@code BookingService} archiving the reservations.
+	 * @return					the running {@code ArchivingJob}, or {@code null} if disabled.
+	 */
+	private ArchivingJob startArchivingJob(BookingService bookingService) {
+		if (archiveAfterDays <= 0)
+			return null;
+		ArchivingJob job = new ArchivingJob(bookingService, Period.ofDays(archiveAfterDays), archiveBatchSize);
+		job.start(ARCHIVING_PERIOD);
+		return job;
+	}
+
 	/**
 	 * Closes and cleans all displayable frames.
 	 */
@@ -243,6 +585,23 @@ public class BookingSwingApp implements Callable<Void> {
 		 * Closes the opened connection to the chosen database.
 		 */
 		public void closeDatabaseConnection();
+
+		/**
+		 * Retrieves the feed of the changes made to the chosen database.
+		 * The connection to the database must be open.
+		 * 
+		 * @return	a {@code ChangeFeed} for the chosen database, not started yet.
+		 */
+		public ChangeFeed getChangeFeed();
+
+		/**
+		 * Creates the store of the requests served with an idempotency key.
+		 * The connection to the database must be open.
+		 * 
+		 * @param timeToLive	the duration after which a served request is forgotten.
+		 * @return				an {@code IdempotencyStore} for the chosen database.
+		 */
+		public IdempotencyStore getIdempotencyStore(Duration timeToLive);
 	}
 
 	/**
@@ -259,12 +618,18 @@ public class BookingSwingApp implements Callable<Void> {
 		 */
 		private MongoClient mongoClient;
 
+		/**
+		 * The feed of the changes made to MongoDB, once created.
+		 */
+		private ChangeFeed changeFeed;
+
 		/**
 		 * Default constructor.
 		 */
 		public MongoHelper() {
 			super();
 			mongoClient = null;
+			changeFeed = null;
 		}
 
 		/**
@@ -275,11 +640,14 @@ public class BookingSwingApp implements Callable<Void> {
 		}
 
 		/**
-		 * Opens the connection to MongoDB through a {@code MongoClient}.
+		 * Opens the connection to MongoDB through a {@code MongoClient}, creates the indexes
+		 * of the searches by name of clients and migrates the reservations stored before resources.
 		 */
 		@Override
 		public void openDatabaseConnection() {
 			mongoClient = getClient(String.format("mongodb://%s:%d", host, port));
+			new ClientMongoSearchIndexer(mongoClient, name).createIndexes();
+			new ReservationMongoMigrator(mongoClient, name).migrate();
 		}
 
 		/**
@@ -329,10 +697,35 @@ public class BookingSwingApp implements Callable<Void> {
 		}
 
 		/**
-		 * Closes the opened {@code MongoClient} connection to MongoDB.
+		 * Retrieves the feed of the changes made to MongoDB through a change stream.
+		 * 
+		 * @return	a {@code ChangeMongoFeed} for MongoDB.
+		 */
+		@Override
+		public ChangeFeed getChangeFeed() {
+			if (changeFeed == null)
+				changeFeed = new ChangeMongoFeed(mongoClient, name);
+			return changeFeed;
+		}
+
+		/**
+		 * Creates the store of the requests served with an idempotency key in a MongoDB collection.
+		 * 
+		 * @param timeToLive	the duration after which a served request is forgotten.
+		 * @return				an {@code IdempotencyMongoStore} for MongoDB.
+		 */
+		@Override
+		public IdempotencyStore getIdempotencyStore(Duration timeToLive) {
+			return new IdempotencyMongoStore(mongoClient, name, timeToLive);
+		}
+
+		/**
+		 * Closes the change feed, if any, and the opened {@code MongoClient} connection to MongoDB.
 		 */
 		@Override
 		public void closeDatabaseConnection() {
+			if (changeFeed != null)
+				changeFeed.close();
 			if (mongoClient != null)
 				mongoClient.close();
 		}
@@ -352,12 +745,18 @@ public class BookingSwingApp implements Callable<Void> {
 		 */
 		private EntityManagerFactory emf;
 
+		/**
+		 * The feed of the changes made to PostgreSQL, once created.
+		 */
+		private ChangeFeed changeFeed;
+
 		/**
 		 * Default constructor.
 		 */
 		public PostgresHelper() {
 			super();
 			emf = null;
+			changeFeed = null;
 		}
 
 		/**
@@ -368,14 +767,29 @@ public class BookingSwingApp implements Callable<Void> {
 		}
 
 		/**
-		 * Opens the connection to PostgreSQL through a {@code EntityManagerFactory}.
+		 * Opens the connection to PostgreSQL through a {@code EntityManagerFactory},
+		 * creates the indexes of the searches by name of clients, migrates the reservations
+		 * stored before resources and partitions the table of reservations by year, if requested.
 		 */
 		@Override
 		public void openDatabaseConnection() {
 			emf = Persistence.createEntityManagerFactory("postgres-app", Map.of(
-					"jakarta.persistence.jdbc.url", String.format("jdbc:postgresql://%s:%d/%s", host, port, name),
+					"jakarta.persistence.jdbc.url", getJdbcUrl(),
 					"jakarta.persistence.jdbc.user", user,
 					"jakarta.persistence.jdbc.password", pswd));
+			new ClientSearchIndexer(emf).createIndexes();
+			new ReservationResourceMigrator(emf).migrate();
+			if (partitionYearsAhead >= 0)
+				new ReservationPartitioner(emf).partition(partitionYearsAhead);
+		}
+
+		/**
+		 * Returns the JDBC URL of the chosen PostgreSQL database.
+		 * 
+		 * @return	the JDBC URL used for the connections.
+		 */
+		private String getJdbcUrl() {
+			return String.format("jdbc:postgresql://%s:%d/%s", host, port, name);
 		}
 
 		/**
@@ -398,10 +812,38 @@ public class BookingSwingApp implements Callable<Void> {
 		}
 
 		/**
-		 * Closes the opened {@code EntityManagerFactory} connection to PostgreSQL.
+		 * Retrieves the feed of the changes made to PostgreSQL through LISTEN/NOTIFY,
+		 * installing the triggers notifying them the first time.
+		 * 
+		 * @return	a {@code ChangePostgresFeed} for PostgreSQL.
+		 */
+		@Override
+		public ChangeFeed getChangeFeed() {
+			if (changeFeed == null) {
+				new ChangeTriggerInstaller(emf).install();
+				changeFeed = new ChangePostgresFeed(getJdbcUrl(), user, pswd);
+			}
+			return changeFeed;
+		}
+
+		/**
+		 * Creates the store of the requests served with an idempotency key in a PostgreSQL table.
+		 * 
+		 * @param timeToLive	the duration after which a served request is forgotten.
+		 * @return				an {@code IdempotencyPostgresStore} for PostgreSQL.
+		 */
+		@Override
+		public IdempotencyStore getIdempotencyStore(Duration timeToLive) {
+			return new IdempotencyPostgresStore(emf, timeToLive);
+		}
+
+		/**
+		 * Closes the change feed, if any, and the opened {@code EntityManagerFactory} connection to PostgreSQL.
 		 */
 		@Override
 		public void closeDatabaseConnection() {
+			if (changeFeed != null)
+				changeFeed.close();
 			if (emf != null && emf.isOpen())
 				emf.close();
 		}
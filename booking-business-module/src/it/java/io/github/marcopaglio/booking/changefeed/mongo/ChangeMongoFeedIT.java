@@ -0,0 +1,201 @@
+package io.github.marcopaglio.booking.changefeed.mongo;
+
+import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.bson.UuidRepresentation.STANDARD;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.bson.codecs.pojo.Conventions.ANNOTATION_CONVENTION;
+import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeListener;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+@DisplayName("Integration tests for ChangeMongoFeed and MongoDB")
+class ChangeMongoFeedIT {
+	private static final UUID A_CLIENT_UUID = UUID.fromString("03ee257d-f06d-47e9-8ef0-78b18ee03fe9");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("a2014dc9-7f77-4aa2-a3ce-0559736a7670");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-09-05");
+
+	private static final long TIMEOUT_SECONDS = 10;
+
+	private static final String MONGODB_NAME = "ITandE2ETest_db";
+	private static String mongoHost = System.getProperty("mongo.host", "localhost");
+	private static int mongoPort = Integer.parseInt(System.getProperty("mongo.port", "27017"));
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase database;
+	private static MongoCollection<Client> clientCollection;
+	private static MongoCollection<Reservation> reservationCollection;
+
+	private ChangeMongoFeed changeFeed;
+
+	private RecordingListener listener;
+
+	@BeforeAll
+	static void setupClient() throws Exception {
+		mongoClient = getClient(String.format("mongodb://%s:%d", mongoHost, mongoPort));
+		database = mongoClient.getDatabase(MONGODB_NAME);
+		clientCollection = database.getCollection(CLIENT_TABLE_DB, Client.class);
+		reservationCollection = database.getCollection(RESERVATION_TABLE_DB, Reservation.class);
+	}
+
+	private static MongoClient getClient(String connectionString) {
+		CodecProvider pojoCodecProvider = PojoCodecProvider.builder()
+				.conventions(Arrays.asList(ANNOTATION_CONVENTION, USE_GETTERS_FOR_SETTERS))
+				.automatic(true)
+				.build();
+		CodecRegistry pojoCodecRegistry =
+				fromRegistries(getDefaultCodecRegistry(),
+				fromProviders(pojoCodecProvider));
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(connectionString))
+				.uuidRepresentation(STANDARD)
+				.codecRegistry(pojoCodecRegistry)
+				.build();
+		return MongoClients.create(settings);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start with a clean database
+		database.drop();
+		
+		listener = new RecordingListener();
+		changeFeed = new ChangeMongoFeed(mongoClient, MONGODB_NAME);
+		changeFeed.addListener(listener);
+		changeFeed.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		changeFeed.close();
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		mongoClient.close();
+	}
+
+	@Test
+	@DisplayName("Client is inserted, renamed and deleted")
+	void testChangeFeedWhenClientChangesShouldNotifyThemWithTheirStates() throws Exception {
+		Client client = new Client("Mario", "Rossi");
+		client.setId(A_CLIENT_UUID);
+		Client renamedClient = new Client("Maria", "De Lucia");
+		renamedClient.setId(A_CLIENT_UUID);
+		
+		clientCollection.insertOne(client);
+		clientCollection.replaceOne(Filters.eq(A_CLIENT_UUID), renamedClient);
+		clientCollection.deleteOne(Filters.eq(A_CLIENT_UUID));
+		
+		ChangeEvent<Client> inserted = listener.nextClientChange();
+		assertThat(inserted.getKind()).isEqualTo(Kind.INSERT);
+		assertThat(inserted.getId()).isEqualTo(A_CLIENT_UUID);
+		assertThat(inserted.getAfter()).isEqualTo(client);
+		ChangeEvent<Client> renamed = listener.nextClientChange();
+		assertThat(renamed.getKind()).isEqualTo(Kind.UPDATE);
+		assertThat(renamed.getBefore()).isEqualTo(client);
+		assertThat(renamed.getAfter()).isEqualTo(renamedClient);
+		ChangeEvent<Client> deleted = listener.nextClientChange();
+		assertThat(deleted.getKind()).isEqualTo(Kind.DELETE);
+		assertThat(deleted.getBefore()).isEqualTo(renamedClient);
+		assertThat(deleted.getAfter()).isNull();
+	}
+
+	@Test
+	@DisplayName("Reservation is rescheduled")
+	void testChangeFeedWhenReservationIsRescheduledShouldNotifyBothDates() throws Exception {
+		Reservation reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+		reservation.setId(A_RESERVATION_UUID);
+		reservationCollection.insertOne(reservation);
+		Reservation rescheduledReservation = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+		rescheduledReservation.setId(A_RESERVATION_UUID);
+		
+		reservationCollection.replaceOne(Filters.eq(A_RESERVATION_UUID), rescheduledReservation);
+		
+		assertThat(listener.nextReservationChange().getKind()).isEqualTo(Kind.INSERT);
+		ChangeEvent<Reservation> rescheduled = listener.nextReservationChange();
+		assertThat(rescheduled.getKind()).isEqualTo(Kind.UPDATE);
+		assertThat(rescheduled.getBefore().getDate()).isEqualTo(A_LOCALDATE);
+		assertThat(rescheduled.getAfter().getDate()).isEqualTo(ANOTHER_LOCALDATE);
+	}
+
+	@Test
+	@DisplayName("Database is unreachable")
+	void testStartWhenDatabaseIsUnreachableShouldThrow() {
+		MongoClient unreachableClient = getClient("mongodb://localhost:1/?serverSelectionTimeoutMS=500");
+		ChangeMongoFeed unreachableFeed = new ChangeMongoFeed(unreachableClient, MONGODB_NAME);
+		
+		assertThatThrownBy(() -> unreachableFeed.start())
+			.isInstanceOf(DatabaseException.class)
+			.hasMessage("The change feed cannot connect to the database.");
+		
+		unreachableClient.close();
+	}
+
+	private static class RecordingListener implements ChangeListener {
+		private final BlockingQueue<ChangeEvent<Client>> clientChanges = new LinkedBlockingQueue<>();
+		private final BlockingQueue<ChangeEvent<Reservation>> reservationChanges = new LinkedBlockingQueue<>();
+
+		@Override
+		public void clientChanged(ChangeEvent<Client> event) {
+			clientChanges.add(event);
+		}
+
+		@Override
+		public void reservationChanged(ChangeEvent<Reservation> event) {
+			reservationChanges.add(event);
+		}
+
+		@Override
+		public void changesMissed() {
+			// no state to reload
+		}
+
+		private ChangeEvent<Client> nextClientChange() throws InterruptedException {
+			ChangeEvent<Client> event = clientChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			assertThat(event).isNotNull();
+			return event;
+		}
+
+		private ChangeEvent<Reservation> nextReservationChange() throws InterruptedException {
+			ChangeEvent<Reservation> event = reservationChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			assertThat(event).isNotNull();
+			return event;
+		}
+	}
+}
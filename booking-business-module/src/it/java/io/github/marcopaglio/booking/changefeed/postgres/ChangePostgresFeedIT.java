@@ -0,0 +1,189 @@
+package io.github.marcopaglio.booking.changefeed.postgres;
+
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeListener;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+@DisplayName("Integration tests for ChangePostgresFeed and PostgreSQL")
+class ChangePostgresFeedIT {
+	private static final UUID A_CLIENT_UUID = UUID.fromString("78bce42b-1d28-4c37-b0a2-3287d6a829ca");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-09-05");
+
+	private static final String USER = "postgres-it-e2e";
+	private static final String PASSWORD = "postgres-it-e2e";
+
+	private static final long TIMEOUT_SECONDS = 10;
+
+	private static EntityManagerFactory emf;
+
+	private static String url;
+
+	private ChangePostgresFeed changeFeed;
+
+	private RecordingListener listener;
+
+	@BeforeAll
+	static void setupEmf() throws Exception {
+		System.setProperty("db.host", System.getProperty("postgres.host", "localhost"));
+		System.setProperty("db.port", System.getProperty("postgres.port", "5432"));
+		System.setProperty("db.name", System.getProperty("postgres.name", "ITandE2ETest_db"));
+		emf = Persistence.createEntityManagerFactory("postgres-it");
+		new ChangeTriggerInstaller(emf).install();
+		url = String.format("jdbc:postgresql://%s:%s/%s", System.getProperty("db.host"),
+				System.getProperty("db.port"), System.getProperty("db.name"));
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start with a clean database
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("TRUNCATE TABLE " + CLIENT_TABLE_DB + "," + RESERVATION_TABLE_DB).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+		
+		listener = new RecordingListener();
+		changeFeed = new ChangePostgresFeed(url, USER, PASSWORD);
+		changeFeed.addListener(listener);
+		changeFeed.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		changeFeed.close();
+	}
+
+	@AfterAll
+	static void closeEmf() throws Exception {
+		emf.close();
+	}
+
+	@Test
+	@DisplayName("Client is inserted, renamed and deleted")
+	void testChangeFeedWhenClientChangesShouldNotifyThemWithTheirStates() throws Exception {
+		Client client = new Client("Mario", "Rossi");
+		
+		inTransaction(em -> em.persist(client));
+		UUID id = client.getId();
+		inTransaction(em -> em.find(Client.class, id).setFirstName("Maria"));
+		inTransaction(em -> em.remove(em.find(Client.class, id)));
+		
+		ChangeEvent<Client> inserted = listener.nextClientChange();
+		assertThat(inserted.getKind()).isEqualTo(Kind.INSERT);
+		assertThat(inserted.getId()).isEqualTo(id);
+		assertThat(inserted.getAfter()).isEqualTo(client);
+		ChangeEvent<Client> renamed = listener.nextClientChange();
+		assertThat(renamed.getKind()).isEqualTo(Kind.UPDATE);
+		assertThat(renamed.getBefore().getFirstName()).isEqualTo("Mario");
+		assertThat(renamed.getAfter().getFirstName()).isEqualTo("Maria");
+		ChangeEvent<Client> deleted = listener.nextClientChange();
+		assertThat(deleted.getKind()).isEqualTo(Kind.DELETE);
+		assertThat(deleted.getBefore().getId()).isEqualTo(id);
+		assertThat(deleted.getAfter()).isNull();
+	}
+
+	@Test
+	@DisplayName("Reservation is rescheduled")
+	void testChangeFeedWhenReservationIsRescheduledShouldNotifyBothDates() throws Exception {
+		Reservation reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+		inTransaction(em -> em.persist(reservation));
+		UUID id = reservation.getId();
+		
+		inTransaction(em -> em.find(Reservation.class, id).setDate(ANOTHER_LOCALDATE));
+		
+		assertThat(listener.nextReservationChange().getKind()).isEqualTo(Kind.INSERT);
+		ChangeEvent<Reservation> rescheduled = listener.nextReservationChange();
+		assertThat(rescheduled.getKind()).isEqualTo(Kind.UPDATE);
+		assertThat(rescheduled.getBefore().getDate()).isEqualTo(A_LOCALDATE);
+		assertThat(rescheduled.getAfter().getDate()).isEqualTo(ANOTHER_LOCALDATE);
+		assertThat(rescheduled.getAfter().getClientId()).isEqualTo(A_CLIENT_UUID);
+	}
+
+	@Test
+	@DisplayName("Triggers are installed again")
+	void testInstallWhenTriggersAreInstalledShouldNotifyEachChangeOnce() throws Exception {
+		new ChangeTriggerInstaller(emf).install();
+		
+		inTransaction(em -> em.persist(new Client("Mario", "Rossi")));
+		inTransaction(em -> em.persist(new Client("Maria", "Rossi")));
+		
+		assertThat(listener.nextClientChange().getAfter().getFirstName()).isEqualTo("Mario");
+		assertThat(listener.nextClientChange().getAfter().getFirstName()).isEqualTo("Maria");
+	}
+
+	@Test
+	@DisplayName("Wrong credentials")
+	void testStartWhenCredentialsAreWrongShouldThrow() {
+		ChangePostgresFeed unauthorizedFeed = new ChangePostgresFeed(url, USER, "wrong-password");
+		
+		assertThatThrownBy(() -> unauthorizedFeed.start())
+			.isInstanceOf(DatabaseException.class)
+			.hasMessage("The change feed cannot connect to the database.");
+	}
+
+	private void inTransaction(Consumer<EntityManager> code) {
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		code.accept(em);
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	private static class RecordingListener implements ChangeListener {
+		private final BlockingQueue<ChangeEvent<Client>> clientChanges = new LinkedBlockingQueue<>();
+		private final BlockingQueue<ChangeEvent<Reservation>> reservationChanges = new LinkedBlockingQueue<>();
+
+		@Override
+		public void clientChanged(ChangeEvent<Client> event) {
+			clientChanges.add(event);
+		}
+
+		@Override
+		public void reservationChanged(ChangeEvent<Reservation> event) {
+			reservationChanges.add(event);
+		}
+
+		@Override
+		public void changesMissed() {
+			// no state to reload
+		}
+
+		private ChangeEvent<Client> nextClientChange() throws InterruptedException {
+			ChangeEvent<Client> event = clientChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			assertThat(event).isNotNull();
+			return event;
+		}
+
+		private ChangeEvent<Reservation> nextReservationChange() throws InterruptedException {
+			ChangeEvent<Reservation> event = reservationChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			assertThat(event).isNotNull();
+			return event;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package io.github.marcopaglio.booking.idempotency.mongo;
+
+import static io.github.marcopaglio.booking.idempotency.mongo.IdempotencyMongoStore.IDEMPOTENCY_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.bson.UuidRepresentation.STANDARD;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+@DisplayName("Integration tests for IdempotencyMongoStore and MongoDB")
+class IdempotencyMongoStoreIT {
+	private static final UUID A_KEY = UUID.fromString("5f0c2a2e-0d7e-4b44-9c4c-43c1b0b7e1a1");
+	private static final UUID A_CLIENT_UUID = UUID.fromString("03ee257d-f06d-47e9-8ef0-78b18ee03fe9");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("9d2b8c1e-3f4a-4e6b-8c7d-1a2b3c4d5e6f");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private static final String MONGODB_NAME = "ITandE2ETest_db";
+	private static String mongoHost = System.getProperty("mongo.host", "localhost");
+	private static int mongoPort = Integer.parseInt(System.getProperty("mongo.port", "27017"));
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase database;
+
+	private Client client;
+
+	private IdempotencyMongoStore store;
+
+	@BeforeAll
+	static void setupClient() throws Exception {
+		mongoClient = getClient(String.format("mongodb://%s:%d", mongoHost, mongoPort));
+		database = mongoClient.getDatabase(MONGODB_NAME);
+	}
+
+	private static MongoClient getClient(String connectionString) {
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(connectionString))
+				.uuidRepresentation(STANDARD)
+				.build();
+		return MongoClients.create(settings);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start with a clean database
+		database.drop();
+		
+		store = new IdempotencyMongoStore(mongoClient, MONGODB_NAME, TIME_TO_LIVE);
+		
+		client = new Client("Mario", "Rossi");
+		client.setId(A_CLIENT_UUID);
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		mongoClient.close();
+	}
+
+	@Test
+	@DisplayName("TTL index is created")
+	void testConstructorShouldCreateTheTtlIndex() {
+		assertThat(database.getCollection(IDEMPOTENCY_TABLE_DB).listIndexes().into(new ArrayList<>()))
+			.anyMatch(index -> index.containsKey("expireAfterSeconds"));
+	}
+
+	@Test
+	@DisplayName("Saved record is found")
+	void testFindWhenRecordHasBeenSavedShouldReturnIt() {
+		IdempotencyRecord record = new IdempotencyRecord("insertNewClient", client);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+	}
+
+	@Test
+	@DisplayName("Saved reservation is found with its identifier")
+	void testFindWhenRecordHoldsAReservationShouldReturnItWithItsIdentifier() {
+		Reservation reservation = new Reservation(A_CLIENT_UUID, "court-1", A_LOCALDATE);
+		reservation.setId(A_RESERVATION_UUID);
+		
+		store.save(A_KEY, new IdempotencyRecord("rescheduleReservation", reservation));
+		
+		IdempotencyRecord record = store.find(A_KEY);
+		assertThat(record.getResult()).isEqualTo(reservation);
+		assertThat(record.getResult().getId()).isEqualTo(A_RESERVATION_UUID);
+	}
+
+	@Test
+	@DisplayName("Record without result")
+	void testFindWhenRecordHasNoResultShouldReturnItWithNullResult() {
+		IdempotencyRecord record = new IdempotencyRecord("removeClient", null);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+	}
+
+	@Test
+	@DisplayName("Record is replaced")
+	void testSaveWhenKeyIsAlreadySavedShouldReplaceTheRecord() {
+		store.save(A_KEY, new IdempotencyRecord("removeClient", null));
+		IdempotencyRecord record = new IdempotencyRecord("insertNewClient", client);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+		assertThat(database.getCollection(IDEMPOTENCY_TABLE_DB).countDocuments()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Record keeping only the identifier of the result")
+	void testFindWhenRecordKeepsOnlyTheResultIdShouldReturnNull() {
+		database.getCollection(IDEMPOTENCY_TABLE_DB).insertOne(new Document("_id", A_KEY)
+				.append("operation", "insertNewClient")
+				.append("resultId", A_CLIENT_UUID)
+				.append("expiresAt", new Date(System.currentTimeMillis() + TIME_TO_LIVE.toMillis())));
+		
+		assertThat(store.find(A_KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("Unknown key")
+	void testFindWhenKeyIsUnknownShouldReturnNull() {
+		assertThat(store.find(A_KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("Expired record")
+	void testFindWhenRecordIsExpiredShouldReturnNull() throws Exception {
+		IdempotencyMongoStore shortLivedStore =
+				new IdempotencyMongoStore(mongoClient, MONGODB_NAME, Duration.ofMillis(1));
+		shortLivedStore.save(A_KEY, new IdempotencyRecord("removeClient", null));
+		
+		Thread.sleep(10);
+		
+		assertThat(shortLivedStore.find(A_KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("Database is unreachable")
+	void testFindWhenDatabaseIsUnreachableShouldThrow() {
+		MongoClient unreachableClient = getClient("mongodb://localhost:1/?serverSelectionTimeoutMS=500");
+		IdempotencyMongoStore unreachableStore =
+				new IdempotencyMongoStore(unreachableClient, MONGODB_NAME, TIME_TO_LIVE);
+		
+		assertThatThrownBy(() -> unreachableStore.find(A_KEY))
+			.isInstanceOf(DatabaseException.class)
+			.hasMessage("The idempotency key cannot be looked up.");
+		
+		unreachableClient.close();
+	}
+}
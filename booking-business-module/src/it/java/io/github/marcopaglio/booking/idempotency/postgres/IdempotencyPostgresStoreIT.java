@@ -0,0 +1,161 @@
+package io.github.marcopaglio.booking.idempotency.postgres;
+
+import static io.github.marcopaglio.booking.idempotency.postgres.IdempotencyPostgresStore.IDEMPOTENCY_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+@DisplayName("Integration tests for IdempotencyPostgresStore and PostgreSQL")
+class IdempotencyPostgresStoreIT {
+	private static final UUID A_KEY = UUID.fromString("5f0c2a2e-0d7e-4b44-9c4c-43c1b0b7e1a1");
+	private static final UUID ANOTHER_KEY = UUID.fromString("c6d8a3f4-6b1e-4f0e-8a1d-2f7f4f0f7f1b");
+	private static final UUID A_CLIENT_UUID = UUID.fromString("78bce42b-1d28-4c37-b0a2-3287d6a829ca");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("9d2b8c1e-3f4a-4e6b-8c7d-1a2b3c4d5e6f");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private static EntityManagerFactory emf;
+
+	private Client client;
+
+	private IdempotencyPostgresStore store;
+
+	@BeforeAll
+	static void setupEmf() throws Exception {
+		System.setProperty("db.host", System.getProperty("postgres.host", "localhost"));
+		System.setProperty("db.port", System.getProperty("postgres.port", "5432"));
+		System.setProperty("db.name", System.getProperty("postgres.name", "ITandE2ETest_db"));
+		emf = Persistence.createEntityManagerFactory("postgres-it");
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		store = new IdempotencyPostgresStore(emf, TIME_TO_LIVE);
+		
+		client = new Client("Mario", "Rossi");
+		client.setId(A_CLIENT_UUID);
+		
+		// make sure we always start with a clean table
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("TRUNCATE TABLE " + IDEMPOTENCY_TABLE_DB).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@AfterAll
+	static void closeEmf() throws Exception {
+		emf.close();
+	}
+
+	@Test
+	@DisplayName("Saved record is found")
+	void testFindWhenRecordHasBeenSavedShouldReturnIt() {
+		IdempotencyRecord record = new IdempotencyRecord("insertNewClient", client);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+	}
+
+	@Test
+	@DisplayName("Saved reservation is found with its identifier")
+	void testFindWhenRecordHoldsAReservationShouldReturnItWithItsIdentifier() {
+		Reservation reservation = new Reservation(A_CLIENT_UUID, "court-1", A_LOCALDATE);
+		reservation.setId(A_RESERVATION_UUID);
+		
+		store.save(A_KEY, new IdempotencyRecord("rescheduleReservation", reservation));
+		
+		IdempotencyRecord record = store.find(A_KEY);
+		assertThat(record.getResult()).isEqualTo(reservation);
+		assertThat(record.getResult().getId()).isEqualTo(A_RESERVATION_UUID);
+	}
+
+	@Test
+	@DisplayName("Record without result")
+	void testFindWhenRecordHasNoResultShouldReturnItWithNullResult() {
+		IdempotencyRecord record = new IdempotencyRecord("removeClient", null);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+	}
+
+	@Test
+	@DisplayName("Record is replaced")
+	void testSaveWhenKeyIsAlreadySavedShouldReplaceTheRecord() {
+		store.save(A_KEY, new IdempotencyRecord("removeClient", null));
+		IdempotencyRecord record = new IdempotencyRecord("insertNewClient", client);
+		
+		store.save(A_KEY, record);
+		
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+		assertThat(countRecords()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Table keeping only the identifiers of the results")
+	void testConstructorWhenTableKeepsOnlyTheResultIdsShouldMigrateIt() {
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("DROP TABLE " + IDEMPOTENCY_TABLE_DB).executeUpdate();
+		em.createNativeQuery("CREATE TABLE " + IDEMPOTENCY_TABLE_DB + " (idempotency_key uuid PRIMARY KEY,"
+				+ " operation varchar(255) NOT NULL, result_id uuid, expires_at timestamp with time zone NOT NULL)")
+			.executeUpdate();
+		em.createNativeQuery("INSERT INTO " + IDEMPOTENCY_TABLE_DB + " VALUES ('" + A_KEY
+				+ "', 'insertNewClient', '" + A_CLIENT_UUID + "', now() + interval '1 minute')").executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+		
+		store = new IdempotencyPostgresStore(emf, TIME_TO_LIVE);
+		
+		assertThat(store.find(A_KEY)).isNull();
+		IdempotencyRecord record = new IdempotencyRecord("insertNewClient", client);
+		store.save(A_KEY, record);
+		assertThat(store.find(A_KEY)).isEqualTo(record);
+	}
+
+	@Test
+	@DisplayName("Unknown key")
+	void testFindWhenKeyIsUnknownShouldReturnNull() {
+		assertThat(store.find(A_KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("Expired records are ignored and purged")
+	void testSaveWhenRecordsAreExpiredShouldPurgeThem() throws Exception {
+		IdempotencyPostgresStore shortLivedStore = new IdempotencyPostgresStore(emf, Duration.ofMillis(1));
+		shortLivedStore.save(A_KEY, new IdempotencyRecord("removeClient", null));
+		
+		Thread.sleep(10);
+		
+		assertThat(store.find(A_KEY)).isNull();
+		
+		store.save(ANOTHER_KEY, new IdempotencyRecord("removeClient", null));
+		
+		assertThat(countRecords()).isEqualTo(1);
+	}
+
+	private long countRecords() {
+		EntityManager em = emf.createEntityManager();
+		long count = ((Number) em.createNativeQuery("SELECT count(*) FROM " + IDEMPOTENCY_TABLE_DB)
+				.getSingleResult()).longValue();
+		em.close();
+		return count;
+	}
+}
@@ -0,0 +1,120 @@
+package io.github.marcopaglio.booking.changefeed;
+
+import java.util.UUID;
+
+/**
+ * A change made to an entity of the database, carrying the state of the entity
+ * before and after the change when the database provides them.
+ *
+ * @param <T>	the type of the changed entity.
+ */
+public class ChangeEvent<T> {
+	/**
+	 * Kinds of changes made to an entity.
+	 */
+	public enum Kind {
+		/**
+		 * The entity has been inserted.
+		 */
+		INSERT,
+
+		/**
+		 * The entity has been modified.
+		 */
+		UPDATE,
+
+		/**
+		 * The entity has been deleted.
+		 */
+		DELETE
+	}
+
+	/**
+	 * The kind of the change.
+	 */
+	private final Kind kind;
+
+	/**
+	 * The identifier of the changed entity.
+	 */
+	private final UUID id;
+
+	/**
+	 * The state of the entity before the change, if known.
+	 */
+	private final T before;
+
+	/**
+	 * The state of the entity after the change, if known.
+	 */
+	private final T after;
+
+	/**
+	 * Constructs a change event of an entity.
+	 *
+	 * @param kind						the kind of the change.
+	 * @param id						the identifier of the changed entity.
+	 * @param before					the state of the entity before the change,
+	 * 									or {@code null} if unknown or inserted.
+	 * @param after						the state of the entity after the change,
+	 * 									or {@code null} if unknown or deleted.
+	 * @throws IllegalArgumentException	if {@code kind} or {@code id} is null.
+	 */
+	public ChangeEvent(Kind kind, UUID id, T before, T after) throws IllegalArgumentException {
+		if (kind == null)
+			throw new IllegalArgumentException("Kind of the change cannot be null.");
+		if (id == null)
+			throw new IllegalArgumentException("Identifier of the changed entity cannot be null.");
+
+		this.kind = kind;
+		this.id = id;
+		this.before = before;
+		this.after = after;
+	}
+
+	/**
+	 * Retrieves the kind of the change.
+	 *
+	 * @return	the {@code Kind} of the change.
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Retrieves the identifier of the changed entity.
+	 *
+	 * @return	the {@code UUID} of the changed entity.
+	 */
+	public UUID getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves the state of the entity before the change.
+	 *
+	 * @return	the entity before the change, or {@code null} if unknown or inserted.
+	 */
+	public T getBefore() {
+		return before;
+	}
+
+	/**
+	 * Retrieves the state of the entity after the change.
+	 *
+	 * @return	the entity after the change, or {@code null} if unknown or deleted.
+	 */
+	public T getAfter() {
+		return after;
+	}
+
+	/**
+	 * Overridden method for returning a string representation of the change.
+	 *
+	 * @return	a string representation of the change.
+	 */
+	@Override
+	public String toString() {
+		return "ChangeEvent [" + kind + " " + id + ": " + before + " -> " + after + "]";
+	}
+}
@@ -0,0 +1,220 @@
+package io.github.marcopaglio.booking.changefeed;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+/**
+ * Follows the changes made to the database on a background thread and notifies them
+ * to the registered listeners, in the order they have been committed.
+ * If the connection to the database is lost, the feed reconnects and tells the listeners
+ * that some changes could have been missed.
+ */
+public abstract class ChangeFeed implements AutoCloseable {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ChangeFeed.class);
+
+	/**
+	 * Maximum time in milliseconds a poll waits for changes,
+	 * which bounds the time needed to close the feed.
+	 */
+	protected static final long POLL_TIMEOUT_MILLIS = 500;
+
+	/**
+	 * Listeners notified about the changes.
+	 */
+	private final List<ChangeListener> listeners;
+
+	/**
+	 * Time in milliseconds to wait before reconnecting after a failure.
+	 */
+	private final long retryDelayMillis;
+
+	/**
+	 * Tells whether the feed is following the changes.
+	 */
+	private volatile boolean running;
+
+	/**
+	 * The background thread following the changes.
+	 */
+	private Thread follower;
+
+	/**
+	 * Constructs a change feed that is not following the changes yet.
+	 *
+	 * @param retryDelayMillis	the time in milliseconds to wait before reconnecting after a failure.
+	 */
+	protected ChangeFeed(long retryDelayMillis) {
+		this.listeners = new CopyOnWriteArrayList<>();
+		this.retryDelayMillis = retryDelayMillis;
+	}
+
+	/**
+	 * Registers a listener to notify about the changes. Listeners are notified
+	 * in the order they have been registered.
+	 *
+	 * @param listener					the {@code ChangeListener} to register.
+	 * @throws IllegalArgumentException	if {@code listener} is null.
+	 */
+	public void addListener(ChangeListener listener) throws IllegalArgumentException {
+		if (listener == null)
+			throw new IllegalArgumentException("Listener of changes cannot be null.");
+
+		listeners.add(listener);
+	}
+
+	/**
+	 * Connects to the database and starts following the changes on a background thread.
+	 * Only the changes committed after this method returns are notified.
+	 * Nothing happens if the feed is already running.
+	 *
+	 * @throws DatabaseException	if the connection to the database fails.
+	 */
+	public synchronized void start() throws DatabaseException {
+		if (running)
+			return;
+
+		try {
+			connect();
+		} catch(RuntimeException e) {
+			disconnect();
+			throw new DatabaseException("The change feed cannot connect to the database.", e);
+		}
+		running = true;
+		follower = new Thread(this::follow, getClass().getSimpleName());
+		follower.setDaemon(true);
+		follower.start();
+		LOGGER.info(() -> String.format("%s has started following the changes.", getClass().getSimpleName()));
+	}
+
+	/**
+	 * Tells whether the feed is following the changes.
+	 *
+	 * @return	{@code true} if the feed has been started and not closed; {@code false} otherwise.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Stops following the changes and waits for the background thread to release
+	 * the connection. Nothing happens if the feed is not running.
+	 */
+	@Override
+	public void close() {
+		Thread stoppedFollower;
+		synchronized(this) {
+			if (!running)
+				return;
+			running = false;
+			stoppedFollower = follower;
+			follower = null;
+		}
+		try {
+			stoppedFollower.join();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		LOGGER.info(() -> String.format("%s has stopped following the changes.", getClass().getSimpleName()));
+	}
+
+	/**
+	 * Polls the changes until the feed is closed, reconnecting after any failure.
+	 */
+	private void follow() {
+		boolean connected = true;
+		while (running) {
+			try {
+				if (!connected) {
+					connect();
+					connected = true;
+					notifyListeners(ChangeListener::changesMissed);
+				}
+				poll();
+			} catch(RuntimeException e) {
+				LOGGER.warn(() -> String.format("%s has lost the connection: %s",
+						getClass().getSimpleName(), e.getMessage()));
+				disconnect();
+				connected = false;
+				pause();
+			}
+		}
+		disconnect();
+	}
+
+	/**
+	 * Waits before reconnecting, unless the feed is closed meanwhile.
+	 */
+	private void pause() {
+		try {
+			if (running)
+				Thread.sleep(retryDelayMillis);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+
+	/**
+	 * Notifies the listeners about a change made to a client.
+	 *
+	 * @param event	the {@code ChangeEvent} of the client.
+	 */
+	protected void publishClientChange(ChangeEvent<Client> event) {
+		LOGGER.debug(() -> String.format("Client change received: %s", event));
+		notifyListeners(listener -> listener.clientChanged(event));
+	}
+
+	/**
+	 * Notifies the listeners about a change made to a reservation.
+	 *
+	 * @param event	the {@code ChangeEvent} of the reservation.
+	 */
+	protected void publishReservationChange(ChangeEvent<Reservation> event) {
+		LOGGER.debug(() -> String.format("Reservation change received: %s", event));
+		notifyListeners(listener -> listener.reservationChanged(event));
+	}
+
+	/**
+	 * Notifies every listener, so that a failing one neither stops the others
+	 * nor the feed.
+	 *
+	 * @param notification	the notification to deliver to each listener.
+	 */
+	private void notifyListeners(Consumer<ChangeListener> notification) {
+		for (ChangeListener listener : listeners) {
+			try {
+				notification.accept(listener);
+			} catch(RuntimeException e) {
+				LOGGER.warn(() -> String.format("A listener of changes has failed: %s", e.getMessage()));
+			}
+		}
+	}
+
+	/**
+	 * Opens the connection to the database and subscribes to the changes.
+	 * Note: changes committed after this method returns must not be lost.
+	 */
+	protected abstract void connect();
+
+	/**
+	 * Waits at most {@code POLL_TIMEOUT_MILLIS} for changes and publishes the received ones.
+	 * Any exception is considered as a loss of the connection.
+	 */
+	protected abstract void poll();
+
+	/**
+	 * Closes the connection to the database, if open, ignoring any failure.
+	 */
+	protected abstract void disconnect();
+}
@@ -0,0 +1,31 @@
+package io.github.marcopaglio.booking.changefeed;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+/**
+ * This interface provides methods for reacting to the changes made to the database,
+ * as notified by a {@code ChangeFeed}.
+ */
+public interface ChangeListener {
+
+	/**
+	 * Reacts to a change made to a client.
+	 *
+	 * @param event	the {@code ChangeEvent} of the client.
+	 */
+	public void clientChanged(ChangeEvent<Client> event);
+
+	/**
+	 * Reacts to a change made to a reservation.
+	 *
+	 * @param event	the {@code ChangeEvent} of the reservation.
+	 */
+	public void reservationChanged(ChangeEvent<Reservation> event);
+
+	/**
+	 * Reacts to the loss of the connection to the feed: some changes could have been
+	 * missed, so any state derived from the database must be reloaded.
+	 */
+	public void changesMissed();
+}
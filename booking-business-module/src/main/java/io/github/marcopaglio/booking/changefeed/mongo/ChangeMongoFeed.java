@@ -0,0 +1,197 @@
+package io.github.marcopaglio.booking.changefeed.mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.ChangeStreamPreAndPostImagesOptions;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeFeed;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_MONGODB;
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+
+/**
+ * An implementation of {@code ChangeFeed} following the changes of MongoDB through
+ * a change stream on the collections of clients and reservations.
+ * Pre-images are enabled on both collections so that deletions and updates carry
+ * the state of the entity before the change; they require MongoDB 6.0 or later.
+ * Note: change streams are available only on replica sets, as transactions are.
+ */
+public class ChangeMongoFeed extends ChangeFeed {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ChangeMongoFeed.class);
+
+	/**
+	 * Time in milliseconds to wait before reconnecting after a failure.
+	 */
+	private static final long RETRY_DELAY_MILLIS = 1000;
+
+	/**
+	 * Field of change stream documents holding the name of the changed collection.
+	 */
+	private static final String COLLECTION_NAME_FIELD = "ns.coll";
+
+	/**
+	 * The database whose changes are followed.
+	 */
+	private final MongoDatabase database;
+
+	/**
+	 * The cursor of the change stream, while connected.
+	 */
+	private MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor;
+
+	/**
+	 * Constructs a change feed for the collections of the booking application in MongoDB.
+	 *
+	 * @param client		the {@code MongoClient} used to open the change stream.
+	 * @param databaseName	the name of the database whose changes are followed.
+	 */
+	public ChangeMongoFeed(MongoClient client, String databaseName) {
+		super(RETRY_DELAY_MILLIS);
+		this.database = client.getDatabase(databaseName);
+	}
+
+	/**
+	 * Enables pre-images on the collections and opens a change stream on them.
+	 */
+	@Override
+	protected void connect() {
+		enablePreImages(CLIENT_TABLE_DB);
+		enablePreImages(RESERVATION_TABLE_DB);
+		cursor = database
+				.watch(List.of(Aggregates.match(
+						Filters.in(COLLECTION_NAME_FIELD, CLIENT_TABLE_DB, RESERVATION_TABLE_DB))),
+					BsonDocument.class)
+				.fullDocument(FullDocument.UPDATE_LOOKUP)
+				.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+				.maxAwaitTime(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+				.cursor();
+	}
+
+	/**
+	 * Enables the recording of pre-images on the collection, creating it if missing.
+	 * A failure is only logged: the feed still works, but without the state of the entities
+	 * before the change, which makes listeners reload them.
+	 *
+	 * @param collectionName	the name of the collection.
+	 */
+	private void enablePreImages(String collectionName) {
+		try {
+			if (database.listCollectionNames().into(new ArrayList<>()).contains(collectionName))
+				database.runCommand(new Document("collMod", collectionName)
+						.append("changeStreamPreAndPostImages", new Document("enabled", true)));
+			else
+				database.createCollection(collectionName, new CreateCollectionOptions()
+						.changeStreamPreAndPostImagesOptions(new ChangeStreamPreAndPostImagesOptions(true)));
+		} catch(MongoException e) {
+			LOGGER.warn(() -> String.format("Pre-images cannot be enabled on %s: %s",
+					collectionName, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Waits for the next change of the stream and publishes it.
+	 *
+	 * @throws DatabaseException	if the change stream has been invalidated.
+	 */
+	@Override
+	protected void poll() throws DatabaseException {
+		ChangeStreamDocument<BsonDocument> change = cursor.tryNext();
+		if (change != null)
+			publish(change);
+	}
+
+	/**
+	 * Translates a change stream document into a change event and publishes it.
+	 * Changes that do not involve a single entity, such as drops, are ignored.
+	 *
+	 * @param change				the change stream document.
+	 * @throws DatabaseException	if the change stream has been invalidated.
+	 */
+	private void publish(ChangeStreamDocument<BsonDocument> change) throws DatabaseException {
+		Kind kind;
+		switch (change.getOperationType()) {
+			case INSERT:
+				kind = Kind.INSERT;
+				break;
+			case UPDATE:
+			case REPLACE:
+				kind = Kind.UPDATE;
+				break;
+			case DELETE:
+				kind = Kind.DELETE;
+				break;
+			case INVALIDATE:
+				throw new DatabaseException("The change stream has been invalidated.");
+			default:
+				return;
+		}
+
+		UUID id = change.getDocumentKey().getBinary(ID_MONGODB).asUuid();
+		if (CLIENT_TABLE_DB.equals(change.getNamespace().getCollectionName()))
+			publishClientChange(new ChangeEvent<>(kind, id,
+					decode(change.getFullDocumentBeforeChange(), Client.class),
+					decode(change.getFullDocument(), Client.class)));
+		else
+			publishReservationChange(new ChangeEvent<>(kind, id,
+					decode(change.getFullDocumentBeforeChange(), Reservation.class),
+					decode(change.getFullDocument(), Reservation.class)));
+	}
+
+	/**
+	 * Decodes a document into an entity through the codecs of the database.
+	 *
+	 * @param <T>		the type of the entity.
+	 * @param document	the document to decode.
+	 * @param type		the class of the entity.
+	 * @return			the decoded entity, or {@code null} if {@code document} is null.
+	 */
+	private <T> T decode(BsonDocument document, Class<T> type) {
+		if (document == null)
+			return null;
+		return database.getCodecRegistry().get(type)
+				.decode(document.asBsonReader(), DecoderContext.builder().build());
+	}
+
+	/**
+	 * Closes the change stream, if open, ignoring any failure.
+	 */
+	@Override
+	protected void disconnect() {
+		if (cursor != null) {
+			try {
+				cursor.close();
+			} catch(RuntimeException e) {
+				LOGGER.debug(() -> String.format("The change stream cannot be closed: %s", e.getMessage()));
+			}
+			cursor = null;
+		}
+	}
+}
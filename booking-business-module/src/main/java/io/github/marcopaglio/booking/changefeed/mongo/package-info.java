@@ -0,0 +1,4 @@
+/**
+ * Contains implementations for following the changes of MongoDB through change streams.
+ */
+package io.github.marcopaglio.booking.changefeed.mongo;
\ No newline at end of file
@@ -0,0 +1,5 @@
+/**
+ * Provides facades for following the changes made to the database of the booking application,
+ * also by other instances of the application.
+ */
+package io.github.marcopaglio.booking.changefeed;
\ No newline at end of file
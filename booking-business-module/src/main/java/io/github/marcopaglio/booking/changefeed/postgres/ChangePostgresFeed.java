@@ -0,0 +1,257 @@
+package io.github.marcopaglio.booking.changefeed.postgres;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeFeed;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_POSTGRESQL;
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
+/**
+ * An implementation of {@code ChangeFeed} following the changes of PostgreSQL through
+ * LISTEN/NOTIFY. Row-level triggers on the tables of clients and reservations notify
+ * every committed change as a JSON payload holding the old and new rows.
+ * A reservation rescheduled to the partition of another year is moved by PostgreSQL,
+ * which notifies its deletion and insertion: the two are published as a single update.
+ * Note: the triggers must be installed by a {@code ChangeTriggerInstaller} before the feed
+ * is started.
+ */
+public class ChangePostgresFeed extends ChangeFeed {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ChangePostgresFeed.class);
+
+	/**
+	 * Time in milliseconds to wait before reconnecting after a failure.
+	 */
+	private static final long RETRY_DELAY_MILLIS = 1000;
+
+	/**
+	 * Name of the channel on which changes are notified.
+	 */
+	static final String CHANNEL = "booking_changes";
+
+	/**
+	 * Field of the payload holding the name of the changed table.
+	 */
+	private static final String TABLE_FIELD = "table";
+
+	/**
+	 * Field of the payload holding the operation, as INSERT, UPDATE or DELETE.
+	 */
+	private static final String OPERATION_FIELD = "op";
+
+	/**
+	 * Field of the payload holding the row before the change.
+	 */
+	private static final String OLD_ROW_FIELD = "old";
+
+	/**
+	 * Field of the payload holding the row after the change.
+	 */
+	private static final String NEW_ROW_FIELD = "new";
+
+	/**
+	 * The JDBC URL of the database whose changes are followed.
+	 */
+	private final String url;
+
+	/**
+	 * The user for logging into the database.
+	 */
+	private final String user;
+
+	/**
+	 * The password for logging into the database.
+	 */
+	private final String password;
+
+	/**
+	 * The dedicated connection listening on the channel, while connected.
+	 */
+	private Connection connection;
+
+	/**
+	 * The deletion of a reservation from a partition, held until the next notification
+	 * tells whether it is a move to another partition.
+	 */
+	private ChangeEvent<Reservation> heldDeletion;
+
+	/**
+	 * Constructs a change feed for the tables of the booking application in PostgreSQL.
+	 * The feed uses a dedicated connection, since listening is bound to the session.
+	 *
+	 * @param url		the JDBC URL of the database whose changes are followed.
+	 * @param user		the user for logging into the database.
+	 * @param password	the password for logging into the database.
+	 */
+	public ChangePostgresFeed(String url, String user, String password) {
+		super(RETRY_DELAY_MILLIS);
+		this.url = url;
+		this.user = user;
+		this.password = password;
+	}
+
+	/**
+	 * Opens a dedicated connection and listens on the channel.
+	 *
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	protected void connect() throws DatabaseException {
+		try {
+			connection = DriverManager.getConnection(url, user, password);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("LISTEN " + CHANNEL);
+			}
+		} catch(SQLException e) {
+			throw new DatabaseException("The connection for listening to changes cannot be opened.", e);
+		}
+	}
+
+	/**
+	 * Waits for the notifications of the channel and publishes them.
+	 *
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	protected void poll() throws DatabaseException {
+		PGNotification[] notifications;
+		try {
+			notifications = connection.unwrap(PGConnection.class)
+					.getNotifications((int) POLL_TIMEOUT_MILLIS);
+		} catch(SQLException e) {
+			throw new DatabaseException("The notifications of changes cannot be received.", e);
+		}
+		if (notifications != null) {
+			for (PGNotification notification : notifications)
+				if (CHANNEL.equals(notification.getName()))
+					publish(notification.getParameter());
+			// the notifications of a transaction are delivered together
+			publishHeldDeletion();
+		}
+	}
+
+	/**
+	 * Translates the payload of a notification into a change event and publishes it.
+	 *
+	 * @param payload	the JSON payload of the notification.
+	 */
+	private void publish(String payload) {
+		// the JSON reader of BSON is enough for the flat rows of the payload
+		BsonDocument change = BsonDocument.parse(payload);
+		Kind kind = Kind.valueOf(change.getString(OPERATION_FIELD).getValue());
+		BsonDocument oldRow = row(change, OLD_ROW_FIELD);
+		BsonDocument newRow = row(change, NEW_ROW_FIELD);
+		UUID id = UUID.fromString((newRow != null ? newRow : oldRow).getString(ID_POSTGRESQL).getValue());
+		String table = change.getString(TABLE_FIELD).getValue();
+
+		if (heldDeletion != null && kind == Kind.INSERT && heldDeletion.getId().equals(id)) {
+			publishReservationChange(new ChangeEvent<>(Kind.UPDATE, id, heldDeletion.getBefore(),
+					toReservation(newRow)));
+			heldDeletion = null;
+			return;
+		}
+		publishHeldDeletion();
+		if (CLIENT_TABLE_DB.equals(table))
+			publishClientChange(new ChangeEvent<>(kind, id, toClient(oldRow), toClient(newRow)));
+		// only the partitions, whose triggers notify their own name, can move rows
+		else if (kind == Kind.DELETE && !RESERVATION_TABLE_DB.equals(table))
+			heldDeletion = new ChangeEvent<>(kind, id, toReservation(oldRow), null);
+		else
+			publishReservationChange(new ChangeEvent<>(kind, id, toReservation(oldRow), toReservation(newRow)));
+	}
+
+	/**
+	 * Publishes the held deletion of a reservation, if any, as it was not followed
+	 * by the insertion of the same reservation.
+	 */
+	private void publishHeldDeletion() {
+		if (heldDeletion != null) {
+			ChangeEvent<Reservation> deletion = heldDeletion;
+			heldDeletion = null;
+			publishReservationChange(deletion);
+		}
+	}
+
+	/**
+	 * Retrieves a row of the payload.
+	 *
+	 * @param change	the parsed payload.
+	 * @param field		the field holding the row.
+	 * @return			the row as {@code BsonDocument}, or {@code null} if missing.
+	 */
+	private static BsonDocument row(BsonDocument change, String field) {
+		return change.isDocument(field) ? change.getDocument(field) : null;
+	}
+
+	/**
+	 * Builds a client from a row of the clients' table.
+	 *
+	 * @param row	the row of the client.
+	 * @return		the {@code Client} of the row, or {@code null} if {@code row} is null.
+	 */
+	private static Client toClient(BsonDocument row) {
+		if (row == null)
+			return null;
+		Client client = new Client(row.getString(FIRSTNAME_DB).getValue(), row.getString(LASTNAME_DB).getValue());
+		client.setId(UUID.fromString(row.getString(ID_POSTGRESQL).getValue()));
+		return client;
+	}
+
+	/**
+	 * Builds a reservation from a row of the reservations' table.
+	 *
+	 * @param row	the row of the reservation.
+	 * @return		the {@code Reservation} of the row, or {@code null} if {@code row} is null.
+	 */
+	private static Reservation toReservation(BsonDocument row) {
+		if (row == null)
+			return null;
+		Reservation reservation = new Reservation(UUID.fromString(row.getString(CLIENTID_DB).getValue()),
+				row.getString(RESOURCE_DB, new BsonString(DEFAULT_RESOURCE)).getValue(),
+				LocalDate.parse(row.getString(DATE_DB).getValue()));
+		reservation.setId(UUID.fromString(row.getString(ID_POSTGRESQL).getValue()));
+		return reservation;
+	}
+
+	/**
+	 * Closes the dedicated connection, if open, ignoring any failure.
+	 */
+	@Override
+	protected void disconnect() {
+		if (connection != null) {
+			try {
+				connection.close();
+			} catch(SQLException e) {
+				LOGGER.debug(() -> String.format("The connection cannot be closed: %s", e.getMessage()));
+			}
+			connection = null;
+		}
+	}
+}
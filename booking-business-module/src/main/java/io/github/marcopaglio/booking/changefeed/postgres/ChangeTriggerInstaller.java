@@ -0,0 +1,92 @@
+package io.github.marcopaglio.booking.changefeed.postgres;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import static io.github.marcopaglio.booking.changefeed.postgres.ChangePostgresFeed.CHANNEL;
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+
+/**
+ * Installs the row-level triggers notifying the changes of the PostgreSQL tables of clients
+ * and reservations, which {@code ChangePostgresFeed} listens to. The trigger function is
+ * created or replaced, while the triggers are created only if missing, hence installing
+ * them again is harmless. The triggers of a partitioned table are cloned by PostgreSQL
+ * on its partitions, including the ones created later.
+ * Note: the tables must exist, and be already partitioned if requested, before the triggers
+ * are installed, since converting a table drops its triggers.
+ */
+public class ChangeTriggerInstaller {
+	/**
+	 * Name of the trigger function, and of the triggers, notifying the changes.
+	 */
+	private static final String TRIGGER_NAME = "booking_notify_change";
+
+	/**
+	 * Statement creating the trigger function notifying the changes of a row.
+	 */
+	private static final String CREATE_FUNCTION_SQL = "CREATE OR REPLACE FUNCTION " + TRIGGER_NAME
+			+ "() RETURNS trigger AS $$ BEGIN PERFORM pg_notify('" + CHANNEL + "', CAST(json_build_object("
+			+ "'table', TG_TABLE_NAME, 'op', TG_OP, "
+			+ "'old', CASE WHEN TG_OP = 'INSERT' THEN NULL ELSE row_to_json(OLD) END, "
+			+ "'new', CASE WHEN TG_OP = 'DELETE' THEN NULL ELSE row_to_json(NEW) END) AS text)); "
+			+ "RETURN NULL; END; $$ LANGUAGE plpgsql";
+
+	/**
+	 * The entity manager factory used to interact with the persistence provider.
+	 */
+	private final EntityManagerFactory emf;
+
+	/**
+	 * Constructs an installer of the triggers notifying the changes in PostgreSQL.
+	 *
+	 * @param emf	the {@code EntityManagerFactory} connected to PostgreSQL.
+	 */
+	public ChangeTriggerInstaller(EntityManagerFactory emf) {
+		this.emf = emf;
+	}
+
+	/**
+	 * Creates, or replaces, the trigger function and creates the missing triggers
+	 * on both tables within a single transaction.
+	 *
+	 * @throws DatabaseException	if the function or the triggers cannot be created.
+	 */
+	public void install() throws DatabaseException {
+		List<String> statements = new ArrayList<>();
+		statements.add(CREATE_FUNCTION_SQL);
+		for (String table : List.of(CLIENT_TABLE_DB, RESERVATION_TABLE_DB))
+			statements.add(createTriggerSql(table));
+
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			statements.forEach(statement -> em.createNativeQuery(statement).executeUpdate());
+			em.getTransaction().commit();
+		} catch(PersistenceException e) {
+			throw new DatabaseException("The triggers notifying the changes cannot be created.", e);
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+
+	/**
+	 * Builds the statement creating the trigger on the table, if missing.
+	 *
+	 * @param table	the name of the table.
+	 * @return		the statement creating the trigger on {@code table}.
+	 */
+	private static String createTriggerSql(String table) {
+		return "DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = '" + TRIGGER_NAME
+				+ "' AND tgrelid = to_regclass('" + table + "')) THEN CREATE TRIGGER " + TRIGGER_NAME
+				+ " AFTER INSERT OR UPDATE OR DELETE ON " + table + " FOR EACH ROW EXECUTE FUNCTION "
+				+ TRIGGER_NAME + "(); END IF; END $$";
+	}
+}
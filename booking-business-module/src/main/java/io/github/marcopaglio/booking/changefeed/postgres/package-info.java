@@ -0,0 +1,4 @@
+/**
+ * Contains implementations for following the changes of PostgreSQL through LISTEN/NOTIFY.
+ */
+package io.github.marcopaglio.booking.changefeed.postgres;
\ No newline at end of file
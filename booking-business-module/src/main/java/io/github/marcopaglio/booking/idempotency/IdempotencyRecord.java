@@ -0,0 +1,98 @@
+package io.github.marcopaglio.booking.idempotency;
+
+import java.util.Objects;
+
+import io.github.marcopaglio.booking.model.BaseEntity;
+
+/**
+ * This value object represents a request served under an idempotency key,
+ * as the operation requested together with the entity it resulted in, as it was returned.
+ */
+public class IdempotencyRecord {
+	/**
+	 * The name of the operation served.
+	 */
+	private final String operation;
+
+	/**
+	 * The entity resulting from the operation, or {@code null} if the operation returns nothing.
+	 */
+	private final BaseEntity result;
+
+	/**
+	 * Constructs a record of a served request.
+	 *
+	 * @param operation					the name of the operation served.
+	 * @param result					the resulting entity, or {@code null} if the operation
+	 * 									returns nothing.
+	 * @throws IllegalArgumentException	if {@code operation} is null.
+	 */
+	public IdempotencyRecord(String operation, BaseEntity result) throws IllegalArgumentException {
+		if (operation == null)
+			throw new IllegalArgumentException("Operation of the request cannot be null.");
+
+		this.operation = operation;
+		this.result = result;
+	}
+
+	/**
+	 * Retrieves the name of the operation served.
+	 *
+	 * @return	the name of the operation.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Retrieves the entity resulting from the operation.
+	 *
+	 * @return	the resulting entity, or {@code null} if the operation returns nothing.
+	 */
+	public BaseEntity getResult() {
+		return result;
+	}
+
+	/**
+	 * Overridden method for returning a hash code value for the record object.
+	 *
+	 * @return	a hash code value for this record object.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, result);
+	}
+
+	/**
+	 * Overridden method for indicating whether some other record object is "equal to" this one.
+	 * Two record objects are equal if they have the same operation and result.
+	 *
+	 * @param obj	the reference record object with which to compare.
+	 * @return		{@code true} if this object is the same as the {@code obj} argument;
+	 * 				{@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		IdempotencyRecord other = (IdempotencyRecord) obj;
+		return Objects.equals(operation, other.operation) && Objects.equals(result, other.result);
+	}
+
+	/**
+	 * Overridden method for returning a string representation of the record.
+	 *
+	 * @return	a string representation of the record.
+	 */
+	@Override
+	public String toString() {
+		return "IdempotencyRecord [operation=" + operation + ", result=" + result + "]";
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.marcopaglio.booking.idempotency;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+
+import io.github.marcopaglio.booking.model.BaseEntity;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_POSTGRESQL;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
+/**
+ * Converts the entities resulting from served requests to and from flat JSON documents,
+ * so that every {@code IdempotencyStore} can keep them as text whatever its database.
+ */
+public final class IdempotencyResults {
+	/**
+	 * Field of the documents holding the type of the entity.
+	 */
+	private static final String TYPE_FIELD = "type";
+
+	/**
+	 * Type of the documents holding a client.
+	 */
+	private static final String CLIENT_TYPE = "client";
+
+	/**
+	 * Type of the documents holding a reservation.
+	 */
+	private static final String RESERVATION_TYPE = "reservation";
+
+	/**
+	 * Hides the constructor of the utility class.
+	 */
+	private IdempotencyResults() {}
+
+	/**
+	 * Converts the resulting entity to a JSON document.
+	 *
+	 * @param result					the entity resulting from a request, or {@code null}.
+	 * @return							the JSON document of {@code result},
+	 * 									or {@code null} if {@code result} is null.
+	 * @throws IllegalArgumentException	if {@code result} is neither a client nor a reservation.
+	 */
+	public static String toJson(BaseEntity result) throws IllegalArgumentException {
+		if (result == null)
+			return null;
+
+		BsonDocument document = new BsonDocument(ID_POSTGRESQL, new BsonString(result.getId().toString()));
+		if (result instanceof Client) {
+			Client client = (Client) result;
+			document.append(TYPE_FIELD, new BsonString(CLIENT_TYPE))
+				.append(FIRSTNAME_DB, new BsonString(client.getFirstName()))
+				.append(LASTNAME_DB, new BsonString(client.getLastName()));
+		} else if (result instanceof Reservation) {
+			Reservation reservation = (Reservation) result;
+			document.append(TYPE_FIELD, new BsonString(RESERVATION_TYPE))
+				.append(CLIENTID_DB, new BsonString(reservation.getClientId().toString()))
+				.append(RESOURCE_DB, new BsonString(reservation.getResource()))
+				.append(DATE_DB, new BsonString(reservation.getDate().toString()));
+		} else
+			throw new IllegalArgumentException("Result of the request cannot be remembered.");
+		return document.toJson();
+	}
+
+	/**
+	 * Converts a JSON document back to the resulting entity.
+	 *
+	 * @param json						the JSON document of the entity, or {@code null}.
+	 * @return							the entity of {@code json},
+	 * 									or {@code null} if {@code json} is null.
+	 * @throws IllegalArgumentException	if {@code json} holds neither a client nor a reservation.
+	 */
+	public static BaseEntity fromJson(String json) throws IllegalArgumentException {
+		if (json == null)
+			return null;
+
+		BsonDocument document = BsonDocument.parse(json);
+		BaseEntity result;
+		switch (document.getString(TYPE_FIELD).getValue()) {
+			case CLIENT_TYPE:
+				result = new Client(document.getString(FIRSTNAME_DB).getValue(),
+						document.getString(LASTNAME_DB).getValue());
+				break;
+			case RESERVATION_TYPE:
+				result = new Reservation(UUID.fromString(document.getString(CLIENTID_DB).getValue()),
+						document.getString(RESOURCE_DB).getValue(),
+						LocalDate.parse(document.getString(DATE_DB).getValue()));
+				break;
+			default:
+				throw new IllegalArgumentException("Result of the request cannot be recognized.");
+		}
+		result.setId(UUID.fromString(document.getString(ID_POSTGRESQL).getValue()));
+		return result;
+	}
+}
@@ -0,0 +1,31 @@
+package io.github.marcopaglio.booking.idempotency;
+
+import java.util.UUID;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+
+/**
+ * This interface provides methods for remembering the requests served under
+ * an idempotency key for a bounded time, after which the key can be forgotten.
+ */
+public interface IdempotencyStore {
+
+	/**
+	 * Retrieves the request served under the specified key, if not expired.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @return						the {@code IdempotencyRecord} of the request,
+	 * 								or {@code null} if there is no live record for {@code key}.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public IdempotencyRecord find(UUID key) throws DatabaseException;
+
+	/**
+	 * Remembers the request served under the specified key, replacing any previous record.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @param record				the {@code IdempotencyRecord} of the request.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public void save(UUID key, IdempotencyRecord record) throws DatabaseException;
+}
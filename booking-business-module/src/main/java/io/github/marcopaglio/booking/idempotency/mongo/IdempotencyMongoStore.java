@@ -0,0 +1,144 @@
+package io.github.marcopaglio.booking.idempotency.mongo;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.Document;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.idempotency.IdempotencyResults;
+import io.github.marcopaglio.booking.idempotency.IdempotencyStore;
+
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_MONGODB;
+
+/**
+ * An implementation of {@code IdempotencyStore} keeping the served requests in a MongoDB
+ * collection. A TTL index drops the expired records in background, while lookups
+ * ignore the expired records not dropped yet.
+ * Note: records are written outside the transactions of the requests.
+ */
+public class IdempotencyMongoStore implements IdempotencyStore {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(IdempotencyMongoStore.class);
+
+	/**
+	 * Name of the collection holding the served requests.
+	 */
+	public static final String IDEMPOTENCY_TABLE_DB = "idempotency_keys";
+
+	/**
+	 * Field of the documents holding the name of the operation.
+	 */
+	private static final String OPERATION_DB = "operation";
+
+	/**
+	 * Field of the documents holding the resulting entity as JSON.
+	 */
+	private static final String RESULT_DB = "result";
+
+	/**
+	 * Field of the documents saved when only the identifier of the resulting entity was kept.
+	 */
+	private static final String LEGACY_RESULT_ID_DB = "resultId";
+
+	/**
+	 * Field of the documents holding the time at which they expire.
+	 */
+	private static final String EXPIRES_AT_DB = "expiresAt";
+
+	/**
+	 * The collection holding the served requests.
+	 */
+	private final MongoCollection<Document> collection;
+
+	/**
+	 * Duration after which a served request is forgotten.
+	 */
+	private final Duration timeToLive;
+
+	/**
+	 * Constructs a store of served requests in MongoDB and makes sure the TTL index exists.
+	 * A failure in creating the index is only logged, since lookups ignore expired records anyway.
+	 *
+	 * @param client					the {@code MongoClient} connected to MongoDB;
+	 * 									it must use the standard representation of UUIDs.
+	 * @param databaseName				the name of the database holding the collection.
+	 * @param timeToLive				the duration after which a served request is forgotten.
+	 * @throws IllegalArgumentException	if {@code timeToLive} is null or not positive.
+	 */
+	public IdempotencyMongoStore(MongoClient client, String databaseName, Duration timeToLive)
+			throws IllegalArgumentException {
+		if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero())
+			throw new IllegalArgumentException("Time-to-live of idempotency keys must be positive.");
+
+		this.collection = client.getDatabase(databaseName).getCollection(IDEMPOTENCY_TABLE_DB);
+		this.timeToLive = timeToLive;
+		try {
+			collection.createIndex(Indexes.ascending(EXPIRES_AT_DB),
+					new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+		} catch(MongoException e) {
+			LOGGER.warn(() -> String.format("The TTL index of %s cannot be created: %s",
+					IDEMPOTENCY_TABLE_DB, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Retrieves the request served under the specified key, if not expired.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @return						the {@code IdempotencyRecord} of the request,
+	 * 								or {@code null} if there is no live record for {@code key}.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public IdempotencyRecord find(UUID key) throws DatabaseException {
+		Document document;
+		try {
+			document = collection.find(Filters.and(
+					Filters.eq(ID_MONGODB, key),
+					Filters.gt(EXPIRES_AT_DB, new Date()))).first();
+		} catch(MongoException e) {
+			throw new DatabaseException("The idempotency key cannot be looked up.", e);
+		}
+		// the documents keeping only the identifier of the result cannot be replayed
+		if (document == null || document.containsKey(LEGACY_RESULT_ID_DB))
+			return null;
+		return new IdempotencyRecord(document.getString(OPERATION_DB),
+				IdempotencyResults.fromJson(document.getString(RESULT_DB)));
+	}
+
+	/**
+	 * Remembers the request served under the specified key, replacing any previous record.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @param record				the {@code IdempotencyRecord} of the request.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public void save(UUID key, IdempotencyRecord record) throws DatabaseException {
+		Document document = new Document(ID_MONGODB, key)
+				.append(OPERATION_DB, record.getOperation())
+				.append(RESULT_DB, IdempotencyResults.toJson(record.getResult()))
+				.append(EXPIRES_AT_DB, new Date(System.currentTimeMillis() + timeToLive.toMillis()));
+		try {
+			collection.replaceOne(Filters.eq(ID_MONGODB, key), document, new ReplaceOptions().upsert(true));
+		} catch(MongoException e) {
+			throw new DatabaseException("The idempotency key cannot be saved.", e);
+		}
+	}
+}
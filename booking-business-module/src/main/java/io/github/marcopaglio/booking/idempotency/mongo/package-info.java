@@ -0,0 +1,4 @@
+/**
+ * Contains implementations for remembering served requests in a MongoDB collection.
+ */
+package io.github.marcopaglio.booking.idempotency.mongo;
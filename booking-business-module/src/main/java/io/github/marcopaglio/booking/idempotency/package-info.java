@@ -0,0 +1,5 @@
+/**
+ * Provides facades for remembering the requests already served by the booking application,
+ * so that retries of a request are not executed again.
+ */
+package io.github.marcopaglio.booking.idempotency;
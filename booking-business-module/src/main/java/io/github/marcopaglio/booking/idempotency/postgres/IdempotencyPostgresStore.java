@@ -0,0 +1,170 @@
+package io.github.marcopaglio.booking.idempotency.postgres;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.idempotency.IdempotencyResults;
+import io.github.marcopaglio.booking.idempotency.IdempotencyStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * An implementation of {@code IdempotencyStore} keeping the served requests in a PostgreSQL
+ * table, created if missing. Expired records are purged whenever a new one is saved,
+ * while lookups ignore the expired records not purged yet.
+ * Note: records are written outside the transactions of the requests.
+ */
+public class IdempotencyPostgresStore implements IdempotencyStore {
+	/**
+	 * Name of the table holding the served requests.
+	 */
+	public static final String IDEMPOTENCY_TABLE_DB = "idempotency_keys";
+
+	/**
+	 * Statement creating the table of the served requests.
+	 */
+	private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " + IDEMPOTENCY_TABLE_DB
+			+ " (idempotency_key uuid PRIMARY KEY, operation varchar(255) NOT NULL, result text,"
+			+ " expires_at timestamp with time zone NOT NULL)";
+
+	/**
+	 * Statement migrating a table created when only the identifiers of the resulting entities
+	 * were kept: its records cannot be replayed, hence they are forgotten.
+	 */
+	private static final String MIGRATE_TABLE_SQL = "DO $$ BEGIN IF EXISTS (SELECT 1 FROM information_schema.columns"
+			+ " WHERE table_name = '" + IDEMPOTENCY_TABLE_DB + "' AND column_name = 'result_id') THEN"
+			+ " DELETE FROM " + IDEMPOTENCY_TABLE_DB + "; ALTER TABLE " + IDEMPOTENCY_TABLE_DB
+			+ " DROP COLUMN result_id, ADD COLUMN result text; END IF; END $$";
+
+	/**
+	 * Statement creating the index on expiration, which keeps purges cheap.
+	 */
+	private static final String CREATE_INDEX_SQL = "CREATE INDEX IF NOT EXISTS " + IDEMPOTENCY_TABLE_DB
+			+ "_expires_at ON " + IDEMPOTENCY_TABLE_DB + " (expires_at)";
+
+	/**
+	 * Query retrieving a live record.
+	 */
+	private static final String FIND_SQL = "SELECT operation, result FROM "
+			+ IDEMPOTENCY_TABLE_DB + " WHERE idempotency_key = ?1 AND expires_at > now()";
+
+	/**
+	 * Statement deleting the expired records.
+	 */
+	private static final String PURGE_SQL = "DELETE FROM " + IDEMPOTENCY_TABLE_DB + " WHERE expires_at <= now()";
+
+	/**
+	 * Statement inserting a record, or replacing the one with the same key.
+	 */
+	private static final String SAVE_SQL = "INSERT INTO " + IDEMPOTENCY_TABLE_DB
+			+ " (idempotency_key, operation, result, expires_at)"
+			+ " VALUES (?1, ?2, CAST(?3 AS text), now() + ?4 * interval '1 millisecond')"
+			+ " ON CONFLICT (idempotency_key) DO UPDATE SET operation = EXCLUDED.operation,"
+			+ " result = EXCLUDED.result, expires_at = EXCLUDED.expires_at";
+
+	/**
+	 * The entity manager factory used to interact with the persistence provider.
+	 */
+	private final EntityManagerFactory emf;
+
+	/**
+	 * Duration in milliseconds after which a served request is forgotten.
+	 */
+	private final long timeToLiveMillis;
+
+	/**
+	 * Constructs a store of served requests in PostgreSQL and creates its table if missing.
+	 *
+	 * @param emf						the {@code EntityManagerFactory} connected to PostgreSQL.
+	 * @param timeToLive				the duration after which a served request is forgotten.
+	 * @throws IllegalArgumentException	if {@code timeToLive} is null or not positive.
+	 * @throws DatabaseException		if the table cannot be created.
+	 */
+	public IdempotencyPostgresStore(EntityManagerFactory emf, Duration timeToLive)
+			throws IllegalArgumentException, DatabaseException {
+		if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero())
+			throw new IllegalArgumentException("Time-to-live of idempotency keys must be positive.");
+
+		this.emf = emf;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		inTransaction(em -> {
+			em.createNativeQuery(CREATE_TABLE_SQL).executeUpdate();
+			em.createNativeQuery(MIGRATE_TABLE_SQL).executeUpdate();
+			em.createNativeQuery(CREATE_INDEX_SQL).executeUpdate();
+		}, "The table of idempotency keys cannot be created.");
+	}
+
+	/**
+	 * Retrieves the request served under the specified key, if not expired.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @return						the {@code IdempotencyRecord} of the request,
+	 * 								or {@code null} if there is no live record for {@code key}.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public IdempotencyRecord find(UUID key) throws DatabaseException {
+		EntityManager em = emf.createEntityManager();
+		try {
+			List<?> rows = em.createNativeQuery(FIND_SQL)
+					.setParameter(1, key)
+					.getResultList();
+			if (rows.isEmpty())
+				return null;
+			Object[] row = (Object[]) rows.get(0);
+			return new IdempotencyRecord((String) row[0], IdempotencyResults.fromJson((String) row[1]));
+		} catch(PersistenceException e) {
+			throw new DatabaseException("The idempotency key cannot be looked up.", e);
+		} finally {
+			em.close();
+		}
+	}
+
+	/**
+	 * Remembers the request served under the specified key, replacing any previous record,
+	 * and purges the expired records within the same transaction.
+	 *
+	 * @param key					the idempotency key of the request.
+	 * @param record				the {@code IdempotencyRecord} of the request.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public void save(UUID key, IdempotencyRecord record) throws DatabaseException {
+		inTransaction(em -> {
+			em.createNativeQuery(PURGE_SQL).executeUpdate();
+			em.createNativeQuery(SAVE_SQL)
+				.setParameter(1, key)
+				.setParameter(2, record.getOperation())
+				.setParameter(3, IdempotencyResults.toJson(record.getResult()))
+				.setParameter(4, timeToLiveMillis)
+				.executeUpdate();
+		}, "The idempotency key cannot be saved.");
+	}
+
+	/**
+	 * Executes the statements in a single transaction, rolled back on failure.
+	 *
+	 * @param statements			the statements to execute.
+	 * @param errorMessage			the message of the exception thrown on failure.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	private void inTransaction(Consumer<EntityManager> statements, String errorMessage) throws DatabaseException {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			statements.accept(em);
+			em.getTransaction().commit();
+		} catch(PersistenceException e) {
+			throw new DatabaseException(errorMessage, e);
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+}
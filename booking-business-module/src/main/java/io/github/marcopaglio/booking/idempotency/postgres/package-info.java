@@ -0,0 +1,4 @@
+/**
+ * Contains implementations for remembering served requests in a PostgreSQL table.
+ */
+package io.github.marcopaglio.booking.idempotency.postgres;
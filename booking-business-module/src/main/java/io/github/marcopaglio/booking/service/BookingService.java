@@ -1,14 +1,18 @@
 package io.github.marcopaglio.booking.service;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import io.github.marcopaglio.booking.exception.DatabaseException;
 import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
 import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 
 /**
  * This interface provides methods for operating on repositories of the booking application.
@@ -34,6 +38,15 @@ public interface BookingService {
 	 */
 	public List<Reservation> findAllReservations();
 
+	/**
+	 * Retrieves all the clients together with their reservations from the database at once,
+	 * so that the two are consistent with each other.
+	 * 
+	 * @return						the {@code BookingSnapshot} of the clients and their reservations.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public BookingSnapshot snapshot();
+
 	/**
 	 * Retrieves the client with the specified id from the database.
 	 * 
@@ -67,14 +80,107 @@ public interface BookingService {
 	public Client findClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException;
 
 	/**
-	 * Retrieves the reservation of the specified date from the database.
+	 * Retrieves the clients whose name or surname starts by the specified query, or whose names
+	 * resemble it, from the database, ranked by relevance.
+	 * 
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the list of at most {@code limit} clients matching
+	 * 									{@code query}, from the most to the least relevant.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public List<Client> searchClients(String query, int limit) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Retrieves all the reservations of the specified resource saved in the database.
+	 * 
+	 * @param resource				the booked resource.
+	 * @return						the list of reservations of {@code resource} found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public List<Reservation> findAllReservationsOf(String resource) throws DatabaseException;
+
+	/**
+	 * Retrieves all the reservations of the specified client saved in the database,
+	 * including the archived ones.
+	 * 
+	 * @param clientId				the identifier of the client.
+	 * @return						the list of reservations of {@code clientId}, in use and archived.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public List<Reservation> findReservationHistoryOf(UUID clientId) throws DatabaseException;
+
+	/**
+	 * Retrieves the reservation of the default resource on the specified date from the database.
 	 * 
 	 * @param date							the date of the reservation to find.
 	 * @return								the {@code Reservation} on {@code date}.
 	 * @throws InstanceNotFoundException	if there is no reservation on that date in the database.
 	 * @throws DatabaseException			if a database error occurs.
 	 */
-	public Reservation findReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException;
+	public default Reservation findReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		return findReservationOn(Reservation.DEFAULT_RESOURCE, date);
+	}
+
+	/**
+	 * Retrieves the reservation of the specified resource on the specified date from the database.
+	 * 
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to find.
+	 * @return								the {@code Reservation} of {@code resource} on {@code date}.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public Reservation findReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException;
+
+	/**
+	 * Retrieves the first date without reservation of the default resource
+	 * on or after the specified one.
+	 * 
+	 * @param from						the first date to consider.
+	 * @return							the earliest free {@code LocalDate} not before {@code from}.
+	 * @throws IllegalArgumentException	if {@code from} is null.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public LocalDate findNextFreeDate(LocalDate from) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Retrieves the dates without reservation of the default resource in the specified range.
+	 * 
+	 * @param from						the first date of the range.
+	 * @param to						the last date of the range.
+	 * @return							the {@code List} of free dates between {@code from}
+	 * 									and {@code to}, both included, in chronological order.
+	 * @throws IllegalArgumentException	if {@code from} or {@code to} is null,
+	 * 									or if {@code from} is after {@code to}.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public List<LocalDate> findFreeDates(LocalDate from, LocalDate to) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Retrieves the occupancy statistics of the reservations, counted by client,
+	 * by month and by weekday, with the clients with the most bookings.
+	 * 
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the reservations.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public OccupancyReport getOccupancyReport(int topClientsLimit) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Retrieves a page of the reservations ordered by date and resource, together with
+	 * the total number of reservations, from the database.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code ReservationPage} read.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public ReservationPage findReservationsPage(int offset, int limit) throws IllegalArgumentException, DatabaseException;
 
 	/**
 	 * Adds a new client in the database.
@@ -86,6 +192,22 @@ public interface BookingService {
 	 */
 	public Client insertNewClient(Client client) throws InstanceAlreadyExistsException, DatabaseException;
 
+	/**
+	 * Adds a new client in the database at most once for the specified idempotency key:
+	 * a retry with the same key returns the client of the first successful request.
+	 * Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param client							the client to insert.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Client} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code client} is already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	public default Client insertNewClient(Client client, UUID idempotencyKey) throws InstanceAlreadyExistsException, DatabaseException {
+		return insertNewClient(client);
+	}
+
 	/**
 	 * Adds a new reservation in the database.
 	 * 
@@ -99,6 +221,50 @@ public interface BookingService {
 	 */
 	public Reservation insertNewReservation(Reservation reservation) throws InstanceAlreadyExistsException, InstanceNotFoundException, DatabaseException;
 
+	/**
+	 * Adds a new reservation in the database at most once for the specified idempotency key:
+	 * a retry with the same key returns the reservation of the first successful request.
+	 * Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param reservation						the reservation to insert.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Reservation} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code reservation} is already
+	 * 											in the database.
+	 * @throws InstanceNotFoundException		if the associated {@code client} doesn't
+	 * 											exist in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	public default Reservation insertNewReservation(Reservation reservation, UUID idempotencyKey) throws InstanceAlreadyExistsException, InstanceNotFoundException, DatabaseException {
+		return insertNewReservation(reservation);
+	}
+
+	/**
+	 * Adds new clients in the database as a single bulk.
+	 * 
+	 * @param clients						the clients to insert.
+	 * @return								the {@code List} of outcomes, one for each client
+	 * 										in the same order of {@code clients}: either
+	 * 										{@code INSERTED} or {@code ALREADY_EXISTS}.
+	 * @throws IllegalArgumentException		if {@code clients} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public List<BulkOutcome> insertNewClients(List<Client> clients) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Adds new reservations in the database as a single bulk.
+	 * 
+	 * @param reservations					the reservations to insert.
+	 * @return								the {@code List} of outcomes, one for each reservation
+	 * 										in the same order of {@code reservations}: either
+	 * 										{@code INSERTED}, {@code ALREADY_EXISTS} or
+	 * 										{@code CLIENT_NOT_FOUND}.
+	 * @throws IllegalArgumentException		if {@code reservations} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public List<BulkOutcome> insertNewReservations(List<Reservation> reservations) throws IllegalArgumentException, DatabaseException;
+
 	/**
 	 * Deletes the client with the specified id and all his reservation from the database.
 	 * 
@@ -108,6 +274,21 @@ public interface BookingService {
 	 */
 	public void removeClient(UUID id) throws InstanceNotFoundException, DatabaseException;
 
+	/**
+	 * Deletes the client with the specified id and all his reservation from the database
+	 * at most once for the specified idempotency key: a retry with the same key succeeds
+	 * without deleting anything. Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param id							the identifier of the client to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no client with that identifier in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public default void removeClient(UUID id, UUID idempotencyKey) throws InstanceNotFoundException, DatabaseException {
+		removeClient(id);
+	}
+
 	/**
 	 * Deletes the reservation with the specified id from the database.
 	 * 
@@ -118,6 +299,22 @@ public interface BookingService {
 	 */
 	public void removeReservation(UUID id) throws InstanceNotFoundException, DatabaseException;
 
+	/**
+	 * Deletes the reservation with the specified id from the database at most once
+	 * for the specified idempotency key: a retry with the same key succeeds without
+	 * deleting anything. Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param id							the identifier of the reservation to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no reservation with that identifier
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public default void removeReservation(UUID id, UUID idempotencyKey) throws InstanceNotFoundException, DatabaseException {
+		removeReservation(id);
+	}
+
 	/**
 	 * Deletes the client with specified name and surname and all his reservation
 	 * from the database.
@@ -131,13 +328,101 @@ public interface BookingService {
 	public void removeClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException;
 
 	/**
-	 * Deletes the reservation on the specified date from the database.
+	 * Deletes the client with specified name and surname and all his reservation
+	 * from the database at most once for the specified idempotency key: a retry with
+	 * the same key succeeds without deleting anything.
+	 * Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param firstName						the name of the client to remove.
+	 * @param lastName						the surname of the client to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no client with those names
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public default void removeClientNamed(String firstName, String lastName, UUID idempotencyKey) throws InstanceNotFoundException, DatabaseException {
+		removeClientNamed(firstName, lastName);
+	}
+
+	/**
+	 * Deletes the reservation of the default resource on the specified date from the database.
 	 * 
 	 * @param date							the date of the reservation to remove.
 	 * @throws InstanceNotFoundException	if there is no reservation on that date in the database.
 	 * @throws DatabaseException			if a database error occurs.
 	 */
-	public void removeReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException;
+	public default void removeReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		removeReservationOn(Reservation.DEFAULT_RESOURCE, date);
+	}
+
+	/**
+	 * Deletes the reservation of the specified resource on the specified date from the database.
+	 * 
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to remove.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public void removeReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException;
+
+	/**
+	 * Deletes the reservation of the default resource on the specified date from the database
+	 * at most once for the specified idempotency key: a retry with the same key succeeds without
+	 * deleting anything. Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param date							the date of the reservation to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no reservation on that date in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public default void removeReservationOn(LocalDate date, UUID idempotencyKey) throws InstanceNotFoundException, DatabaseException {
+		removeReservationOn(Reservation.DEFAULT_RESOURCE, date, idempotencyKey);
+	}
+
+	/**
+	 * Deletes the reservation of the specified resource on the specified date from the database
+	 * at most once for the specified idempotency key: a retry with the same key succeeds without
+	 * deleting anything. Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public default void removeReservationOn(String resource, LocalDate date, UUID idempotencyKey) throws InstanceNotFoundException, DatabaseException {
+		removeReservationOn(resource, date);
+	}
+
+	/**
+	 * Deletes the reservations of the default resource on the specified dates
+	 * from the database as a single bulk.
+	 * 
+	 * @param dates							the dates of the reservations to remove.
+	 * @return								the {@code List} of outcomes, one for each date
+	 * 										in the iteration order of {@code dates}: either
+	 * 										{@code REMOVED} or {@code NOT_FOUND}.
+	 * @throws IllegalArgumentException		if {@code dates} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public List<BulkOutcome> removeReservationsOn(Collection<LocalDate> dates) throws IllegalArgumentException, DatabaseException;
+
+	/**
+	 * Moves all the reservations dated before the specified horizon into the archive
+	 * of the database, in batches of the specified size.
+	 * 
+	 * @param horizon						the date from which reservations are kept in use.
+	 * @param batchSize						the maximum number of reservations moved at once.
+	 * @return								the number of reservations archived.
+	 * @throws IllegalArgumentException		if {@code horizon} is null or {@code batchSize} is not positive.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	public int archiveReservationsBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException, DatabaseException;
 
 	/**
 	 * Changes name and surname of the client with the specified id in the database.
@@ -154,6 +439,28 @@ public interface BookingService {
 	 */
 	public Client renameClient(UUID id, String newFirstName, String newLastName) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException;
 
+	/**
+	 * Changes name and surname of the client with the specified id in the database
+	 * at most once for the specified idempotency key: a retry with the same key returns
+	 * the client of the first successful request.
+	 * Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param id								the identifier of the client to rename.
+	 * @param newFirstName						the new name for the client.
+	 * @param newLastName						the new surname for the client.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Client} renamed.
+	 * @throws InstanceNotFoundException		if there is no {@code client} with specified id
+	 * 											in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code Client} with those names is
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	public default Client renameClient(UUID id, String newFirstName, String newLastName, UUID idempotencyKey) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return renameClient(id, newFirstName, newLastName);
+	}
+
 	/**
 	 * Changes date of the reservation with the specified id in the database.
 	 * 
@@ -167,4 +474,25 @@ public interface BookingService {
 	 * @throws DatabaseException				if a database error occurs.
 	 */
 	public Reservation rescheduleReservation(UUID id, LocalDate newDate) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException;
+
+	/**
+	 * Changes date of the reservation with the specified id in the database at most once
+	 * for the specified idempotency key: a retry with the same key returns the reservation
+	 * of the first successful request.
+	 * Implementations not deduplicating requests just execute them.
+	 * 
+	 * @param id								the identifier of the reservation to reschedule.
+	 * @param newDate							the new date for the reservation.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Reservation} rescheduled.
+	 * @throws InstanceNotFoundException		if there is no {@code reservation} with
+	 * 											specified id in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code reservation} with that date is 
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	public default Reservation rescheduleReservation(UUID id, LocalDate newDate, UUID idempotencyKey) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return rescheduleReservation(id, newDate);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package io.github.marcopaglio.booking.service;
+
+/**
+ * Enumerated outcomes of a single item processed by a bulk operation of the booking application.
+ */
+public enum BulkOutcome {
+	/**
+	 * The item has been inserted in the database.
+	 */
+	INSERTED,
+
+	/**
+	 * The item has been removed from the database.
+	 */
+	REMOVED,
+
+	/**
+	 * The item was not inserted because it is already in the database
+	 * or it is a repetition of a previous item of the same bulk.
+	 */
+	ALREADY_EXISTS,
+
+	/**
+	 * The item was not removed because it is not in the database.
+	 */
+	NOT_FOUND,
+
+	/**
+	 * The reservation was not inserted because its associated client is not in the database.
+	 */
+	CLIENT_NOT_FOUND
+}
@@ -0,0 +1,143 @@
+package io.github.marcopaglio.booking.service.archiving;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.service.BookingService;
+
+/**
+ * A job that periodically moves the reservations older than a retention period into
+ * the archive of the database through the service layer, so that the reservations
+ * in use stay few. Each run archives in batches and a failed run is only logged,
+ * since the next one resumes from the reservations left.
+ */
+public class ArchivingJob implements Runnable, AutoCloseable {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ArchivingJob.class);
+
+	/**
+	 * The service archiving the reservations.
+	 */
+	private final BookingService bookingService;
+
+	/**
+	 * The period for which past reservations are kept in use.
+	 */
+	private final Period retention;
+
+	/**
+	 * The maximum number of reservations archived in a single transaction.
+	 */
+	private final int batchSize;
+
+	/**
+	 * The clock providing the current date.
+	 */
+	private final Clock clock;
+
+	/**
+	 * The scheduler running the job on a background thread, once started.
+	 */
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructs a job archiving the reservations older than the retention period.
+	 * 
+	 * @param bookingService			the {@code BookingService} archiving the reservations.
+	 * @param retention					the period for which past reservations are kept in use.
+	 * @param batchSize					the maximum number of reservations archived at once.
+	 * @throws IllegalArgumentException	if {@code bookingService} or {@code retention} is null,
+	 * 									if {@code retention} is negative or if {@code batchSize}
+	 * 									is not positive.
+	 */
+	public ArchivingJob(BookingService bookingService, Period retention, int batchSize)
+			throws IllegalArgumentException {
+		this(bookingService, retention, batchSize, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * Constructs a job archiving the reservations older than the retention period
+	 * according to the given clock.
+	 * 
+	 * @param bookingService			the {@code BookingService} archiving the reservations.
+	 * @param retention					the period for which past reservations are kept in use.
+	 * @param batchSize					the maximum number of reservations archived at once.
+	 * @param clock						the clock providing the current date.
+	 * @throws IllegalArgumentException	if {@code bookingService} or {@code retention} is null,
+	 * 									if {@code retention} is negative or if {@code batchSize}
+	 * 									is not positive.
+	 */
+	ArchivingJob(BookingService bookingService, Period retention, int batchSize, Clock clock)
+			throws IllegalArgumentException {
+		if (bookingService == null)
+			throw new IllegalArgumentException("Booking service to archive through cannot be null.");
+		if (retention == null)
+			throw new IllegalArgumentException("Retention of reservations cannot be null.");
+		if (retention.isNegative())
+			throw new IllegalArgumentException("Retention of reservations cannot be negative.");
+		if (batchSize <= 0)
+			throw new IllegalArgumentException("Size of archiving batches must be positive.");
+
+		this.bookingService = bookingService;
+		this.retention = retention;
+		this.batchSize = batchSize;
+		this.clock = clock;
+	}
+
+	/**
+	 * Archives the reservations dated before the current date minus the retention period.
+	 */
+	@Override
+	public void run() {
+		LocalDate horizon = LocalDate.now(clock).minus(retention);
+		try {
+			int archivedCount = bookingService.archiveReservationsBefore(horizon, batchSize);
+			LOGGER.info(() -> String.format("%d reservation(s) before %s have been archived.",
+					archivedCount, horizon));
+		} catch(DatabaseException e) {
+			LOGGER.warn(() -> String.format("Reservations before %s cannot be archived: %s",
+					horizon, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Starts running the job on a background thread, at once and then periodically.
+	 * 
+	 * @param period					the delay between the end of a run and the start of the next.
+	 * @throws IllegalArgumentException	if {@code period} is null or not positive.
+	 * @throws IllegalStateException	if the job has already been started.
+	 */
+	public synchronized void start(Duration period) throws IllegalArgumentException, IllegalStateException {
+		if (period == null || period.isNegative() || period.isZero())
+			throw new IllegalArgumentException("Period of archiving must be positive.");
+		if (scheduler != null)
+			throw new IllegalStateException("Archiving job has already been started.");
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, getClass().getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops running the job, interrupting the current run if any.
+	 */
+	@Override
+	public synchronized void close() {
+		if (scheduler != null)
+			scheduler.shutdownNow();
+	}
+}
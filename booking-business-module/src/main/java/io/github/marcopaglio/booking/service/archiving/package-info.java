@@ -0,0 +1,5 @@
+/**
+ * Provides background jobs moving past reservations out of the operational set
+ * of the booking application.
+ */
+package io.github.marcopaglio.booking.service.archiving;
@@ -0,0 +1,233 @@
+package io.github.marcopaglio.booking.service.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A thread-safe index of the booked dates, stored as a bitset where each bit is a day
+ * counted from the earliest booked one. Since reservations are unique by date, the index
+ * answers whether a date is free without querying the database.
+ * The index is meant as a hint: it starts unloaded and ignores updates until it is loaded,
+ * and dates too far apart to be stored unload it, so that it is no longer consulted.
+ * Every update is counted, so that a load read before some updates can be discarded.
+ */
+public class AvailabilityIndex {
+	/**
+	 * Bits of booked days: the bit {@code i} stands for the epoch-day {@code origin + i}.
+	 */
+	private BitSet bookedDays;
+
+	/**
+	 * Epoch-day of the first bit of {@code bookedDays}.
+	 */
+	private long origin;
+
+	/**
+	 * Tells whether the index reflects the booked dates and can be consulted.
+	 */
+	private boolean loaded;
+
+	/**
+	 * Number of changes made to the index, including the updates ignored while not loaded.
+	 */
+	private long version;
+
+	/**
+	 * Constructs an empty and unloaded availability index.
+	 */
+	public AvailabilityIndex() {
+		this.bookedDays = new BitSet();
+	}
+
+	/**
+	 * Replaces the content of the index with the given booked dates and marks it as loaded.
+	 * 
+	 * @param bookedDates	the dates of all the existing reservations.
+	 */
+	public synchronized void load(Collection<LocalDate> bookedDates) {
+		bookedDays = new BitSet();
+		loaded = true;
+		for (LocalDate date : bookedDates)
+			book(date);
+	}
+
+	/**
+	 * Replaces the content of the index with the given booked dates and marks it as loaded,
+	 * unless the index has been updated since the given version; in that case the dates
+	 * could miss those updates, hence they are discarded.
+	 * 
+	 * @param bookedDates	the dates of all the existing reservations.
+	 * @param version		the version of the index taken before reading {@code bookedDates}.
+	 * @return				{@code true} if the index has been loaded; {@code false} otherwise.
+	 */
+	public synchronized boolean load(Collection<LocalDate> bookedDates, long version) {
+		if (this.version != version)
+			return false;
+		load(bookedDates);
+		return true;
+	}
+
+	/**
+	 * Retrieves the version of the index, i.e. the number of changes made to it.
+	 * 
+	 * @return	the version of the index.
+	 */
+	public synchronized long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Empties the index and marks it as unloaded, so that it is no longer consulted
+	 * until it is loaded again.
+	 */
+	public synchronized void invalidate() {
+		version++;
+		bookedDays = new BitSet();
+		loaded = false;
+	}
+
+	/**
+	 * Tells whether the index reflects the booked dates and can be consulted.
+	 * 
+	 * @return	{@code true} if the index is loaded; {@code false} otherwise.
+	 */
+	public synchronized boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Checks if the date is booked according to the index.
+	 * 
+	 * @param date	the date to check.
+	 * @return		{@code true} if the index is loaded and {@code date} is booked;
+	 * 				{@code false} otherwise.
+	 */
+	public synchronized boolean isBooked(LocalDate date) {
+		return loaded && isBookedDay(date.toEpochDay());
+	}
+
+	/**
+	 * Checks if the date is free according to the index.
+	 * 
+	 * @param date	the date to check.
+	 * @return		{@code true} if the index is loaded and {@code date} is not booked;
+	 * 				{@code false} otherwise.
+	 */
+	public synchronized boolean isFree(LocalDate date) {
+		return loaded && !isBookedDay(date.toEpochDay());
+	}
+
+	/**
+	 * Marks the date as booked. Nothing happens if the index is not loaded.
+	 * 
+	 * @param date	the booked date.
+	 */
+	public synchronized void book(LocalDate date) {
+		version++;
+		if (!loaded)
+			return;
+
+		long day = date.toEpochDay();
+		if (bookedDays.isEmpty())
+			origin = day;
+		else if (day < origin)
+			rebase(day);
+		if (loaded && !fitsInBitset(day - origin))
+			invalidate();
+		if (loaded)
+			bookedDays.set((int) (day - origin));
+	}
+
+	/**
+	 * Marks the date as free. Nothing happens if the index is not loaded.
+	 * 
+	 * @param date	the freed date.
+	 */
+	public synchronized void release(LocalDate date) {
+		version++;
+		long offset = date.toEpochDay() - origin;
+		if (loaded && offset >= 0 && fitsInBitset(offset))
+			bookedDays.clear((int) offset);
+	}
+
+	/**
+	 * Retrieves the first free date on or after the given one.
+	 * 
+	 * @param from	the first date to consider.
+	 * @return		the earliest free {@code LocalDate} not before {@code from}.
+	 */
+	public synchronized LocalDate nextFreeDate(LocalDate from) {
+		long offset = from.toEpochDay() - origin;
+		if (offset < 0 || !fitsInBitset(offset))
+			return from;
+		return LocalDate.ofEpochDay(origin + bookedDays.nextClearBit((int) offset));
+	}
+
+	/**
+	 * Retrieves the free dates in the given range, both ends included.
+	 * 
+	 * @param from	the first date of the range.
+	 * @param to	the last date of the range.
+	 * @return		the {@code List} of free dates between {@code from} and {@code to},
+	 * 				in chronological order.
+	 */
+	public synchronized List<LocalDate> freeDates(LocalDate from, LocalDate to) {
+		List<LocalDate> freeDates = new ArrayList<>();
+		for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++)
+			if (!isBookedDay(day))
+				freeDates.add(LocalDate.ofEpochDay(day));
+		return freeDates;
+	}
+
+	/**
+	 * Retrieves the number of booked dates in the index.
+	 * 
+	 * @return	the number of booked dates.
+	 */
+	public synchronized int size() {
+		return bookedDays.cardinality();
+	}
+
+	/**
+	 * Checks if the epoch-day is set in the bitset.
+	 * 
+	 * @param day	the epoch-day to check.
+	 * @return		{@code true} if {@code day} is booked; {@code false} otherwise.
+	 */
+	private boolean isBookedDay(long day) {
+		long offset = day - origin;
+		return offset >= 0 && fitsInBitset(offset) && bookedDays.get((int) offset);
+	}
+
+	/**
+	 * Moves the origin of the bitset back to the given epoch-day, shifting the booked days.
+	 * The index is invalidated if the booked days no longer fit in the bitset.
+	 * 
+	 * @param newOrigin	the new epoch-day of the first bit.
+	 */
+	private void rebase(long newOrigin) {
+		long shift = origin - newOrigin;
+		if (!fitsInBitset(bookedDays.length() - 1 + shift)) {
+			invalidate();
+			return;
+		}
+		BitSet shifted = new BitSet();
+		for (int i = bookedDays.nextSetBit(0); i >= 0; i = bookedDays.nextSetBit(i + 1))
+			shifted.set((int) (i + shift));
+		bookedDays = shifted;
+		origin = newOrigin;
+	}
+
+	/**
+	 * Checks if the offset can index a bit of the bitset.
+	 * 
+	 * @param offset	the non-negative offset from the origin.
+	 * @return			{@code true} if {@code offset} fits in the bitset; {@code false} otherwise.
+	 */
+	private static boolean fitsInBitset(long offset) {
+		return offset < Integer.MAX_VALUE;
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides in-memory indexes of the availability of dates for the booking application.
+ */
+package io.github.marcopaglio.booking.service.availability;
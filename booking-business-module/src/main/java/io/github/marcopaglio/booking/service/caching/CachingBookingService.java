@@ -0,0 +1,869 @@
+package io.github.marcopaglio.booking.service.caching;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeListener;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
+import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
+import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.service.BulkOutcome;
+
+/**
+ * Implements a decorator of {@code BookingService} that serves lookups and full lists
+ * from bounded in-memory caches. Every successful mutation updates the caches in place,
+ * while a mutation failed for a database error or an unexpected one invalidates them all
+ * because the database could be in a state the caches are not aware of. Mutations rejected
+ * by the business rules changed nothing, hence they leave the caches untouched.
+ * Entries are bounded both in number, by evicting the least recently used, and in age,
+ * by a time-to-live that limits the staleness with respect to other writers.
+ * As a listener of a change feed, it also drops the entries touched by other writers.
+ */
+public class CachingBookingService implements BookingService, ChangeListener {
+	/**
+	 * Key of the only entry of the caches holding full lists.
+	 */
+	private static final Object ALL = new Object();
+
+	/**
+	 * The service whose results are cached.
+	 */
+	private final BookingService delegate;
+
+	/**
+	 * Cache of clients by their identifier.
+	 */
+	private final LruCache<UUID, Client> clientsById;
+
+	/**
+	 * Cache of clients by their names, using a {@code Client} holding only the names as key.
+	 */
+	private final LruCache<Client, Client> clientsByName;
+
+	/**
+	 * Cache of reservations by their identifier.
+	 */
+	private final LruCache<UUID, Reservation> reservationsById;
+
+	/**
+	 * Cache of reservations by their resource and date, using a {@code Reservation} holding
+	 * only those as key.
+	 */
+	private final LruCache<Reservation, Reservation> reservationsBySlot;
+
+	/**
+	 * Cache of the list of all clients.
+	 */
+	private final LruCache<Object, List<Client>> allClients;
+
+	/**
+	 * Cache of the list of all reservations.
+	 */
+	private final LruCache<Object, List<Reservation>> allReservations;
+
+	/**
+	 * Counter of the mutations applied to the caches, used to discard results
+	 * of reads started before a concurrent mutation.
+	 */
+	private long generation;
+
+	/**
+	 * Constructs a caching decorator of a booking service.
+	 * 
+	 * @param delegate					the {@code BookingService} whose results are cached.
+	 * @param maximumSize				the maximum number of entries of each cache.
+	 * @param timeToLive				the duration after which a cached entry expires.
+	 * @throws IllegalArgumentException	if {@code delegate} or {@code timeToLive} is null,
+	 * 									or if {@code maximumSize} or {@code timeToLive}
+	 * 									is not positive.
+	 */
+	public CachingBookingService(BookingService delegate, int maximumSize, Duration timeToLive)
+			throws IllegalArgumentException {
+		this(delegate, maximumSize, timeToLive, System::nanoTime);
+	}
+
+	/**
+	 * Constructs a caching decorator of a booking service whose entries expire
+	 * according to the given clock.
+	 * 
+	 * @param delegate					the {@code BookingService} whose results are cached.
+	 * @param maximumSize				the maximum number of entries of each cache.
+	 * @param timeToLive				the duration after which a cached entry expires.
+	 * @param nanoClock					the source of the current time in nanoseconds.
+	 * @throws IllegalArgumentException	if {@code delegate} or {@code timeToLive} is null,
+	 * 									or if {@code maximumSize} or {@code timeToLive}
+	 * 									is not positive.
+	 */
+	CachingBookingService(BookingService delegate, int maximumSize, Duration timeToLive,
+			LongSupplier nanoClock) throws IllegalArgumentException {
+		if (delegate == null)
+			throw new IllegalArgumentException("Booking service to decorate cannot be null.");
+		if (maximumSize <= 0)
+			throw new IllegalArgumentException("Maximum size of caches must be positive.");
+		if (timeToLive == null)
+			throw new IllegalArgumentException("Time-to-live of caches cannot be null.");
+		if (timeToLive.isNegative() || timeToLive.isZero())
+			throw new IllegalArgumentException("Time-to-live of caches must be positive.");
+
+		this.delegate = delegate;
+		long timeToLiveNanos = timeToLive.toNanos();
+		this.clientsById = new LruCache<>(maximumSize, timeToLiveNanos, nanoClock);
+		this.clientsByName = new LruCache<>(maximumSize, timeToLiveNanos, nanoClock);
+		this.reservationsById = new LruCache<>(maximumSize, timeToLiveNanos, nanoClock);
+		this.reservationsBySlot = new LruCache<>(maximumSize, timeToLiveNanos, nanoClock);
+		this.allClients = new LruCache<>(1, timeToLiveNanos, nanoClock);
+		this.allReservations = new LruCache<>(1, timeToLiveNanos, nanoClock);
+	}
+
+	/**
+	 * Retrieves all the clients saved in the database, from memory if a live list is cached.
+	 * 
+	 * @return						the list of clients found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Client> findAllClients() throws DatabaseException {
+		List<Client> cached = allClients.get(ALL);
+		if (cached != null)
+			return new ArrayList<>(cached);
+
+		long observed = currentGeneration();
+		List<Client> clients = delegate.findAllClients();
+		storeIfCurrent(observed, () -> {
+			allClients.put(ALL, List.copyOf(clients));
+			clients.forEach(this::cacheClient);
+		});
+		return clients;
+	}
+
+	/**
+	 * Retrieves all the reservations saved in the database, from memory if a live list is cached.
+	 * 
+	 * @return						the list of reservations found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findAllReservations() throws DatabaseException {
+		List<Reservation> cached = allReservations.get(ALL);
+		if (cached != null)
+			return new ArrayList<>(cached);
+
+		long observed = currentGeneration();
+		List<Reservation> reservations = delegate.findAllReservations();
+		storeIfCurrent(observed, () -> {
+			allReservations.put(ALL, List.copyOf(reservations));
+			reservations.forEach(this::cacheReservation);
+		});
+		return reservations;
+	}
+
+	/**
+	 * Retrieves all the clients together with their reservations, from memory if live lists
+	 * of both are cached; otherwise the snapshot of the decorated service fills both caches.
+	 * 
+	 * @return						the {@code BookingSnapshot} of the clients and their reservations.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public BookingSnapshot snapshot() throws DatabaseException {
+		List<Client> cachedClients = allClients.get(ALL);
+		List<Reservation> cachedReservations = allReservations.get(ALL);
+		if (cachedClients != null && cachedReservations != null)
+			return new BookingSnapshot(cachedClients, cachedReservations);
+
+		long observed = currentGeneration();
+		BookingSnapshot snapshot = delegate.snapshot();
+		storeIfCurrent(observed, () -> {
+			List<Reservation> reservations = snapshot.getReservations();
+			allClients.put(ALL, snapshot.getClients());
+			allReservations.put(ALL, List.copyOf(reservations));
+			snapshot.getClients().forEach(this::cacheClient);
+			reservations.forEach(this::cacheReservation);
+		});
+		return snapshot;
+	}
+
+	/**
+	 * Retrieves the client with the specified id, from memory if it is cached.
+	 * 
+	 * @param id							the identifier of the client to find.
+	 * @return								the {@code Client} identified by {@code id}.
+	 * @throws InstanceNotFoundException	if there is no client with that id in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Client findClient(UUID id) throws InstanceNotFoundException, DatabaseException {
+		Client cached = clientsById.get(id);
+		if (cached != null)
+			return cached;
+
+		long observed = currentGeneration();
+		Client client = delegate.findClient(id);
+		storeIfCurrent(observed, () -> cacheClient(client));
+		return client;
+	}
+
+	/**
+	 * Retrieves the reservation with the specified id, from memory if it is cached.
+	 * 
+	 * @param id							the identifier of the reservation to find.
+	 * @return								the {@code Reservation} identified by {@code id}.
+	 * @throws InstanceNotFoundException	if there is no reservation with that id in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Reservation findReservation(UUID id) throws InstanceNotFoundException, DatabaseException {
+		Reservation cached = reservationsById.get(id);
+		if (cached != null)
+			return cached;
+
+		long observed = currentGeneration();
+		Reservation reservation = delegate.findReservation(id);
+		storeIfCurrent(observed, () -> cacheReservation(reservation));
+		return reservation;
+	}
+
+	/**
+	 * Retrieves the client with specified name and surname, from memory if it is cached.
+	 * 
+	 * @param firstName						the name of the client to find.
+	 * @param lastName						the surname of the client to find.
+	 * @return								the {@code Client} named {@code firstName}
+	 * 										and {@code lastName}.
+	 * @throws InstanceNotFoundException	if there is no client with those names in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Client findClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException {
+		Client cached = clientsByName.get(new Client(firstName, lastName));
+		if (cached != null)
+			return cached;
+
+		long observed = currentGeneration();
+		Client client = delegate.findClientNamed(firstName, lastName);
+		storeIfCurrent(observed, () -> cacheClient(client));
+		return client;
+	}
+
+	/**
+	 * Retrieves the clients matching the specified query from the decorated service,
+	 * since searches are too varied to be worth caching.
+	 * 
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the list of at most {@code limit} clients matching
+	 * 									{@code query}, from the most to the least relevant.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public List<Client> searchClients(String query, int limit) throws IllegalArgumentException, DatabaseException {
+		return delegate.searchClients(query, limit);
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified resource, filtering the cached list
+	 * of all reservations if live, otherwise from the decorated service.
+	 * 
+	 * @param resource				the booked resource.
+	 * @return						the list of reservations of {@code resource} found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findAllReservationsOf(String resource) throws DatabaseException {
+		List<Reservation> cached = allReservations.get(ALL);
+		if (cached != null)
+			return cached.stream().filter(reservation -> Objects.equals(resource, reservation.getResource()))
+					.collect(Collectors.toCollection(ArrayList::new));
+
+		return delegate.findAllReservationsOf(resource);
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified client, including the archived ones,
+	 * from the decorated service, since history is rarely read.
+	 * 
+	 * @param clientId				the identifier of the client.
+	 * @return						the list of reservations of {@code clientId}, in use and archived.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findReservationHistoryOf(UUID clientId) throws DatabaseException {
+		return delegate.findReservationHistoryOf(clientId);
+	}
+
+	/**
+	 * Retrieves the reservation of the specified resource on the specified date,
+	 * from memory if it is cached.
+	 * 
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to find.
+	 * @return								the {@code Reservation} of {@code resource} on {@code date}.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Reservation findReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		Reservation cached = reservationsBySlot.get(slotOf(resource, date));
+		if (cached != null)
+			return cached;
+
+		long observed = currentGeneration();
+		Reservation reservation = delegate.findReservationOn(resource, date);
+		storeIfCurrent(observed, () -> cacheReservation(reservation));
+		return reservation;
+	}
+
+	/**
+	 * Retrieves the first date without reservation on or after the specified one
+	 * from the decorated service.
+	 * 
+	 * @param from						the first date to consider.
+	 * @return							the earliest free {@code LocalDate} not before {@code from}.
+	 * @throws IllegalArgumentException	if {@code from} is null.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public LocalDate findNextFreeDate(LocalDate from) throws IllegalArgumentException, DatabaseException {
+		return delegate.findNextFreeDate(from);
+	}
+
+	/**
+	 * Retrieves the dates without reservation in the specified range from the decorated service.
+	 * 
+	 * @param from						the first date of the range.
+	 * @param to						the last date of the range.
+	 * @return							the {@code List} of free dates between {@code from}
+	 * 									and {@code to}, both included, in chronological order.
+	 * @throws IllegalArgumentException	if {@code from} or {@code to} is null,
+	 * 									or if {@code from} is after {@code to}.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public List<LocalDate> findFreeDates(LocalDate from, LocalDate to) throws IllegalArgumentException, DatabaseException {
+		return delegate.findFreeDates(from, to);
+	}
+
+	/**
+	 * Retrieves the occupancy statistics of the reservations from the decorated service.
+	 * The report is not cached since it is meant to reflect the database at the time of the request.
+	 * 
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the reservations.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public OccupancyReport getOccupancyReport(int topClientsLimit) throws IllegalArgumentException, DatabaseException {
+		return delegate.getOccupancyReport(topClientsLimit);
+	}
+
+	/**
+	 * Retrieves a page of the reservations from the decorated service.
+	 * Pages are not cached since they are read to avoid holding all the reservations in memory.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code ReservationPage} read.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public ReservationPage findReservationsPage(int offset, int limit) throws IllegalArgumentException, DatabaseException {
+		return delegate.findReservationsPage(offset, limit);
+	}
+
+	/**
+	 * Adds a new client in the database and in the caches.
+	 * 
+	 * @param client							the client to insert.
+	 * @return									the {@code Client} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code client} is already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client insertNewClient(Client client) throws InstanceAlreadyExistsException, DatabaseException {
+		return mutate(() -> delegate.insertNewClient(client), this::addClient);
+	}
+
+	/**
+	 * Adds a new reservation in the database and in the caches.
+	 * 
+	 * @param reservation						the reservation to insert.
+	 * @return									the {@code Reservation} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code reservation} is already
+	 * 											in the database.
+	 * @throws InstanceNotFoundException		if the associated {@code client} doesn't
+	 * 											exist in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation insertNewReservation(Reservation reservation) throws InstanceAlreadyExistsException, InstanceNotFoundException, DatabaseException {
+		return mutate(() -> delegate.insertNewReservation(reservation), this::addReservation);
+	}
+
+	/**
+	 * Adds new clients in the database as a single bulk and the inserted ones in the caches.
+	 * 
+	 * @param clients						the clients to insert.
+	 * @return								the {@code List} of outcomes, one for each client
+	 * 										in the same order of {@code clients}.
+	 * @throws IllegalArgumentException		if {@code clients} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewClients(List<Client> clients) throws IllegalArgumentException, DatabaseException {
+		return mutate(() -> delegate.insertNewClients(clients), outcomes -> {
+			for (int i = 0; i < outcomes.size(); i++)
+				if (outcomes.get(i) == BulkOutcome.INSERTED)
+					addClient(clients.get(i));
+		});
+	}
+
+	/**
+	 * Adds new reservations in the database as a single bulk and the inserted ones in the caches.
+	 * 
+	 * @param reservations					the reservations to insert.
+	 * @return								the {@code List} of outcomes, one for each reservation
+	 * 										in the same order of {@code reservations}.
+	 * @throws IllegalArgumentException		if {@code reservations} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewReservations(List<Reservation> reservations) throws IllegalArgumentException, DatabaseException {
+		return mutate(() -> delegate.insertNewReservations(reservations), outcomes -> {
+			for (int i = 0; i < outcomes.size(); i++)
+				if (outcomes.get(i) == BulkOutcome.INSERTED)
+					addReservation(reservations.get(i));
+		});
+	}
+
+	/**
+	 * Deletes the client with the specified id and all his reservation from the database
+	 * and from the caches.
+	 * 
+	 * @param id							the identifier of the client to remove.
+	 * @throws InstanceNotFoundException	if there is no client with that identifier in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClient(UUID id) throws InstanceNotFoundException, DatabaseException {
+		mutate(() -> {
+			delegate.removeClient(id);
+			return id;
+		}, removedId -> {
+			dropClients(client -> removedId.equals(client.getId()));
+			dropReservations(reservation -> removedId.equals(reservation.getClientId()));
+		});
+	}
+
+	/**
+	 * Deletes the reservation with the specified id from the database and from the caches.
+	 * 
+	 * @param id							the identifier of the reservation to remove.
+	 * @throws InstanceNotFoundException	if there is no reservation with that identifier
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservation(UUID id) throws InstanceNotFoundException, DatabaseException {
+		mutate(() -> {
+			delegate.removeReservation(id);
+			return id;
+		}, removedId -> dropReservations(reservation -> removedId.equals(reservation.getId())));
+	}
+
+	/**
+	 * Deletes the client with specified name and surname and all his reservation
+	 * from the database and from the caches. Since cached reservations refer to clients
+	 * by identifier, all the reservation caches are cleared.
+	 * 
+	 * @param firstName						the name of the client to remove.
+	 * @param lastName						the surname of the client to remove.
+	 * @throws InstanceNotFoundException	if there is no client with those names
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException {
+		mutate(() -> {
+			delegate.removeClientNamed(firstName, lastName);
+			return new Client(firstName, lastName);
+		}, removedNames -> {
+			dropClients(removedNames::equals);
+			reservationsById.clear();
+			reservationsBySlot.clear();
+			allReservations.clear();
+		});
+	}
+
+	/**
+	 * Deletes the reservation of the specified resource on the specified date from the database
+	 * and from the caches.
+	 * 
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to remove.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		mutate(() -> {
+			delegate.removeReservationOn(resource, date);
+			return slotOf(resource, date);
+		}, removedSlot -> dropReservations(reservation -> removedSlot.equals(slotOf(reservation))));
+	}
+
+	/**
+	 * Deletes the reservations of the default resource on the specified dates from the database
+	 * as a single bulk and from the caches.
+	 * 
+	 * @param dates							the dates of the reservations to remove.
+	 * @return								the {@code List} of outcomes, one for each date
+	 * 										in the iteration order of {@code dates}.
+	 * @throws IllegalArgumentException		if {@code dates} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> removeReservationsOn(Collection<LocalDate> dates) throws IllegalArgumentException, DatabaseException {
+		return mutate(() -> delegate.removeReservationsOn(dates), outcomes -> {
+			Set<LocalDate> removedDates = new HashSet<>(dates);
+			dropReservations(reservation -> Reservation.DEFAULT_RESOURCE.equals(reservation.getResource())
+					&& removedDates.contains(reservation.getDate()));
+		});
+	}
+
+	/**
+	 * Moves all the reservations dated before the specified horizon into the archive
+	 * of the database and drops them from the caches.
+	 * 
+	 * @param horizon						the date from which reservations are kept in use.
+	 * @param batchSize						the maximum number of reservations moved at once.
+	 * @return								the number of reservations archived.
+	 * @throws IllegalArgumentException		if {@code horizon} is null or {@code batchSize} is not positive.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public int archiveReservationsBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException, DatabaseException {
+		return mutate(() -> delegate.archiveReservationsBefore(horizon, batchSize),
+				archivedCount -> dropReservations(reservation -> reservation.getDate().isBefore(horizon)));
+	}
+
+	/**
+	 * Changes name and surname of the client with the specified id in the database
+	 * and in the caches.
+	 * 
+	 * @param id								the identifier of the client to rename.
+	 * @param newFirstName						the new name for the client.
+	 * @param newLastName						the new surname for the client.
+	 * @return									the {@code Client} renamed.
+	 * @throws InstanceNotFoundException		if there is no {@code client} with specified id
+	 * 											in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code Client} with those names is
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client renameClient(UUID id, String newFirstName, String newLastName) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return mutate(() -> delegate.renameClient(id, newFirstName, newLastName), renamed -> {
+			Predicate<Client> sameId = client -> id.equals(client.getId());
+			clientsByName.removeIf(sameId);
+			cacheClient(renamed);
+			allClients.update(ALL, clients -> replacing(clients, sameId, renamed));
+		});
+	}
+
+	/**
+	 * Changes date of the reservation with the specified id in the database and in the caches.
+	 * 
+	 * @param id								the identifier of the reservation to reschedule.
+	 * @param newDate							the new date for the reservation.
+	 * @return									the {@code Reservation} rescheduled.
+	 * @throws InstanceNotFoundException		if there is no {@code reservation} with
+	 * 											specified id in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code reservation} with that date is
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation rescheduleReservation(UUID id, LocalDate newDate) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return mutate(() -> delegate.rescheduleReservation(id, newDate), rescheduled -> {
+			Predicate<Reservation> sameId = reservation -> id.equals(reservation.getId());
+			reservationsBySlot.removeIf(sameId);
+			cacheReservation(rescheduled);
+			allReservations.update(ALL, reservations -> replacing(reservations, sameId, rescheduled));
+		});
+	}
+
+	/**
+	 * Drops every cached entry, so that the next requests are served by the database.
+	 */
+	public synchronized void invalidateAll() {
+		generation++;
+		clientsById.clear();
+		clientsByName.clear();
+		reservationsById.clear();
+		reservationsBySlot.clear();
+		allClients.clear();
+		allReservations.clear();
+	}
+
+	/**
+	 * Drops the changed client from the caches, together with the list of all clients.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the client.
+	 */
+	@Override
+	public synchronized void clientChanged(ChangeEvent<Client> event) {
+		generation++;
+		clientsById.remove(event.getId());
+		clientsByName.removeIf(client -> event.getId().equals(client.getId()));
+		allClients.clear();
+	}
+
+	/**
+	 * Drops the changed reservation from the caches, together with the list of all reservations.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the reservation.
+	 */
+	@Override
+	public synchronized void reservationChanged(ChangeEvent<Reservation> event) {
+		generation++;
+		reservationsById.remove(event.getId());
+		reservationsBySlot.removeIf(reservation -> event.getId().equals(reservation.getId()));
+		allReservations.clear();
+	}
+
+	/**
+	 * Drops every cached entry, since some changes could have been missed.
+	 */
+	@Override
+	public void changesMissed() {
+		invalidateAll();
+	}
+
+	/**
+	 * Retrieves the number of requests served from memory.
+	 * 
+	 * @return	the number of cache hits.
+	 */
+	public long getHitCount() {
+		return Stream.of(clientsById, clientsByName, reservationsById, reservationsBySlot,
+				allClients, allReservations).mapToLong(LruCache::getHitCount).sum();
+	}
+
+	/**
+	 * Retrieves the number of requests forwarded to the decorated service.
+	 * 
+	 * @return	the number of cache misses.
+	 */
+	public long getMissCount() {
+		return Stream.of(clientsById, clientsByName, reservationsById, reservationsBySlot,
+				allClients, allReservations).mapToLong(LruCache::getMissCount).sum();
+	}
+
+	/**
+	 * Retrieves the number of entries dropped because a cache was full or they were expired.
+	 * 
+	 * @return	the number of cache evictions.
+	 */
+	public long getEvictionCount() {
+		return Stream.of(clientsById, clientsByName, reservationsById, reservationsBySlot,
+				allClients, allReservations).mapToLong(LruCache::getEvictionCount).sum();
+	}
+
+	/**
+	 * Executes a mutation on the decorated service and applies its result to the caches.
+	 * If the mutation is rejected by the business rules, the exception is rethrown untouched,
+	 * since nothing changed; if it fails otherwise, all the caches are invalidated before rethrowing.
+	 * 
+	 * @param <R>		the type of the result of the mutation.
+	 * @param mutation	the mutation to execute on the decorated service.
+	 * @param update	the changes to apply to the caches from the result of the mutation.
+	 * @return			the result of the mutation.
+	 */
+	private <R> R mutate(Supplier<R> mutation, Consumer<R> update) {
+		R result;
+		try {
+			result = mutation.get();
+		} catch(InstanceAlreadyExistsException | InstanceNotFoundException | IllegalArgumentException e) {
+			throw e;
+		} catch(RuntimeException e) {
+			invalidateAll();
+			throw e;
+		}
+		synchronized(this) {
+			generation++;
+			update.accept(result);
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the current generation of the caches.
+	 * 
+	 * @return	the number of mutations applied to the caches so far.
+	 */
+	private synchronized long currentGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Applies the changes to the caches only if no mutation occurred
+	 * since the observed generation.
+	 * 
+	 * @param observed	the generation observed before reading from the decorated service.
+	 * @param changes	the changes to apply to the caches.
+	 */
+	private synchronized void storeIfCurrent(long observed, Runnable changes) {
+		if (observed == generation)
+			changes.run();
+	}
+
+	/**
+	 * Puts the client in the lookup caches.
+	 * 
+	 * @param client	the client to cache.
+	 */
+	private void cacheClient(Client client) {
+		clientsById.put(client.getId(), client);
+		clientsByName.put(new Client(client.getFirstName(), client.getLastName()), client);
+	}
+
+	/**
+	 * Puts the reservation in the lookup caches.
+	 * 
+	 * @param reservation	the reservation to cache.
+	 */
+	private void cacheReservation(Reservation reservation) {
+		reservationsById.put(reservation.getId(), reservation);
+		reservationsBySlot.put(slotOf(reservation), reservation);
+	}
+
+	/**
+	 * Retrieves the key of the reservation in the cache by slot.
+	 * 
+	 * @param reservation	the reservation.
+	 * @return				the {@code Reservation} holding only the resource and date
+	 * 						of {@code reservation}.
+	 */
+	private static Reservation slotOf(Reservation reservation) {
+		return slotOf(reservation.getResource(), reservation.getDate());
+	}
+
+	/**
+	 * Retrieves the key of the cache by slot for the specified resource and date.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the booked date.
+	 * @return			the {@code Reservation} holding only {@code resource} and {@code date}.
+	 */
+	private static Reservation slotOf(String resource, LocalDate date) {
+		return new Reservation(null, resource, date);
+	}
+
+	/**
+	 * Puts a newly inserted client in the lookup caches and in the cached list of all clients.
+	 * 
+	 * @param client	the inserted client.
+	 */
+	private void addClient(Client client) {
+		cacheClient(client);
+		allClients.update(ALL, clients -> appending(clients, client));
+	}
+
+	/**
+	 * Puts a newly inserted reservation in the lookup caches and in the cached list
+	 * of all reservations.
+	 * 
+	 * @param reservation	the inserted reservation.
+	 */
+	private void addReservation(Reservation reservation) {
+		cacheReservation(reservation);
+		allReservations.update(ALL, reservations -> appending(reservations, reservation));
+	}
+
+	/**
+	 * Removes the clients satisfying the predicate from all the client caches.
+	 * 
+	 * @param removed	the predicate identifying the removed clients.
+	 */
+	private void dropClients(Predicate<Client> removed) {
+		clientsById.removeIf(removed);
+		clientsByName.removeIf(removed);
+		allClients.update(ALL, clients -> removing(clients, removed));
+	}
+
+	/**
+	 * Removes the reservations satisfying the predicate from all the reservation caches.
+	 * 
+	 * @param removed	the predicate identifying the removed reservations.
+	 */
+	private void dropReservations(Predicate<Reservation> removed) {
+		reservationsById.removeIf(removed);
+		reservationsBySlot.removeIf(removed);
+		allReservations.update(ALL, reservations -> removing(reservations, removed));
+	}
+
+	/**
+	 * Creates an unmodifiable copy of the list with an element added at the end.
+	 * 
+	 * @param <T>		the type of elements.
+	 * @param list		the original list.
+	 * @param element	the element to add.
+	 * @return			the {@code List} with {@code element} added.
+	 */
+	private static <T> List<T> appending(List<T> list, T element) {
+		return Stream.concat(list.stream(), Stream.of(element))
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * Creates an unmodifiable copy of the list without the elements satisfying the predicate.
+	 * 
+	 * @param <T>		the type of elements.
+	 * @param list		the original list.
+	 * @param removed	the predicate identifying the elements to remove.
+	 * @return			the {@code List} without the removed elements.
+	 */
+	private static <T> List<T> removing(List<T> list, Predicate<T> removed) {
+		return list.stream().filter(removed.negate()).collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * Creates an unmodifiable copy of the list where the elements satisfying the predicate
+	 * are replaced.
+	 * 
+	 * @param <T>			the type of elements.
+	 * @param list			the original list.
+	 * @param replaced		the predicate identifying the elements to replace.
+	 * @param replacement	the element replacing them.
+	 * @return				the {@code List} with the elements replaced.
+	 */
+	private static <T> List<T> replacing(List<T> list, Predicate<T> replaced, T replacement) {
+		return list.stream().map(element -> replaced.test(element) ? replacement : element)
+				.collect(Collectors.toUnmodifiableList());
+	}
+}
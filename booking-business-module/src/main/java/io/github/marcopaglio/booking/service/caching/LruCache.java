@@ -0,0 +1,217 @@
+package io.github.marcopaglio.booking.service.caching;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe map bounded both in size and in time: once full, the least recently
+ * used entry is evicted; an entry older than the time-to-live is evicted on access.
+ * The cache also keeps counters of hits, misses and evictions.
+ * 
+ * @param <K>	the type of keys.
+ * @param <V>	the type of cached values.
+ */
+public class LruCache<K, V> {
+	/**
+	 * Maximum number of entries kept by the cache.
+	 */
+	private final int maximumSize;
+
+	/**
+	 * Duration in nanoseconds after which an entry expires.
+	 */
+	private final long timeToLiveNanos;
+
+	/**
+	 * Source of the current time in nanoseconds.
+	 */
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Entries of the cache in access order, from the least to the most recently used.
+	 */
+	private final LinkedHashMap<K, Entry<V>> entries;
+
+	/**
+	 * Number of lookups that found a live entry.
+	 */
+	private long hitCount;
+
+	/**
+	 * Number of lookups that found no live entry.
+	 */
+	private long missCount;
+
+	/**
+	 * Number of entries dropped because the cache was full or they were expired.
+	 */
+	private long evictionCount;
+
+	/**
+	 * Constructs an empty cache with the given bounds.
+	 * 
+	 * @param maximumSize		the maximum number of entries kept by the cache.
+	 * @param timeToLiveNanos	the duration in nanoseconds after which an entry expires.
+	 * @param nanoClock			the source of the current time in nanoseconds.
+	 */
+	public LruCache(int maximumSize, long timeToLiveNanos, LongSupplier nanoClock) {
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLiveNanos;
+		this.nanoClock = nanoClock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Retrieves the live value associated with the key, marking it as the most recently used.
+	 * 
+	 * @param key	the key whose value is requested.
+	 * @return		the cached value, or {@code null} if there is no live entry for {@code key}.
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry != null && isExpired(entry)) {
+			entries.remove(key);
+			evictionCount++;
+			entry = null;
+		}
+		if (entry == null) {
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		return entry.value;
+	}
+
+	/**
+	 * Associates the value with the key, evicting the least recently used entry
+	 * if the cache overflows.
+	 * 
+	 * @param key	the key of the entry.
+	 * @param value	the value to cache.
+	 */
+	public synchronized void put(K key, V value) {
+		entries.put(key, new Entry<>(value, nanoClock.getAsLong() + timeToLiveNanos));
+		if (entries.size() > maximumSize) {
+			Iterator<K> eldest = entries.keySet().iterator();
+			eldest.next();
+			eldest.remove();
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * Replaces the live value associated with the key, without refreshing its expiration.
+	 * Nothing happens if there is no live entry for the key.
+	 * 
+	 * @param key		the key of the entry.
+	 * @param updater	the function computing the new value from the cached one.
+	 */
+	public synchronized void update(K key, UnaryOperator<V> updater) {
+		Entry<V> entry = entries.get(key);
+		if (entry != null && !isExpired(entry))
+			entries.put(key, new Entry<>(updater.apply(entry.value), entry.expiresAt));
+	}
+
+	/**
+	 * Removes the entry associated with the key, if any.
+	 * 
+	 * @param key	the key of the entry to remove.
+	 */
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Removes all the entries whose value satisfies the predicate.
+	 * 
+	 * @param filter	the predicate on values of entries to remove.
+	 */
+	public synchronized void removeIf(Predicate<? super V> filter) {
+		entries.values().removeIf(entry -> filter.test(entry.value));
+	}
+
+	/**
+	 * Removes all the entries of the cache.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Retrieves the number of entries currently in the cache, including the expired ones
+	 * not yet accessed.
+	 * 
+	 * @return	the number of entries in the cache.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Retrieves the number of lookups that found a live entry.
+	 * 
+	 * @return	the number of hits.
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Retrieves the number of lookups that found no live entry.
+	 * 
+	 * @return	the number of misses.
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Retrieves the number of entries dropped because the cache was full or they were expired.
+	 * 
+	 * @return	the number of evictions.
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Checks if the entry is older than the time-to-live.
+	 * 
+	 * @param entry	the entry to check.
+	 * @return		{@code true} if {@code entry} is expired; {@code false} otherwise.
+	 */
+	private boolean isExpired(Entry<V> entry) {
+		return nanoClock.getAsLong() - entry.expiresAt >= 0;
+	}
+
+	/**
+	 * A cached value together with its expiration time.
+	 * 
+	 * @param <V>	the type of the cached value.
+	 */
+	private static final class Entry<V> {
+		/**
+		 * The cached value.
+		 */
+		private final V value;
+
+		/**
+		 * The time in nanoseconds at which the value expires.
+		 */
+		private final long expiresAt;
+
+		/**
+		 * Constructs an entry of the cache.
+		 * 
+		 * @param value		the cached value.
+		 * @param expiresAt	the time in nanoseconds at which {@code value} expires.
+		 */
+		private Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains caching decorators of the service layer for the booking application.
+ */
+package io.github.marcopaglio.booking.service.caching;
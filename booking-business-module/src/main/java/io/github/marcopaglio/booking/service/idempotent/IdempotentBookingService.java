@@ -0,0 +1,822 @@
+package io.github.marcopaglio.booking.service.idempotent;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
+import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.idempotency.IdempotencyStore;
+import io.github.marcopaglio.booking.model.BaseEntity;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
+import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.service.BulkOutcome;
+import io.github.marcopaglio.booking.service.caching.LruCache;
+
+/**
+ * Implements a decorator of {@code BookingService} that executes the mutations carrying
+ * an idempotency key at most once: a retry with the same key returns the result of
+ * the first successful request instead of failing because the request has already
+ * been applied. Served requests are remembered in a bounded in-memory cache, in front of
+ * an {@code IdempotencyStore} shared with other instances and surviving restarts.
+ * Only successful requests are remembered, so that a failed request can be retried.
+ * Note: a request is remembered after its transaction, hence a crash in between makes
+ * a retry execute it again.
+ */
+public class IdempotentBookingService implements BookingService {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(IdempotentBookingService.class);
+
+	/**
+	 * Name of the operation inserting a client.
+	 */
+	private static final String INSERT_CLIENT = "insertNewClient";
+
+	/**
+	 * Name of the operation inserting a reservation.
+	 */
+	private static final String INSERT_RESERVATION = "insertNewReservation";
+
+	/**
+	 * Name of the operation removing a client by identifier.
+	 */
+	private static final String REMOVE_CLIENT = "removeClient";
+
+	/**
+	 * Name of the operation removing a reservation by identifier.
+	 */
+	private static final String REMOVE_RESERVATION = "removeReservation";
+
+	/**
+	 * Name of the operation removing a client by names.
+	 */
+	private static final String REMOVE_CLIENT_NAMED = "removeClientNamed";
+
+	/**
+	 * Name of the operation removing a reservation by resource and date.
+	 */
+	private static final String REMOVE_RESERVATION_ON = "removeReservationOn";
+
+	/**
+	 * Name of the operation renaming a client.
+	 */
+	private static final String RENAME_CLIENT = "renameClient";
+
+	/**
+	 * Name of the operation rescheduling a reservation.
+	 */
+	private static final String RESCHEDULE_RESERVATION = "rescheduleReservation";
+
+	/**
+	 * The service executing the requests.
+	 */
+	private final BookingService delegate;
+
+	/**
+	 * The store remembering the served requests beyond this instance.
+	 */
+	private final IdempotencyStore store;
+
+	/**
+	 * Cache of the results of served requests by their idempotency key.
+	 */
+	private final LruCache<UUID, Replay> served;
+
+	/**
+	 * Locks of the keys whose requests are being served, so that concurrent retries
+	 * wait for the first one instead of executing the request again.
+	 */
+	private final ConcurrentMap<UUID, Object> inFlight;
+
+	/**
+	 * Constructs an idempotent decorator of a booking service.
+	 *
+	 * @param delegate					the {@code BookingService} executing the requests.
+	 * @param store						the {@code IdempotencyStore} remembering the served requests.
+	 * @param maximumSize				the maximum number of served requests kept in memory.
+	 * @param timeToLive				the duration after which a served request is forgotten
+	 * 									from memory.
+	 * @throws IllegalArgumentException	if {@code delegate}, {@code store} or {@code timeToLive}
+	 * 									is null, or if {@code maximumSize} or {@code timeToLive}
+	 * 									is not positive.
+	 */
+	public IdempotentBookingService(BookingService delegate, IdempotencyStore store, int maximumSize,
+			Duration timeToLive) throws IllegalArgumentException {
+		this(delegate, store, maximumSize, timeToLive, System::nanoTime);
+	}
+
+	/**
+	 * Constructs an idempotent decorator of a booking service whose served requests
+	 * are forgotten from memory according to the given clock.
+	 *
+	 * @param delegate					the {@code BookingService} executing the requests.
+	 * @param store						the {@code IdempotencyStore} remembering the served requests.
+	 * @param maximumSize				the maximum number of served requests kept in memory.
+	 * @param timeToLive				the duration after which a served request is forgotten
+	 * 									from memory.
+	 * @param nanoClock					the source of the current time in nanoseconds.
+	 * @throws IllegalArgumentException	if {@code delegate}, {@code store} or {@code timeToLive}
+	 * 									is null, or if {@code maximumSize} or {@code timeToLive}
+	 * 									is not positive.
+	 */
+	IdempotentBookingService(BookingService delegate, IdempotencyStore store, int maximumSize,
+			Duration timeToLive, LongSupplier nanoClock) throws IllegalArgumentException {
+		if (delegate == null)
+			throw new IllegalArgumentException("Booking service to decorate cannot be null.");
+		if (store == null)
+			throw new IllegalArgumentException("Store of idempotency keys cannot be null.");
+		if (maximumSize <= 0)
+			throw new IllegalArgumentException("Maximum size of served requests must be positive.");
+		if (timeToLive == null)
+			throw new IllegalArgumentException("Time-to-live of served requests cannot be null.");
+		if (timeToLive.isNegative() || timeToLive.isZero())
+			throw new IllegalArgumentException("Time-to-live of served requests must be positive.");
+
+		this.delegate = delegate;
+		this.store = store;
+		this.served = new LruCache<>(maximumSize, timeToLive.toNanos(), nanoClock);
+		this.inFlight = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Retrieves all the clients saved in the database from the decorated service.
+	 *
+	 * @return						the list of clients found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Client> findAllClients() throws DatabaseException {
+		return delegate.findAllClients();
+	}
+
+	/**
+	 * Retrieves all the reservations saved in the database from the decorated service.
+	 *
+	 * @return						the list of reservations found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findAllReservations() throws DatabaseException {
+		return delegate.findAllReservations();
+	}
+
+	/**
+	 * Retrieves all the clients together with their reservations from the decorated service.
+	 *
+	 * @return						the {@code BookingSnapshot} of the clients and their reservations.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public BookingSnapshot snapshot() throws DatabaseException {
+		return delegate.snapshot();
+	}
+
+	/**
+	 * Retrieves the client with the specified id from the decorated service.
+	 *
+	 * @param id							the identifier of the client to find.
+	 * @return								the {@code Client} identified by {@code id}.
+	 * @throws InstanceNotFoundException	if there is no client with that id in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Client findClient(UUID id) throws InstanceNotFoundException, DatabaseException {
+		return delegate.findClient(id);
+	}
+
+	/**
+	 * Retrieves the reservation with the specified id from the decorated service.
+	 *
+	 * @param id							the identifier of the reservation to find.
+	 * @return								the {@code Reservation} identified by {@code id}.
+	 * @throws InstanceNotFoundException	if there is no reservation with that id in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Reservation findReservation(UUID id) throws InstanceNotFoundException, DatabaseException {
+		return delegate.findReservation(id);
+	}
+
+	/**
+	 * Retrieves the client with specified name and surname from the decorated service.
+	 *
+	 * @param firstName						the name of the client to find.
+	 * @param lastName						the surname of the client to find.
+	 * @return								the {@code Client} named {@code firstName}
+	 * 										and {@code lastName}.
+	 * @throws InstanceNotFoundException	if there is no client with those names in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Client findClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException {
+		return delegate.findClientNamed(firstName, lastName);
+	}
+
+	/**
+	 * Retrieves the clients matching the specified query from the decorated service.
+	 *
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the list of at most {@code limit} clients matching
+	 * 									{@code query}, from the most to the least relevant.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public List<Client> searchClients(String query, int limit) throws IllegalArgumentException, DatabaseException {
+		return delegate.searchClients(query, limit);
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified resource from the decorated service.
+	 *
+	 * @param resource				the booked resource.
+	 * @return						the list of reservations of {@code resource} found in the database.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findAllReservationsOf(String resource) throws DatabaseException {
+		return delegate.findAllReservationsOf(resource);
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified client, including the archived ones,
+	 * from the decorated service.
+	 *
+	 * @param clientId				the identifier of the client.
+	 * @return						the list of reservations of {@code clientId}, in use and archived.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	@Override
+	public List<Reservation> findReservationHistoryOf(UUID clientId) throws DatabaseException {
+		return delegate.findReservationHistoryOf(clientId);
+	}
+
+	/**
+	 * Retrieves the reservation of the specified resource on the specified date
+	 * from the decorated service.
+	 *
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to find.
+	 * @return								the {@code Reservation} of {@code resource} on {@code date}.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public Reservation findReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		return delegate.findReservationOn(resource, date);
+	}
+
+	/**
+	 * Retrieves the first date without reservation on or after the specified one
+	 * from the decorated service.
+	 *
+	 * @param from						the first date to consider.
+	 * @return							the earliest free {@code LocalDate} not before {@code from}.
+	 * @throws IllegalArgumentException	if {@code from} is null.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public LocalDate findNextFreeDate(LocalDate from) throws IllegalArgumentException, DatabaseException {
+		return delegate.findNextFreeDate(from);
+	}
+
+	/**
+	 * Retrieves the dates without reservation in the specified range from the decorated service.
+	 *
+	 * @param from						the first date of the range.
+	 * @param to						the last date of the range.
+	 * @return							the {@code List} of free dates between {@code from}
+	 * 									and {@code to}, both included, in chronological order.
+	 * @throws IllegalArgumentException	if {@code from} or {@code to} is null,
+	 * 									or if {@code from} is after {@code to}.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public List<LocalDate> findFreeDates(LocalDate from, LocalDate to) throws IllegalArgumentException, DatabaseException {
+		return delegate.findFreeDates(from, to);
+	}
+
+	/**
+	 * Retrieves the occupancy statistics of the reservations from the decorated service.
+	 *
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the reservations.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public OccupancyReport getOccupancyReport(int topClientsLimit) throws IllegalArgumentException, DatabaseException {
+		return delegate.getOccupancyReport(topClientsLimit);
+	}
+
+	/**
+	 * Retrieves a page of the reservations from the decorated service.
+	 *
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code ReservationPage} read.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	@Override
+	public ReservationPage findReservationsPage(int offset, int limit) throws IllegalArgumentException, DatabaseException {
+		return delegate.findReservationsPage(offset, limit);
+	}
+
+	/**
+	 * Adds a new client in the database through the decorated service.
+	 *
+	 * @param client							the client to insert.
+	 * @return									the {@code Client} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code client} is already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client insertNewClient(Client client) throws InstanceAlreadyExistsException, DatabaseException {
+		return delegate.insertNewClient(client);
+	}
+
+	/**
+	 * Adds a new client in the database at most once for the specified idempotency key.
+	 * A retry returns the client resulting from the first request.
+	 *
+	 * @param client							the client to insert.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Client} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code client} is already in the database.
+	 * @throws IllegalArgumentException			if {@code idempotencyKey} has been used
+	 * 											by another operation.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client insertNewClient(Client client, UUID idempotencyKey) throws InstanceAlreadyExistsException, IllegalArgumentException, DatabaseException {
+		return once(idempotencyKey, INSERT_CLIENT, () -> delegate.insertNewClient(client));
+	}
+
+	/**
+	 * Adds a new reservation in the database through the decorated service.
+	 *
+	 * @param reservation						the reservation to insert.
+	 * @return									the {@code Reservation} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code reservation} is already
+	 * 											in the database.
+	 * @throws InstanceNotFoundException		if the associated {@code client} doesn't
+	 * 											exist in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation insertNewReservation(Reservation reservation) throws InstanceAlreadyExistsException, InstanceNotFoundException, DatabaseException {
+		return delegate.insertNewReservation(reservation);
+	}
+
+	/**
+	 * Adds a new reservation in the database at most once for the specified idempotency key.
+	 * A retry returns the reservation resulting from the first request.
+	 *
+	 * @param reservation						the reservation to insert.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Reservation} inserted.
+	 * @throws InstanceAlreadyExistsException	if {@code reservation} is already
+	 * 											in the database.
+	 * @throws InstanceNotFoundException		if the associated {@code client} doesn't
+	 * 											exist in the database.
+	 * @throws IllegalArgumentException			if {@code idempotencyKey} has been used
+	 * 											by another operation.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation insertNewReservation(Reservation reservation, UUID idempotencyKey) throws InstanceAlreadyExistsException, InstanceNotFoundException, IllegalArgumentException, DatabaseException {
+		return once(idempotencyKey, INSERT_RESERVATION, () -> delegate.insertNewReservation(reservation));
+	}
+
+	/**
+	 * Adds new clients in the database as a single bulk through the decorated service.
+	 *
+	 * @param clients						the clients to insert.
+	 * @return								the {@code List} of outcomes, one for each client
+	 * 										in the same order of {@code clients}.
+	 * @throws IllegalArgumentException		if {@code clients} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewClients(List<Client> clients) throws IllegalArgumentException, DatabaseException {
+		return delegate.insertNewClients(clients);
+	}
+
+	/**
+	 * Adds new reservations in the database as a single bulk through the decorated service.
+	 *
+	 * @param reservations					the reservations to insert.
+	 * @return								the {@code List} of outcomes, one for each reservation
+	 * 										in the same order of {@code reservations}.
+	 * @throws IllegalArgumentException		if {@code reservations} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewReservations(List<Reservation> reservations) throws IllegalArgumentException, DatabaseException {
+		return delegate.insertNewReservations(reservations);
+	}
+
+	/**
+	 * Deletes the client with the specified id and all his reservation from the database
+	 * through the decorated service.
+	 *
+	 * @param id							the identifier of the client to remove.
+	 * @throws InstanceNotFoundException	if there is no client with that identifier in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClient(UUID id) throws InstanceNotFoundException, DatabaseException {
+		delegate.removeClient(id);
+	}
+
+	/**
+	 * Deletes the client with the specified id and all his reservation from the database
+	 * at most once for the specified idempotency key.
+	 *
+	 * @param id							the identifier of the client to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no client with that identifier in the database.
+	 * @throws IllegalArgumentException		if {@code idempotencyKey} has been used
+	 * 										by another operation.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClient(UUID id, UUID idempotencyKey) throws InstanceNotFoundException, IllegalArgumentException, DatabaseException {
+		once(idempotencyKey, REMOVE_CLIENT, () -> delegate.removeClient(id));
+	}
+
+	/**
+	 * Deletes the reservation with the specified id from the database
+	 * through the decorated service.
+	 *
+	 * @param id							the identifier of the reservation to remove.
+	 * @throws InstanceNotFoundException	if there is no reservation with that identifier
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservation(UUID id) throws InstanceNotFoundException, DatabaseException {
+		delegate.removeReservation(id);
+	}
+
+	/**
+	 * Deletes the reservation with the specified id from the database at most once
+	 * for the specified idempotency key.
+	 *
+	 * @param id							the identifier of the reservation to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no reservation with that identifier
+	 * 										in the database.
+	 * @throws IllegalArgumentException		if {@code idempotencyKey} has been used
+	 * 										by another operation.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservation(UUID id, UUID idempotencyKey) throws InstanceNotFoundException, IllegalArgumentException, DatabaseException {
+		once(idempotencyKey, REMOVE_RESERVATION, () -> delegate.removeReservation(id));
+	}
+
+	/**
+	 * Deletes the client with specified name and surname and all his reservation
+	 * from the database through the decorated service.
+	 *
+	 * @param firstName						the name of the client to remove.
+	 * @param lastName						the surname of the client to remove.
+	 * @throws InstanceNotFoundException	if there is no client with those names
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException {
+		delegate.removeClientNamed(firstName, lastName);
+	}
+
+	/**
+	 * Deletes the client with specified name and surname and all his reservation
+	 * from the database at most once for the specified idempotency key.
+	 *
+	 * @param firstName						the name of the client to remove.
+	 * @param lastName						the surname of the client to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no client with those names
+	 * 										in the database.
+	 * @throws IllegalArgumentException		if {@code idempotencyKey} has been used
+	 * 										by another operation.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeClientNamed(String firstName, String lastName, UUID idempotencyKey) throws InstanceNotFoundException, IllegalArgumentException, DatabaseException {
+		once(idempotencyKey, REMOVE_CLIENT_NAMED, () -> delegate.removeClientNamed(firstName, lastName));
+	}
+
+	/**
+	 * Deletes the reservation of the specified resource on the specified date from the database
+	 * through the decorated service.
+	 *
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to remove.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
+		delegate.removeReservationOn(resource, date);
+	}
+
+	/**
+	 * Deletes the reservation of the specified resource on the specified date from the database
+	 * at most once for the specified idempotency key.
+	 *
+	 * @param resource						the booked resource.
+	 * @param date							the date of the reservation to remove.
+	 * @param idempotencyKey				the key identifying the request among its retries,
+	 * 										or {@code null} for a request never retried.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
+	 * @throws IllegalArgumentException		if {@code idempotencyKey} has been used
+	 * 										by another operation.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public void removeReservationOn(String resource, LocalDate date, UUID idempotencyKey) throws InstanceNotFoundException, IllegalArgumentException, DatabaseException {
+		once(idempotencyKey, REMOVE_RESERVATION_ON, () -> delegate.removeReservationOn(resource, date));
+	}
+
+	/**
+	 * Deletes the reservations on the specified dates from the database as a single bulk
+	 * through the decorated service.
+	 *
+	 * @param dates							the dates of the reservations to remove.
+	 * @return								the {@code List} of outcomes, one for each date
+	 * 										in the iteration order of {@code dates}.
+	 * @throws IllegalArgumentException		if {@code dates} or any of them is null.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public List<BulkOutcome> removeReservationsOn(Collection<LocalDate> dates) throws IllegalArgumentException, DatabaseException {
+		return delegate.removeReservationsOn(dates);
+	}
+
+	/**
+	 * Moves all the reservations dated before the specified horizon into the archive
+	 * of the database through the decorated service. Archiving is idempotent by itself.
+	 *
+	 * @param horizon						the date from which reservations are kept in use.
+	 * @param batchSize						the maximum number of reservations moved at once.
+	 * @return								the number of reservations archived.
+	 * @throws IllegalArgumentException		if {@code horizon} is null or {@code batchSize} is not positive.
+	 * @throws DatabaseException			if a database error occurs.
+	 */
+	@Override
+	public int archiveReservationsBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException, DatabaseException {
+		return delegate.archiveReservationsBefore(horizon, batchSize);
+	}
+
+	/**
+	 * Changes name and surname of the client with the specified id in the database
+	 * through the decorated service.
+	 *
+	 * @param id								the identifier of the client to rename.
+	 * @param newFirstName						the new name for the client.
+	 * @param newLastName						the new surname for the client.
+	 * @return									the {@code Client} renamed.
+	 * @throws InstanceNotFoundException		if there is no {@code client} with specified id
+	 * 											in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code Client} with those names is
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client renameClient(UUID id, String newFirstName, String newLastName) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return delegate.renameClient(id, newFirstName, newLastName);
+	}
+
+	/**
+	 * Changes name and surname of the client with the specified id in the database
+	 * at most once for the specified idempotency key.
+	 * A retry returns the client resulting from the first request.
+	 *
+	 * @param id								the identifier of the client to rename.
+	 * @param newFirstName						the new name for the client.
+	 * @param newLastName						the new surname for the client.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Client} renamed.
+	 * @throws InstanceNotFoundException		if there is no {@code client} with specified id
+	 * 											in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code Client} with those names is
+	 * 											already in the database.
+	 * @throws IllegalArgumentException			if {@code idempotencyKey} has been used
+	 * 											by another operation.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Client renameClient(UUID id, String newFirstName, String newLastName, UUID idempotencyKey) throws InstanceNotFoundException, InstanceAlreadyExistsException, IllegalArgumentException, DatabaseException {
+		return once(idempotencyKey, RENAME_CLIENT, () -> delegate.renameClient(id, newFirstName, newLastName));
+	}
+
+	/**
+	 * Changes date of the reservation with the specified id in the database
+	 * through the decorated service.
+	 *
+	 * @param id								the identifier of the reservation to reschedule.
+	 * @param newDate							the new date for the reservation.
+	 * @return									the {@code Reservation} rescheduled.
+	 * @throws InstanceNotFoundException		if there is no {@code reservation} with
+	 * 											specified id in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code reservation} with that date is
+	 * 											already in the database.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation rescheduleReservation(UUID id, LocalDate newDate) throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
+		return delegate.rescheduleReservation(id, newDate);
+	}
+
+	/**
+	 * Changes date of the reservation with the specified id in the database at most once
+	 * for the specified idempotency key.
+	 * A retry returns the reservation resulting from the first request.
+	 *
+	 * @param id								the identifier of the reservation to reschedule.
+	 * @param newDate							the new date for the reservation.
+	 * @param idempotencyKey					the key identifying the request among its retries,
+	 * 											or {@code null} for a request never retried.
+	 * @return									the {@code Reservation} rescheduled.
+	 * @throws InstanceNotFoundException		if there is no {@code reservation} with
+	 * 											specified id in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code reservation} with that date is
+	 * 											already in the database.
+	 * @throws IllegalArgumentException			if {@code idempotencyKey} has been used
+	 * 											by another operation.
+	 * @throws DatabaseException				if a database error occurs.
+	 */
+	@Override
+	public Reservation rescheduleReservation(UUID id, LocalDate newDate, UUID idempotencyKey) throws InstanceNotFoundException, InstanceAlreadyExistsException, IllegalArgumentException, DatabaseException {
+		return once(idempotencyKey, RESCHEDULE_RESERVATION, () -> delegate.rescheduleReservation(id, newDate));
+	}
+
+	/**
+	 * Executes a request returning nothing at most once for the idempotency key.
+	 *
+	 * @param key		the idempotency key of the request, or {@code null} if missing.
+	 * @param operation	the name of the requested operation.
+	 * @param request	the request to execute on the decorated service.
+	 */
+	private void once(UUID key, String operation, Runnable request) {
+		once(key, operation, () -> {
+			request.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Executes a request at most once for the idempotency key. A served request is looked up
+	 * in memory first, then in the store, which keeps the entity it resulted in. Concurrent
+	 * requests with the same key are serialized by a lock, which is dropped only after
+	 * the outcome is remembered; a request that waited for a dropped lock starts over with
+	 * the current one. Failures of the store are only logged, since the request can still
+	 * be served, though without deduplication.
+	 *
+	 * @param <R>						the type of the result of the request.
+	 * @param key						the idempotency key of the request, or {@code null}
+	 * 									if missing.
+	 * @param operation					the name of the requested operation.
+	 * @param request					the request to execute on the decorated service.
+	 * @return							the result of the first successful request with {@code key}.
+	 * @throws IllegalArgumentException	if {@code key} has been used by another operation.
+	 */
+	@SuppressWarnings("unchecked")
+	private <R extends BaseEntity> R once(UUID key, String operation, Supplier<R> request) throws IllegalArgumentException {
+		if (key == null)
+			return request.get();
+
+		while (true) {
+			Object lock = inFlight.computeIfAbsent(key, k -> new Object());
+			synchronized(lock) {
+				if (inFlight.get(key) != lock)
+					continue;
+				try {
+					Replay replay = served.get(key);
+					if (replay == null) {
+						// looked up under the lock, since another instance may have served it meanwhile
+						IdempotencyRecord record = lookUp(key);
+						if (record != null) {
+							replay = new Replay(record.getOperation(), record.getResult());
+							served.put(key, replay);
+						}
+					}
+					if (replay != null) {
+						checkOperation(key, operation, replay.operation);
+						LOGGER.debug(() -> String.format("Request %s with key %s has already been served.",
+								operation, key));
+						return (R) replay.result;
+					}
+
+					R result = request.get();
+					served.put(key, new Replay(operation, result));
+					remember(key, new IdempotencyRecord(operation, result));
+					return result;
+				} finally {
+					inFlight.remove(key, lock);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks that the key is retried for the same operation.
+	 *
+	 * @param key						the idempotency key of the request.
+	 * @param requested					the name of the requested operation.
+	 * @param served					the name of the operation served with {@code key}.
+	 * @throws IllegalArgumentException	if {@code requested} and {@code served} differ.
+	 */
+	private static void checkOperation(UUID key, String requested, String served) throws IllegalArgumentException {
+		if (!requested.equals(served))
+			throw new IllegalArgumentException(String.format(
+					"Idempotency key %s has already been used by %s.", key, served));
+	}
+
+	/**
+	 * Retrieves the record of the key from the store, considering a failure as a miss.
+	 *
+	 * @param key	the idempotency key of the request.
+	 * @return		the {@code IdempotencyRecord} of the key, or {@code null} if missing
+	 * 				or the store fails.
+	 */
+	private IdempotencyRecord lookUp(UUID key) {
+		try {
+			return store.find(key);
+		} catch(DatabaseException e) {
+			LOGGER.warn(() -> String.format("Idempotency key %s cannot be looked up: %s", key, e.getMessage()));
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the record of the key in the store, ignoring a failure.
+	 *
+	 * @param key		the idempotency key of the request.
+	 * @param record	the {@code IdempotencyRecord} of the served request.
+	 */
+	private void remember(UUID key, IdempotencyRecord record) {
+		try {
+			store.save(key, record);
+		} catch(DatabaseException e) {
+			LOGGER.warn(() -> String.format("Idempotency key %s cannot be saved: %s", key, e.getMessage()));
+		}
+	}
+
+	/**
+	 * The result of a served request together with the operation requested.
+	 */
+	private static final class Replay {
+		/**
+		 * The name of the operation served.
+		 */
+		private final String operation;
+
+		/**
+		 * The result of the operation, or {@code null} if it returns nothing.
+		 */
+		private final Object result;
+
+		/**
+		 * Constructs the replay of a served request.
+		 *
+		 * @param operation	the name of the operation served.
+		 * @param result	the result of the operation.
+		 */
+		private Replay(String operation, Object result) {
+			this.operation = operation;
+			this.result = result;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains decorators of the service layer for the booking application
+ * that execute retried requests at most once.
+ */
+package io.github.marcopaglio.booking.service.idempotent;
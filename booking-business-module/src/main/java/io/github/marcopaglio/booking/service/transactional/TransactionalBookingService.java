@@ -1,31 +1,51 @@
 package io.github.marcopaglio.booking.service.transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeListener;
 import io.github.marcopaglio.booking.exception.DatabaseException;
 import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
 import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
 import io.github.marcopaglio.booking.exception.TransactionException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 import io.github.marcopaglio.booking.repository.ClientRepository;
 import io.github.marcopaglio.booking.repository.ReservationRepository;
 import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.service.BulkOutcome;
+import io.github.marcopaglio.booking.service.availability.AvailabilityIndex;
 import io.github.marcopaglio.booking.transaction.manager.TransactionManager;
 
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+
 /**
  * Implements methods for operating on repositories of the booking application using transactions.
+ * As a listener of a change feed, it keeps the availability index in sync with the changes
+ * made by other instances of the application.
  * 
  * @see <a href="../../repository/ClientRepository.html">ClientRepository</a>
  * @see <a href="../../repository/ReservationRepository.html">ReservationRepository</a>
  */
-public class TransactionalBookingService implements BookingService{
+public class TransactionalBookingService implements BookingService, ChangeListener {
 	/**
 	 * Creates meaningful logs on behalf of the class.
 	 */
@@ -61,13 +81,36 @@ public class TransactionalBookingService implements BookingService{
 	 */
 	private TransactionManager transactionManager;
 
+	/**
+	 * Index of booked dates used for skipping the lookup of dates known to be free.
+	 * It is {@code null} when disabled.
+	 */
+	private AvailabilityIndex availabilityIndex;
+
 	/**
 	 * Constructs a service for the booking application with a transaction manager.
 	 * 
 	 * @param transactionManager	the {@code TransactionManager} used for applying transactions.
 	 */
 	public TransactionalBookingService(TransactionManager transactionManager) {
+		this(transactionManager, null);
+	}
+
+	/**
+	 * Constructs a service for the booking application with a transaction manager
+	 * and an index of booked dates. The index is loaded by the first retrieval
+	 * of all the reservations and then kept current by the service's committed writes
+	 * and by the changes of other writers, hence it should be enabled only together with
+	 * a change feed. The database remains the final authority on conflicts.
+	 * 
+	 * @param transactionManager	the {@code TransactionManager} used for applying transactions.
+	 * @param availabilityIndex		the {@code AvailabilityIndex} of booked dates,
+	 * 								or {@code null} to disable it.
+	 */
+	public TransactionalBookingService(TransactionManager transactionManager,
+			AvailabilityIndex availabilityIndex) {
 		this.transactionManager = transactionManager;
+		this.availabilityIndex = availabilityIndex;
 	}
 
 	/**
@@ -88,6 +131,7 @@ public class TransactionalBookingService implements BookingService{
 
 	/**
 	 * Retrieves all the reservations saved in the database within a transaction.
+	 * The availability index, if any, is reloaded from the retrieved reservations.
 	 * 
 	 * @return						the list of reservations found in the database.
 	 * @throws DatabaseException	if a transaction failure occurs on database.
@@ -95,7 +139,32 @@ public class TransactionalBookingService implements BookingService{
 	@Override
 	public List<Reservation> findAllReservations() throws DatabaseException {
 		try {
-			return transactionManager.doInTransaction(ReservationRepository::findAll);
+			long indexVersion = getAvailabilityIndexVersion();
+			List<Reservation> reservations = transactionManager.doInTransaction(ReservationRepository::findAll);
+			loadAvailabilityIndex(reservations, indexVersion);
+			return reservations;
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves all the clients together with their reservations from the database
+	 * with a single joined read within a transaction.
+	 * The availability index, if any, is reloaded from the retrieved reservations.
+	 * 
+	 * @return						the {@code BookingSnapshot} of the clients and their reservations.
+	 * @throws DatabaseException	if a transaction failure occurs on database.
+	 */
+	@Override
+	public BookingSnapshot snapshot() throws DatabaseException {
+		try {
+			long indexVersion = getAvailabilityIndexVersion();
+			BookingSnapshot snapshot = transactionManager.doInTransaction(
+					ClientRepository::findAllWithReservations);
+			loadAvailabilityIndex(snapshot.getReservations(), indexVersion);
+			return snapshot;
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
@@ -173,18 +242,85 @@ public class TransactionalBookingService implements BookingService{
 	}
 
 	/**
-	 * Retrieves the reservation of the specified date from the database within a transaction.
+	 * Retrieves the clients whose name or surname starts by the specified query, or whose names
+	 * resemble it, from the database within a transaction, ranked by relevance.
+	 * 
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the list of at most {@code limit} clients matching
+	 * 									{@code query}, from the most to the least relevant.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 * @throws DatabaseException		if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<Client> searchClients(String query, int limit) throws IllegalArgumentException, DatabaseException {
+		if (limit <= 0)
+			throw new IllegalArgumentException("Limit of searched clients must be positive.");
+		
+		try {
+			return transactionManager.doInTransaction(
+				(ClientRepository clientRepository) -> clientRepository.searchByName(query, limit));
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified resource saved in the database
+	 * within a transaction.
+	 * 
+	 * @param resource				the booked resource.
+	 * @return						the list of reservations of {@code resource} found in the database.
+	 * @throws DatabaseException	if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<Reservation> findAllReservationsOf(String resource) throws DatabaseException {
+		try {
+			return transactionManager.doInTransaction(
+				(ReservationRepository reservationRepository) -> reservationRepository.findByResource(resource));
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves all the reservations of the specified client, including the archived ones,
+	 * from the database within a transaction.
+	 * 
+	 * @param clientId				the identifier of the client.
+	 * @return						the list of reservations of {@code clientId}, in use and archived.
+	 * @throws DatabaseException	if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<Reservation> findReservationHistoryOf(UUID clientId) throws DatabaseException {
+		try {
+			return transactionManager.doInTransaction(
+				(ReservationRepository reservationRepository) -> reservationRepository.findHistoryByClient(clientId));
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves the reservation of the specified resource on the specified date
+	 * from the database within a transaction.
 	 * 
+	 * @param resource						the booked resource.
 	 * @param date							the date of the reservation to find.
-	 * @return								the {@code Reservation} on {@code date}.
-	 * @throws InstanceNotFoundException	if there is no reservation on that date in the database.
+	 * @return								the {@code Reservation} of {@code resource} on {@code date}.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
 	 * @throws DatabaseException			if a transaction failure occurs on database.
 	 */
 	@Override
-	public Reservation findReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException {
+	public Reservation findReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
 		try {
 			Optional<Reservation> possibleReservation = transactionManager.doInTransaction(
-				(ReservationRepository reservationRepository) -> reservationRepository.findByDate(date));
+				(ReservationRepository reservationRepository) ->
+					reservationRepository.findByResourceAndDate(resource, date));
 			if (possibleReservation.isPresent())
 				return possibleReservation.get();
 			throw new InstanceNotFoundException(RESERVATION_NOT_FOUND_ERROR_MSG);
@@ -194,6 +330,103 @@ public class TransactionalBookingService implements BookingService{
 		}
 	}
 
+	/**
+	 * Retrieves the first date without reservation of the default resource on or after
+	 * the specified one. The availability index is used if loaded, otherwise all the reservations
+	 * are retrieved from the database within a transaction.
+	 * 
+	 * @param from						the first date to consider.
+	 * @return							the earliest free {@code LocalDate} not before {@code from}.
+	 * @throws IllegalArgumentException	if {@code from} is null.
+	 * @throws DatabaseException		if a transaction failure occurs on database.
+	 */
+	@Override
+	public LocalDate findNextFreeDate(LocalDate from) throws IllegalArgumentException, DatabaseException {
+		if (from == null)
+			throw new IllegalArgumentException("Date to start from cannot be null.");
+		
+		return loadedAvailabilityIndex().nextFreeDate(from);
+	}
+
+	/**
+	 * Retrieves the dates without reservation of the default resource in the specified range.
+	 * The availability index is used if loaded, otherwise all the reservations
+	 * are retrieved from the database within a transaction.
+	 * 
+	 * @param from						the first date of the range.
+	 * @param to						the last date of the range.
+	 * @return							the {@code List} of free dates between {@code from}
+	 * 									and {@code to}, both included, in chronological order.
+	 * @throws IllegalArgumentException	if {@code from} or {@code to} is null,
+	 * 									or if {@code from} is after {@code to}.
+	 * @throws DatabaseException		if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<LocalDate> findFreeDates(LocalDate from, LocalDate to)
+			throws IllegalArgumentException, DatabaseException {
+		if (from == null || to == null)
+			throw new IllegalArgumentException("Dates of the range cannot be null.");
+		if (from.isAfter(to))
+			throw new IllegalArgumentException("Start of the range cannot be after its end.");
+		
+		return loadedAvailabilityIndex().freeDates(from, to);
+	}
+
+	/**
+	 * Retrieves the occupancy statistics of the reservations within a transaction,
+	 * so that they are aggregated by the database on a consistent state.
+	 * 
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the reservations.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 * @throws DatabaseException		if a transaction failure occurs on database.
+	 */
+	@Override
+	public OccupancyReport getOccupancyReport(int topClientsLimit)
+			throws IllegalArgumentException, DatabaseException {
+		if (topClientsLimit < 0)
+			throw new IllegalArgumentException("Limit of top clients cannot be negative.");
+		
+		try {
+			return transactionManager.doInTransaction(
+				(ReservationRepository reservationRepository) ->
+					reservationRepository.aggregateOccupancy(topClientsLimit)
+			);
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves a page of the reservations ordered by date and resource, together with
+	 * the total number of reservations, within a transaction, so that they are consistent.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code ReservationPage} read.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 * @throws DatabaseException		if a transaction failure occurs on database.
+	 */
+	@Override
+	public ReservationPage findReservationsPage(int offset, int limit)
+			throws IllegalArgumentException, DatabaseException {
+		if (offset < 0)
+			throw new IllegalArgumentException("Offset of page cannot be negative.");
+		if (limit <= 0)
+			throw new IllegalArgumentException("Size of page must be positive.");
+		
+		try {
+			return transactionManager.doInTransaction(
+				(ReservationRepository reservationRepository) -> new ReservationPage(offset,
+					reservationRepository.count(), reservationRepository.findPage(offset, limit))
+			);
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
 	/**
 	 * Adds a new client in the database within a transaction.
 	 * This method checks if the client is present in the database before inserting.
@@ -226,7 +459,8 @@ public class TransactionalBookingService implements BookingService{
 	/**
 	 * Adds a new reservation in the database within a transaction.
 	 * This method checks if the reservation is not present and the associated client is present
-	 * in the database before inserting.
+	 * in the database before inserting. The check of dates of the default resource known
+	 * to be free by the availability index is left to the uniqueness constraint of the database.
 	 * 
 	 * @param reservation						the reservation to insert.
 	 * @return									the {@code Reservation} inserted.
@@ -238,23 +472,128 @@ public class TransactionalBookingService implements BookingService{
 	@Override
 	public Reservation insertNewReservation(Reservation reservation)
 			throws InstanceAlreadyExistsException, InstanceNotFoundException, DatabaseException {
+		boolean knownAsFree = isKnownAsFree(reservation.getResource(), reservation.getDate());
+		
+		try {
+			Reservation insertedReservation = transactionManager.doInTransaction(
+				(ClientRepository clientRepository, ReservationRepository reservationRepository) -> {
+					if (!knownAsFree && reservationRepository
+							.findByResourceAndDate(reservation.getResource(), reservation.getDate()).isPresent())
+						throw new InstanceAlreadyExistsException(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
+					Optional<Client> possibleClient = clientRepository.findById(reservation.getClientId());
+					if (possibleClient.isPresent())
+						return reservationRepository.save(reservation);
+					throw new InstanceNotFoundException(CLIENT_NOT_FOUND_ERROR_MSG);
+				}
+			);
+			markAsBooked(insertedReservation);
+			return insertedReservation;
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Adds new clients in the database within a single transaction.
+	 * This method checks which clients are already present in the database with a single query
+	 * and inserts the others in a single batch.
+	 * 
+	 * @param clients						the clients to insert.
+	 * @return								the {@code List} of outcomes, one for each client
+	 * 										in the same order of {@code clients}: either
+	 * 										{@code INSERTED} or {@code ALREADY_EXISTS}.
+	 * @throws IllegalArgumentException		if {@code clients} or any of them is null.
+	 * @throws DatabaseException			if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewClients(List<Client> clients)
+			throws IllegalArgumentException, DatabaseException {
+		checkBulkInput(clients, "Clients to insert");
+		if (clients.isEmpty())
+			return List.of();
+		
 		try {
 			return transactionManager.doInTransaction(
+				(ClientRepository clientRepository) -> {
+					Set<Client> presentClients = new HashSet<>(clientRepository.findByNames(clients));
+					List<Client> clientsToInsert = new ArrayList<>();
+					List<BulkOutcome> outcomes = new ArrayList<>(clients.size());
+					for (Client client : clients) {
+						if (presentClients.add(client)) {
+							clientsToInsert.add(client);
+							outcomes.add(BulkOutcome.INSERTED);
+						} else
+							outcomes.add(BulkOutcome.ALREADY_EXISTS);
+					}
+					clientRepository.insertAll(clientsToInsert);
+					return outcomes;
+				}
+			);
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Adds new reservations in the database within a single transaction.
+	 * This method checks which dates are already booked, for each resource, and which
+	 * associated clients are present in the database with a single query each, and inserts
+	 * the remaining reservations in a single batch.
+	 * 
+	 * @param reservations					the reservations to insert.
+	 * @return								the {@code List} of outcomes, one for each reservation
+	 * 										in the same order of {@code reservations}: either
+	 * 										{@code INSERTED}, {@code ALREADY_EXISTS} or
+	 * 										{@code CLIENT_NOT_FOUND}.
+	 * @throws IllegalArgumentException		if {@code reservations} or any of them is null.
+	 * @throws DatabaseException			if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<BulkOutcome> insertNewReservations(List<Reservation> reservations)
+			throws IllegalArgumentException, DatabaseException {
+		checkBulkInput(reservations, "Reservations to insert");
+		if (reservations.isEmpty())
+			return List.of();
+		
+		try {
+			List<BulkOutcome> outcomes = transactionManager.doInTransaction(
 				(ClientRepository clientRepository, ReservationRepository reservationRepository) -> {
-					Optional<Reservation> possibleReservation =
-							reservationRepository.findByDate(reservation.getDate());
-					if (possibleReservation.isEmpty()) {
-						Optional<Client> possibleClient = clientRepository.findById(reservation.getClientId());
-						if (possibleClient.isPresent()) {
-							return reservationRepository.save(reservation);
+					Set<Reservation> bookedSlots = reservationRepository
+							.findByDates(reservations.stream().map(Reservation::getDate).distinct().toList())
+							.stream().map(TransactionalBookingService::slotOf)
+							.collect(Collectors.toCollection(HashSet::new));
+					Set<UUID> presentClientIds = clientRepository
+							.findByIds(reservations.stream().map(Reservation::getClientId).distinct().toList())
+							.stream().map(Client::getId)
+							.collect(Collectors.toSet());
+					List<Reservation> reservationsToInsert = new ArrayList<>();
+					List<BulkOutcome> reservationOutcomes = new ArrayList<>(reservations.size());
+					for (Reservation reservation : reservations) {
+						if (bookedSlots.contains(slotOf(reservation)))
+							reservationOutcomes.add(BulkOutcome.ALREADY_EXISTS);
+						else if (!presentClientIds.contains(reservation.getClientId()))
+							reservationOutcomes.add(BulkOutcome.CLIENT_NOT_FOUND);
+						else {
+							bookedSlots.add(slotOf(reservation));
+							reservationsToInsert.add(reservation);
+							reservationOutcomes.add(BulkOutcome.INSERTED);
 						}
-						throw new InstanceNotFoundException(CLIENT_NOT_FOUND_ERROR_MSG);
 					}
-					throw new InstanceAlreadyExistsException(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
+					reservationRepository.insertAll(reservationsToInsert);
+					return reservationOutcomes;
 				}
 			);
+			// the slots of the reservations inserted or already existing are booked
+			for (int i = 0; i < reservations.size(); i++)
+				if (outcomes.get(i) != BulkOutcome.CLIENT_NOT_FOUND)
+					markAsBooked(reservations.get(i));
+			return outcomes;
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
@@ -271,7 +610,7 @@ public class TransactionalBookingService implements BookingService{
 	@Override
 	public void removeClient(UUID id) throws InstanceNotFoundException, DatabaseException {
 		try {
-			transactionManager.doInTransaction(
+			List<Reservation> removedReservations = transactionManager.doInTransaction(
 				(ClientRepository clientRepository, ReservationRepository reservationRepository) -> {
 					Optional<Client> possibleClient = clientRepository.findById(id);
 					if (possibleClient.isPresent()) {
@@ -279,13 +618,15 @@ public class TransactionalBookingService implements BookingService{
 						for (Reservation reservation : reservationList)
 							reservationRepository.delete(reservation);
 						clientRepository.delete(possibleClient.get());
-						return null;
+						return reservationList;
 					}
 					throw new InstanceNotFoundException(CLIENT_NOT_FOUND_ERROR_MSG);
 				}
 			);
+			removedReservations.forEach(this::markAsFree);
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
@@ -301,18 +642,20 @@ public class TransactionalBookingService implements BookingService{
 	@Override
 	public void removeReservation(UUID id) throws InstanceNotFoundException, DatabaseException {
 		try {
-			transactionManager.doInTransaction(
+			Reservation removedReservation = transactionManager.doInTransaction(
 				(ReservationRepository reservationRepository) -> {
 					Optional<Reservation> possibleReservation = reservationRepository.findById(id);
 					if (possibleReservation.isPresent()) {
 						reservationRepository.delete(possibleReservation.get());
-						return null;
+						return possibleReservation.get();
 					}
 					throw new InstanceNotFoundException(RESERVATION_NOT_FOUND_ERROR_MSG);
 				}
 			);
+			markAsFree(removedReservation);
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
@@ -330,7 +673,7 @@ public class TransactionalBookingService implements BookingService{
 	@Override
 	public void removeClientNamed(String firstName, String lastName) throws InstanceNotFoundException, DatabaseException {
 		try {
-			transactionManager.doInTransaction(
+			List<Reservation> removedReservations = transactionManager.doInTransaction(
 				(ClientRepository clientRepository, ReservationRepository reservationRepository) -> {
 					Optional<Client> possibleClient = clientRepository.findByName(firstName, lastName);
 					if (possibleClient.isPresent()) {
@@ -340,44 +683,141 @@ public class TransactionalBookingService implements BookingService{
 						for (Reservation reservation : reservationList)
 							reservationRepository.delete(reservation);
 						clientRepository.delete(clientToRemove);
-						return null;
+						return reservationList;
 					}
 					throw new InstanceNotFoundException(CLIENT_NOT_FOUND_ERROR_MSG);
 				}
 			);
+			removedReservations.forEach(this::markAsFree);
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
 
 	/**
-	 * Deletes the reservation of the specified date from the database within a transaction.
+	 * Deletes the reservation of the specified resource on the specified date from the database
+	 * within a transaction.
 	 * This method checks if the reservation is present in the database before removing.
 	 * 
+	 * @param resource						the booked resource.
 	 * @param date							the date of the reservation to find.
-	 * @throws InstanceNotFoundException	if there is no reservation on that date in the database.
+	 * @throws InstanceNotFoundException	if there is no reservation of that resource on that date
+	 * 										in the database.
 	 * @throws DatabaseException			if a transaction failure occurs on database.
 	 */
 	@Override
-	public void removeReservationOn(LocalDate date) throws InstanceNotFoundException, DatabaseException {
+	public void removeReservationOn(String resource, LocalDate date) throws InstanceNotFoundException, DatabaseException {
 		try {
-			transactionManager.doInTransaction(
+			Reservation removedReservation = transactionManager.doInTransaction(
 				(ReservationRepository reservationRepository) -> {
-					Optional<Reservation> possibleReservation = reservationRepository.findByDate(date);
+					Optional<Reservation> possibleReservation =
+							reservationRepository.findByResourceAndDate(resource, date);
 					if (possibleReservation.isPresent()) {
 						reservationRepository.delete(possibleReservation.get());
-						return null;
+						return possibleReservation.get();
 					}
 					throw new InstanceNotFoundException(RESERVATION_NOT_FOUND_ERROR_MSG);
 				}
 			);
+			markAsFree(removedReservation);
+		} catch(TransactionException e) {
+			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
+			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+		}
+	}
+
+	/**
+	 * Deletes the reservations of the default resource on the specified dates from the database
+	 * within a single transaction. This method retrieves the reservations with a single query
+	 * and removes the found ones with a single statement.
+	 * 
+	 * @param dates							the dates of the reservations to remove.
+	 * @return								the {@code List} of outcomes, one for each date
+	 * 										in the iteration order of {@code dates}: either
+	 * 										{@code REMOVED} or {@code NOT_FOUND}.
+	 * @throws IllegalArgumentException		if {@code dates} or any of them is null.
+	 * @throws DatabaseException			if a transaction failure occurs on database.
+	 */
+	@Override
+	public List<BulkOutcome> removeReservationsOn(Collection<LocalDate> dates)
+			throws IllegalArgumentException, DatabaseException {
+		checkBulkInput(dates, "Dates of reservations to remove");
+		if (dates.isEmpty())
+			return List.of();
+		
+		try {
+			List<BulkOutcome> outcomes = transactionManager.doInTransaction(
+				(ReservationRepository reservationRepository) -> {
+					Map<LocalDate, Reservation> foundReservations = reservationRepository
+							.findByDates(dates.stream().distinct().toList())
+							.stream().filter(reservation -> DEFAULT_RESOURCE.equals(reservation.getResource()))
+							.collect(Collectors.toMap(Reservation::getDate, Function.identity()));
+					List<Reservation> reservationsToDelete = new ArrayList<>();
+					List<BulkOutcome> dateOutcomes = new ArrayList<>(dates.size());
+					for (LocalDate date : dates) {
+						Reservation reservation = foundReservations.remove(date);
+						if (reservation != null) {
+							reservationsToDelete.add(reservation);
+							dateOutcomes.add(BulkOutcome.REMOVED);
+						} else
+							dateOutcomes.add(BulkOutcome.NOT_FOUND);
+					}
+					reservationRepository.deleteAll(reservationsToDelete);
+					return dateOutcomes;
+				}
+			);
+			dates.forEach(date -> markAsFree(DEFAULT_RESOURCE, date));
+			return outcomes;
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
 
+	/**
+	 * Moves all the reservations dated before the specified horizon into the archive
+	 * of the database, with a transaction for each batch so that locks are held briefly.
+	 * Archiving stops at the first batch smaller than {@code batchSize}.
+	 * Note: if a transaction fails, the batches already committed stay archived.
+	 * 
+	 * @param horizon						the date from which reservations are kept in use.
+	 * @param batchSize						the maximum number of reservations moved at once.
+	 * @return								the number of reservations archived.
+	 * @throws IllegalArgumentException		if {@code horizon} is null or {@code batchSize} is not positive.
+	 * @throws DatabaseException			if a transaction failure occurs on database.
+	 */
+	@Override
+	public int archiveReservationsBefore(LocalDate horizon, int batchSize)
+			throws IllegalArgumentException, DatabaseException {
+		if (horizon == null)
+			throw new IllegalArgumentException("Horizon of archiving cannot be null.");
+		if (batchSize <= 0)
+			throw new IllegalArgumentException("Size of archiving batches must be positive.");
+		
+		int archivedCount = 0;
+		int batchCount;
+		do {
+			try {
+				List<Reservation> archived = transactionManager.doInTransaction(
+					(ReservationRepository reservationRepository) ->
+						reservationRepository.archiveBefore(horizon, batchSize)
+				);
+				archived.forEach(this::markAsFree);
+				batchCount = archived.size();
+			} catch(TransactionException e) {
+				LOGGER.warn(e.getMessage());
+				invalidateAvailabilityIndex();
+				throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
+			}
+			archivedCount += batchCount;
+		} while (batchCount == batchSize);
+		return archivedCount;
+	}
+
 	/**
 	 * Changes name and surname of the client with the specified id in the database
 	 * within a transaction.
@@ -419,39 +859,238 @@ public class TransactionalBookingService implements BookingService{
 
 	/**
 	 * Changes date of the reservation with the specified id in the database
-	 * within a transaction.
+	 * within a transaction. The check of dates of the default resource known to be free
+	 * by the availability index is left to the uniqueness constraint of the database.
 	 * 
 	 * @param id								the identifier of the reservation to reschedule.
 	 * @param newDate							the new date for the reservation.
 	 * @return									the {@code Reservation} rescheduled.
 	 * @throws InstanceNotFoundException		if there is no {@code reservation} with
 	 * 											specified id in the database.
-	 * @throws InstanceAlreadyExistsException	if a {@code reservation} with that date is 
-	 * 											already in the database.
+	 * @throws InstanceAlreadyExistsException	if a {@code reservation} of the same resource
+	 * 											with that date is already in the database.
 	 * @throws DatabaseException				if a database error occurs.
 	 */
 	@Override
 	public Reservation rescheduleReservation(UUID id, LocalDate newDate)
 			throws InstanceNotFoundException, InstanceAlreadyExistsException, DatabaseException {
 		try {
-			return transactionManager.doInTransaction(
+			Map.Entry<LocalDate, Reservation> rescheduling = transactionManager.doInTransaction(
 				(ReservationRepository reservationRepository) -> {
 					Optional<Reservation> possibleReservationInDB =
 							reservationRepository.findById(id);
 					if (possibleReservationInDB.isEmpty())
 						throw new InstanceNotFoundException(RESERVATION_NOT_FOUND_ERROR_MSG);
-					Optional<Reservation> possibleSameDateReservation =
-							reservationRepository.findByDate(newDate);
-					if (possibleSameDateReservation.isPresent())
-						throw new InstanceAlreadyExistsException(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
 					Reservation reservationInDB = possibleReservationInDB.get();
+					String resource = reservationInDB.getResource();
+					if (!isKnownAsFree(resource, newDate) && reservationRepository
+							.findByResourceAndDate(resource, newDate).isPresent())
+						throw new InstanceAlreadyExistsException(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
+					LocalDate oldDate = reservationInDB.getDate();
 					reservationInDB.setDate(newDate);
-					return reservationRepository.save(reservationInDB);
+					return Map.entry(oldDate, reservationRepository.save(reservationInDB));
 				}
 			);
+			Reservation rescheduledReservation = rescheduling.getValue();
+			markAsFree(rescheduledReservation.getResource(), rescheduling.getKey());
+			markAsBooked(rescheduledReservation);
+			return rescheduledReservation;
 		} catch(TransactionException e) {
 			LOGGER.warn(e.getMessage());
+			invalidateAvailabilityIndex();
 			throw new DatabaseException(DATABASE_ERROR_MSG, e.getCause());
 		}
 	}
+
+	/**
+	 * Checks that the input of a bulk operation and all its items are not null.
+	 * 
+	 * @param items						the input of the bulk operation.
+	 * @param inputName					the name of the input used in the error message.
+	 * @throws IllegalArgumentException	if {@code items} or any of them is null.
+	 */
+	private void checkBulkInput(Collection<?> items, String inputName) throws IllegalArgumentException {
+		if (items == null || items.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException(inputName + " cannot be null.");
+	}
+
+	/**
+	 * Ignores the change of a client, since clients do not affect the availability index.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the client.
+	 */
+	@Override
+	public void clientChanged(ChangeEvent<Client> event) {
+		// clients do not occupy dates
+	}
+
+	/**
+	 * Applies the change of a reservation to the availability index, if any.
+	 * The index is invalidated when the change lacks the dates involved.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the reservation.
+	 */
+	@Override
+	public void reservationChanged(ChangeEvent<Reservation> event) {
+		Reservation before = event.getBefore();
+		Reservation after = event.getAfter();
+		if ((event.getKind() != Kind.INSERT && before == null)
+				|| (event.getKind() != Kind.DELETE && after == null)) {
+			invalidateAvailabilityIndex();
+			return;
+		}
+		if (before != null)
+			markAsFree(before);
+		if (after != null)
+			markAsBooked(after);
+	}
+
+	/**
+	 * Invalidates the availability index, if any, since some changes could have been missed.
+	 */
+	@Override
+	public void changesMissed() {
+		invalidateAvailabilityIndex();
+	}
+
+	/**
+	 * Checks if the date of the resource is free according to the availability index, if any.
+	 * Since the index holds the dates of the default resource, other resources are never
+	 * known as free.
+	 * 
+	 * @param resource	the resource to check.
+	 * @param date		the date to check.
+	 * @return			{@code true} if the index is loaded and {@code date} is free
+	 * 					for {@code resource}; {@code false} otherwise.
+	 */
+	private boolean isKnownAsFree(String resource, LocalDate date) {
+		return isIndexed(resource, date) && availabilityIndex.isFree(date);
+	}
+
+	/**
+	 * Marks the date of the reservation as booked in the availability index, if any.
+	 * 
+	 * @param reservation	the booking reservation.
+	 */
+	private void markAsBooked(Reservation reservation) {
+		markAsBooked(reservation.getResource(), reservation.getDate());
+	}
+
+	/**
+	 * Marks the date of the resource as booked in the availability index, if any.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the booked date.
+	 */
+	private void markAsBooked(String resource, LocalDate date) {
+		if (isIndexed(resource, date))
+			availabilityIndex.book(date);
+	}
+
+	/**
+	 * Marks the date of the reservation as free in the availability index, if any.
+	 * 
+	 * @param reservation	the freeing reservation.
+	 */
+	private void markAsFree(Reservation reservation) {
+		markAsFree(reservation.getResource(), reservation.getDate());
+	}
+
+	/**
+	 * Marks the date of the resource as free in the availability index, if any.
+	 * 
+	 * @param resource	the freed resource.
+	 * @param date		the freed date.
+	 */
+	private void markAsFree(String resource, LocalDate date) {
+		if (isIndexed(resource, date))
+			availabilityIndex.release(date);
+	}
+
+	/**
+	 * Checks if the date of the resource is tracked by the availability index.
+	 * 
+	 * @param resource	the resource to check.
+	 * @param date		the date to check.
+	 * @return			{@code true} if there is an index, {@code resource} is the default one
+	 * 					and {@code date} is not null; {@code false} otherwise.
+	 */
+	private boolean isIndexed(String resource, LocalDate date) {
+		return availabilityIndex != null && DEFAULT_RESOURCE.equals(resource) && date != null;
+	}
+
+	/**
+	 * Retrieves the version of the availability index, if any, to be taken before reading
+	 * the reservations that load it.
+	 * 
+	 * @return	the version of the availability index, or zero if there is no index.
+	 */
+	private long getAvailabilityIndexVersion() {
+		return availabilityIndex != null ? availabilityIndex.getVersion() : 0;
+	}
+
+	/**
+	 * Loads the availability index, if any, with the dates of the default resource among
+	 * the reservations read, unless the index has been updated in the meanwhile: the reservations
+	 * could miss a write committed while they were read, which must not be overwritten.
+	 * 
+	 * @param reservations	the reservations of all the resources.
+	 * @param version		the version of the index taken before reading {@code reservations}.
+	 */
+	private void loadAvailabilityIndex(List<Reservation> reservations, long version) {
+		if (availabilityIndex != null && !availabilityIndex.load(datesOfDefaultResource(reservations), version))
+			LOGGER.debug("The availability index has been updated while reading the reservations.");
+	}
+
+	/**
+	 * Invalidates the availability index, if any, because a failed write could have left
+	 * it out of sync with the database.
+	 */
+	private void invalidateAvailabilityIndex() {
+		if (availabilityIndex != null)
+			availabilityIndex.invalidate();
+	}
+
+	/**
+	 * Retrieves the dates booked for the default resource, the only one tracked
+	 * by the availability index.
+	 * 
+	 * @param reservations	the reservations of all the resources.
+	 * @return				the {@code List} of dates of the reservations of the default resource.
+	 */
+	private static List<LocalDate> datesOfDefaultResource(List<Reservation> reservations) {
+		return reservations.stream()
+				.filter(reservation -> DEFAULT_RESOURCE.equals(reservation.getResource()))
+				.map(Reservation::getDate).toList();
+	}
+
+	/**
+	 * Retrieves the slot booked by the reservation, as a {@code Reservation} holding only
+	 * its resource and date, so that reservations of the same slot are equal.
+	 * 
+	 * @param reservation	the reservation.
+	 * @return				the {@code Reservation} representing the booked slot.
+	 */
+	private static Reservation slotOf(Reservation reservation) {
+		return new Reservation(null, reservation.getResource(), reservation.getDate());
+	}
+
+	/**
+	 * Retrieves an availability index reflecting the current reservations. The service's
+	 * index is returned if loaded; otherwise all the reservations are retrieved
+	 * and, if the service has no index, a temporary one is built from them.
+	 * 
+	 * @return						a loaded {@code AvailabilityIndex}.
+	 * @throws DatabaseException	if a transaction failure occurs on database.
+	 */
+	private AvailabilityIndex loadedAvailabilityIndex() throws DatabaseException {
+		if (availabilityIndex != null && availabilityIndex.isLoaded())
+			return availabilityIndex;
+		List<Reservation> reservations = findAllReservations();
+		if (availabilityIndex != null && availabilityIndex.isLoaded())
+			return availabilityIndex;
+		AvailabilityIndex temporaryIndex = new AvailabilityIndex();
+		temporaryIndex.load(datesOfDefaultResource(reservations));
+		return temporaryIndex;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package io.github.marcopaglio.booking.transaction.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+
+/**
+ * An implementation of {@code TransactionInterceptor} that logs the transactions
+ * lasting longer than a threshold, together with their kind, backend and outcome.
+ */
+public class SlowTransactionInterceptor implements TransactionInterceptor {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(SlowTransactionInterceptor.class);
+
+	/**
+	 * Duration in nanoseconds over which a transaction is considered slow.
+	 */
+	private final long thresholdNanos;
+
+	/**
+	 * Source of the current time in nanoseconds.
+	 */
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Constructs an interceptor that logs the transactions lasting longer than a threshold.
+	 * 
+	 * @param thresholdMillis			the duration in milliseconds over which
+	 * 									a transaction is considered slow.
+	 * @throws IllegalArgumentException	if {@code thresholdMillis} is negative.
+	 */
+	public SlowTransactionInterceptor(long thresholdMillis) throws IllegalArgumentException {
+		this(thresholdMillis, System::nanoTime);
+	}
+
+	/**
+	 * Constructs an interceptor that logs the transactions lasting longer than a threshold
+	 * measured by the given clock.
+	 * 
+	 * @param thresholdMillis			the duration in milliseconds over which
+	 * 									a transaction is considered slow.
+	 * @param nanoClock					the source of the current time in nanoseconds.
+	 * @throws IllegalArgumentException	if {@code thresholdMillis} is negative.
+	 */
+	SlowTransactionInterceptor(long thresholdMillis, LongSupplier nanoClock)
+			throws IllegalArgumentException {
+		if (thresholdMillis < 0)
+			throw new IllegalArgumentException("Threshold of slow transactions cannot be negative.");
+		
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Executes the rest of the chain measuring its duration and logs a warning
+	 * if the duration exceeds the threshold.
+	 * 
+	 * @param <R>					the returned type of executed code.
+	 * @param invocation			the intercepted execution of code.
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	@Override
+	public <R> R intercept(TransactionInvocation<R> invocation) throws TransactionException {
+		long start = nanoClock.getAsLong();
+		String outcome = "failed";
+		try {
+			R toBeReturned = invocation.proceed();
+			outcome = "committed";
+			return toBeReturned;
+		} finally {
+			long elapsed = nanoClock.getAsLong() - start;
+			if (elapsed > thresholdNanos) {
+				String result = outcome;
+				LOGGER.warn(() -> String.format("Slow %s transaction on %s %s in %d ms.",
+						invocation.getCodeKind(), invocation.getBackend(), result,
+						TimeUnit.NANOSECONDS.toMillis(elapsed)));
+			}
+		}
+	}
+}
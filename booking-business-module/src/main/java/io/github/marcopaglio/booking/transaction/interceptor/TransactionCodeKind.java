@@ -0,0 +1,21 @@
+package io.github.marcopaglio.booking.transaction.interceptor;
+
+/**
+ * Enumerated kinds of code that can be executed within a transaction.
+ */
+public enum TransactionCodeKind {
+	/**
+	 * Code that involves the {@code ClientRepository}'s method(s).
+	 */
+	CLIENT,
+
+	/**
+	 * Code that involves the {@code ReservationRepository}'s method(s).
+	 */
+	RESERVATION,
+
+	/**
+	 * Code that involves both {@code ClientRepository}'s and {@code ReservationRepository}'s methods.
+	 */
+	CLIENT_RESERVATION
+}
@@ -0,0 +1,22 @@
+package io.github.marcopaglio.booking.transaction.interceptor;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+
+/**
+ * This interface provides a method for wrapping the execution of code within a transaction
+ * with cross-cutting behaviours, such as timing, retry or logging.
+ */
+public interface TransactionInterceptor {
+
+	/**
+	 * Intercepts the execution of code within a transaction. Implementations see the kind
+	 * of the code and the backend through {@code invocation}, and the outcome as the value
+	 * returned or the exception thrown by {@code invocation.proceed()}.
+	 * 
+	 * @param <R>					the returned type of executed code.
+	 * @param invocation			the intercepted execution of code.
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	public <R> R intercept(TransactionInvocation<R> invocation) throws TransactionException;
+}
@@ -0,0 +1,96 @@
+package io.github.marcopaglio.booking.transaction.interceptor;
+
+import java.util.function.Supplier;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+
+/**
+ * Represents a single execution of code within a transaction passing
+ * through a chain of {@code TransactionInterceptor}s.
+ * Note: an invocation is not thread-safe and must be used only by the thread
+ * that executes the chain.
+ *
+ * @param <R> the returned type of executed code.
+ */
+public class TransactionInvocation<R> {
+	/**
+	 * The kind of code executed within the transaction.
+	 */
+	private final TransactionCodeKind codeKind;
+
+	/**
+	 * The name of the backend on which the transaction is executed.
+	 */
+	private final String backend;
+
+	/**
+	 * The chain of interceptors to apply before executing the code.
+	 */
+	private final TransactionInterceptor[] interceptors;
+
+	/**
+	 * The execution of the code within the transaction once the chain is exhausted.
+	 */
+	private final Supplier<R> target;
+
+	/**
+	 * The position in the chain of the next interceptor to apply.
+	 */
+	private int position;
+
+	/**
+	 * Constructs an invocation of code within a transaction through a chain of interceptors.
+	 * 
+	 * @param codeKind		the kind of code executed within the transaction.
+	 * @param backend		the name of the backend on which the transaction is executed.
+	 * @param interceptors	the chain of interceptors to apply.
+	 * @param target		the execution of the code within the transaction.
+	 */
+	public TransactionInvocation(TransactionCodeKind codeKind, String backend,
+			TransactionInterceptor[] interceptors, Supplier<R> target) {
+		this.codeKind = codeKind;
+		this.backend = backend;
+		this.interceptors = interceptors;
+		this.target = target;
+		this.position = 0;
+	}
+
+	/**
+	 * Retrieves the kind of code executed within the transaction.
+	 * 
+	 * @return	the {@code TransactionCodeKind} of the executed code.
+	 */
+	public TransactionCodeKind getCodeKind() {
+		return codeKind;
+	}
+
+	/**
+	 * Retrieves the name of the backend on which the transaction is executed.
+	 * 
+	 * @return	the name of the backend.
+	 */
+	public String getBackend() {
+		return backend;
+	}
+
+	/**
+	 * Proceeds to the next interceptor of the chain or, if there are no more,
+	 * executes the code within the transaction. This method can be called more than once
+	 * by the same interceptor, e.g. for retrying the rest of the chain.
+	 * 
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	public R proceed() throws TransactionException {
+		int current = position;
+		if (current == interceptors.length)
+			return target.get();
+		
+		position = current + 1;
+		try {
+			return interceptors[current].intercept(this);
+		} finally {
+			position = current;
+		}
+	}
+}
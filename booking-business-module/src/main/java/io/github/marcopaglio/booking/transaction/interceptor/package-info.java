@@ -0,0 +1,4 @@
+/**
+ * Provides interfaces and implementations for intercepting code executed within a transaction.
+ */
+package io.github.marcopaglio.booking.transaction.interceptor;
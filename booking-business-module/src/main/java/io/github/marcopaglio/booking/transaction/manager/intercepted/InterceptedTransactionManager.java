@@ -0,0 +1,115 @@
+package io.github.marcopaglio.booking.transaction.manager.intercepted;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+import io.github.marcopaglio.booking.transaction.code.ClientReservationTransactionCode;
+import io.github.marcopaglio.booking.transaction.code.ClientTransactionCode;
+import io.github.marcopaglio.booking.transaction.code.ReservationTransactionCode;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionCodeKind;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionInterceptor;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionInvocation;
+import io.github.marcopaglio.booking.transaction.manager.TransactionManager;
+
+/**
+ * An implementation of {@code TransactionManager} that decorates another manager
+ * by passing each transaction through a chain of {@code TransactionInterceptor}s.
+ * When the chain is empty, transactions are delegated without any further allocation.
+ */
+public class InterceptedTransactionManager extends TransactionManager {
+	/**
+	 * The manager that actually executes code within transactions.
+	 */
+	private final TransactionManager delegate;
+
+	/**
+	 * The name of the backend on which the delegate executes transactions.
+	 */
+	private final String backend;
+
+	/**
+	 * The chain of interceptors applied to each transaction, in order.
+	 */
+	private final TransactionInterceptor[] interceptors;
+
+	/**
+	 * Constructs a manager that applies a chain of interceptors to the transactions
+	 * executed by another manager. Handler and repository factories are not used
+	 * because the creation of transactions is left to the delegate.
+	 * 
+	 * @param delegate					the manager that executes code within transactions.
+	 * @param backend					the name of the backend used by {@code delegate}.
+	 * @param interceptors				the chain of interceptors to apply, in order.
+	 * @throws IllegalArgumentException	if at least one of the argument is null.
+	 */
+	public InterceptedTransactionManager(TransactionManager delegate, String backend,
+			List<TransactionInterceptor> interceptors) throws IllegalArgumentException {
+		super(null, null, null);
+		if (delegate == null)
+			throw new IllegalArgumentException("Transaction manager to decorate cannot be null.");
+		if (backend == null)
+			throw new IllegalArgumentException("Backend's name cannot be null.");
+		if (interceptors == null || interceptors.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Interceptors cannot be null.");
+		
+		this.delegate = delegate;
+		this.backend = backend;
+		this.interceptors = interceptors.toArray(new TransactionInterceptor[0]);
+	}
+
+	/**
+	 * Executes code that involves the {@code ClientRepository}'s method(s)
+	 * through the delegate passing it through the chain of interceptors.
+	 * 
+	 * @param <R>					the returned type of executed code.
+	 * @param code					the code to execute.
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	@Override
+	public <R> R doInTransaction(ClientTransactionCode<R> code) throws TransactionException {
+		if (interceptors.length == 0)
+			return delegate.doInTransaction(code);
+		
+		return new TransactionInvocation<>(TransactionCodeKind.CLIENT, backend, interceptors,
+				() -> delegate.doInTransaction(code)).proceed();
+	}
+
+	/**
+	 * Executes code that involves the {@code ReservationRepository}'s method(s)
+	 * through the delegate passing it through the chain of interceptors.
+	 * 
+	 * @param <R>					the returned type of executed code.
+	 * @param code					the code to execute.
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	@Override
+	public <R> R doInTransaction(ReservationTransactionCode<R> code) throws TransactionException {
+		if (interceptors.length == 0)
+			return delegate.doInTransaction(code);
+		
+		return new TransactionInvocation<>(TransactionCodeKind.RESERVATION, backend, interceptors,
+				() -> delegate.doInTransaction(code)).proceed();
+	}
+
+	/**
+	 * Executes code that involves both {@code ClientRepository}'s and
+	 * {@code ReservationRepository}'s methods through the delegate passing it
+	 * through the chain of interceptors.
+	 * 
+	 * @param <R>					the returned type of executed code.
+	 * @param code					the code to execute.
+	 * @return						something depending on execution code.
+	 * @throws TransactionException	if the execution or the commitment of the transaction fails.
+	 */
+	@Override
+	public <R> R doInTransaction(ClientReservationTransactionCode<R> code) throws TransactionException {
+		if (interceptors.length == 0)
+			return delegate.doInTransaction(code);
+		
+		return new TransactionInvocation<>(TransactionCodeKind.CLIENT_RESERVATION, backend, interceptors,
+				() -> delegate.doInTransaction(code)).proceed();
+	}
+}
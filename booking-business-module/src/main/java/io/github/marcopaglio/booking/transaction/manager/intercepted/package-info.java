@@ -0,0 +1,4 @@
+/**
+ * Contains implementations for intercepting transactions managed by another manager in the booking application.
+ */
+package io.github.marcopaglio.booking.transaction.manager.intercepted;
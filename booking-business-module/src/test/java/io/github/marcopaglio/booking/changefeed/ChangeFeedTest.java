@@ -0,0 +1,229 @@
+package io.github.marcopaglio.booking.changefeed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+@DisplayName("Tests for ChangeFeed class")
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedTest {
+	private static final UUID A_CLIENT_UUID = UUID.fromString("bc49bffa-0766-4e5d-90af-d8a6ef516df4");
+	private static final Client A_CLIENT = new Client("Mario", "Rossi");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("1959c0a1-8416-45fd-8376-83098299bd48");
+	private static final Reservation A_RESERVATION = new Reservation(A_CLIENT_UUID, LocalDate.parse("2023-04-24"));
+
+	private static final long TIMEOUT_MILLIS = 5000;
+
+	@Mock
+	private ChangeListener listener;
+
+	@Mock
+	private ChangeListener anotherListener;
+
+	private FakeChangeFeed changeFeed;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		changeFeed = new FakeChangeFeed();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		changeFeed.close();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'addListener'")
+	class AddListenerTest {
+
+		@Test
+		@DisplayName("Null listener")
+		void testAddListenerWhenListenerIsNullShouldThrow() {
+			assertThatThrownBy(() -> changeFeed.addListener(null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Listener of changes cannot be null.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'start' and 'close'")
+	class LifecycleTest {
+
+		@Test
+		@DisplayName("Connection succeeds")
+		void testStartWhenConnectionSucceedsShouldFollowTheChanges() {
+			changeFeed.start();
+			
+			assertThat(changeFeed.isRunning()).isTrue();
+			assertThat(changeFeed.connections.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Feed is already running")
+		void testStartWhenFeedIsAlreadyRunningShouldNotConnectAgain() {
+			changeFeed.start();
+			
+			changeFeed.start();
+			
+			assertThat(changeFeed.connections.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Connection fails")
+		void testStartWhenConnectionFailsShouldDisconnectAndThrow() {
+			changeFeed.failingConnections.set(1);
+			
+			assertThatThrownBy(() -> changeFeed.start())
+				.isInstanceOf(DatabaseException.class)
+				.hasMessage("The change feed cannot connect to the database.");
+			
+			assertThat(changeFeed.isRunning()).isFalse();
+			assertThat(changeFeed.disconnections.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Feed is closed")
+		void testCloseWhenFeedIsRunningShouldStopAndDisconnect() {
+			changeFeed.start();
+			
+			changeFeed.close();
+			
+			assertThat(changeFeed.isRunning()).isFalse();
+			assertThat(changeFeed.disconnections.get()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Feed is not running")
+		void testCloseWhenFeedIsNotRunningShouldDoNothing() {
+			changeFeed.close();
+			
+			assertThat(changeFeed.disconnections.get()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for following the changes")
+	class FollowTest {
+
+		@BeforeEach
+		void registerListeners() throws Exception {
+			changeFeed.addListener(listener);
+			changeFeed.addListener(anotherListener);
+		}
+
+		@Test
+		@DisplayName("Changes are notified in order")
+		void testFollowWhenChangesArePolledShouldNotifyThemInOrder() {
+			ChangeEvent<Client> clientEvent = new ChangeEvent<>(Kind.INSERT, A_CLIENT_UUID, null, A_CLIENT);
+			ChangeEvent<Reservation> reservationEvent =
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, A_RESERVATION, null);
+			changeFeed.start();
+			
+			changeFeed.changes.add(() -> changeFeed.publishClientChange(clientEvent));
+			changeFeed.changes.add(() -> changeFeed.publishReservationChange(reservationEvent));
+			
+			verify(anotherListener, timeout(TIMEOUT_MILLIS)).reservationChanged(reservationEvent);
+			InOrder inOrder = inOrder(listener, anotherListener);
+			inOrder.verify(listener).clientChanged(clientEvent);
+			inOrder.verify(anotherListener).clientChanged(clientEvent);
+			inOrder.verify(listener).reservationChanged(reservationEvent);
+			inOrder.verify(anotherListener).reservationChanged(reservationEvent);
+		}
+
+		@Test
+		@DisplayName("A listener fails")
+		void testFollowWhenAListenerFailsShouldNotifyTheOthersAndGoOn() {
+			ChangeEvent<Client> clientEvent = new ChangeEvent<>(Kind.UPDATE, A_CLIENT_UUID, A_CLIENT, A_CLIENT);
+			doThrow(new IllegalStateException("failure")).when(listener).clientChanged(clientEvent);
+			changeFeed.start();
+			
+			changeFeed.changes.add(() -> changeFeed.publishClientChange(clientEvent));
+			changeFeed.changes.add(() -> changeFeed.publishClientChange(clientEvent));
+			
+			verify(anotherListener, timeout(TIMEOUT_MILLIS).times(2)).clientChanged(clientEvent);
+			assertThat(changeFeed.connections.get()).isEqualTo(1);
+			verify(listener, never()).changesMissed();
+		}
+
+		@Test
+		@DisplayName("Connection is lost")
+		void testFollowWhenConnectionIsLostShouldReconnectAndNotifyMissedChanges() {
+			changeFeed.start();
+			changeFeed.failingConnections.set(1);
+			
+			changeFeed.changes.add(() -> {
+				throw new DatabaseException("connection lost");
+			});
+			
+			verify(listener, timeout(TIMEOUT_MILLIS)).changesMissed();
+			verify(anotherListener, timeout(TIMEOUT_MILLIS)).changesMissed();
+			await().atMost(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+				.until(() -> changeFeed.connections.get() == 3);
+			assertThat(changeFeed.isRunning()).isTrue();
+		}
+	}
+
+	/**
+	 * A change feed polling the changes enqueued by the tests.
+	 */
+	private static class FakeChangeFeed extends ChangeFeed {
+		private final BlockingQueue<Runnable> changes = new LinkedBlockingQueue<>();
+		private final AtomicInteger connections = new AtomicInteger();
+		private final AtomicInteger disconnections = new AtomicInteger();
+		private final AtomicInteger failingConnections = new AtomicInteger();
+
+		private FakeChangeFeed() {
+			super(10);
+		}
+
+		@Override
+		protected void connect() {
+			connections.incrementAndGet();
+			if (failingConnections.getAndUpdate(n -> Math.max(0, n - 1)) > 0)
+				throw new DatabaseException("connection refused");
+		}
+
+		@Override
+		protected void poll() {
+			try {
+				Runnable change = changes.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (change != null)
+					change.run();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		protected void disconnect() {
+			disconnections.incrementAndGet();
+		}
+	}
+}
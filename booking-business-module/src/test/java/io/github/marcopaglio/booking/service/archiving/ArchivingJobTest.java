@@ -0,0 +1,137 @@
+package io.github.marcopaglio.booking.service.archiving;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.service.BookingService;
+
+@DisplayName("Tests for ArchivingJob class")
+@ExtendWith(MockitoExtension.class)
+class ArchivingJobTest {
+	private static final Clock A_CLOCK = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+	private static final Period A_RETENTION = Period.ofDays(30);
+	private static final LocalDate A_HORIZON = LocalDate.parse("2024-02-09");
+	private static final int A_BATCH_SIZE = 100;
+
+	@Mock
+	private BookingService bookingService;
+
+	private ArchivingJob archivingJob;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		archivingJob = new ArchivingJob(bookingService, A_RETENTION, A_BATCH_SIZE, A_CLOCK);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		archivingJob.close();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'ArchivingJob'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Null booking service")
+		void testConstructorWhenBookingServiceIsNullShouldThrow() {
+			assertThatThrownBy(() -> new ArchivingJob(null, A_RETENTION, A_BATCH_SIZE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Booking service to archive through cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Negative retention")
+		void testConstructorWhenRetentionIsNegativeShouldThrow() {
+			Period negative = Period.ofDays(-1);
+			
+			assertThatThrownBy(() -> new ArchivingJob(bookingService, negative, A_BATCH_SIZE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Retention of reservations cannot be negative.");
+		}
+
+		@Test
+		@DisplayName("Non-positive batch size")
+		void testConstructorWhenBatchSizeIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new ArchivingJob(bookingService, A_RETENTION, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Size of archiving batches must be positive.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'run'")
+	class RunTest {
+
+		@Test
+		@DisplayName("Reservations are archived")
+		void testRunShouldArchiveTheReservationsOlderThanTheRetention() {
+			when(bookingService.archiveReservationsBefore(A_HORIZON, A_BATCH_SIZE)).thenReturn(3);
+			
+			archivingJob.run();
+			
+			verify(bookingService).archiveReservationsBefore(A_HORIZON, A_BATCH_SIZE);
+		}
+
+		@Test
+		@DisplayName("Database request fails")
+		void testRunWhenDatabaseRequestFailsShouldNotThrow() {
+			when(bookingService.archiveReservationsBefore(A_HORIZON, A_BATCH_SIZE))
+				.thenThrow(new DatabaseException());
+			
+			assertThatNoException().isThrownBy(() -> archivingJob.run());
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'start'")
+	class StartTest {
+
+		@Test
+		@DisplayName("Job is started")
+		void testStartShouldRunTheJobInBackground() {
+			archivingJob.start(Duration.ofHours(1));
+			
+			verify(bookingService, timeout(5000)).archiveReservationsBefore(A_HORIZON, A_BATCH_SIZE);
+		}
+
+		@Test
+		@DisplayName("Non-positive period")
+		void testStartWhenPeriodIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> archivingJob.start(Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Period of archiving must be positive.");
+		}
+
+		@Test
+		@DisplayName("Job already started")
+		void testStartWhenJobHasAlreadyBeenStartedShouldThrow() {
+			archivingJob.start(Duration.ofHours(1));
+			Duration period = Duration.ofHours(1);
+			
+			assertThatThrownBy(() -> archivingJob.start(period))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Archiving job has already been started.");
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package io.github.marcopaglio.booking.service.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for AvailabilityIndex class")
+class AvailabilityIndexTest {
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final LocalDate NEXT_LOCALDATE = A_LOCALDATE.plusDays(1);
+	private static final LocalDate A_PAST_LOCALDATE = LocalDate.parse("1999-12-31");
+
+	private AvailabilityIndex availabilityIndex;
+
+	@BeforeEach
+	void setUp() {
+		availabilityIndex = new AvailabilityIndex();
+	}
+
+	@Nested
+	@DisplayName("Index is not loaded")
+	class NotLoadedTest {
+
+		@Test
+		@DisplayName("Updates are ignored")
+		void testBookWhenIndexIsNotLoadedShouldBeIgnored() {
+			availabilityIndex.book(A_LOCALDATE);
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("Invalidated index")
+		void testInvalidateWhenIndexIsLoadedShouldEmptyAndUnloadIt() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			
+			availabilityIndex.invalidate();
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("Not loaded index knows no free dates")
+		void testIsFreeWhenIndexIsNotLoadedShouldReturnFalse() {
+			assertThat(availabilityIndex.isFree(A_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("Load of the current version")
+		void testLoadWhenVersionIsCurrentShouldLoadTheDates() {
+			long version = availabilityIndex.getVersion();
+			
+			assertThat(availabilityIndex.load(Arrays.asList(A_LOCALDATE), version)).isTrue();
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("Load of an outdated version")
+		void testLoadWhenIndexHasBeenUpdatedSinceVersionShouldDiscardTheDates() {
+			long version = availabilityIndex.getVersion();
+			// ignored but counted update
+			availabilityIndex.release(A_LOCALDATE);
+			
+			assertThat(availabilityIndex.load(Arrays.asList(A_LOCALDATE), version)).isFalse();
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("Index is loaded")
+	class LoadedTest {
+
+		@BeforeEach
+		void loadIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE, NEXT_LOCALDATE));
+		}
+
+		@Test
+		@DisplayName("Loaded dates are booked")
+		void testIsBookedWhenDatesAreLoadedShouldReturnTrue() {
+			assertThat(availabilityIndex.isLoaded()).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(NEXT_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE.minusDays(1))).isFalse();
+			assertThat(availabilityIndex.size()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Reload replaces the content")
+		void testLoadWhenIndexIsAlreadyLoadedShouldReplaceTheContent() {
+			availabilityIndex.load(Collections.singletonList(A_PAST_LOCALDATE));
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isBooked(A_PAST_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("Booking an earlier date")
+		void testBookWhenDateIsBeforeTheOthersShouldKeepAllTheBookedDates() {
+			availabilityIndex.book(A_PAST_LOCALDATE);
+			
+			assertThat(availabilityIndex.isBooked(A_PAST_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(NEXT_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.size()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Booking a date too far")
+		void testBookWhenDateCannotBeStoredShouldInvalidateTheIndex() {
+			availabilityIndex.book(LocalDate.MAX);
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Booking a date too far in the past")
+		void testBookWhenEarlierDateCannotBeStoredShouldInvalidateTheIndex() {
+			availabilityIndex.book(LocalDate.MIN);
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Free dates are known")
+		void testIsFreeWhenDateIsNotBookedShouldReturnTrue() {
+			assertThat(availabilityIndex.isFree(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isFree(A_PAST_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("Releasing dates")
+		void testReleaseShouldFreeOnlyTheDate() {
+			availabilityIndex.release(A_LOCALDATE);
+			availabilityIndex.release(A_PAST_LOCALDATE);
+			availabilityIndex.release(LocalDate.MAX);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isBooked(NEXT_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("Next free date")
+		void testNextFreeDateShouldSkipTheBookedDates() {
+			assertThat(availabilityIndex.nextFreeDate(A_LOCALDATE)).isEqualTo(NEXT_LOCALDATE.plusDays(1));
+			assertThat(availabilityIndex.nextFreeDate(A_PAST_LOCALDATE)).isEqualTo(A_PAST_LOCALDATE);
+			assertThat(availabilityIndex.nextFreeDate(LocalDate.MAX)).isEqualTo(LocalDate.MAX);
+		}
+
+		@Test
+		@DisplayName("Free dates in a range")
+		void testFreeDatesShouldReturnTheDatesNotBookedInOrder() {
+			assertThat(availabilityIndex.freeDates(A_LOCALDATE.minusDays(1), NEXT_LOCALDATE.plusDays(1)))
+				.containsExactly(A_LOCALDATE.minusDays(1), NEXT_LOCALDATE.plusDays(1));
+		}
+
+		@Test
+		@DisplayName("Free dates in a single-day range")
+		void testFreeDatesWhenRangeIsASingleBookedDayShouldReturnEmptyList() {
+			assertThat(availabilityIndex.freeDates(A_LOCALDATE, A_LOCALDATE)).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,607 @@
+package io.github.marcopaglio.booking.service.caching;
+
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
+import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
+import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.service.BulkOutcome;
+
+@DisplayName("Tests for CachingBookingService class")
+@ExtendWith(MockitoExtension.class)
+class CachingBookingServiceTest {
+	private static final String A_FIRSTNAME = "Mario";
+	private static final String A_LASTNAME = "Rossi";
+	private static final UUID A_CLIENT_UUID = UUID.fromString("bc49bffa-0766-4e5d-90af-d8a6ef516df4");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("1959c0a1-8416-45fd-8376-83098299bd48");
+
+	private static final String ANOTHER_FIRSTNAME = "Maria";
+	private static final String ANOTHER_LASTNAME = "De Lucia";
+	private static final UUID ANOTHER_CLIENT_UUID = UUID.fromString("c01a64c2-73e6-4b70-808f-00f9bd82571d");
+	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-09-05");
+	private static final UUID ANOTHER_RESERVATION_UUID = UUID.fromString("9f7b2a0e-5b2b-4c1c-9a34-3f1c3d8d2e61");
+
+	private static final int MAXIMUM_SIZE = 10;
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	@Mock
+	private BookingService delegate;
+
+	private AtomicLong clock;
+
+	private CachingBookingService service;
+
+	private Client client;
+	private Client another_client;
+	private Reservation reservation;
+	private Reservation another_reservation;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		clock = new AtomicLong();
+		service = new CachingBookingService(delegate, MAXIMUM_SIZE, TIME_TO_LIVE, clock::get);
+		
+		client = new Client(A_FIRSTNAME, A_LASTNAME);
+		client.setId(A_CLIENT_UUID);
+		another_client = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+		another_client.setId(ANOTHER_CLIENT_UUID);
+		reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+		reservation.setId(A_RESERVATION_UUID);
+		another_reservation = new Reservation(ANOTHER_CLIENT_UUID, ANOTHER_LOCALDATE);
+		another_reservation.setId(ANOTHER_RESERVATION_UUID);
+	}
+
+	@Nested
+	@DisplayName("Tests for 'CachingBookingService'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Null delegate")
+		void testConstructorWhenDelegateIsNullShouldThrow() {
+			assertThatThrownBy(() -> new CachingBookingService(null, MAXIMUM_SIZE, TIME_TO_LIVE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Booking service to decorate cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Non-positive maximum size")
+		void testConstructorWhenMaximumSizeIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new CachingBookingService(delegate, 0, TIME_TO_LIVE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Maximum size of caches must be positive.");
+		}
+
+		@Test
+		@DisplayName("Null time-to-live")
+		void testConstructorWhenTimeToLiveIsNullShouldThrow() {
+			assertThatThrownBy(() -> new CachingBookingService(delegate, MAXIMUM_SIZE, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Time-to-live of caches cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Zero time-to-live")
+		void testConstructorWhenTimeToLiveIsZeroShouldThrow() {
+			assertThatThrownBy(() -> new CachingBookingService(delegate, MAXIMUM_SIZE, Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Time-to-live of caches must be positive.");
+		}
+
+		@Test
+		@DisplayName("Negative time-to-live")
+		void testConstructorWhenTimeToLiveIsNegativeShouldThrow() {
+			Duration negative = Duration.ofSeconds(-1);
+			
+			assertThatThrownBy(() -> new CachingBookingService(delegate, MAXIMUM_SIZE, negative))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Time-to-live of caches must be positive.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for reading methods")
+	class ReadTest {
+
+		@Test
+		@DisplayName("Repeated 'findAllClients'")
+		void testFindAllClientsWhenCalledTwiceShouldQueryTheDelegateOnce() {
+			when(delegate.findAllClients()).thenReturn(new ArrayList<>(Arrays.asList(client)));
+			
+			assertThat(service.findAllClients()).containsExactly(client);
+			assertThat(service.findAllClients()).containsExactly(client);
+			
+			verify(delegate, times(1)).findAllClients();
+			assertThat(service.getHitCount()).isEqualTo(1);
+			assertThat(service.getMissCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Cached list is modified by caller")
+		void testFindAllClientsWhenReturnedListIsModifiedShouldNotAlterTheCache() {
+			when(delegate.findAllClients()).thenReturn(new ArrayList<>(Arrays.asList(client)));
+			service.findAllClients();
+			
+			service.findAllClients().clear();
+			
+			assertThat(service.findAllClients()).containsExactly(client);
+		}
+
+		@Test
+		@DisplayName("Expired list")
+		void testFindAllReservationsWhenTimeToLiveIsElapsedShouldQueryTheDelegateAgain() {
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation));
+			service.findAllReservations();
+			
+			clock.addAndGet(TIME_TO_LIVE.toNanos());
+			
+			assertThat(service.findAllReservations()).containsExactly(reservation);
+			verify(delegate, times(2)).findAllReservations();
+			assertThat(service.getEvictionCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Lookups after full lists")
+		void testLookupsWhenFullListsAreCachedShouldBeServedFromMemory() {
+			when(delegate.findAllClients()).thenReturn(Arrays.asList(client));
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation));
+			service.findAllClients();
+			service.findAllReservations();
+			
+			assertThat(service.findClient(A_CLIENT_UUID)).isSameAs(client);
+			assertThat(service.findClientNamed(A_FIRSTNAME, A_LASTNAME)).isSameAs(client);
+			assertThat(service.findReservation(A_RESERVATION_UUID)).isSameAs(reservation);
+			assertThat(service.findReservationOn(A_LOCALDATE)).isSameAs(reservation);
+			
+			verify(delegate).findAllClients();
+			verify(delegate).findAllReservations();
+			assertThat(service.getHitCount()).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("Reservations of a resource after full list")
+		void testFindAllReservationsOfWhenFullListIsCachedShouldFilterInMemory() {
+			Reservation courtReservation = new Reservation(A_CLIENT_UUID, "court-1", ANOTHER_LOCALDATE);
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation, courtReservation));
+			service.findAllReservations();
+			
+			assertThat(service.findAllReservationsOf("court-1")).containsExactly(courtReservation);
+			assertThat(service.findAllReservationsOf(DEFAULT_RESOURCE)).containsExactly(reservation);
+			
+			verify(delegate).findAllReservations();
+			verifyNoMoreInteractions(delegate);
+		}
+
+		@Test
+		@DisplayName("Lists after 'snapshot'")
+		void testFindAllWhenSnapshotHasBeenTakenShouldBeServedFromMemory() {
+			when(delegate.snapshot()).thenReturn(new BookingSnapshot(
+					Arrays.asList(client, another_client), Arrays.asList(reservation, another_reservation)));
+			service.snapshot();
+			
+			assertThat(service.findAllClients()).containsExactly(client, another_client);
+			assertThat(service.findAllReservations()).containsExactly(reservation, another_reservation);
+			assertThat(service.findReservationOn(ANOTHER_LOCALDATE)).isSameAs(another_reservation);
+			
+			verify(delegate).snapshot();
+			verifyNoMoreInteractions(delegate);
+		}
+
+		@Test
+		@DisplayName("'snapshot' after full lists")
+		void testSnapshotWhenFullListsAreCachedShouldNotQueryTheDelegate() {
+			when(delegate.findAllClients()).thenReturn(Arrays.asList(client));
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation));
+			service.findAllClients();
+			service.findAllReservations();
+			
+			assertThat(service.snapshot()).isEqualTo(
+					new BookingSnapshot(Arrays.asList(client), Arrays.asList(reservation)));
+			
+			verify(delegate, never()).snapshot();
+		}
+
+		@Test
+		@DisplayName("Repeated lookups")
+		void testLookupsWhenCalledTwiceShouldQueryTheDelegateOnce() {
+			when(delegate.findClient(A_CLIENT_UUID)).thenReturn(client);
+			when(delegate.findReservationOn(DEFAULT_RESOURCE, A_LOCALDATE)).thenReturn(reservation);
+			when(delegate.findReservation(ANOTHER_RESERVATION_UUID)).thenReturn(another_reservation);
+			when(delegate.findClientNamed(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME)).thenReturn(another_client);
+			
+			for (int i = 0; i < 2; i++) {
+				assertThat(service.findClient(A_CLIENT_UUID)).isSameAs(client);
+				assertThat(service.findReservationOn(A_LOCALDATE)).isSameAs(reservation);
+				assertThat(service.findReservation(ANOTHER_RESERVATION_UUID)).isSameAs(another_reservation);
+				assertThat(service.findClientNamed(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME)).isSameAs(another_client);
+			}
+
+			verify(delegate).findClient(A_CLIENT_UUID);
+			verify(delegate).findReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
+			verify(delegate).findReservation(ANOTHER_RESERVATION_UUID);
+			verify(delegate).findClientNamed(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+		}
+
+		@Test
+		@DisplayName("Missing instance is not cached")
+		void testFindClientWhenInstanceIsNotFoundShouldQueryTheDelegateEveryTime() {
+			when(delegate.findClient(A_CLIENT_UUID)).thenThrow(new InstanceNotFoundException("not found"));
+			
+			assertThatThrownBy(() -> service.findClient(A_CLIENT_UUID))
+				.isInstanceOf(InstanceNotFoundException.class);
+			assertThatThrownBy(() -> service.findClient(A_CLIENT_UUID))
+				.isInstanceOf(InstanceNotFoundException.class);
+			
+			verify(delegate, times(2)).findClient(A_CLIENT_UUID);
+		}
+
+		@Test
+		@DisplayName("Cache overflows")
+		void testFindClientWhenCacheIsFullShouldEvictTheLeastRecentlyUsed() {
+			service = new CachingBookingService(delegate, 1, TIME_TO_LIVE, clock::get);
+			when(delegate.findClient(A_CLIENT_UUID)).thenReturn(client);
+			when(delegate.findClient(ANOTHER_CLIENT_UUID)).thenReturn(another_client);
+			
+			service.findClient(A_CLIENT_UUID);
+			service.findClient(ANOTHER_CLIENT_UUID);
+			service.findClient(A_CLIENT_UUID);
+			
+			verify(delegate, times(2)).findClient(A_CLIENT_UUID);
+			assertThat(service.getEvictionCount()).isPositive();
+		}
+
+		@Test
+		@DisplayName("Free dates queries are forwarded")
+		void testFreeDatesQueriesShouldBeForwardedToTheDelegate() {
+			when(delegate.findNextFreeDate(A_LOCALDATE)).thenReturn(ANOTHER_LOCALDATE);
+			when(delegate.findFreeDates(A_LOCALDATE, ANOTHER_LOCALDATE)).thenReturn(Arrays.asList(ANOTHER_LOCALDATE));
+			
+			assertThat(service.findNextFreeDate(A_LOCALDATE)).isEqualTo(ANOTHER_LOCALDATE);
+			assertThat(service.findFreeDates(A_LOCALDATE, ANOTHER_LOCALDATE)).containsExactly(ANOTHER_LOCALDATE);
+		}
+
+		@Test
+		@DisplayName("Occupancy reports are forwarded")
+		void testGetOccupancyReportShouldBeForwardedToTheDelegateEveryTime() {
+			OccupancyReport report = new OccupancyReport(Map.of(), Map.of(), Map.of(), 0);
+			when(delegate.getOccupancyReport(0)).thenReturn(report);
+			
+			assertThat(service.getOccupancyReport(0)).isEqualTo(report);
+			assertThat(service.getOccupancyReport(0)).isEqualTo(report);
+			verify(delegate, times(2)).getOccupancyReport(0);
+		}
+
+		@Test
+		@DisplayName("Pages of reservations are forwarded")
+		void testFindReservationsPageShouldBeForwardedToTheDelegateEveryTime() {
+			ReservationPage page = new ReservationPage(0, 0L, List.of());
+			when(delegate.findReservationsPage(0, 1)).thenReturn(page);
+			
+			assertThat(service.findReservationsPage(0, 1)).isEqualTo(page);
+			assertThat(service.findReservationsPage(0, 1)).isEqualTo(page);
+			verify(delegate, times(2)).findReservationsPage(0, 1);
+		}
+
+		@Test
+		@DisplayName("Mutation during read")
+		void testFindAllClientsWhenAMutationHappensDuringTheReadShouldNotCacheTheResult() {
+			when(delegate.findAllClients()).thenAnswer(invocation -> {
+				service.removeClient(ANOTHER_CLIENT_UUID);
+				return Arrays.asList(client, another_client);
+			}).thenReturn(Arrays.asList(client));
+			
+			service.findAllClients();
+			
+			assertThat(service.findAllClients()).containsExactly(client);
+			verify(delegate, times(2)).findAllClients();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for writing methods")
+	class WriteTest {
+
+		@BeforeEach
+		void fillCaches() throws Exception {
+			when(delegate.findAllClients()).thenReturn(Arrays.asList(client, another_client));
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation, another_reservation));
+			service.findAllClients();
+			service.findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'insertNewClient' updates the caches")
+		void testInsertNewClientWhenSucceedsShouldAddTheClientToTheCaches() {
+			Client newClient = new Client("Giovanni", "Verdi");
+			newClient.setId(UUID.randomUUID());
+			when(delegate.insertNewClient(newClient)).thenReturn(newClient);
+			
+			assertThat(service.insertNewClient(newClient)).isSameAs(newClient);
+			
+			assertThat(service.findAllClients()).containsExactly(client, another_client, newClient);
+			assertThat(service.findClientNamed("Giovanni", "Verdi")).isSameAs(newClient);
+			verify(delegate).findAllClients();
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' updates the caches")
+		void testInsertNewReservationWhenSucceedsShouldAddTheReservationToTheCaches() {
+			LocalDate newDate = LocalDate.parse("2023-12-25");
+			Reservation newReservation = new Reservation(A_CLIENT_UUID, newDate);
+			newReservation.setId(UUID.randomUUID());
+			when(delegate.insertNewReservation(newReservation)).thenReturn(newReservation);
+			
+			service.insertNewReservation(newReservation);
+			
+			assertThat(service.findAllReservations())
+				.containsExactly(reservation, another_reservation, newReservation);
+			assertThat(service.findReservationOn(newDate)).isSameAs(newReservation);
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Mutation rejected by business rules keeps the caches")
+		void testMutationWhenInstanceAlreadyExistsShouldKeepTheCaches() {
+			Client newClient = new Client(A_FIRSTNAME, A_LASTNAME);
+			InstanceAlreadyExistsException rejection = new InstanceAlreadyExistsException("already exists");
+			when(delegate.insertNewClient(newClient)).thenThrow(rejection);
+			
+			assertThatThrownBy(() -> service.insertNewClient(newClient)).isSameAs(rejection);
+			
+			service.findAllClients();
+			service.findAllReservations();
+			verify(delegate).findAllClients();
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Mutation of a missing instance keeps the caches")
+		void testMutationWhenInstanceIsNotFoundShouldKeepTheCaches() {
+			InstanceNotFoundException rejection = new InstanceNotFoundException("not found");
+			doThrow(rejection).when(delegate).removeReservation(A_RESERVATION_UUID);
+			
+			assertThatThrownBy(() -> service.removeReservation(A_RESERVATION_UUID)).isSameAs(rejection);
+			
+			service.findAllReservations();
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Database failure invalidates the caches")
+		void testMutationWhenDatabaseFailsShouldInvalidateAllTheCaches() {
+			doThrow(new DatabaseException("error", null)).when(delegate).removeReservation(A_RESERVATION_UUID);
+			
+			assertThatThrownBy(() -> service.removeReservation(A_RESERVATION_UUID))
+				.isInstanceOf(DatabaseException.class);
+			
+			service.findAllReservations();
+			verify(delegate, times(2)).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'removeClient' drops the client and his reservations")
+		void testRemoveClientWhenSucceedsShouldDropTheClientAndHisReservations() {
+			service.removeClient(A_CLIENT_UUID);
+			
+			assertThat(service.findAllClients()).containsExactly(another_client);
+			assertThat(service.findAllReservations()).containsExactly(another_reservation);
+			verify(delegate).findAllClients();
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'removeClientNamed' drops the client and clears reservations")
+		void testRemoveClientNamedWhenSucceedsShouldDropTheClientAndClearReservations() {
+			service.removeClientNamed(A_FIRSTNAME, A_LASTNAME);
+			
+			assertThat(service.findAllClients()).containsExactly(another_client);
+			service.findAllReservations();
+			verify(delegate).findAllClients();
+			verify(delegate, times(2)).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'removeReservation' drops the reservation")
+		void testRemoveReservationWhenSucceedsShouldDropTheReservation() {
+			service.removeReservation(A_RESERVATION_UUID);
+			
+			assertThat(service.findAllReservations()).containsExactly(another_reservation);
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'removeReservationOn' drops the reservation")
+		void testRemoveReservationOnWhenSucceedsShouldDropTheReservation() {
+			when(delegate.findReservationOn(DEFAULT_RESOURCE, A_LOCALDATE)).thenThrow(new InstanceNotFoundException("not found"));
+			
+			service.removeReservationOn(A_LOCALDATE);
+			
+			assertThat(service.findAllReservations()).containsExactly(another_reservation);
+			assertThatThrownBy(() -> service.findReservationOn(A_LOCALDATE))
+				.isInstanceOf(InstanceNotFoundException.class);
+		}
+
+		@Test
+		@DisplayName("'removeReservationsOn' drops the reservations")
+		void testRemoveReservationsOnWhenSucceedsShouldDropTheReservations() {
+			List<LocalDate> dates = Arrays.asList(A_LOCALDATE, ANOTHER_LOCALDATE);
+			when(delegate.removeReservationsOn(dates))
+				.thenReturn(Arrays.asList(BulkOutcome.REMOVED, BulkOutcome.REMOVED));
+			
+			assertThat(service.removeReservationsOn(dates))
+				.containsExactly(BulkOutcome.REMOVED, BulkOutcome.REMOVED);
+			
+			assertThat(service.findAllReservations()).isEmpty();
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("'archiveReservationsBefore' drops the archived reservations")
+		void testArchiveReservationsBeforeWhenSucceedsShouldDropTheReservationsBeforeTheHorizon() {
+			when(delegate.archiveReservationsBefore(ANOTHER_LOCALDATE, 10)).thenReturn(1);
+			
+			assertThat(service.archiveReservationsBefore(ANOTHER_LOCALDATE, 10)).isEqualTo(1);
+			
+			assertThat(service.findAllReservations()).containsExactly(another_reservation);
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Bulk insertions add only the inserted instances")
+		void testBulkInsertionsWhenSucceedShouldAddOnlyTheInsertedInstances() {
+			Client newClient = new Client("Giovanni", "Verdi");
+			List<Client> clients = Arrays.asList(new Client(A_FIRSTNAME, A_LASTNAME), newClient);
+			when(delegate.insertNewClients(clients))
+				.thenReturn(Arrays.asList(BulkOutcome.ALREADY_EXISTS, BulkOutcome.INSERTED));
+			Reservation newReservation = new Reservation(ANOTHER_CLIENT_UUID, LocalDate.parse("2023-12-25"));
+			List<Reservation> reservations = Arrays.asList(newReservation);
+			when(delegate.insertNewReservations(reservations))
+				.thenReturn(Arrays.asList(BulkOutcome.INSERTED));
+			
+			service.insertNewClients(clients);
+			service.insertNewReservations(reservations);
+			
+			assertThat(service.findAllClients()).containsExactly(client, another_client, newClient);
+			assertThat(service.findAllReservations())
+				.containsExactly(reservation, another_reservation, newReservation);
+		}
+
+		@Test
+		@DisplayName("'renameClient' replaces the client")
+		void testRenameClientWhenSucceedsShouldReplaceTheClient() {
+			Client renamed = new Client("Giovanni", "Verdi");
+			renamed.setId(A_CLIENT_UUID);
+			when(delegate.renameClient(A_CLIENT_UUID, "Giovanni", "Verdi")).thenReturn(renamed);
+			when(delegate.findClientNamed(A_FIRSTNAME, A_LASTNAME))
+				.thenThrow(new InstanceNotFoundException("not found"));
+			
+			service.renameClient(A_CLIENT_UUID, "Giovanni", "Verdi");
+			
+			assertThat(service.findAllClients()).containsExactly(renamed, another_client);
+			assertThat(service.findClientNamed("Giovanni", "Verdi")).isSameAs(renamed);
+			assertThatThrownBy(() -> service.findClientNamed(A_FIRSTNAME, A_LASTNAME))
+				.isInstanceOf(InstanceNotFoundException.class);
+		}
+
+		@Test
+		@DisplayName("'rescheduleReservation' replaces the reservation")
+		void testRescheduleReservationWhenSucceedsShouldReplaceTheReservation() {
+			LocalDate newDate = LocalDate.parse("2023-12-25");
+			Reservation rescheduled = new Reservation(A_CLIENT_UUID, newDate);
+			rescheduled.setId(A_RESERVATION_UUID);
+			when(delegate.rescheduleReservation(A_RESERVATION_UUID, newDate)).thenReturn(rescheduled);
+			when(delegate.findReservationOn(DEFAULT_RESOURCE, A_LOCALDATE))
+				.thenThrow(new InstanceNotFoundException("not found"));
+			
+			service.rescheduleReservation(A_RESERVATION_UUID, newDate);
+			
+			assertThat(service.findAllReservations()).containsExactly(rescheduled, another_reservation);
+			assertThat(service.findReservationOn(newDate)).isSameAs(rescheduled);
+			assertThatThrownBy(() -> service.findReservationOn(A_LOCALDATE))
+				.isInstanceOf(InstanceNotFoundException.class);
+		}
+
+		@Test
+		@DisplayName("'invalidateAll' clears the caches")
+		void testInvalidateAllShouldForceTheNextReadsToQueryTheDelegate() {
+			service.invalidateAll();
+			
+			service.findAllClients();
+			verify(delegate, times(2)).findAllClients();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for changes made by other writers")
+	class ChangeListenerTest {
+
+		@BeforeEach
+		void fillCaches() throws Exception {
+			when(delegate.findAllClients()).thenReturn(Arrays.asList(client, another_client));
+			when(delegate.findAllReservations()).thenReturn(Arrays.asList(reservation, another_reservation));
+			service.findAllClients();
+			service.findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Remote client change drops the client")
+		void testClientChangedShouldDropTheClientAndTheListOfClients() {
+			Client renamed = new Client("Giovanni", "Verdi");
+			renamed.setId(A_CLIENT_UUID);
+			when(delegate.findClient(A_CLIENT_UUID)).thenReturn(renamed);
+			when(delegate.findClientNamed(A_FIRSTNAME, A_LASTNAME))
+				.thenThrow(new InstanceNotFoundException("not found"));
+			
+			service.clientChanged(new ChangeEvent<>(Kind.UPDATE, A_CLIENT_UUID, client, renamed));
+			
+			assertThat(service.findClient(A_CLIENT_UUID)).isSameAs(renamed);
+			assertThatThrownBy(() -> service.findClientNamed(A_FIRSTNAME, A_LASTNAME))
+				.isInstanceOf(InstanceNotFoundException.class);
+			assertThat(service.findClient(ANOTHER_CLIENT_UUID)).isSameAs(another_client);
+			service.findAllClients();
+			service.findAllReservations();
+			verify(delegate, times(2)).findAllClients();
+			verify(delegate).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Remote reservation change drops the reservation")
+		void testReservationChangedShouldDropTheReservationAndTheListOfReservations() {
+			when(delegate.findReservationOn(DEFAULT_RESOURCE, A_LOCALDATE)).thenThrow(new InstanceNotFoundException("not found"));
+			
+			service.reservationChanged(new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, reservation, null));
+			
+			assertThatThrownBy(() -> service.findReservationOn(A_LOCALDATE))
+				.isInstanceOf(InstanceNotFoundException.class);
+			assertThat(service.findReservation(ANOTHER_RESERVATION_UUID)).isSameAs(another_reservation);
+			service.findAllClients();
+			service.findAllReservations();
+			verify(delegate).findAllClients();
+			verify(delegate, times(2)).findAllReservations();
+		}
+
+		@Test
+		@DisplayName("Missed changes clear the caches")
+		void testChangesMissedShouldForceTheNextReadsToQueryTheDelegate() {
+			service.changesMissed();
+			
+			service.findAllClients();
+			service.findAllReservations();
+			verify(delegate, times(2)).findAllClients();
+			verify(delegate, times(2)).findAllReservations();
+		}
+	}
+}
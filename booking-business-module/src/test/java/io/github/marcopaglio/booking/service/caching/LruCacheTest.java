@@ -0,0 +1,175 @@
+package io.github.marcopaglio.booking.service.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for LruCache class")
+class LruCacheTest {
+	private static final int MAXIMUM_SIZE = 2;
+	private static final long TIME_TO_LIVE_NANOS = 1000;
+
+	private AtomicLong clock;
+	private LruCache<String, Integer> cache;
+
+	@BeforeEach
+	void setUp() {
+		clock = new AtomicLong();
+		cache = new LruCache<>(MAXIMUM_SIZE, TIME_TO_LIVE_NANOS, clock::get);
+	}
+
+	@Nested
+	@DisplayName("Tests for 'get'")
+	class GetTest {
+
+		@Test
+		@DisplayName("Live entry")
+		void testGetWhenEntryIsLiveShouldReturnItAndCountAHit() {
+			cache.put("one", 1);
+			
+			assertThat(cache.get("one")).isEqualTo(1);
+			assertThat(cache.getHitCount()).isEqualTo(1);
+			assertThat(cache.getMissCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Missing entry")
+		void testGetWhenEntryIsMissingShouldReturnNullAndCountAMiss() {
+			assertThat(cache.get("one")).isNull();
+			assertThat(cache.getHitCount()).isZero();
+			assertThat(cache.getMissCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Expired entry")
+		void testGetWhenEntryIsExpiredShouldEvictItAndCountAMiss() {
+			cache.put("one", 1);
+			clock.addAndGet(TIME_TO_LIVE_NANOS);
+			
+			assertThat(cache.get("one")).isNull();
+			assertThat(cache.getMissCount()).isEqualTo(1);
+			assertThat(cache.getEvictionCount()).isEqualTo(1);
+			assertThat(cache.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("Entry about to expire")
+		void testGetWhenEntryIsAboutToExpireShouldReturnIt() {
+			cache.put("one", 1);
+			clock.addAndGet(TIME_TO_LIVE_NANOS - 1);
+			
+			assertThat(cache.get("one")).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'put'")
+	class PutTest {
+
+		@Test
+		@DisplayName("Cache overflows")
+		void testPutWhenCacheOverflowsShouldEvictTheLeastRecentlyUsed() {
+			cache.put("one", 1);
+			cache.put("two", 2);
+			cache.get("one");
+			
+			cache.put("three", 3);
+			
+			assertThat(cache.size()).isEqualTo(MAXIMUM_SIZE);
+			assertThat(cache.getEvictionCount()).isEqualTo(1);
+			assertThat(cache.get("two")).isNull();
+			assertThat(cache.get("one")).isEqualTo(1);
+			assertThat(cache.get("three")).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("Cache is full")
+		void testPutWhenCacheIsFullButDoesNotOverflowShouldNotEvict() {
+			cache.put("one", 1);
+			cache.put("two", 2);
+			
+			assertThat(cache.getEvictionCount()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'update'")
+	class UpdateTest {
+
+		@Test
+		@DisplayName("Live entry")
+		void testUpdateWhenEntryIsLiveShouldReplaceTheValueKeepingTheExpiration() {
+			cache.put("one", 1);
+			clock.addAndGet(TIME_TO_LIVE_NANOS - 1);
+			
+			cache.update("one", value -> value + 10);
+			
+			assertThat(cache.get("one")).isEqualTo(11);
+			clock.incrementAndGet();
+			assertThat(cache.get("one")).isNull();
+		}
+
+		@Test
+		@DisplayName("Missing entry")
+		void testUpdateWhenEntryIsMissingShouldDoNothing() {
+			cache.update("one", value -> value + 10);
+			
+			assertThat(cache.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("Expired entry")
+		void testUpdateWhenEntryIsExpiredShouldNotRefreshIt() {
+			cache.put("one", 1);
+			clock.addAndGet(TIME_TO_LIVE_NANOS);
+			
+			cache.update("one", value -> value + 10);
+			
+			assertThat(cache.get("one")).isNull();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for removals")
+	class RemoveTest {
+
+		@Test
+		@DisplayName("'remove' drops the entry")
+		void testRemoveShouldDropTheEntryWithoutCountingAnEviction() {
+			cache.put("one", 1);
+			
+			cache.remove("one");
+			
+			assertThat(cache.size()).isZero();
+			assertThat(cache.getEvictionCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("'removeIf' drops matching entries")
+		void testRemoveIfShouldDropOnlyTheMatchingEntries() {
+			cache.put("one", 1);
+			cache.put("two", 2);
+			
+			cache.removeIf(value -> value % 2 == 0);
+			
+			assertThat(cache.get("one")).isEqualTo(1);
+			assertThat(cache.get("two")).isNull();
+		}
+
+		@Test
+		@DisplayName("'clear' drops all the entries")
+		void testClearShouldDropAllTheEntries() {
+			cache.put("one", 1);
+			cache.put("two", 2);
+			
+			cache.clear();
+			
+			assertThat(cache.size()).isZero();
+		}
+	}
+}
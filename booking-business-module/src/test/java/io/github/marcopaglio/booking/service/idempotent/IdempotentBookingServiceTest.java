@@ -0,0 +1,338 @@
+package io.github.marcopaglio.booking.service.idempotent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
+import io.github.marcopaglio.booking.idempotency.IdempotencyRecord;
+import io.github.marcopaglio.booking.idempotency.IdempotencyStore;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.service.BookingService;
+
+@DisplayName("Tests for IdempotentBookingService class")
+@ExtendWith(MockitoExtension.class)
+class IdempotentBookingServiceTest {
+	private static final String A_FIRSTNAME = "Mario";
+	private static final String A_LASTNAME = "Rossi";
+	private static final UUID A_CLIENT_UUID = UUID.fromString("bc49bffa-0766-4e5d-90af-d8a6ef516df4");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("1959c0a1-8416-45fd-8376-83098299bd48");
+	private static final String A_RESOURCE = "court-1";
+
+	private static final UUID A_KEY = UUID.fromString("5f0c2a2e-0d7e-4b44-9c4c-43c1b0b7e1a1");
+
+	private static final int MAXIMUM_SIZE = 10;
+	private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private static final int NUM_OF_THREADS = 10;
+
+	@Mock
+	private BookingService delegate;
+
+	@Mock
+	private IdempotencyStore store;
+
+	private AtomicLong clock;
+
+	private IdempotentBookingService service;
+
+	private Client client;
+	private Reservation reservation;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		clock = new AtomicLong();
+		service = new IdempotentBookingService(delegate, store, MAXIMUM_SIZE, TIME_TO_LIVE, clock::get);
+		
+		client = new Client(A_FIRSTNAME, A_LASTNAME);
+		client.setId(A_CLIENT_UUID);
+		reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+		reservation.setId(A_RESERVATION_UUID);
+	}
+
+	@Nested
+	@DisplayName("Tests for 'IdempotentBookingService'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Null delegate")
+		void testConstructorWhenDelegateIsNullShouldThrow() {
+			assertThatThrownBy(() -> new IdempotentBookingService(null, store, MAXIMUM_SIZE, TIME_TO_LIVE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Booking service to decorate cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Null store")
+		void testConstructorWhenStoreIsNullShouldThrow() {
+			assertThatThrownBy(() -> new IdempotentBookingService(delegate, null, MAXIMUM_SIZE, TIME_TO_LIVE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Store of idempotency keys cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Non-positive maximum size")
+		void testConstructorWhenMaximumSizeIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new IdempotentBookingService(delegate, store, 0, TIME_TO_LIVE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Maximum size of served requests must be positive.");
+		}
+
+		@Test
+		@DisplayName("Null time-to-live")
+		void testConstructorWhenTimeToLiveIsNullShouldThrow() {
+			assertThatThrownBy(() -> new IdempotentBookingService(delegate, store, MAXIMUM_SIZE, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Time-to-live of served requests cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Zero time-to-live")
+		void testConstructorWhenTimeToLiveIsZeroShouldThrow() {
+			assertThatThrownBy(() -> new IdempotentBookingService(delegate, store, MAXIMUM_SIZE, Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Time-to-live of served requests must be positive.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for requests with idempotency key")
+	class KeyedRequestTest {
+
+		@Test
+		@DisplayName("Request without key")
+		void testInsertNewClientWhenKeyIsNullShouldExecuteWithoutRemembering() {
+			when(delegate.insertNewClient(client)).thenReturn(client);
+			
+			assertThat(service.insertNewClient(client, null)).isSameAs(client);
+			assertThat(service.insertNewClient(client, null)).isSameAs(client);
+			
+			verify(delegate, times(2)).insertNewClient(client);
+			verifyNoInteractions(store);
+		}
+
+		@Test
+		@DisplayName("First request")
+		void testInsertNewClientWhenKeyIsNewShouldExecuteAndRemember() {
+			when(delegate.insertNewClient(client)).thenReturn(client);
+			
+			assertThat(service.insertNewClient(client, A_KEY)).isSameAs(client);
+			
+			verify(store).find(A_KEY);
+			verify(store).save(A_KEY, new IdempotencyRecord("insertNewClient", client));
+		}
+
+		@Test
+		@DisplayName("Retried request")
+		void testInsertNewReservationWhenRetriedShouldReturnTheFirstResultFromMemory() {
+			when(delegate.insertNewReservation(reservation)).thenReturn(reservation);
+			service.insertNewReservation(reservation, A_KEY);
+			
+			assertThat(service.insertNewReservation(reservation, A_KEY)).isSameAs(reservation);
+			
+			verify(delegate).insertNewReservation(reservation);
+			verify(store).find(A_KEY);
+		}
+
+		@Test
+		@DisplayName("Retried removal")
+		void testRemoveClientWhenRetriedShouldNotRemoveAgain() {
+			service.removeClient(A_CLIENT_UUID, A_KEY);
+			
+			service.removeClient(A_CLIENT_UUID, A_KEY);
+			
+			verify(delegate).removeClient(A_CLIENT_UUID);
+			verify(store).save(A_KEY, new IdempotencyRecord("removeClient", null));
+		}
+
+		@Test
+		@DisplayName("Retried removal of a resource's reservation")
+		void testRemoveReservationOnWhenRetriedForAResourceShouldNotRemoveAgain() {
+			service.removeReservationOn(A_RESOURCE, A_LOCALDATE, A_KEY);
+			
+			service.removeReservationOn(A_RESOURCE, A_LOCALDATE, A_KEY);
+			
+			verify(delegate).removeReservationOn(A_RESOURCE, A_LOCALDATE);
+			verify(store).save(A_KEY, new IdempotencyRecord("removeReservationOn", null));
+		}
+
+		@Test
+		@DisplayName("Request served by another instance")
+		void testRenameClientWhenKeyIsInStoreShouldReturnTheStoredResult() {
+			when(store.find(A_KEY)).thenReturn(new IdempotencyRecord("renameClient", client));
+			
+			assertThat(service.renameClient(A_CLIENT_UUID, A_FIRSTNAME, A_LASTNAME, A_KEY)).isSameAs(client);
+			assertThat(service.renameClient(A_CLIENT_UUID, A_FIRSTNAME, A_LASTNAME, A_KEY)).isSameAs(client);
+			
+			verify(store).find(A_KEY);
+			verify(store, never()).save(any(), any());
+			verifyNoInteractions(delegate);
+		}
+
+		@Test
+		@DisplayName("Request forgotten by memory")
+		void testRescheduleReservationWhenExpiredFromMemoryShouldBeServedByTheStore() {
+			when(delegate.rescheduleReservation(A_RESERVATION_UUID, A_LOCALDATE)).thenReturn(reservation);
+			service.rescheduleReservation(A_RESERVATION_UUID, A_LOCALDATE, A_KEY);
+			when(store.find(A_KEY)).thenReturn(new IdempotencyRecord("rescheduleReservation", reservation));
+			
+			clock.addAndGet(TIME_TO_LIVE.toNanos());
+			
+			assertThat(service.rescheduleReservation(A_RESERVATION_UUID, A_LOCALDATE, A_KEY)).isSameAs(reservation);
+			verify(delegate).rescheduleReservation(A_RESERVATION_UUID, A_LOCALDATE);
+		}
+
+		@Test
+		@DisplayName("Key used by another operation")
+		void testRemoveReservationOnWhenKeyHasBeenUsedByAnotherOperationShouldThrow() {
+			service.removeClientNamed(A_FIRSTNAME, A_LASTNAME, A_KEY);
+			
+			assertThatThrownBy(() -> service.removeReservationOn(A_LOCALDATE, A_KEY))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Idempotency key " + A_KEY + " has already been used by removeClientNamed.");
+			
+			verify(delegate, never()).removeReservationOn(any(String.class), any(LocalDate.class));
+		}
+
+		@Test
+		@DisplayName("Failed request")
+		void testRemoveReservationWhenFirstRequestFailsShouldExecuteTheRetry() {
+			doThrow(new DatabaseException()).doNothing().when(delegate).removeReservation(A_RESERVATION_UUID);
+			
+			assertThatThrownBy(() -> service.removeReservation(A_RESERVATION_UUID, A_KEY))
+				.isInstanceOf(DatabaseException.class);
+			service.removeReservation(A_RESERVATION_UUID, A_KEY);
+			
+			verify(delegate, times(2)).removeReservation(A_RESERVATION_UUID);
+			verify(store, times(1)).save(any(), any());
+		}
+
+		@Test
+		@DisplayName("Entity of the first request no longer exists")
+		void testInsertNewClientWhenClientOfTheFirstRequestNoLongerExistsShouldReturnIt() {
+			when(store.find(A_KEY)).thenReturn(new IdempotencyRecord("insertNewClient", client));
+			
+			assertThat(service.insertNewClient(client, A_KEY)).isSameAs(client);
+			
+			verifyNoInteractions(delegate);
+		}
+
+		@Test
+		@DisplayName("Store fails")
+		void testInsertNewClientWhenStoreFailsShouldStillServeTheRequestOnce() {
+			when(store.find(A_KEY)).thenThrow(new DatabaseException());
+			doThrow(new DatabaseException()).when(store).save(any(), any());
+			when(delegate.insertNewClient(client)).thenReturn(client);
+			
+			assertThat(service.insertNewClient(client, A_KEY)).isSameAs(client);
+			assertThat(service.insertNewClient(client, A_KEY)).isSameAs(client);
+			
+			verify(delegate).insertNewClient(client);
+		}
+
+		@Test
+		@DisplayName("Concurrent retries")
+		void testInsertNewReservationWhenConcurrentRetriesOccurShouldExecuteOnce() throws Exception {
+			when(delegate.insertNewReservation(reservation)).thenAnswer(invocation -> {
+				// wait for simulating database operations
+				Thread.sleep(10);
+				return reservation;
+			});
+			
+			List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
+					.mapToObj(i -> new Thread(() -> service.insertNewReservation(reservation, A_KEY)))
+					.peek(Thread::start)
+					.toList();
+			for (Thread thread : threads)
+				thread.join();
+			
+			verify(delegate).insertNewReservation(reservation);
+		}
+
+		@Test
+		@DisplayName("Concurrent retries after a failed request")
+		void testInsertNewReservationWhenFirstOfConcurrentRequestsFailsShouldExecuteTheOthersOneAtATime() throws Exception {
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			when(delegate.insertNewReservation(reservation)).thenAnswer(invocation -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				// wait for simulating database operations
+				Thread.sleep(10);
+				running.decrementAndGet();
+				throw new DatabaseException();
+			}).thenAnswer(invocation -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(10);
+				running.decrementAndGet();
+				return reservation;
+			});
+			
+			List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
+					.mapToObj(i -> new Thread(() -> {
+						try {
+							service.insertNewReservation(reservation, A_KEY);
+						} catch(DatabaseException e) {
+							// the first request fails
+						}
+					}))
+					.peek(Thread::start)
+					.toList();
+			for (Thread thread : threads)
+				thread.join();
+			
+			assertThat(maxRunning).hasValue(1);
+			verify(delegate, times(2)).insertNewReservation(reservation);
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for requests without idempotency key")
+	class PlainRequestTest {
+
+		@Test
+		@DisplayName("Plain mutation")
+		void testInsertNewClientShouldBeDelegated() {
+			when(delegate.insertNewClient(client)).thenThrow(new InstanceAlreadyExistsException());
+			
+			assertThatThrownBy(() -> service.insertNewClient(client))
+				.isInstanceOf(InstanceAlreadyExistsException.class);
+			
+			verifyNoInteractions(store);
+		}
+
+		@Test
+		@DisplayName("Plain lookup")
+		void testFindClientShouldBeDelegated() {
+			when(delegate.findClient(A_CLIENT_UUID)).thenReturn(client);
+			
+			assertThat(service.findClient(A_CLIENT_UUID)).isSameAs(client);
+			
+			verifyNoInteractions(store);
+		}
+	}
+}
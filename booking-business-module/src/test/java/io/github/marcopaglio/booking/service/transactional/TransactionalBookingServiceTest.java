@@ -1,5 +1,6 @@
 package io.github.marcopaglio.booking.service.transactional;
 
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.answer;
@@ -8,13 +9,16 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,14 +35,21 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
 import io.github.marcopaglio.booking.exception.DatabaseException;
 import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
 import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
 import io.github.marcopaglio.booking.exception.TransactionException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 import io.github.marcopaglio.booking.repository.ClientRepository;
 import io.github.marcopaglio.booking.repository.ReservationRepository;
+import io.github.marcopaglio.booking.service.BulkOutcome;
+import io.github.marcopaglio.booking.service.availability.AvailabilityIndex;
 import io.github.marcopaglio.booking.transaction.code.ClientReservationTransactionCode;
 import io.github.marcopaglio.booking.transaction.code.ClientTransactionCode;
 import io.github.marcopaglio.booking.transaction.code.ReservationTransactionCode;
@@ -55,6 +66,7 @@ class TransactionalBookingServiceTest {
 	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
 	private static final Reservation A_RESERVATION = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
 	private static final UUID A_RESERVATION_UUID = UUID.fromString("1959c0a1-8416-45fd-8376-83098299bd48");
+	private static final String A_RESOURCE = "court-1";
 
 	private static final String ANOTHER_FIRSTNAME = "Maria";
 	private static final String ANOTHER_LASTNAME = "De Lucia";
@@ -138,6 +150,33 @@ class TransactionalBookingServiceTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'snapshot'")
+			class SnapshotTest {
+
+				@Test
+				@DisplayName("Snapshot is retrieved")
+				void testSnapshotShouldReturnTheSnapshotOfRepositoryInOneTransaction() {
+					Client client = new Client(A_FIRSTNAME, A_LASTNAME);
+					client.setId(A_CLIENT_UUID);
+					BookingSnapshot snapshot = new BookingSnapshot(
+							Arrays.asList(client), Arrays.asList(A_RESERVATION));
+					
+					when(clientRepository.findAllWithReservations()).thenReturn(snapshot);
+					
+					assertThat(transactionalBookingService.snapshot()).isEqualTo(snapshot);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, clientRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ClientTransactionCode<?>>any());
+					inOrder.verify(clientRepository).findAllWithReservations();
+					
+					verifyNoMoreInteractions(transactionManager, clientRepository);
+					verifyNoInteractions(reservationRepository);
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'findClient'")
 			class FindClientTest {
@@ -206,6 +245,28 @@ class TransactionalBookingServiceTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'searchClients'")
+			class SearchClientsTest {
+
+				@Test
+				@DisplayName("Clients found")
+				void testSearchClientsShouldReturnTheClientsFoundByTheRepository() {
+					List<Client> clients = Arrays.asList(A_CLIENT, new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME));
+					when(clientRepository.searchByName("mar", 10)).thenReturn(clients);
+					
+					assertThat(transactionalBookingService.searchClients("mar", 10)).isEqualTo(clients);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, clientRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ClientTransactionCode<?>>any());
+					inOrder.verify(clientRepository).searchByName("mar", 10);
+					
+					verifyNoMoreInteractions(transactionManager, clientRepository);
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'insertNewClient'")
 			class InsertNewClientTest {
@@ -244,6 +305,48 @@ class TransactionalBookingServiceTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'insertNewClients'")
+			class InsertNewClientsTest {
+
+				@Test
+				@DisplayName("Clients are new")
+				void testInsertNewClientsWhenClientsDoNotAlreadyExistShouldInsertAllAndReturnOutcomes() {
+					Client client = new Client(A_FIRSTNAME, A_LASTNAME);
+					Client anotherClient = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+					List<Client> clients = Arrays.asList(client, anotherClient);
+					// default stubbing for clientRepository.findByNames(clients)
+					
+					assertThat(transactionalBookingService.insertNewClients(clients))
+						.containsExactly(BulkOutcome.INSERTED, BulkOutcome.INSERTED);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, clientRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ClientTransactionCode<?>>any());
+					inOrder.verify(clientRepository).findByNames(clients);
+					inOrder.verify(clientRepository).insertAll(clients);
+					
+					verifyNoMoreInteractions(transactionManager, clientRepository);
+				}
+
+				@Test
+				@DisplayName("Some clients already exist or are repeated")
+				void testInsertNewClientsWhenSomeClientsAlreadyExistOrAreRepeatedShouldInsertOnlyTheOthers() {
+					Client existingClient = new Client(A_FIRSTNAME, A_LASTNAME);
+					Client newClient = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+					Client repeatedClient = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+					List<Client> clients = Arrays.asList(existingClient, newClient, repeatedClient);
+					when(clientRepository.findByNames(clients)).thenReturn(Arrays.asList(A_CLIENT));
+					
+					assertThat(transactionalBookingService.insertNewClients(clients))
+						.containsExactly(BulkOutcome.ALREADY_EXISTS, BulkOutcome.INSERTED,
+								BulkOutcome.ALREADY_EXISTS);
+					
+					verify(clientRepository).insertAll(Arrays.asList(newClient));
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'renameClient'")
 			class RenameClientTest {
@@ -331,6 +434,14 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'snapshot'")
+			void testSnapshotWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(() -> transactionalBookingService.snapshot())
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'findClient'")
 			void testFindClientWhenTransactionFailsShouldThrow() {
@@ -349,6 +460,15 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'searchClients'")
+			void testSearchClientsWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(
+						() -> transactionalBookingService.searchClients(A_FIRSTNAME, 10))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'insertNewClient'")
 			void testInsertNewClientWhenTransactionFailsShouldThrow() {
@@ -358,6 +478,17 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'insertNewClients'")
+			void testInsertNewClientsWhenTransactionFailsShouldThrow() {
+				List<Client> clients = Arrays.asList(A_CLIENT);
+				
+				assertThatThrownBy(
+						() -> transactionalBookingService.insertNewClients(clients))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'renameClient'")
 			void testRenameClientWhenTransactionFailsShouldThrow() {
@@ -430,6 +561,31 @@ class TransactionalBookingServiceTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'findAllReservationsOf'")
+			class FindAllReservationsOfTest {
+
+				@Test
+				@DisplayName("Reservations of the resource to retrieve")
+				void testFindAllReservationsOfWhenThereAreReservationsOfTheResourceShouldReturnThemAsList() {
+					List<Reservation> reservations = Arrays.asList(
+							new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE));
+					
+					when(reservationRepository.findByResource(A_RESOURCE)).thenReturn(reservations);
+					
+					assertThat(transactionalBookingService.findAllReservationsOf(A_RESOURCE))
+						.isEqualTo(reservations);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, reservationRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					inOrder.verify(reservationRepository).findByResource(A_RESOURCE);
+					
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'findReservation'")
 			class FindReservationTest {
@@ -471,7 +627,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation exists")
 				void testFindReservationOnWhenReservationExistsShouldReturnTheReservation() {
-					when(reservationRepository.findByDate(A_LOCALDATE))
+					when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
 						.thenReturn(Optional.of(A_RESERVATION));
 					
 					assertThat(transactionalBookingService.findReservationOn(A_LOCALDATE))
@@ -481,7 +637,7 @@ class TransactionalBookingServiceTest {
 					
 					inOrder.verify(transactionManager)
 						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
-					inOrder.verify(reservationRepository).findByDate(A_LOCALDATE);
+					inOrder.verify(reservationRepository).findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE);
 					
 					verifyNoMoreInteractions(transactionManager, reservationRepository);
 				}
@@ -489,13 +645,27 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation doesn't exist")
 				void testFindReservationOnWhenReservationDoesNotExistShouldThrow() {
-					// default stubbing for reservationRepository.findByDate(date)
+					// default stubbing for reservationRepository.findByResourceAndDate(resource, date)
 					
 					assertThatThrownBy(
 							() -> transactionalBookingService.findReservationOn(A_LOCALDATE))
 						.isInstanceOf(InstanceNotFoundException.class)
 						.hasMessage(RESERVATION_NOT_FOUND_ERROR_MSG);
 				}
+
+				@Test
+				@DisplayName("Reservation of a resource exists")
+				void testFindReservationOnWhenReservationOfTheResourceExistsShouldReturnTheReservation() {
+					Reservation reservation = new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE);
+					when(reservationRepository.findByResourceAndDate(A_RESOURCE, A_LOCALDATE))
+						.thenReturn(Optional.of(reservation));
+					
+					assertThat(transactionalBookingService.findReservationOn(A_RESOURCE, A_LOCALDATE))
+						.isEqualTo(reservation);
+					
+					verify(reservationRepository).findByResourceAndDate(A_RESOURCE, A_LOCALDATE);
+					verifyNoMoreInteractions(reservationRepository);
+				}
 			}
 
 			@Nested
@@ -541,7 +711,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation exists")
 				void testRemoveReservationOnWhenReservationExistsShouldRemove() {
-					when(reservationRepository.findByDate(A_LOCALDATE))
+					when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
 						.thenReturn(Optional.of(A_RESERVATION));
 					
 					transactionalBookingService.removeReservationOn(A_LOCALDATE);
@@ -550,7 +720,7 @@ class TransactionalBookingServiceTest {
 					
 					inOrder.verify(transactionManager)
 						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
-					inOrder.verify(reservationRepository).findByDate(A_LOCALDATE);
+					inOrder.verify(reservationRepository).findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE);
 					inOrder.verify(reservationRepository).delete(A_RESERVATION);
 					
 					verifyNoMoreInteractions(transactionManager, reservationRepository);
@@ -559,7 +729,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation doesn't exist")
 				void testRemoveReservationOnWhenReservationDoesNotExistShouldNotRemoveAnythingAndThrow() {
-					// default stubbing for reservationRepository.findByDate(date)
+					// default stubbing for reservationRepository.findByResourceAndDate(resource, date)
 					
 					assertThatThrownBy(
 							() -> transactionalBookingService.removeReservationOn(A_LOCALDATE))
@@ -570,6 +740,147 @@ class TransactionalBookingServiceTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'removeReservationsOn'")
+			class RemoveReservationsOnTest {
+
+				@Test
+				@DisplayName("Some reservations exist")
+				void testRemoveReservationsOnWhenSomeReservationsExistShouldRemoveThemAndReturnOutcomes() {
+					List<LocalDate> dates = Arrays.asList(A_LOCALDATE, ANOTHER_LOCALDATE, A_LOCALDATE);
+					when(reservationRepository.findByDates(Arrays.asList(A_LOCALDATE, ANOTHER_LOCALDATE)))
+						.thenReturn(Arrays.asList(A_RESERVATION));
+					
+					assertThat(transactionalBookingService.removeReservationsOn(dates))
+						.containsExactly(BulkOutcome.REMOVED, BulkOutcome.NOT_FOUND, BulkOutcome.NOT_FOUND);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, reservationRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					inOrder.verify(reservationRepository)
+						.findByDates(Arrays.asList(A_LOCALDATE, ANOTHER_LOCALDATE));
+					inOrder.verify(reservationRepository).deleteAll(Arrays.asList(A_RESERVATION));
+					
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+
+				@Test
+				@DisplayName("No reservations exist")
+				void testRemoveReservationsOnWhenNoReservationsExistShouldNotRemoveAnything() {
+					List<LocalDate> dates = Arrays.asList(A_LOCALDATE);
+					// default stubbing for reservationRepository.findByDates(dates)
+					
+					assertThat(transactionalBookingService.removeReservationsOn(dates))
+						.containsExactly(BulkOutcome.NOT_FOUND);
+					
+					verify(reservationRepository).deleteAll(Collections.emptyList());
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findReservationHistoryOf'")
+			class FindReservationHistoryOfTest {
+
+				@Test
+				@DisplayName("Reservations in use and archived")
+				void testFindReservationHistoryOfShouldReturnTheHistoryFoundByTheRepository() {
+					List<Reservation> history = Arrays.asList(A_RESERVATION,
+							new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE));
+					
+					when(reservationRepository.findHistoryByClient(A_CLIENT_UUID)).thenReturn(history);
+					
+					assertThat(transactionalBookingService.findReservationHistoryOf(A_CLIENT_UUID))
+						.isEqualTo(history);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, reservationRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					inOrder.verify(reservationRepository).findHistoryByClient(A_CLIENT_UUID);
+					
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'archiveReservationsBefore'")
+			class ArchiveReservationsBeforeTest {
+
+				@Test
+				@DisplayName("Several batches to archive")
+				void testArchiveReservationsBeforeWhenBatchesAreFullShouldArchiveUntilAPartialOne() {
+					when(reservationRepository.archiveBefore(ANOTHER_LOCALDATE, 1))
+						.thenReturn(Arrays.asList(A_RESERVATION))
+						.thenReturn(Collections.emptyList());
+					
+					assertThat(transactionalBookingService.archiveReservationsBefore(ANOTHER_LOCALDATE, 1))
+						.isEqualTo(1);
+					
+					verify(transactionManager, times(2))
+						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					verify(reservationRepository, times(2)).archiveBefore(ANOTHER_LOCALDATE, 1);
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+
+				@Test
+				@DisplayName("Single partial batch to archive")
+				void testArchiveReservationsBeforeWhenFirstBatchIsPartialShouldArchiveOnce() {
+					when(reservationRepository.archiveBefore(ANOTHER_LOCALDATE, 10))
+						.thenReturn(Arrays.asList(A_RESERVATION));
+					
+					assertThat(transactionalBookingService.archiveReservationsBefore(ANOTHER_LOCALDATE, 10))
+						.isEqualTo(1);
+					
+					verify(reservationRepository).archiveBefore(ANOTHER_LOCALDATE, 10);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'getOccupancyReport'")
+			class GetOccupancyReportTest {
+
+				@Test
+				@DisplayName("Report is aggregated by the repository")
+				void testGetOccupancyReportShouldReturnTheReportAggregatedByTheRepository() {
+					OccupancyReport report = new OccupancyReport(Map.of(A_CLIENT_UUID, 1L),
+							Map.of(), Map.of(), 1);
+					
+					when(reservationRepository.aggregateOccupancy(1)).thenReturn(report);
+					
+					assertThat(transactionalBookingService.getOccupancyReport(1)).isEqualTo(report);
+					
+					InOrder inOrder = Mockito.inOrder(transactionManager, reservationRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					inOrder.verify(reservationRepository).aggregateOccupancy(1);
+					
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findReservationsPage'")
+			class FindReservationsPageTest {
+
+				@Test
+				@DisplayName("Page and total are read together")
+				void testFindReservationsPageShouldReturnThePageWithTheTotalReadInTheSameTransaction() {
+					when(reservationRepository.count()).thenReturn(3L);
+					when(reservationRepository.findPage(1, 1)).thenReturn(Arrays.asList(A_RESERVATION));
+					
+					assertThat(transactionalBookingService.findReservationsPage(1, 1))
+						.isEqualTo(new ReservationPage(1, 3L, Arrays.asList(A_RESERVATION)));
+					
+					verify(transactionManager).doInTransaction(
+							ArgumentMatchers.<ReservationTransactionCode<?>>any());
+					verify(reservationRepository).count();
+					verify(reservationRepository).findPage(1, 1);
+					verifyNoMoreInteractions(transactionManager, reservationRepository);
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'rescheduleReservation'")
 			class RescheduleReservationTest {
@@ -583,7 +894,7 @@ class TransactionalBookingServiceTest {
 					Reservation spiedReservation = spy(A_RESERVATION);
 					when(reservationRepository.findById(A_RESERVATION_UUID))
 						.thenReturn(Optional.of(spiedReservation));
-					// default stubbing for reservationRepository.findByDate(date)
+					// default stubbing for reservationRepository.findByResourceAndDate(resource, date)
 					when(reservationRepository.save(spiedReservation))
 						.thenReturn(rescheduledReservation);
 					
@@ -597,7 +908,9 @@ class TransactionalBookingServiceTest {
 					inOrder.verify(transactionManager)
 						.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any());
 					inOrder.verify(reservationRepository).findById(A_RESERVATION_UUID);
-					inOrder.verify(reservationRepository).findByDate(ANOTHER_LOCALDATE);
+					inOrder.verify(spiedReservation).getResource();
+					inOrder.verify(reservationRepository).findByResourceAndDate(DEFAULT_RESOURCE, ANOTHER_LOCALDATE);
+					inOrder.verify(spiedReservation).getDate();
 					inOrder.verify(spiedReservation).setDate(ANOTHER_LOCALDATE);
 					inOrder.verify(reservationRepository).save(spiedReservation);
 					
@@ -614,7 +927,7 @@ class TransactionalBookingServiceTest {
 					Reservation spiedReservation = spy(A_RESERVATION);
 					when(reservationRepository.findById(A_RESERVATION_UUID))
 						.thenReturn(Optional.of(spiedReservation));
-					when(reservationRepository.findByDate(ANOTHER_LOCALDATE))
+					when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, ANOTHER_LOCALDATE))
 						.thenReturn(Optional.of(anotherReservation));
 					
 					assertThatThrownBy(() -> transactionalBookingService
@@ -668,6 +981,14 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'findAllReservationsOf'")
+			void testFindAllReservationsOfWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(() -> transactionalBookingService.findAllReservationsOf(A_RESOURCE))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'findReservationOn'")
 			void testFindReservationOnWhenTransactionFailsShouldThrow() {
@@ -694,6 +1015,50 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'getOccupancyReport'")
+			void testGetOccupancyReportWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(() -> transactionalBookingService.getOccupancyReport(1))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
+			@Test
+			@DisplayName("Transaction fails on 'findReservationsPage'")
+			void testFindReservationsPageWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(() -> transactionalBookingService.findReservationsPage(0, 1))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
+			@Test
+			@DisplayName("Transaction fails on 'removeReservationsOn'")
+			void testRemoveReservationsOnWhenTransactionFailsShouldThrow() {
+				List<LocalDate> dates = Arrays.asList(A_LOCALDATE);
+				
+				assertThatThrownBy(
+						() -> transactionalBookingService.removeReservationsOn(dates))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
+			@Test
+			@DisplayName("Transaction fails on 'findReservationHistoryOf'")
+			void testFindReservationHistoryOfWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(() -> transactionalBookingService.findReservationHistoryOf(A_CLIENT_UUID))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
+			@Test
+			@DisplayName("Transaction fails on 'archiveReservationsBefore'")
+			void testArchiveReservationsBeforeWhenTransactionFailsShouldThrow() {
+				assertThatThrownBy(
+						() -> transactionalBookingService.archiveReservationsBefore(A_LOCALDATE, 1))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'rescheduleReservation'")
 			void testRescheduleReservationWhenTransactionFailsShouldThrow() {
@@ -920,7 +1285,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation is new and client exists")
 				void testInsertNewReservationWhenReservationIsNewAndAssociatedClientExistsShouldInsertAndReturn() {
-					// default stubbing for reservationRepository.findByDate(date)
+					// default stubbing for reservationRepository.findByResourceAndDate(resource, date)
 					when(clientRepository.findById(A_CLIENT_UUID)).thenReturn(Optional.of(A_CLIENT));
 					when(reservationRepository.save(A_RESERVATION)).thenReturn(A_RESERVATION);
 					
@@ -932,7 +1297,7 @@ class TransactionalBookingServiceTest {
 					
 					inOrder.verify(transactionManager)
 						.doInTransaction(ArgumentMatchers.<ClientReservationTransactionCode<?>>any());
-					inOrder.verify(reservationRepository).findByDate(A_LOCALDATE);
+					inOrder.verify(reservationRepository).findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE);
 					inOrder.verify(clientRepository).findById(A_CLIENT_UUID);
 					inOrder.verify(reservationRepository).save(A_RESERVATION);
 				
@@ -942,7 +1307,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation is new and client doesn't exist")
 				void testInsertNewReservationWhenReservationIsNewAndAssociatedClientDoesNotExistShouldNotInsertAndThrow() {
-					// default stubbing for reservationRepository.findByDate(date)
+					// default stubbing for reservationRepository.findByResourceAndDate(resource, date)
 					// default stubbing for clientRepository.findById(id)
 					
 					assertThatThrownBy(
@@ -956,7 +1321,7 @@ class TransactionalBookingServiceTest {
 				@Test
 				@DisplayName("Reservation already exists")
 				void testInsertNewReservationWhenReservationAlreadyExistsShouldNotInsertAndThrow() {
-					when(reservationRepository.findByDate(A_LOCALDATE))
+					when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
 						.thenReturn(Optional.of(A_RESERVATION));
 					
 					assertThatThrownBy(
@@ -967,6 +1332,74 @@ class TransactionalBookingServiceTest {
 					verify(reservationRepository, never()).save(A_RESERVATION);
 				}
 			}
+
+			@Nested
+			@DisplayName("Tests for 'insertNewReservations'")
+			class InsertNewReservationsTest {
+
+				@Test
+				@DisplayName("Reservations are new and clients exist")
+				void testInsertNewReservationsWhenReservationsAreNewAndAssociatedClientsExistShouldInsertAll() {
+					Reservation reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+					Reservation anotherReservation = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+					List<Reservation> reservations = Arrays.asList(reservation, anotherReservation);
+					// default stubbing for reservationRepository.findByDates(dates)
+					when(clientRepository.findByIds(Arrays.asList(A_CLIENT_UUID)))
+						.thenReturn(Arrays.asList(spiedClient));
+					
+					assertThat(transactionalBookingService.insertNewReservations(reservations))
+						.containsExactly(BulkOutcome.INSERTED, BulkOutcome.INSERTED);
+					
+					InOrder inOrder = Mockito.inOrder(
+							transactionManager, reservationRepository, clientRepository);
+					
+					inOrder.verify(transactionManager)
+						.doInTransaction(ArgumentMatchers.<ClientReservationTransactionCode<?>>any());
+					inOrder.verify(reservationRepository)
+						.findByDates(Arrays.asList(A_LOCALDATE, ANOTHER_LOCALDATE));
+					inOrder.verify(clientRepository).findByIds(Arrays.asList(A_CLIENT_UUID));
+					inOrder.verify(reservationRepository).insertAll(reservations);
+					
+					verifyNoMoreInteractions(transactionManager, reservationRepository, clientRepository);
+				}
+
+				@Test
+				@DisplayName("Some reservations already exist, are repeated or have no client")
+				void testInsertNewReservationsWhenSomeReservationsCannotBeInsertedShouldInsertOnlyTheOthers() {
+					Reservation existingReservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+					Reservation newReservation = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+					Reservation repeatedReservation = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+					Reservation orphanReservation = new Reservation(ANOTHER_CLIENT_UUID, LocalDate.parse("2024-01-01"));
+					List<Reservation> reservations = Arrays.asList(existingReservation, newReservation,
+							repeatedReservation, orphanReservation);
+					when(reservationRepository.findByDates(ArgumentMatchers.<List<LocalDate>>any()))
+						.thenReturn(Arrays.asList(A_RESERVATION));
+					when(clientRepository.findByIds(ArgumentMatchers.<List<UUID>>any()))
+						.thenReturn(Arrays.asList(spiedClient));
+					
+					assertThat(transactionalBookingService.insertNewReservations(reservations))
+						.containsExactly(BulkOutcome.ALREADY_EXISTS, BulkOutcome.INSERTED,
+								BulkOutcome.ALREADY_EXISTS, BulkOutcome.CLIENT_NOT_FOUND);
+					
+					verify(reservationRepository).insertAll(Arrays.asList(newReservation));
+				}
+
+				@Test
+				@DisplayName("Reservations on a date booked for another resource")
+				void testInsertNewReservationsWhenDateIsBookedForAnotherResourceShouldInsert() {
+					Reservation reservation = new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE);
+					List<Reservation> reservations = Arrays.asList(reservation);
+					when(reservationRepository.findByDates(Arrays.asList(A_LOCALDATE)))
+						.thenReturn(Arrays.asList(A_RESERVATION));
+					when(clientRepository.findByIds(Arrays.asList(A_CLIENT_UUID)))
+						.thenReturn(Arrays.asList(spiedClient));
+					
+					assertThat(transactionalBookingService.insertNewReservations(reservations))
+						.containsExactly(BulkOutcome.INSERTED);
+					
+					verify(reservationRepository).insertAll(reservations);
+				}
+			}
 		}
 
 		@Nested
@@ -988,6 +1421,17 @@ class TransactionalBookingServiceTest {
 					.hasMessage(DATABASE_ERROR_MSG);
 			}
 
+			@Test
+			@DisplayName("Transaction fails on 'insertNewReservations'")
+			void testInsertNewReservationsWhenTransactionFailsShouldThrow() {
+				List<Reservation> reservations = Arrays.asList(A_RESERVATION);
+				
+				assertThatThrownBy(
+						() -> transactionalBookingService.insertNewReservations(reservations))
+					.isInstanceOf(DatabaseException.class)
+					.hasMessage(DATABASE_ERROR_MSG);
+			}
+
 			@Test
 			@DisplayName("Transaction fails on 'removeClient'")
 			void testRemoveClientWhenTransactionFailsShouldThrow() {
@@ -1007,4 +1451,515 @@ class TransactionalBookingServiceTest {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("Invalid inputs on bulk methods")
+	class BulkInputTest {
+
+		@Test
+		@DisplayName("Null list on 'insertNewClients'")
+		void testInsertNewClientsWhenListIsNullShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.insertNewClients(null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Clients to insert cannot be null.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Null item on 'insertNewReservations'")
+		void testInsertNewReservationsWhenAnItemIsNullShouldThrow() {
+			List<Reservation> reservations = Arrays.asList(A_RESERVATION, null);
+			
+			assertThatThrownBy(() -> transactionalBookingService.insertNewReservations(reservations))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Reservations to insert cannot be null.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Null item on 'removeReservationsOn'")
+		void testRemoveReservationsOnWhenAnItemIsNullShouldThrow() {
+			List<LocalDate> dates = Arrays.asList((LocalDate) null);
+			
+			assertThatThrownBy(() -> transactionalBookingService.removeReservationsOn(dates))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Dates of reservations to remove cannot be null.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Empty lists")
+		void testBulkMethodsWhenListsAreEmptyShouldNotOpenTransactions() {
+			assertThat(transactionalBookingService.insertNewClients(Collections.emptyList())).isEmpty();
+			assertThat(transactionalBookingService.insertNewReservations(Collections.emptyList())).isEmpty();
+			assertThat(transactionalBookingService.removeReservationsOn(Collections.emptyList())).isEmpty();
+			
+			verifyNoInteractions(transactionManager);
+		}
+	}
+
+	@Nested
+	@DisplayName("Invalid inputs on reporting methods")
+	class ReportingInputTest {
+
+		@Test
+		@DisplayName("Negative limit on 'getOccupancyReport'")
+		void testGetOccupancyReportWhenLimitIsNegativeShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.getOccupancyReport(-1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Limit of top clients cannot be negative.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Negative offset on 'findReservationsPage'")
+		void testFindReservationsPageWhenOffsetIsNegativeShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.findReservationsPage(-1, 1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Offset of page cannot be negative.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Non-positive limit on 'findReservationsPage'")
+		void testFindReservationsPageWhenLimitIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.findReservationsPage(0, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Size of page must be positive.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Non-positive limit on 'searchClients'")
+		void testSearchClientsWhenLimitIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.searchClients("mar", 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Limit of searched clients must be positive.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+	}
+
+	@Nested
+	@DisplayName("Invalid inputs on archiving methods")
+	class ArchivingInputTest {
+
+		@Test
+		@DisplayName("Null horizon on 'archiveReservationsBefore'")
+		void testArchiveReservationsBeforeWhenHorizonIsNullShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.archiveReservationsBefore(null, 1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Horizon of archiving cannot be null.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Non-positive batch size on 'archiveReservationsBefore'")
+		void testArchiveReservationsBeforeWhenBatchSizeIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> transactionalBookingService.archiveReservationsBefore(A_LOCALDATE, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Size of archiving batches must be positive.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+	}
+
+	@Nested
+	@DisplayName("Methods using the availability index")
+	class AvailabilityIndexUsageTest {
+		private static final LocalDate A_LATER_LOCALDATE = A_LOCALDATE.plusDays(1);
+
+		private AvailabilityIndex availabilityIndex;
+
+		private TransactionalBookingService indexedBookingService;
+
+		@BeforeEach
+		void setUpIndex() {
+			availabilityIndex = new AvailabilityIndex();
+			indexedBookingService = new TransactionalBookingService(transactionManager, availabilityIndex);
+		}
+
+		private void stubReservationTransactions() {
+			when(transactionManager.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any()))
+				.thenAnswer(
+					answer((ReservationTransactionCode<?> code) -> code.apply(reservationRepository)));
+		}
+
+		private void stubClientReservationTransactions() {
+			when(transactionManager.doInTransaction(
+					ArgumentMatchers.<ClientReservationTransactionCode<?>>any()))
+				.thenAnswer(answer((ClientReservationTransactionCode<?> code) ->
+					code.apply(clientRepository, reservationRepository)));
+		}
+
+		@Test
+		@DisplayName("'findAllReservations' loads the index")
+		void testFindAllReservationsShouldLoadTheIndex() {
+			stubReservationTransactions();
+			when(reservationRepository.findAll()).thenReturn(Arrays.asList(A_RESERVATION));
+			
+			indexedBookingService.findAllReservations();
+			
+			assertThat(availabilityIndex.isLoaded()).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'findAllReservations' during a write")
+		void testFindAllReservationsWhenIndexIsUpdatedWhileReadingShouldNotOverwriteTheUpdate() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubReservationTransactions();
+			when(reservationRepository.findAll()).thenAnswer(invocation -> {
+				// a removal committed after the read
+				availabilityIndex.release(A_LOCALDATE);
+				return Arrays.asList(A_RESERVATION);
+			});
+			
+			indexedBookingService.findAllReservations();
+			
+			assertThat(availabilityIndex.isLoaded()).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("'snapshot' loads the index")
+		void testSnapshotShouldLoadTheIndex() {
+			Client client = new Client(A_FIRSTNAME, A_LASTNAME);
+			client.setId(A_CLIENT_UUID);
+			when(transactionManager.doInTransaction(ArgumentMatchers.<ClientTransactionCode<?>>any()))
+				.thenAnswer(answer((ClientTransactionCode<?> code) -> code.apply(clientRepository)));
+			when(clientRepository.findAllWithReservations()).thenReturn(
+					new BookingSnapshot(Arrays.asList(client), Arrays.asList(A_RESERVATION)));
+			
+			indexedBookingService.snapshot();
+			
+			assertThat(availabilityIndex.isLoaded()).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LATER_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' on a date known as booked")
+		void testInsertNewReservationWhenDateIsKnownAsBookedShouldConfirmItInDatabase() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubClientReservationTransactions();
+			when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
+				.thenReturn(Optional.of(A_RESERVATION));
+			
+			assertThatThrownBy(() -> indexedBookingService.insertNewReservation(A_RESERVATION))
+				.isInstanceOf(InstanceAlreadyExistsException.class)
+				.hasMessage(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
+			
+			verify(reservationRepository, never()).save(any());
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' on a date wrongly known as booked")
+		void testInsertNewReservationWhenDateIsKnownAsBookedButFreeInDatabaseShouldInsert() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubClientReservationTransactions();
+			when(clientRepository.findById(A_CLIENT_UUID)).thenReturn(Optional.of(A_CLIENT));
+			when(reservationRepository.save(A_RESERVATION)).thenReturn(A_RESERVATION);
+			
+			assertThat(indexedBookingService.insertNewReservation(A_RESERVATION)).isEqualTo(A_RESERVATION);
+			
+			verify(reservationRepository).findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE);
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' on a date known as free")
+		void testInsertNewReservationWhenDateIsKnownAsFreeShouldInsertWithoutLookingForTheDate() {
+			availabilityIndex.load(Collections.emptyList());
+			stubClientReservationTransactions();
+			when(clientRepository.findById(A_CLIENT_UUID)).thenReturn(Optional.of(A_CLIENT));
+			when(reservationRepository.save(A_RESERVATION)).thenReturn(A_RESERVATION);
+			
+			indexedBookingService.insertNewReservation(A_RESERVATION);
+			
+			verify(reservationRepository, never()).findByResourceAndDate(any(), any());
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' books the date after commit")
+		void testInsertNewReservationShouldBookTheDateOnlyAfterTheTransaction() {
+			availabilityIndex.load(Collections.emptyList());
+			when(transactionManager.doInTransaction(
+					ArgumentMatchers.<ClientReservationTransactionCode<?>>any()))
+				.thenAnswer(answer((ClientReservationTransactionCode<?> code) -> {
+					Object result = code.apply(clientRepository, reservationRepository);
+					assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+					return result;
+				}));
+			when(clientRepository.findById(A_CLIENT_UUID)).thenReturn(Optional.of(A_CLIENT));
+			when(reservationRepository.save(A_RESERVATION)).thenReturn(A_RESERVATION);
+			
+			indexedBookingService.insertNewReservation(A_RESERVATION);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'removeReservationOn' frees the date")
+		void testRemoveReservationOnWhenSucceedsShouldFreeTheDate() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubReservationTransactions();
+			when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE)).thenReturn(Optional.of(A_RESERVATION));
+			
+			indexedBookingService.removeReservationOn(A_LOCALDATE);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("'removeReservationsOn' frees the dates")
+		void testRemoveReservationsOnWhenSucceedsShouldFreeTheDates() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE, A_LATER_LOCALDATE));
+			stubReservationTransactions();
+			when(reservationRepository.findByDates(Arrays.asList(A_LOCALDATE, A_LATER_LOCALDATE)))
+				.thenReturn(Arrays.asList(A_RESERVATION));
+			
+			indexedBookingService.removeReservationsOn(Arrays.asList(A_LOCALDATE, A_LATER_LOCALDATE));
+			
+			assertThat(availabilityIndex.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("'archiveReservationsBefore' frees the dates")
+		void testArchiveReservationsBeforeWhenSucceedsShouldFreeTheArchivedDates() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE, A_LATER_LOCALDATE));
+			stubReservationTransactions();
+			when(reservationRepository.archiveBefore(A_LATER_LOCALDATE, 10))
+				.thenReturn(Arrays.asList(A_RESERVATION));
+			
+			indexedBookingService.archiveReservationsBefore(A_LATER_LOCALDATE, 10);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isBooked(A_LATER_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'rescheduleReservation' moves the date")
+		void testRescheduleReservationWhenSucceedsShouldMoveTheBookedDate() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubReservationTransactions();
+			Reservation reservationInDB = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+			when(reservationRepository.findById(A_RESERVATION_UUID)).thenReturn(Optional.of(reservationInDB));
+			when(reservationRepository.save(reservationInDB)).thenReturn(reservationInDB);
+			
+			indexedBookingService.rescheduleReservation(A_RESERVATION_UUID, ANOTHER_LOCALDATE);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isBooked(ANOTHER_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("'rescheduleReservation' on a date known as booked")
+		void testRescheduleReservationWhenNewDateIsKnownAsBookedShouldConfirmItInDatabase() {
+			availabilityIndex.load(Arrays.asList(ANOTHER_LOCALDATE));
+			stubReservationTransactions();
+			when(reservationRepository.findById(A_RESERVATION_UUID))
+				.thenReturn(Optional.of(new Reservation(A_CLIENT_UUID, A_LOCALDATE)));
+			when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, ANOTHER_LOCALDATE))
+				.thenReturn(Optional.of(new Reservation(ANOTHER_CLIENT_UUID, ANOTHER_LOCALDATE)));
+			
+			assertThatThrownBy(() -> indexedBookingService
+					.rescheduleReservation(A_RESERVATION_UUID, ANOTHER_LOCALDATE))
+				.isInstanceOf(InstanceAlreadyExistsException.class)
+				.hasMessage(RESERVATION_ALREADY_EXISTS_ERROR_MSG);
+			
+			verify(reservationRepository, never()).save(any());
+		}
+
+		@Test
+		@DisplayName("'rescheduleReservation' on a date known as free")
+		void testRescheduleReservationWhenNewDateIsKnownAsFreeShouldRescheduleWithoutLookingForTheDate() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubReservationTransactions();
+			Reservation reservationInDB = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+			when(reservationRepository.findById(A_RESERVATION_UUID)).thenReturn(Optional.of(reservationInDB));
+			when(reservationRepository.save(reservationInDB)).thenReturn(reservationInDB);
+			
+			indexedBookingService.rescheduleReservation(A_RESERVATION_UUID, ANOTHER_LOCALDATE);
+			
+			verify(reservationRepository, never()).findByResourceAndDate(any(), any());
+		}
+
+		@Test
+		@DisplayName("'rescheduleReservation' of another resource on a date known as booked")
+		void testRescheduleReservationOfAnotherResourceWhenNewDateIsKnownAsBookedShouldRescheduleWithoutTouchingTheIndex() {
+			availabilityIndex.load(Arrays.asList(ANOTHER_LOCALDATE));
+			stubReservationTransactions();
+			Reservation reservationInDB = new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE);
+			when(reservationRepository.findById(A_RESERVATION_UUID)).thenReturn(Optional.of(reservationInDB));
+			when(reservationRepository.save(reservationInDB)).thenReturn(reservationInDB);
+			
+			assertThat(indexedBookingService.rescheduleReservation(A_RESERVATION_UUID, ANOTHER_LOCALDATE))
+				.isEqualTo(reservationInDB);
+			
+			verify(reservationRepository).findByResourceAndDate(A_RESOURCE, ANOTHER_LOCALDATE);
+			assertThat(availabilityIndex.isBooked(ANOTHER_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.size()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("'insertNewReservation' of another resource on a date known as booked")
+		void testInsertNewReservationOfAnotherResourceWhenDateIsKnownAsBookedShouldInsert() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			stubClientReservationTransactions();
+			Reservation reservation = new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE);
+			when(clientRepository.findById(A_CLIENT_UUID)).thenReturn(Optional.of(A_CLIENT));
+			when(reservationRepository.save(reservation)).thenReturn(reservation);
+			
+			assertThat(indexedBookingService.insertNewReservation(reservation)).isEqualTo(reservation);
+			
+			verify(reservationRepository).findByResourceAndDate(A_RESOURCE, A_LOCALDATE);
+			assertThat(availabilityIndex.size()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("'removeReservationOn' frees the date after commit")
+		void testRemoveReservationOnShouldFreeTheDateOnlyAfterTheTransaction() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			when(transactionManager.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any()))
+				.thenAnswer(answer((ReservationTransactionCode<?> code) -> {
+					Object result = code.apply(reservationRepository);
+					assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+					return result;
+				}));
+			when(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
+				.thenReturn(Optional.of(A_RESERVATION));
+			
+			indexedBookingService.removeReservationOn(A_LOCALDATE);
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("Failed write invalidates the index")
+		void testWriteWhenTransactionFailsShouldInvalidateTheIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			when(transactionManager.doInTransaction(ArgumentMatchers.<ReservationTransactionCode<?>>any()))
+				.thenThrow(new TransactionException("failure"));
+			
+			assertThatThrownBy(() -> indexedBookingService.removeReservationOn(A_LOCALDATE))
+				.isInstanceOf(DatabaseException.class);
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+
+		@Test
+		@DisplayName("'findNextFreeDate' with loaded index")
+		void testFindNextFreeDateWhenIndexIsLoadedShouldAnswerWithoutTransaction() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE, A_LATER_LOCALDATE));
+			
+			assertThat(indexedBookingService.findNextFreeDate(A_LOCALDATE))
+				.isEqualTo(A_LOCALDATE.plusDays(2));
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("'findFreeDates' with unloaded index")
+		void testFindFreeDatesWhenIndexIsNotLoadedShouldLoadItFromDatabase() {
+			stubReservationTransactions();
+			when(reservationRepository.findAll()).thenReturn(Arrays.asList(A_RESERVATION));
+			
+			assertThat(indexedBookingService.findFreeDates(A_LOCALDATE.minusDays(1), A_LATER_LOCALDATE))
+				.containsExactly(A_LOCALDATE.minusDays(1), A_LATER_LOCALDATE);
+			
+			assertThat(availabilityIndex.isLoaded()).isTrue();
+		}
+
+		@Test
+		@DisplayName("'findNextFreeDate' without index")
+		void testFindNextFreeDateWhenIndexIsDisabledShouldUseTheReservationsInDatabase() {
+			stubReservationTransactions();
+			when(reservationRepository.findAll()).thenReturn(Arrays.asList(A_RESERVATION));
+			
+			assertThat(transactionalBookingService.findNextFreeDate(A_LOCALDATE))
+				.isEqualTo(A_LATER_LOCALDATE);
+		}
+
+		@Test
+		@DisplayName("Invalid ranges")
+		void testFreeDatesQueriesWhenInputsAreInvalidShouldThrow() {
+			assertThatThrownBy(() -> indexedBookingService.findNextFreeDate(null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Date to start from cannot be null.");
+			assertThatThrownBy(() -> indexedBookingService.findFreeDates(A_LOCALDATE, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Dates of the range cannot be null.");
+			assertThatThrownBy(() -> indexedBookingService.findFreeDates(null, A_LOCALDATE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Dates of the range cannot be null.");
+			assertThatThrownBy(() -> indexedBookingService.findFreeDates(A_LATER_LOCALDATE, A_LOCALDATE))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Start of the range cannot be after its end.");
+			
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Remote reservation changes update the index")
+		void testReservationChangedWhenStatesAreKnownShouldUpdateTheIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			Reservation rescheduled = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+			Reservation inserted = new Reservation(A_CLIENT_UUID, A_LATER_LOCALDATE);
+			
+			indexedBookingService.reservationChanged(
+					new ChangeEvent<>(Kind.UPDATE, A_RESERVATION_UUID, A_RESERVATION, rescheduled));
+			indexedBookingService.reservationChanged(
+					new ChangeEvent<>(Kind.INSERT, UUID.randomUUID(), null, inserted));
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isFalse();
+			assertThat(availabilityIndex.isBooked(ANOTHER_LOCALDATE)).isTrue();
+			assertThat(availabilityIndex.isBooked(A_LATER_LOCALDATE)).isTrue();
+			
+			indexedBookingService.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, rescheduled, null));
+			
+			assertThat(availabilityIndex.isBooked(ANOTHER_LOCALDATE)).isFalse();
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("Remote reservation change without previous state")
+		void testReservationChangedWhenPreviousStateIsUnknownShouldInvalidateTheIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			
+			indexedBookingService.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, null, null));
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+
+		@Test
+		@DisplayName("Remote client changes are ignored")
+		void testClientChangedShouldNotAlterTheIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			
+			indexedBookingService.clientChanged(new ChangeEvent<>(Kind.DELETE, A_CLIENT_UUID, A_CLIENT, null));
+			
+			assertThat(availabilityIndex.isBooked(A_LOCALDATE)).isTrue();
+		}
+
+		@Test
+		@DisplayName("Missed changes invalidate the index")
+		void testChangesMissedShouldInvalidateTheIndex() {
+			availabilityIndex.load(Arrays.asList(A_LOCALDATE));
+			
+			indexedBookingService.changesMissed();
+			
+			assertThat(availabilityIndex.isLoaded()).isFalse();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package io.github.marcopaglio.booking.transaction.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+
+@DisplayName("Tests for SlowTransactionInterceptor class")
+class SlowTransactionInterceptorTest {
+	private static final String A_BACKEND = "PostgreSQL";
+	private static final long THRESHOLD_MILLIS = 100;
+
+	private static final TransactionInterceptor[] NO_INTERCEPTORS = new TransactionInterceptor[0];
+
+	@Nested
+	@DisplayName("Tests for 'SlowTransactionInterceptor'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Negative threshold")
+		void testConstructorWhenThresholdIsNegativeShouldThrow() {
+			assertThatThrownBy(() -> new SlowTransactionInterceptor(-1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Threshold of slow transactions cannot be negative.");
+		}
+
+		@Test
+		@DisplayName("Zero threshold")
+		void testConstructorWhenThresholdIsZeroShouldNotThrow() {
+			assertThatNoException().isThrownBy(() -> new SlowTransactionInterceptor(0));
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'intercept'")
+	class InterceptTest {
+
+		@Test
+		@DisplayName("Slow committed transaction")
+		void testInterceptWhenTransactionIsSlowShouldReturnTheResult() {
+			AtomicLong clock = new AtomicLong();
+			SlowTransactionInterceptor interceptor = new SlowTransactionInterceptor(
+					THRESHOLD_MILLIS, clock::get);
+			TransactionInvocation<String> invocation = new TransactionInvocation<>(
+					TransactionCodeKind.CLIENT, A_BACKEND, NO_INTERCEPTORS, () -> {
+						clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(THRESHOLD_MILLIS + 1));
+						return "result";
+					});
+			
+			assertThat(interceptor.intercept(invocation)).isEqualTo("result");
+		}
+
+		@Test
+		@DisplayName("Slow failed transaction")
+		void testInterceptWhenTransactionIsSlowAndFailsShouldRethrow() {
+			AtomicLong clock = new AtomicLong();
+			SlowTransactionInterceptor interceptor = new SlowTransactionInterceptor(
+					THRESHOLD_MILLIS, clock::get);
+			TransactionInvocation<String> invocation = new TransactionInvocation<>(
+					TransactionCodeKind.RESERVATION, A_BACKEND, NO_INTERCEPTORS, () -> {
+						clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(THRESHOLD_MILLIS + 1));
+						throw new TransactionException("failure");
+					});
+			
+			assertThatThrownBy(() -> interceptor.intercept(invocation))
+				.isInstanceOf(TransactionException.class)
+				.hasMessage("failure");
+		}
+
+		@Test
+		@DisplayName("Fast transaction")
+		void testInterceptWhenTransactionIsFastShouldReturnTheResult() {
+			SlowTransactionInterceptor interceptor = new SlowTransactionInterceptor(
+					THRESHOLD_MILLIS, () -> 0L);
+			TransactionInvocation<String> invocation = new TransactionInvocation<>(
+					TransactionCodeKind.CLIENT_RESERVATION, A_BACKEND, NO_INTERCEPTORS, () -> "result");
+			
+			assertThat(interceptor.intercept(invocation)).isEqualTo("result");
+		}
+	}
+}
@@ -0,0 +1,225 @@
+package io.github.marcopaglio.booking.transaction.manager.intercepted;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.exception.TransactionException;
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.transaction.code.ClientReservationTransactionCode;
+import io.github.marcopaglio.booking.transaction.code.ClientTransactionCode;
+import io.github.marcopaglio.booking.transaction.code.ReservationTransactionCode;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionCodeKind;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionInterceptor;
+import io.github.marcopaglio.booking.transaction.interceptor.TransactionInvocation;
+import io.github.marcopaglio.booking.transaction.manager.TransactionManager;
+
+@DisplayName("Tests for InterceptedTransactionManager class")
+@ExtendWith(MockitoExtension.class)
+class InterceptedTransactionManagerTest {
+	private static final String A_BACKEND = "MongoDB";
+	private static final Client A_CLIENT = new Client("Mario", "Rossi");
+
+	@Mock
+	private TransactionManager delegate;
+
+	@Mock
+	private ClientTransactionCode<Client> clientCode;
+
+	@Mock
+	private ReservationTransactionCode<Client> reservationCode;
+
+	@Mock
+	private ClientReservationTransactionCode<Client> clientReservationCode;
+
+	/**
+	 * Records what it sees and proceeds with the chain.
+	 */
+	private static class RecordingInterceptor implements TransactionInterceptor {
+		private final String name;
+		private final List<String> records;
+
+		RecordingInterceptor(String name, List<String> records) {
+			this.name = name;
+			this.records = records;
+		}
+
+		@Override
+		public <R> R intercept(TransactionInvocation<R> invocation) {
+			records.add(name + ":" + invocation.getCodeKind() + "@" + invocation.getBackend());
+			try {
+				R result = invocation.proceed();
+				records.add(name + ":" + result);
+				return result;
+			} catch(TransactionException e) {
+				records.add(name + ":" + e.getMessage());
+				throw e;
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'InterceptedTransactionManager'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Null delegate")
+		void testConstructorWhenDelegateIsNullShouldThrow() {
+			List<TransactionInterceptor> interceptors = Collections.emptyList();
+			
+			assertThatThrownBy(() -> new InterceptedTransactionManager(null, A_BACKEND, interceptors))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Transaction manager to decorate cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Null backend")
+		void testConstructorWhenBackendIsNullShouldThrow() {
+			List<TransactionInterceptor> interceptors = Collections.emptyList();
+			
+			assertThatThrownBy(() -> new InterceptedTransactionManager(delegate, null, interceptors))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Backend's name cannot be null.");
+		}
+
+		@Test
+		@DisplayName("Null interceptor")
+		void testConstructorWhenAnInterceptorIsNullShouldThrow() {
+			List<TransactionInterceptor> interceptors = Arrays.asList((TransactionInterceptor) null);
+			
+			assertThatThrownBy(() -> new InterceptedTransactionManager(delegate, A_BACKEND, interceptors))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Interceptors cannot be null.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'doInTransaction'")
+	class DoInTransactionTest {
+
+		@Test
+		@DisplayName("Empty chain")
+		void testDoInTransactionWhenChainIsEmptyShouldDelegate() {
+			InterceptedTransactionManager transactionManager =
+					new InterceptedTransactionManager(delegate, A_BACKEND, Collections.emptyList());
+			when(delegate.doInTransaction(clientCode)).thenReturn(A_CLIENT);
+			
+			assertThat(transactionManager.doInTransaction(clientCode)).isEqualTo(A_CLIENT);
+			
+			verify(delegate).doInTransaction(clientCode);
+			verifyNoMoreInteractions(delegate);
+		}
+
+		@Test
+		@DisplayName("Interceptors are applied in order")
+		void testDoInTransactionWhenChainIsNotEmptyShouldApplyInterceptorsInOrder() {
+			List<String> records = new ArrayList<>();
+			InterceptedTransactionManager transactionManager = new InterceptedTransactionManager(
+					delegate, A_BACKEND, Arrays.asList(
+							new RecordingInterceptor("first", records),
+							new RecordingInterceptor("second", records)));
+			when(delegate.doInTransaction(clientCode)).thenReturn(A_CLIENT);
+			
+			assertThat(transactionManager.doInTransaction(clientCode)).isEqualTo(A_CLIENT);
+			
+			assertThat(records).containsExactly(
+					"first:CLIENT@MongoDB",
+					"second:CLIENT@MongoDB",
+					"second:" + A_CLIENT,
+					"first:" + A_CLIENT);
+		}
+
+		@Test
+		@DisplayName("Interceptors see the kind of code")
+		void testDoInTransactionWhenCodeKindsAreDifferentShouldExposeThem() {
+			List<String> records = new ArrayList<>();
+			InterceptedTransactionManager transactionManager = new InterceptedTransactionManager(
+					delegate, A_BACKEND, Arrays.asList(new RecordingInterceptor("only", records)));
+			
+			transactionManager.doInTransaction(reservationCode);
+			transactionManager.doInTransaction(clientReservationCode);
+			
+			assertThat(records).contains(
+					"only:" + TransactionCodeKind.RESERVATION + "@" + A_BACKEND,
+					"only:" + TransactionCodeKind.CLIENT_RESERVATION + "@" + A_BACKEND);
+			verify(delegate).doInTransaction(reservationCode);
+			verify(delegate).doInTransaction(clientReservationCode);
+		}
+
+		@Test
+		@DisplayName("Interceptors see the failure")
+		void testDoInTransactionWhenDelegateThrowsShouldExposeFailureAndRethrow() {
+			List<String> records = new ArrayList<>();
+			InterceptedTransactionManager transactionManager = new InterceptedTransactionManager(
+					delegate, A_BACKEND, Arrays.asList(new RecordingInterceptor("only", records)));
+			when(delegate.doInTransaction(clientCode)).thenThrow(new TransactionException("failure"));
+			
+			assertThatThrownBy(() -> transactionManager.doInTransaction(clientCode))
+				.isInstanceOf(TransactionException.class)
+				.hasMessage("failure");
+			
+			assertThat(records).containsExactly("only:CLIENT@MongoDB", "only:failure");
+		}
+
+		@Test
+		@DisplayName("Interceptor proceeds more than once")
+		void testDoInTransactionWhenInterceptorRetriesShouldExecuteTheRestOfTheChainAgain() {
+			List<String> records = new ArrayList<>();
+			TransactionInterceptor retrying = new TransactionInterceptor() {
+				@Override
+				public <R> R intercept(TransactionInvocation<R> invocation) {
+					try {
+						return invocation.proceed();
+					} catch(TransactionException e) {
+						return invocation.proceed();
+					}
+				}
+			};
+			InterceptedTransactionManager transactionManager = new InterceptedTransactionManager(
+					delegate, A_BACKEND, Arrays.asList(retrying, new RecordingInterceptor("inner", records)));
+			when(delegate.doInTransaction(clientCode))
+				.thenThrow(new TransactionException("failure"))
+				.thenReturn(A_CLIENT);
+			
+			assertThat(transactionManager.doInTransaction(clientCode)).isEqualTo(A_CLIENT);
+			
+			verify(delegate, times(2)).doInTransaction(clientCode);
+			assertThat(records).containsExactly(
+					"inner:CLIENT@MongoDB", "inner:failure",
+					"inner:CLIENT@MongoDB", "inner:" + A_CLIENT);
+		}
+
+		@Test
+		@DisplayName("Interceptor short-circuits")
+		void testDoInTransactionWhenInterceptorDoesNotProceedShouldNotDelegate() {
+			TransactionInterceptor shortCircuiting = new TransactionInterceptor() {
+				@Override
+				public <R> R intercept(TransactionInvocation<R> invocation) {
+					return null;
+				}
+			};
+			InterceptedTransactionManager transactionManager = new InterceptedTransactionManager(
+					delegate, A_BACKEND, Arrays.asList(shortCircuiting));
+			
+			assertThat(transactionManager.doInTransaction(clientCode)).isNull();
+			
+			verify(delegate, times(0)).doInTransaction(any(ClientTransactionCode.class));
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.marcopaglio.booking.validator.restricted;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the throughput and the bytes allocated per call of the validation of names
+ * by the scanner of {@code RestrictedClientValidator}, compared with the regular expressions
+ * it replaced, on names already fixed and on names to fix.
+ * Each scenario is measured by its fastest run, so that the time spent by other threads,
+ * such as the compiler and the garbage collector, is not charged to the validation.
+ * Only the allocations, which do not depend on the load of the machine, are asserted,
+ * while the throughput is just logged for comparison.
+ */
+@DisplayName("Benchmark for RestrictedClientValidator class")
+class RestrictedClientValidatorBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(RestrictedClientValidatorBenchmarkIT.class);
+
+	private static final int CALLS = 200_000;
+	private static final int RUNS = 7;
+	private static final int WARM_UP_RUNS = 2;
+
+	private static final String[] FIXED_NAMES = { "Mario", "Maria Luisa", "De Lucia", "François", "Zoë" };
+	private static final String[] NAMES_TO_FIX = { " Mario", "Maria  Luisa", "\tDe   Lucia ", "  François  " };
+
+	private static final Pattern NOT_ONLY_ALPHABETIC = Pattern.compile("[^\\p{IsAlphabetic}\\h]");
+
+	private final RestrictedClientValidator clientValidator = new RestrictedClientValidator();
+
+	@Test
+	@DisplayName("Validating names already fixed")
+	void testValidateFirstNameWhenNameIsAlreadyFixedShouldNotAllocate() {
+		Measure scanner = measure(clientValidator::validateFirstName, FIXED_NAMES);
+		Measure regex = measure(RestrictedClientValidatorBenchmarkIT::validateByRegex, FIXED_NAMES);
+		
+		log("Fixed names", scanner, regex);
+		assertThat(scanner.bytesPerCall).isLessThan(1);
+	}
+
+	@Test
+	@DisplayName("Validating names to fix")
+	void testValidateFirstNameWhenNameIsToFixShouldAllocateLessThanRegex() {
+		Measure scanner = measure(clientValidator::validateFirstName, NAMES_TO_FIX);
+		Measure regex = measure(RestrictedClientValidatorBenchmarkIT::validateByRegex, NAMES_TO_FIX);
+		
+		log("Names to fix", scanner, regex);
+		assertThat(scanner.bytesPerCall).isLessThan(regex.bytesPerCall);
+	}
+
+	/**
+	 * The validation replaced by the scanner, i.e. a regular expression for the characters
+	 * followed by trimming and reducing the spaces through another one.
+	 */
+	private static String validateByRegex(String name) {
+		if (name.trim().isEmpty())
+			throw new IllegalArgumentException("Client needs a non-empty name.");
+		if (NOT_ONLY_ALPHABETIC.matcher(name).find())
+			throw new IllegalArgumentException("Client's name can contain only alphabet letters.");
+		return name.trim().replaceAll("\\s+", " ");
+	}
+
+	private static final class Measure {
+		private double callsPerSecond;
+		private double bytesPerCall = Double.MAX_VALUE;
+	}
+
+	private static Measure measure(UnaryOperator<String> validation, String[] names) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		Measure measure = new Measure();
+		int length = 0;
+		for (int run = 0; run < RUNS; run++) {
+			long allocated = threads.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+			for (int call = 0; call < CALLS; call++)
+				length += validation.apply(names[call % names.length]).length();
+			long elapsed = System.nanoTime() - start;
+			allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+			// the first runs warm up the code, the others filter out preemptions
+			if (run >= WARM_UP_RUNS) {
+				measure.callsPerSecond = Math.max(measure.callsPerSecond, CALLS * 1e9 / elapsed);
+				measure.bytesPerCall = Math.min(measure.bytesPerCall, (double) allocated / CALLS);
+			}
+		}
+		assertThat(length).isPositive();
+		return measure;
+	}
+
+	private static void log(String scenario, Measure scanner, Measure regex) {
+		LOGGER.info(() -> String.format("%s: scanner %.0f calls/s, %.1f bytes/call; "
+				+ "regex %.0f calls/s, %.1f bytes/call", scenario, scanner.callsPerSecond,
+				scanner.bytesPerCall, regex.callsPerSecond, regex.bytesPerCall));
+	}
+}
@@ -0,0 +1,122 @@
+package io.github.marcopaglio.booking.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * This value object represents a consistent view of the booking application,
+ * as the clients together with their reservations, grouped by client.
+ * Note: it is read from the database at once and is not persisted.
+ */
+public class BookingSnapshot {
+	/**
+	 * The clients of the snapshot, in the order they have been read.
+	 */
+	private final List<Client> clients;
+
+	/**
+	 * The reservations of the snapshot, by client's identifier, following the order of clients.
+	 */
+	private final Map<UUID, List<Reservation>> reservationsByClient;
+
+	/**
+	 * Constructs a snapshot from the clients and the reservations read together.
+	 * The reservations are grouped by client, keeping their relative order;
+	 * the groups of clients not in {@code clients} follow the others.
+	 *
+	 * @param clients		the clients of the snapshot.
+	 * @param reservations	the reservations of the snapshot.
+	 */
+	public BookingSnapshot(List<Client> clients, List<Reservation> reservations) {
+		this.clients = List.copyOf(clients);
+
+		Map<UUID, List<Reservation>> grouped = new LinkedHashMap<>();
+		clients.forEach(client -> grouped.put(client.getId(), new ArrayList<>()));
+		reservations.forEach(reservation -> grouped
+				.computeIfAbsent(reservation.getClientId(), clientId -> new ArrayList<>())
+				.add(reservation));
+		grouped.replaceAll((clientId, group) -> List.copyOf(group));
+		this.reservationsByClient = Collections.unmodifiableMap(grouped);
+	}
+
+	/**
+	 * Retrieves the clients of the snapshot.
+	 *
+	 * @return	a read-only {@code List} of the clients.
+	 */
+	public List<Client> getClients() {
+		return clients;
+	}
+
+	/**
+	 * Retrieves the reservations of the snapshot, grouped by client.
+	 *
+	 * @return	a new {@code List} of the reservations, following the order of clients.
+	 */
+	public List<Reservation> getReservations() {
+		List<Reservation> reservations = new ArrayList<>();
+		reservationsByClient.values().forEach(reservations::addAll);
+		return reservations;
+	}
+
+	/**
+	 * Retrieves the reservations of a client of the snapshot.
+	 *
+	 * @param clientId	the identifier of the client.
+	 * @return			a read-only {@code List} of the reservations of the client,
+	 * 					empty if the client has none or is unknown.
+	 */
+	public List<Reservation> getReservationsOf(UUID clientId) {
+		return reservationsByClient.getOrDefault(clientId, List.of());
+	}
+
+	/**
+	 * Overridden method for returning a hash code value for the snapshot object.
+	 *
+	 * @return	a hash code value for this snapshot object.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(clients, reservationsByClient);
+	}
+
+	/**
+	 * Overridden method for indicating whether some other snapshot object is "equal to" this one.
+	 * Two snapshot objects are equal if they have the same clients and reservations.
+	 *
+	 * @param obj	the reference snapshot object with which to compare.
+	 * @return		{@code true} if this object is the same as the {@code obj} argument;
+	 * 				{@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		BookingSnapshot other = (BookingSnapshot) obj;
+		return Objects.equals(clients, other.clients)
+			&& Objects.equals(reservationsByClient, other.reservationsByClient);
+	}
+
+	/**
+	 * Overridden method for returning a string representation of the snapshot.
+	 *
+	 * @return	a string representation of the snapshot.
+	 */
+	@Override
+	public String toString() {
+		return "BookingSnapshot [clients=" + clients.size() + ", reservations="
+				+ reservationsByClient.values().stream().mapToInt(List::size).sum() + "]";
+	}
+}
@@ -0,0 +1,151 @@
+package io.github.marcopaglio.booking.model;
+
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * This value object represents the occupancy statistics of the booking application,
+ * as counts of reservations grouped by client, by month and by weekday.
+ * Note: it is computed by the database and is not persisted.
+ */
+public class OccupancyReport {
+	/**
+	 * Number of reservations of each client, by client's identifier.
+	 */
+	private final Map<UUID, Long> reservationsPerClient;
+
+	/**
+	 * Number of reservations of each month, in chronological order.
+	 */
+	private final Map<YearMonth, Long> reservationsPerMonth;
+
+	/**
+	 * Number of reservations of each weekday, from Monday to Sunday.
+	 */
+	private final Map<DayOfWeek, Long> reservationsPerWeekday;
+
+	/**
+	 * Number of reservations of the clients with the most bookings, in descending order.
+	 */
+	private final Map<UUID, Long> topClients;
+
+	/**
+	 * Constructs an occupancy report from the counts of reservations. The top clients
+	 * are the ones with the most reservations, ties broken by identifier.
+	 *
+	 * @param reservationsPerClient		the number of reservations of each client.
+	 * @param reservationsPerMonth		the number of reservations of each month.
+	 * @param reservationsPerWeekday	the number of reservations of each weekday.
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 */
+	public OccupancyReport(Map<UUID, Long> reservationsPerClient, Map<YearMonth, Long> reservationsPerMonth,
+			Map<DayOfWeek, Long> reservationsPerWeekday, int topClientsLimit) {
+		this.reservationsPerClient = Collections.unmodifiableMap(new LinkedHashMap<>(reservationsPerClient));
+		this.reservationsPerMonth = Collections.unmodifiableMap(new TreeMap<>(reservationsPerMonth));
+		Map<DayOfWeek, Long> perWeekday = new EnumMap<>(DayOfWeek.class);
+		perWeekday.putAll(reservationsPerWeekday);
+		this.reservationsPerWeekday = Collections.unmodifiableMap(perWeekday);
+
+		Map<UUID, Long> top = new LinkedHashMap<>();
+		reservationsPerClient.entrySet().stream()
+			.sorted(Map.Entry.<UUID, Long>comparingByValue(Comparator.reverseOrder())
+					.thenComparing(Map.Entry.comparingByKey()))
+			.limit(topClientsLimit)
+			.forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+		this.topClients = Collections.unmodifiableMap(top);
+	}
+
+	/**
+	 * Retrieves the number of reservations of each client.
+	 *
+	 * @return	a read-only {@code Map} from client's identifier to number of reservations.
+	 */
+	public Map<UUID, Long> getReservationsPerClient() {
+		return reservationsPerClient;
+	}
+
+	/**
+	 * Retrieves the number of reservations of each month with at least one reservation.
+	 *
+	 * @return	a read-only {@code Map} from month to number of reservations,
+	 * 			in chronological order.
+	 */
+	public Map<YearMonth, Long> getReservationsPerMonth() {
+		return reservationsPerMonth;
+	}
+
+	/**
+	 * Retrieves the number of reservations of each weekday with at least one reservation.
+	 *
+	 * @return	a read-only {@code Map} from weekday to number of reservations,
+	 * 			from Monday to Sunday.
+	 */
+	public Map<DayOfWeek, Long> getReservationsPerWeekday() {
+		return reservationsPerWeekday;
+	}
+
+	/**
+	 * Retrieves the clients with the most reservations.
+	 *
+	 * @return	a read-only {@code Map} from client's identifier to number of reservations,
+	 * 			in descending order of reservations.
+	 */
+	public Map<UUID, Long> getTopClients() {
+		return topClients;
+	}
+
+	/**
+	 * Overridden method for returning a hash code value for the report object.
+	 *
+	 * @return	a hash code value for this report object.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(reservationsPerClient, reservationsPerMonth, reservationsPerWeekday, topClients);
+	}
+
+	/**
+	 * Overridden method for indicating whether some other report object is "equal to" this one.
+	 * Two report objects are equal if they have the same counts and top clients.
+	 *
+	 * @param obj	the reference report object with which to compare.
+	 * @return		{@code true} if this object is the same as the {@code obj} argument;
+	 * 				{@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		OccupancyReport other = (OccupancyReport) obj;
+		return Objects.equals(reservationsPerClient, other.reservationsPerClient)
+			&& Objects.equals(reservationsPerMonth, other.reservationsPerMonth)
+			&& Objects.equals(reservationsPerWeekday, other.reservationsPerWeekday)
+			&& Objects.equals(topClients, other.topClients);
+	}
+
+	/**
+	 * Overridden method for returning a string representation of the report.
+	 *
+	 * @return	a string representation of the report.
+	 */
+	@Override
+	public String toString() {
+		return "OccupancyReport [perMonth=" + reservationsPerMonth + ", perWeekday="
+				+ reservationsPerWeekday + ", topClients=" + topClients + "]";
+	}
+}
@@ -5,22 +5,34 @@ import java.util.Objects;
 import java.util.UUID;
 
 import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.hibernate.annotations.ColumnDefault;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 /**
  * This entity represents the reservation's model of the booking application.
+ * A reservation books a resource, such as a room, a desk or a court, on a date.
  */
 @Entity
-@Table(name = Reservation.RESERVATION_TABLE_DB)
+@Table(name = Reservation.RESERVATION_TABLE_DB,
+	uniqueConstraints = @UniqueConstraint(name = Reservation.RESOURCE_DATE_UNIQUE_DB,
+		columnNames = { Reservation.RESOURCE_DB, Reservation.DATE_DB }),
+	indexes = @Index(name = Reservation.DATE_INDEX_DB, columnList = Reservation.DATE_DB))
 public class Reservation extends BaseEntity {
 	/**
 	 * Table name used in a database to access {@code Reservation} entities.
 	 */
 	public static final String RESERVATION_TABLE_DB = "reservations";
 
+	/**
+	 * Table name used in a database to keep archived {@code Reservation} entities.
+	 */
+	public static final String RESERVATION_ARCHIVE_TABLE_DB = "reservations_archive";
+
 	/**
 	 * Field name used in a database to access the {@code clientId} attribute.
 	 */
@@ -31,6 +43,26 @@ public class Reservation extends BaseEntity {
 	 */
 	public static final String DATE_DB = "date";
 
+	/**
+	 * Field name used in a database to access the {@code resource} attribute.
+	 */
+	public static final String RESOURCE_DB = "resource";
+
+	/**
+	 * Name of the uniqueness constraint on {@code resource} and {@code date} in a database.
+	 */
+	public static final String RESOURCE_DATE_UNIQUE_DB = "reservations_resource_date_key";
+
+	/**
+	 * Name of the index on {@code date} in a database.
+	 */
+	public static final String DATE_INDEX_DB = "reservations_date_idx";
+
+	/**
+	 * The resource booked by reservations that do not specify one.
+	 */
+	public static final String DEFAULT_RESOURCE = "default";
+
 	/**
 	 * The identifier of the associated client entity.
 	 */
@@ -39,23 +71,45 @@ public class Reservation extends BaseEntity {
 	private UUID clientId;
 
 	/**
-	 * The date of the reservation. Note: {@code date} is unique among reservation entities.
+	 * The resource booked by the reservation. It is the default resource
+	 * for entities stored before resources were introduced.
 	 */
-	@Column(name = DATE_DB, unique = true, nullable = false)
+	@Column(name = RESOURCE_DB, nullable = false)
+	@ColumnDefault("'" + DEFAULT_RESOURCE + "'")
+	@BsonProperty(value = RESOURCE_DB)
+	private String resource = DEFAULT_RESOURCE;
+
+	/**
+	 * The date of the reservation. Note: {@code date} is unique among reservation entities
+	 * of the same resource.
+	 */
+	@Column(name = DATE_DB, nullable = false)
 	@BsonProperty(value = DATE_DB)
 	private LocalDate date;
 
 	/**
-	 * Constructs a reservation for the booking application
+	 * Constructs a reservation of the default resource for the booking application
 	 * from the associated client's identifier and a date.
-	 * The constructor checks if the parameters are valid for the creation of the reservation.
 	 * 
 	 * @param clientId	the identifier of the associated client of the reservation.
 	 * @param date		the date of the reservation.
 	 */
 	public Reservation(UUID clientId, LocalDate date) {
+		this(clientId, DEFAULT_RESOURCE, date);
+	}
+
+	/**
+	 * Constructs a reservation for the booking application
+	 * from the associated client's identifier, the booked resource and a date.
+	 * 
+	 * @param clientId	the identifier of the associated client of the reservation.
+	 * @param resource	the resource booked by the reservation.
+	 * @param date		the date of the reservation.
+	 */
+	public Reservation(UUID clientId, String resource, LocalDate date) {
 		super();
 		this.clientId = clientId;
+		this.resource = resource;
 		this.date = date;
 	}
 
@@ -85,6 +139,24 @@ public class Reservation extends BaseEntity {
 		this.clientId = clientId;
 	}
 
+	/**
+	 * Retrieves the resource booked by the reservation.
+	 *
+	 * @return	the {@code resource} of the reservation.
+	 */
+	public String getResource() {
+		return resource;
+	}
+
+	/**
+	 * Sets the resource booked by the reservation.
+	 * 
+	 * @param resource	the resource to set.
+	 */
+	public void setResource(String resource) {
+		this.resource = resource;
+	}
+
 	/**
 	 * Retrieves the date of the reservation. Note: LocalDate Objects are immutable.
 	 *
@@ -110,12 +182,12 @@ public class Reservation extends BaseEntity {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(clientId, date);
+		return Objects.hash(clientId, resource, date);
 	}
 
 	/**
 	 * Overridden method for indicating whether some other reservation object is "equal to" this one.
-	 * Two reservation objects are equal if they have the date and client identifier.
+	 * Two reservation objects are equal if they have the same client identifier, resource and date.
 	 * 
 	 * @param obj	the reference reservation object with which to compare.
 	 * @return		{@code true} if this object is the same as the {@code obj} argument;
@@ -133,7 +205,8 @@ public class Reservation extends BaseEntity {
 			return false;
 		}
 		Reservation other = (Reservation) obj;
-		return Objects.equals(clientId, other.clientId) && Objects.equals(date, other.date);
+		return Objects.equals(clientId, other.clientId) && Objects.equals(resource, other.resource)
+				&& Objects.equals(date, other.date);
 	}
 
 	/**
@@ -143,6 +216,6 @@ public class Reservation extends BaseEntity {
 	 */
 	@Override
 	public String toString() {
-		return "Reservation [date=" + date + "]";
+		return "Reservation [resource=" + resource + ", date=" + date + "]";
 	}
 }
\ No newline at end of file
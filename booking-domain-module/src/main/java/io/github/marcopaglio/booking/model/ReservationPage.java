@@ -0,0 +1,111 @@
+package io.github.marcopaglio.booking.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This value object represents a page of the reservations of the booking application,
+ * ordered by date and resource, together with the total number of reservations.
+ * Note: it is read from the database at once and is not persisted.
+ */
+public class ReservationPage {
+	/**
+	 * The number of reservations preceding the page.
+	 */
+	private final int offset;
+
+	/**
+	 * The total number of reservations when the page has been read.
+	 */
+	private final long total;
+
+	/**
+	 * The reservations of the page, in order.
+	 */
+	private final List<Reservation> reservations;
+
+	/**
+	 * Constructs a page from the reservations and their total number read together.
+	 *
+	 * @param offset		the number of reservations preceding the page.
+	 * @param total			the total number of reservations.
+	 * @param reservations	the reservations of the page.
+	 */
+	public ReservationPage(int offset, long total, List<Reservation> reservations) {
+		this.offset = offset;
+		this.total = total;
+		this.reservations = List.copyOf(reservations);
+	}
+
+	/**
+	 * Retrieves the number of reservations preceding the page.
+	 *
+	 * @return	the offset of the page.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Retrieves the total number of reservations when the page has been read.
+	 *
+	 * @return	the total number of reservations.
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves the reservations of the page.
+	 *
+	 * @return	a read-only {@code List} of the reservations, in order.
+	 */
+	public List<Reservation> getReservations() {
+		return reservations;
+	}
+
+	/**
+	 * Overridden method for returning a hash code value for the page object.
+	 *
+	 * @return	a hash code value for this page object.
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(offset, total, reservations);
+	}
+
+	/**
+	 * Overridden method for indicating whether some other page object is "equal to" this one.
+	 * Two page objects are equal if they have the same offset, total and reservations.
+	 *
+	 * @param obj	the reference page object with which to compare.
+	 * @return		{@code true} if this object is the same as the {@code obj} argument;
+	 * 				{@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		ReservationPage other = (ReservationPage) obj;
+		return offset == other.offset && total == other.total
+			&& Objects.equals(reservations, other.reservations);
+	}
+
+	/**
+	 * Overridden method for returning a string representation of the page.
+	 *
+	 * @return	a string representation of the page.
+	 */
+	@Override
+	public String toString() {
+		return "ReservationPage [offset=" + offset + ", reservations=" + reservations.size()
+				+ ", total=" + total + "]";
+	}
+}
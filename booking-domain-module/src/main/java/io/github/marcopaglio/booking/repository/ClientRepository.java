@@ -1,5 +1,6 @@
 package io.github.marcopaglio.booking.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +8,7 @@ import java.util.UUID;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
 
 /**
@@ -41,6 +43,50 @@ public interface ClientRepository {
 	 */
 	public Optional<Client> findByName(String firstName, String lastName);
 
+	/**
+	 * Retrieves the clients whose name or surname starts by the specified query, or whose names
+	 * resemble it, from the database in a list, ranking the former before the latter.
+	 * The search runs on indexes of the names, ignoring case, so that the clients are not
+	 * loaded for finding a few of them.
+	 * 
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the {@code List} of at most {@code limit} {@code Client}s
+	 * 									matching {@code query}, from the most to the least relevant;
+	 * 									empty if {@code query} is null or blank.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 */
+	public List<Client> searchByName(String query, int limit) throws IllegalArgumentException;
+
+	/**
+	 * Retrieves the clients with any of the specified identifiers from the database in a list.
+	 * 
+	 * @param ids	the identifiers of the clients to find.
+	 * @return		the {@code List} of {@code Client}s identified by any of {@code ids}
+	 * 				found in the repository.
+	 */
+	public List<Client> findByIds(Collection<UUID> ids);
+
+	/**
+	 * Retrieves the clients having the same name and surname of any of the specified clients
+	 * from the database in a list, using a single query.
+	 * 
+	 * @param clients	the clients whose names have to be found.
+	 * @return			the {@code List} of {@code Client}s named as any of {@code clients}
+	 * 					found in the repository.
+	 */
+	public List<Client> findByNames(Collection<Client> clients);
+
+	/**
+	 * Retrieves all the clients together with their reservations from the database
+	 * with a single query, so that the two are consistent with each other.
+	 * Note: reservations of no longer existing clients are not retrieved.
+	 * 
+	 * @return	a {@code BookingSnapshot} of the clients and their reservations
+	 * 			found in the repository.
+	 */
+	public BookingSnapshot findAllWithReservations();
+
 	/**
 	 * Inserts a new Client in the database or saves changes of an existing one.
 	 *
@@ -53,6 +99,18 @@ public interface ClientRepository {
 	 */
 	public Client save(Client client) throws IllegalArgumentException, UpdateFailureException, NotNullConstraintViolationException, UniquenessConstraintViolationException;
 
+	/**
+	 * Inserts new clients in the database in a single batch.
+	 * Note: the clients must have never been inserted before.
+	 *
+	 * @param clients									the clients to insert.
+	 * @return											the {@code List} of {@code Client}s inserted.
+	 * @throws IllegalArgumentException					if {@code clients} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if a not-null constraint is violated.
+	 * @throws UniquenessConstraintViolationException	if a uniqueness constraint is violated.
+	 */
+	public List<Client> insertAll(List<Client> clients) throws IllegalArgumentException, NotNullConstraintViolationException, UniquenessConstraintViolationException;
+
 	/**
 	 * Removes the unique specified client from the database, if it exists,
 	 * otherwise it does nothing.
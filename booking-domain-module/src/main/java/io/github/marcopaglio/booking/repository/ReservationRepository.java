@@ -1,6 +1,7 @@
 package io.github.marcopaglio.booking.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +9,7 @@ import java.util.UUID;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
 
 /**
@@ -32,6 +34,16 @@ public interface ReservationRepository {
 	 */
 	public List<Reservation> findByClient(UUID clientId);
 
+	/**
+	 * Retrieves all the reservations associated with the specified client's identifier,
+	 * both in use and archived, from the database in a list.
+	 * 
+	 * @param clientId	the identifier of the associated client.
+	 * @return			the {@code List} of {@code Reservation}s associated
+	 * 					with {@code clientId} found in the repository or in its archive.
+	 */
+	public List<Reservation> findHistoryByClient(UUID clientId);
+
 	/**
 	 * Retrieves the unique reservation with the specified identifier from the database, if it exists.
 	 * 
@@ -42,13 +54,75 @@ public interface ReservationRepository {
 	public Optional<Reservation> findById(UUID id);
 
 	/**
-	 * Retrieves the unique reservation of the specified date from the database, if it exists.
+	 * Retrieves all the reservations of the specified resource from the database in a list.
+	 * 
+	 * @param resource	the booked resource.
+	 * @return			the {@code List} of {@code Reservation}s of {@code resource}
+	 * 					found in the repository.
+	 */
+	public List<Reservation> findByResource(String resource);
+
+	/**
+	 * Retrieves the unique reservation of the default resource on the specified date
+	 * from the database, if it exists.
 	 * 
 	 * @param date	the date of the reservation to find.
 	 * @return		an {@code Optional} contained the {@code Reservation} on {@code date},
 	 * 				if it exists; an {@code Optional} empty, otherwise.
 	 */
-	public Optional<Reservation> findByDate(LocalDate date);
+	public default Optional<Reservation> findByDate(LocalDate date) {
+		return findByResourceAndDate(Reservation.DEFAULT_RESOURCE, date);
+	}
+
+	/**
+	 * Retrieves the unique reservation of the specified resource on the specified date
+	 * from the database, if it exists.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the date of the reservation to find.
+	 * @return			an {@code Optional} contained the {@code Reservation} of {@code resource}
+	 * 					on {@code date}, if it exists; an {@code Optional} empty, otherwise.
+	 */
+	public Optional<Reservation> findByResourceAndDate(String resource, LocalDate date);
+
+	/**
+	 * Retrieves the reservations of any resource on any of the specified dates
+	 * from the database in a list, using a single query.
+	 * 
+	 * @param dates	the dates of the reservations to find.
+	 * @return		the {@code List} of {@code Reservation}s on any of {@code dates}
+	 * 				found in the repository.
+	 */
+	public List<Reservation> findByDates(Collection<LocalDate> dates);
+
+	/**
+	 * Counts the reservations in the database.
+	 * 
+	 * @return	the number of {@code Reservation}s found in the repository.
+	 */
+	public long count();
+
+	/**
+	 * Retrieves a page of the reservations from the database in a list, ordered by date
+	 * and resource, so that consecutive pages neither overlap nor skip any reservation.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code List} of {@code Reservation}s of the page
+	 * 									found in the repository.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 */
+	public List<Reservation> findPage(int offset, int limit) throws IllegalArgumentException;
+
+	/**
+	 * Aggregates the reservations in the database counting them by client,
+	 * by month and by weekday, and ranks the clients with the most bookings.
+	 *
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the repository.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 */
+	public OccupancyReport aggregateOccupancy(int topClientsLimit) throws IllegalArgumentException;
 
 	/**
 	 * Insert a new reservation in the database or saves changes of an existing one.
@@ -62,6 +136,29 @@ public interface ReservationRepository {
 	 */
 	public Reservation save(Reservation reservation) throws IllegalArgumentException, UpdateFailureException, NotNullConstraintViolationException, UniquenessConstraintViolationException;
 
+	/**
+	 * Inserts new reservations in the database in a single batch.
+	 * Note: the reservations must have never been inserted before.
+	 *
+	 * @param reservations								the reservations to insert.
+	 * @return											the {@code List} of {@code Reservation}s inserted.
+	 * @throws IllegalArgumentException					if {@code reservations} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if a not-null constraint is violated.
+	 * @throws UniquenessConstraintViolationException	if a uniqueness constraint is violated.
+	 */
+	public List<Reservation> insertAll(List<Reservation> reservations) throws IllegalArgumentException, NotNullConstraintViolationException, UniquenessConstraintViolationException;
+
+	/**
+	 * Moves the oldest reservations dated before the specified horizon from the database
+	 * into its archive, up to the specified number.
+	 *
+	 * @param horizon					the date from which reservations are kept in use.
+	 * @param batchSize					the maximum number of reservations to move.
+	 * @return							the {@code List} of {@code Reservation}s archived.
+	 * @throws IllegalArgumentException	if {@code horizon} is null or {@code batchSize} is not positive.
+	 */
+	public List<Reservation> archiveBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException;
+
 	/**
 	 * Removes the unique specified reservation from the database, if it exists,
 	 * otherwise it does nothing.
@@ -70,4 +167,13 @@ public interface ReservationRepository {
 	 * @throws IllegalArgumentException	if {@code reservation} is null.
 	 */
 	public void delete(Reservation reservation) throws IllegalArgumentException;
+
+	/**
+	 * Removes the specified reservations from the database with a single statement,
+	 * skipping the ones that do not exist.
+	 *
+	 * @param reservations				the reservations to delete.
+	 * @throws IllegalArgumentException	if {@code reservations} or any of them is null.
+	 */
+	public void deleteAll(Collection<Reservation> reservations) throws IllegalArgumentException;
 }
\ No newline at end of file
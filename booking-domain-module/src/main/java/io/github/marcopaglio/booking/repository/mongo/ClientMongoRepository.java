@@ -1,31 +1,46 @@
 package io.github.marcopaglio.booking.repository.mongo;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.StreamSupport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.conversions.Bson;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
 
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
 import io.github.marcopaglio.booking.repository.ClientRepository;
 
 import static io.github.marcopaglio.booking.model.BaseEntity.ID_MONGODB;
 import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
 import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
 import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.repository.mongo.ClientMongoSearchIndexer.SEARCH_COLLATION;
 
 /**
  * Implementation of repository layer through MongoDB for Client entities of the booking application.
@@ -36,6 +51,22 @@ public class ClientMongoRepository extends MongoRepository<Client> implements Cl
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(ClientMongoRepository.class);
 
+	/**
+	 * Field of the joined documents holding the reservations of each client.
+	 */
+	private static final String RESERVATIONS_FIELD = "reservations";
+
+	/**
+	 * Upper bound of the strings starting by a prefix, since it sorts after any character
+	 * in the collations of MongoDB.
+	 */
+	private static final char MAX_COLLATION_CHAR = '\uffff';
+
+	/**
+	 * Name of the sort key holding the relevance of a text search.
+	 */
+	private static final String SCORE_FIELD = "score";
+
 	/**
 	 * Constructs a repository layer for Client entities using MongoDB database. 
 	 * The construction generates and configures a collection for using by the repository.
@@ -106,6 +137,117 @@ public class ClientMongoRepository extends MongoRepository<Client> implements Cl
 		return Optional.empty();
 	}
 
+	/**
+	 * Retrieves the clients whose name or surname starts by the specified query, or whose names
+	 * contain its words, from the MongoDB database in a list, ranking the former before the latter.
+	 * Prefixes are range searches on the names' indexes with a collation ignoring case and accents,
+	 * also for a name followed by the beginning of the other one; words are searched, in any order,
+	 * on the text index of the names and ranked by relevance.
+	 * Note: the indexes must be created beforehand through {@code ClientMongoSearchIndexer}.
+	 * 
+	 * @param query						the beginning, or the words, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the {@code List} of at most {@code limit} {@code Client}s
+	 * 									matching {@code query}, from the most to the least relevant;
+	 * 									empty if {@code query} is null or blank.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 */
+	@Override
+	public List<Client> searchByName(String query, int limit) throws IllegalArgumentException {
+		if (limit <= 0)
+			throw new IllegalArgumentException("Limit of searched clients must be positive.");
+		if (query == null || query.isBlank())
+			return List.of();
+		
+		String prefix = query.strip().replaceAll("\\s+", " ");
+		List<Bson> prefixFilters = new ArrayList<>(List.of(
+				startsWith(FIRSTNAME_DB, prefix), startsWith(LASTNAME_DB, prefix)));
+		int space = prefix.indexOf(' ');
+		if (space > 0) {
+			String name = prefix.substring(0, space);
+			String rest = prefix.substring(space + 1);
+			prefixFilters.add(Filters.and(Filters.eq(FIRSTNAME_DB, name), startsWith(LASTNAME_DB, rest)));
+			prefixFilters.add(Filters.and(Filters.eq(LASTNAME_DB, name), startsWith(FIRSTNAME_DB, rest)));
+		}
+		List<Client> found = collection.find(session, Filters.or(prefixFilters))
+				.collation(SEARCH_COLLATION)
+				.sort(Sorts.ascending(LASTNAME_DB, FIRSTNAME_DB))
+				.limit(limit)
+				.into(new ArrayList<>());
+		
+		if (found.size() < limit)
+			collection.find(session, Filters.and(Filters.text(prefix),
+						Filters.nin(ID_MONGODB, found.stream().map(Client::getId).toList())))
+				.sort(Sorts.metaTextScore(SCORE_FIELD))
+				.limit(limit - found.size())
+				.into(found);
+		return found;
+	}
+
+	/**
+	 * Retrieves the clients with any of the specified identifiers from the MongoDB database
+	 * in a list.
+	 * 
+	 * @param ids	the identifiers of the clients to find.
+	 * @return		the {@code List} of {@code Client}s identified by any of {@code ids}
+	 * 				found in the repository.
+	 */
+	@Override
+	public List<Client> findByIds(Collection<UUID> ids) {
+		if (ids == null || ids.isEmpty())
+			return List.of();
+		
+		return StreamSupport
+				.stream(collection.find(session, Filters.in(ID_MONGODB, ids)).spliterator(), false)
+				.toList();
+	}
+
+	/**
+	 * Retrieves the clients having the same name and surname of any of the specified clients
+	 * from the MongoDB database in a list, using a single query on the names' index.
+	 * 
+	 * @param clients	the clients whose names have to be found.
+	 * @return			the {@code List} of {@code Client}s named as any of {@code clients}
+	 * 					found in the repository.
+	 */
+	@Override
+	public List<Client> findByNames(Collection<Client> clients) {
+		if (clients == null || clients.isEmpty())
+			return List.of();
+		
+		return StreamSupport
+				.stream(collection.find(session, Filters.or(clients.stream()
+						.map(client -> Filters.and(
+								Filters.eq(FIRSTNAME_DB, client.getFirstName()),
+								Filters.eq(LASTNAME_DB, client.getLastName())))
+						.toList())).spliterator(), false)
+				.toList();
+	}
+
+	/**
+	 * Retrieves all the clients together with their reservations from the MongoDB database
+	 * with a single aggregation, joining the reservations of each client through a lookup.
+	 * 
+	 * @return	a {@code BookingSnapshot} of the clients and their reservations
+	 * 			found in the repository.
+	 */
+	@Override
+	public BookingSnapshot findAllWithReservations() {
+		Codec<Client> clientCodec = collection.getCodecRegistry().get(Client.class);
+		Codec<Reservation> reservationCodec = collection.getCodecRegistry().get(Reservation.class);
+		DecoderContext decoderContext = DecoderContext.builder().build();
+		
+		List<Client> clients = new ArrayList<>();
+		List<Reservation> reservations = new ArrayList<>();
+		for (BsonDocument joined : collection.aggregate(session, List.of(Aggregates.lookup(
+				RESERVATION_TABLE_DB, ID_MONGODB, CLIENTID_DB, RESERVATIONS_FIELD)), BsonDocument.class)) {
+			joined.remove(RESERVATIONS_FIELD).asArray().forEach(reservation -> reservations.add(
+					reservationCodec.decode(reservation.asDocument().asBsonReader(), decoderContext)));
+			clients.add(clientCodec.decode(joined.asBsonReader(), decoderContext));
+		}
+		return new BookingSnapshot(clients, reservations);
+	}
+
 	/**
 	 * Inserts a new Client in the MongoDB database or saves changes of an existing one.
 	 * Note: a Client without an identifier is considered to be entered,
@@ -146,6 +288,54 @@ public class ClientMongoRepository extends MongoRepository<Client> implements Cl
 		return client;
 	}
 
+	/**
+	 * Inserts new clients in the MongoDB database with a single bulk write.
+	 * Note: the clients must have never been inserted before.
+	 *
+	 * @param clients									the clients to insert.
+	 * @return											the {@code List} of {@code Client}s inserted.
+	 * @throws IllegalArgumentException					if {@code clients} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if {@code firstName} or {@code lastName}
+	 * 													of any client to insert are null.
+	 * @throws UniquenessConstraintViolationException	if {@code [firstName, lastName]} of any
+	 * 													client to insert are already present.
+	 */
+	@Override
+	public List<Client> insertAll(List<Client> clients) throws IllegalArgumentException,
+			NotNullConstraintViolationException, UniquenessConstraintViolationException {
+		if (clients == null || clients.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Clients to insert cannot be null.");
+		
+		if (clients.stream().anyMatch(c -> c.getFirstName() == null || c.getLastName() == null))
+			throw new NotNullConstraintViolationException(
+					"Clients to insert violate not-null constraints.");
+		
+		if (!clients.isEmpty()) {
+			clients.forEach(client -> client.setId(UUID.randomUUID()));
+			try {
+				collection.insertMany(session, clients);
+			} catch(MongoBulkWriteException e) {
+				LOGGER.warn(e.getMessage());
+				throw new UniquenessConstraintViolationException(
+						"Clients to insert violate uniqueness constraints.", e.getCause());
+			}
+		}
+		return clients;
+	}
+
+	/**
+	 * Creates a filter of the documents whose field starts by the specified prefix,
+	 * as a range that the collation of the search compares ignoring case and accents.
+	 * 
+	 * @param field		the name of the field.
+	 * @param prefix	the beginning of the values to find.
+	 * @return			the {@code Bson} filter of the values of {@code field}
+	 * 					starting by {@code prefix}.
+	 */
+	private static Bson startsWith(String field, String prefix) {
+		return Filters.and(Filters.gte(field, prefix), Filters.lt(field, prefix + MAX_COLLATION_CHAR));
+	}
+
 	/**
 	 * Replace the existing Client with the same id in the MongoDB database.
 	 * 
@@ -0,0 +1,66 @@
+package io.github.marcopaglio.booking.repository.mongo;
+
+import org.bson.Document;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+
+/**
+ * Creates the indexes on the names of the MongoDB collection of clients, which the searches
+ * by name of {@code ClientMongoRepository} need. Names and surnames are indexed separately
+ * with a collation ignoring case and accents, so that prefixes are range searches, and together
+ * through a text index, so that their words are searched in any order.
+ * Note: MongoDB creates only the missing indexes, hence creating them again is harmless.
+ */
+public class ClientMongoSearchIndexer {
+	/**
+	 * Collation of the searches by name, which ignores case and accents.
+	 */
+	public static final Collation SEARCH_COLLATION = Collation.builder()
+			.locale("en").collationStrength(CollationStrength.PRIMARY).build();
+
+	/**
+	 * The collection of clients to index.
+	 */
+	private final MongoCollection<Document> collection;
+
+	/**
+	 * Constructs a creator of the indexes of the names of clients in MongoDB.
+	 *
+	 * @param client		the {@code MongoClient} connected to MongoDB.
+	 * @param databaseName	the name of the database holding the collection of clients.
+	 */
+	public ClientMongoSearchIndexer(MongoClient client, String databaseName) {
+		this.collection = client.getDatabase(databaseName).getCollection(CLIENT_TABLE_DB);
+	}
+
+	/**
+	 * Creates the collated indexes of names and surnames and the text index of both, if missing.
+	 *
+	 * @throws DatabaseException	if the indexes cannot be created.
+	 */
+	public void createIndexes() throws DatabaseException {
+		try {
+			collection.createIndex(Indexes.ascending(FIRSTNAME_DB),
+					new IndexOptions().collation(SEARCH_COLLATION));
+			collection.createIndex(Indexes.ascending(LASTNAME_DB),
+					new IndexOptions().collation(SEARCH_COLLATION));
+			collection.createIndex(Indexes.compoundIndex(
+					Indexes.text(FIRSTNAME_DB), Indexes.text(LASTNAME_DB)),
+					new IndexOptions().defaultLanguage("none"));
+		} catch(MongoException e) {
+			throw new DatabaseException("The indexes of the names of clients cannot be created.", e);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package io.github.marcopaglio.booking.repository.mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.Document;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Updates;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+
+import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
+/**
+ * Migrates the MongoDB collection of reservations created before resources were introduced
+ * and creates the indexes which the queries of {@code ReservationMongoRepository} need, besides
+ * the unique one on resources and dates. The reservations without a resource are assigned
+ * the default one and the unique index on dates only, which would prevent booking several
+ * resources on the same date, is dropped. Then reservations are indexed by date, and archived
+ * ones by client.
+ * Note: the migration changes nothing on a collection already migrated and MongoDB creates
+ * only the missing indexes, hence running it again is harmless.
+ */
+public class ReservationMongoMigrator {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ReservationMongoMigrator.class);
+
+	/**
+	 * Key of the unique index on dates of the reservations stored before resources.
+	 */
+	private static final Document LEGACY_INDEX_KEY = new Document(DATE_DB, -1);
+
+	/**
+	 * The collection of reservations in use.
+	 */
+	private final MongoCollection<Document> collection;
+
+	/**
+	 * The collection of archived reservations.
+	 */
+	private final MongoCollection<Document> archive;
+
+	/**
+	 * Constructs a migrator of the collections of reservations in MongoDB.
+	 *
+	 * @param client		the {@code MongoClient} connected to MongoDB.
+	 * @param databaseName	the name of the database holding the collections of reservations.
+	 */
+	public ReservationMongoMigrator(MongoClient client, String databaseName) {
+		MongoDatabase database = client.getDatabase(databaseName);
+		this.collection = database.getCollection(RESERVATION_TABLE_DB);
+		this.archive = database.getCollection(RESERVATION_ARCHIVE_TABLE_DB);
+	}
+
+	/**
+	 * Assigns the default resource to the reservations without one, drops the unique index
+	 * on dates only and creates the missing indexes of reservations.
+	 *
+	 * @return						the {@code List} of names of the indexes dropped.
+	 * @throws DatabaseException	if the collections of reservations cannot be migrated.
+	 */
+	public List<String> migrate() throws DatabaseException {
+		try {
+			long migratedCount = collection.updateMany(Filters.exists(RESOURCE_DB, false),
+					Updates.set(RESOURCE_DB, DEFAULT_RESOURCE)).getModifiedCount();
+			if (migratedCount > 0)
+				LOGGER.info(() -> String.format("%d reservation(s) have been assigned to the default resource.",
+						migratedCount));
+
+			List<String> dropped = new ArrayList<>();
+			for (Document index : collection.listIndexes().into(new ArrayList<>())) {
+				if (LEGACY_INDEX_KEY.equals(index.get("key"))) {
+					collection.dropIndex(index.getString("name"));
+					dropped.add(index.getString("name"));
+				}
+			}
+			if (!dropped.isEmpty())
+				LOGGER.info(() -> String.format("Dropped unique indexes on dates of reservations: %s.", dropped));
+
+			// also serves the queries on dates only, as their prefix
+			collection.createIndex(Indexes.ascending(DATE_DB, RESOURCE_DB));
+			archive.createIndex(Indexes.ascending(CLIENTID_DB));
+			return dropped;
+		} catch(MongoException e) {
+			throw new DatabaseException("The collections of reservations cannot be migrated.", e);
+		}
+	}
+}
@@ -1,31 +1,51 @@
 package io.github.marcopaglio.booking.repository.mongo;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.stream.StreamSupport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
 
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
 import io.github.marcopaglio.booking.repository.ReservationRepository;
 
 import static io.github.marcopaglio.booking.model.BaseEntity.ID_MONGODB;
 import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
 import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
 import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
 
 /**
@@ -37,9 +57,22 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(ReservationMongoRepository.class);
 
+	/**
+	 * Name of the field holding the number of reservations of a group in aggregations.
+	 */
+	private static final String COUNT_FIELD = "count";
+
+	/**
+	 * The collection keeping the archived reservations, out of the indexes of those in use.
+	 */
+	private final MongoCollection<Reservation> archive;
+
 	/**
 	 * Constructs a repository layer for Reservation entities using MongoDB database. 
-	 * The construction generates and configures a collection for using by the repository.
+	 * The construction generates and configures the collections of reservations in use and
+	 * archived for using by the repository.
+	 * Note: the reservations stored before resources must be migrated, and the indexes
+	 * of the queries created, beforehand through {@code ReservationMongoMigrator}.
 	 * 
 	 * @param client		the {@code MongoClient} used to retrieve the collection.
 	 * @param session		the {@code ClientSession} used to communicate with MongoDB database.
@@ -52,7 +85,10 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 				session);
 		
 		// collection configuration
-		collection.createIndex(session, Indexes.descending(DATE_DB), new IndexOptions().unique(true));
+		collection.createIndex(session, Indexes.compoundIndex(Indexes.ascending(RESOURCE_DB),
+				Indexes.descending(DATE_DB)), new IndexOptions().unique(true));
+		
+		archive = client.getDatabase(databaseName).getCollection(RESERVATION_ARCHIVE_TABLE_DB, Reservation.class);
 	}
 
 	/**
@@ -82,6 +118,22 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 				.toList();
 	}
 
+	/**
+	 * Retrieves all the reservations associated with the specified client's identifier,
+	 * both in use and archived, from the MongoDB database in a list.
+	 * 
+	 * @param clientId	the identifier of the associated client.
+	 * @return			the {@code List} of {@code Reservation}s associated
+	 * 					with {@code clientId} found in the repository or in its archive.
+	 */
+	@Override
+	public List<Reservation> findHistoryByClient(UUID clientId) {
+		List<Reservation> history = new ArrayList<>();
+		archive.find(session, Filters.eq(CLIENTID_DB, clientId)).into(history);
+		collection.find(session, Filters.eq(CLIENTID_DB, clientId)).into(history);
+		return history;
+	}
+
 	/**
 	 * Retrieves the unique reservation with the specified identifier from the MongoDB database,
 	 * if it exists.
@@ -100,22 +152,138 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 	}
 
 	/**
-	 * Retrieves the unique reservation of the specified date from the MongoDB database,
-	 * if it exists.
+	 * Retrieves all the reservations of the specified resource from the MongoDB database
+	 * in a list, using the compound index on resources and dates.
 	 * 
-	 * @param date	the date of the reservation to find.
-	 * @return		an {@code Optional} contained the {@code Reservation} on {@code date},
-	 * 				if it exists; an {@code Optional} empty, otherwise.
+	 * @param resource	the booked resource.
+	 * @return			the {@code List} of {@code Reservation}s of {@code resource}
+	 * 					found in the repository.
 	 */
 	@Override
-	public Optional<Reservation> findByDate(LocalDate date) {
-		Reservation reservation = collection.find(session, Filters.eq(DATE_DB, date)).first();
+	public List<Reservation> findByResource(String resource) {
+		return StreamSupport
+				.stream(collection.find(session, Filters.eq(RESOURCE_DB, resource)).spliterator(), false)
+				.toList();
+	}
+
+	/**
+	 * Retrieves the unique reservation of the specified resource on the specified date
+	 * from the MongoDB database, if it exists.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the date of the reservation to find.
+	 * @return			an {@code Optional} contained the {@code Reservation} of {@code resource}
+	 * 					on {@code date}, if it exists; an {@code Optional} empty, otherwise.
+	 */
+	@Override
+	public Optional<Reservation> findByResourceAndDate(String resource, LocalDate date) {
+		Reservation reservation = collection.find(session,
+				Filters.and(Filters.eq(RESOURCE_DB, resource), Filters.eq(DATE_DB, date))).first();
 		
 		if (reservation != null)
 			return Optional.of(reservation);
 		return Optional.empty();
 	}
 
+	/**
+	 * Retrieves the reservations of any resource on any of the specified dates from
+	 * the MongoDB database in a list, using a single query on the dates' index.
+	 * 
+	 * @param dates	the dates of the reservations to find.
+	 * @return		the {@code List} of {@code Reservation}s on any of {@code dates}
+	 * 				found in the repository.
+	 */
+	@Override
+	public List<Reservation> findByDates(Collection<LocalDate> dates) {
+		if (dates == null || dates.isEmpty())
+			return List.of();
+		
+		return StreamSupport
+				.stream(collection.find(session, Filters.in(DATE_DB, dates)).spliterator(), false)
+				.toList();
+	}
+
+	/**
+	 * Counts the reservations in the MongoDB database.
+	 * 
+	 * @return	the number of {@code Reservation}s found in the repository.
+	 */
+	@Override
+	public long count() {
+		return collection.countDocuments(session);
+	}
+
+	/**
+	 * Retrieves a page of the reservations from the MongoDB database in a list, ordered by
+	 * date and resource through the index on them, so that consecutive pages neither overlap
+	 * nor skip any reservation.
+	 * Note: the reservations preceding the page are skipped on the index, hence the cost
+	 * of a page grows with its offset.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code List} of {@code Reservation}s of the page
+	 * 									found in the repository.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 */
+	@Override
+	public List<Reservation> findPage(int offset, int limit) throws IllegalArgumentException {
+		if (offset < 0)
+			throw new IllegalArgumentException("Offset of page cannot be negative.");
+		if (limit <= 0)
+			throw new IllegalArgumentException("Size of page must be positive.");
+		
+		return collection.find(session)
+				.sort(Sorts.ascending(DATE_DB, RESOURCE_DB))
+				.skip(offset)
+				.limit(limit)
+				.into(new ArrayList<>());
+	}
+
+	/**
+	 * Aggregates the reservations in the MongoDB database counting them by client,
+	 * by month and by weekday through aggregation pipelines, and ranks the clients
+	 * with the most bookings.
+	 * Note: this method must be executed as part of a transaction so that the counts are consistent.
+	 *
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the repository.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 */
+	@Override
+	public OccupancyReport aggregateOccupancy(int topClientsLimit) throws IllegalArgumentException {
+		if (topClientsLimit < 0)
+			throw new IllegalArgumentException("Limit of top clients cannot be negative.");
+		
+		Map<UUID, Long> perClient = new HashMap<>();
+		countGroupedBy("$" + CLIENTID_DB,
+				(key, count) -> perClient.put(key.asBinary().asUuid(), count));
+		
+		Map<YearMonth, Long> perMonth = new HashMap<>();
+		countGroupedBy(new Document("$dateToString",
+					new Document("format", "%Y-%m").append("date", "$" + DATE_DB)),
+				(key, count) -> perMonth.put(YearMonth.parse(key.asString().getValue()), count));
+		
+		// $isoDayOfWeek numbers the weekdays from Monday (1) to Sunday (7) as DayOfWeek does
+		Map<DayOfWeek, Long> perWeekday = new HashMap<>();
+		countGroupedBy(new Document("$isoDayOfWeek", "$" + DATE_DB),
+				(key, count) -> perWeekday.put(DayOfWeek.of(key.asNumber().intValue()), count));
+		
+		return new OccupancyReport(perClient, perMonth, perWeekday, topClientsLimit);
+	}
+
+	/**
+	 * Runs an aggregation pipeline that counts the reservations grouped by the given expression.
+	 *
+	 * @param groupKey	the expression whose values group the reservations.
+	 * @param consumer	the consumer of each group's key and number of reservations.
+	 */
+	private void countGroupedBy(Object groupKey, BiConsumer<BsonValue, Long> consumer) {
+		List<Bson> pipeline = List.of(Aggregates.group(groupKey, Accumulators.sum(COUNT_FIELD, 1)));
+		for (BsonDocument group : collection.aggregate(session, pipeline, BsonDocument.class))
+			consumer.accept(group.get(ID_MONGODB), group.getNumber(COUNT_FIELD).longValue());
+	}
+
 	/**
 	 * Insert a new reservation in the MongoDB database or saves changes of an existing one.
 	 * Note: a Reservation without an identifier is considered to be entered,
@@ -126,9 +294,10 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 	 * @throws IllegalArgumentException					if {@code reservation} is null.
 	 * @throws UpdateFailureException					if you try to save changes of a no longer
 	 * 													existing reservation.
-	 * @throws NotNullConstraintViolationException		if {@code date} or {@code clientId}
-	 * 													of {@code reservation} to save are null.
-	 * @throws UniquenessConstraintViolationException	if {@code id} or {@code date}
+	 * @throws NotNullConstraintViolationException		if {@code date}, {@code resource} or
+	 * 													{@code clientId} of {@code reservation}
+	 * 													to save are null.
+	 * @throws UniquenessConstraintViolationException	if {@code id} or {@code resource} and {@code date}
 	 * 													of {@code reservation} to save are already present.
 	 */
 	@Override
@@ -137,7 +306,8 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 		if (reservation == null)
 			throw new IllegalArgumentException("Reservation to save cannot be null.");
 		
-		if (reservation.getClientId() == null || reservation.getDate() == null)
+		if (reservation.getClientId() == null || reservation.getResource() == null
+				|| reservation.getDate() == null)
 			throw new NotNullConstraintViolationException(
 					"Reservation to save violates not-null constraints.");
 		
@@ -156,6 +326,43 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 		return reservation;
 	}
 
+	/**
+	 * Inserts new reservations in the MongoDB database with a single bulk write.
+	 * Note: the reservations must have never been inserted before.
+	 *
+	 * @param reservations								the reservations to insert.
+	 * @return											the {@code List} of {@code Reservation}s inserted.
+	 * @throws IllegalArgumentException					if {@code reservations} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if {@code date}, {@code resource} or
+	 * 													{@code clientId} of any reservation
+	 * 													to insert are null.
+	 * @throws UniquenessConstraintViolationException	if {@code resource} and {@code date} of any
+	 * 													reservation to insert are already present.
+	 */
+	@Override
+	public List<Reservation> insertAll(List<Reservation> reservations) throws IllegalArgumentException,
+			NotNullConstraintViolationException, UniquenessConstraintViolationException {
+		if (reservations == null || reservations.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Reservations to insert cannot be null.");
+		
+		if (reservations.stream().anyMatch(r -> r.getClientId() == null || r.getResource() == null
+				|| r.getDate() == null))
+			throw new NotNullConstraintViolationException(
+					"Reservations to insert violate not-null constraints.");
+		
+		if (!reservations.isEmpty()) {
+			reservations.forEach(reservation -> reservation.setId(UUID.randomUUID()));
+			try {
+				collection.insertMany(session, reservations);
+			} catch(MongoBulkWriteException e) {
+				LOGGER.warn(e.getMessage());
+				throw new UniquenessConstraintViolationException(
+						"Reservations to insert violate uniqueness constraints.", e.getCause());
+			}
+		}
+		return reservations;
+	}
+
 	/**
 	 * Replace the existing Reservation with the same id in the MongoDB database.
 	 * 
@@ -175,6 +382,36 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 		}
 	}
 
+	/**
+	 * Moves the oldest reservations dated before the specified horizon from the MongoDB
+	 * database into the archive collection, up to the specified number.
+	 * Note: this method must be executed as part of a transaction so that no reservation
+	 * is lost or duplicated.
+	 *
+	 * @param horizon					the date from which reservations are kept in use.
+	 * @param batchSize					the maximum number of reservations to move.
+	 * @return							the {@code List} of {@code Reservation}s archived.
+	 * @throws IllegalArgumentException	if {@code horizon} is null or {@code batchSize} is not positive.
+	 */
+	@Override
+	public List<Reservation> archiveBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException {
+		if (horizon == null)
+			throw new IllegalArgumentException("Horizon of archiving cannot be null.");
+		if (batchSize <= 0)
+			throw new IllegalArgumentException("Size of archiving batches must be positive.");
+		
+		List<Reservation> expired = collection.find(session, Filters.lt(DATE_DB, horizon))
+				.sort(Sorts.ascending(DATE_DB))
+				.limit(batchSize)
+				.into(new ArrayList<>());
+		if (!expired.isEmpty()) {
+			archive.insertMany(session, expired);
+			collection.deleteMany(session, Filters.in(ID_MONGODB,
+					expired.stream().map(Reservation::getId).toList()));
+		}
+		return expired;
+	}
+
 	/**
 	 * Removes the unique specified reservation from the MongoDB database, if it exists,
 	 * otherwise it does nothing.
@@ -197,4 +434,25 @@ public class ReservationMongoRepository extends MongoRepository<Reservation> imp
 			 LOGGER.warn(() -> reservation.toString() + " to delete was never been "
 					+ "inserted into the database.");
 	}
+
+	/**
+	 * Removes the specified reservations from the MongoDB database with a single
+	 * {@code deleteMany}, skipping the ones that do not exist.
+	 *
+	 * @param reservations				the reservations to delete.
+	 * @throws IllegalArgumentException	if {@code reservations} or any of them is null.
+	 */
+	@Override
+	public void deleteAll(Collection<Reservation> reservations) throws IllegalArgumentException {
+		if (reservations == null || reservations.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Reservations to delete cannot be null.");
+		
+		List<UUID> ids = reservations.stream().map(Reservation::getId).filter(Objects::nonNull).toList();
+		if (!ids.isEmpty()) {
+			long deletedCount = collection.deleteMany(session, Filters.in(ID_MONGODB, ids)).getDeletedCount();
+			if (deletedCount < reservations.size())
+				LOGGER.warn(() -> (reservations.size() - deletedCount)
+						+ " reservation(s) to delete were not found in the database.");
+		}
+	}
 }
\ No newline at end of file
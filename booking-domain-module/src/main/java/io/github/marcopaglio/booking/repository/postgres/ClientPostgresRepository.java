@@ -1,6 +1,13 @@
 package io.github.marcopaglio.booking.repository.postgres;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,12 +19,20 @@ import org.hibernate.exception.ConstraintViolationException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
 import io.github.marcopaglio.booking.repository.ClientRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
 
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+import static io.github.marcopaglio.booking.repository.postgres.ClientSearchIndexer.FIRST_LAST_NAME_SQL;
+import static io.github.marcopaglio.booking.repository.postgres.ClientSearchIndexer.LAST_FIRST_NAME_SQL;
+
 /**
  * Implementation of repository layer through PostgreSQL for Client entities of the booking application.
  */
@@ -27,6 +42,21 @@ public class ClientPostgresRepository implements ClientRepository {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(ClientPostgresRepository.class);
 
+	/**
+	 * Condition of the full names starting by a pattern, on both the trigram indexes.
+	 */
+	private static final String PREFIX_MATCH_SQL = "(" + FIRST_LAST_NAME_SQL + " ILIKE ?1 OR "
+			+ LAST_FIRST_NAME_SQL + " ILIKE ?1)";
+
+	/**
+	 * Query retrieving the clients whose full names start by a pattern or are similar to a text,
+	 * ranking prefixes first, as the most similar names, then by similarity and by names.
+	 */
+	private static final String SEARCH_BY_NAME_SQL = "SELECT * FROM " + CLIENT_TABLE_DB
+			+ " WHERE " + PREFIX_MATCH_SQL + " OR " + FIRST_LAST_NAME_SQL + " % ?2"
+			+ " ORDER BY CASE WHEN " + PREFIX_MATCH_SQL + " THEN 1 ELSE similarity("
+			+ FIRST_LAST_NAME_SQL + ", ?2) END DESC, " + LASTNAME_DB + ", " + FIRSTNAME_DB + " LIMIT ?3";
+
 	/**
 	 * Entity Manager used to communicate with JPA provider.
 	 */
@@ -95,6 +125,101 @@ public class ClientPostgresRepository implements ClientRepository {
 		}
 	}
 
+	/**
+	 * Retrieves the clients whose name or surname starts by the specified query, or whose names
+	 * are similar to it, from the PostgreSQL database in a list, ranking the former before
+	 * the latter, which are ranked by trigram similarity.
+	 * Note: the trigram indexes of {@code ClientSearchIndexer} must have been created.
+	 * 
+	 * @param query						the beginning, or an approximation, of the names to find.
+	 * @param limit						the maximum number of clients to retrieve.
+	 * @return							the {@code List} of at most {@code limit} {@code Client}s
+	 * 									matching {@code query}, from the most to the least relevant;
+	 * 									empty if {@code query} is null or blank.
+	 * @throws IllegalArgumentException	if {@code limit} is not positive.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Client> searchByName(String query, int limit) throws IllegalArgumentException {
+		if (limit <= 0)
+			throw new IllegalArgumentException("Limit of searched clients must be positive.");
+		if (query == null || query.isBlank())
+			return List.of();
+		
+		String text = query.strip().replaceAll("\\s+", " ");
+		String pattern = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+		return em.createNativeQuery(SEARCH_BY_NAME_SQL, Client.class)
+			.setParameter(1, pattern)
+			.setParameter(2, text)
+			.setParameter(3, limit)
+			.getResultList();
+	}
+
+	/**
+	 * Retrieves the clients with any of the specified identifiers from the PostgreSQL database
+	 * in a list.
+	 * 
+	 * @param ids	the identifiers of the clients to find.
+	 * @return		the {@code List} of {@code Client}s identified by any of {@code ids}
+	 * 				found in the repository.
+	 */
+	@Override
+	public List<Client> findByIds(Collection<UUID> ids) {
+		if (ids == null || ids.isEmpty())
+			return List.of();
+		
+		return em.createQuery("SELECT c FROM Client c WHERE c.id IN :ids", Client.class)
+			.setParameter("ids", ids)
+			.getResultList();
+	}
+
+	/**
+	 * Retrieves the clients having the same name and surname of any of the specified clients
+	 * from the PostgreSQL database in a list, using a single query.
+	 * Note: the query selects the clients whose name and surname are both among the requested
+	 * ones, then the exact pairs are filtered in memory.
+	 * 
+	 * @param clients	the clients whose names have to be found.
+	 * @return			the {@code List} of {@code Client}s named as any of {@code clients}
+	 * 					found in the repository.
+	 */
+	@Override
+	public List<Client> findByNames(Collection<Client> clients) {
+		if (clients == null || clients.isEmpty())
+			return List.of();
+		
+		Set<Client> requested = new HashSet<>(clients);
+		return em.createQuery(
+				"SELECT c FROM Client c WHERE c.firstName IN :firstNames AND c.lastName IN :lastNames",
+				Client.class)
+			.setParameter("firstNames", clients.stream().map(Client::getFirstName).distinct().toList())
+			.setParameter("lastNames", clients.stream().map(Client::getLastName).distinct().toList())
+			.getResultStream()
+			.filter(requested::contains)
+			.toList();
+	}
+
+	/**
+	 * Retrieves all the clients together with their reservations from the PostgreSQL database
+	 * with a single query, left joining the reservations of each client.
+	 * 
+	 * @return	a {@code BookingSnapshot} of the clients and their reservations
+	 * 			found in the repository.
+	 */
+	@Override
+	public BookingSnapshot findAllWithReservations() {
+		Map<UUID, Client> clients = new LinkedHashMap<>();
+		List<Reservation> reservations = new ArrayList<>();
+		for (Object[] row : em.createQuery("SELECT c, r FROM Client c "
+				+ "LEFT JOIN Reservation r ON r.clientId = c.id", Object[].class).getResultList()) {
+			Client client = (Client) row[0];
+			clients.putIfAbsent(client.getId(), client);
+			if (row[1] != null)
+				reservations.add((Reservation) row[1]);
+		}
+		return new BookingSnapshot(new ArrayList<>(clients.values()), reservations);
+	}
+
 	/**
 	 * Inserts a new Client in the PostgreSQL database or saves changes of an existing one.
 	 * Note: a Client without an identifier is considered to be entered,
@@ -135,6 +260,41 @@ public class ClientPostgresRepository implements ClientRepository {
 		return client;
 	}
 
+	/**
+	 * Inserts new clients in the PostgreSQL database with a single flush, so that
+	 * the JDBC driver can send them in batches.
+	 * Note: the clients must have never been inserted before.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param clients									the clients to insert.
+	 * @return											the {@code List} of {@code Client}s inserted.
+	 * @throws IllegalArgumentException					if {@code clients} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if {@code firstName} or {@code lastName}
+	 * 													of any client to insert are null.
+	 * @throws UniquenessConstraintViolationException	if {@code [firstName, lastName]} of any
+	 * 													client to insert are already present.
+	 */
+	@Override
+	public List<Client> insertAll(List<Client> clients) throws IllegalArgumentException,
+			NotNullConstraintViolationException, UniquenessConstraintViolationException {
+		if (clients == null || clients.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Clients to insert cannot be null.");
+		
+		try {
+			clients.forEach(em::persist);
+			em.flush();
+		} catch(PropertyValueException e) {
+			LOGGER.warn(e.getMessage());
+			throw new NotNullConstraintViolationException(
+					"Clients to insert violate not-null constraints.", e.getCause());
+		} catch(ConstraintViolationException e) {
+			LOGGER.warn(e.getMessage());
+			throw new UniquenessConstraintViolationException(
+					"Clients to insert violate uniqueness constraints.", e.getCause());
+		}
+		return clients;
+	}
+
 	/**
 	 * Merge the existing Client with the same id in the PostgreSQL database.
 	 * Note: this method must be executed as part of a transaction.
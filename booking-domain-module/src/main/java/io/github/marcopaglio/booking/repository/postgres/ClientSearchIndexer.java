@@ -0,0 +1,87 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import java.util.List;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+
+/**
+ * Creates the trigram indexes on the names of the PostgreSQL table of clients, which
+ * the searches by name of {@code ClientPostgresRepository} need. The {@code pg_trgm} extension
+ * is installed if missing, then the full names, starting by the name and by the surname,
+ * are indexed through GIN indexes, so that both prefixes and similarities are searched
+ * without scanning the table.
+ * Note: the indexes are created only if missing, hence creating them again is harmless.
+ */
+public class ClientSearchIndexer {
+	/**
+	 * Expression of the full name of a client starting by the name.
+	 */
+	public static final String FIRST_LAST_NAME_SQL = "(" + FIRSTNAME_DB + " || ' ' || " + LASTNAME_DB + ")";
+
+	/**
+	 * Expression of the full name of a client starting by the surname.
+	 */
+	public static final String LAST_FIRST_NAME_SQL = "(" + LASTNAME_DB + " || ' ' || " + FIRSTNAME_DB + ")";
+
+	/**
+	 * Name of the trigram index of the full names starting by the name.
+	 */
+	public static final String FIRST_LAST_INDEX_DB = CLIENT_TABLE_DB + "_first_last_trgm";
+
+	/**
+	 * Name of the trigram index of the full names starting by the surname.
+	 */
+	public static final String LAST_FIRST_INDEX_DB = CLIENT_TABLE_DB + "_last_first_trgm";
+
+	/**
+	 * Statements installing the trigram extension and creating the indexes of the names.
+	 */
+	private static final List<String> CREATE_SQL = List.of(
+			"CREATE EXTENSION IF NOT EXISTS pg_trgm",
+			"CREATE INDEX IF NOT EXISTS " + FIRST_LAST_INDEX_DB + " ON " + CLIENT_TABLE_DB
+				+ " USING gin (" + FIRST_LAST_NAME_SQL + " gin_trgm_ops)",
+			"CREATE INDEX IF NOT EXISTS " + LAST_FIRST_INDEX_DB + " ON " + CLIENT_TABLE_DB
+				+ " USING gin (" + LAST_FIRST_NAME_SQL + " gin_trgm_ops)");
+
+	/**
+	 * The entity manager factory used to interact with the persistence provider.
+	 */
+	private final EntityManagerFactory emf;
+
+	/**
+	 * Constructs a creator of the indexes of the names of clients in PostgreSQL.
+	 *
+	 * @param emf	the {@code EntityManagerFactory} connected to PostgreSQL.
+	 */
+	public ClientSearchIndexer(EntityManagerFactory emf) {
+		this.emf = emf;
+	}
+
+	/**
+	 * Installs the trigram extension and creates the indexes of the names, if missing,
+	 * within a single transaction.
+	 *
+	 * @throws DatabaseException	if the extension or the indexes cannot be created.
+	 */
+	public void createIndexes() throws DatabaseException {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			CREATE_SQL.forEach(statement -> em.createNativeQuery(statement).executeUpdate());
+			em.getTransaction().commit();
+		} catch(PersistenceException e) {
+			throw new DatabaseException("The indexes of the names of clients cannot be created.", e);
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+}
@@ -0,0 +1,283 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_POSTGRESQL;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_INDEX_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DATE_UNIQUE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
+/**
+ * Keeps the PostgreSQL table of reservations range-partitioned by date, with one partition
+ * per year. The table created by the persistence provider is converted in place the first
+ * time, keeping its rows, constraints and index names; then the partitions of the years
+ * ahead are created before they are needed. Dates without a yearly partition fall into
+ * a default partition, from which they are moved once the partition of their year is created.
+ * Old years can be detached as standalone tables, which is much cheaper than deleting their rows.
+ * Note: PostgreSQL requires the date in the primary key of a partitioned table,
+ * hence the primary key of reservations becomes their identifier and date.
+ */
+public class ReservationPartitioner {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ReservationPartitioner.class);
+
+	/**
+	 * Prefix of the names of the yearly partitions, followed by their year.
+	 */
+	public static final String PARTITION_PREFIX_DB = RESERVATION_TABLE_DB + "_y";
+
+	/**
+	 * Name of the partition of the dates without a yearly partition.
+	 */
+	public static final String DEFAULT_PARTITION_DB = RESERVATION_TABLE_DB + "_default";
+
+	/**
+	 * Name given to the table of reservations while it is converted.
+	 */
+	private static final String UNPARTITIONED_TABLE_DB = RESERVATION_TABLE_DB + "_unpartitioned";
+
+	/**
+	 * Query retrieving the kind of the table of reservations, which is 'p' when partitioned.
+	 */
+	private static final String TABLE_KIND_SQL = "SELECT CAST(relkind AS text) FROM pg_class"
+			+ " WHERE oid = to_regclass('" + RESERVATION_TABLE_DB + "')";
+
+	/**
+	 * Query retrieving the names of the partitions of the table of reservations.
+	 */
+	private static final String PARTITIONS_SQL = "SELECT CAST(c.relname AS text) FROM pg_inherits i"
+			+ " JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass('"
+			+ RESERVATION_TABLE_DB + "')";
+
+	/**
+	 * Query retrieving the years of the reservations in the default partition.
+	 */
+	private static final String DEFAULT_YEARS_SQL = "SELECT DISTINCT CAST(EXTRACT(YEAR FROM \""
+			+ DATE_DB + "\") AS integer) FROM " + DEFAULT_PARTITION_DB;
+
+	/**
+	 * Statements converting the table of reservations into a partitioned one, with all its rows
+	 * in the default partition. The old table is dropped before adding the constraints
+	 * so that their names, expected by the persistence provider, are free again.
+	 */
+	private static final List<String> CONVERT_SQL = List.of(
+			"ALTER TABLE " + RESERVATION_TABLE_DB + " RENAME TO " + UNPARTITIONED_TABLE_DB,
+			"CREATE TABLE " + RESERVATION_TABLE_DB + " (LIKE " + UNPARTITIONED_TABLE_DB
+				+ " INCLUDING DEFAULTS) PARTITION BY RANGE (\"" + DATE_DB + "\")",
+			"CREATE TABLE " + DEFAULT_PARTITION_DB + " PARTITION OF " + RESERVATION_TABLE_DB + " DEFAULT",
+			"INSERT INTO " + RESERVATION_TABLE_DB + " SELECT * FROM " + UNPARTITIONED_TABLE_DB,
+			"DROP TABLE " + UNPARTITIONED_TABLE_DB,
+			"ALTER TABLE " + RESERVATION_TABLE_DB + " ADD PRIMARY KEY (" + ID_POSTGRESQL
+				+ ", \"" + DATE_DB + "\")",
+			"ALTER TABLE " + RESERVATION_TABLE_DB + " ADD CONSTRAINT " + RESOURCE_DATE_UNIQUE_DB
+				+ " UNIQUE (" + RESOURCE_DB + ", \"" + DATE_DB + "\")",
+			"CREATE INDEX " + DATE_INDEX_DB + " ON " + RESERVATION_TABLE_DB + " (\"" + DATE_DB + "\")");
+
+	/**
+	 * The entity manager factory used to interact with the persistence provider.
+	 */
+	private final EntityManagerFactory emf;
+
+	/**
+	 * The clock establishing the current year.
+	 */
+	private final Clock clock;
+
+	/**
+	 * Constructs a partitioner of the table of reservations in PostgreSQL.
+	 *
+	 * @param emf	the {@code EntityManagerFactory} connected to PostgreSQL.
+	 */
+	public ReservationPartitioner(EntityManagerFactory emf) {
+		this(emf, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * Constructs a partitioner of the table of reservations in PostgreSQL
+	 * establishing the current year through the specified clock.
+	 *
+	 * @param emf	the {@code EntityManagerFactory} connected to PostgreSQL.
+	 * @param clock	the {@code Clock} establishing the current year.
+	 */
+	ReservationPartitioner(EntityManagerFactory emf, Clock clock) {
+		this.emf = emf;
+		this.clock = clock;
+	}
+
+	/**
+	 * Verifies whether the table of reservations is partitioned.
+	 *
+	 * @return						{@code true} if the table is partitioned; {@code false} otherwise.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public boolean isPartitioned() throws DatabaseException {
+		return inTransaction(this::isPartitioned, "The table of reservations cannot be inspected.");
+	}
+
+	/**
+	 * Partitions the table of reservations by year, converting it if needed, and creates
+	 * the partitions from the current year to the specified number of years ahead, plus
+	 * those of the years found in the default partition. Existing partitions are kept as they are.
+	 *
+	 * @param yearsAhead				the number of years after the current one to create partitions for.
+	 * @return							the {@code List} of names of the partitions created.
+	 * @throws IllegalArgumentException	if {@code yearsAhead} is negative.
+	 * @throws DatabaseException		if a database error occurs.
+	 */
+	public List<String> partition(int yearsAhead) throws IllegalArgumentException, DatabaseException {
+		if (yearsAhead < 0)
+			throw new IllegalArgumentException("Years of partitions ahead cannot be negative.");
+
+		int currentYear = LocalDate.now(clock).getYear();
+		List<String> created = inTransaction(em -> {
+			if (!isPartitioned(em)) {
+				LOGGER.info("Converting the table of reservations into a partitioned one.");
+				CONVERT_SQL.forEach(statement -> em.createNativeQuery(statement).executeUpdate());
+			}
+			TreeSet<Integer> years = new TreeSet<>();
+			List<?> defaultYears = em.createNativeQuery(DEFAULT_YEARS_SQL).getResultList();
+			defaultYears.forEach(year -> years.add(((Number) year).intValue()));
+			for (int year = currentYear; year <= currentYear + yearsAhead; year++)
+				years.add(year);
+			List<String> partitions = partitionsOf(em);
+			List<String> newPartitions = new ArrayList<>();
+			years.stream()
+				.filter(year -> !partitions.contains(partitionOf(year)))
+				.forEach(year -> newPartitions.add(createPartition(em, year)));
+			return newPartitions;
+		}, "The table of reservations cannot be partitioned.");
+		if (!created.isEmpty())
+			LOGGER.info(() -> String.format("Created partitions of reservations: %s.", created));
+		return created;
+	}
+
+	/**
+	 * Detaches the yearly partitions of the years before the specified one from the table
+	 * of reservations; they are kept as standalone tables, which can be archived or dropped.
+	 *
+	 * @param year					the first year whose partition is kept attached.
+	 * @return						the {@code List} of names of the partitions detached.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	public List<String> detachBefore(int year) throws DatabaseException {
+		List<String> detached = inTransaction(em -> {
+			List<String> partitions = new ArrayList<>();
+			partitionsOf(em).stream()
+				.filter(partition -> partition.startsWith(PARTITION_PREFIX_DB))
+				.filter(partition -> Integer.parseInt(partition.substring(PARTITION_PREFIX_DB.length())) < year)
+				.sorted()
+				.forEach(partition -> {
+					em.createNativeQuery("ALTER TABLE " + RESERVATION_TABLE_DB
+							+ " DETACH PARTITION " + partition).executeUpdate();
+					partitions.add(partition);
+				});
+			return partitions;
+		}, "The partitions of reservations cannot be detached.");
+		if (!detached.isEmpty())
+			LOGGER.info(() -> String.format("Detached partitions of reservations: %s.", detached));
+		return detached;
+	}
+
+	/**
+	 * Verifies whether the table of reservations is partitioned.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param em	the {@code EntityManager} of the transaction.
+	 * @return		{@code true} if the table is partitioned; {@code false} otherwise.
+	 */
+	private boolean isPartitioned(EntityManager em) {
+		List<?> kinds = em.createNativeQuery(TABLE_KIND_SQL).getResultList();
+		return !kinds.isEmpty() && "p".equals(kinds.get(0));
+	}
+
+	/**
+	 * Retrieves the names of the partitions of the table of reservations.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param em	the {@code EntityManager} of the transaction.
+	 * @return		the {@code List} of names of the partitions.
+	 */
+	private List<String> partitionsOf(EntityManager em) {
+		List<?> partitions = em.createNativeQuery(PARTITIONS_SQL).getResultList();
+		return partitions.stream()
+				.map(String.class::cast)
+				.toList();
+	}
+
+	/**
+	 * Creates the partition of the specified year, moving its reservations out of the default
+	 * partition before attaching it, since PostgreSQL refuses to attach a partition
+	 * whose range overlaps rows of the default one.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param em	the {@code EntityManager} of the transaction.
+	 * @param year	the year of the partition.
+	 * @return		the name of the partition created.
+	 */
+	private String createPartition(EntityManager em, int year) {
+		String partition = partitionOf(year);
+		String from = "'" + LocalDate.of(year, 1, 1) + "'";
+		String to = "'" + LocalDate.of(year + 1, 1, 1) + "'";
+		em.createNativeQuery("CREATE TABLE " + partition + " (LIKE " + RESERVATION_TABLE_DB
+				+ " INCLUDING DEFAULTS)").executeUpdate();
+		em.createNativeQuery("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION_DB + " WHERE \""
+				+ DATE_DB + "\" >= " + from + " AND \"" + DATE_DB + "\" < " + to
+				+ " RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved").executeUpdate();
+		em.createNativeQuery("ALTER TABLE " + RESERVATION_TABLE_DB + " ATTACH PARTITION " + partition
+				+ " FOR VALUES FROM (" + from + ") TO (" + to + ")").executeUpdate();
+		return partition;
+	}
+
+	/**
+	 * Computes the name of the partition of the specified year.
+	 *
+	 * @param year	the year of the partition.
+	 * @return		the name of the partition.
+	 */
+	private static String partitionOf(int year) {
+		return PARTITION_PREFIX_DB + year;
+	}
+
+	/**
+	 * Executes the statements in a single transaction, rolled back on failure.
+	 *
+	 * @param <T>					the type of the result of the statements.
+	 * @param statements			the statements to execute.
+	 * @param errorMessage			the message of the exception thrown on failure.
+	 * @return						the result of the statements.
+	 * @throws DatabaseException	if a database error occurs.
+	 */
+	private <T> T inTransaction(Function<EntityManager, T> statements, String errorMessage)
+			throws DatabaseException {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			T result = statements.apply(em);
+			em.getTransaction().commit();
+			return result;
+		} catch(PersistenceException e) {
+			throw new DatabaseException(errorMessage, e);
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+}
@@ -1,7 +1,14 @@
 package io.github.marcopaglio.booking.repository.postgres;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,14 +20,25 @@ import org.hibernate.exception.ConstraintViolationException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
 import io.github.marcopaglio.booking.repository.ReservationRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
 
+import static io.github.marcopaglio.booking.model.BaseEntity.ID_POSTGRESQL;
+import static io.github.marcopaglio.booking.model.Reservation.CLIENTID_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
 /**
  * Implementation of repository layer through PostgreSQL for Reservation entities of the booking application.
+ * Note: the table of reservations may be partitioned by date (see {@code ReservationPartitioner});
+ * queries filtering on dates only scan the matching partitions, while the ones by identifier
+ * or by client scan the index of each partition.
  */
 public class ReservationPostgresRepository implements ReservationRepository {
 	/**
@@ -28,6 +46,41 @@ public class ReservationPostgresRepository implements ReservationRepository {
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(ReservationPostgresRepository.class);
 
+	/**
+	 * Columns of reservations, in the same order in the tables of reservations in use and archived.
+	 */
+	private static final String COLUMNS = ID_POSTGRESQL + ", " + CLIENTID_DB + ", " + RESOURCE_DB
+			+ ", \"" + DATE_DB + "\"";
+
+	/**
+	 * Statement creating the table of archived reservations, without the uniqueness constraint
+	 * on resources and dates, since an archived date can be booked and archived again.
+	 */
+	private static final String CREATE_ARCHIVE_SQL = "CREATE TABLE IF NOT EXISTS " + RESERVATION_ARCHIVE_TABLE_DB
+			+ " (" + ID_POSTGRESQL + " uuid PRIMARY KEY, " + CLIENTID_DB + " uuid NOT NULL, "
+			+ RESOURCE_DB + " varchar(255) NOT NULL, \"" + DATE_DB + "\" date NOT NULL)";
+
+	/**
+	 * Statement creating the index on clients of archived reservations, which keeps history queries cheap.
+	 */
+	private static final String CREATE_ARCHIVE_INDEX_SQL = "CREATE INDEX IF NOT EXISTS "
+			+ RESERVATION_ARCHIVE_TABLE_DB + "_" + CLIENTID_DB + "_idx ON " + RESERVATION_ARCHIVE_TABLE_DB
+			+ " (" + CLIENTID_DB + ")";
+
+	/**
+	 * Statement copying the reservations with the given identifiers into the archive,
+	 * bounded by the horizon so that only the partitions before it are scanned.
+	 */
+	private static final String COPY_TO_ARCHIVE_SQL = "INSERT INTO " + RESERVATION_ARCHIVE_TABLE_DB
+			+ " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM " + RESERVATION_TABLE_DB
+			+ " WHERE " + ID_POSTGRESQL + " IN (:ids) AND \"" + DATE_DB + "\" < :horizon";
+
+	/**
+	 * Query retrieving the archived reservations of a client.
+	 */
+	private static final String FIND_ARCHIVED_BY_CLIENT_SQL = "SELECT " + COLUMNS + " FROM "
+			+ RESERVATION_ARCHIVE_TABLE_DB + " WHERE " + CLIENTID_DB + " = :clientId";
+
 	/**
 	 * Entity Manager used to communicate with JPA provider.
 	 */
@@ -69,6 +122,32 @@ public class ReservationPostgresRepository implements ReservationRepository {
 			.getResultList();
 	}
 
+	/**
+	 * Retrieves all the reservations associated with the specified client's identifier,
+	 * both in use and archived, from the PostgreSQL database in a list.
+	 * Note: this method must be executed as part of a transaction, since it creates
+	 * the table of archived reservations if missing.
+	 * 
+	 * @param clientId	the identifier of the associated client.
+	 * @return			the {@code List} of {@code Reservation}s associated
+	 * 					with {@code clientId} found in the repository or in its archive.
+	 */
+	@Override
+	public List<Reservation> findHistoryByClient(UUID clientId) {
+		createArchiveIfMissing();
+		List<?> archived = em.createNativeQuery(FIND_ARCHIVED_BY_CLIENT_SQL, Reservation.class)
+			.setParameter("clientId", clientId)
+			.getResultList();
+		List<Reservation> history = new ArrayList<>();
+		archived.forEach(reservation -> {
+			// archived reservations must not be flushed into the table of those in use
+			em.detach(reservation);
+			history.add((Reservation) reservation);
+		});
+		history.addAll(findByClient(clientId));
+		return history;
+	}
+
 	/**
 	 * Retrieves the unique reservation with the specified identifier from the PostgreSQL database,
 	 * if it exists.
@@ -89,19 +168,38 @@ public class ReservationPostgresRepository implements ReservationRepository {
 	}
 
 	/**
-	 * Retrieves the unique reservation of the specified date from the PostgreSQL database,
-	 * if it exists.
+	 * Retrieves all the reservations of the specified resource from the PostgreSQL database
+	 * in a list, using the index of the uniqueness constraint on resources and dates.
 	 * 
-	 * @param date	the date of the reservation to find.
-	 * @return		an {@code Optional} contained the {@code Reservation} on {@code date},
-	 * 				if it exists; an {@code Optional} empty, otherwise.
+	 * @param resource	the booked resource.
+	 * @return			the {@code List} of {@code Reservation}s of {@code resource}
+	 * 					found in the repository.
 	 */
 	@Override
-	public Optional<Reservation> findByDate(LocalDate date) {
+	public List<Reservation> findByResource(String resource) {
+		return em.createQuery(
+				"SELECT r FROM Reservation r WHERE r.resource = :resource",
+				Reservation.class)
+			.setParameter("resource", resource)
+			.getResultList();
+	}
+
+	/**
+	 * Retrieves the unique reservation of the specified resource on the specified date
+	 * from the PostgreSQL database, if it exists.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the date of the reservation to find.
+	 * @return			an {@code Optional} contained the {@code Reservation} of {@code resource}
+	 * 					on {@code date}, if it exists; an {@code Optional} empty, otherwise.
+	 */
+	@Override
+	public Optional<Reservation> findByResourceAndDate(String resource, LocalDate date) {
 		try {
 			Reservation reservation = em.createQuery(
-					"SELECT r FROM Reservation r WHERE r.date = :date",
+					"SELECT r FROM Reservation r WHERE r.resource = :resource AND r.date = :date",
 					Reservation.class)
+				.setParameter("resource", resource)
 				.setParameter("date", date)
 				.getSingleResult();
 			return Optional.of(reservation);
@@ -110,6 +208,99 @@ public class ReservationPostgresRepository implements ReservationRepository {
 		}
 	}
 
+	/**
+	 * Retrieves the reservations of any resource on any of the specified dates from
+	 * the PostgreSQL database in a list, using a single query on the dates' index.
+	 * 
+	 * @param dates	the dates of the reservations to find.
+	 * @return		the {@code List} of {@code Reservation}s on any of {@code dates}
+	 * 				found in the repository.
+	 */
+	@Override
+	public List<Reservation> findByDates(Collection<LocalDate> dates) {
+		if (dates == null || dates.isEmpty())
+			return List.of();
+		
+		return em.createQuery("SELECT r FROM Reservation r WHERE r.date IN :dates", Reservation.class)
+			.setParameter("dates", dates)
+			.getResultList();
+	}
+
+	/**
+	 * Counts the reservations in the PostgreSQL database.
+	 * 
+	 * @return	the number of {@code Reservation}s found in the repository.
+	 */
+	@Override
+	public long count() {
+		return em.createQuery("SELECT COUNT(r) FROM Reservation r", Long.class).getSingleResult();
+	}
+
+	/**
+	 * Retrieves a page of the reservations from the PostgreSQL database in a list, ordered by
+	 * date and resource, so that consecutive pages neither overlap nor skip any reservation.
+	 * Note: the reservations preceding the page are skipped on the index of dates,
+	 * hence the cost of a page grows with its offset.
+	 * 
+	 * @param offset					the number of reservations preceding the page.
+	 * @param limit						the maximum number of reservations of the page.
+	 * @return							the {@code List} of {@code Reservation}s of the page
+	 * 									found in the repository.
+	 * @throws IllegalArgumentException	if {@code offset} is negative or {@code limit} is not positive.
+	 */
+	@Override
+	public List<Reservation> findPage(int offset, int limit) throws IllegalArgumentException {
+		if (offset < 0)
+			throw new IllegalArgumentException("Offset of page cannot be negative.");
+		if (limit <= 0)
+			throw new IllegalArgumentException("Size of page must be positive.");
+		
+		return em.createQuery("SELECT r FROM Reservation r ORDER BY r.date, r.resource", Reservation.class)
+			.setFirstResult(offset)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	/**
+	 * Aggregates the reservations in the PostgreSQL database counting them by client,
+	 * by month and by weekday through {@code GROUP BY} queries, and ranks the clients
+	 * with the most bookings.
+	 * Note: this method must be executed as part of a transaction so that the counts are consistent.
+	 *
+	 * @param topClientsLimit			the maximum number of top clients to report.
+	 * @return							the {@code OccupancyReport} of the repository.
+	 * @throws IllegalArgumentException	if {@code topClientsLimit} is negative.
+	 */
+	@Override
+	public OccupancyReport aggregateOccupancy(int topClientsLimit) throws IllegalArgumentException {
+		if (topClientsLimit < 0)
+			throw new IllegalArgumentException("Limit of top clients cannot be negative.");
+		
+		Map<UUID, Long> perClient = new HashMap<>();
+		em.createQuery("SELECT r.clientId, COUNT(r) FROM Reservation r GROUP BY r.clientId", Object[].class)
+			.getResultList()
+			.forEach(row -> perClient.put((UUID) row[0], ((Number) row[1]).longValue()));
+		
+		Map<YearMonth, Long> perMonth = new HashMap<>();
+		em.createQuery("SELECT year(r.date), month(r.date), COUNT(r) FROM Reservation r "
+				+ "GROUP BY year(r.date), month(r.date)", Object[].class)
+			.getResultList()
+			.forEach(row -> perMonth.put(
+					YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()),
+					((Number) row[2]).longValue()));
+		
+		// ISODOW numbers the weekdays from Monday (1) to Sunday (7) as DayOfWeek does
+		Map<DayOfWeek, Long> perWeekday = new HashMap<>();
+		List<?> weekdayRows = em.createNativeQuery("SELECT CAST(EXTRACT(ISODOW FROM \"" + DATE_DB
+				+ "\") AS integer), COUNT(*) FROM " + RESERVATION_TABLE_DB + " GROUP BY 1")
+			.getResultList();
+		weekdayRows.forEach(row -> perWeekday.put(
+				DayOfWeek.of(((Number) ((Object[]) row)[0]).intValue()),
+				((Number) ((Object[]) row)[1]).longValue()));
+		
+		return new OccupancyReport(perClient, perMonth, perWeekday, topClientsLimit);
+	}
+
 	/**
 	 * Insert a new reservation in the PostgreSQL database or saves changes of an existing one.
 	 * Note: a Reservation without an identifier is considered to be entered,
@@ -120,9 +311,10 @@ public class ReservationPostgresRepository implements ReservationRepository {
 	 * @throws IllegalArgumentException					if {@code reservation} is null.
 	 * @throws UpdateFailureException					if you try to save changes of a no longer
 	 * 													existing reservation.
-	 * @throws NotNullConstraintViolationException		if {@code date} or {@code clientId}
-	 * 													of {@code reservation} to save are null.
-	 * @throws UniquenessConstraintViolationException	if {@code id} or {@code date}
+	 * @throws NotNullConstraintViolationException		if {@code date}, {@code resource} or
+	 * 													{@code clientId} of {@code reservation}
+	 * 													to save are null.
+	 * @throws UniquenessConstraintViolationException	if {@code id} or {@code resource} and {@code date}
 	 * 													of {@code reservation} to save are already present.
 	 */
 	@Override
@@ -149,6 +341,42 @@ public class ReservationPostgresRepository implements ReservationRepository {
 		return reservation;
 	}
 
+	/**
+	 * Inserts new reservations in the PostgreSQL database with a single flush, so that
+	 * the JDBC driver can send them in batches.
+	 * Note: the reservations must have never been inserted before.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param reservations								the reservations to insert.
+	 * @return											the {@code List} of {@code Reservation}s inserted.
+	 * @throws IllegalArgumentException					if {@code reservations} or any of them is null.
+	 * @throws NotNullConstraintViolationException		if {@code date}, {@code resource} or
+	 * 													{@code clientId} of any reservation
+	 * 													to insert are null.
+	 * @throws UniquenessConstraintViolationException	if {@code resource} and {@code date} of any
+	 * 													reservation to insert are already present.
+	 */
+	@Override
+	public List<Reservation> insertAll(List<Reservation> reservations) throws IllegalArgumentException,
+			NotNullConstraintViolationException, UniquenessConstraintViolationException {
+		if (reservations == null || reservations.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Reservations to insert cannot be null.");
+		
+		try {
+			reservations.forEach(em::persist);
+			em.flush();
+		} catch(PropertyValueException e) {
+			LOGGER.warn(e.getMessage());
+			throw new NotNullConstraintViolationException(
+					"Reservations to insert violate not-null constraints.", e.getCause());
+		} catch(ConstraintViolationException e) {
+			LOGGER.warn(e.getMessage());
+			throw new UniquenessConstraintViolationException(
+					"Reservations to insert violate uniqueness constraints.", e.getCause());
+		}
+		return reservations;
+	}
+
 	/**
 	 * Merge the existing Reservation with the same id in the PostgreSQL database.
 	 * Note: this method must be executed as part of a transaction.
@@ -168,6 +396,55 @@ public class ReservationPostgresRepository implements ReservationRepository {
 		}
 	}
 
+	/**
+	 * Moves the oldest reservations dated before the specified horizon from the PostgreSQL
+	 * database into the archive table, up to the specified number, creating the table if missing.
+	 * Note: this method must be executed as part of a transaction so that no reservation
+	 * is lost or duplicated.
+	 *
+	 * @param horizon					the date from which reservations are kept in use.
+	 * @param batchSize					the maximum number of reservations to move.
+	 * @return							the {@code List} of {@code Reservation}s archived.
+	 * @throws IllegalArgumentException	if {@code horizon} is null or {@code batchSize} is not positive.
+	 */
+	@Override
+	public List<Reservation> archiveBefore(LocalDate horizon, int batchSize) throws IllegalArgumentException {
+		if (horizon == null)
+			throw new IllegalArgumentException("Horizon of archiving cannot be null.");
+		if (batchSize <= 0)
+			throw new IllegalArgumentException("Size of archiving batches must be positive.");
+		
+		createArchiveIfMissing();
+		List<Reservation> expired = em.createQuery(
+				"SELECT r FROM Reservation r WHERE r.date < :horizon ORDER BY r.date", Reservation.class)
+			.setParameter("horizon", horizon)
+			.setMaxResults(batchSize)
+			.getResultList();
+		if (!expired.isEmpty()) {
+			List<UUID> ids = expired.stream().map(Reservation::getId).toList();
+			em.createNativeQuery(COPY_TO_ARCHIVE_SQL)
+				.setParameter("ids", ids)
+				.setParameter("horizon", horizon)
+				.executeUpdate();
+			// bulk statements bypass the persistence context, so managed instances are detached
+			expired.forEach(em::detach);
+			em.createQuery("DELETE FROM Reservation r WHERE r.id IN :ids AND r.date < :horizon")
+				.setParameter("ids", ids)
+				.setParameter("horizon", horizon)
+				.executeUpdate();
+		}
+		return expired;
+	}
+
+	/**
+	 * Creates the table of archived reservations and its index, if missing.
+	 * Note: this method must be executed as part of a transaction.
+	 */
+	private void createArchiveIfMissing() {
+		em.createNativeQuery(CREATE_ARCHIVE_SQL).executeUpdate();
+		em.createNativeQuery(CREATE_ARCHIVE_INDEX_SQL).executeUpdate();
+	}
+
 	/**
 	 * Removes the unique specified reservation from the PostgreSQL database, if it exists,
 	 * otherwise it does nothing.
@@ -192,4 +469,30 @@ public class ReservationPostgresRepository implements ReservationRepository {
 			LOGGER.warn(() -> reservation.toString() + " to delete was never been "
 					+ "inserted into the database.");
 	}
+
+	/**
+	 * Removes the specified reservations from the PostgreSQL database with a single
+	 * bulk statement, skipping the ones that do not exist.
+	 * Note: this method must be executed as part of a transaction.
+	 *
+	 * @param reservations				the reservations to delete.
+	 * @throws IllegalArgumentException	if {@code reservations} or any of them is null.
+	 */
+	@Override
+	public void deleteAll(Collection<Reservation> reservations) throws IllegalArgumentException {
+		if (reservations == null || reservations.stream().anyMatch(Objects::isNull))
+			throw new IllegalArgumentException("Reservations to delete cannot be null.");
+		
+		List<UUID> ids = reservations.stream().map(Reservation::getId).filter(Objects::nonNull).toList();
+		if (!ids.isEmpty()) {
+			// bulk statements bypass the persistence context, so managed instances are detached
+			reservations.stream().filter(em::contains).forEach(em::detach);
+			int deletedCount = em.createQuery("DELETE FROM Reservation r WHERE r.id IN :ids")
+				.setParameter("ids", ids)
+				.executeUpdate();
+			if (deletedCount < reservations.size())
+				LOGGER.warn(() -> (reservations.size() - deletedCount)
+						+ " reservation(s) to delete were not found in the database.");
+		}
+	}
 }
\ No newline at end of file
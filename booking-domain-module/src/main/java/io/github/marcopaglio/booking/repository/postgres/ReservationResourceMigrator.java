@@ -0,0 +1,96 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.exception.DatabaseException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
+
+/**
+ * Migrates the PostgreSQL table of reservations created before resources were introduced.
+ * The persistence provider adds the column of resources, but it neither drops the uniqueness
+ * constraint on dates only, which would prevent booking several resources on the same date,
+ * nor is guaranteed to fill the column for the rows already stored. Hence the rows without
+ * a resource are assigned the default one and any uniqueness constraint on dates only is dropped,
+ * whatever name the persistence provider gave it.
+ * Note: the migration changes nothing on a table already migrated, hence running it again is harmless.
+ */
+public class ReservationResourceMigrator {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(ReservationResourceMigrator.class);
+
+	/**
+	 * Statement assigning the default resource to the reservations without one.
+	 */
+	private static final String FILL_RESOURCE_SQL = "UPDATE " + RESERVATION_TABLE_DB + " SET "
+			+ RESOURCE_DB + " = '" + DEFAULT_RESOURCE + "' WHERE " + RESOURCE_DB + " IS NULL";
+
+	/**
+	 * Query retrieving the names of the uniqueness constraints of the table of reservations
+	 * on dates only.
+	 */
+	private static final String DATE_UNIQUE_SQL = "SELECT CAST(c.conname AS text) FROM pg_constraint c"
+			+ " JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = '" + DATE_DB + "'"
+			+ " WHERE c.conrelid = to_regclass('" + RESERVATION_TABLE_DB + "') AND c.contype = 'u'"
+			+ " AND c.conkey = ARRAY[a.attnum]";
+
+	/**
+	 * The entity manager factory used to interact with the persistence provider.
+	 */
+	private final EntityManagerFactory emf;
+
+	/**
+	 * Constructs a migrator of the table of reservations in PostgreSQL.
+	 *
+	 * @param emf	the {@code EntityManagerFactory} connected to PostgreSQL.
+	 */
+	public ReservationResourceMigrator(EntityManagerFactory emf) {
+		this.emf = emf;
+	}
+
+	/**
+	 * Assigns the default resource to the reservations without one and drops the uniqueness
+	 * constraints on dates only, within a single transaction.
+	 *
+	 * @return						the {@code List} of names of the constraints dropped.
+	 * @throws DatabaseException	if the table of reservations cannot be migrated.
+	 */
+	public List<String> migrate() throws DatabaseException {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			int migratedCount = em.createNativeQuery(FILL_RESOURCE_SQL).executeUpdate();
+			List<?> constraints = em.createNativeQuery(DATE_UNIQUE_SQL).getResultList();
+			List<String> dropped = constraints.stream()
+					.map(String.class::cast)
+					.toList();
+			dropped.forEach(constraint -> em.createNativeQuery("ALTER TABLE " + RESERVATION_TABLE_DB
+					+ " DROP CONSTRAINT \"" + constraint + "\"").executeUpdate());
+			em.getTransaction().commit();
+			if (migratedCount > 0)
+				LOGGER.info(() -> String.format("%d reservation(s) have been assigned to the default resource.",
+						migratedCount));
+			if (!dropped.isEmpty())
+				LOGGER.info(() -> String.format("Dropped uniqueness constraints on dates of reservations: %s.",
+						dropped));
+			return dropped;
+		} catch(PersistenceException e) {
+			throw new DatabaseException("The table of reservations cannot be migrated.", e);
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+}
@@ -1,7 +1,5 @@
 package io.github.marcopaglio.booking.validator.restricted;
 
-import java.util.regex.Pattern;
-
 import io.github.marcopaglio.booking.validator.ClientValidator;
 
 /**
@@ -11,11 +9,6 @@ import io.github.marcopaglio.booking.validator.ClientValidator;
  * @see <a href="../../model/Client.html">Client</a>
  */
 public class RestrictedClientValidator implements ClientValidator {
-	/**
-	 * Regular expression for stating other characters except the alphabetic ones and horizontal spaces.
-	 */
-	private static final Pattern notOnlyAlphabetic = Pattern.compile("[^\\p{IsAlphabetic}\\h]");
-
 	/**
 	 * Checks if firstName is valid as name for a client entity, and returns
 	 * a fixed and valid alternative for it.
@@ -44,7 +37,10 @@ public class RestrictedClientValidator implements ClientValidator {
 
 	/**
 	 * Checks if name is valid as name/surname for a client entity, and returns
-	 * a fixed and valid alternative for it.
+	 * a fixed and valid alternative for it, i.e. without side spaces and with
+	 * multiple spaces reduced into a single whitespace.
+	 * The name is scanned once, by code points, and a fixed copy of it is built only
+	 * if needed, so that a valid name already fixed is returned as it is.
 	 * 
 	 * @param name						the string parameter to evaluate.
 	 * @param inputName					the role of {@code name} in the client's context.
@@ -53,23 +49,48 @@ public class RestrictedClientValidator implements ClientValidator {
 	 */
 	private String checkAndFixNameValidity(String name, String inputName)
 			throws IllegalArgumentException {
-		checkNameValidity(name, inputName);
-		return removeExcessedSpaces(name);
-	}
-
-	/**
-	 * Checks if the string is a valid name that is not null neither empty,
-	 * and contains only alphabetic and horizontal whitespace characters.
-	 *
-	 * @param name						the string to evaluate.
-	 * @param inputName					the role of the string in the client's context.
-	 * @throws IllegalArgumentException	if {@code name} is a null or empty string,
-	 * 									or it contains non-alphabetic characters.
-	 */
-	private void checkNameValidity(String name, String inputName) throws IllegalArgumentException {
 		checkNotNull(name, inputName);
-		checkNotEmpty(name, inputName);
-		checkOnlyAlphabetic(name, inputName);
+		
+		int length = name.length();
+		boolean empty = true;
+		boolean onlyAlphabetic = true;
+		boolean afterText = false;
+		boolean spacePending = false;
+		StringBuilder fixedName = null;
+		for (int i = 0; i < length;) {
+			int codePoint = name.codePointAt(i);
+			int next = i + Character.charCount(codePoint);
+			if (isReducibleSpace(codePoint)) {
+				if (fixedName == null && (!afterText || codePoint != ' '
+						|| next == length || isReducibleSpace(name.charAt(next))))
+					fixedName = new StringBuilder(length).append(name, 0, i);
+				spacePending = afterText;
+			} else {
+				// characters trimmed by String.trim() do not count as content
+				if (codePoint > ' ')
+					empty = false;
+				if (!Character.isAlphabetic(codePoint) && !isHorizontalSpace(codePoint)) {
+					if (codePoint > ' ')
+						throw notOnlyAlphabetic(inputName);
+					onlyAlphabetic = false;
+				}
+				if (fixedName != null) {
+					if (spacePending)
+						fixedName.append(' ');
+					fixedName.appendCodePoint(codePoint);
+				}
+				spacePending = false;
+				afterText = true;
+			}
+			i = next;
+		}
+		
+		if (empty)
+			throw new IllegalArgumentException(
+				"Client needs a non-empty " + inputName + ".");
+		if (!onlyAlphabetic)
+			throw notOnlyAlphabetic(inputName);
+		return fixedName != null ? fixedName.toString() : name;
 	}
 
 	/**
@@ -86,40 +107,40 @@ public class RestrictedClientValidator implements ClientValidator {
 	}
 
 	/**
-	 * Checks if the string is not empty.
+	 * Creates the exception for a string that contains characters other than
+	 * (lower and upper) alphabetic and accented letters, and horizontal whitespace characters.
 	 *
-	 * @param str						the string to evaluate.
-	 * @param inputName					the role of the string in the client's context.
-	 * @throws IllegalArgumentException	if {@code str} is empty.
+	 * @param inputName	the role of the string in the client's context.
+	 * @return			the {@code IllegalArgumentException} to throw.
 	 */
-	private void checkNotEmpty(String str, String inputName) {
-		if (str.trim().isEmpty()) 
-			throw new IllegalArgumentException(
-				"Client needs a non-empty " + inputName + ".");
+	private IllegalArgumentException notOnlyAlphabetic(String inputName) {
+		return new IllegalArgumentException(
+			"Client's " + inputName + " can contain only alphabet letters.");
 	}
 
 	/**
-	 * Checks if the string contains only accepted characters that is
-	 * (lower and upper) alphabetic and accented letters, and horizontal whitespace character.
+	 * Checks if the character is a space removed from the sides of names and reduced
+	 * into a single whitespace, that is a whitespace or a tab.
 	 *
-	 * @param str						the string to evaluate.
-	 * @param inputName					the role of the string in the client's context.
-	 * @throws IllegalArgumentException	if {@code str} contains non-valid characters.
+	 * @param codePoint	the character to evaluate.
+	 * @return			{@code true} if {@code codePoint} is a reducible space; {@code false} otherwise.
 	 */
-	private void checkOnlyAlphabetic(String str, String inputName)
-			throws IllegalArgumentException {
-		if (notOnlyAlphabetic.matcher(str).find())
-			throw new IllegalArgumentException(
-				"Client's " + inputName + " can contain only alphabet letters.");
+	private static boolean isReducibleSpace(int codePoint) {
+		return codePoint == ' ' || codePoint == '\t';
 	}
 
 	/**
-	 * Removes side spaces and reduces multiple spaces into a single whitespace.
+	 * Checks if the character is a horizontal whitespace, as matched by {@code \h}
+	 * in regular expressions.
 	 *
-	 * @param name	the name to modify.
-	 * @return		the {@code String} name modified.
+	 * @param codePoint	the character to evaluate.
+	 * @return			{@code true} if {@code codePoint} is a horizontal whitespace;
+	 * 					{@code false} otherwise.
 	 */
-	private String removeExcessedSpaces(String name) {
-		return name.trim().replaceAll("\\s+", " ");
+	private static boolean isHorizontalSpace(int codePoint) {
+		return switch (codePoint) {
+			case ' ', '\t', '\u00A0', '\u1680', '\u180E', '\u202F', '\u205F', '\u3000' -> true;
+			default -> codePoint >= '\u2000' && codePoint <= '\u200A';
+		};
 	}
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -37,6 +38,8 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
+import io.github.marcopaglio.booking.model.Reservation;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.model.Client;
@@ -45,6 +48,7 @@ import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 import static org.bson.UuidRepresentation.STANDARD;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
 import static org.bson.codecs.pojo.Conventions.ANNOTATION_CONVENTION;
 import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
 import static org.mockito.ArgumentMatchers.eq;
@@ -117,6 +121,7 @@ class ClientMongoRepositoryTest {
 		
 		// repository creation after drop because it removes configurations on collections
 		clientRepository = new ClientMongoRepository(mongoClient, session, BOOKING_DB_NAME);
+		new ClientMongoSearchIndexer(mongoClient, BOOKING_DB_NAME).createIndexes();
 		
 		// get a MongoCollection suited for your POJO class
 		clientCollection = clientRepository.getCollection();
@@ -295,6 +300,143 @@ class ClientMongoRepositoryTest {
 						.isNotEqualTo(Optional.of(client));
 				}
 			}
+
+			@Nested
+			@DisplayName("Tests for 'findByIds'")
+			class FindByIdsTest {
+
+				@Test
+				@DisplayName("No clients with those ids")
+				void testFindByIdsWhenThereAreNoClientsWithThoseIdsShouldReturnEmptyList() {
+					assertThat(clientRepository.findByIds(Arrays.asList(A_CLIENT_UUID))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some clients with those ids")
+				void testFindByIdsWhenThereAreSomeClientsWithThoseIdsShouldReturnThemAsList() {
+					addTestClientToDatabaseInTheSameContext(client, A_CLIENT_UUID);
+					addTestClientToDatabaseInTheSameContext(another_client, ANOTHER_CLIENT_UUID);
+					
+					assertThat(clientRepository.findByIds(Arrays.asList(A_CLIENT_UUID, UUID.randomUUID())))
+						.containsExactly(client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByNames'")
+			class FindByNamesTest {
+
+				@Test
+				@DisplayName("No clients with those names")
+				void testFindByNamesWhenThereAreNoClientsWithThoseNamesShouldReturnEmptyList() {
+					assertThat(clientRepository.findByNames(Arrays.asList(client))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Clients with crossed names")
+				void testFindByNamesWhenNamesAndSurnamesAreCrossedShouldReturnOnlyExactMatches() {
+					addTestClientToDatabaseInTheSameContext(client, A_CLIENT_UUID);
+					addTestClientToDatabaseInTheSameContext(another_client, ANOTHER_CLIENT_UUID);
+					
+					assertThat(clientRepository.findByNames(Arrays.asList(
+							new Client(A_FIRSTNAME, ANOTHER_LASTNAME),
+							new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME))))
+						.containsExactly(another_client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'searchByName'")
+			class SearchByNameTest {
+
+				@BeforeEach
+				void addClients() throws Exception {
+					addTestClientToDatabaseInTheSameContext(client, A_CLIENT_UUID);
+					addTestClientToDatabaseInTheSameContext(another_client, ANOTHER_CLIENT_UUID);
+				}
+
+				@Test
+				@DisplayName("Prefix of names ignoring case")
+				void testSearchByNameWhenQueryStartsTheNamesShouldReturnThemOrderedBySurname() {
+					assertThat(clientRepository.searchByName("MAR", 10))
+						.containsExactly(another_client, client);
+				}
+
+				@Test
+				@DisplayName("Name followed by the beginning of the surname")
+				void testSearchByNameWhenQueryIsNameAndPrefixOfSurnameShouldReturnThatClient() {
+					assertThat(clientRepository.searchByName(" maria  de ", 10))
+						.containsExactly(another_client);
+				}
+
+				@Test
+				@DisplayName("Limit of results")
+				void testSearchByNameWhenMatchesExceedLimitShouldReturnTheMostRelevantOnes() {
+					assertThat(clientRepository.searchByName("m", 1))
+						.containsExactly(another_client);
+				}
+
+				@Test
+				@DisplayName("Blank query")
+				void testSearchByNameWhenQueryIsBlankShouldReturnEmptyList() {
+					assertThat(clientRepository.searchByName(" ", 10)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Limit not positive")
+				void testSearchByNameWhenLimitIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> clientRepository.searchByName(A_FIRSTNAME, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Limit of searched clients must be positive.");
+				}
+
+				@Test
+				@DisplayName("Words of the names in any order")
+				void testSearchByNameWhenQueryHasWordsOfTheNamesShouldReturnThatClient() {
+					assertThat(clientRepository.searchByName("lucia maria", 10))
+						.containsExactly(another_client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findAllWithReservations'")
+			class FindAllWithReservationsTest {
+
+				@Test
+				@DisplayName("No clients to retrieve")
+				void testFindAllWithReservationsWhenThereAreNoClientsShouldReturnEmptySnapshot() {
+					BookingSnapshot snapshot = clientRepository.findAllWithReservations();
+					
+					assertThat(snapshot.getClients()).isEmpty();
+					assertThat(snapshot.getReservations()).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Clients with reservations")
+				void testFindAllWithReservationsWhenClientsHaveReservationsShouldGroupThemByClient() {
+					addTestClientToDatabaseInAnotherContext(client, A_CLIENT_UUID);
+					addTestClientToDatabaseInAnotherContext(another_client, ANOTHER_CLIENT_UUID);
+					Reservation reservation = new Reservation(A_CLIENT_UUID, LocalDate.parse("2023-04-24"));
+					Reservation another_reservation = new Reservation(A_CLIENT_UUID, LocalDate.parse("2023-09-05"));
+					Reservation orphan_reservation = new Reservation(UUID.randomUUID(), LocalDate.parse("2023-12-25"));
+					addTestReservationsToDatabase(reservation, another_reservation, orphan_reservation);
+					
+					BookingSnapshot snapshot = clientRepository.findAllWithReservations();
+					
+					assertThat(snapshot.getClients()).containsExactlyInAnyOrder(client, another_client);
+					assertThat(snapshot.getReservationsOf(A_CLIENT_UUID))
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+					assertThat(snapshot.getReservationsOf(ANOTHER_CLIENT_UUID)).isEmpty();
+					assertThat(snapshot.getReservations()).hasSize(2);
+				}
+
+				private void addTestReservationsToDatabase(Reservation... reservations) {
+					for (Reservation reservation : reservations)
+						reservation.setId(UUID.randomUUID());
+					database.getCollection(RESERVATION_TABLE_DB, Reservation.class)
+						.insertMany(Arrays.asList(reservations));
+				}
+			}
 		}
 
 		@Nested
@@ -597,6 +739,46 @@ class ClientMongoRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'insertAll'")
+			class InsertAllTest {
+
+				@Test
+				@DisplayName("New clients")
+				void testInsertAllWhenClientsAreNewShouldInsertAllAndReturnThem() {
+					List<Client> clients = Arrays.asList(client, another_client);
+					
+					assertThat(clientRepository.insertAll(clients)).isEqualTo(clients);
+					
+					assertThat(readAllClientsFromDatabase())
+						.containsExactlyInAnyOrder(client, another_client);
+					assertThat(clients).extracting(Client::getId).doesNotContainNull();
+				}
+
+				@Test
+				@DisplayName("Client generates names collision")
+				void testInsertAllWhenAClientGeneratesANamesCollisionShouldThrow() {
+					addTestClientToDatabaseInTheSameContext(client, A_CLIENT_UUID);
+					List<Client> clients = Arrays.asList(new Client(A_FIRSTNAME, A_LASTNAME));
+					
+					assertThatThrownBy(() -> clientRepository.insertAll(clients))
+						.isInstanceOf(UniquenessConstraintViolationException.class)
+						.hasMessage("Clients to insert violate uniqueness constraints.");
+				}
+
+				@Test
+				@DisplayName("Null client")
+				void testInsertAllWhenAClientIsNullShouldThrow() {
+					List<Client> clients = Arrays.asList(client, null);
+					
+					assertThatThrownBy(() -> clientRepository.insertAll(clients))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Clients to insert cannot be null.");
+					
+					assertThat(readAllClientsFromDatabase()).isEmpty();
+				}
+			}
+
 			private List<Client> readAllClientsFromDatabase() {
 				return StreamSupport
 						.stream(clientCollection.find().spliterator(), false)
@@ -0,0 +1,87 @@
+package io.github.marcopaglio.booking.repository.mongo;
+
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
+import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+
+@DisplayName("Tests for ClientMongoSearchIndexer class")
+@Testcontainers
+class ClientMongoSearchIndexerTest {
+
+	@Container
+	private static final MongoDBContainer mongo = new MongoDBContainer("mongo:6.0.7");
+
+	private static final String BOOKING_DB_NAME = "ClientMongoSearchIndexerTest_db";
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase database;
+
+	private ClientMongoSearchIndexer indexer;
+
+	@BeforeAll
+	static void setupServer() throws Exception {
+		mongoClient = MongoClients.create(mongo.getConnectionString());
+		database = mongoClient.getDatabase(BOOKING_DB_NAME);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start without the indexes
+		database.drop();
+
+		indexer = new ClientMongoSearchIndexer(mongoClient, BOOKING_DB_NAME);
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		mongoClient.close();
+	}
+
+	@Test
+	@DisplayName("Indexes are missing")
+	void testCreateIndexesWhenIndexesAreMissingShouldCreateCollatedAndTextIndexes() {
+		indexer.createIndexes();
+
+		assertThat(indexes())
+			.anySatisfy(index -> assertThat(index.get("key")).isEqualTo(new Document(FIRSTNAME_DB, 1)))
+			.anySatisfy(index -> assertThat(index.get("key")).isEqualTo(new Document(LASTNAME_DB, 1)))
+			.anySatisfy(index -> assertThat(index.get("weights"))
+				.isEqualTo(new Document(FIRSTNAME_DB, 1).append(LASTNAME_DB, 1)));
+		assertThat(indexes())
+			.filteredOn(index -> index.containsKey("collation"))
+			.allSatisfy(index -> assertThat(index.get("collation", Document.class).getInteger("strength"))
+				.isEqualTo(1))
+			.hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Indexes already exist")
+	void testCreateIndexesWhenIndexesAlreadyExistShouldNotThrow() {
+		indexer.createIndexes();
+
+		assertThatNoException().isThrownBy(() -> indexer.createIndexes());
+	}
+
+	private List<Document> indexes() {
+		return database.getCollection(CLIENT_TABLE_DB).listIndexes().into(new ArrayList<>());
+	}
+}
@@ -0,0 +1,175 @@
+package io.github.marcopaglio.booking.repository.mongo;
+
+import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.bson.UuidRepresentation.STANDARD;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.bson.codecs.pojo.Conventions.ANNOTATION_CONVENTION;
+import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+
+import io.github.marcopaglio.booking.model.Reservation;
+
+@DisplayName("Tests for ReservationMongoMigrator class")
+@Testcontainers
+class ReservationMongoMigratorTest {
+	private static final String DATE_FIELD = "date";
+	private static final String CLIENTID_FIELD = "clientId";
+
+	private static final UUID A_CLIENT_UUID = UUID.fromString("5a583373-c1b4-4913-82b6-5ea76fb1b1be");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("e77ce09c-bf58-4691-b69b-11851f359b99");
+	private static final String A_RESOURCE = "court-1";
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2022-12-22");
+
+	private static final UUID ANOTHER_CLIENT_UUID = UUID.fromString("86738f20-f90d-4f9a-8d02-4b9537b4bab5");
+
+	private static final String LEGACY_INDEX_DB = "date_-1";
+
+	@Container
+	private static final MongoDBContainer mongo = new MongoDBContainer("mongo:6.0.7");
+
+	private static final String BOOKING_DB_NAME = "ReservationMongoMigratorTest_db";
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase database;
+	private ClientSession session;
+
+	private ReservationMongoMigrator migrator;
+
+	@BeforeAll
+	static void setupServer() throws Exception {
+		mongoClient = getClient(mongo.getConnectionString());
+
+		database = mongoClient.getDatabase(BOOKING_DB_NAME);
+	}
+
+	private static MongoClient getClient(String connectionString) {
+		// define the CodecProvider for POJO classes
+		CodecProvider pojoCodecProvider = PojoCodecProvider.builder()
+				.conventions(Arrays.asList(ANNOTATION_CONVENTION, USE_GETTERS_FOR_SETTERS))
+				.automatic(true)
+				.build();
+
+		// define the CodecRegistry as codecs and other related information
+		CodecRegistry pojoCodecRegistry =
+				fromRegistries(getDefaultCodecRegistry(),
+				fromProviders(pojoCodecProvider));
+
+		// configure the MongoClient for using the CodecRegistry
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(connectionString))
+				.uuidRepresentation(STANDARD)
+				.codecRegistry(pojoCodecRegistry)
+				.build();
+		return MongoClients.create(settings);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// start a new session for communicating with the DB
+		session = mongoClient.startSession();
+
+		// make sure we always start with a collection stored before resources
+		database.drop();
+		database.getCollection(RESERVATION_TABLE_DB)
+			.createIndex(Indexes.descending(DATE_FIELD), new IndexOptions().unique(true));
+		database.getCollection(RESERVATION_TABLE_DB).insertOne(new Document("_id", A_RESERVATION_UUID)
+				.append(CLIENTID_FIELD, A_CLIENT_UUID)
+				.append(DATE_FIELD, A_LOCALDATE));
+
+		migrator = new ReservationMongoMigrator(mongoClient, BOOKING_DB_NAME);
+	}
+
+	@AfterEach
+	void closeHandler() throws Exception {
+		session.close();
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		mongoClient.close();
+	}
+
+	@Test
+	@DisplayName("Legacy reservation is migrated")
+	void testMigrateWhenReservationHasNoResourceShouldAssignTheDefaultOne() {
+		migrator.migrate();
+
+		ReservationMongoRepository reservationRepository =
+				new ReservationMongoRepository(mongoClient, session, BOOKING_DB_NAME);
+		assertThat(reservationRepository.findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
+			.hasValueSatisfying(reservation -> assertThat(reservation.getId()).isEqualTo(A_RESERVATION_UUID));
+		assertThat(reservationRepository.findByResource(DEFAULT_RESOURCE)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Legacy unique index on dates is dropped")
+	void testMigrateWhenLegacyIndexExistsShouldAllowOtherResourcesOnTheSameDate() {
+		assertThat(migrator.migrate()).containsExactly(LEGACY_INDEX_DB);
+
+		ReservationMongoRepository reservationRepository =
+				new ReservationMongoRepository(mongoClient, session, BOOKING_DB_NAME);
+		assertThatNoException().isThrownBy(
+				() -> reservationRepository.save(new Reservation(ANOTHER_CLIENT_UUID, A_RESOURCE, A_LOCALDATE)));
+		assertThat(reservationRepository.findByDates(List.of(A_LOCALDATE))).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Indexes of the queries are created")
+	void testMigrateShouldCreateIndexesOfDatesAndOfArchivedClients() {
+		migrator.migrate();
+
+		assertThat(indexKeys(RESERVATION_TABLE_DB))
+			.contains(new Document(DATE_FIELD, 1).append("resource", 1));
+		assertThat(indexKeys(RESERVATION_ARCHIVE_TABLE_DB))
+			.contains(new Document(CLIENTID_FIELD, 1));
+	}
+
+	@Test
+	@DisplayName("Migration is repeated")
+	void testMigrateWhenCollectionIsAlreadyMigratedShouldDoNothing() {
+		migrator.migrate();
+
+		assertThat(migrator.migrate()).isEmpty();
+	}
+
+	private List<Object> indexKeys(String collectionName) {
+		List<Object> keys = new ArrayList<>();
+		for (Document index : database.getCollection(collectionName).listIndexes())
+			keys.add(index.get("key"));
+		return keys;
+	}
+}
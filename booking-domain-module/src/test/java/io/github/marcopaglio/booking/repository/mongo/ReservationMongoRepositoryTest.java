@@ -1,9 +1,12 @@
 package io.github.marcopaglio.booking.repository.mongo;
 
 import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.bson.UuidRepresentation.STANDARD;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
@@ -14,9 +17,12 @@ import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +53,7 @@ import com.mongodb.client.MongoDatabase;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
 
 @DisplayName("Tests for ReservationMongoRepository class")
@@ -60,10 +67,14 @@ class ReservationMongoRepositoryTest {
 	private static final UUID A_CLIENT_UUID = UUID.fromString("5a583373-c1b4-4913-82b6-5ea76fb1b1be");
 	private static final UUID A_RESERVATION_UUID = UUID.fromString("e77ce09c-bf58-4691-b69b-11851f359b99");
 	
+	private static final String A_RESOURCE = "court-1";
+
 	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-12-22");
 	private static final UUID ANOTHER_CLIENT_UUID = UUID.fromString("86738f20-f90d-4f9a-8d02-4b9537b4bab5");
 	private static final UUID ANOTHER_RESERVATION_UUID = UUID.fromString("5cca7a16-d2d6-4be2-ba6b-bcdd0871dc24");
 
+	private static final LocalDate A_HORIZON = LocalDate.parse("2024-01-01");
+
 	@Container
 	private static final MongoDBContainer mongo = new MongoDBContainer("mongo:6.0.7");
 
@@ -268,6 +279,32 @@ class ReservationMongoRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'findHistoryByClient'")
+			class FindHistoryByClientTest {
+
+				@Test
+				@DisplayName("Associated reservations in use and archived")
+				void testFindHistoryByClientWhenThereAreReservationsInUseAndArchivedShouldReturnAllOfThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					reservationRepository.archiveBefore(ANOTHER_LOCALDATE, 1);
+					another_reservation.setClientId(A_CLIENT_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findHistoryByClient(A_CLIENT_UUID))
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+				}
+
+				@Test
+				@DisplayName("Archived reservations of another client")
+				void testFindHistoryByClientWhenArchivedReservationsAreOfAnotherClientShouldNotReturnThem() {
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					reservationRepository.archiveBefore(A_HORIZON, 1);
+					
+					assertThat(reservationRepository.findHistoryByClient(A_CLIENT_UUID)).isEmpty();
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'findById'")
 			class FindByIdTest {
@@ -329,6 +366,174 @@ class ReservationMongoRepositoryTest {
 						.isEqualTo(Optional.of(reservation));
 				}
 			}
+
+			@Nested
+			@DisplayName("Tests for 'findByResource'")
+			class FindByResourceTest {
+
+				@Test
+				@DisplayName("No reservations of that resource")
+				void testFindByResourceWhenThereAreNoReservationsOfThatResourceShouldReturnEmptyList() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findByResource(A_RESOURCE)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations of that resource")
+				void testFindByResourceWhenThereAreSomeReservationsOfThatResourceShouldReturnThemAsList() {
+					another_reservation.setResource(A_RESOURCE);
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findByResource(A_RESOURCE))
+						.containsExactly(another_reservation);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByResourceAndDate'")
+			class FindByResourceAndDateTest {
+
+				@Test
+				@DisplayName("Reservation is on another resource")
+				void testFindByResourceAndDateWhenReservationIsOnAnotherResourceShouldReturnOptionalOfEmpty() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findByResourceAndDate(A_RESOURCE, A_LOCALDATE)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Reservations of several resources on the same date")
+				void testFindByResourceAndDateWhenSeveralResourcesAreBookedOnTheDateShouldReturnTheOneOfTheResource() {
+					another_reservation.setResource(A_RESOURCE);
+					another_reservation.setDate(A_LOCALDATE);
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findByResourceAndDate(A_RESOURCE, A_LOCALDATE))
+						.isEqualTo(Optional.of(another_reservation));
+					assertThat(reservationRepository.findByDate(A_LOCALDATE))
+						.isEqualTo(Optional.of(reservation));
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByDates'")
+			class FindByDatesTest {
+
+				@Test
+				@DisplayName("No reservations on those dates")
+				void testFindByDatesWhenThereAreNoReservationsOnThoseDatesShouldReturnEmptyList() {
+					assertThat(reservationRepository.findByDates(Arrays.asList(A_LOCALDATE))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations on those dates")
+				void testFindByDatesWhenThereAreSomeReservationsOnThoseDatesShouldReturnThemAsList() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findByDates(
+							Arrays.asList(A_LOCALDATE, LocalDate.parse("2024-01-01"))))
+						.containsExactly(reservation);
+				}
+			}
+			@Nested
+			@DisplayName("Tests for 'count'")
+			class CountTest {
+
+				@Test
+				@DisplayName("No reservations")
+				void testCountWhenThereAreNoReservationsShouldReturnZero() {
+					assertThat(reservationRepository.count()).isZero();
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testCountWhenThereAreSomeReservationsShouldReturnTheirNumber() {
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.count()).isEqualTo(2);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findPage'")
+			class FindPageTest {
+
+				@Test
+				@DisplayName("Negative offset")
+				void testFindPageWhenOffsetIsNegativeShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.findPage(-1, 1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Offset of page cannot be negative.");
+				}
+
+				@Test
+				@DisplayName("Not positive limit")
+				void testFindPageWhenLimitIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.findPage(0, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Size of page must be positive.");
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testFindPageWhenThereAreSomeReservationsShouldReturnThemOrderedByDate() {
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.findPage(0, 1)).containsExactly(reservation);
+					assertThat(reservationRepository.findPage(1, 2)).containsExactly(another_reservation);
+					assertThat(reservationRepository.findPage(2, 1)).isEmpty();
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'aggregateOccupancy'")
+			class AggregateOccupancyTest {
+
+				@Test
+				@DisplayName("Negative limit of top clients")
+				void testAggregateOccupancyWhenLimitIsNegativeShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.aggregateOccupancy(-1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Limit of top clients cannot be negative.");
+				}
+
+				@Test
+				@DisplayName("No reservations")
+				void testAggregateOccupancyWhenThereAreNoReservationsShouldReturnEmptyReport() {
+					OccupancyReport report = reservationRepository.aggregateOccupancy(1);
+					
+					assertThat(report.getReservationsPerClient()).isEmpty();
+					assertThat(report.getReservationsPerMonth()).isEmpty();
+					assertThat(report.getReservationsPerWeekday()).isEmpty();
+					assertThat(report.getTopClients()).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testAggregateOccupancyWhenThereAreSomeReservationsShouldCountThemByGroup() {
+					Reservation later_reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE.plusWeeks(1));
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(later_reservation, UUID.randomUUID());
+					
+					OccupancyReport report = reservationRepository.aggregateOccupancy(1);
+					
+					assertThat(report.getReservationsPerClient()).containsExactlyInAnyOrderEntriesOf(
+							Map.of(A_CLIENT_UUID, 2L, ANOTHER_CLIENT_UUID, 1L));
+					assertThat(report.getReservationsPerMonth()).containsExactly(
+							entry(YearMonth.from(A_LOCALDATE), 2L), entry(YearMonth.from(ANOTHER_LOCALDATE), 1L));
+					assertThat(report.getReservationsPerWeekday()).containsExactlyInAnyOrderEntriesOf(
+							Map.of(DayOfWeek.THURSDAY, 2L, DayOfWeek.FRIDAY, 1L));
+					assertThat(report.getTopClients()).containsExactlyEntriesOf(Map.of(A_CLIENT_UUID, 2L));
+				}
+			}
+
 		}
 
 		@Nested
@@ -457,6 +662,21 @@ class ReservationMongoRepositoryTest {
 							.extracting(Reservation::getId).isEqualTo(A_RESERVATION_UUID);
 				}
 
+				@Test
+				@DisplayName("New reservation on the same date of another resource")
+				void testSaveWhenNewReservationIsOnTheSameDateOfAnotherResourceShouldNotThrowAndInsert() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					another_reservation.setResource(A_RESOURCE);
+					another_reservation.setDate(A_LOCALDATE);
+					
+					assertThatNoException().isThrownBy(
+							() -> reservationRepository.save(another_reservation));
+					
+					assertThat(readAllReservationsFromDatabase())
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+				}
+
 				@Test
 				@DisplayName("New reservation has same client")
 				void testSaveWhenNewReservationHasSameClientShouldNotThrowAndInsert() {
@@ -616,7 +836,7 @@ class ReservationMongoRepositoryTest {
 				@DisplayName("Reservation was added in another context")
 				void testDeleteWhenReservationWasAddedToTheDatabaseInAnotherContextShouldRemove() {
 					addTestReservationToDatabaseInAnotherContext(reservation, A_RESERVATION_UUID);
-
+					
 					reservationRepository.delete(reservation);
 					
 					assertThat(readAllReservationsFromDatabase()).doesNotContain(reservation);
@@ -646,6 +866,123 @@ class ReservationMongoRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'insertAll'")
+			class InsertAllTest {
+
+				@Test
+				@DisplayName("New reservations")
+				void testInsertAllWhenReservationsAreNewShouldInsertAllAndReturnThem() {
+					List<Reservation> reservations = Arrays.asList(reservation, another_reservation);
+					
+					assertThat(reservationRepository.insertAll(reservations)).isEqualTo(reservations);
+					
+					assertThat(readAllReservationsFromDatabase())
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+					assertThat(reservations).extracting(Reservation::getId).doesNotContainNull();
+				}
+
+				@Test
+				@DisplayName("Reservation generates date collision")
+				void testInsertAllWhenAReservationGeneratesADateCollisionShouldThrow() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					List<Reservation> reservations = Arrays.asList(
+							new Reservation(ANOTHER_CLIENT_UUID, A_LOCALDATE));
+					
+					assertThatThrownBy(() -> reservationRepository.insertAll(reservations))
+						.isInstanceOf(UniquenessConstraintViolationException.class)
+						.hasMessage("Reservations to insert violate uniqueness constraints.");
+				}
+
+				@Test
+				@DisplayName("Reservation with null date")
+				void testInsertAllWhenAReservationHasNullDateShouldThrow() {
+					List<Reservation> reservations = Arrays.asList(new Reservation(A_CLIENT_UUID, null));
+					
+					assertThatThrownBy(() -> reservationRepository.insertAll(reservations))
+						.isInstanceOf(NotNullConstraintViolationException.class)
+						.hasMessage("Reservations to insert violate not-null constraints.");
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'deleteAll'")
+			class DeleteAllTest {
+
+				@Test
+				@DisplayName("Some reservations are in database")
+				void testDeleteAllWhenSomeReservationsAreInDatabaseShouldRemoveOnlyThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					Reservation neverInserted = new Reservation(A_CLIENT_UUID, LocalDate.parse("2024-01-01"));
+					
+					reservationRepository.deleteAll(Arrays.asList(reservation, neverInserted));
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(another_reservation);
+				}
+
+				@Test
+				@DisplayName("Null reservation")
+				void testDeleteAllWhenAReservationIsNullShouldThrow() {
+					List<Reservation> reservations = Arrays.asList(reservation, null);
+					
+					assertThatThrownBy(() -> reservationRepository.deleteAll(reservations))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Reservations to delete cannot be null.");
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'archiveBefore'")
+			class ArchiveBeforeTest {
+
+				@Test
+				@DisplayName("Reservations before the horizon")
+				void testArchiveBeforeWhenReservationsAreBeforeTheHorizonShouldMoveTheOldestOnesIntoTheArchive() {
+					addTestReservationToDatabaseInTheSameContext(another_reservation, ANOTHER_RESERVATION_UUID);
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.archiveBefore(A_HORIZON, 1)).containsExactly(reservation);
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(another_reservation);
+					assertThat(readAllReservationsFromArchive()).containsExactly(reservation);
+				}
+
+				@Test
+				@DisplayName("Reservations on or after the horizon")
+				void testArchiveBeforeWhenReservationsAreNotBeforeTheHorizonShouldNotMoveThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation, A_RESERVATION_UUID);
+					
+					assertThat(reservationRepository.archiveBefore(A_LOCALDATE, 10)).isEmpty();
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(reservation);
+					assertThat(readAllReservationsFromArchive()).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Null horizon")
+				void testArchiveBeforeWhenHorizonIsNullShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.archiveBefore(null, 1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Horizon of archiving cannot be null.");
+				}
+
+				@Test
+				@DisplayName("Non-positive batch size")
+				void testArchiveBeforeWhenBatchSizeIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.archiveBefore(A_HORIZON, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Size of archiving batches must be positive.");
+				}
+
+				private List<Reservation> readAllReservationsFromArchive() {
+					return StreamSupport
+							.stream(database.getCollection(RESERVATION_ARCHIVE_TABLE_DB, Reservation.class)
+									.find().spliterator(), false)
+							.toList();
+				}
+			}
+
 			private List<Reservation> readAllReservationsFromDatabase() {
 				return StreamSupport
 						.stream(reservationCollection.find().spliterator(), false)
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,12 +27,15 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
 import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
 
 @DisplayName("Tests for ClientPostegresRepository class")
 @Testcontainers
@@ -64,6 +69,7 @@ class ClientPostgresRepositoryTest {
 		System.setProperty("db.name", postgreSQLContainer.getDatabaseName());
 		
 		emf = Persistence.createEntityManagerFactory("postgres-test");
+		new ClientSearchIndexer(emf).createIndexes();
 	}
 
 	@BeforeEach
@@ -253,6 +259,146 @@ class ClientPostgresRepositoryTest {
 						.isNotEqualTo(Optional.of(client));
 				}
 			}
+
+			@Nested
+			@DisplayName("Tests for 'findByIds'")
+			class FindByIdsTest {
+
+				@Test
+				@DisplayName("No clients with those ids")
+				void testFindByIdsWhenThereAreNoClientsWithThoseIdsShouldReturnEmptyList() {
+					assertThat(clientRepository.findByIds(Arrays.asList(A_CLIENT_UUID))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some clients with those ids")
+				void testFindByIdsWhenThereAreSomeClientsWithThoseIdsShouldReturnThemAsList() {
+					addTestClientToDatabaseInAnotherContext(client);
+					addTestClientToDatabaseInAnotherContext(another_client);
+					
+					assertThat(clientRepository.findByIds(Arrays.asList(client.getId(), A_CLIENT_UUID)))
+						.containsExactly(client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByNames'")
+			class FindByNamesTest {
+
+				@Test
+				@DisplayName("No clients with those names")
+				void testFindByNamesWhenThereAreNoClientsWithThoseNamesShouldReturnEmptyList() {
+					assertThat(clientRepository.findByNames(Arrays.asList(client))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Clients with crossed names")
+				void testFindByNamesWhenNamesAndSurnamesAreCrossedShouldReturnOnlyExactMatches() {
+					addTestClientToDatabaseInAnotherContext(client);
+					addTestClientToDatabaseInAnotherContext(another_client);
+					
+					assertThat(clientRepository.findByNames(Arrays.asList(
+							new Client(A_FIRSTNAME, ANOTHER_LASTNAME),
+							new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME))))
+						.containsExactly(another_client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'searchByName'")
+			class SearchByNameTest {
+
+				@BeforeEach
+				void addClients() throws Exception {
+					addTestClientToDatabaseInAnotherContext(client);
+					addTestClientToDatabaseInAnotherContext(another_client);
+				}
+
+				@Test
+				@DisplayName("Prefix of names ignoring case")
+				void testSearchByNameWhenQueryStartsTheNamesShouldReturnThemOrderedBySurname() {
+					assertThat(clientRepository.searchByName("MAR", 10))
+						.containsExactly(another_client, client);
+				}
+
+				@Test
+				@DisplayName("Name followed by the beginning of the surname")
+				void testSearchByNameWhenQueryIsNameAndPrefixOfSurnameShouldReturnThatClient() {
+					assertThat(clientRepository.searchByName(" maria  de ", 10))
+						.containsExactly(another_client);
+				}
+
+				@Test
+				@DisplayName("Limit of results")
+				void testSearchByNameWhenMatchesExceedLimitShouldReturnTheMostRelevantOnes() {
+					assertThat(clientRepository.searchByName("m", 1))
+						.containsExactly(another_client);
+				}
+
+				@Test
+				@DisplayName("Blank query")
+				void testSearchByNameWhenQueryIsBlankShouldReturnEmptyList() {
+					assertThat(clientRepository.searchByName(" ", 10)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Limit not positive")
+				void testSearchByNameWhenLimitIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> clientRepository.searchByName(A_FIRSTNAME, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Limit of searched clients must be positive.");
+				}
+
+				@Test
+				@DisplayName("Misspelled names")
+				void testSearchByNameWhenQueryIsSimilarToTheNamesShouldReturnThatClient() {
+					assertThat(clientRepository.searchByName("mari rosi", 10))
+						.containsExactly(client);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findAllWithReservations'")
+			class FindAllWithReservationsTest {
+
+				@Test
+				@DisplayName("No clients to retrieve")
+				void testFindAllWithReservationsWhenThereAreNoClientsShouldReturnEmptySnapshot() {
+					BookingSnapshot snapshot = clientRepository.findAllWithReservations();
+					
+					assertThat(snapshot.getClients()).isEmpty();
+					assertThat(snapshot.getReservations()).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Clients with reservations")
+				void testFindAllWithReservationsWhenClientsHaveReservationsShouldGroupThemByClient() {
+					addTestClientToDatabaseInAnotherContext(client);
+					addTestClientToDatabaseInAnotherContext(another_client);
+					Reservation reservation = new Reservation(client.getId(), LocalDate.parse("2023-04-24"));
+					Reservation another_reservation = new Reservation(client.getId(), LocalDate.parse("2023-09-05"));
+					Reservation orphan_reservation = new Reservation(UUID.randomUUID(), LocalDate.parse("2023-12-25"));
+					addTestReservationsToDatabase(reservation, another_reservation, orphan_reservation);
+					
+					BookingSnapshot snapshot = clientRepository.findAllWithReservations();
+					
+					assertThat(snapshot.getClients()).containsExactlyInAnyOrder(client, another_client);
+					assertThat(snapshot.getReservationsOf(client.getId()))
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+					assertThat(snapshot.getReservationsOf(another_client.getId())).isEmpty();
+					assertThat(snapshot.getReservations()).hasSize(2);
+				}
+
+				private void addTestReservationsToDatabase(Reservation... reservations) {
+					EntityManager another_em = emf.createEntityManager();
+					another_em.getTransaction().begin();
+					another_em.createNativeQuery("TRUNCATE TABLE " + RESERVATION_TABLE_DB).executeUpdate();
+					for (Reservation reservation : reservations)
+						another_em.persist(reservation);
+					another_em.getTransaction().commit();
+					another_em.close();
+				}
+			}
 		}
 
 		@Nested
@@ -534,6 +680,47 @@ class ClientPostgresRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'insertAll'")
+			class InsertAllTest {
+
+				@Test
+				@DisplayName("New clients")
+				void testInsertAllWhenClientsAreNewShouldInsertAllAndReturnThem() {
+					List<Client> clients = Arrays.asList(client, another_client);
+					
+					em.getTransaction().begin();
+					assertThat(clientRepository.insertAll(clients)).isEqualTo(clients);
+					em.getTransaction().commit();
+					
+					assertThat(readAllClientsFromDatabase())
+						.containsExactlyInAnyOrder(client, another_client);
+				}
+
+				@Test
+				@DisplayName("Client generates names collision")
+				void testInsertAllWhenAClientGeneratesANamesCollisionShouldThrow() {
+					addTestClientToDatabaseInAnotherContext(client);
+					List<Client> clients = Arrays.asList(new Client(A_FIRSTNAME, A_LASTNAME));
+					
+					em.getTransaction().begin();
+					assertThatThrownBy(() -> clientRepository.insertAll(clients))
+						.isInstanceOf(UniquenessConstraintViolationException.class)
+						.hasMessage("Clients to insert violate uniqueness constraints.");
+					em.getTransaction().rollback();
+				}
+
+				@Test
+				@DisplayName("Null client")
+				void testInsertAllWhenAClientIsNullShouldThrow() {
+					List<Client> clients = Arrays.asList(client, null);
+					
+					assertThatThrownBy(() -> clientRepository.insertAll(clients))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Clients to insert cannot be null.");
+				}
+			}
+
 			private List<Client> readAllClientsFromDatabase() {
 				return em.createQuery("SELECT c FROM Client c", Client.class).getResultList();
 			}
@@ -0,0 +1,92 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import static io.github.marcopaglio.booking.model.Client.CLIENT_TABLE_DB;
+import static io.github.marcopaglio.booking.repository.postgres.ClientSearchIndexer.FIRST_LAST_INDEX_DB;
+import static io.github.marcopaglio.booking.repository.postgres.ClientSearchIndexer.LAST_FIRST_INDEX_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+@DisplayName("Tests for ClientSearchIndexer class")
+@Testcontainers
+class ClientSearchIndexerTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15.3")
+		.withDatabaseName("ClientSearchIndexerTest_db")
+		.withUsername("postgres-test")
+		.withPassword("postgres-test");
+
+	private static EntityManagerFactory emf;
+
+	private ClientSearchIndexer indexer;
+
+	@BeforeAll
+	static void setupServer() throws Exception {
+		System.setProperty("db.host", postgreSQLContainer.getHost());
+		System.setProperty("db.port", postgreSQLContainer.getFirstMappedPort().toString());
+		System.setProperty("db.name", postgreSQLContainer.getDatabaseName());
+
+		emf = Persistence.createEntityManagerFactory("postgres-test");
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start without the indexes
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("DROP INDEX IF EXISTS " + FIRST_LAST_INDEX_DB).executeUpdate();
+		em.createNativeQuery("DROP INDEX IF EXISTS " + LAST_FIRST_INDEX_DB).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+
+		indexer = new ClientSearchIndexer(emf);
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		emf.close();
+	}
+
+	@Test
+	@DisplayName("Indexes are missing")
+	void testCreateIndexesWhenIndexesAreMissingShouldCreateTrigramIndexes() {
+		indexer.createIndexes();
+
+		assertThat(indexDefinitions())
+			.anySatisfy(definition -> assertThat(definition)
+				.contains(FIRST_LAST_INDEX_DB).contains("gin").contains("gin_trgm_ops"))
+			.anySatisfy(definition -> assertThat(definition)
+				.contains(LAST_FIRST_INDEX_DB).contains("gin").contains("gin_trgm_ops"));
+	}
+
+	@Test
+	@DisplayName("Indexes already exist")
+	void testCreateIndexesWhenIndexesAlreadyExistShouldNotThrow() {
+		indexer.createIndexes();
+
+		assertThatNoException().isThrownBy(() -> indexer.createIndexes());
+	}
+
+	private List<String> indexDefinitions() {
+		EntityManager em = emf.createEntityManager();
+		List<String> definitions = em.createNativeQuery("SELECT CAST(indexdef AS text) FROM pg_indexes"
+				+ " WHERE tablename = '" + CLIENT_TABLE_DB + "'", String.class).getResultList();
+		em.close();
+		return definitions;
+	}
+}
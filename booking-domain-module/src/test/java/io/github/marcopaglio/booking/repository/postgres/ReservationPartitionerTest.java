@@ -0,0 +1,184 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.repository.postgres.ReservationPartitioner.DEFAULT_PARTITION_DB;
+import static io.github.marcopaglio.booking.repository.postgres.ReservationPartitioner.PARTITION_PREFIX_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
+import io.github.marcopaglio.booking.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+@DisplayName("Tests for ReservationPartitioner class")
+@Testcontainers
+class ReservationPartitionerTest {
+
+	private static final Clock A_CLOCK = Clock.fixed(Instant.parse("2024-06-01T10:00:00Z"), ZoneOffset.UTC);
+
+	private static final UUID A_CLIENT_UUID = UUID.fromString("5c4d31a2-be04-4156-aa15-f86e7a916999");
+	private static final String A_RESOURCE = "court-1";
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2022-12-22");
+	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2024-03-15");
+
+	private static final String CREATE_TABLE_SQL = "CREATE TABLE " + RESERVATION_TABLE_DB
+			+ " (id uuid PRIMARY KEY, client uuid NOT NULL, resource varchar(255) DEFAULT 'default' NOT NULL,"
+			+ " \"date\" date NOT NULL, CONSTRAINT reservations_resource_date_key UNIQUE (resource, \"date\"))";
+
+	@Container
+	private static final PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15.3")
+		.withDatabaseName("ReservationPartitionerTest_db")
+		.withUsername("postgres-test")
+		.withPassword("postgres-test");
+
+	private static EntityManagerFactory emf;
+
+	private ReservationPartitioner partitioner;
+
+	@BeforeAll
+	static void setupServer() throws Exception {
+		System.setProperty("db.host", postgreSQLContainer.getHost());
+		System.setProperty("db.port", postgreSQLContainer.getFirstMappedPort().toString());
+		System.setProperty("db.name", postgreSQLContainer.getDatabaseName());
+
+		emf = Persistence.createEntityManagerFactory("postgres-test");
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start with an unpartitioned table
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("DROP TABLE IF EXISTS " + RESERVATION_TABLE_DB + " CASCADE").executeUpdate();
+		em.createNativeQuery("DROP TABLE IF EXISTS " + PARTITION_PREFIX_DB + "2022").executeUpdate();
+		em.createNativeQuery(CREATE_TABLE_SQL).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+
+		partitioner = new ReservationPartitioner(emf, A_CLOCK);
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		emf.close();
+	}
+
+	@Test
+	@DisplayName("Unpartitioned table")
+	void testIsPartitionedWhenTableIsNotPartitionedShouldReturnFalse() {
+		assertThat(partitioner.isPartitioned()).isFalse();
+	}
+
+	@Test
+	@DisplayName("Unpartitioned table is converted")
+	void testPartitionWhenTableIsNotPartitionedShouldConvertItKeepingRows() {
+		Reservation reservation = insert(A_LOCALDATE);
+
+		assertThat(partitioner.partition(1)).containsExactly(
+				PARTITION_PREFIX_DB + "2022", PARTITION_PREFIX_DB + "2024", PARTITION_PREFIX_DB + "2025");
+
+		assertThat(partitioner.isPartitioned()).isTrue();
+		assertThat(countIn(PARTITION_PREFIX_DB + "2022")).isEqualTo(1);
+		assertThat(countIn(DEFAULT_PARTITION_DB)).isZero();
+		EntityManager em = emf.createEntityManager();
+		assertThat(new ReservationPostgresRepository(em).findByResourceAndDate(A_RESOURCE, A_LOCALDATE))
+			.contains(reservation);
+		em.close();
+	}
+
+	@Test
+	@DisplayName("Partitioned table keeps uniqueness on resources and dates")
+	void testPartitionWhenTableIsConvertedShouldKeepUniquenessConstraint() {
+		partitioner.partition(0);
+
+		insert(ANOTHER_LOCALDATE);
+		assertThatThrownBy(() -> insert(ANOTHER_LOCALDATE))
+			.isInstanceOf(UniquenessConstraintViolationException.class);
+	}
+
+	@Test
+	@DisplayName("Partitioned table is partitioned again")
+	void testPartitionWhenTableIsAlreadyPartitionedShouldCreateOnlyMissingPartitions() {
+		partitioner.partition(0);
+		insert(ANOTHER_LOCALDATE);
+
+		assertThat(partitioner.partition(2)).containsExactly(
+				PARTITION_PREFIX_DB + "2025", PARTITION_PREFIX_DB + "2026");
+
+		assertThat(countIn(PARTITION_PREFIX_DB + "2024")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Date without partition is moved from the default partition")
+	void testPartitionWhenDefaultPartitionHasRowsShouldMoveThemIntoTheirPartition() {
+		partitioner.partition(0);
+		insert(A_LOCALDATE);
+		assertThat(countIn(DEFAULT_PARTITION_DB)).isEqualTo(1);
+
+		assertThat(partitioner.partition(0)).containsExactly(PARTITION_PREFIX_DB + "2022");
+
+		assertThat(countIn(DEFAULT_PARTITION_DB)).isZero();
+		assertThat(countIn(PARTITION_PREFIX_DB + "2022")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Negative years ahead")
+	void testPartitionWhenYearsAheadIsNegativeShouldThrow() {
+		assertThatThrownBy(() -> partitioner.partition(-1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Years of partitions ahead cannot be negative.");
+	}
+
+	@Test
+	@DisplayName("Old partitions are detached")
+	void testDetachBeforeShouldDetachOnlyOlderYearlyPartitions() {
+		insert(A_LOCALDATE);
+		insert(ANOTHER_LOCALDATE);
+		partitioner.partition(0);
+
+		assertThat(partitioner.detachBefore(2024)).containsExactly(PARTITION_PREFIX_DB + "2022");
+
+		assertThat(countIn(RESERVATION_TABLE_DB)).isEqualTo(1);
+		assertThat(countIn(PARTITION_PREFIX_DB + "2022")).isEqualTo(1);
+	}
+
+	private Reservation insert(LocalDate date) {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			Reservation reservation = new ReservationPostgresRepository(em)
+					.save(new Reservation(A_CLIENT_UUID, A_RESOURCE, date));
+			em.getTransaction().commit();
+			return reservation;
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+
+	private long countIn(String table) {
+		EntityManager em = emf.createEntityManager();
+		long count = ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult())
+				.longValue();
+		em.close();
+		return count;
+	}
+}
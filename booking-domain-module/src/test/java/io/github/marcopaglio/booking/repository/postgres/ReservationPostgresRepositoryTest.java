@@ -1,12 +1,18 @@
 package io.github.marcopaglio.booking.repository.postgres;
 
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_ARCHIVE_TABLE_DB;
 import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +31,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import io.github.marcopaglio.booking.exception.NotNullConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UniquenessConstraintViolationException;
 import io.github.marcopaglio.booking.exception.UpdateFailureException;
+import io.github.marcopaglio.booking.model.OccupancyReport;
 import io.github.marcopaglio.booking.model.Reservation;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -42,9 +49,13 @@ class ReservationPostgresRepositoryTest {
 	private static final UUID A_CLIENT_UUID = UUID.fromString("5c4d31a2-be04-4156-aa15-f86e7a916999");
 	private static final UUID A_RESERVATION_UUID = UUID.fromString("d96af73a-efbc-45d7-a013-15e4f0c3a8fd");
 
+	private static final String A_RESOURCE = "court-1";
+
 	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-12-22");
 	private static final UUID ANOTHER_CLIENT_UUID = UUID.fromString("6f4261e2-2d5e-4ada-93f6-67dc7e7b6358");
 
+	private static final LocalDate A_HORIZON = LocalDate.parse("2024-01-01");
+
 	@Container
 	private static final PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15.3")
 		.withDatabaseName("ReservationPostgresRepositoryTest_db")
@@ -73,6 +84,7 @@ class ReservationPostgresRepositoryTest {
 		// make sure we always start with a clean database
 		em.getTransaction().begin();
 		em.createNativeQuery("TRUNCATE TABLE " + RESERVATION_TABLE_DB).executeUpdate();
+		em.createNativeQuery("DROP TABLE IF EXISTS " + RESERVATION_ARCHIVE_TABLE_DB).executeUpdate();
 		em.getTransaction().commit();
 		
 		// repository creation
@@ -228,6 +240,38 @@ class ReservationPostgresRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'findHistoryByClient'")
+			class FindHistoryByClientTest {
+
+				@Test
+				@DisplayName("Associated reservations in use and archived")
+				void testFindHistoryByClientWhenThereAreReservationsInUseAndArchivedShouldReturnAllOfThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					em.getTransaction().begin();
+					reservationRepository.archiveBefore(ANOTHER_LOCALDATE, 1);
+					em.getTransaction().commit();
+					another_reservation.setClientId(A_CLIENT_UUID);
+					addTestReservationToDatabaseInTheSameContext(another_reservation);
+					
+					em.getTransaction().begin();
+					assertThat(reservationRepository.findHistoryByClient(A_CLIENT_UUID))
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+					em.getTransaction().commit();
+				}
+
+				@Test
+				@DisplayName("Archive does not exist yet")
+				void testFindHistoryByClientWhenArchiveDoesNotExistShouldReturnReservationsInUse() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					em.getTransaction().begin();
+					assertThat(reservationRepository.findHistoryByClient(A_CLIENT_UUID))
+						.containsExactly(reservation);
+					em.getTransaction().commit();
+				}
+			}
+
 			@Nested
 			@DisplayName("Tests for 'findById'")
 			class FindByIdTest {
@@ -289,6 +333,174 @@ class ReservationPostgresRepositoryTest {
 						.isEqualTo(Optional.of(reservation));
 				}
 			}
+
+			@Nested
+			@DisplayName("Tests for 'findByResource'")
+			class FindByResourceTest {
+
+				@Test
+				@DisplayName("No reservations of that resource")
+				void testFindByResourceWhenThereAreNoReservationsOfThatResourceShouldReturnEmptyList() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					assertThat(reservationRepository.findByResource(A_RESOURCE)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations of that resource")
+				void testFindByResourceWhenThereAreSomeReservationsOfThatResourceShouldReturnThemAsList() {
+					another_reservation.setResource(A_RESOURCE);
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					addTestReservationToDatabaseInTheSameContext(another_reservation);
+					
+					assertThat(reservationRepository.findByResource(A_RESOURCE))
+						.containsExactly(another_reservation);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByResourceAndDate'")
+			class FindByResourceAndDateTest {
+
+				@Test
+				@DisplayName("Reservation is on another resource")
+				void testFindByResourceAndDateWhenReservationIsOnAnotherResourceShouldReturnOptionalOfEmpty() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					assertThat(reservationRepository.findByResourceAndDate(A_RESOURCE, A_LOCALDATE)).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Reservations of several resources on the same date")
+				void testFindByResourceAndDateWhenSeveralResourcesAreBookedOnTheDateShouldReturnTheOneOfTheResource() {
+					another_reservation.setResource(A_RESOURCE);
+					another_reservation.setDate(A_LOCALDATE);
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					addTestReservationToDatabaseInTheSameContext(another_reservation);
+					
+					assertThat(reservationRepository.findByResourceAndDate(A_RESOURCE, A_LOCALDATE))
+						.isEqualTo(Optional.of(another_reservation));
+					assertThat(reservationRepository.findByDate(A_LOCALDATE))
+						.isEqualTo(Optional.of(reservation));
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findByDates'")
+			class FindByDatesTest {
+
+				@Test
+				@DisplayName("No reservations on those dates")
+				void testFindByDatesWhenThereAreNoReservationsOnThoseDatesShouldReturnEmptyList() {
+					assertThat(reservationRepository.findByDates(Arrays.asList(A_LOCALDATE))).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations on those dates")
+				void testFindByDatesWhenThereAreSomeReservationsOnThoseDatesShouldReturnThemAsList() {
+					addTestReservationToDatabaseInAnotherContext(reservation);
+					addTestReservationToDatabaseInAnotherContext(another_reservation);
+					
+					assertThat(reservationRepository.findByDates(
+							Arrays.asList(A_LOCALDATE, LocalDate.parse("2024-01-01"))))
+						.containsExactly(reservation);
+				}
+			}
+			@Nested
+			@DisplayName("Tests for 'count'")
+			class CountTest {
+
+				@Test
+				@DisplayName("No reservations")
+				void testCountWhenThereAreNoReservationsShouldReturnZero() {
+					assertThat(reservationRepository.count()).isZero();
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testCountWhenThereAreSomeReservationsShouldReturnTheirNumber() {
+					addTestReservationToDatabaseInAnotherContext(another_reservation);
+					addTestReservationToDatabaseInAnotherContext(reservation);
+					
+					assertThat(reservationRepository.count()).isEqualTo(2);
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'findPage'")
+			class FindPageTest {
+
+				@Test
+				@DisplayName("Negative offset")
+				void testFindPageWhenOffsetIsNegativeShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.findPage(-1, 1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Offset of page cannot be negative.");
+				}
+
+				@Test
+				@DisplayName("Not positive limit")
+				void testFindPageWhenLimitIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.findPage(0, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Size of page must be positive.");
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testFindPageWhenThereAreSomeReservationsShouldReturnThemOrderedByDate() {
+					addTestReservationToDatabaseInAnotherContext(another_reservation);
+					addTestReservationToDatabaseInAnotherContext(reservation);
+					
+					assertThat(reservationRepository.findPage(0, 1)).containsExactly(reservation);
+					assertThat(reservationRepository.findPage(1, 2)).containsExactly(another_reservation);
+					assertThat(reservationRepository.findPage(2, 1)).isEmpty();
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'aggregateOccupancy'")
+			class AggregateOccupancyTest {
+
+				@Test
+				@DisplayName("Negative limit of top clients")
+				void testAggregateOccupancyWhenLimitIsNegativeShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.aggregateOccupancy(-1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Limit of top clients cannot be negative.");
+				}
+
+				@Test
+				@DisplayName("No reservations")
+				void testAggregateOccupancyWhenThereAreNoReservationsShouldReturnEmptyReport() {
+					OccupancyReport report = reservationRepository.aggregateOccupancy(1);
+					
+					assertThat(report.getReservationsPerClient()).isEmpty();
+					assertThat(report.getReservationsPerMonth()).isEmpty();
+					assertThat(report.getReservationsPerWeekday()).isEmpty();
+					assertThat(report.getTopClients()).isEmpty();
+				}
+
+				@Test
+				@DisplayName("Some reservations")
+				void testAggregateOccupancyWhenThereAreSomeReservationsShouldCountThemByGroup() {
+					Reservation later_reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE.plusWeeks(1));
+					addTestReservationToDatabaseInAnotherContext(reservation);
+					addTestReservationToDatabaseInAnotherContext(another_reservation);
+					addTestReservationToDatabaseInAnotherContext(later_reservation);
+					
+					OccupancyReport report = reservationRepository.aggregateOccupancy(1);
+					
+					assertThat(report.getReservationsPerClient()).containsExactlyInAnyOrderEntriesOf(
+							Map.of(A_CLIENT_UUID, 2L, ANOTHER_CLIENT_UUID, 1L));
+					assertThat(report.getReservationsPerMonth()).containsExactly(
+							entry(YearMonth.from(A_LOCALDATE), 2L), entry(YearMonth.from(ANOTHER_LOCALDATE), 1L));
+					assertThat(report.getReservationsPerWeekday()).containsExactlyInAnyOrderEntriesOf(
+							Map.of(DayOfWeek.THURSDAY, 2L, DayOfWeek.FRIDAY, 1L));
+					assertThat(report.getTopClients()).containsExactlyEntriesOf(Map.of(A_CLIENT_UUID, 2L));
+				}
+			}
+
 		}
 
 		@Nested
@@ -377,6 +589,23 @@ class ReservationPostgresRepositoryTest {
 							.extracting(Reservation::getId).isEqualTo(reservation.getId());
 				}
 
+				@Test
+				@DisplayName("New reservation on the same date of another resource")
+				void testSaveWhenNewReservationIsOnTheSameDateOfAnotherResourceShouldNotThrowAndInsert() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					another_reservation.setResource(A_RESOURCE);
+					another_reservation.setDate(A_LOCALDATE);
+					
+					em.getTransaction().begin();
+					assertThatNoException().isThrownBy(
+							() -> reservationRepository.save(another_reservation));
+					em.getTransaction().commit();
+					
+					assertThat(readAllReservationsFromDatabase())
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+				}
+
 				@Test
 				@DisplayName("New reservation has same client")
 				void testSaveWhenNewReservationHasSameClientShouldNotThrowAndInsert() {
@@ -589,6 +818,120 @@ class ReservationPostgresRepositoryTest {
 				}
 			}
 
+			@Nested
+			@DisplayName("Tests for 'insertAll'")
+			class InsertAllTest {
+
+				@Test
+				@DisplayName("New reservations")
+				void testInsertAllWhenReservationsAreNewShouldInsertAllAndReturnThem() {
+					List<Reservation> reservations = Arrays.asList(reservation, another_reservation);
+					
+					em.getTransaction().begin();
+					assertThat(reservationRepository.insertAll(reservations)).isEqualTo(reservations);
+					em.getTransaction().commit();
+					
+					assertThat(readAllReservationsFromDatabase())
+						.containsExactlyInAnyOrder(reservation, another_reservation);
+				}
+
+				@Test
+				@DisplayName("Reservation generates date collision")
+				void testInsertAllWhenAReservationGeneratesADateCollisionShouldThrow() {
+					addTestReservationToDatabaseInAnotherContext(reservation);
+					List<Reservation> reservations = Arrays.asList(
+							new Reservation(ANOTHER_CLIENT_UUID, A_LOCALDATE));
+					
+					em.getTransaction().begin();
+					assertThatThrownBy(() -> reservationRepository.insertAll(reservations))
+						.isInstanceOf(UniquenessConstraintViolationException.class)
+						.hasMessage("Reservations to insert violate uniqueness constraints.");
+					em.getTransaction().rollback();
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'deleteAll'")
+			class DeleteAllTest {
+
+				@Test
+				@DisplayName("Some reservations are in database")
+				void testDeleteAllWhenSomeReservationsAreInDatabaseShouldRemoveOnlyThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					addTestReservationToDatabaseInTheSameContext(another_reservation);
+					Reservation neverInserted = new Reservation(A_CLIENT_UUID, LocalDate.parse("2024-01-01"));
+					
+					em.getTransaction().begin();
+					reservationRepository.deleteAll(Arrays.asList(reservation, neverInserted));
+					em.getTransaction().commit();
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(another_reservation);
+				}
+
+				@Test
+				@DisplayName("Null reservation")
+				void testDeleteAllWhenAReservationIsNullShouldThrow() {
+					List<Reservation> reservations = Arrays.asList(reservation, null);
+					
+					assertThatThrownBy(() -> reservationRepository.deleteAll(reservations))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Reservations to delete cannot be null.");
+				}
+			}
+
+			@Nested
+			@DisplayName("Tests for 'archiveBefore'")
+			class ArchiveBeforeTest {
+
+				@Test
+				@DisplayName("Reservations before the horizon")
+				void testArchiveBeforeWhenReservationsAreBeforeTheHorizonShouldMoveTheOldestOnesIntoTheArchive() {
+					addTestReservationToDatabaseInTheSameContext(another_reservation);
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					em.getTransaction().begin();
+					assertThat(reservationRepository.archiveBefore(A_HORIZON, 1)).containsExactly(reservation);
+					em.getTransaction().commit();
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(another_reservation);
+					assertThat(countArchivedReservations()).isEqualTo(1);
+				}
+
+				@Test
+				@DisplayName("Reservations on or after the horizon")
+				void testArchiveBeforeWhenReservationsAreNotBeforeTheHorizonShouldNotMoveThem() {
+					addTestReservationToDatabaseInTheSameContext(reservation);
+					
+					em.getTransaction().begin();
+					assertThat(reservationRepository.archiveBefore(A_LOCALDATE, 10)).isEmpty();
+					em.getTransaction().commit();
+					
+					assertThat(readAllReservationsFromDatabase()).containsExactly(reservation);
+					assertThat(countArchivedReservations()).isZero();
+				}
+
+				@Test
+				@DisplayName("Null horizon")
+				void testArchiveBeforeWhenHorizonIsNullShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.archiveBefore(null, 1))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Horizon of archiving cannot be null.");
+				}
+
+				@Test
+				@DisplayName("Non-positive batch size")
+				void testArchiveBeforeWhenBatchSizeIsNotPositiveShouldThrow() {
+					assertThatThrownBy(() -> reservationRepository.archiveBefore(A_HORIZON, 0))
+						.isInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Size of archiving batches must be positive.");
+				}
+
+				private long countArchivedReservations() {
+					return ((Number) em.createNativeQuery("SELECT COUNT(*) FROM " + RESERVATION_ARCHIVE_TABLE_DB)
+							.getSingleResult()).longValue();
+				}
+			}
+
 			private List<Reservation> readAllReservationsFromDatabase() {
 				return em.createQuery("SELECT r FROM Reservation r", Reservation.class).getResultList();
 			}
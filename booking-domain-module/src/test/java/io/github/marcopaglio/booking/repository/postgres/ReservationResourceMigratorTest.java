@@ -0,0 +1,124 @@
+package io.github.marcopaglio.booking.repository.postgres;
+
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.marcopaglio.booking.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+@DisplayName("Tests for ReservationResourceMigrator class")
+@Testcontainers
+class ReservationResourceMigratorTest {
+
+	private static final UUID A_CLIENT_UUID = UUID.fromString("5c4d31a2-be04-4156-aa15-f86e7a916999");
+	private static final UUID A_RESERVATION_UUID = UUID.fromString("e77ce09c-bf58-4691-b69b-11851f359b99");
+	private static final String A_RESOURCE = "court-1";
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2022-12-22");
+
+	private static final String LEGACY_CONSTRAINT_DB = "uk_legacy_date";
+
+	private static final String CREATE_LEGACY_TABLE_SQL = "CREATE TABLE " + RESERVATION_TABLE_DB
+			+ " (id uuid PRIMARY KEY, client uuid NOT NULL, \"date\" date NOT NULL,"
+			+ " CONSTRAINT " + LEGACY_CONSTRAINT_DB + " UNIQUE (\"date\"))";
+
+	// as the persistence provider adds the column to a table with rows
+	private static final String ADD_RESOURCE_SQL = "ALTER TABLE " + RESERVATION_TABLE_DB
+			+ " ADD COLUMN resource varchar(255), ADD CONSTRAINT reservations_resource_date_key"
+			+ " UNIQUE (resource, \"date\")";
+
+	@Container
+	private static final PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:15.3")
+		.withDatabaseName("ReservationResourceMigratorTest_db")
+		.withUsername("postgres-test")
+		.withPassword("postgres-test");
+
+	private static EntityManagerFactory emf;
+
+	private ReservationResourceMigrator migrator;
+
+	@BeforeAll
+	static void setupServer() throws Exception {
+		System.setProperty("db.host", postgreSQLContainer.getHost());
+		System.setProperty("db.port", postgreSQLContainer.getFirstMappedPort().toString());
+		System.setProperty("db.name", postgreSQLContainer.getDatabaseName());
+
+		emf = Persistence.createEntityManagerFactory("postgres-test");
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// make sure we always start with a table stored before resources
+		EntityManager em = emf.createEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery("DROP TABLE IF EXISTS " + RESERVATION_TABLE_DB + " CASCADE").executeUpdate();
+		em.createNativeQuery(CREATE_LEGACY_TABLE_SQL).executeUpdate();
+		em.createNativeQuery("INSERT INTO " + RESERVATION_TABLE_DB + " VALUES ('" + A_RESERVATION_UUID
+				+ "', '" + A_CLIENT_UUID + "', '" + A_LOCALDATE + "')").executeUpdate();
+		em.createNativeQuery(ADD_RESOURCE_SQL).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+
+		migrator = new ReservationResourceMigrator(emf);
+	}
+
+	@AfterAll
+	static void closeClient() throws Exception {
+		emf.close();
+	}
+
+	@Test
+	@DisplayName("Legacy reservation is migrated")
+	void testMigrateWhenReservationHasNoResourceShouldAssignTheDefaultOne() {
+		migrator.migrate();
+
+		EntityManager em = emf.createEntityManager();
+		assertThat(new ReservationPostgresRepository(em).findByResourceAndDate(DEFAULT_RESOURCE, A_LOCALDATE))
+			.hasValueSatisfying(reservation -> assertThat(reservation.getId()).isEqualTo(A_RESERVATION_UUID));
+		em.close();
+	}
+
+	@Test
+	@DisplayName("Legacy uniqueness constraint on dates is dropped")
+	void testMigrateWhenLegacyConstraintExistsShouldAllowOtherResourcesOnTheSameDate() {
+		assertThat(migrator.migrate()).containsExactly(LEGACY_CONSTRAINT_DB);
+
+		assertThatNoException().isThrownBy(() -> insert(A_RESOURCE, A_LOCALDATE));
+	}
+
+	@Test
+	@DisplayName("Migration is repeated")
+	void testMigrateWhenTableIsAlreadyMigratedShouldDoNothing() {
+		migrator.migrate();
+
+		assertThat(migrator.migrate()).isEmpty();
+	}
+
+	private void insert(String resource, LocalDate date) {
+		EntityManager em = emf.createEntityManager();
+		try {
+			em.getTransaction().begin();
+			new ReservationPostgresRepository(em).save(new Reservation(A_CLIENT_UUID, resource, date));
+			em.getTransaction().commit();
+		} finally {
+			if (em.getTransaction().isActive())
+				em.getTransaction().rollback();
+			em.close();
+		}
+	}
+}
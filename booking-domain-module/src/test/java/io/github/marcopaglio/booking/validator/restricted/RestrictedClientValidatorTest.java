@@ -86,7 +86,7 @@ class RestrictedClientValidatorTest {
 
 			@ParameterizedTest(name = "{index}: ''{0}''")
 			@DisplayName("Non-alphabet names")
-			@ValueSource(strings = {"Mari0", "Ro55i", "Mario!", "Rossi@"})
+			@ValueSource(strings = {"Mari0", "Ro55i", "Mario!", "Rossi@", "Mario\nRossi", "\nMario"})
 			void testValidateFirstNameWhenNameContainsNonAlphabetCharactersShouldThrow(
 					String nonAlphabetFirstName) {
 				assertThatThrownBy(
@@ -121,6 +121,22 @@ class RestrictedClientValidatorTest {
 				assertThat(clientValidator.validateFirstName(actualFirstName))
 					.isEqualTo(expectedFirstName);
 			}
+
+			@Test
+			@DisplayName("Tab spaced names")
+			void testValidateFirstNameWhenNameContainsTabsShouldReduceThemToWhitespaces() {
+				assertThat(clientValidator.validateFirstName("Maria\tLuisa \t Anna"))
+					.isEqualTo("Maria Luisa Anna");
+			}
+
+			@ParameterizedTest(name = "{index}: ''{0}''")
+			@DisplayName("Names already fixed")
+			@ValueSource(strings = {"Maria Luisa", "Maria\u00A0Luisa", "\uD835\uDC9C"})
+			void testValidateFirstNameWhenNameIsAlreadyFixedShouldReturnTheSameInstance(
+					String fixedFirstName) {
+				assertThat(clientValidator.validateFirstName(fixedFirstName))
+					.isSameAs(fixedFirstName);
+			}
 		}
 	}
 
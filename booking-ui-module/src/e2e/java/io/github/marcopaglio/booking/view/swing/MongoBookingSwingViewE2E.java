@@ -6,6 +6,7 @@ import static io.github.marcopaglio.booking.model.Client.FIRSTNAME_DB;
 import static io.github.marcopaglio.booking.model.Client.LASTNAME_DB;
 import static io.github.marcopaglio.booking.model.Reservation.DATE_DB;
 import static io.github.marcopaglio.booking.model.Reservation.RESERVATION_TABLE_DB;
+import static io.github.marcopaglio.booking.model.Reservation.RESOURCE_DB;
 import static org.bson.UuidRepresentation.STANDARD;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
@@ -147,7 +148,8 @@ public class MongoBookingSwingViewE2E extends BookingSwingViewE2E {
 		reservation.setId(id);
 		ClientSession session = mongoClient.startSession();
 		reservationCollection.createIndex(session,
-				Indexes.descending(DATE_DB), new IndexOptions().unique(true));
+				Indexes.compoundIndex(Indexes.ascending(RESOURCE_DB), Indexes.descending(DATE_DB)),
+				new IndexOptions().unique(true));
 		reservationCollection.insertOne(session, reservation);
 		session.close();
 	}
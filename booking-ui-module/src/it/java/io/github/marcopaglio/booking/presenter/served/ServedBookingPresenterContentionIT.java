@@ -0,0 +1,113 @@
+package io.github.marcopaglio.booking.presenter.served;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.service.BookingService;
+import io.github.marcopaglio.booking.validator.restricted.RestrictedClientValidator;
+import io.github.marcopaglio.booking.validator.restricted.RestrictedReservationValidator;
+import io.github.marcopaglio.booking.view.BookingView;
+
+/**
+ * Measures the throughput of the presenter inserting reservations on distinct dates through
+ * a service simulating slow database calls, with an increasing number of workers.
+ */
+@DisplayName("Contention benchmark for ServedBookingPresenter class")
+class ServedBookingPresenterContentionIT {
+	private static final Logger LOGGER = LogManager.getLogger(ServedBookingPresenterContentionIT.class);
+
+	private static final long DATABASE_LATENCY_MILLIS = 20;
+	private static final int OPERATIONS = 64;
+	private static final int[] WORKER_COUNTS = { 1, 2, 4, 8 };
+
+	private static final LocalDate FIRST_LOCALDATE = LocalDate.parse("2024-01-01");
+
+	@Mock
+	private BookingService bookingService;
+
+	@Mock
+	private BookingView view;
+
+	private ServedBookingPresenter servedBookingPresenter;
+
+	private Client client;
+
+	private AutoCloseable closeable;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		closeable = MockitoAnnotations.openMocks(this);
+		
+		servedBookingPresenter = new ServedBookingPresenter(view, bookingService,
+				new RestrictedClientValidator(), new RestrictedReservationValidator());
+		client = new Client("Mario", "Rossi");
+		client.setId(UUID.randomUUID());
+		
+		when(bookingService.insertNewReservation(any(Reservation.class))).thenAnswer(invocation -> {
+			// simulates the round trip to the database
+			Thread.sleep(DATABASE_LATENCY_MILLIS);
+			Reservation reservation = invocation.getArgument(0);
+			reservation.setId(UUID.randomUUID());
+			return reservation;
+		});
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		closeable.close();
+	}
+
+	@Test
+	@DisplayName("Throughput scales with workers")
+	void testAddReservationWhenDatesAreDistinctShouldScaleWithWorkers() throws Exception {
+		Map<Integer, Double> throughputs = new LinkedHashMap<>();
+		for (int workers : WORKER_COUNTS)
+			throughputs.put(workers, measureThroughput(workers));
+		
+		throughputs.forEach((workers, throughput) -> LOGGER.info(() ->
+				String.format("%d workers: %.1f operations/s", workers, throughput)));
+		// ideal scaling is 8x: stripe collisions and scheduling leave some margin
+		assertThat(throughputs.get(8)).isGreaterThan(throughputs.get(1) * 4);
+		assertThat(throughputs.get(4)).isGreaterThan(throughputs.get(1) * 2);
+	}
+
+	private double measureThroughput(int workers) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			long start = System.nanoTime();
+			List<Future<?>> futures = IntStream.range(0, OPERATIONS)
+					.mapToObj(i -> FIRST_LOCALDATE.plusDays(i).toString())
+					.<Future<?>>map(date -> executor.submit(
+							() -> servedBookingPresenter.addReservation(client, date)))
+					.toList();
+			for (Future<?> future : futures)
+				future.get(30, SECONDS);
+			return OPERATIONS / ((System.nanoTime() - start) / 1e9);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
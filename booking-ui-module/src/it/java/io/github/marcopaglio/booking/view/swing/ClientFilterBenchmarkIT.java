@@ -0,0 +1,106 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+
+/**
+ * Measures the time spent on the event dispatch thread for filtering a list of 100k clients
+ * by the prefixes typed, one keystroke at a time, through a {@code PrefixIndex}.
+ * Each keystroke is measured by its fastest run, so that the time spent by other threads,
+ * such as the compiler and the garbage collector, is not charged to the filter.
+ */
+@DisplayName("EDT benchmark for the client filter")
+class ClientFilterBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(ClientFilterBenchmarkIT.class);
+
+	private static final int CLIENTS = 100_000;
+	private static final int RUNS = 7;
+	private static final int WARM_UP_RUNS = 2;
+	private static final long FRAME_NANOS = 16_000_000L;
+
+	private static final String[] FIRST_NAMES = { "Mario", "Maria", "Luca", "Giulia", "Marco",
+			"Anna", "Paolo", "Sara", "Giovanni", "Elena", "Francesco", "Chiara", "Andrea", "Laura" };
+	private static final String[] SYLLABLES = { "ro", "ma", "bi", "an", "chi", "es", "po", "si",
+			"li", "de", "ne", "ri", "co", "ta", "lu", "ver", "fe", "ga" };
+	private static final String[] TYPED = { "mario rossi", "ro", "de l", "giovanni", "z" };
+
+	@Test
+	@DisplayName("Typing in the client filter")
+	void testSetQueryWhenThereAre100kClientsShouldTakeLessThanAFrame() throws Exception {
+		List<Client> clients = generateClients();
+		Map<String, Long> fastest = new HashMap<>();
+		int[] lastSize = { 0 };
+		SwingUtilities.invokeAndWait(() -> {
+			IndexedListModel<Client, UUID> source = new IndexedListModel<>(Client::getId);
+			PrefixIndex<Client> index = new PrefixIndex<>(client -> List.of(
+					client.getFirstName() + " " + client.getLastName(),
+					client.getLastName() + " " + client.getFirstName()));
+			index.replaceAll(clients);
+			source.replaceAll(clients);
+			FilteredListModel<Client> model = new FilteredListModel<>(source, index);
+			JList<Client> list = new JList<>(model);
+			new JScrollPane(list);
+
+			for (int run = 0; run < RUNS; run++) {
+				for (String text : TYPED) {
+					for (int length = 1; length <= text.length(); length++) {
+						String typed = text.substring(0, length);
+						long start = System.nanoTime();
+						model.setQuery(typed);
+						long elapsed = System.nanoTime() - start;
+						// the first runs warm up the code, the others filter out preemptions
+						if (run >= WARM_UP_RUNS)
+							fastest.merge(typed, elapsed, Math::min);
+					}
+					lastSize[0] = model.getSize();
+					model.setQuery("");
+				}
+			}
+		});
+
+		long slowest = Collections.max(fastest.values());
+		LOGGER.info(() -> String.format("Filtering %d clients: slowest keystroke %.1f ms",
+				CLIENTS, slowest / 1e6));
+		assertThat(lastSize[0]).isZero();
+		assertThat(slowest).isLessThan(FRAME_NANOS);
+	}
+
+	private static List<Client> generateClients() {
+		Random random = new Random(42);
+		Set<String> fullNames = new LinkedHashSet<>();
+		List<Client> clients = new ArrayList<>(CLIENTS);
+		while (clients.size() < CLIENTS) {
+			String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+			StringBuilder lastName = new StringBuilder();
+			for (int syllable = 2 + random.nextInt(3); syllable > 0; syllable--)
+				lastName.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			lastName.setCharAt(0, Character.toUpperCase(lastName.charAt(0)));
+			if (fullNames.add(firstName + " " + lastName)) {
+				Client client = new Client(firstName, lastName.toString());
+				client.setId(UUID.randomUUID());
+				clients.add(client);
+			}
+		}
+		return clients;
+	}
+}
@@ -0,0 +1,179 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+
+/**
+ * Replays the updates of lists of 100k clients and 100k reservations on the event dispatch thread
+ * through an {@code EdtWatchdog}, on the same models of {@code BookingSwingView}, and reports
+ * the percentiles of the time the updates waited in the event queue and ran.
+ * Updates are posted in bursts, as they come from a slow database or from the change feed,
+ * hence the waiting times include the ones of the updates posted before.
+ */
+@DisplayName("EDT latency benchmark for the updates of the lists")
+class EdtLatencyBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(EdtLatencyBenchmarkIT.class);
+
+	private static final int ROWS = 100_000;
+	private static final int REFRESHES = 10;
+	private static final int RENAMES = 2_000;
+	private static final int WARM_UP_ROUNDS = 2;
+	private static final int ROUNDS = 5;
+	private static final long FRAME_NANOS = 16_000_000L;
+	private static final Duration STALL_THRESHOLD = Duration.ofMillis(500);
+
+	private static final Comparator<Reservation> RESERVATION_ORDER = Comparator.nullsLast(
+			Comparator.comparing(Reservation::getDate).thenComparing(Reservation::getResource));
+
+	private EdtWatchdog watchdog;
+
+	private PrefixIndex<Client> clientIndex;
+	private IndexedListModel<Client, UUID> clientListModel;
+	private SortedListModel<Reservation> reservationListModel;
+
+	private List<Client> clients;
+	private List<Reservation> reservations;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		watchdog = new EdtWatchdog(STALL_THRESHOLD);
+		watchdog.start();
+		clients = generateClients();
+		reservations = generateReservations(clients);
+		
+		SwingUtilities.invokeAndWait(() -> {
+			clientIndex = new PrefixIndex<>(client -> List.of(
+					client.getFirstName() + " " + client.getLastName(),
+					client.getLastName() + " " + client.getFirstName()));
+			clientListModel = new IndexedListModel<>(Client::getId);
+			new JScrollPane(new JList<>(new FilteredListModel<>(clientListModel, clientIndex)));
+			reservationListModel = new SortedListModel<>(RESERVATION_ORDER);
+			new JScrollPane(new JList<>(reservationListModel));
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		watchdog.close();
+	}
+
+	@Test
+	@DisplayName("Refreshing 100k clients and reservations")
+	void testShowAllWhenThereAre100kRowsShouldNotStarveTheEventQueue() throws Exception {
+		Random random = new Random(42);
+		for (int round = 0; round < WARM_UP_ROUNDS + ROUNDS; round++) {
+			// the first rounds warm up the code
+			if (round == WARM_UP_ROUNDS)
+				watchdog.reset();
+			for (int refresh = 0; refresh < REFRESHES; refresh++) {
+				List<Client> refreshedClients = new ArrayList<>(clients);
+				refreshedClients.set(random.nextInt(ROWS), renamed(clients.get(random.nextInt(ROWS))));
+				List<Reservation> refreshedReservations = new ArrayList<>(reservations);
+				refreshedReservations.remove(random.nextInt(ROWS));
+				watchdog.invokeLater("showAllClients", () -> {
+					clientIndex.replaceAll(refreshedClients);
+					clientListModel.replaceAll(refreshedClients);
+				});
+				watchdog.invokeLater("showAllReservations",
+						() -> reservationListModel.replaceAll(refreshedReservations));
+			}
+			SwingUtilities.invokeAndWait(() -> {});
+		}
+
+		LOGGER.info(() -> String.format("Refreshing %d rows %d times:%n%s",
+				ROWS, REFRESHES * ROUNDS, watchdog.format()));
+		assertThat(watchdog.getTaskCount()).isEqualTo(2L * REFRESHES * ROUNDS);
+		assertThat(watchdog.getRunPercentile(50)).isLessThan(STALL_THRESHOLD.toNanos());
+	}
+
+	@Test
+	@DisplayName("Renaming clients among 100k")
+	void testClientRenamedWhenThereAre100kClientsShouldTakeLessThanAFrame() throws Exception {
+		SwingUtilities.invokeAndWait(() -> {
+			clientIndex.replaceAll(clients);
+			clientListModel.replaceAll(clients);
+		});
+		
+		Random random = new Random(42);
+		for (int round = 0; round < WARM_UP_ROUNDS + ROUNDS; round++) {
+			// the first rounds warm up the code
+			if (round == WARM_UP_ROUNDS)
+				watchdog.reset();
+			for (int rename = 0; rename < RENAMES; rename++) {
+				int position = random.nextInt(ROWS);
+				watchdog.invokeLater("clientRenamed", () -> {
+					Client oldClient = clientListModel.getElementAt(position);
+					Client renamedClient = renamed(oldClient);
+					clientIndex.remove(oldClient);
+					clientIndex.add(renamedClient);
+					clientListModel.set(position, renamedClient);
+				});
+			}
+			SwingUtilities.invokeAndWait(() -> {});
+		}
+
+		LOGGER.info(() -> String.format("Renaming among %d clients %d times:%n%s",
+				ROWS, RENAMES * ROUNDS, watchdog.format()));
+		assertThat(watchdog.getTaskCount()).isEqualTo((long) RENAMES * ROUNDS);
+		assertThat(watchdog.getRunPercentile(99)).isLessThan(FRAME_NANOS);
+	}
+
+	private static Client renamed(Client client) {
+		Client renamedClient = new Client(client.getFirstName(), client.getLastName() + "x");
+		renamedClient.setId(client.getId());
+		return renamedClient;
+	}
+
+	private static List<Client> generateClients() {
+		List<Client> generated = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			Client client = new Client("Name" + toLetters(i), "Surname" + toLetters(i * 7919L));
+			client.setId(UUID.randomUUID());
+			generated.add(client);
+		}
+		return generated;
+	}
+
+	private static List<Reservation> generateReservations(List<Client> clients) {
+		List<Reservation> generated = new ArrayList<>(ROWS);
+		LocalDate first = LocalDate.of(2100, 1, 1);
+		for (int i = 0; i < ROWS; i++) {
+			Reservation reservation = new Reservation(clients.get(i).getId(), "Resource" + (i % 10),
+					first.plusDays(i / 10));
+			reservation.setId(UUID.randomUUID());
+			generated.add(reservation);
+		}
+		generated.sort(RESERVATION_ORDER);
+		return generated;
+	}
+
+	private static String toLetters(long number) {
+		StringBuilder letters = new StringBuilder();
+		do {
+			letters.append((char) ('a' + number % 26));
+			number /= 26;
+		} while (number > 0);
+		return letters.toString();
+	}
+}
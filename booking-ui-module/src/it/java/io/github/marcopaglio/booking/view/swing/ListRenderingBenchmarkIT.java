@@ -0,0 +1,177 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+
+/**
+ * Measures the time spent on the event dispatch thread for laying out and painting a list
+ * of 100k clients, with rows measured one by one or sized by a prototype, and with
+ * display strings built on every paint or kept by the model.
+ * Each scenario is measured by its fastest run, as the other benchmarks of the lists.
+ */
+@DisplayName("EDT benchmark for the rendering of the lists")
+class ListRenderingBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(ListRenderingBenchmarkIT.class);
+
+	private static final int CLIENTS = 100_000;
+	private static final int RUNS = 7;
+	private static final int SCROLL_STEPS = 200;
+	private static final int WIDTH = 400;
+	private static final int HEIGHT = 600;
+	private static final long FRAME_NANOS = 16_000_000L;
+
+	private static final Client PROTOTYPE_CLIENT = new Client("Prototype first name", "Prototype last name");
+
+	@Test
+	@DisplayName("Laying out the list after a refresh")
+	void testReplaceAllWhenRowsAreSizedByPrototypeShouldNotMeasureEveryRow() throws Exception {
+		List<Client> clients = generateClients();
+		List<Client> refreshed = new ArrayList<>(clients);
+		refreshed.set(CLIENTS / 2, renamed(clients.get(CLIENTS / 2)));
+		
+		long measuredNanos = measureLayout(clients, refreshed, false);
+		long prototypeNanos = measureLayout(clients, refreshed, true);
+		
+		LOGGER.info(() -> String.format("Laying out %d rows: measured %.1f ms, prototype %.3f ms",
+				CLIENTS, measuredNanos / 1e6, prototypeNanos / 1e6));
+		assertThat(prototypeNanos).isLessThan(measuredNanos).isLessThan(FRAME_NANOS);
+	}
+
+	@Test
+	@DisplayName("Painting the list while scrolling")
+	void testPaintWhenDisplayStringsAreKeptByModelShouldTakeLessThanAFrame() throws Exception {
+		List<Client> clients = generateClients();
+		
+		long builtNanos = measureScrolling(clients, false);
+		long keptNanos = measureScrolling(clients, true);
+		
+		LOGGER.info(() -> String.format("Painting %d rows while scrolling: built strings %.3f ms, "
+				+ "kept strings %.3f ms per frame", CLIENTS, builtNanos / 1e6, keptNanos / 1e6));
+		assertThat(keptNanos).isLessThan(FRAME_NANOS);
+	}
+
+	/**
+	 * Measures the best time of a refresh followed by the layout of the list.
+	 */
+	private static long measureLayout(List<Client> clients, List<Client> refreshed, boolean prototype)
+			throws Exception {
+		long[] best = { Long.MAX_VALUE };
+		SwingUtilities.invokeAndWait(() -> {
+			IndexedListModel<Client, UUID> model = newModel();
+			JList<Client> list = newList(model, true);
+			if (prototype)
+				list.setPrototypeCellValue(PROTOTYPE_CLIENT);
+			new JScrollPane(list);
+			for (int run = 0; run < RUNS; run++) {
+				model.replaceAll(run % 2 == 0 ? clients : refreshed);
+				list.getPreferredSize();
+				long start = System.nanoTime();
+				model.replaceAll(run % 2 == 0 ? refreshed : clients);
+				list.getPreferredSize();
+				best[0] = Math.min(best[0], System.nanoTime() - start);
+			}
+		});
+		return best[0];
+	}
+
+	/**
+	 * Measures the best average time of painting the visible rows at each scroll step.
+	 */
+	private static long measureScrolling(List<Client> clients, boolean keptStrings) throws Exception {
+		long[] best = { Long.MAX_VALUE };
+		SwingUtilities.invokeAndWait(() -> {
+			IndexedListModel<Client, UUID> model = newModel();
+			model.replaceAll(clients);
+			JList<Client> list = newList(model, keptStrings);
+			list.setPrototypeCellValue(PROTOTYPE_CLIENT);
+			JScrollPane scrollPane = new JScrollPane(list);
+			scrollPane.setSize(WIDTH, HEIGHT);
+			scrollPane.doLayout();
+			scrollPane.getViewport().doLayout();
+			BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+			int step = list.getFixedCellHeight() * 3;
+			for (int run = 0; run < RUNS; run++) {
+				long start = System.nanoTime();
+				for (int i = 0; i < SCROLL_STEPS; i++) {
+					scrollPane.getViewport().setViewPosition(new Point(0, (run * SCROLL_STEPS + i) * step));
+					Graphics2D graphics = image.createGraphics();
+					scrollPane.paint(graphics);
+					graphics.dispose();
+				}
+				best[0] = Math.min(best[0], (System.nanoTime() - start) / SCROLL_STEPS);
+			}
+		});
+		return best[0];
+	}
+
+	private static IndexedListModel<Client, UUID> newModel() {
+		IndexedListModel<Client, UUID> model = new IndexedListModel<>(Client::getId);
+		model.setDisplayStringFunction(ListRenderingBenchmarkIT::getDisplayString);
+		return model;
+	}
+
+	/**
+	 * Creates a list rendering the display strings kept by the model or built on every paint.
+	 */
+	private static JList<Client> newList(IndexedListModel<Client, UUID> model, boolean keptStrings) {
+		JList<Client> list = new JList<>(model);
+		IntFunction<String> displayStringAt = keptStrings
+				? model::getDisplayStringAt
+				: index -> getDisplayString(model.getElementAt(index));
+		list.setCellRenderer(new DefaultListCellRenderer() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Component getListCellRendererComponent(JList<?> list, Object value,
+					int index, boolean isSelected, boolean cellHasFocus) {
+				return super.getListCellRendererComponent(list,
+						// the prototype row is rendered at the first position
+						index < model.getSize() && model.getElementAt(index) == value
+							? displayStringAt.apply(index)
+							: getDisplayString((Client) value),
+						index, isSelected, cellHasFocus);
+			}
+		});
+		return list;
+	}
+
+	private static String getDisplayString(Client client) {
+		return "Client [" + client.getFirstName() + " " + client.getLastName() + "]";
+	}
+
+	private static Client renamed(Client client) {
+		Client renamedClient = new Client(client.getFirstName(), client.getLastName() + "x");
+		renamedClient.setId(client.getId());
+		return renamedClient;
+	}
+
+	private static List<Client> generateClients() {
+		List<Client> clients = new ArrayList<>(CLIENTS);
+		for (int i = 0; i < CLIENTS; i++) {
+			Client client = new Client("Name" + i, "Surname" + (CLIENTS - i));
+			client.setId(UUID.randomUUID());
+			clients.add(client);
+		}
+		return clients;
+	}
+}
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.DisplayName;
 
 import io.github.marcopaglio.booking.model.Client;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.presenter.dispatching.DispatchingBookingPresenter;
+import io.github.marcopaglio.booking.presenter.dispatching.KeyedDispatcher;
 import io.github.marcopaglio.booking.presenter.served.ServedBookingPresenter;
 import io.github.marcopaglio.booking.service.transactional.TransactionalBookingService;
 import io.github.marcopaglio.booking.validator.restricted.RestrictedClientValidator;
@@ -120,7 +122,8 @@ public abstract class ModelSwingViewServedPresenterIT extends AssertJSwingJUnitT
 					transactionalBookingService, restrictedClientValidator,
 					restrictedReservationValidator);
 			
-			bookingSwingView.setBookingPresenter(servedBookingPresenter);
+			bookingSwingView.setBookingPresenter(new DispatchingBookingPresenter(
+					servedBookingPresenter, bookingSwingView, new KeyedDispatcher(2, 16)));
 			return bookingSwingView;
 		}));
 		window.show();
@@ -0,0 +1,77 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Rectangle;
+import java.util.stream.IntStream;
+
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the time spent on the event dispatch thread and the rows kept in memory
+ * while scrolling a list of 1M rows shown through a {@code PagedListModel}.
+ */
+@DisplayName("EDT benchmark for PagedListModel class")
+class PagedListModelBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(PagedListModelBenchmarkIT.class);
+
+	private static final int ROWS = 1_000_000;
+	private static final int PAGE_SIZE = 100;
+	private static final int CACHED_PAGES = 16;
+	private static final int STEPS = 1_000;
+	private static final int VISIBLE_ROWS = 25;
+	private static final long MAX_STEP_NANOS = 50_000_000L;
+
+	private PagedListModel<String> model;
+
+	@Test
+	@DisplayName("Scrolling the list")
+	void testScrollingWhenListHasOneMillionRowsShouldKeepFewPagesAndShortSteps() throws Exception {
+		// pages are loaded right after the step requesting them, as an instant database would do
+		SwingUtilities.invokeAndWait(() -> model = new PagedListModel<>(PAGE_SIZE, CACHED_PAGES,
+				(offset, limit) -> SwingUtilities.invokeLater(() -> model.pageLoaded(offset, ROWS,
+						IntStream.range(offset, Math.min(offset + limit, ROWS))
+							.mapToObj(i -> "Row " + i).toList())),
+				Runnable::run));
+		JList<String> list = new JList<>();
+		long[] worst = { 0L };
+		int[] maxCached = { 0 };
+		SwingUtilities.invokeAndWait(() -> {
+			list.setModel(model);
+			list.setFixedCellHeight(16);
+			list.setFixedCellWidth(200);
+			JScrollPane scrollPane = new JScrollPane(list);
+			scrollPane.setSize(200, VISIBLE_ROWS * 16);
+			scrollPane.doLayout();
+			model.invalidate();
+		});
+
+		for (int step = 0; step < STEPS; step++) {
+			int row = (int) ((long) step * (ROWS - 1) / (STEPS - 1));
+			SwingUtilities.invokeAndWait(() -> {
+				long start = System.nanoTime();
+				Rectangle cell = list.getCellBounds(row, row);
+				list.scrollRectToVisible(cell);
+				// the rows shown, as read when the list is painted
+				for (int shown = row; shown < Math.min(row + VISIBLE_ROWS, ROWS); shown++)
+					model.getElementAt(shown);
+				worst[0] = Math.max(worst[0], System.nanoTime() - start);
+				maxCached[0] = Math.max(maxCached[0], model.getCachedCount());
+			});
+		}
+		SwingUtilities.invokeAndWait(() -> {});
+
+		LOGGER.info(() -> String.format("Scrolling %d rows: slowest step %.1f ms, at most %d rows kept",
+				ROWS, worst[0] / 1e6, maxCached[0]));
+		assertThat(list.getModel().getSize()).isEqualTo(ROWS);
+		assertThat(maxCached[0]).isLessThanOrEqualTo(CACHED_PAGES * PAGE_SIZE);
+		assertThat(worst[0]).isLessThan(MAX_STEP_NANOS);
+	}
+}
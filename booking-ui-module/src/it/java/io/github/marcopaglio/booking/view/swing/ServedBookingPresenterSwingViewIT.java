@@ -1,5 +1,6 @@
 package io.github.marcopaglio.booking.view.swing;
 
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -211,7 +212,7 @@ public class ServedBookingPresenterSwingViewIT extends AssertJSwingJUnitTestCase
 			addReservationInList(reservation);
 			
 			doThrow(new InstanceNotFoundException())
-				.when(bookingService).removeReservationOn(A_LOCALDATE);
+				.when(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
 			
 			servedBookingPresenter.deleteReservation(reservation);
 			
@@ -0,0 +1,91 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.ListModel;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the time spent on the event dispatch thread for showing snapshots of 50k rows
+ * through a {@code DefaultListModel}, cleared and filled, and through a {@code SnapshotListModel}.
+ */
+@DisplayName("EDT benchmark for SnapshotListModel class")
+class SnapshotListModelBenchmarkIT {
+	private static final Logger LOGGER = LogManager.getLogger(SnapshotListModelBenchmarkIT.class);
+
+	private static final int ROWS = 50_000;
+	private static final int RUNS = 5;
+
+	private static final List<String> SNAPSHOT = IntStream.range(0, ROWS)
+			.mapToObj(i -> "Row " + i).toList();
+
+	@Test
+	@DisplayName("Filling the list")
+	void testReplaceAllWhenListIsEmptyShouldTakeLessTimeThanDefaultListModel() throws Exception {
+		long defaultNanos = measure(new DefaultListModel<>(),
+				model -> {}, model -> fill(model, SNAPSHOT));
+		long snapshotNanos = measure(new SnapshotListModel<>(),
+				model -> model.replaceAll(List.of()), model -> model.replaceAll(SNAPSHOT));
+
+		log("Filling", defaultNanos, snapshotNanos);
+		assertThat(snapshotNanos).isLessThan(defaultNanos);
+	}
+
+	@Test
+	@DisplayName("Refreshing the list with a changed row")
+	void testReplaceAllWhenOneRowIsChangedShouldTakeLessTimeThanDefaultListModel() throws Exception {
+		List<String> refreshed = new ArrayList<>(SNAPSHOT);
+		refreshed.set(ROWS / 2, "Changed row");
+
+		long defaultNanos = measure(new DefaultListModel<>(),
+				model -> fill(model, SNAPSHOT), model -> fill(model, refreshed));
+		long snapshotNanos = measure(new SnapshotListModel<>(),
+				model -> model.replaceAll(SNAPSHOT), model -> model.replaceAll(refreshed));
+
+		log("Refreshing", defaultNanos, snapshotNanos);
+		assertThat(snapshotNanos).isLessThan(defaultNanos);
+	}
+
+	private static void fill(DefaultListModel<String> model, List<String> rows) {
+		model.clear();
+		rows.forEach(model::addElement);
+	}
+
+	/**
+	 * Measures the best time of the update on the event dispatch thread,
+	 * with the model shown by a list inside a scroll pane.
+	 */
+	private static <M extends ListModel<String>> long measure(M model,
+			Consumer<M> prepare, Consumer<M> update) throws Exception {
+		long[] best = { Long.MAX_VALUE };
+		SwingUtilities.invokeAndWait(() -> {
+			JList<String> list = new JList<>(model);
+			new JScrollPane(list);
+			for (int run = 0; run < RUNS; run++) {
+				prepare.accept(model);
+				long start = System.nanoTime();
+				update.accept(model);
+				best[0] = Math.min(best[0], System.nanoTime() - start);
+			}
+		});
+		return best[0];
+	}
+
+	private static void log(String scenario, long defaultNanos, long snapshotNanos) {
+		LOGGER.info(() -> String.format("%s %d rows: DefaultListModel %.1f ms, SnapshotListModel %.1f ms",
+				scenario, ROWS, defaultNanos / 1e6, snapshotNanos / 1e6));
+	}
+}
@@ -19,6 +19,21 @@ public interface BookingPresenter {
 	 */
 	public void allReservations();
 
+	/**
+	 * Provides a page of the existing reservations in the repository, ordered by date
+	 * and resource, together with their total number to the view(s).
+	 *
+	 * @param offset	the number of reservations preceding the page.
+	 * @param limit		the maximum number of reservations of the page.
+	 */
+	public void reservationsPage(int offset, int limit);
+
+	/**
+	 * Provides all the existing clients and their reservations in the repository to the view(s),
+	 * as read together at once.
+	 */
+	public void allClientsAndReservations();
+
 	/**
 	 * Removes an existing client and all his reservations from the repository and notifies the 
 	 * view(s) about the changes.
@@ -45,8 +60,8 @@ public interface BookingPresenter {
 	public void addClient(String firstName, String lastName);
 
 	/**
-	 * Creates and inserts a new reservation in the repository and notifies the view(s)
-	 * about the changes.
+	 * Creates and inserts a new reservation of the default resource in the repository
+	 * and notifies the view(s) about the changes.
 	 * 
 	 * @param client	the associated client of the reservation to add.
 	 * @param date		the date of the reservation to add.
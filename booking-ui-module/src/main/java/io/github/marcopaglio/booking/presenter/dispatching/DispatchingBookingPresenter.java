@@ -0,0 +1,195 @@
+package io.github.marcopaglio.booking.presenter.dispatching;
+
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+import io.github.marcopaglio.booking.view.BookingView;
+
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+
+/**
+ * A decorator of the presenter for the booking application which runs its operations
+ * asynchronously through a {@code KeyedDispatcher}, so that the callers are never blocked.
+ * Operations on the same client are serialized by its identifier and operations
+ * on reservations by their resource and date, while unrelated operations run in parallel;
+ * reading operations are not ordered. When too many operations are waiting,
+ * new ones are refused and the view is notified about it.
+ */
+public class DispatchingBookingPresenter implements BookingPresenter {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(DispatchingBookingPresenter.class);
+
+	/**
+	 * The presenter whose operations are dispatched.
+	 */
+	private final BookingPresenter delegate;
+
+	/**
+	 * Displays the refusals of the operations on a user interface.
+	 */
+	private final BookingView view;
+
+	/**
+	 * Runs the operations of the presenter.
+	 */
+	private final KeyedDispatcher dispatcher;
+
+	/**
+	 * Constructs a presenter dispatching the operations of another one.
+	 *
+	 * @param delegate		the {@code BookingPresenter} whose operations are dispatched.
+	 * @param view			the {@code BookingView} notified about refused operations.
+	 * @param dispatcher	the {@code KeyedDispatcher} running the operations.
+	 */
+	public DispatchingBookingPresenter(BookingPresenter delegate, BookingView view, KeyedDispatcher dispatcher) {
+		this.delegate = delegate;
+		this.view = view;
+		this.dispatcher = dispatcher;
+	}
+
+	/**
+	 * Dispatches the provision of all the existing clients.
+	 */
+	@Override
+	public void allClients() {
+		dispatch(null, delegate::allClients);
+	}
+
+	/**
+	 * Dispatches the provision of all the existing reservations.
+	 */
+	@Override
+	public void allReservations() {
+		dispatch(null, delegate::allReservations);
+	}
+
+	/**
+	 * Dispatches the provision of a page of the existing reservations.
+	 *
+	 * @param offset	the number of reservations preceding the page.
+	 * @param limit		the maximum number of reservations of the page.
+	 */
+	@Override
+	public void reservationsPage(int offset, int limit) {
+		dispatch(null, () -> delegate.reservationsPage(offset, limit));
+	}
+
+	/**
+	 * Dispatches the provision of all the existing clients and their reservations.
+	 */
+	@Override
+	public void allClientsAndReservations() {
+		dispatch(null, delegate::allClientsAndReservations);
+	}
+
+	/**
+	 * Dispatches the removal of a client after the other operations on it.
+	 *
+	 * @param client	the client to delete.
+	 */
+	@Override
+	public void deleteClient(Client client) {
+		dispatch(keyOf(client), () -> delegate.deleteClient(client));
+	}
+
+	/**
+	 * Dispatches the removal of a reservation after the other operations on its resource and date.
+	 *
+	 * @param reservation	the reservation to delete.
+	 */
+	@Override
+	public void deleteReservation(Reservation reservation) {
+		dispatch(keyOf(reservation), () -> delegate.deleteReservation(reservation));
+	}
+
+	/**
+	 * Dispatches the insertion of a client after the other insertions with the same names.
+	 *
+	 * @param firstName	the name of the client to add.
+	 * @param lastName	the surname of the client to add.
+	 */
+	@Override
+	public void addClient(String firstName, String lastName) {
+		dispatch(Arrays.asList(firstName, lastName), () -> delegate.addClient(firstName, lastName));
+	}
+
+	/**
+	 * Dispatches the insertion of a reservation, which is of the default resource, after
+	 * the other operations on that resource and its date.
+	 *
+	 * @param client	the associated client of the reservation to add.
+	 * @param date		the date of the reservation to add.
+	 */
+	@Override
+	public void addReservation(Client client, String date) {
+		dispatch(Arrays.asList(DEFAULT_RESOURCE, date), () -> delegate.addReservation(client, date));
+	}
+
+	/**
+	 * Dispatches the renaming of a client after the other operations on it.
+	 *
+	 * @param client		the client to modify.
+	 * @param newFirstName	the new name for the client.
+	 * @param newLastName	the new surname for the client.
+	 */
+	@Override
+	public void renameClient(Client client, String newFirstName, String newLastName) {
+		dispatch(keyOf(client), () -> delegate.renameClient(client, newFirstName, newLastName));
+	}
+
+	/**
+	 * Dispatches the rescheduling of a reservation after the other operations on its resource and date.
+	 *
+	 * @param reservation	the reservation to modify.
+	 * @param newDate		the new date for the reservation.
+	 */
+	@Override
+	public void rescheduleReservation(Reservation reservation, String newDate) {
+		dispatch(keyOf(reservation), () -> delegate.rescheduleReservation(reservation, newDate));
+	}
+
+	/**
+	 * Dispatches the operation, notifying the view if it is refused.
+	 *
+	 * @param key		the key ordering the operation, or {@code null} for no ordering.
+	 * @param operation	the operation to run.
+	 */
+	private void dispatch(Object key, Runnable operation) {
+		try {
+			dispatcher.dispatch(key, operation);
+		} catch(RejectedExecutionException e) {
+			LOGGER.warn(e.getMessage());
+			view.showOperationError("Too many operations are in progress: please retry later.");
+		}
+	}
+
+	/**
+	 * Computes the key ordering the operations on the client.
+	 *
+	 * @param client	the client operated on.
+	 * @return			the identifier of {@code client}, or {@code null} if it is missing.
+	 */
+	private static Object keyOf(Client client) {
+		return client == null ? null : client.getId();
+	}
+
+	/**
+	 * Computes the key ordering the operations on the reservation.
+	 *
+	 * @param reservation	the reservation operated on.
+	 * @return				the resource and the date of {@code reservation} as text, like those
+	 * 						of new ones, or {@code null} if it is missing.
+	 */
+	private static Object keyOf(Reservation reservation) {
+		return reservation == null || reservation.getDate() == null ? null
+				: Arrays.asList(reservation.getResource(), reservation.getDate().toString());
+	}
+}
@@ -0,0 +1,265 @@
+package io.github.marcopaglio.booking.presenter.dispatching;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs tasks on a bounded pool of worker threads, serializing those dispatched under
+ * the same key in their dispatching order, while tasks under different keys run in parallel.
+ * Tasks without a key are not ordered at all. The number of tasks waiting to start is
+ * bounded too: once the capacity is reached, new tasks are rejected instead of queued.
+ * The dispatcher keeps track of the tasks waiting and of how long they waited.
+ */
+public class KeyedDispatcher implements AutoCloseable {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(KeyedDispatcher.class);
+
+	/**
+	 * The pool of worker threads running the tasks.
+	 */
+	private final ThreadPoolExecutor workers;
+
+	/**
+	 * The maximum number of tasks waiting to start.
+	 */
+	private final int capacity;
+
+	/**
+	 * Tasks waiting for the running one with the same key, by key.
+	 * A key is present as long as a task of it is submitted to the workers.
+	 */
+	private final Map<Object, Deque<Task>> backlogs;
+
+	/**
+	 * Number of tasks dispatched but not started yet.
+	 */
+	private int queueDepth;
+
+	/**
+	 * Number of tasks started so far.
+	 */
+	private long startedCount;
+
+	/**
+	 * Number of tasks rejected so far.
+	 */
+	private long rejectedCount;
+
+	/**
+	 * Total time in nanoseconds the started tasks waited before starting.
+	 */
+	private long totalWaitNanos;
+
+	/**
+	 * Longest time in nanoseconds a started task waited before starting.
+	 */
+	private long maxWaitNanos;
+
+	/**
+	 * Constructs a dispatcher with the specified number of workers and capacity.
+	 *
+	 * @param workerCount				the number of worker threads.
+	 * @param capacity					the maximum number of tasks waiting to start.
+	 * @throws IllegalArgumentException	if {@code workerCount} or {@code capacity} is not positive.
+	 */
+	public KeyedDispatcher(int workerCount, int capacity) throws IllegalArgumentException {
+		if (workerCount <= 0)
+			throw new IllegalArgumentException("Number of dispatching workers must be positive.");
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Capacity of dispatching queue must be positive.");
+
+		this.capacity = capacity;
+		this.backlogs = new HashMap<>();
+		AtomicInteger threadCount = new AtomicInteger();
+		// at most one task per key is handed to the workers, so their queue never overflows
+		this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(capacity), task -> {
+					Thread thread = new Thread(task, getClass().getSimpleName() + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Dispatches the task to be run after the ones already dispatched with the same key.
+	 *
+	 * @param key							the key ordering the task, or {@code null} for no ordering.
+	 * @param task							the task to run.
+	 * @throws RejectedExecutionException	if the capacity of the dispatcher is reached
+	 * 										or the dispatcher is closed.
+	 */
+	public synchronized void dispatch(Object key, Runnable task) throws RejectedExecutionException {
+		if (workers.isShutdown())
+			throw new RejectedExecutionException("Dispatcher has already been closed.");
+		if (queueDepth >= capacity) {
+			rejectedCount++;
+			throw new RejectedExecutionException("Too many operations are waiting to be run.");
+		}
+
+		queueDepth++;
+		Task dispatched = new Task(key, task, System.nanoTime());
+		if (key != null) {
+			Deque<Task> backlog = backlogs.get(key);
+			if (backlog != null) {
+				backlog.add(dispatched);
+				return;
+			}
+			backlogs.put(key, new ArrayDeque<>());
+		}
+		try {
+			workers.execute(() -> run(dispatched));
+		} catch(RejectedExecutionException e) {
+			// the task was never handed to the workers, hence it neither waits nor holds its key
+			queueDepth--;
+			if (key != null)
+				backlogs.remove(key);
+			rejectedCount++;
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs the task, then hands the next task with the same key to the workers, if any.
+	 *
+	 * @param task	the task to run.
+	 */
+	private void run(Task task) {
+		started(task);
+		try {
+			task.action.run();
+		} catch(RuntimeException e) {
+			LOGGER.error(() -> String.format("Dispatched operation fails due to %s: %s",
+					e.getClass(), e.getMessage()));
+		} finally {
+			next(task.key);
+		}
+	}
+
+	/**
+	 * Updates the statistics about the task starting now.
+	 *
+	 * @param task	the task starting.
+	 */
+	private synchronized void started(Task task) {
+		long waitNanos = System.nanoTime() - task.dispatchedAt;
+		queueDepth--;
+		startedCount++;
+		totalWaitNanos += waitNanos;
+		maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+	}
+
+	/**
+	 * Hands the next task with the specified key to the workers, or forgets the key
+	 * if no task of it is waiting.
+	 *
+	 * @param key	the key of the task just run.
+	 */
+	private synchronized void next(Object key) {
+		if (key == null)
+			return;
+
+		Task nextTask = backlogs.get(key).poll();
+		if (nextTask == null) {
+			backlogs.remove(key);
+			return;
+		}
+		try {
+			workers.execute(() -> run(nextTask));
+		} catch(RejectedExecutionException e) {
+			LOGGER.warn(() -> "Dispatched operations are dropped since the dispatcher has been closed.");
+			// the next task and the ones behind it will never start
+			queueDepth -= 1 + backlogs.remove(key).size();
+		}
+	}
+
+	/**
+	 * Retrieves the number of tasks dispatched but not started yet.
+	 *
+	 * @return	the number of tasks waiting to start.
+	 */
+	public synchronized int getQueueDepth() {
+		return queueDepth;
+	}
+
+	/**
+	 * Retrieves the number of tasks rejected since the creation of the dispatcher.
+	 *
+	 * @return	the number of tasks rejected.
+	 */
+	public synchronized long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * Retrieves the average time the started tasks waited before starting.
+	 *
+	 * @return	the average {@code Duration} of the waits, or zero if no task has started yet.
+	 */
+	public synchronized Duration getAverageWait() {
+		return startedCount == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / startedCount);
+	}
+
+	/**
+	 * Retrieves the longest time a started task waited before starting.
+	 *
+	 * @return	the longest {@code Duration} of the waits, or zero if no task has started yet.
+	 */
+	public synchronized Duration getMaxWait() {
+		return Duration.ofNanos(maxWaitNanos);
+	}
+
+	/**
+	 * Stops accepting tasks, letting the workers finish the ones already handed to them.
+	 * The tasks still waiting for their key are dropped.
+	 */
+	@Override
+	public synchronized void close() {
+		workers.shutdown();
+	}
+
+	/**
+	 * A task dispatched with its key and the instant of its dispatching.
+	 */
+	private static class Task {
+		/**
+		 * The key ordering the task, or {@code null}.
+		 */
+		private final Object key;
+
+		/**
+		 * The action of the task.
+		 */
+		private final Runnable action;
+
+		/**
+		 * The value of {@code System.nanoTime()} when the task was dispatched.
+		 */
+		private final long dispatchedAt;
+
+		/**
+		 * Constructs a dispatched task.
+		 *
+		 * @param key			the key ordering the task, or {@code null}.
+		 * @param action		the action of the task.
+		 * @param dispatchedAt	the value of {@code System.nanoTime()} when the task was dispatched.
+		 */
+		private Task(Object key, Runnable action, long dispatchedAt) {
+			this.key = key;
+			this.action = action;
+			this.dispatchedAt = dispatchedAt;
+		}
+	}
+}
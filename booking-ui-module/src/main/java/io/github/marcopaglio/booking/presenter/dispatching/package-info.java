@@ -0,0 +1,5 @@
+/**
+ * Contains a decorator of the presenter for the booking application running its operations
+ * on a bounded pool of threads, ordered by the entity they affect.
+ */
+package io.github.marcopaglio.booking.presenter.dispatching;
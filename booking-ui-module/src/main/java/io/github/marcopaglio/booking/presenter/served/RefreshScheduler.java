@@ -0,0 +1,166 @@
+package io.github.marcopaglio.booking.presenter.served;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a full refresh on request, merging the requests made while a refresh is waiting
+ * or running into a single further refresh. With a positive window, requests are debounced:
+ * the refresh runs on a background thread once the window has elapsed since the first
+ * pending request; otherwise it runs on the thread of the request.
+ * Requests already covered by a snapshot taken after them are skipped.
+ */
+class RefreshScheduler {
+	/**
+	 * The full refresh to run.
+	 */
+	private final Runnable refresh;
+
+	/**
+	 * The window over which requests are debounced.
+	 */
+	private final Duration window;
+
+	/**
+	 * The executor running the debounced refreshes, created on the first one.
+	 */
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Sequence number of the last request.
+	 */
+	private long requestSequence;
+
+	/**
+	 * Sequence number of the last request covered by a snapshot.
+	 */
+	private long coveredSequence;
+
+	/**
+	 * Tells whether a debounced refresh is waiting to run.
+	 */
+	private boolean scheduled;
+
+	/**
+	 * Tells whether a refresh is running.
+	 */
+	private boolean running;
+
+	/**
+	 * Number of refreshes requested so far.
+	 */
+	private long requestedCount;
+
+	/**
+	 * Number of refreshes run so far.
+	 */
+	private long performedCount;
+
+	/**
+	 * Constructs a scheduler of the specified refresh.
+	 *
+	 * @param refresh					the full refresh to run.
+	 * @param window					the window over which requests are debounced,
+	 * 									or zero for no debouncing.
+	 * @throws IllegalArgumentException	if {@code window} is null or negative.
+	 */
+	RefreshScheduler(Runnable refresh, Duration window) throws IllegalArgumentException {
+		if (window == null || window.isNegative())
+			throw new IllegalArgumentException("Window of refresh debouncing cannot be negative.");
+
+		this.refresh = refresh;
+		this.window = window;
+	}
+
+	/**
+	 * Requests a full refresh, which is merged with the ones already pending.
+	 */
+	void requestRefresh() {
+		synchronized (this) {
+			requestedCount++;
+			requestSequence++;
+			if (running || scheduled)
+				return;
+			if (!window.isZero()) {
+				scheduled = true;
+				executor().schedule(this::runScheduled, window.toNanos(), TimeUnit.NANOSECONDS);
+				return;
+			}
+			running = true;
+		}
+		drain();
+	}
+
+	/**
+	 * Records that a snapshot is going to be taken, covering the requests made so far.
+	 */
+	synchronized void snapshotTaken() {
+		coveredSequence = requestSequence;
+	}
+
+	/**
+	 * Retrieves the number of requested refreshes that have been merged or skipped.
+	 *
+	 * @return	the number of refreshes saved.
+	 */
+	synchronized long getSavedCount() {
+		return requestedCount - performedCount;
+	}
+
+	/**
+	 * Runs a debounced refresh, unless a refresh is already running and will cover it.
+	 */
+	private void runScheduled() {
+		synchronized (this) {
+			scheduled = false;
+			if (running)
+				return;
+			running = true;
+		}
+		drain();
+	}
+
+	/**
+	 * Runs refreshes as long as there are requests not covered by a snapshot.
+	 * Note: the caller must have marked the refresh as running.
+	 */
+	private void drain() {
+		try {
+			while (true) {
+				synchronized (this) {
+					// checked and released atomically, so that no request is left behind
+					if (coveredSequence >= requestSequence) {
+						running = false;
+						return;
+					}
+					coveredSequence = requestSequence;
+					performedCount++;
+				}
+				refresh.run();
+			}
+		} catch(RuntimeException e) {
+			synchronized (this) {
+				running = false;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves the executor of the debounced refreshes, creating it if missing.
+	 *
+	 * @return	the {@code ScheduledExecutorService} of the debounced refreshes.
+	 */
+	private ScheduledExecutorService executor() {
+		if (executor == null) {
+			executor = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, getClass().getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+}
@@ -1,17 +1,28 @@
 package io.github.marcopaglio.booking.presenter.served;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeFeed;
+import io.github.marcopaglio.booking.changefeed.ChangeListener;
 import io.github.marcopaglio.booking.exception.DatabaseException;
 import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
 import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 import io.github.marcopaglio.booking.presenter.BookingPresenter;
 import io.github.marcopaglio.booking.service.BookingService;
 import io.github.marcopaglio.booking.validator.ClientValidator;
@@ -21,13 +32,25 @@ import io.github.marcopaglio.booking.view.BookingView;
 /**
  * A concrete implementation of the presenter for the booking application using
  * a single view and delegating operations on repositories to a service layer.
+ * When following a change feed, the presenter also turns the changes made by other
+ * instances of the application into updates of the view, skipping the echoes of its own.
+ * Operations on the same client, identified by its names, or on the same resource at the same
+ * date are serialized through striped locks, while the others run in parallel. Adding a reservation
+ * locks both its date and its client, so that it cannot interleave with the deletion of the client.
+ * The full refreshes requested after failed operations are merged, and optionally debounced,
+ * by a {@code RefreshScheduler}.
  */
-public class ServedBookingPresenter implements BookingPresenter {
+public class ServedBookingPresenter implements BookingPresenter, ChangeListener {
 	/**
 	 * Creates meaningful logs on behalf of the class.
 	 */
 	private static final Logger LOGGER = LogManager.getLogger(ServedBookingPresenter.class);
 
+	/**
+	 * Number of locks guarding the operations on clients and on dates of resources.
+	 */
+	private static final int LOCK_STRIPES = 64;
+
 	/**
 	 * Displays changes of the model on a user interface.
 	 */
@@ -48,6 +71,39 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 */
 	private ReservationValidator reservationValidator;
 
+	/**
+	 * Tells whether the presenter follows a change feed.
+	 */
+	private volatile boolean followingChanges;
+
+	/**
+	 * Tells whether the changes are shown by the view before the service layer confirms them.
+	 */
+	private volatile boolean optimistic;
+
+	/**
+	 * Number of pending echoes of the changes made by this presenter,
+	 * by kind of change and identifier of the entity.
+	 */
+	private final Map<String, Integer> pendingEchoes = new ConcurrentHashMap<>();
+
+	/**
+	 * Identifiers of the clients removed by this presenter whose deletion has not been
+	 * echoed yet, used to skip the echoes of the deletion of their reservations.
+	 */
+	private final Set<UUID> clientsBeingRemoved = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Serializes the operations on the same client, by names, or on the same resource at the same
+	 * date, including the updates of the view coming from the change feed.
+	 */
+	private final StripedLocks locks = new StripedLocks(LOCK_STRIPES);
+
+	/**
+	 * Merges and debounces the full refreshes requested after failed operations.
+	 */
+	private final RefreshScheduler refreshScheduler;
+
 	/**
 	 * Constructs a presenter for the booking application with a view and a service.
 	 * 
@@ -58,10 +114,63 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 */
 	public ServedBookingPresenter(BookingView view, BookingService bookingService,
 			ClientValidator clientValidator, ReservationValidator reservationValidator) {
+		this(view, bookingService, clientValidator, reservationValidator, Duration.ZERO);
+	}
+
+	/**
+	 * Constructs a presenter for the booking application with a view and a service,
+	 * debouncing the full refreshes requested after failed operations over the specified window.
+	 * 
+	 * @param view						the {@code View} used to show the user interface.
+	 * @param bookingService			the {@code BookingService} used to interact with repositories.
+	 * @param clientValidator			the inputs checker for {@code Client} entities. 
+	 * @param reservationValidator		the inputs checker for {@code Reservation} entities.
+	 * @param refreshWindow				the window over which full refreshes are debounced,
+	 * 									or zero for refreshing at once.
+	 * @throws IllegalArgumentException	if {@code refreshWindow} is null or negative.
+	 */
+	public ServedBookingPresenter(BookingView view, BookingService bookingService,
+			ClientValidator clientValidator, ReservationValidator reservationValidator,
+			Duration refreshWindow) throws IllegalArgumentException {
 		this.view = view;
 		this.bookingService = bookingService;
 		this.clientValidator = clientValidator;
 		this.reservationValidator = reservationValidator;
+		this.refreshScheduler = new RefreshScheduler(this::allClientsAndReservations, refreshWindow);
+	}
+
+	/**
+	 * Retrieves the number of full refreshes requested after failed operations
+	 * that have been merged with others or skipped, since covered by a newer snapshot.
+	 * 
+	 * @return	the number of full refreshes saved.
+	 */
+	public long getSavedRefreshCount() {
+		return refreshScheduler.getSavedCount();
+	}
+
+	/**
+	 * Registers the presenter as listener of the change feed, so that the view is
+	 * updated about the changes made by other instances of the application.
+	 * 
+	 * @param changeFeed	the {@code ChangeFeed} to follow.
+	 */
+	public synchronized void followChanges(ChangeFeed changeFeed) {
+		changeFeed.addListener(this);
+		followingChanges = true;
+	}
+
+	/**
+	 * Sets whether the insertions of clients and reservations and the renaming of clients
+	 * are shown by the view as pending before being delegated to the service layer, so that
+	 * the view does not wait for the database. A pending change is confirmed when the service
+	 * layer returns, or withdrawn before showing the error if the operation fails.
+	 * 
+	 * @param optimistic	{@code true} for showing the changes in advance;
+	 * 						{@code false} for showing them once done.
+	 */
+	public void setOptimistic(boolean optimistic) {
+		this.optimistic = optimistic;
 	}
 
 	/**
@@ -95,12 +204,41 @@ public class ServedBookingPresenter implements BookingPresenter {
 	}
 
 	/**
-	 * Finds all the existing entities in the repository through the service layer and
-	 * gives the lists to the view for showing them.
+	 * Finds a page of the existing reservations in the repository, together with their
+	 * total number, through the service layer and gives it to the view for showing it.
+	 * 
+	 * @param offset	the number of reservations preceding the page.
+	 * @param limit		the maximum number of reservations of the page.
 	 */
-	private void updateAll() {
-		allReservations();
-		allClients();
+	@Override
+	public void reservationsPage(int offset, int limit) {
+		try {
+			ReservationPage page = bookingService.findReservationsPage(offset, limit);
+			view.showReservationsPage(page);
+			LOGGER.debug(() -> String.format("%s has been retrieved with success.", page.toString()));
+		} catch(DatabaseException e) {
+			LOGGER.warn(e.getMessage());
+			view.showOperationError(databaseErrorMsg("updating reservations"));
+		}
+	}
+
+	/**
+	 * Finds all the existing clients and their reservations in the repository through
+	 * a single snapshot of the service layer and gives the lists to the view for showing them,
+	 * so that the two lists are consistent with each other.
+	 */
+	@Override
+	public void allClientsAndReservations() {
+		try {
+			refreshScheduler.snapshotTaken();
+			BookingSnapshot snapshot = bookingService.snapshot();
+			view.showAllReservations(snapshot.getReservations());
+			view.showAllClients(snapshot.getClients());
+			LOGGER.info(() -> String.format("%s has been retrieved with success.", snapshot.toString()));
+		} catch(DatabaseException e) {
+			LOGGER.warn(e.getMessage());
+			view.showOperationError(databaseErrorMsg("updating clients and reservations"));
+		}
 	}
 
 	/**
@@ -111,29 +249,37 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 * @param client	the client to delete.
 	 */
 	@Override
-	public synchronized void deleteClient(Client client) {
+	public void deleteClient(Client client) {
 		if (client == null) {
 			LOGGER.warn("Client to delete cannot be null.");
 			view.showFormError("Select a client to delete.");
 		} else {
 			String firstName = client.getFirstName();
 			String lastName = client.getLastName();
-			try {
-				bookingService.removeClientNamed(firstName, lastName);
-				allReservations();
-				view.clientRemoved(client);
-				LOGGER.info(() -> String.format("%s and all his reservations have been deleted with success.", client.toString()));
-			} catch (InstanceNotFoundException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(instanceNotFoundErrorMsg(
-						getClientStringToDisplay(firstName, lastName)));
-				updateAll();
-			} catch(DatabaseException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(databaseErrorMsg("deleting "
-						+ getClientStringToDisplay(firstName, lastName)));
-				updateAll();
-			}
+			locks.runLocked(() -> {
+				// marked in advance, since the echoes of its reservations can precede the end of the removal
+				if (followingChanges)
+					clientsBeingRemoved.add(client.getId());
+				try {
+					bookingService.removeClientNamed(firstName, lastName);
+					expectEcho(Kind.DELETE, client.getId());
+					allReservations();
+					view.clientRemoved(client);
+					LOGGER.info(() -> String.format("%s and all his reservations have been deleted with success.", client.toString()));
+				} catch (InstanceNotFoundException e) {
+					clientsBeingRemoved.remove(client.getId());
+					LOGGER.warn(e.getMessage());
+					view.showOperationError(instanceNotFoundErrorMsg(
+							getClientStringToDisplay(firstName, lastName)));
+					refreshScheduler.requestRefresh();
+				} catch(DatabaseException e) {
+					clientsBeingRemoved.remove(client.getId());
+					LOGGER.warn(e.getMessage());
+					view.showOperationError(databaseErrorMsg("deleting "
+							+ getClientStringToDisplay(firstName, lastName)));
+					refreshScheduler.requestRefresh();
+				}
+			}, namesKey(firstName, lastName));
 		}
 	}
 
@@ -144,27 +290,30 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 * @param reservation	the reservation to delete.
 	 */
 	@Override
-	public synchronized void deleteReservation(Reservation reservation) {
+	public void deleteReservation(Reservation reservation) {
 		if (reservation == null) {
 			LOGGER.warn("Reservation to delete cannot be null.");
 			view.showFormError("Select a reservation to delete.");
 		} else {
 			LocalDate localDate = reservation.getDate();
-			try {
-				bookingService.removeReservationOn(localDate);
-				view.reservationRemoved(reservation);
-				LOGGER.info(() -> String.format("%s has been deleted with success.", reservation.toString()));
-			} catch (InstanceNotFoundException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(instanceNotFoundErrorMsg(
-						getReservationStringToDisplay(localDate)));
-				updateAll();
-			} catch(DatabaseException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(databaseErrorMsg("deleting "
-						+ getReservationStringToDisplay(localDate)));
-				updateAll();
-			}
+			locks.runLocked(() -> {
+				try {
+					bookingService.removeReservationOn(reservation.getResource(), localDate);
+					expectEcho(Kind.DELETE, reservation.getId());
+					view.reservationRemoved(reservation);
+					LOGGER.info(() -> String.format("%s has been deleted with success.", reservation.toString()));
+				} catch (InstanceNotFoundException e) {
+					LOGGER.warn(e.getMessage());
+					view.showOperationError(instanceNotFoundErrorMsg(
+							getReservationStringToDisplay(localDate)));
+					refreshScheduler.requestRefresh();
+				} catch(DatabaseException e) {
+					LOGGER.warn(e.getMessage());
+					view.showOperationError(databaseErrorMsg("deleting "
+							+ getReservationStringToDisplay(localDate)));
+					refreshScheduler.requestRefresh();
+				}
+			}, slotKey(reservation));
 		}
 	}
 
@@ -176,25 +325,35 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 * @param lastName	the surname of the client to add.
 	 */
 	@Override
-	public synchronized void addClient(String firstName, String lastName) {
+	public void addClient(String firstName, String lastName) {
 		Client client = createClient(firstName, lastName);
 		
 		if (client != null) {
-			try {
-				Client clientInDB = bookingService.insertNewClient(client);
-				view.clientAdded(clientInDB);
-				LOGGER.info(() -> String.format("%s has been added with success.", clientInDB.toString()));
-			} catch(InstanceAlreadyExistsException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(instanceAlreadyExistsErrorMsg(
-						getClientStringToDisplay(client.getFirstName(), client.getLastName())));
-				updateAll();
-			} catch(DatabaseException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(databaseErrorMsg("adding "
-						+ getClientStringToDisplay(client.getFirstName(), client.getLastName())));
-				updateAll();
-			}
+			Client pendingClient = optimistic ? new Client(client.getFirstName(), client.getLastName()) : null;
+			if (pendingClient != null)
+				view.clientAdding(pendingClient);
+			locks.runLocked(() -> {
+				try {
+					Client clientInDB = bookingService.insertNewClient(client);
+					expectEcho(Kind.INSERT, clientInDB.getId());
+					view.clientAdded(clientInDB);
+					LOGGER.info(() -> String.format("%s has been added with success.", clientInDB.toString()));
+				} catch(InstanceAlreadyExistsException e) {
+					LOGGER.warn(e.getMessage());
+					if (pendingClient != null)
+						view.clientAddingFailed(pendingClient);
+					view.showOperationError(instanceAlreadyExistsErrorMsg(
+							getClientStringToDisplay(client.getFirstName(), client.getLastName())));
+					refreshScheduler.requestRefresh();
+				} catch(DatabaseException e) {
+					LOGGER.warn(e.getMessage());
+					if (pendingClient != null)
+						view.clientAddingFailed(pendingClient);
+					view.showOperationError(databaseErrorMsg("adding "
+							+ getClientStringToDisplay(client.getFirstName(), client.getLastName())));
+					refreshScheduler.requestRefresh();
+				}
+			}, namesKey(client.getFirstName(), client.getLastName()));
 		}
 	}
 
@@ -251,37 +410,51 @@ public class ServedBookingPresenter implements BookingPresenter {
 	}
 
 	/**
-	 * Validates and inserts a new reservation in the repository and notifies the view
-	 * about the changes. This method delegates the inserting to the service layer.
+	 * Validates and inserts a new reservation of the default resource in the repository
+	 * and notifies the view about the changes. This method delegates the inserting
+	 * to the service layer.
 	 * 
 	 * @param client	the associated client of the reservation to add.
 	 * @param date		the date of the reservation to add.
 	 */
 	@Override
-	public synchronized void addReservation(Client client, String date) {
+	public void addReservation(Client client, String date) {
 		Reservation reservation = createReservation(client, date);
 		
 		if (reservation != null) {
-			try {
-				Reservation reservationInDB = bookingService.insertNewReservation(reservation);
-				view.reservationAdded(reservationInDB);
-				LOGGER.info(() -> String.format("%s has been added with success.", reservationInDB.toString()));
-			} catch(InstanceAlreadyExistsException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(instanceAlreadyExistsErrorMsg(
-						getReservationStringToDisplay(reservation.getDate())));
-				updateAll();
-			} catch(InstanceNotFoundException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(instanceNotFoundErrorMsg(
-						getClientStringToDisplay(client.getFirstName(), client.getLastName())));
-				updateAll();
-			} catch(DatabaseException e) {
-				LOGGER.warn(e.getMessage());
-				view.showOperationError(databaseErrorMsg("adding "
-						+ getReservationStringToDisplay(reservation.getDate())));
-				updateAll();
-			}
+			Reservation pendingReservation = optimistic ? new Reservation(reservation.getClientId(),
+					reservation.getResource(), reservation.getDate()) : null;
+			if (pendingReservation != null)
+				view.reservationAdding(pendingReservation);
+			locks.runLocked(() -> {
+				try {
+					Reservation reservationInDB = bookingService.insertNewReservation(reservation);
+					expectEcho(Kind.INSERT, reservationInDB.getId());
+					view.reservationAdded(reservationInDB);
+					LOGGER.info(() -> String.format("%s has been added with success.", reservationInDB.toString()));
+				} catch(InstanceAlreadyExistsException e) {
+					LOGGER.warn(e.getMessage());
+					if (pendingReservation != null)
+						view.reservationAddingFailed(pendingReservation);
+					view.showOperationError(instanceAlreadyExistsErrorMsg(
+							getReservationStringToDisplay(reservation.getDate())));
+					refreshScheduler.requestRefresh();
+				} catch(InstanceNotFoundException e) {
+					LOGGER.warn(e.getMessage());
+					if (pendingReservation != null)
+						view.reservationAddingFailed(pendingReservation);
+					view.showOperationError(instanceNotFoundErrorMsg(
+							getClientStringToDisplay(client.getFirstName(), client.getLastName())));
+					refreshScheduler.requestRefresh();
+				} catch(DatabaseException e) {
+					LOGGER.warn(e.getMessage());
+					if (pendingReservation != null)
+						view.reservationAddingFailed(pendingReservation);
+					view.showOperationError(databaseErrorMsg("adding "
+							+ getReservationStringToDisplay(reservation.getDate())));
+					refreshScheduler.requestRefresh();
+				}
+			}, namesKey(client), slotKey(reservation));
 		}
 	}
 
@@ -354,49 +527,66 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 * @param newLastName	the new surname for the client.
 	 */
 	@Override
-	public synchronized void renameClient(Client client, String newFirstName, String newLastName) {
+	public void renameClient(Client client, String newFirstName, String newLastName) {
 		if (client == null) {
 			LOGGER.warn("Client to rename cannot be null.");
 			view.showFormError("Select a client to rename.");
 			return;
 		}
 		
+		String validatedFirstName;
+		String validatedLastName;
 		try {
-			newFirstName = getValidatedFirstName(newFirstName);
-			newLastName = getValidatedLastName(newLastName);
+			validatedFirstName = getValidatedFirstName(newFirstName);
+			validatedLastName = getValidatedLastName(newLastName);
 		} catch(IllegalArgumentException e) {
 			view.showFormError(e.getMessage());
 			return;
 		}
 		
-		if (Objects.equals(newFirstName, client.getFirstName())
-				&& Objects.equals(newLastName, client.getLastName())) {
+		if (Objects.equals(validatedFirstName, client.getFirstName())
+				&& Objects.equals(validatedLastName, client.getLastName())) {
 			LOGGER.warn("The new names are the same as the old ones.");
 			view.showFormError("Insert new names for the client to be renamed.");
 			return;
 		}
 		
-		try {
-			Client clientInDB = bookingService.renameClient(
-					client.getId(), newFirstName, newLastName);
-			view.clientRenamed(client, clientInDB);
-			LOGGER.info(() -> String.format("%s has been renamed with success.", clientInDB.toString()));
-		} catch(InstanceAlreadyExistsException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(instanceAlreadyExistsErrorMsg(
-					getClientStringToDisplay(newFirstName, newLastName)));
-			updateAll();
-		} catch(InstanceNotFoundException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(instanceNotFoundErrorMsg(
-					getClientStringToDisplay(client.getFirstName(), client.getLastName())));
-			updateAll();
-		} catch(DatabaseException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(databaseErrorMsg("renaming "
-					+ getClientStringToDisplay(client.getFirstName(), client.getLastName())));
-			updateAll();
+		Client pendingClient = optimistic ? new Client(validatedFirstName, validatedLastName) : null;
+		if (pendingClient != null) {
+			pendingClient.setId(client.getId());
+			view.clientRenaming(client, pendingClient);
 		}
+		locks.runLocked(() -> {
+			try {
+				Client clientInDB = bookingService.renameClient(
+						client.getId(), validatedFirstName, validatedLastName);
+				expectEcho(Kind.UPDATE, clientInDB.getId());
+				view.clientRenamed(client, clientInDB);
+				LOGGER.info(() -> String.format("%s has been renamed with success.", clientInDB.toString()));
+			} catch(InstanceAlreadyExistsException e) {
+				LOGGER.warn(e.getMessage());
+				if (pendingClient != null)
+					view.clientRenamingFailed(client, pendingClient);
+				view.showOperationError(instanceAlreadyExistsErrorMsg(
+						getClientStringToDisplay(validatedFirstName, validatedLastName)));
+				refreshScheduler.requestRefresh();
+			} catch(InstanceNotFoundException e) {
+				LOGGER.warn(e.getMessage());
+				if (pendingClient != null)
+					view.clientRenamingFailed(client, pendingClient);
+				view.showOperationError(instanceNotFoundErrorMsg(
+						getClientStringToDisplay(client.getFirstName(), client.getLastName())));
+				refreshScheduler.requestRefresh();
+			} catch(DatabaseException e) {
+				LOGGER.warn(e.getMessage());
+				if (pendingClient != null)
+					view.clientRenamingFailed(client, pendingClient);
+				view.showOperationError(databaseErrorMsg("renaming "
+						+ getClientStringToDisplay(client.getFirstName(), client.getLastName())));
+				refreshScheduler.requestRefresh();
+			}
+		}, namesKey(client.getFirstName(), client.getLastName()),
+				namesKey(validatedFirstName, validatedLastName));
 	}
 
 	/**
@@ -408,7 +598,7 @@ public class ServedBookingPresenter implements BookingPresenter {
 	 * @param newDate		the new date for the reservation.
 	 */
 	@Override
-	public synchronized void rescheduleReservation(Reservation reservation, String newDate) {
+	public void rescheduleReservation(Reservation reservation, String newDate) {
 		if (reservation == null) {
 			LOGGER.warn("Reservation to reschedule cannot be null.");
 			view.showFormError("Select a reservation to reschedule.");
@@ -429,27 +619,169 @@ public class ServedBookingPresenter implements BookingPresenter {
 			return;
 		}
 		
-		try {
-			Reservation reservationInDB = bookingService
-					.rescheduleReservation(reservation.getId(), validatedDate);
-			view.reservationRescheduled(reservation, reservationInDB);
-			LOGGER.info(() -> String.format("%s has been rescheduled with success.", reservationInDB.toString()));
-		} catch(InstanceAlreadyExistsException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(instanceAlreadyExistsErrorMsg(
-					getReservationStringToDisplay(validatedDate)));
-			updateAll();
-		} catch(InstanceNotFoundException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(instanceNotFoundErrorMsg(
-					getReservationStringToDisplay(reservation.getDate())));
-			updateAll();
-		} catch(DatabaseException e) {
-			LOGGER.warn(e.getMessage());
-			view.showOperationError(databaseErrorMsg("rescheduling "
-					+ getReservationStringToDisplay(reservation.getDate())));
-			updateAll();
-		}
+		locks.runLocked(() -> {
+			try {
+				Reservation reservationInDB = bookingService
+						.rescheduleReservation(reservation.getId(), validatedDate);
+				expectEcho(Kind.UPDATE, reservationInDB.getId());
+				view.reservationRescheduled(reservation, reservationInDB);
+				LOGGER.info(() -> String.format("%s has been rescheduled with success.", reservationInDB.toString()));
+			} catch(InstanceAlreadyExistsException e) {
+				LOGGER.warn(e.getMessage());
+				view.showOperationError(instanceAlreadyExistsErrorMsg(
+						getReservationStringToDisplay(validatedDate)));
+				refreshScheduler.requestRefresh();
+			} catch(InstanceNotFoundException e) {
+				LOGGER.warn(e.getMessage());
+				view.showOperationError(instanceNotFoundErrorMsg(
+						getReservationStringToDisplay(reservation.getDate())));
+				refreshScheduler.requestRefresh();
+			} catch(DatabaseException e) {
+				LOGGER.warn(e.getMessage());
+				view.showOperationError(databaseErrorMsg("rescheduling "
+						+ getReservationStringToDisplay(reservation.getDate())));
+				refreshScheduler.requestRefresh();
+			}
+		}, slotKey(reservation), slotKey(reservation.getResource(), validatedDate));
+	}
+
+	/**
+	 * Updates the view about a change made to a client by another instance of the application.
+	 * The clients are reloaded when the change lacks the state needed by the view.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the client.
+	 */
+	@Override
+	public void clientChanged(ChangeEvent<Client> event) {
+		Client before = event.getBefore();
+		Client after = event.getAfter();
+		locks.runLocked(() -> {
+			if (isEcho(event.getKind(), event.getId())) {
+				if (event.getKind() == Kind.DELETE)
+					clientsBeingRemoved.remove(event.getId());
+				return;
+			}
+			
+			if (event.getKind() == Kind.INSERT && after != null)
+				view.clientAdded(after);
+			else if (event.getKind() == Kind.UPDATE && before != null && after != null)
+				view.clientRenamed(before, after);
+			else if (event.getKind() == Kind.DELETE && before != null)
+				view.clientRemoved(before);
+			else
+				allClients();
+			LOGGER.info(() -> String.format("%s has been received from the change feed.", event.toString()));
+		}, namesKey(before), namesKey(after));
+	}
+
+	/**
+	 * Updates the view about a change made to a reservation by another instance of the
+	 * application. The reservations are reloaded when the change lacks the state needed
+	 * by the view.
+	 * 
+	 * @param event	the {@code ChangeEvent} of the reservation.
+	 */
+	@Override
+	public void reservationChanged(ChangeEvent<Reservation> event) {
+		Reservation before = event.getBefore();
+		Reservation after = event.getAfter();
+		locks.runLocked(() -> {
+			if (isEcho(event.getKind(), event.getId()) || (event.getKind() == Kind.DELETE
+					&& before != null && clientsBeingRemoved.contains(before.getClientId())))
+				return;
+			
+			if (event.getKind() == Kind.INSERT && after != null)
+				view.reservationAdded(after);
+			else if (event.getKind() == Kind.UPDATE && before != null && after != null)
+				view.reservationRescheduled(before, after);
+			else if (event.getKind() == Kind.DELETE && before != null)
+				view.reservationRemoved(before);
+			else
+				allReservations();
+			LOGGER.info(() -> String.format("%s has been received from the change feed.", event.toString()));
+		}, slotKey(before), slotKey(after));
+	}
+
+	/**
+	 * Requests to reload all the entities, since some changes could have been missed,
+	 * and forgets the pending echoes.
+	 */
+	@Override
+	public void changesMissed() {
+		pendingEchoes.clear();
+		clientsBeingRemoved.clear();
+		refreshScheduler.requestRefresh();
+	}
+
+	/**
+	 * Computes the key locking the operations on a client with the specified names.
+	 * 
+	 * @param firstName	the name of the client.
+	 * @param lastName	the surname of the client.
+	 * @return			the key of the client.
+	 */
+	private static Object namesKey(String firstName, String lastName) {
+		return Arrays.asList(firstName, lastName);
+	}
+
+	/**
+	 * Computes the key locking the operations on the specified client.
+	 * 
+	 * @param client	the client, possibly {@code null}.
+	 * @return			the key of {@code client}, or {@code null} if it is missing.
+	 */
+	private static Object namesKey(Client client) {
+		return client == null ? null : namesKey(client.getFirstName(), client.getLastName());
+	}
+
+	/**
+	 * Computes the key locking the operations on a resource at the specified date.
+	 * 
+	 * @param resource	the booked resource.
+	 * @param date		the date of the resource.
+	 * @return			the key of {@code resource} at {@code date}.
+	 */
+	private static Object slotKey(String resource, LocalDate date) {
+		return Arrays.asList(resource, date);
+	}
+
+	/**
+	 * Computes the key locking the operations on the resource and the date of the specified
+	 * reservation.
+	 * 
+	 * @param reservation	the reservation, possibly {@code null}.
+	 * @return				the key of {@code reservation}, or {@code null} if it is missing.
+	 */
+	private static Object slotKey(Reservation reservation) {
+		return reservation == null ? null : slotKey(reservation.getResource(), reservation.getDate());
+	}
+
+	/**
+	 * Records that the change feed, if followed, will echo a change made by this presenter.
+	 * 
+	 * @param kind	the kind of the change.
+	 * @param id	the identifier of the changed entity.
+	 */
+	private void expectEcho(Kind kind, UUID id) {
+		if (followingChanges)
+			pendingEchoes.merge(kind + ":" + id, 1, Integer::sum);
+	}
+
+	/**
+	 * Checks whether a change is the echo of a change made by this presenter,
+	 * consuming it.
+	 * 
+	 * @param kind	the kind of the change.
+	 * @param id	the identifier of the changed entity.
+	 * @return		{@code true} if the change was made by this presenter; {@code false} otherwise.
+	 */
+	private boolean isEcho(Kind kind, UUID id) {
+		boolean[] echo = { false };
+		pendingEchoes.computeIfPresent(kind + ":" + id, (key, count) -> {
+			echo[0] = true;
+			return count == 1 ? null : count - 1;
+		});
+		return echo[0];
 	}
 
 	/**
@@ -0,0 +1,69 @@
+package io.github.marcopaglio.booking.presenter.served;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks, each one guarding all the keys hashed to it, so that actions
+ * on different keys can run in parallel with a bounded amount of locks.
+ * Actions on several keys take their locks in a global order, thus they cannot deadlock.
+ */
+class StripedLocks {
+	/**
+	 * The locks, one per stripe.
+	 */
+	private final ReentrantLock[] stripes;
+
+	/**
+	 * Constructs the specified number of striped locks.
+	 *
+	 * @param stripeCount				the number of locks.
+	 * @throws IllegalArgumentException	if {@code stripeCount} is not positive.
+	 */
+	StripedLocks(int stripeCount) throws IllegalArgumentException {
+		if (stripeCount <= 0)
+			throw new IllegalArgumentException("Number of lock stripes must be positive.");
+
+		stripes = new ReentrantLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++)
+			stripes[i] = new ReentrantLock();
+	}
+
+	/**
+	 * Runs the action holding the locks of all the specified keys, ignoring the null ones.
+	 *
+	 * @param action	the action to run.
+	 * @param keys		the keys affected by {@code action}.
+	 */
+	void runLocked(Runnable action, Object... keys) {
+		int[] indexes = Arrays.stream(keys)
+				.filter(Objects::nonNull)
+				.mapToInt(this::stripeOf)
+				.distinct()
+				.sorted()
+				.toArray();
+		int locked = 0;
+		try {
+			for (int index : indexes) {
+				stripes[index].lock();
+				locked++;
+			}
+			action.run();
+		} finally {
+			for (int i = locked - 1; i >= 0; i--)
+				stripes[indexes[i]].unlock();
+		}
+	}
+
+	/**
+	 * Computes the stripe of the key, spreading the higher bits of its hash code.
+	 *
+	 * @param key	the key to place.
+	 * @return		the index of the stripe guarding {@code key}.
+	 */
+	int stripeOf(Object key) {
+		int hash = key.hashCode();
+		return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import io.github.marcopaglio.booking.model.Client;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 
 /**
  * This interface provides methods for operating on a user interface for the booking application.
@@ -24,6 +25,13 @@ public interface BookingView {
 	 */
 	public void showAllReservations(List<Reservation> reservations);
 
+	/**
+	 * Displays a page of the reservations on the user interface.
+	 * 
+	 * @param page	the {@code ReservationPage} to show.
+	 */
+	public void showReservationsPage(ReservationPage page);
+
 	/**
 	 * Displays the reservation just inserted into the repository on the user interface.
 	 * 
@@ -60,6 +68,57 @@ public interface BookingView {
 	 */
 	public void clientRenamed(Client oldClient, Client renamedClient);
 
+	/**
+	 * Displays the client being inserted into the repository on the user interface,
+	 * as pending until {@code clientAdded} confirms it or {@code clientAddingFailed} withdraws it.
+	 * 
+	 * @param client	the {@code Client} to show as pending.
+	 */
+	public void clientAdding(Client client);
+
+	/**
+	 * Makes the pending client, whose insertion into the repository failed,
+	 * disappear from the user interface.
+	 * 
+	 * @param client	the pending {@code Client} to remove from the view.
+	 */
+	public void clientAddingFailed(Client client);
+
+	/**
+	 * Displays the reservation being inserted into the repository on the user interface,
+	 * as pending until {@code reservationAdded} confirms it or {@code reservationAddingFailed}
+	 * withdraws it.
+	 * 
+	 * @param reservation	the {@code Reservation} to show as pending.
+	 */
+	public void reservationAdding(Reservation reservation);
+
+	/**
+	 * Makes the pending reservation, whose insertion into the repository failed,
+	 * disappear from the user interface.
+	 * 
+	 * @param reservation	the pending {@code Reservation} to remove from the view.
+	 */
+	public void reservationAddingFailed(Reservation reservation);
+
+	/**
+	 * Displays the changes of the client being renamed on the user interface,
+	 * as pending until {@code clientRenamed} confirms them or {@code clientRenamingFailed}
+	 * withdraws them.
+	 * 
+	 * @param oldClient		the {@code Client} to replace from the view.
+	 * @param renamedClient	the pending {@code Client} that replaces the old one.
+	 */
+	public void clientRenaming(Client oldClient, Client renamedClient);
+
+	/**
+	 * Restores the client whose renaming in the repository failed on the user interface.
+	 * 
+	 * @param oldClient		the {@code Client} to restore in the view.
+	 * @param renamedClient	the pending {@code Client} to replace.
+	 */
+	public void clientRenamingFailed(Client oldClient, Client renamedClient);
+
 	/**
 	 * Displays the changes of the reservation just rescheduled on the user interface.
 	 * 
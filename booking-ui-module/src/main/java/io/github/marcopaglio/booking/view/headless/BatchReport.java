@@ -0,0 +1,99 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a batch run, i.e. the number of operations run, how long the batch took
+ * and the latencies of the operations, from which throughput and percentiles are computed.
+ */
+public class BatchReport {
+	/**
+	 * Number of nanoseconds in a millisecond.
+	 */
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/**
+	 * Number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * The latencies in nanoseconds of the operations, in ascending order.
+	 */
+	private final long[] latencies;
+
+	/**
+	 * The time in nanoseconds the whole batch took.
+	 */
+	private final long elapsedNanos;
+
+	/**
+	 * Constructs the report of a batch run.
+	 *
+	 * @param latencies		the latencies in nanoseconds of the operations, in any order.
+	 * @param elapsedNanos	the time in nanoseconds the whole batch took.
+	 */
+	public BatchReport(long[] latencies, long elapsedNanos) {
+		this.latencies = latencies.clone();
+		Arrays.sort(this.latencies);
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Retrieves the number of operations run.
+	 *
+	 * @return	the number of operations.
+	 */
+	public int getOperationCount() {
+		return latencies.length;
+	}
+
+	/**
+	 * Retrieves the time the whole batch took.
+	 *
+	 * @return	the elapsed time in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Computes the number of operations run per second.
+	 *
+	 * @return	the throughput of the batch, or zero if no time elapsed.
+	 */
+	public double getThroughput() {
+		return elapsedNanos > 0 ? latencies.length * NANOS_PER_SECOND / elapsedNanos : 0;
+	}
+
+	/**
+	 * Computes a percentile of the latencies by the nearest-rank method.
+	 *
+	 * @param percentile				the percentile, between 0 excluded and 100 included.
+	 * @return							the latency in nanoseconds not exceeded by {@code percentile}
+	 * 									percent of the operations, or zero if there are none.
+	 * @throws IllegalArgumentException	if {@code percentile} is out of range.
+	 */
+	public long getLatencyPercentile(double percentile) throws IllegalArgumentException {
+		if (percentile <= 0 || percentile > 100)
+			throw new IllegalArgumentException("Percentile must be greater than 0 and at most 100.");
+		if (latencies.length == 0)
+			return 0;
+		int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+		return latencies[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Formats the throughput and the main latency percentiles of the batch.
+	 *
+	 * @return	a human-readable summary of the report.
+	 */
+	public String format() {
+		return String.format("%d operations in %.3f s: %.1f operations/s%n"
+				+ "Latency p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms",
+				latencies.length, elapsedNanos / NANOS_PER_SECOND, getThroughput(),
+				getLatencyPercentile(50) / NANOS_PER_MILLI, getLatencyPercentile(90) / NANOS_PER_MILLI,
+				getLatencyPercentile(99) / NANOS_PER_MILLI, getLatencyPercentile(99.9) / NANOS_PER_MILLI,
+				getLatencyPercentile(100) / NANOS_PER_MILLI);
+	}
+}
@@ -0,0 +1,109 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+import io.github.marcopaglio.booking.view.headless.BatchScript.Operation;
+
+/**
+ * Runs the sessions of a batch on a pool of worker threads, calling the presenter directly
+ * from the workers and measuring the latency of each operation, i.e. the time the presenter
+ * takes to carry it out and to notify the view.
+ * Note: the presenter must carry out its operations synchronously, as
+ * {@code ServedBookingPresenter} does, otherwise only their dispatching is measured.
+ */
+public class BatchRunner {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(BatchRunner.class);
+
+	/**
+	 * The presenter running the operations.
+	 */
+	private final BookingPresenter presenter;
+
+	/**
+	 * The view of the presenter, resolving the clients and reservations of the operations.
+	 */
+	private final HeadlessBookingView view;
+
+	/**
+	 * The number of sessions run at the same time.
+	 */
+	private final int workerCount;
+
+	/**
+	 * Constructs a runner of batches on the specified presenter.
+	 *
+	 * @param presenter					the {@code BookingPresenter} running the operations.
+	 * @param view						the {@code HeadlessBookingView} of {@code presenter}.
+	 * @param workerCount				the number of sessions run at the same time.
+	 * @throws IllegalArgumentException	if {@code workerCount} is not positive.
+	 */
+	public BatchRunner(BookingPresenter presenter, HeadlessBookingView view, int workerCount)
+			throws IllegalArgumentException {
+		if (workerCount <= 0)
+			throw new IllegalArgumentException("Number of batch workers must be positive.");
+		this.presenter = presenter;
+		this.view = view;
+		this.workerCount = workerCount;
+	}
+
+	/**
+	 * Runs all the sessions of the batch and waits for them to end.
+	 *
+	 * @param script					the {@code BatchScript} to run.
+	 * @return							the {@code BatchReport} of the run.
+	 * @throws InterruptedException		if interrupted while waiting for the sessions.
+	 * @throws IllegalStateException	if an operation fails with an unexpected exception.
+	 */
+	public BatchReport run(BatchScript script) throws InterruptedException, IllegalStateException {
+		LOGGER.info(() -> String.format("Running %d operations in %d sessions on %d workers...",
+				script.getOperationCount(), script.getSessions().size(), workerCount));
+		ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+		try {
+			long start = System.nanoTime();
+			List<Future<long[]>> sessions = new ArrayList<>();
+			for (List<Operation> session : script.getSessions())
+				sessions.add(workers.submit(() -> runSession(session)));
+
+			long[] latencies = new long[script.getOperationCount()];
+			int count = 0;
+			for (Future<long[]> session : sessions) {
+				long[] sessionLatencies = session.get();
+				System.arraycopy(sessionLatencies, 0, latencies, count, sessionLatencies.length);
+				count += sessionLatencies.length;
+			}
+			return new BatchReport(latencies, System.nanoTime() - start);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("A batch operation failed unexpectedly.", e.getCause());
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs the operations of a session one after the other.
+	 *
+	 * @param session	the {@code List} of operations to run.
+	 * @return			the latencies in nanoseconds of the operations, in their order.
+	 */
+	private long[] runSession(List<Operation> session) {
+		long[] latencies = new long[session.size()];
+		for (int i = 0; i < latencies.length; i++) {
+			long start = System.nanoTime();
+			session.get(i).runOn(presenter, view);
+			latencies[i] = System.nanoTime() - start;
+		}
+		return latencies;
+	}
+}
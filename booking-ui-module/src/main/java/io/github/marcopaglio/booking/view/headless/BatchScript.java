@@ -0,0 +1,422 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+
+/**
+ * A batch of operations on the presenter of the booking application, grouped in sessions.
+ * The operations of a session run one after the other, while different sessions may run
+ * at the same time, so that a session can refer to the clients and reservations added by itself.
+ * A script is written one operation per line, as the name of the operation followed by
+ * its arguments, separated by semicolons; sessions are separated by blank lines and
+ * lines starting by {@code #} are comments. For instance:
+ * <pre>
+ * addClient;Mario;Rossi
+ * addReservation;Mario;Rossi;2024-04-24
+ * rescheduleReservation;2024-04-24;2024-04-25
+ * </pre>
+ * Clients are referred to by names and reservations by date, among the ones shown
+ * by a {@code HeadlessBookingView}.
+ */
+public class BatchScript {
+	/**
+	 * Separator of the name and the arguments of an operation.
+	 */
+	public static final String SEPARATOR = ";";
+
+	/**
+	 * Prefix of the comment lines.
+	 */
+	public static final String COMMENT = "#";
+
+	/**
+	 * Name of the clients of generated sessions.
+	 */
+	private static final String GENERATED_FIRST_NAME = "Batch";
+
+	/**
+	 * Name of the renamed clients of generated sessions.
+	 */
+	private static final String GENERATED_NEW_FIRST_NAME = "Renamed";
+
+	/**
+	 * First date of the reservations of generated sessions, far enough to be free.
+	 */
+	private static final LocalDate GENERATED_FIRST_DATE = LocalDate.of(2100, 1, 1);
+
+	/**
+	 * Number of dates used by each generated session.
+	 */
+	private static final int GENERATED_DATES = 4;
+
+	/**
+	 * The sessions of operations.
+	 */
+	private final List<List<Operation>> sessions;
+
+	/**
+	 * Constructs a batch of the specified sessions of operations.
+	 *
+	 * @param sessions	the {@code List} of sessions, each a {@code List} of operations.
+	 */
+	private BatchScript(List<List<Operation>> sessions) {
+		this.sessions = Collections.unmodifiableList(sessions);
+	}
+
+	/**
+	 * Retrieves the sessions of operations of the batch.
+	 *
+	 * @return	the unmodifiable {@code List} of sessions, each a {@code List} of operations.
+	 */
+	public List<List<Operation>> getSessions() {
+		return sessions;
+	}
+
+	/**
+	 * Retrieves the number of operations of the batch.
+	 *
+	 * @return	the number of operations of all the sessions.
+	 */
+	public int getOperationCount() {
+		return sessions.stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Parses the lines of a script into a batch of operations.
+	 *
+	 * @param lines						the {@code List} of lines of the script.
+	 * @return							the {@code BatchScript} of the operations of the lines.
+	 * @throws IllegalArgumentException	if a line is not a known operation with its arguments.
+	 */
+	public static BatchScript parse(List<String> lines) throws IllegalArgumentException {
+		List<List<Operation>> sessions = new ArrayList<>();
+		List<Operation> session = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).strip();
+			if (line.isEmpty()) {
+				if (!session.isEmpty()) {
+					sessions.add(Collections.unmodifiableList(session));
+					session = new ArrayList<>();
+				}
+			} else if (!line.startsWith(COMMENT))
+				session.add(parseOperation(line, i + 1));
+		}
+		if (!session.isEmpty())
+			sessions.add(Collections.unmodifiableList(session));
+		return new BatchScript(sessions);
+	}
+
+	/**
+	 * Parses a line of a script into an operation.
+	 *
+	 * @param line						the line to parse, not blank.
+	 * @param lineNumber				the number of the line, for error messages.
+	 * @return							the {@code Operation} of the line.
+	 * @throws IllegalArgumentException	if the line is not a known operation with its arguments.
+	 */
+	private static Operation parseOperation(String line, int lineNumber) throws IllegalArgumentException {
+		String[] parts = line.split(SEPARATOR, -1);
+		Command command = Arrays.stream(Command.values())
+				.filter(known -> known.getName().equals(parts[0].strip()))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(String.format(
+						"Line %d: unknown operation '%s'.", lineNumber, parts[0].strip())));
+		if (parts.length - 1 != command.getArity())
+			throw new IllegalArgumentException(String.format("Line %d: operation '%s' needs %d arguments.",
+					lineNumber, command.getName(), command.getArity()));
+		return new Operation(command, Arrays.copyOfRange(parts, 1, parts.length));
+	}
+
+	/**
+	 * Generates a batch of sessions, each working on a client and on dates of its own, so that
+	 * sessions do not collide. A session adds a client and some reservations, then possibly
+	 * reschedules a reservation, renames the client and reloads everything, and finally
+	 * deletes the client together with its reservations.
+	 *
+	 * @param sessionCount				the number of sessions to generate.
+	 * @param seed						the seed of the random choices, for repeatable batches.
+	 * @return							the generated {@code BatchScript}.
+	 * @throws IllegalArgumentException	if {@code sessionCount} is not positive.
+	 */
+	public static BatchScript generate(int sessionCount, long seed) throws IllegalArgumentException {
+		if (sessionCount <= 0)
+			throw new IllegalArgumentException("Number of generated sessions must be positive.");
+
+		Random random = new Random(seed);
+		List<List<Operation>> sessions = new ArrayList<>(sessionCount);
+		for (int i = 0; i < sessionCount; i++) {
+			String lastName = "Client" + letters(i);
+			String firstName = GENERATED_FIRST_NAME;
+			LocalDate firstDate = GENERATED_FIRST_DATE.plusDays((long) i * GENERATED_DATES);
+			int reservationCount = 1 + random.nextInt(GENERATED_DATES - 1);
+
+			List<Operation> session = new ArrayList<>();
+			session.add(new Operation(Command.ADD_CLIENT, firstName, lastName));
+			for (int j = 0; j < reservationCount; j++)
+				session.add(new Operation(Command.ADD_RESERVATION,
+						firstName, lastName, firstDate.plusDays(j).toString()));
+			if (random.nextBoolean())
+				session.add(new Operation(Command.RESCHEDULE_RESERVATION,
+						firstDate.toString(), firstDate.plusDays(GENERATED_DATES - 1L).toString()));
+			if (random.nextBoolean()) {
+				session.add(new Operation(Command.RENAME_CLIENT,
+						firstName, lastName, GENERATED_NEW_FIRST_NAME, lastName));
+				firstName = GENERATED_NEW_FIRST_NAME;
+			}
+			if (random.nextInt(10) == 0)
+				session.add(new Operation(Command.ALL_CLIENTS_AND_RESERVATIONS));
+			session.add(new Operation(Command.DELETE_CLIENT, firstName, lastName));
+			sessions.add(Collections.unmodifiableList(session));
+		}
+		return new BatchScript(sessions);
+	}
+
+	/**
+	 * Encodes a number in lower-case letters, since names of clients cannot contain digits.
+	 *
+	 * @param number	the non-negative number to encode.
+	 * @return			the letters encoding {@code number} in base 26.
+	 */
+	private static String letters(int number) {
+		StringBuilder letters = new StringBuilder();
+		do {
+			letters.append((char) ('a' + number % 26));
+			number /= 26;
+		} while (number > 0);
+		return letters.reverse().toString();
+	}
+
+	/**
+	 * An operation of a batch, i.e. a command with its arguments.
+	 */
+	public static class Operation {
+		/**
+		 * The command of the operation.
+		 */
+		private final Command command;
+
+		/**
+		 * The arguments of the command.
+		 */
+		private final String[] arguments;
+
+		/**
+		 * Constructs an operation of the specified command.
+		 *
+		 * @param command	the {@code Command} of the operation.
+		 * @param arguments	the arguments of {@code command}.
+		 */
+		Operation(Command command, String... arguments) {
+			this.command = command;
+			this.arguments = arguments;
+		}
+
+		/**
+		 * Retrieves the command of the operation.
+		 *
+		 * @return	the {@code Command} of the operation.
+		 */
+		public Command getCommand() {
+			return command;
+		}
+
+		/**
+		 * Retrieves the arguments of the operation.
+		 *
+		 * @return	the {@code List} of the arguments of the command.
+		 */
+		public List<String> getArguments() {
+			return List.of(arguments);
+		}
+
+		/**
+		 * Runs the operation through the presenter, resolving its clients and reservations
+		 * among the ones shown by the view. Clients and reservations not shown are passed as
+		 * {@code null}, so that the presenter reports them as missing selections.
+		 *
+		 * @param presenter	the {@code BookingPresenter} running the operation.
+		 * @param view		the {@code HeadlessBookingView} of {@code presenter}.
+		 */
+		public void runOn(BookingPresenter presenter, HeadlessBookingView view) {
+			command.run(presenter, view, arguments);
+		}
+
+		/**
+		 * Overridden method for returning the operation as a line of a script.
+		 *
+		 * @return	the name of the command followed by its arguments.
+		 */
+		@Override
+		public String toString() {
+			return arguments.length == 0 ? command.getName()
+					: command.getName() + SEPARATOR + String.join(SEPARATOR, arguments);
+		}
+	}
+
+	/**
+	 * Enumerated commands of a batch, each calling an operation of the presenter.
+	 */
+	public enum Command {
+		/**
+		 * Inserts a new client: name and surname.
+		 */
+		ADD_CLIENT("addClient", 2) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.addClient(arguments[0], arguments[1]);
+			}
+		},
+
+		/**
+		 * Inserts a new reservation: name and surname of the client, and date.
+		 */
+		ADD_RESERVATION("addReservation", 3) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.addReservation(view.findClient(arguments[0], arguments[1]), arguments[2]);
+			}
+		},
+
+		/**
+		 * Renames a client: name and surname, then new name and new surname.
+		 */
+		RENAME_CLIENT("renameClient", 4) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.renameClient(view.findClient(arguments[0], arguments[1]), arguments[2], arguments[3]);
+			}
+		},
+
+		/**
+		 * Reschedules a reservation: date, then new date.
+		 */
+		RESCHEDULE_RESERVATION("rescheduleReservation", 2) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.rescheduleReservation(findReservation(view, arguments[0]), arguments[1]);
+			}
+		},
+
+		/**
+		 * Deletes a client and its reservations: name and surname.
+		 */
+		DELETE_CLIENT("deleteClient", 2) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.deleteClient(view.findClient(arguments[0], arguments[1]));
+			}
+		},
+
+		/**
+		 * Deletes a reservation: date.
+		 */
+		DELETE_RESERVATION("deleteReservation", 1) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.deleteReservation(findReservation(view, arguments[0]));
+			}
+		},
+
+		/**
+		 * Reloads all the clients.
+		 */
+		ALL_CLIENTS("allClients", 0) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.allClients();
+			}
+		},
+
+		/**
+		 * Reloads all the reservations.
+		 */
+		ALL_RESERVATIONS("allReservations", 0) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.allReservations();
+			}
+		},
+
+		/**
+		 * Reloads all the clients and reservations at once.
+		 */
+		ALL_CLIENTS_AND_RESERVATIONS("allClientsAndReservations", 0) {
+			@Override
+			void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments) {
+				presenter.allClientsAndReservations();
+			}
+		};
+
+		/**
+		 * The name of the command in scripts.
+		 */
+		private final String name;
+
+		/**
+		 * The number of arguments of the command.
+		 */
+		private final int arity;
+
+		/**
+		 * Constructs a command with the specified name and number of arguments.
+		 *
+		 * @param name	the name of the command in scripts.
+		 * @param arity	the number of arguments of the command.
+		 */
+		Command(String name, int arity) {
+			this.name = name;
+			this.arity = arity;
+		}
+
+		/**
+		 * Retrieves the name of the command in scripts.
+		 *
+		 * @return	the name of the command.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Retrieves the number of arguments of the command.
+		 *
+		 * @return	the number of arguments.
+		 */
+		public int getArity() {
+			return arity;
+		}
+
+		/**
+		 * Calls the operation of the presenter with the specified arguments.
+		 *
+		 * @param presenter	the {@code BookingPresenter} to call.
+		 * @param view		the {@code HeadlessBookingView} resolving clients and reservations.
+		 * @param arguments	the arguments of the command.
+		 */
+		abstract void run(BookingPresenter presenter, HeadlessBookingView view, String[] arguments);
+
+		/**
+		 * Retrieves the reservation shown on the specified date.
+		 *
+		 * @param view	the {@code HeadlessBookingView} showing the reservation.
+		 * @param date	the date of the reservation, as text.
+		 * @return		the {@code Reservation} shown on {@code date}, or {@code null} if
+		 * 				not shown or if {@code date} is not a date.
+		 */
+		private static Reservation findReservation(HeadlessBookingView view, String date) {
+			try {
+				return view.findReservation(LocalDate.parse(date.strip()));
+			} catch(DateTimeParseException e) {
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,360 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
+import io.github.marcopaglio.booking.view.BookingView;
+
+/**
+ * Implementation of the view for the booking application without a graphical user interface,
+ * used for running batches of operations. The view records the clients and reservations shown,
+ * so that the operations of a batch can refer to them by names and by date, and counts
+ * the changes shown and the errors, keeping the most recent error messages.
+ * Note: the view can be called by many threads at once, hence the clients and reservations
+ * loaded are recorded in addition to the ones shown, so that a reload does not drop the ones
+ * being added by other threads; pending changes are not recorded.
+ */
+public class HeadlessBookingView implements BookingView {
+	/**
+	 * Maximum number of error messages kept.
+	 */
+	public static final int RECENT_ERRORS = 100;
+
+	/**
+	 * The clients shown, by names.
+	 */
+	private final Map<String, Client> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * The reservations shown, by date.
+	 */
+	private final Map<LocalDate, Reservation> reservations = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of insertions, deletions and updates shown.
+	 */
+	private final LongAdder changeCount = new LongAdder();
+
+	/**
+	 * Number of errors involving operation results.
+	 */
+	private final LongAdder operationErrorCount = new LongAdder();
+
+	/**
+	 * Number of errors involving inputs.
+	 */
+	private final LongAdder formErrorCount = new LongAdder();
+
+	/**
+	 * The most recent error messages, from the oldest.
+	 */
+	private final Deque<String> recentErrors = new ConcurrentLinkedDeque<>();
+
+	/**
+	 * Retrieves the client shown with the specified names.
+	 *
+	 * @param firstName	the name of the client.
+	 * @param lastName	the surname of the client.
+	 * @return			the {@code Client} shown with those names, or {@code null} if not shown.
+	 */
+	public Client findClient(String firstName, String lastName) {
+		return clients.get(namesKey(firstName, lastName));
+	}
+
+	/**
+	 * Retrieves a reservation shown on the specified date.
+	 *
+	 * @param date	the date of the reservation.
+	 * @return		the {@code Reservation} shown on {@code date}, or {@code null} if not shown.
+	 */
+	public Reservation findReservation(LocalDate date) {
+		return reservations.get(date);
+	}
+
+	/**
+	 * Retrieves the clients shown.
+	 *
+	 * @return	the {@code List} of clients shown, in no particular order.
+	 */
+	public List<Client> getClients() {
+		return new ArrayList<>(clients.values());
+	}
+
+	/**
+	 * Retrieves the reservations shown.
+	 *
+	 * @return	the {@code List} of reservations shown, in no particular order.
+	 */
+	public List<Reservation> getReservations() {
+		return new ArrayList<>(reservations.values());
+	}
+
+	/**
+	 * Retrieves the number of insertions, deletions and updates shown so far.
+	 *
+	 * @return	the number of changes shown.
+	 */
+	public long getChangeCount() {
+		return changeCount.sum();
+	}
+
+	/**
+	 * Retrieves the number of errors involving operation results shown so far.
+	 *
+	 * @return	the number of operation errors.
+	 */
+	public long getOperationErrorCount() {
+		return operationErrorCount.sum();
+	}
+
+	/**
+	 * Retrieves the number of errors involving inputs shown so far.
+	 *
+	 * @return	the number of form errors.
+	 */
+	public long getFormErrorCount() {
+		return formErrorCount.sum();
+	}
+
+	/**
+	 * Retrieves the most recent error messages, at most {@code RECENT_ERRORS}.
+	 *
+	 * @return	the {@code List} of the most recent error messages, from the oldest.
+	 */
+	public List<String> getRecentErrors() {
+		return new ArrayList<>(recentErrors);
+	}
+
+	/**
+	 * Records the clients of the given list in addition to the ones shown.
+	 *
+	 * @param clients	the {@code List} of clients to show.
+	 */
+	@Override
+	public void showAllClients(List<Client> clients) {
+		clients.forEach(this::putClient);
+	}
+
+	/**
+	 * Records the reservations of the given list in addition to the ones shown.
+	 *
+	 * @param reservations	the {@code List} of reservations to show.
+	 */
+	@Override
+	public void showAllReservations(List<Reservation> reservations) {
+		reservations.forEach(this::putReservation);
+	}
+
+	/**
+	 * Records the reservations of the page in addition to the ones shown.
+	 *
+	 * @param page	the {@code ReservationPage} to show.
+	 */
+	@Override
+	public void showReservationsPage(ReservationPage page) {
+		page.getReservations().forEach(this::putReservation);
+	}
+
+	/**
+	 * Records the reservation just inserted into the repository.
+	 *
+	 * @param reservation	the {@code Reservation} to show.
+	 */
+	@Override
+	public void reservationAdded(Reservation reservation) {
+		putReservation(reservation);
+		changeCount.increment();
+	}
+
+	/**
+	 * Records the client just inserted into the repository.
+	 *
+	 * @param client	the {@code Client} to show.
+	 */
+	@Override
+	public void clientAdded(Client client) {
+		putClient(client);
+		changeCount.increment();
+	}
+
+	/**
+	 * Forgets the reservation just deleted.
+	 *
+	 * @param reservation	the {@code Reservation} to remove from the view.
+	 */
+	@Override
+	public void reservationRemoved(Reservation reservation) {
+		reservations.remove(reservation.getDate(), reservation);
+		changeCount.increment();
+	}
+
+	/**
+	 * Forgets the client just deleted.
+	 *
+	 * @param client	the {@code Client} to remove from the view.
+	 */
+	@Override
+	public void clientRemoved(Client client) {
+		clients.remove(namesKey(client.getFirstName(), client.getLastName()), client);
+		changeCount.increment();
+	}
+
+	/**
+	 * Records the client just renamed in place of the old one.
+	 *
+	 * @param oldClient		the {@code Client} to replace from the view.
+	 * @param renamedClient	the {@code Client} that replaces the old one.
+	 */
+	@Override
+	public void clientRenamed(Client oldClient, Client renamedClient) {
+		clients.remove(namesKey(oldClient.getFirstName(), oldClient.getLastName()), oldClient);
+		putClient(renamedClient);
+		changeCount.increment();
+	}
+
+	/**
+	 * Records the reservation just rescheduled in place of the old one.
+	 *
+	 * @param oldReservation			the {@code Reservation} to replace from the view.
+	 * @param rescheduledReservation	the {@code Reservation} that replaces the old one.
+	 */
+	@Override
+	public void reservationRescheduled(Reservation oldReservation, Reservation rescheduledReservation) {
+		reservations.remove(oldReservation.getDate(), oldReservation);
+		putReservation(rescheduledReservation);
+		changeCount.increment();
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param client	the {@code Client} to show as pending.
+	 */
+	@Override
+	public void clientAdding(Client client) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param client	the pending {@code Client} to remove from the view.
+	 */
+	@Override
+	public void clientAddingFailed(Client client) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param reservation	the {@code Reservation} to show as pending.
+	 */
+	@Override
+	public void reservationAdding(Reservation reservation) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param reservation	the pending {@code Reservation} to remove from the view.
+	 */
+	@Override
+	public void reservationAddingFailed(Reservation reservation) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param oldClient		the {@code Client} to replace from the view.
+	 * @param renamedClient	the pending {@code Client} that replaces the old one.
+	 */
+	@Override
+	public void clientRenaming(Client oldClient, Client renamedClient) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Does nothing, since pending changes are not recorded.
+	 *
+	 * @param oldClient		the {@code Client} to restore in the view.
+	 * @param renamedClient	the pending {@code Client} to replace.
+	 */
+	@Override
+	public void clientRenamingFailed(Client oldClient, Client renamedClient) {
+		// pending changes are not recorded
+	}
+
+	/**
+	 * Counts and keeps an error message that involves operation results.
+	 *
+	 * @param message	the message to show.
+	 */
+	@Override
+	public void showOperationError(String message) {
+		operationErrorCount.increment();
+		keepError(message);
+	}
+
+	/**
+	 * Counts and keeps an error message that involves inputs.
+	 *
+	 * @param message	the message to show.
+	 */
+	@Override
+	public void showFormError(String message) {
+		formErrorCount.increment();
+		keepError(message);
+	}
+
+	/**
+	 * Records the client under its names.
+	 *
+	 * @param client	the {@code Client} to record.
+	 */
+	private void putClient(Client client) {
+		clients.put(namesKey(client.getFirstName(), client.getLastName()), client);
+	}
+
+	/**
+	 * Records the reservation under its date.
+	 *
+	 * @param reservation	the {@code Reservation} to record.
+	 */
+	private void putReservation(Reservation reservation) {
+		reservations.put(reservation.getDate(), reservation);
+	}
+
+	/**
+	 * Keeps the error message among the most recent ones, forgetting the oldest if too many.
+	 *
+	 * @param message	the error message to keep.
+	 */
+	private void keepError(String message) {
+		recentErrors.addLast(message);
+		while (recentErrors.size() > RECENT_ERRORS)
+			recentErrors.pollFirst();
+	}
+
+	/**
+	 * Generates the key of a client by its names.
+	 *
+	 * @param firstName	the name of the client.
+	 * @param lastName	the surname of the client.
+	 * @return			a {@code String} identifying the names.
+	 */
+	private static String namesKey(String firstName, String lastName) {
+		return firstName + '\n' + lastName;
+	}
+}
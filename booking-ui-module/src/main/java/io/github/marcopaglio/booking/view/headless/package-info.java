@@ -0,0 +1,5 @@
+/**
+ * Contains an implementation of the view for the booking application without a graphical
+ * user interface, together with the running of scripted or generated batches of operations.
+ */
+package io.github.marcopaglio.booking.view.headless;
@@ -1,8 +1,9 @@
 package io.github.marcopaglio.booking.view.swing;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.swing.JFrame;
@@ -12,6 +13,7 @@ import javax.swing.border.EmptyBorder;
 import io.github.marcopaglio.booking.annotation.Generated;
 import io.github.marcopaglio.booking.model.Client;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 import io.github.marcopaglio.booking.presenter.BookingPresenter;
 import io.github.marcopaglio.booking.view.BookingView;
 import java.awt.GridBagLayout;
@@ -21,7 +23,6 @@ import javax.swing.JLabel;
 import java.awt.Insets;
 
 import javax.swing.DefaultListCellRenderer;
-import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JList;
 import javax.swing.JScrollPane;
@@ -32,9 +33,15 @@ import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 import javax.swing.ListSelectionModel;
 import javax.swing.event.ListSelectionListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.event.ActionListener;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Font;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
 
 /**
  * A concrete implementation of the view for the booking application using Swing.
@@ -42,6 +49,29 @@ import java.awt.Component;
 public class BookingSwingView extends JFrame implements BookingView {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Text displayed for the reservations whose page is being loaded.
+	 */
+	private static final String LOADING_ROW = "Loading...";
+
+	/**
+	 * Client whose display string gives the size of all the rows of the client list.
+	 */
+	private static final Client PROTOTYPE_CLIENT = new Client("Prototype first name", "Prototype last name");
+
+	/**
+	 * Reservation whose display string gives the size of all the rows of the reservation list.
+	 */
+	private static final Reservation PROTOTYPE_RESERVATION =
+			new Reservation(null, "Prototype resource", LocalDate.of(2000, 12, 31));
+
+	/**
+	 * Order of the reservation list, the same of the pages of reservations,
+	 * with {@code null} reservations last.
+	 */
+	private static final Comparator<Reservation> RESERVATION_ORDER = Comparator.nullsLast(
+			Comparator.comparing(Reservation::getDate).thenComparing(Reservation::getResource));
+
 	private JPanel contentPane;
 	private JTextField nameFormTxt;
 	private JButton addClientBtn;
@@ -58,10 +88,12 @@ public class BookingSwingView extends JFrame implements BookingView {
 	private JLabel operationErrorMsgLbl;
 	private JScrollPane clientScrollPane;
 	private JList<Client> clientList;
-	private DefaultListModel<Client> clientListModel;
+	private IndexedListModel<Client, UUID> clientListModel;
+	private JTextField clientFilterTxt;
+	private FilteredListModel<Client> clientFilterModel;
 	private JScrollPane reservationScrollPane;
 	private JList<Reservation> reservationList;
-	private DefaultListModel<Reservation> reservationListModel;
+	private SortedListModel<Reservation> reservationListModel;
 	private JLabel dash1Lbl;
 	private JTextField dayFormTxt;
 	private JLabel dash2Lbl;
@@ -72,9 +104,40 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private transient BookingPresenter bookingPresenter;
 
+	/**
+	 * Model of the reservations loaded by pages, or {@code null} if all of them are held.
+	 */
+	private PagedListModel<Reservation> reservationPages;
+
+	/**
+	 * Index of the clients of the client list by the prefixes of their full names,
+	 * searched by the client filter.
+	 */
+	private final transient PrefixIndex<Client> clientIndex = new PrefixIndex<>(BookingSwingView::getNameTerms);
+
+	/**
+	 * The clients shown while their insertion or renaming is pending, by identity,
+	 * so that they are told apart from the equal ones confirmed.
+	 */
+	private final transient Set<Object> pendingClients = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * The reservations shown while their insertion is pending, by identity,
+	 * so that they are told apart from the equal ones confirmed.
+	 */
+	private final transient Set<Object> pendingReservations = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Watchdog measuring the tasks posted to the event dispatch thread,
+	 * or {@code null} if they are not watched.
+	 */
+	private transient volatile EdtWatchdog edtWatchdog;
+
 	// METHODS
 	/**
 	 * Sets the presenter called to carry out the actions of the controls.
+	 * Note: the presenter is called on the event dispatch thread, hence it should
+	 * run its operations asynchronously, e.g. through a {@code DispatchingBookingPresenter}.
 	 * 
 	 * @param bookingPresenter	the presenter of the booking application.
 	 */
@@ -84,53 +147,95 @@ public class BookingSwingView extends JFrame implements BookingView {
 	}
 
 	/**
-	 * Displays the clients of the given list on the graphical user interface through Swing.
-	 * Additionally, this method resets the client list selection and disables any buttons
+	 * Switches the reservation list to pages of reservations loaded on demand through
+	 * the presenter while scrolling, so that only a bounded number of them is held
+	 * whatever their total. Rows have a fixed size, thus the list never reads all of them.
+	 * Note: in this mode all the reservations are listed, ordered by date and resource,
+	 * and each change of them reloads the displayed pages.
+	 * 
+	 * @param pageSize					the number of reservations of each page.
+	 * @param cachedPages				the maximum number of pages held.
+	 * @throws IllegalArgumentException	if {@code pageSize} is not positive or
+	 * 									{@code cachedPages} is less than three.
+	 */
+	public void pageReservations(int pageSize, int cachedPages) throws IllegalArgumentException {
+		reservationPages = new PagedListModel<>(pageSize, cachedPages,
+				(offset, limit) -> bookingPresenter.reservationsPage(offset, limit));
+		reservationList.setModel(reservationPages);
+	}
+
+	/**
+	 * Sets the watchdog measuring the tasks the view posts to the event dispatch thread
+	 * and reporting those that stall it.
+	 * 
+	 * @param edtWatchdog	the {@code EdtWatchdog} of the view, or {@code null} to stop watching.
+	 */
+	@Generated
+	public void setEdtWatchdog(EdtWatchdog edtWatchdog) {
+		this.edtWatchdog = edtWatchdog;
+	}
+
+	/**
+	 * Displays the clients of the given list on the graphical user interface through Swing,
+	 * applying only the differences with the clients already shown.
+	 * Additionally, this method keeps the selected client selected if still shown,
+	 * or clears the client list selection otherwise, and updates accordingly any buttons
 	 * that fire when a client is selected in the list.
 	 * 
 	 * @param clients	the {@code List} of clients to show.
 	 */
 	@Override
 	public void showAllClients(List<Client> clients) {
-		SwingUtilities.invokeLater(() -> {
-			clientListModel.clear();
-			clients.stream().forEach(clientListModel::addElement);
+		runOnEdt("showAllClients", () -> {
+			clientIndex.replaceAll(clients);
+			replaceKeepingSelection(clientList, clientListModel, clientFilterModel::indexOf, clients);
+			pendingClients.clear();
 			
-			addReservationBtn.setEnabled(false);
-			renameBtn.setEnabled(false);
-			removeClientBtn.setEnabled(false);
+			addReservationBtn.setEnabled(checkAddReservationBtnRequirements());
+			renameBtn.setEnabled(checkRenameBtnRequirements());
+			removeClientBtn.setEnabled(checkRemoveClientRequirements());
 		});
 	}
 
 	/**
-	 * Displays the reservations of the given list on the user interface through Swing.
-	 * Additionally, this method resets the reservation list selection and disables any buttons
+	 * Displays the reservations of the given list on the user interface through Swing,
+	 * applying only the differences with the reservations already shown.
+	 * Additionally, this method keeps the selected reservation selected if still shown,
+	 * or clears the reservation list selection otherwise, and updates accordingly any buttons
 	 * that fire when a reservation is selected in the list.
 	 * 
 	 * @param reservations	the {@code List} of reservations to show.
 	 */
 	@Override
 	public void showAllReservations(List<Reservation> reservations) {
-		SwingUtilities.invokeLater(() -> {
-			reservationListModel.clear();
-			reservations.stream().forEach(reservationListModel::addElement);
+		runOnEdt("showAllReservations", () -> {
+			if (reservationPages != null)
+				reservationPages.invalidate();
+			else
+				replaceKeepingSelection(reservationList, reservationListModel,
+						reservationListModel::indexOf, reservations);
+			pendingReservations.clear();
 			
-			rescheduleBtn.setEnabled(false);
-			removeReservationBtn.setEnabled(false);
+			rescheduleBtn.setEnabled(checkRescheduleBtnRequirements());
+			removeReservationBtn.setEnabled(checkRemoveReservationRequirements());
 		});
 	}
 
 	/**
 	 * Displays the reservation just inserted into the repository on the user interface
-	 * through Swing. Additionally, this method resets client forms and disables any
+	 * through Swing, unless already shown. Additionally, this method resets client forms and disables any
 	 * buttons that fire when those forms are filled out.
 	 * 
 	 * @param reservation	the {@code Reservation} to show.
 	 */
 	@Override
 	public void reservationAdded(Reservation reservation) {
-		SwingUtilities.invokeLater(() -> {
-			reservationListModel.addElement(reservation);
+		runOnEdt("reservationAdded", () -> {
+			if (reservationPages != null)
+				reservationPages.invalidate();
+			else if (!confirmPending(reservationListModel, pendingReservations, reservation)
+					&& !reservationListModel.contains(reservation))
+				reservationListModel.addElement(reservation);
 			
 			resetErrorMsg();
 			resetDateForm();
@@ -140,16 +245,87 @@ public class BookingSwingView extends JFrame implements BookingView {
 	}
 
 	/**
-	 * Displays the client just inserted into the repository on the user interface through Swing.
+	 * Displays the reservation being inserted into the repository on the user interface
+	 * through Swing as pending, unless already shown or loaded by pages.
 	 * Additionally, this method resets reservation forms and disables any buttons that
 	 * fire when those forms are filled out.
 	 * 
+	 * @param reservation	the {@code Reservation} to show as pending.
+	 */
+	@Override
+	public void reservationAdding(Reservation reservation) {
+		runOnEdt("reservationAdding", () -> {
+			if (reservationPages == null && !reservationListModel.contains(reservation)) {
+				pendingReservations.add(reservation);
+				reservationListModel.addElement(reservation);
+			}
+			
+			resetErrorMsg();
+			resetDateForm();
+			addReservationBtn.setEnabled(false);
+			rescheduleBtn.setEnabled(false);
+		});
+	}
+
+	/**
+	 * Makes the pending reservation, whose insertion into the repository failed, disappear
+	 * from the user interface through Swing, if still shown as pending.
+	 * If the reservation was selected, this method disables related buttons.
+	 * 
+	 * @param reservation	the pending {@code Reservation} to remove from the view.
+	 */
+	@Override
+	public void reservationAddingFailed(Reservation reservation) {
+		runOnEdt("reservationAddingFailed", () -> {
+			if (withdrawPending(reservationListModel, pendingReservations, reservation))
+				reservationListModel.removeElement(reservation);
+			
+			if (reservationList.isSelectionEmpty()) {
+				rescheduleBtn.setEnabled(false);
+				removeReservationBtn.setEnabled(false);
+			}
+		});
+	}
+
+	/**
+	 * Displays the client just inserted into the repository on the user interface through Swing,
+	 * unless already shown. Additionally, this method resets reservation forms and disables any buttons that
+	 * fire when those forms are filled out.
+	 * 
 	 * @param client	the {@code Client} to show.
 	 */
 	@Override
 	public void clientAdded(Client client) {
-		SwingUtilities.invokeLater(() -> {
-			clientListModel.addElement(client);
+		runOnEdt("clientAdded", () -> {
+			if (confirmPending(clientListModel, pendingClients, client))
+				clientIndex.add(client);
+			else if (!clientListModel.contains(client)) {
+				clientIndex.add(client);
+				clientListModel.addElement(client);
+			}
+			
+			resetErrorMsg();
+			resetFullNameForm();
+			addClientBtn.setEnabled(false);
+			renameBtn.setEnabled(false);
+		});
+	}
+
+	/**
+	 * Displays the client being inserted into the repository on the user interface through Swing
+	 * as pending, unless already shown. Additionally, this method resets client forms and
+	 * disables any buttons that fire when those forms are filled out.
+	 * 
+	 * @param client	the {@code Client} to show as pending.
+	 */
+	@Override
+	public void clientAdding(Client client) {
+		runOnEdt("clientAdding", () -> {
+			if (!clientListModel.contains(client)) {
+				pendingClients.add(client);
+				clientIndex.add(client);
+				clientListModel.addElement(client);
+			}
 			
 			resetErrorMsg();
 			resetFullNameForm();
@@ -158,6 +334,29 @@ public class BookingSwingView extends JFrame implements BookingView {
 		});
 	}
 
+	/**
+	 * Makes the pending client, whose insertion into the repository failed, disappear
+	 * from the user interface through Swing, if still shown as pending.
+	 * If the client was selected, this method disables related buttons.
+	 * 
+	 * @param client	the pending {@code Client} to remove from the view.
+	 */
+	@Override
+	public void clientAddingFailed(Client client) {
+		runOnEdt("clientAddingFailed", () -> {
+			if (withdrawPending(clientListModel, pendingClients, client)) {
+				clientListModel.removeElement(client);
+				clientIndex.remove(client);
+			}
+			
+			if (clientList.isSelectionEmpty()) {
+				renameBtn.setEnabled(false);
+				removeClientBtn.setEnabled(false);
+				addReservationBtn.setEnabled(false);
+			}
+		});
+	}
+
 	/**
 	 * Makes the just deleted reservation disappear from the user interface through Swing.
 	 * If the deleted reservation was selected, this method disables related buttons.
@@ -166,8 +365,11 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void reservationRemoved(Reservation reservation) {
-		SwingUtilities.invokeLater(() -> {
-			reservationListModel.removeElement(reservation);
+		runOnEdt("reservationRemoved", () -> {
+			if (reservationPages != null)
+				reservationPages.invalidate();
+			else
+				reservationListModel.removeElement(reservation);
 			
 			resetErrorMsg();
 			if (reservationList.isSelectionEmpty()) {
@@ -185,8 +387,9 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void clientRemoved(Client client) {
-		SwingUtilities.invokeLater(() -> {
+		runOnEdt("clientRemoved", () -> {
 			clientListModel.removeElement(client);
+			clientIndex.remove(client);
 			
 			resetErrorMsg();
 			if (clientList.isSelectionEmpty()) {
@@ -199,6 +402,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 
 	/**
 	 * Displays the changes of the client just renamed on the user interface through Swing.
+	 * If the old client is not shown, the renamed one is appended unless already shown.
 	 * Additionally, this method resets client forms and disables any
 	 * buttons that fire when those forms are filled out.
 	 * 
@@ -207,14 +411,34 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void clientRenamed(Client oldClient, Client renamedClient) {
-		SwingUtilities.invokeLater(() -> {
-			int clientPosition = clientListModel.indexOf(oldClient);
-			int selectedIndex = clientList.getSelectedIndex();
+		runOnEdt("clientRenamed", () -> {
+			if (confirmPending(clientListModel, pendingClients, renamedClient))
+				clientIndex.add(renamedClient);
+			else
+				replaceClient(oldClient, renamedClient);
 			
-			clientListModel.removeElement(oldClient);
-			clientListModel.add(clientPosition, renamedClient);
-			if (selectedIndex == clientPosition)
-				clientList.setSelectedIndex(clientPosition);
+			resetErrorMsg();
+			resetFullNameForm();
+			addClientBtn.setEnabled(false);
+			renameBtn.setEnabled(false);
+		});
+	}
+
+	/**
+	 * Displays the changes of the client being renamed on the user interface through Swing
+	 * as pending, if the old client is shown. Additionally, this method resets client forms
+	 * and disables any buttons that fire when those forms are filled out.
+	 * 
+	 * @param oldClient		the {@code Client} to replace from the view.
+	 * @param renamedClient	the pending {@code Client} that replaces the old one.
+	 */
+	@Override
+	public void clientRenaming(Client oldClient, Client renamedClient) {
+		runOnEdt("clientRenaming", () -> {
+			if (clientListModel.contains(oldClient) && !clientListModel.contains(renamedClient)) {
+				pendingClients.add(renamedClient);
+				replaceClient(oldClient, renamedClient);
+			}
 			
 			resetErrorMsg();
 			resetFullNameForm();
@@ -223,9 +447,83 @@ public class BookingSwingView extends JFrame implements BookingView {
 		});
 	}
 
+	/**
+	 * Restores the client whose renaming in the repository failed on the user interface
+	 * through Swing, if the renamed one is still shown as pending.
+	 * 
+	 * @param oldClient		the {@code Client} to restore in the view.
+	 * @param renamedClient	the pending {@code Client} to replace.
+	 */
+	@Override
+	public void clientRenamingFailed(Client oldClient, Client renamedClient) {
+		runOnEdt("clientRenamingFailed", () -> {
+			if (withdrawPending(clientListModel, pendingClients, renamedClient))
+				replaceClient(renamedClient, oldClient);
+		});
+	}
+
+	/**
+	 * Replaces the old client with the renamed one in the client list, keeping its position,
+	 * or appends the renamed one unless already shown if the old is not shown.
+	 * 
+	 * @param oldClient		the {@code Client} to replace.
+	 * @param renamedClient	the {@code Client} that replaces the old one.
+	 */
+	private void replaceClient(Client oldClient, Client renamedClient) {
+		int clientPosition = clientListModel.indexOf(oldClient);
+		
+		if (clientPosition < 0) {
+			if (!clientListModel.contains(renamedClient)) {
+				clientIndex.add(renamedClient);
+				clientListModel.addElement(renamedClient);
+			}
+		} else {
+			clientIndex.remove(oldClient);
+			clientIndex.add(renamedClient);
+			clientListModel.set(clientPosition, renamedClient);
+		}
+	}
+
+	/**
+	 * Replaces the pending element equal to the confirmed one, if shown, with the latter.
+	 * 
+	 * @param <E>		the type of the elements of the model.
+	 * @param model		the {@code SnapshotListModel} showing the element.
+	 * @param pending	the {@code Set} of the pending elements of {@code model}.
+	 * @param element	the element confirmed by the repository.
+	 * @return			{@code true} if a pending element has been confirmed; {@code false} otherwise.
+	 */
+	private static <E> boolean confirmPending(SnapshotListModel<E> model, Set<Object> pending, E element) {
+		int position = model.indexOf(element);
+		if (position < 0 || !pending.remove(model.getElementAt(position)))
+			return false;
+		
+		model.set(position, element);
+		return true;
+	}
+
+	/**
+	 * Stops considering the element as pending and checks whether it is still shown,
+	 * i.e. neither confirmed nor replaced by an update of the view in the meantime.
+	 * 
+	 * @param <E>		the type of the elements of the model.
+	 * @param model		the {@code SnapshotListModel} showing the element.
+	 * @param pending	the {@code Set} of the pending elements of {@code model}.
+	 * @param element	the pending element whose change failed.
+	 * @return			{@code true} if the pending element is shown; {@code false} otherwise.
+	 */
+	private static <E> boolean withdrawPending(SnapshotListModel<E> model, Set<Object> pending, E element) {
+		if (!pending.remove(element))
+			return false;
+		
+		int position = model.indexOf(element);
+		return position >= 0 && model.getElementAt(position) == element;
+	}
+
 	/**
 	 * Displays the changes of the reservation just rescheduled on the user interface
-	 * through Swing. Additionally, this method resets reservation forms and disables any
+	 * through Swing. If the old reservation is not shown, the rescheduled one is inserted
+	 * unless already shown. Additionally, this method resets reservation forms and disables any
 	 * buttons that fire when those forms are filled out.
 	 * 
 	 * @param oldReservation			the {@code Reservation} to replace from the view.
@@ -233,14 +531,11 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void reservationRescheduled(Reservation oldReservation, Reservation rescheduledReservation) {
-		SwingUtilities.invokeLater(() -> {
-			int reservationPosition = reservationListModel.indexOf(oldReservation);
-			int selectedIndex = reservationList.getSelectedIndex();
-			
-			reservationListModel.add(reservationPosition, rescheduledReservation);
-			reservationListModel.removeElement(oldReservation);
-			if (reservationPosition == selectedIndex)
-				reservationList.setSelectedIndex(reservationPosition);
+		runOnEdt("reservationRescheduled", () -> {
+			if (reservationPages != null)
+				reservationPages.invalidate();
+			else
+				replaceReservation(oldReservation, rescheduledReservation);
 			
 			resetErrorMsg();
 			resetDateForm();
@@ -249,6 +544,43 @@ public class BookingSwingView extends JFrame implements BookingView {
 		});
 	}
 
+	/**
+	 * Displays a page of the reservations through Swing, if the reservation list
+	 * is switched to pages, otherwise it does nothing.
+	 * 
+	 * @param page	the {@code ReservationPage} to show.
+	 */
+	@Override
+	public void showReservationsPage(ReservationPage page) {
+		runOnEdt("showReservationsPage", () -> {
+			if (reservationPages != null)
+				reservationPages.pageLoaded(page.getOffset(), page.getTotal(), page.getReservations());
+		});
+	}
+
+	/**
+	 * Replaces the old reservation with the rescheduled one in the reservation list, moving it
+	 * to its date and keeping it selected, or inserts the rescheduled one if the old is not shown.
+	 * 
+	 * @param oldReservation			the {@code Reservation} to replace.
+	 * @param rescheduledReservation	the {@code Reservation} that replaces the old one.
+	 */
+	private void replaceReservation(Reservation oldReservation, Reservation rescheduledReservation) {
+		int reservationPosition = reservationListModel.indexOf(oldReservation);
+		boolean wasSelected = reservationPosition >= 0
+				&& reservationPosition == reservationList.getSelectedIndex();
+		
+		if (reservationPosition < 0) {
+			if (!reservationListModel.contains(rescheduledReservation))
+				reservationListModel.addElement(rescheduledReservation);
+		} else {
+			reservationListModel.removeElement(oldReservation);
+			reservationListModel.addElement(rescheduledReservation);
+			if (wasSelected)
+				reservationList.setSelectedIndex(reservationListModel.indexOf(rescheduledReservation));
+		}
+	}
+
 	/**
 	 * Displays an error message that involves operation results through Swing.
 	 * 
@@ -256,7 +588,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void showOperationError(String message) {
-		SwingUtilities.invokeLater(() -> operationErrorMsgLbl.setText(message));
+		runOnEdt("showOperationError", () -> operationErrorMsgLbl.setText(message));
 	}
 
 	/**
@@ -266,7 +598,21 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	@Override
 	public void showFormError(String message) {
-		SwingUtilities.invokeLater(() -> formErrorMsgLbl.setText(message));
+		runOnEdt("showFormError", () -> formErrorMsgLbl.setText(message));
+	}
+
+	/**
+	 * Posts a task to the event dispatch thread, through the watchdog if any.
+	 * 
+	 * @param taskName	the name of the task, used in the reports of the watchdog.
+	 * @param task		the {@code Runnable} to run on the event dispatch thread.
+	 */
+	private void runOnEdt(String taskName, Runnable task) {
+		EdtWatchdog watchdog = edtWatchdog;
+		if (watchdog != null)
+			watchdog.invokeLater(taskName, task);
+		else
+			SwingUtilities.invokeLater(task);
 	}
 
 	/**
@@ -360,17 +706,27 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 * @return the clientListModel.
 	 */
 	@Generated
-	DefaultListModel<Client> getClientListModel() {
+	IndexedListModel<Client, UUID> getClientListModel() {
 		return clientListModel;
 	}
 
+	/**
+	 * Used for tests purpose.
+	 * 
+	 * @return the clientFilterModel.
+	 */
+	@Generated
+	FilteredListModel<Client> getClientFilterModel() {
+		return clientFilterModel;
+	}
+
 	/**
 	 * Used for tests purpose.
 	 * 
 	 * @return the reservationListModel.
 	 */
 	@Generated
-	DefaultListModel<Reservation> getReservationListModel() {
+	SortedListModel<Reservation> getReservationListModel() {
 		return reservationListModel;
 	}
 
@@ -458,6 +814,64 @@ public class BookingSwingView extends JFrame implements BookingView {
 		selectAssociatedClient();
 	};
 
+	/**
+	 * Listener activated on changing the text of {@code clientFilterTxt}.
+	 * This handler shows only the clients whose first or last name starts by the text,
+	 * keeping the selected client selected if still shown, or clearing the selection otherwise.
+	 */
+	private final transient DocumentListener clientFilterListener = new DocumentListener() {
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			filterClients();
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			filterClients();
+		}
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+			filterClients();
+		}
+
+		/**
+		 * Applies the text of {@code clientFilterTxt} to the client list.
+		 */
+		private void filterClients() {
+			Client selected = clientList.getSelectedValue();
+			clientFilterModel.setQuery(clientFilterTxt.getText());
+			
+			int index = selected == null ? -1 : clientFilterModel.indexOf(selected);
+			if (index < 0)
+				clientList.clearSelection();
+			else if (clientList.getSelectedIndex() != index)
+				clientList.setSelectedIndex(index);
+		}
+	};
+
+	/**
+	 * Replaces the elements of the list with the specified ones, keeping the selected element
+	 * selected if it is still in the list, or clearing the selection otherwise.
+	 * 
+	 * @param <E>			the type of the elements of the list.
+	 * @param list			the {@code JList} to update.
+	 * @param model			the model holding the elements of {@code list}.
+	 * @param listIndexOf	the position of an element in {@code list}, or {@code -1} if not shown.
+	 * @param elements		the {@code List} of elements to show.
+	 */
+	private static <E> void replaceKeepingSelection(JList<E> list, SnapshotListModel<E> model,
+			ToIntFunction<Object> listIndexOf, List<E> elements) {
+		E selected = list.getSelectedValue();
+		model.replaceAll(elements);
+		
+		int index = selected == null ? -1 : listIndexOf.applyAsInt(selected);
+		if (index < 0)
+			list.clearSelection();
+		else if (list.getSelectedIndex() != index)
+			list.setSelectedIndex(index);
+	}
+
 	/**
 	 * Selects the client of the client list associated to the reservation selected, if it exists,
 	 * or clears the selection, otherwise.
@@ -465,42 +879,24 @@ public class BookingSwingView extends JFrame implements BookingView {
 	private void selectAssociatedClient() {
 		if (!reservationList.isSelectionEmpty()) {
 			Reservation reservationSelected = reservationList.getSelectedValue();
-			if (reservationSelected != null) {
-				clientList.setSelectedValue(
-					getClientToSelect(
-						reservationSelected.getClientId(),
-						clientListModel.toArray())
-					, true);
+			int clientPosition = reservationSelected != null
+					? clientFilterModel.toViewIndex(clientListModel.indexOfKey(reservationSelected.getClientId()))
+					: -1;
+			if (clientPosition >= 0) {
+				clientList.setSelectedIndex(clientPosition);
+				clientList.ensureIndexIsVisible(clientPosition);
 			} else
 				clientList.clearSelection();
 		}
 	}
 
-	/**
-	 * Retrieves the client of the list with the specified identifier, if it exists.
-	 * 
-	 * @param clientId		the identifier of the client to retrieve.
-	 * @param clientsInList	the list in which to search for the client to retrieve.
-	 * @return				the {@code Client} with the specified identifier, if it exists;
-	 * 						a {@code null} object, otherwise.
-	 */
-	private Client getClientToSelect(UUID clientId, Object[] clientsInList) {
-		return (Client) Arrays.stream(clientsInList)
-			.filter(c -> c != null && Objects.equals(((Client) c).getId(), clientId))
-			.findFirst()
-			.orElse(null);
-	}
-
 	/**
 	 * Action activated on clicking on {@code addClientBtn}. This handler disables
 	 * {@code addClientBtn} and delegates the operation to the presenter.
 	 */
 	private final transient ActionListener addClientAction = e -> {
 		addClientBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter
-				.addClient(nameFormTxt.getText(), surnameFormTxt.getText())
-		).start();
-		
+		bookingPresenter.addClient(nameFormTxt.getText(), surnameFormTxt.getText());
 	};
 
 	/**
@@ -509,9 +905,8 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private final transient ActionListener renameAction = e -> {
 		renameBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter.renameClient(
-				clientList.getSelectedValue(), nameFormTxt.getText(), surnameFormTxt.getText())
-		).start();
+		bookingPresenter.renameClient(
+				clientList.getSelectedValue(), nameFormTxt.getText(), surnameFormTxt.getText());
 	};
 
 	/**
@@ -520,9 +915,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private final transient ActionListener removeClientAction = e -> {
 		removeClientBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter
-				.deleteClient(clientList.getSelectedValue())
-		).start();
+		bookingPresenter.deleteClient(clientList.getSelectedValue());
 	};
 
 	/**
@@ -531,9 +924,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private final transient ActionListener addReservationAction = e -> {
 		addReservationBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter
-				.addReservation(clientList.getSelectedValue(), getDateViaForms())
-		).start();
+		bookingPresenter.addReservation(clientList.getSelectedValue(), getDateViaForms());
 	};
 
 	/**
@@ -542,9 +933,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private final transient ActionListener rescheduleAction = e -> {
 		rescheduleBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter
-				.rescheduleReservation(reservationList.getSelectedValue(), getDateViaForms())
-		).start();
+		bookingPresenter.rescheduleReservation(reservationList.getSelectedValue(), getDateViaForms());
 	};
 
 	/**
@@ -553,9 +942,7 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 */
 	private final transient ActionListener removeReservationAction = e -> {
 		removeReservationBtn.setEnabled(false);
-		new Thread(() -> bookingPresenter
-				.deleteReservation(reservationList.getSelectedValue())
-		).start();
+		bookingPresenter.deleteReservation(reservationList.getSelectedValue());
 	};
 
 	/**
@@ -844,24 +1231,33 @@ public class BookingSwingView extends JFrame implements BookingView {
 		gbcClientScrollPane.gridy = 3;
 		contentPane.add(clientScrollPane, gbcClientScrollPane);
 		
-		clientListModel = new DefaultListModel<>();
-		clientList = new JList<>(clientListModel);
+		clientListModel = new IndexedListModel<>(Client::getId);
+		clientListModel.setDisplayStringFunction(BookingSwingView::getDisplayString);
+		clientFilterModel = new FilteredListModel<>(clientListModel, clientIndex);
+		clientList = new JList<>(clientFilterModel);
 		clientList.setCellRenderer(new DefaultListCellRenderer() {
 			private static final long serialVersionUID = 1L;
 			
 			@Override
 			public Component getListCellRendererComponent(JList<?> list, Object value,
 					int index, boolean isSelected, boolean cellHasFocus) {
-				return super.getListCellRendererComponent(list,
-						getDisplayString((Client) value),
-						index, isSelected, cellHasFocus);
+				return renderPending(super.getListCellRendererComponent(list,
+						getClientDisplayString(value, index),
+						index, isSelected, cellHasFocus), pendingClients.contains(value), isSelected);
 			}
 		});
+		clientList.setPrototypeCellValue(PROTOTYPE_CLIENT);
 		clientList.addListSelectionListener(clientListListener);
 		clientList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		clientList.setName("clientList");
 		clientScrollPane.setViewportView(clientList);
 		
+		clientFilterTxt = new JTextField();
+		clientFilterTxt.getDocument().addDocumentListener(clientFilterListener);
+		clientFilterTxt.setName("clientFilterTxt");
+		clientFilterTxt.setToolTipText("Search clients by the beginning of their first or last name");
+		clientScrollPane.setColumnHeaderView(clientFilterTxt);
+		
 		reservationScrollPane = new JScrollPane();
 		reservationScrollPane.setName("reservationScrollPane");
 		GridBagConstraints gbcReservationScrollPane = new GridBagConstraints();
@@ -872,7 +1268,8 @@ public class BookingSwingView extends JFrame implements BookingView {
 		gbcReservationScrollPane.gridy = 3;
 		contentPane.add(reservationScrollPane, gbcReservationScrollPane);
 		
-		reservationListModel = new DefaultListModel<>();
+		reservationListModel = new SortedListModel<>(RESERVATION_ORDER);
+		reservationListModel.setDisplayStringFunction(BookingSwingView::getDisplayString);
 		reservationList = new JList<>(reservationListModel);
 		reservationList.setCellRenderer(new DefaultListCellRenderer() {
 			private static final long serialVersionUID = 1L;
@@ -880,11 +1277,12 @@ public class BookingSwingView extends JFrame implements BookingView {
 			@Override
 			public Component getListCellRendererComponent(JList<?> list, Object value,
 					int index, boolean isSelected, boolean cellHasFocus) {
-				return super.getListCellRendererComponent(list,
-						getDisplayString((Reservation) value),
-						index, isSelected, cellHasFocus);
+				return renderPending(super.getListCellRendererComponent(list,
+						getReservationDisplayString(value, index),
+						index, isSelected, cellHasFocus), pendingReservations.contains(value), isSelected);
 			}
 		});
+		reservationList.setPrototypeCellValue(PROTOTYPE_RESERVATION);
 		reservationList.addListSelectionListener(reservationListListener);
 		reservationList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		reservationList.setName("reservationList");
@@ -924,15 +1322,66 @@ public class BookingSwingView extends JFrame implements BookingView {
 		contentPane.add(operationErrorMsgLbl, gbcReservationErrorMsgLbl);
 	}
 
+	/**
+	 * Renders a row of a list in gray italics if it shows a pending element.
+	 * 
+	 * @param component		the {@code Component} rendering the row.
+	 * @param isPending		{@code true} if the row shows a pending element; {@code false} otherwise.
+	 * @param isSelected	{@code true} if the row is selected; {@code false} otherwise.
+	 * @return				{@code component}, styled as pending if needed.
+	 */
+	private static Component renderPending(Component component, boolean isPending, boolean isSelected) {
+		if (isPending) {
+			component.setFont(component.getFont().deriveFont(Font.ITALIC));
+			if (!isSelected)
+				component.setForeground(Color.GRAY);
+		}
+		return component;
+	}
+
+	/**
+	 * Retrieves the description string of a row of the client list, as kept by
+	 * the client list model if the row shows the client at that position.
+	 * 
+	 * @param value	the client of the row.
+	 * @param index	the position of the row; the prototype row is rendered at any position.
+	 * @return		a descriptor {@code String} of the row.
+	 */
+	private String getClientDisplayString(Object value, int index) {
+		if (index >= 0 && index < clientFilterModel.getSize() && clientFilterModel.getElementAt(index) == value)
+			return clientFilterModel.getDisplayStringAt(index);
+		return getDisplayString((Client) value);
+	}
+
+	/**
+	 * Retrieves the description string of a row of the reservation list, as kept by
+	 * the reservation list model if the row shows the reservation at that position,
+	 * unless the reservations are loaded by pages.
+	 * 
+	 * @param value	the reservation of the row, or {@code null} if its page is being loaded.
+	 * @param index	the position of the row; the prototype row is rendered at any position.
+	 * @return		a descriptor {@code String} of the row.
+	 */
+	private String getReservationDisplayString(Object value, int index) {
+		if (reservationPages != null)
+			return value == null ? LOADING_ROW : getDisplayString((Reservation) value);
+		if (index >= 0 && index < reservationListModel.getSize() && reservationListModel.getElementAt(index) == value)
+			return reservationListModel.getDisplayStringAt(index);
+		return getDisplayString((Reservation) value);
+	}
+
 	/**
 	 * Generates a description string of the reservation.
 	 *  
 	 * @param reservation	reservation for which the string is generated.
 	 * @return				a descriptor {@code String} of the reservation.
 	 */
-	private String getDisplayString(Reservation reservation) {
-		if (reservation != null)
-			return "Reservation [" + reservation.getDate() + "]";
+	private static String getDisplayString(Reservation reservation) {
+		if (reservation != null) {
+			if (Reservation.DEFAULT_RESOURCE.equals(reservation.getResource()))
+				return "Reservation [" + reservation.getDate() + "]";
+			return "Reservation [" + reservation.getResource() + ", " + reservation.getDate() + "]";
+		}
 		return String.valueOf(reservation);
 	}
 
@@ -942,9 +1391,23 @@ public class BookingSwingView extends JFrame implements BookingView {
 	 * @param client	client for which the string is generated.
 	 * @return			a descriptor {@code String} of the client.
 	 */
-	private String getDisplayString(Client client) {
+	private static String getDisplayString(Client client) {
 		if (client != null)
 			return "Client [" + client.getFirstName() + " " + client.getLastName() + "]";
 		return String.valueOf(client);
 	}
+
+	/**
+	 * Generates the terms by which the client is searched, i.e. its full name
+	 * starting by the first and by the last name.
+	 * 
+	 * @param client	client for which the terms are generated.
+	 * @return			the {@code List} of terms of the client, empty if it is {@code null}.
+	 */
+	private static List<String> getNameTerms(Client client) {
+		if (client == null)
+			return List.of();
+		return List.of(client.getFirstName() + " " + client.getLastName(),
+				client.getLastName() + " " + client.getFirstName());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,342 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Watches the responsiveness of the event dispatch thread for the tasks posted through it.
+ * For each task it measures how long the task waited in the event queue and how long it ran,
+ * keeping the most recent measures for computing their percentiles.
+ * While started, a background thread reports any task running longer than the stall threshold
+ * together with the stack trace of the event dispatch thread, so that the code stalling
+ * the user interface is pinpointed; tasks that waited longer than the threshold are reported
+ * once they run.
+ */
+public class EdtWatchdog implements AutoCloseable {
+	/**
+	 * Creates meaningful logs on behalf of the class.
+	 */
+	private static final Logger LOGGER = LogManager.getLogger(EdtWatchdog.class);
+
+	/**
+	 * Maximum number of tasks whose measures are kept.
+	 */
+	public static final int SAMPLES = 8192;
+
+	/**
+	 * Number of nanoseconds in a millisecond.
+	 */
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/**
+	 * The task running on the event dispatch thread, with the time it started.
+	 */
+	private static final class RunningTask {
+		/**
+		 * The name of the task, used in reports.
+		 */
+		private final String name;
+
+		/**
+		 * The thread running the task.
+		 */
+		private final Thread thread;
+
+		/**
+		 * The time in nanoseconds the task started.
+		 */
+		private final long startedAt;
+
+		/**
+		 * Whether the stall of the task has been already reported.
+		 */
+		private final AtomicBoolean reported = new AtomicBoolean();
+
+		private RunningTask(String name, Thread thread, long startedAt) {
+			this.name = name;
+			this.thread = thread;
+			this.startedAt = startedAt;
+		}
+	}
+
+	/**
+	 * The time in nanoseconds a task can wait or run before being reported as a stall.
+	 */
+	private final long stallThresholdNanos;
+
+	/**
+	 * Posts the tasks to the event dispatch thread.
+	 */
+	private final Executor eventQueue;
+
+	/**
+	 * The time in nanoseconds the most recent tasks waited in the event queue, cyclically.
+	 */
+	private final long[] waitNanos = new long[SAMPLES];
+
+	/**
+	 * The time in nanoseconds the most recent tasks ran, cyclically.
+	 */
+	private final long[] runNanos = new long[SAMPLES];
+
+	/**
+	 * Number of tasks measured so far.
+	 */
+	private long taskCount;
+
+	/**
+	 * Number of stalls reported so far.
+	 */
+	private final LongAdder stallCount = new LongAdder();
+
+	/**
+	 * The task currently running, or {@code null} if none.
+	 */
+	private volatile RunningTask runningTask;
+
+	/**
+	 * Checks periodically the task running, or {@code null} if not started.
+	 */
+	private ScheduledExecutorService monitor;
+
+	/**
+	 * Constructs a watchdog of the tasks posted to the event dispatch thread.
+	 *
+	 * @param stallThreshold			the {@code Duration} a task can wait or run before being
+	 * 									reported as a stall.
+	 * @throws IllegalArgumentException	if {@code stallThreshold} is not positive.
+	 */
+	public EdtWatchdog(Duration stallThreshold) throws IllegalArgumentException {
+		this(stallThreshold, SwingUtilities::invokeLater);
+	}
+
+	/**
+	 * Constructs a watchdog of the tasks posted through the specified executor.
+	 *
+	 * @param stallThreshold			the {@code Duration} a task can wait or run before being
+	 * 									reported as a stall.
+	 * @param eventQueue				the {@code Executor} running the tasks.
+	 * @throws IllegalArgumentException	if {@code stallThreshold} is not positive.
+	 */
+	EdtWatchdog(Duration stallThreshold, Executor eventQueue) throws IllegalArgumentException {
+		if (stallThreshold.isNegative() || stallThreshold.isZero())
+			throw new IllegalArgumentException("Stall threshold must be positive.");
+
+		this.stallThresholdNanos = stallThreshold.toNanos();
+		this.eventQueue = eventQueue;
+	}
+
+	/**
+	 * Starts reporting the tasks while they stall, checking them twice per threshold.
+	 * It does nothing if already started.
+	 */
+	public synchronized void start() {
+		if (monitor != null)
+			return;
+
+		monitor = Executors.newSingleThreadScheduledExecutor(check -> {
+			Thread thread = new Thread(check, "edt-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(stallThresholdNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+		monitor.scheduleAtFixedRate(this::checkStall, period, period, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Stops reporting the tasks while they stall; tasks are still measured.
+	 */
+	@Override
+	public synchronized void close() {
+		if (monitor != null) {
+			monitor.shutdownNow();
+			monitor = null;
+		}
+	}
+
+	/**
+	 * Posts a task to the event dispatch thread, measuring how long it waits and runs.
+	 *
+	 * @param name	the name of the task, used in reports.
+	 * @param task	the {@code Runnable} to run on the event dispatch thread.
+	 */
+	public void invokeLater(String name, Runnable task) {
+		long postedAt = System.nanoTime();
+		eventQueue.execute(() -> run(name, task, postedAt));
+	}
+
+	/**
+	 * Runs the task and records its measures, reporting it if stalled and not reported yet.
+	 *
+	 * @param name		the name of the task.
+	 * @param task		the {@code Runnable} to run.
+	 * @param postedAt	the time in nanoseconds the task was posted.
+	 */
+	private void run(String name, Runnable task, long postedAt) {
+		RunningTask running = new RunningTask(name, Thread.currentThread(), System.nanoTime());
+		RunningTask outer = runningTask;
+		runningTask = running;
+		try {
+			task.run();
+		} finally {
+			long runNanosOfTask = System.nanoTime() - running.startedAt;
+			long waitNanosOfTask = running.startedAt - postedAt;
+			runningTask = outer;
+			record(waitNanosOfTask, runNanosOfTask);
+
+			if (waitNanosOfTask > stallThresholdNanos) {
+				stallCount.increment();
+				LOGGER.warn(() -> String.format("EDT task '%s' waited %.1f ms in the event queue.",
+						name, waitNanosOfTask / NANOS_PER_MILLI));
+			}
+			if (runNanosOfTask > stallThresholdNanos && running.reported.compareAndSet(false, true)) {
+				stallCount.increment();
+				LOGGER.warn(() -> String.format("EDT task '%s' ran for %.1f ms.",
+						name, runNanosOfTask / NANOS_PER_MILLI));
+			}
+		}
+	}
+
+	/**
+	 * Reports the task currently running if it has been running longer than the threshold,
+	 * together with the stack trace of its thread. Each task is reported once at most.
+	 */
+	void checkStall() {
+		RunningTask running = runningTask;
+		if (running == null)
+			return;
+
+		long runNanosOfTask = System.nanoTime() - running.startedAt;
+		if (runNanosOfTask > stallThresholdNanos && running.reported.compareAndSet(false, true)) {
+			stallCount.increment();
+			StackTraceElement[] stackTrace = running.thread.getStackTrace();
+			LOGGER.warn(() -> String.format("EDT task '%s' has been running for %.1f ms:%s",
+					running.name, runNanosOfTask / NANOS_PER_MILLI, formatStackTrace(stackTrace)));
+		}
+	}
+
+	/**
+	 * Records the measures of a task, overwriting the oldest ones if too many.
+	 *
+	 * @param waitNanosOfTask	the time in nanoseconds the task waited.
+	 * @param runNanosOfTask	the time in nanoseconds the task ran.
+	 */
+	private synchronized void record(long waitNanosOfTask, long runNanosOfTask) {
+		int sample = (int) (taskCount++ % SAMPLES);
+		waitNanos[sample] = waitNanosOfTask;
+		runNanos[sample] = runNanosOfTask;
+	}
+
+	/**
+	 * Retrieves the number of tasks measured so far.
+	 *
+	 * @return	the number of tasks run.
+	 */
+	public synchronized long getTaskCount() {
+		return taskCount;
+	}
+
+	/**
+	 * Retrieves the number of stalls reported so far, counting once each task that
+	 * waited too long and once each task that ran too long.
+	 *
+	 * @return	the number of stalls.
+	 */
+	public long getStallCount() {
+		return stallCount.sum();
+	}
+
+	/**
+	 * Computes a percentile of the time the most recent tasks waited in the event queue
+	 * by the nearest-rank method.
+	 *
+	 * @param percentile				the percentile, between 0 excluded and 100 included.
+	 * @return							the waiting time in nanoseconds not exceeded by
+	 * 									{@code percentile} percent of the tasks, or zero if none.
+	 * @throws IllegalArgumentException	if {@code percentile} is out of range.
+	 */
+	public synchronized long getWaitPercentile(double percentile) throws IllegalArgumentException {
+		return percentileOf(waitNanos, percentile);
+	}
+
+	/**
+	 * Computes a percentile of the time the most recent tasks ran by the nearest-rank method.
+	 *
+	 * @param percentile				the percentile, between 0 excluded and 100 included.
+	 * @return							the running time in nanoseconds not exceeded by
+	 * 									{@code percentile} percent of the tasks, or zero if none.
+	 * @throws IllegalArgumentException	if {@code percentile} is out of range.
+	 */
+	public synchronized long getRunPercentile(double percentile) throws IllegalArgumentException {
+		return percentileOf(runNanos, percentile);
+	}
+
+	/**
+	 * Forgets the measures and the stalls so far, e.g. after warming up.
+	 */
+	public synchronized void reset() {
+		taskCount = 0;
+		stallCount.reset();
+	}
+
+	/**
+	 * Formats the main percentiles of the waiting and running times of the most recent tasks.
+	 *
+	 * @return	a human-readable summary of the measures.
+	 */
+	public synchronized String format() {
+		return String.format("%d EDT tasks, %d stalls%n"
+				+ "Wait p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms%n"
+				+ "Run p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms",
+				taskCount, getStallCount(),
+				getWaitPercentile(50) / NANOS_PER_MILLI, getWaitPercentile(90) / NANOS_PER_MILLI,
+				getWaitPercentile(99) / NANOS_PER_MILLI, getWaitPercentile(100) / NANOS_PER_MILLI,
+				getRunPercentile(50) / NANOS_PER_MILLI, getRunPercentile(90) / NANOS_PER_MILLI,
+				getRunPercentile(99) / NANOS_PER_MILLI, getRunPercentile(100) / NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Computes a percentile of the samples recorded by the nearest-rank method.
+	 *
+	 * @param samples					the cyclic array of samples.
+	 * @param percentile				the percentile, between 0 excluded and 100 included.
+	 * @return							the sample not exceeded by {@code percentile} percent
+	 * 									of the samples recorded, or zero if none.
+	 * @throws IllegalArgumentException	if {@code percentile} is out of range.
+	 */
+	private long percentileOf(long[] samples, double percentile) throws IllegalArgumentException {
+		if (percentile <= 0 || percentile > 100)
+			throw new IllegalArgumentException("Percentile must be greater than 0 and at most 100.");
+		int recorded = (int) Math.min(taskCount, SAMPLES);
+		if (recorded == 0)
+			return 0;
+		long[] sorted = Arrays.copyOf(samples, recorded);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100 * recorded);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Formats a stack trace one frame per line, as printed by exceptions.
+	 *
+	 * @param stackTrace	the frames of the stack trace.
+	 * @return				the frames on separate lines.
+	 */
+	private static String formatStackTrace(StackTraceElement[] stackTrace) {
+		StringBuilder formatted = new StringBuilder();
+		for (StackTraceElement frame : stackTrace)
+			formatted.append(System.lineSeparator()).append("\tat ").append(frame);
+		return formatted.toString();
+	}
+}
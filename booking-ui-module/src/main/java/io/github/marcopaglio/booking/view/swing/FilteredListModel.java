@@ -0,0 +1,278 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * A view of a snapshot list model that shows only the elements matching a query on
+ * a {@code PrefixIndex}, in the order of the source model. Without a query, it shows all
+ * the elements and forwards the events of the source model as they are. A new query finds
+ * its matches through the index, while only the changed ranges of the source model are
+ * filtered again, so that the view follows the source without searching the index.
+ * Note: the index must hold the elements of the source model.
+ *
+ * @param <E>	the type of the elements of the model.
+ */
+public class FilteredListModel<E> extends AbstractListModel<E> implements ListDataListener {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The model whose elements are filtered.
+	 */
+	private final SnapshotListModel<E> source;
+
+	/**
+	 * The index searched for the elements matching a query.
+	 */
+	private final transient PrefixIndex<E> index;
+
+	/**
+	 * The normalized query, or {@code null} if all the elements are shown.
+	 */
+	private String query;
+
+	/**
+	 * The positions in the source model of the elements shown, in ascending order.
+	 */
+	private int[] shown = new int[0];
+
+	/**
+	 * The number of elements shown while a query is set.
+	 */
+	private int shownCount;
+
+	/**
+	 * Constructs a view of all the elements of the source model.
+	 *
+	 * @param source	the {@code SnapshotListModel} to filter.
+	 * @param index		the {@code PrefixIndex} of the elements of {@code source}.
+	 */
+	public FilteredListModel(SnapshotListModel<E> source, PrefixIndex<E> index) {
+		this.source = source;
+		this.index = index;
+		source.addListDataListener(this);
+	}
+
+	@Override
+	public int getSize() {
+		return query == null ? source.getSize() : shownCount;
+	}
+
+	@Override
+	public E getElementAt(int position) {
+		return source.getElementAt(query == null ? position : shown[position]);
+	}
+
+	/**
+	 * Retrieves the display string of the element shown at the specified position,
+	 * as kept by the source model.
+	 *
+	 * @param position	the position of the element in this model.
+	 * @return			the display string of the element at {@code position}.
+	 */
+	public String getDisplayStringAt(int position) {
+		return source.getDisplayStringAt(query == null ? position : shown[position]);
+	}
+
+	/**
+	 * Shows only the elements with a term starting by the specified query,
+	 * or all the elements if the query is blank.
+	 *
+	 * @param text	the query, normalized by this method.
+	 */
+	public void setQuery(String text) {
+		String newQuery = text == null || text.isBlank() ? null : PrefixIndex.normalize(text);
+		if (newQuery == null && query == null)
+			return;
+
+		int oldSize = getSize();
+		String oldQuery = query;
+		query = newQuery;
+		if (query != null) {
+			if (oldQuery != null && query.startsWith(oldQuery))
+				narrow();
+			else
+				search();
+		}
+		fireReplaced(oldSize, getSize());
+	}
+
+	/**
+	 * Shows the elements found by searching the index for the query.
+	 */
+	private void search() {
+		List<E> matches = index.search(query);
+		int[] positions = new int[matches.size()];
+		int count = 0;
+		for (E element : matches) {
+			int position = source.indexOf(element);
+			if (position >= 0)
+				positions[count++] = position;
+		}
+		Arrays.sort(positions, 0, count);
+		// elements matching by more terms are found more times
+		int unique = 0;
+		for (int i = 0; i < count; i++)
+			if (unique == 0 || positions[unique - 1] != positions[i])
+				positions[unique++] = positions[i];
+		shown = positions;
+		shownCount = unique;
+	}
+
+	/**
+	 * Keeps showing only the elements shown that match the query, which extends the previous
+	 * one, without searching the index.
+	 */
+	private void narrow() {
+		int count = 0;
+		for (int i = 0; i < shownCount; i++)
+			if (index.matches(source.getElementAt(shown[i]), query))
+				shown[count++] = shown[i];
+		shownCount = count;
+	}
+
+	/**
+	 * Retrieves the position in this model of an element of the source model.
+	 *
+	 * @param sourcePosition	the position in the source model, or {@code -1}.
+	 * @return					the position of the element in this model, if shown;
+	 * 							{@code -1}, otherwise.
+	 */
+	public int toViewIndex(int sourcePosition) {
+		if (query == null || sourcePosition < 0)
+			return sourcePosition;
+		int position = Arrays.binarySearch(shown, 0, shownCount, sourcePosition);
+		return position >= 0 ? position : -1;
+	}
+
+	/**
+	 * Retrieves the position in this model of the element equal to the specified one.
+	 *
+	 * @param element	the element to search for.
+	 * @return			the index of {@code element}, if shown; {@code -1}, otherwise.
+	 */
+	public int indexOf(Object element) {
+		return toViewIndex(source.indexOf(element));
+	}
+
+	@Override
+	public void intervalAdded(ListDataEvent e) {
+		if (query == null) {
+			fireIntervalAdded(this, e.getIndex0(), e.getIndex1());
+			return;
+		}
+		int from = lowerBound(e.getIndex0());
+		shift(from, e.getIndex1() - e.getIndex0() + 1);
+		replaceSegment(from, from, e.getIndex0(), e.getIndex1());
+	}
+
+	@Override
+	public void intervalRemoved(ListDataEvent e) {
+		if (query == null) {
+			fireIntervalRemoved(this, e.getIndex0(), e.getIndex1());
+			return;
+		}
+		int from = lowerBound(e.getIndex0());
+		int to = lowerBound(e.getIndex1() + 1);
+		shift(to, -(e.getIndex1() - e.getIndex0() + 1));
+		replaceSegment(from, to, e.getIndex0(), e.getIndex0() - 1);
+	}
+
+	@Override
+	public void contentsChanged(ListDataEvent e) {
+		if (query == null) {
+			fireContentsChanged(this, e.getIndex0(), e.getIndex1());
+			return;
+		}
+		replaceSegment(lowerBound(e.getIndex0()), lowerBound(e.getIndex1() + 1),
+				e.getIndex0(), e.getIndex1());
+	}
+
+	/**
+	 * Shifts the source positions of the elements shown from the specified position on.
+	 *
+	 * @param from		the position in this model of the first element to shift.
+	 * @param offset	the number of positions to add.
+	 */
+	private void shift(int from, int offset) {
+		for (int i = from; i < shownCount; i++)
+			shown[i] += offset;
+	}
+
+	/**
+	 * Replaces a segment of the elements shown with the matching elements of a range
+	 * of the source model, firing one change event for the common part and one event
+	 * for the difference in size.
+	 *
+	 * @param from			the position in this model of the segment.
+	 * @param to			the position in this model following the segment.
+	 * @param sourceFrom	the first position of the range in the source model.
+	 * @param sourceTo		the last position of the range in the source model.
+	 */
+	private void replaceSegment(int from, int to, int sourceFrom, int sourceTo) {
+		int[] matching = new int[Math.max(0, sourceTo - sourceFrom + 1)];
+		int count = 0;
+		for (int position = sourceFrom; position <= sourceTo; position++) {
+			E element = source.getElementAt(position);
+			if (element != null && index.matches(element, query))
+				matching[count++] = position;
+		}
+
+		int oldCount = to - from;
+		int newShownCount = shownCount - oldCount + count;
+		if (newShownCount > shown.length)
+			shown = Arrays.copyOf(shown, Math.max(newShownCount, shown.length * 2));
+		System.arraycopy(shown, to, shown, from + count, shownCount - to);
+		System.arraycopy(matching, 0, shown, from, count);
+		shownCount = newShownCount;
+
+		int overlap = Math.min(oldCount, count);
+		if (overlap > 0)
+			fireContentsChanged(this, from, from + overlap - 1);
+		if (oldCount > count)
+			fireIntervalRemoved(this, from + count, from + oldCount - 1);
+		else if (count > oldCount)
+			fireIntervalAdded(this, from + oldCount, from + count - 1);
+	}
+
+	/**
+	 * Searches for the first element shown at or after the specified position of the source model.
+	 *
+	 * @param sourcePosition	the position in the source model.
+	 * @return					the position in this model of the first element shown
+	 * 							whose source position is not less than {@code sourcePosition}.
+	 */
+	private int lowerBound(int sourcePosition) {
+		int low = 0;
+		int high = shownCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (shown[middle] < sourcePosition)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Fires the events of the replacement of all the elements shown, i.e. one change event
+	 * for the common part and one event for the difference in size.
+	 *
+	 * @param oldSize	the number of elements shown before.
+	 * @param newSize	the number of elements shown now.
+	 */
+	private void fireReplaced(int oldSize, int newSize) {
+		int overlap = Math.min(oldSize, newSize);
+		if (overlap > 0)
+			fireContentsChanged(this, 0, overlap - 1);
+		if (oldSize > newSize)
+			fireIntervalRemoved(this, newSize, oldSize - 1);
+		else if (newSize > oldSize)
+			fireIntervalAdded(this, oldSize, newSize - 1);
+	}
+}
@@ -0,0 +1,152 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A snapshot list model that keeps the positions of its elements in hash indexes, both by
+ * element and by a key extracted from it, such as an identifier, so that an element is
+ * found in constant time and without copying the model. Appending or replacing an element
+ * updates the indexes in constant time, while inserting or removing one re-indexes
+ * the following elements only.
+ * Note: elements must be distinct, as well as their keys, and must not change while in
+ * the model; {@code null} elements, and elements with a {@code null} key, are not indexed by key.
+ *
+ * @param <E>	the type of the elements of the model.
+ * @param <K>	the type of the keys of the elements.
+ */
+public class IndexedListModel<E, K> extends SnapshotListModel<E> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Extracts the key of an element.
+	 */
+	private final transient Function<? super E, ? extends K> keyExtractor;
+
+	/**
+	 * The positions of the elements of the model.
+	 */
+	private final transient Map<E, Integer> positions;
+
+	/**
+	 * The positions of the elements of the model, by key.
+	 */
+	private final transient Map<K, Integer> keyPositions;
+
+	/**
+	 * Constructs an empty model indexing its elements by the specified key.
+	 *
+	 * @param keyExtractor	the {@code Function} extracting the key of an element.
+	 */
+	public IndexedListModel(Function<? super E, ? extends K> keyExtractor) {
+		super();
+		this.keyExtractor = keyExtractor;
+		this.positions = new HashMap<>();
+		this.keyPositions = new HashMap<>();
+	}
+
+	/**
+	 * Retrieves the position of the element equal to the specified one through the index.
+	 *
+	 * @param element	the element to search for.
+	 * @return			the index of {@code element}, if it exists; {@code -1}, otherwise.
+	 */
+	@Override
+	public int indexOf(Object element) {
+		Integer index = positions.get(element);
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * Retrieves the position of the element with the specified key through the index.
+	 *
+	 * @param key	the key of the element to search for.
+	 * @return		the index of the element with {@code key}, if it exists; {@code -1}, otherwise.
+	 */
+	public int indexOfKey(K key) {
+		Integer index = key != null ? keyPositions.get(key) : null;
+		return index != null ? index : -1;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		super.add(index, element);
+		reindexFrom(index);
+	}
+
+	@Override
+	public E set(int index, E element) {
+		E previous = super.set(index, element);
+		unindex(previous);
+		index(element, index);
+		return previous;
+	}
+
+	@Override
+	public boolean removeElement(Object element) {
+		int index = indexOf(element);
+		if (index < 0)
+			return false;
+
+		E removed = getElementAt(index);
+		super.removeElement(element);
+		unindex(removed);
+		reindexFrom(index);
+		return true;
+	}
+
+	@Override
+	public void replaceAll(List<? extends E> snapshot) {
+		super.replaceAll(snapshot);
+		positions.clear();
+		keyPositions.clear();
+		reindexFrom(0);
+	}
+
+	/**
+	 * Indexes the elements from the specified position to the end of the model.
+	 *
+	 * @param from	the position of the first element to index.
+	 */
+	private void reindexFrom(int from) {
+		for (int i = from; i < getSize(); i++)
+			index(getElementAt(i), i);
+	}
+
+	/**
+	 * Indexes the element at the specified position.
+	 *
+	 * @param element	the element to index.
+	 * @param index		the position of {@code element}.
+	 */
+	private void index(E element, int index) {
+		positions.put(element, index);
+		K key = keyOf(element);
+		if (key != null)
+			keyPositions.put(key, index);
+	}
+
+	/**
+	 * Removes the element from the indexes.
+	 *
+	 * @param element	the element to remove from the indexes.
+	 */
+	private void unindex(E element) {
+		positions.remove(element);
+		K key = keyOf(element);
+		if (key != null)
+			keyPositions.remove(key);
+	}
+
+	/**
+	 * Extracts the key of the specified element.
+	 *
+	 * @param element	the element, possibly {@code null}.
+	 * @return			the key of {@code element}, or {@code null} if the element is {@code null}.
+	 */
+	private K keyOf(E element) {
+		return element != null ? keyExtractor.apply(element) : null;
+	}
+}
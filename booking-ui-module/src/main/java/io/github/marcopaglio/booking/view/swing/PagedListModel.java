@@ -0,0 +1,243 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.AbstractListModel;
+
+/**
+ * A virtual list model that knows only the total number of its elements and holds
+ * a few pages of them, loaded on demand as they are displayed. Pages are requested
+ * in background through a {@code PageLoader}, together with their neighbours, and are
+ * given back through {@code pageLoaded}; meanwhile their elements are {@code null}.
+ * The least recently displayed pages are evicted, so that the memory taken by the model
+ * is bounded whatever the number of elements.
+ * Note: the model must be accessed from the event dispatch thread only, and the pages kept
+ * must be enough for the displayed ones plus their two neighbours.
+ *
+ * @param <E>	the type of the elements of the model.
+ */
+public class PagedListModel<E> extends AbstractListModel<E> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Time after which a page still being loaded is requested again, e.g. after a failure.
+	 */
+	private static final long RELOAD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+	/**
+	 * Loads the pages of elements of a {@code PagedListModel}.
+	 */
+	@FunctionalInterface
+	public interface PageLoader {
+
+		/**
+		 * Requests a page of elements, which has to be given back to the model
+		 * through {@code pageLoaded} on the event dispatch thread.
+		 *
+		 * @param offset	the number of elements preceding the page.
+		 * @param limit		the maximum number of elements of the page.
+		 */
+		void loadPage(int offset, int limit);
+	}
+
+	/**
+	 * The number of elements of each page.
+	 */
+	private final int pageSize;
+
+	/**
+	 * The maximum number of pages kept, which is also the maximum number of pages being loaded.
+	 */
+	private final int cachedPages;
+
+	/**
+	 * Loads the requested pages.
+	 */
+	private final transient PageLoader loader;
+
+	/**
+	 * Runs the requests of pages out of the event dispatch thread.
+	 */
+	private final transient Executor executor;
+
+	/**
+	 * The pages kept, by index, from the least to the most recently displayed.
+	 */
+	private final transient Map<Integer, List<E>> pages;
+
+	/**
+	 * The pages being loaded, by index, with the time of their request.
+	 */
+	private final transient Map<Integer, Long> loadingPages = new HashMap<>();
+
+	/**
+	 * The total number of elements, as known from the last page loaded.
+	 */
+	private int size;
+
+	/**
+	 * Constructs an empty model loading its pages in background.
+	 *
+	 * @param pageSize					the number of elements of each page.
+	 * @param cachedPages				the maximum number of pages kept.
+	 * @param loader					the {@code PageLoader} of the pages.
+	 * @throws IllegalArgumentException	if {@code pageSize} is not positive or
+	 * 									{@code cachedPages} is less than three.
+	 */
+	public PagedListModel(int pageSize, int cachedPages, PageLoader loader) throws IllegalArgumentException {
+		this(pageSize, cachedPages, loader, null);
+	}
+
+	/**
+	 * Constructs an empty model requesting its pages through the specified executor.
+	 *
+	 * @param pageSize					the number of elements of each page.
+	 * @param cachedPages				the maximum number of pages kept.
+	 * @param loader					the {@code PageLoader} of the pages.
+	 * @param executor					the {@code Executor} running the requests of pages,
+	 * 									or {@code null} for a background thread.
+	 * @throws IllegalArgumentException	if {@code pageSize} is not positive or
+	 * 									{@code cachedPages} is less than three.
+	 */
+	PagedListModel(int pageSize, int cachedPages, PageLoader loader, Executor executor)
+			throws IllegalArgumentException {
+		if (pageSize <= 0)
+			throw new IllegalArgumentException("Size of pages must be positive.");
+		if (cachedPages < 3)
+			throw new IllegalArgumentException("Number of cached pages cannot be less than three.");
+
+		this.pageSize = pageSize;
+		this.cachedPages = cachedPages;
+		this.loader = loader;
+		this.executor = executor != null ? executor : Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, getClass().getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.pages = new LinkedHashMap<>(cachedPages * 2, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, List<E>> eldest) {
+				return size() > cachedPages;
+			}
+		};
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the element at the specified position, if its page is kept; otherwise the page
+	 * is requested. In both cases the neighbouring pages are prefetched.
+	 *
+	 * @param index	the position of the element.
+	 * @return		the element at {@code index}, if its page is kept; {@code null}, otherwise.
+	 */
+	@Override
+	public E getElementAt(int index) {
+		int page = index / pageSize;
+		List<E> elements = pages.get(page);
+		if (elements == null)
+			request(page);
+		request(page + 1);
+		request(page - 1);
+
+		int position = index - page * pageSize;
+		return elements != null && position < elements.size() ? elements.get(position) : null;
+	}
+
+	/**
+	 * Stores a page of elements loaded on request, updating the total number of elements.
+	 * Pages not requested, or no longer requested since the model was invalidated, are ignored.
+	 *
+	 * @param offset	the number of elements preceding the page.
+	 * @param total		the total number of elements when the page was loaded.
+	 * @param elements	the {@code List} of elements of the page.
+	 */
+	public void pageLoaded(int offset, long total, List<? extends E> elements) {
+		int page = offset / pageSize;
+		if (loadingPages.remove(page) == null)
+			return;
+
+		int newSize = (int) Math.min(total, Integer.MAX_VALUE);
+		if (newSize != size) {
+			// the other pages may be shifted
+			pages.clear();
+			resize(newSize);
+		}
+		if (offset < size) {
+			pages.put(page, new ArrayList<>(elements));
+			fireContentsChanged(this, offset, Math.min(offset + pageSize, size) - 1);
+		}
+	}
+
+	/**
+	 * Drops the pages kept and being loaded, so that the displayed ones are loaded again
+	 * together with the total number of elements.
+	 */
+	public void invalidate() {
+		pages.clear();
+		loadingPages.clear();
+		request(0);
+		if (size > 0)
+			fireContentsChanged(this, 0, size - 1);
+	}
+
+	/**
+	 * Retrieves the number of elements kept by the model.
+	 *
+	 * @return	the number of elements of the pages kept.
+	 */
+	int getCachedCount() {
+		return pages.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Requests the specified page, unless it is out of the list, kept or being loaded;
+	 * the requests are also refused while too many pages are being loaded.
+	 *
+	 * @param page	the index of the page.
+	 */
+	private void request(int page) {
+		if (page < 0 || (page > 0 && (long) page * pageSize >= size) || pages.containsKey(page))
+			return;
+
+		long now = System.nanoTime();
+		Long requested = loadingPages.get(page);
+		if (requested != null && now - requested < RELOAD_NANOS)
+			return;
+		if (loadingPages.size() >= cachedPages) {
+			loadingPages.values().removeIf(time -> now - time >= RELOAD_NANOS);
+			if (loadingPages.size() >= cachedPages)
+				return;
+		}
+
+		loadingPages.put(page, now);
+		int offset = page * pageSize;
+		executor.execute(() -> loader.loadPage(offset, pageSize));
+	}
+
+	/**
+	 * Changes the total number of elements, firing the event of the elements added or removed.
+	 *
+	 * @param newSize	the new number of elements.
+	 */
+	private void resize(int newSize) {
+		int oldSize = size;
+		size = newSize;
+		if (newSize < oldSize)
+			fireIntervalRemoved(this, newSize, oldSize - 1);
+		else
+			fireIntervalAdded(this, oldSize, newSize - 1);
+	}
+}
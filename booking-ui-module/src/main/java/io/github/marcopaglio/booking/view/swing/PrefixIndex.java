@@ -0,0 +1,278 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * An in-memory index of elements by the prefixes of their terms, such as names.
+ * Terms are normalized, i.e. lower-cased, stripped of accents and of repeated spaces,
+ * and kept sorted in flat arrays together with their elements, so that the elements
+ * with a term starting by a query are found by two binary searches and copied at once.
+ * The index is maintained incrementally as elements are added and removed.
+ * Note: the normalized terms of the elements are kept, hence the elements are removed
+ * and matched by the terms they had when added.
+ *
+ * @param <E>	the type of the elements of the index.
+ */
+public class PrefixIndex<E> {
+	/**
+	 * Matches the marks left by the decomposition of accented letters.
+	 */
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	/**
+	 * Matches sequences of whitespaces.
+	 */
+	private static final Pattern SPACES = Pattern.compile("\\s+");
+
+	/**
+	 * Extracts the terms of an element.
+	 */
+	private final Function<? super E, ? extends Collection<String>> termsExtractor;
+
+	/**
+	 * The normalized terms of the index, in ascending order, one per element having them.
+	 */
+	private String[] terms;
+
+	/**
+	 * The elements of the index, each at the position of one of its terms.
+	 */
+	private Object[] owners;
+
+	/**
+	 * The number of terms of the index.
+	 */
+	private int size;
+
+	/**
+	 * The normalized terms of the elements of the index.
+	 */
+	private final Map<E, List<String>> termsByElement;
+
+	/**
+	 * Constructs an empty index of elements by the specified terms.
+	 *
+	 * @param termsExtractor	the {@code Function} extracting the terms of an element.
+	 */
+	public PrefixIndex(Function<? super E, ? extends Collection<String>> termsExtractor) {
+		this.termsExtractor = termsExtractor;
+		this.terms = new String[16];
+		this.owners = new Object[16];
+		this.termsByElement = new HashMap<>();
+	}
+
+	/**
+	 * Normalizes a term or a query, so that they are compared ignoring case, accents and spaces.
+	 *
+	 * @param text	the text to normalize.
+	 * @return		the text lower-cased, without accents and with single spaces between words.
+	 */
+	public static String normalize(String text) {
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		String unaccented = MARKS.matcher(decomposed).replaceAll("");
+		return SPACES.matcher(unaccented.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Adds the element to the index under its terms.
+	 *
+	 * @param element	the element to add.
+	 */
+	public void add(E element) {
+		List<String> elementTerms = normalizedTerms(element);
+		List<String> previousTerms = termsByElement.put(element, elementTerms);
+		if (previousTerms != null)
+			unindex(element, previousTerms);
+		for (String term : elementTerms)
+			insert(lowerBound(term), term, element);
+	}
+
+	/**
+	 * Removes the element from the index.
+	 *
+	 * @param element	the element to remove.
+	 */
+	public void remove(E element) {
+		List<String> elementTerms = termsByElement.remove(element);
+		if (elementTerms != null)
+			unindex(element, elementTerms);
+	}
+
+	/**
+	 * Replaces the elements of the index with the specified ones, adding and removing
+	 * only the elements that differ, so that unchanged elements are not normalized again.
+	 * The terms removed are dropped in one pass and the terms added are merged in another,
+	 * so that the cost is linear in the size of the index.
+	 *
+	 * @param elements	the {@code Collection} of elements to index.
+	 */
+	public void replaceAll(Collection<? extends E> elements) {
+		Set<E> kept = new HashSet<>(elements);
+		Set<E> removed = new HashSet<>();
+		termsByElement.keySet().removeIf(element -> !kept.contains(element) && removed.add(element));
+		if (!removed.isEmpty()) {
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (!removed.contains(owners[i])) {
+					terms[count] = terms[i];
+					owners[count++] = owners[i];
+				}
+			}
+			Arrays.fill(terms, count, size, null);
+			Arrays.fill(owners, count, size, null);
+			size = count;
+		}
+
+		List<Map.Entry<String, E>> added = new ArrayList<>();
+		for (E element : elements) {
+			if (!termsByElement.containsKey(element)) {
+				List<String> elementTerms = normalizedTerms(element);
+				termsByElement.put(element, elementTerms);
+				for (String term : elementTerms)
+					added.add(Map.entry(term, element));
+			}
+		}
+		if (!added.isEmpty())
+			merge(added);
+	}
+
+	/**
+	 * Retrieves the elements with a term starting by the specified query.
+	 *
+	 * @param query	the prefix of the terms, normalized by this method.
+	 * @return		the {@code List} of elements with a term starting by {@code query},
+	 * 				ordered by term; an element matching by more terms is repeated.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> search(String query) {
+		String prefix = normalize(query);
+		int from = lowerBound(prefix);
+		int to = lowerBound(prefix + Character.MAX_VALUE);
+		return (List<E>) Arrays.asList(Arrays.copyOfRange(owners, from, to));
+	}
+
+	/**
+	 * Checks whether the element of the index has a term starting by the specified query,
+	 * without searching the index.
+	 *
+	 * @param element	the element to check.
+	 * @param query		the prefix of the terms, already normalized.
+	 * @return			{@code true} if {@code element} is in the index and one of its terms
+	 * 					starts by {@code query}; {@code false} otherwise.
+	 */
+	public boolean matches(E element, String query) {
+		List<String> elementTerms = termsByElement.get(element);
+		if (elementTerms != null)
+			for (String term : elementTerms)
+				if (term.startsWith(query))
+					return true;
+		return false;
+	}
+
+	/**
+	 * Extracts and normalizes the terms of the element.
+	 *
+	 * @param element	the element whose terms are extracted.
+	 * @return			the {@code List} of normalized terms of {@code element}.
+	 */
+	private List<String> normalizedTerms(E element) {
+		return termsExtractor.apply(element).stream().map(PrefixIndex::normalize).toList();
+	}
+
+	/**
+	 * Searches for the position of the first term not less than the specified one.
+	 *
+	 * @param term	the term to search for.
+	 * @return		the position of the first term of the index not less than {@code term}.
+	 */
+	private int lowerBound(String term) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (terms[middle].compareTo(term) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Inserts a term of an element at the specified position, shifting the following ones.
+	 *
+	 * @param position	the position of the term.
+	 * @param term		the normalized term.
+	 * @param element	the element having {@code term}.
+	 */
+	private void insert(int position, String term, E element) {
+		if (size == terms.length) {
+			terms = Arrays.copyOf(terms, size * 2);
+			owners = Arrays.copyOf(owners, size * 2);
+		}
+		System.arraycopy(terms, position, terms, position + 1, size - position);
+		System.arraycopy(owners, position, owners, position + 1, size - position);
+		terms[position] = term;
+		owners[position] = element;
+		size++;
+	}
+
+	/**
+	 * Merges the specified terms with the ones of the index, keeping them sorted.
+	 *
+	 * @param added	the {@code List} of the normalized terms to add, with their elements.
+	 */
+	private void merge(List<Map.Entry<String, E>> added) {
+		added.sort(Map.Entry.comparingByKey());
+		int newSize = size + added.size();
+		String[] mergedTerms = new String[Math.max(16, newSize)];
+		Object[] mergedOwners = new Object[mergedTerms.length];
+		int i = 0;
+		int j = 0;
+		for (int k = 0; k < newSize; k++) {
+			if (j == added.size() || (i < size && terms[i].compareTo(added.get(j).getKey()) <= 0)) {
+				mergedTerms[k] = terms[i];
+				mergedOwners[k] = owners[i++];
+			} else {
+				mergedTerms[k] = added.get(j).getKey();
+				mergedOwners[k] = added.get(j++).getValue();
+			}
+		}
+		terms = mergedTerms;
+		owners = mergedOwners;
+		size = newSize;
+	}
+
+	/**
+	 * Removes the element from the positions of the specified terms.
+	 *
+	 * @param element		the element to remove.
+	 * @param elementTerms	the normalized terms of {@code element}.
+	 */
+	private void unindex(E element, List<String> elementTerms) {
+		for (String term : elementTerms) {
+			for (int i = lowerBound(term); i < size && terms[i].equals(term); i++) {
+				if (Objects.equals(owners[i], element)) {
+					System.arraycopy(terms, i + 1, terms, i, size - i - 1);
+					System.arraycopy(owners, i + 1, owners, i, size - i - 1);
+					size--;
+					terms[size] = null;
+					owners[size] = null;
+					break;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,280 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.swing.AbstractListModel;
+
+/**
+ * A list model that applies whole snapshots of its elements with a few events, instead of
+ * the one event per element fired by clearing and filling a {@code DefaultListModel}.
+ * A new snapshot is compared with the shown elements: when the changed region is small
+ * enough, a minimal diff is applied as insert, remove and change ranges, so that the
+ * selection of a {@code JList} follows the elements still shown; otherwise, the region is
+ * replaced in bulk by one change event, plus one for the difference in size.
+ * Elements are compared through {@code equals}, which must cover what is displayed.
+ * The display strings of the elements are computed once and kept with them, so that
+ * repainting the rows does not build them again; they are computed again only for
+ * the elements replaced by unequal ones, e.g. renamed or rescheduled.
+ *
+ * @param <E>	the type of the elements of the model.
+ */
+public class SnapshotListModel<E> extends AbstractListModel<E> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Maximum number of cells of the table computed for a diff, beyond which
+	 * the changed region is replaced in bulk.
+	 */
+	static final int DIFF_LIMIT = 1 << 18;
+
+	/**
+	 * The elements of the model.
+	 */
+	private final ArrayList<E> elements;
+
+	/**
+	 * The display strings of the elements, in the same positions,
+	 * or {@code null} for those not computed yet.
+	 */
+	private final ArrayList<String> displayStrings;
+
+	/**
+	 * Computes the display strings of the elements.
+	 */
+	private transient Function<? super E, String> displayStringFunction = String::valueOf;
+
+	/**
+	 * Constructs an empty model.
+	 */
+	public SnapshotListModel() {
+		elements = new ArrayList<>();
+		displayStrings = new ArrayList<>();
+	}
+
+	@Override
+	public int getSize() {
+		return elements.size();
+	}
+
+	@Override
+	public E getElementAt(int index) {
+		return elements.get(index);
+	}
+
+	/**
+	 * Retrieves the display string of the element at the specified position,
+	 * computing it only the first time.
+	 *
+	 * @param index	the position of the element.
+	 * @return		the display string of the element at {@code index}.
+	 */
+	public String getDisplayStringAt(int index) {
+		String displayString = displayStrings.get(index);
+		if (displayString == null) {
+			displayString = displayStringFunction.apply(elements.get(index));
+			displayStrings.set(index, displayString);
+		}
+		return displayString;
+	}
+
+	/**
+	 * Sets how the display strings of the elements are computed, forgetting the ones
+	 * already computed. By default, they are computed by {@code String.valueOf}.
+	 *
+	 * @param displayStringFunction	the {@code Function} computing the display string of an element.
+	 */
+	public void setDisplayStringFunction(Function<? super E, String> displayStringFunction) {
+		this.displayStringFunction = displayStringFunction;
+		Collections.fill(displayStrings, null);
+		if (!elements.isEmpty())
+			fireContentsChanged(this, 0, elements.size() - 1);
+	}
+
+	/**
+	 * Retrieves the position of the first element equal to the specified one.
+	 *
+	 * @param element	the element to search for.
+	 * @return			the index of {@code element}, if it exists; {@code -1}, otherwise.
+	 */
+	public int indexOf(Object element) {
+		return elements.indexOf(element);
+	}
+
+	/**
+	 * Checks whether the model contains an element equal to the specified one.
+	 *
+	 * @param element	the element to search for.
+	 * @return			{@code true} if {@code element} is in the model; {@code false} otherwise.
+	 */
+	public boolean contains(Object element) {
+		return indexOf(element) >= 0;
+	}
+
+	/**
+	 * Retrieves the elements of the model.
+	 *
+	 * @return	an array with the elements of the model, in order.
+	 */
+	public Object[] toArray() {
+		return elements.toArray();
+	}
+
+	/**
+	 * Appends the specified element to the model.
+	 *
+	 * @param element	the element to append.
+	 */
+	public void addElement(E element) {
+		add(elements.size(), element);
+	}
+
+	/**
+	 * Inserts the specified element at the specified position of the model.
+	 *
+	 * @param index		the position of the new element.
+	 * @param element	the element to insert.
+	 */
+	public void add(int index, E element) {
+		elements.add(index, element);
+		displayStrings.add(index, null);
+		fireIntervalAdded(this, index, index);
+	}
+
+	/**
+	 * Replaces the element at the specified position of the model.
+	 *
+	 * @param index		the position of the element to replace.
+	 * @param element	the element to store at {@code index}.
+	 * @return			the element previously at {@code index}.
+	 */
+	public E set(int index, E element) {
+		E previous = elements.set(index, element);
+		displayStrings.set(index, null);
+		fireContentsChanged(this, index, index);
+		return previous;
+	}
+
+	/**
+	 * Removes the first element equal to the specified one from the model.
+	 *
+	 * @param element	the element to remove.
+	 * @return			{@code true} if {@code element} was in the model; {@code false} otherwise.
+	 */
+	public boolean removeElement(Object element) {
+		int index = indexOf(element);
+		if (index < 0)
+			return false;
+		elements.remove(index);
+		displayStrings.remove(index);
+		fireIntervalRemoved(this, index, index);
+		return true;
+	}
+
+	/**
+	 * Replaces the elements of the model with the specified ones, firing the events
+	 * of a minimal diff or of a bulk replacement.
+	 *
+	 * @param snapshot	the {@code List} of elements to show.
+	 */
+	public void replaceAll(List<? extends E> snapshot) {
+		int oldSize = elements.size();
+		int newSize = snapshot.size();
+		int prefix = 0;
+		while (prefix < oldSize && prefix < newSize
+				&& Objects.equals(elements.get(prefix), snapshot.get(prefix))) {
+			elements.set(prefix, snapshot.get(prefix));
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < oldSize - prefix && suffix < newSize - prefix
+				&& Objects.equals(elements.get(oldSize - 1 - suffix), snapshot.get(newSize - 1 - suffix))) {
+			elements.set(oldSize - 1 - suffix, snapshot.get(newSize - 1 - suffix));
+			suffix++;
+		}
+
+		List<? extends E> changed = snapshot.subList(prefix, newSize - suffix);
+		int removed = oldSize - suffix - prefix;
+		if (removed == 0 || changed.isEmpty() || (long) (removed + 1) * (changed.size() + 1) > DIFF_LIMIT)
+			replaceRange(prefix, removed, changed);
+		else
+			applyDiff(prefix, removed, changed);
+	}
+
+	/**
+	 * Applies a minimal diff between the shown elements of a region and the new ones,
+	 * grouping the adjacent edits into ranges.
+	 *
+	 * @param from		the position of the region.
+	 * @param oldCount	the number of elements shown in the region.
+	 * @param changed	the {@code List} of elements replacing the region.
+	 */
+	private void applyDiff(int from, int oldCount, List<? extends E> changed) {
+		List<E> old = new ArrayList<>(elements.subList(from, from + oldCount));
+		int newCount = changed.size();
+		// lengths of the longest common subsequences of the suffixes of the two regions
+		int width = newCount + 1;
+		int[] common = new int[(oldCount + 1) * width];
+		for (int i = oldCount - 1; i >= 0; i--) {
+			for (int j = newCount - 1; j >= 0; j--) {
+				common[i * width + j] = Objects.equals(old.get(i), changed.get(j))
+					? common[(i + 1) * width + j + 1] + 1
+					: Math.max(common[(i + 1) * width + j], common[i * width + j + 1]);
+			}
+		}
+
+		int position = from;
+		int i = 0;
+		int j = 0;
+		while (i < oldCount || j < newCount) {
+			if (i < oldCount && j < newCount && Objects.equals(old.get(i), changed.get(j))) {
+				elements.set(position++, changed.get(j++));
+				i++;
+				continue;
+			}
+			int firstRemoved = i;
+			int firstInserted = j;
+			while ((i < oldCount || j < newCount)
+					&& !(i < oldCount && j < newCount && Objects.equals(old.get(i), changed.get(j)))) {
+				if (j == newCount || (i < oldCount && common[(i + 1) * width + j] >= common[i * width + j + 1]))
+					i++;
+				else
+					j++;
+			}
+			replaceRange(position, i - firstRemoved, changed.subList(firstInserted, j));
+			position += j - firstInserted;
+		}
+	}
+
+	/**
+	 * Replaces a range of shown elements with the specified ones, firing one change event
+	 * for the overlapping part and one event for the difference in size.
+	 *
+	 * @param from			the position of the range.
+	 * @param oldCount		the number of elements shown in the range.
+	 * @param replacement	the {@code List} of elements replacing the range.
+	 */
+	private void replaceRange(int from, int oldCount, List<? extends E> replacement) {
+		int newCount = replacement.size();
+		int overlap = Math.min(oldCount, newCount);
+		for (int k = 0; k < overlap; k++) {
+			elements.set(from + k, replacement.get(k));
+			displayStrings.set(from + k, null);
+		}
+		if (overlap > 0)
+			fireContentsChanged(this, from, from + overlap - 1);
+
+		if (oldCount > newCount) {
+			elements.subList(from + overlap, from + oldCount).clear();
+			displayStrings.subList(from + overlap, from + oldCount).clear();
+			fireIntervalRemoved(this, from + overlap, from + oldCount - 1);
+		} else if (newCount > oldCount) {
+			elements.addAll(from + overlap, replacement.subList(overlap, newCount));
+			displayStrings.addAll(from + overlap, Collections.nCopies(newCount - overlap, null));
+			fireIntervalAdded(this, from + overlap, from + newCount - 1);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A snapshot list model that keeps its elements sorted by a comparator, so that
+ * an element is found, inserted or removed through a binary search instead of a scan.
+ * Snapshots are sorted before being applied, unless they already are.
+ * Note: elements equal for the comparator are kept next to each other and are told
+ * apart through {@code equals}.
+ *
+ * @param <E>	the type of the elements of the model.
+ */
+public class SortedListModel<E> extends SnapshotListModel<E> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The order of the elements of the model.
+	 */
+	private final transient Comparator<? super E> comparator;
+
+	/**
+	 * Constructs an empty model sorted by the specified comparator.
+	 *
+	 * @param comparator	the {@code Comparator} defining the order of the elements.
+	 */
+	public SortedListModel(Comparator<? super E> comparator) {
+		super();
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Retrieves the position of the element equal to the specified one through a binary search.
+	 *
+	 * @param element	the element to search for, of the type of the elements of the model.
+	 * @return			the index of {@code element}, if it exists; {@code -1}, otherwise.
+	 */
+	@Override
+	public int indexOf(Object element) {
+		if (element == null)
+			return -1;
+		@SuppressWarnings("unchecked")
+		E key = (E) element;
+		int index = search(key);
+		if (index < 0)
+			return -1;
+
+		for (int i = index; i >= 0 && comparator.compare(getElementAt(i), key) == 0; i--)
+			if (Objects.equals(getElementAt(i), element))
+				return i;
+		for (int i = index + 1; i < getSize() && comparator.compare(getElementAt(i), key) == 0; i++)
+			if (Objects.equals(getElementAt(i), element))
+				return i;
+		return -1;
+	}
+
+	/**
+	 * Inserts the specified element at its position in the order of the model.
+	 *
+	 * @param element	the element to insert.
+	 */
+	@Override
+	public void addElement(E element) {
+		int index = search(element);
+		super.add(index < 0 ? -index - 1 : index, element);
+	}
+
+	/**
+	 * Refuses to insert an element at a position, as positions follow the order of the model.
+	 *
+	 * @param index							the position of the new element.
+	 * @param element						the element to insert.
+	 * @throws UnsupportedOperationException	always; use {@code addElement} instead.
+	 */
+	@Override
+	public void add(int index, E element) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("Elements of a sorted model cannot be placed by index.");
+	}
+
+	/**
+	 * Replaces the elements of the model with the specified ones, sorted if they are not.
+	 *
+	 * @param snapshot	the {@code List} of elements to show.
+	 */
+	@Override
+	public void replaceAll(List<? extends E> snapshot) {
+		for (int i = 1; i < snapshot.size(); i++) {
+			if (comparator.compare(snapshot.get(i - 1), snapshot.get(i)) > 0) {
+				List<E> sorted = new ArrayList<>(snapshot);
+				sorted.sort(comparator);
+				super.replaceAll(sorted);
+				return;
+			}
+		}
+		super.replaceAll(snapshot);
+	}
+
+	/**
+	 * Searches for an element equal to the specified one for the comparator.
+	 *
+	 * @param key	the element to search for.
+	 * @return		the index of an element equal to {@code key} for the comparator, if it exists;
+	 * 				{@code -(insertion point) - 1}, otherwise.
+	 */
+	private int search(E key) {
+		int low = 0;
+		int high = getSize() - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = comparator.compare(getElementAt(middle), key);
+			if (comparison < 0)
+				low = middle + 1;
+			else if (comparison > 0)
+				high = middle - 1;
+			else
+				return middle;
+		}
+		return -(low + 1);
+	}
+}
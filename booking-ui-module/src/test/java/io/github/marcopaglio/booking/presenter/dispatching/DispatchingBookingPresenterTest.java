@@ -0,0 +1,150 @@
+package io.github.marcopaglio.booking.presenter.dispatching;
+
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+import io.github.marcopaglio.booking.view.BookingView;
+
+@DisplayName("Tests for DispatchingBookingPresenter class")
+@ExtendWith(MockitoExtension.class)
+class DispatchingBookingPresenterTest {
+	final static private String A_FIRSTNAME = "Mario";
+	final static private String A_LASTNAME = "Rossi";
+	final static private UUID A_CLIENT_UUID = UUID.fromString("0617d050-9cde-49e5-8fca-d448a7115ccd");
+	final static private String A_DATE = "2023-04-24";
+	final static private String ANOTHER_DATE = "2023-09-05";
+	final static private String A_RESOURCE = "court-1";
+
+	@Mock
+	private BookingPresenter delegate;
+
+	@Mock
+	private BookingView view;
+
+	@Mock
+	private KeyedDispatcher dispatcher;
+
+	@Captor
+	private ArgumentCaptor<Runnable> operationCaptor;
+
+	private DispatchingBookingPresenter presenter;
+
+	private Client client;
+	private Reservation reservation;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		presenter = new DispatchingBookingPresenter(delegate, view, dispatcher);
+		
+		client = new Client(A_FIRSTNAME, A_LASTNAME);
+		client.setId(A_CLIENT_UUID);
+		reservation = new Reservation(A_CLIENT_UUID, LocalDate.parse(A_DATE));
+	}
+
+	@Test
+	@DisplayName("Operation on a client is keyed by its identifier")
+	void testRenameClientShouldDispatchTheOperationKeyedByClientId() {
+		presenter.renameClient(client, A_LASTNAME, A_FIRSTNAME);
+		
+		verify(dispatcher).dispatch(eq(A_CLIENT_UUID), operationCaptor.capture());
+		verifyNoInteractions(delegate);
+		operationCaptor.getValue().run();
+		verify(delegate).renameClient(client, A_LASTNAME, A_FIRSTNAME);
+	}
+
+	@Test
+	@DisplayName("Insertion of a client is keyed by its names")
+	void testAddClientShouldDispatchTheOperationKeyedByNames() {
+		presenter.addClient(A_FIRSTNAME, A_LASTNAME);
+		
+		verify(dispatcher).dispatch(eq(Arrays.asList(A_FIRSTNAME, A_LASTNAME)), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).addClient(A_FIRSTNAME, A_LASTNAME);
+	}
+
+	@Test
+	@DisplayName("Operation on a reservation is keyed by its resource and date")
+	void testRescheduleReservationShouldDispatchTheOperationKeyedByResourceAndDate() {
+		presenter.rescheduleReservation(reservation, ANOTHER_DATE);
+		
+		verify(dispatcher).dispatch(eq(Arrays.asList(DEFAULT_RESOURCE, A_DATE)), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).rescheduleReservation(reservation, ANOTHER_DATE);
+	}
+
+	@Test
+	@DisplayName("Operation on a reservation of another resource")
+	void testDeleteReservationWhenResourceIsNotTheDefaultShouldDispatchTheOperationKeyedByThatResource() {
+		Reservation otherReservation = new Reservation(A_CLIENT_UUID, A_RESOURCE, LocalDate.parse(A_DATE));
+		
+		presenter.deleteReservation(otherReservation);
+		
+		verify(dispatcher).dispatch(eq(Arrays.asList(A_RESOURCE, A_DATE)), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).deleteReservation(otherReservation);
+	}
+
+	@Test
+	@DisplayName("Insertion of a reservation is keyed by the default resource and its date")
+	void testAddReservationShouldDispatchTheOperationKeyedByDefaultResourceAndDate() {
+		presenter.addReservation(client, A_DATE);
+		
+		verify(dispatcher).dispatch(eq(Arrays.asList(DEFAULT_RESOURCE, A_DATE)), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).addReservation(client, A_DATE);
+	}
+
+	@Test
+	@DisplayName("Operation on a null client is not keyed")
+	void testDeleteClientWhenClientIsNullShouldDispatchTheOperationWithoutKey() {
+		presenter.deleteClient(null);
+		
+		verify(dispatcher).dispatch(isNull(), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).deleteClient(null);
+	}
+
+	@Test
+	@DisplayName("Reading operation is not keyed")
+	void testAllClientsShouldDispatchTheOperationWithoutKey() {
+		presenter.allClients();
+		
+		verify(dispatcher).dispatch(isNull(), operationCaptor.capture());
+		operationCaptor.getValue().run();
+		verify(delegate).allClients();
+	}
+
+	@Test
+	@DisplayName("Operation is refused")
+	void testDeleteReservationWhenOperationIsRejectedShouldNotifyTheView() {
+		doThrow(new RejectedExecutionException("Too many operations are waiting to be run."))
+			.when(dispatcher).dispatch(eq(Arrays.asList(DEFAULT_RESOURCE, A_DATE)), any());
+		
+		presenter.deleteReservation(reservation);
+		
+		verify(view).showOperationError("Too many operations are in progress: please retry later.");
+		verifyNoInteractions(delegate);
+	}
+}
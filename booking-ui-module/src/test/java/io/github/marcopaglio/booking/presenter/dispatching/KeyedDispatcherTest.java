@@ -0,0 +1,211 @@
+package io.github.marcopaglio.booking.presenter.dispatching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for KeyedDispatcher class")
+class KeyedDispatcherTest {
+	private static final String A_KEY = "a-key";
+	private static final String ANOTHER_KEY = "another-key";
+
+	private static final int WORKERS = 2;
+	private static final int CAPACITY = 3;
+
+	private KeyedDispatcher dispatcher;
+
+	private CountDownLatch release;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		dispatcher = new KeyedDispatcher(WORKERS, CAPACITY);
+		release = new CountDownLatch(1);
+	}
+
+	@AfterEach
+	void releaseWorkers() throws Exception {
+		release.countDown();
+		dispatcher.close();
+	}
+
+	private Runnable blocking(AtomicInteger started) {
+		return () -> {
+			started.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+	}
+
+	@Nested
+	@DisplayName("Tests for 'KeyedDispatcher'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Not positive workers")
+		void testKeyedDispatcherWhenWorkerCountIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new KeyedDispatcher(0, CAPACITY))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Number of dispatching workers must be positive.");
+		}
+
+		@Test
+		@DisplayName("Not positive capacity")
+		void testKeyedDispatcherWhenCapacityIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new KeyedDispatcher(WORKERS, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Capacity of dispatching queue must be positive.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'dispatch'")
+	class DispatchTest {
+
+		@Test
+		@DisplayName("Tasks with the same key")
+		void testDispatchWhenTasksHaveTheSameKeyShouldRunThemInOrderOneAtATime() {
+			List<Integer> order = new CopyOnWriteArrayList<>();
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			
+			for (int i = 0; i < CAPACITY; i++) {
+				int index = i;
+				dispatcher.dispatch(A_KEY, () -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					order.add(index);
+					running.decrementAndGet();
+				});
+			}
+
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(order).containsExactly(0, 1, 2));
+			assertThat(maxRunning).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("Tasks with different keys")
+		void testDispatchWhenTasksHaveDifferentKeysShouldRunThemInParallel() {
+			AtomicInteger started = new AtomicInteger();
+			
+			dispatcher.dispatch(A_KEY, blocking(started));
+			dispatcher.dispatch(ANOTHER_KEY, blocking(started));
+			
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(2));
+		}
+
+		@Test
+		@DisplayName("Task waiting for its key")
+		void testDispatchWhenKeyIsBusyShouldKeepTheTaskWaiting() {
+			AtomicInteger started = new AtomicInteger();
+			dispatcher.dispatch(A_KEY, blocking(started));
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(1));
+			
+			dispatcher.dispatch(A_KEY, blocking(started));
+			
+			assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+			release.countDown();
+			await().atMost(2, SECONDS).untilAsserted(() -> {
+				assertThat(started).hasValue(2);
+				assertThat(dispatcher.getQueueDepth()).isZero();
+			});
+		}
+
+		@Test
+		@DisplayName("Capacity is reached")
+		void testDispatchWhenCapacityIsReachedShouldRejectTheTask() {
+			AtomicInteger started = new AtomicInteger();
+			dispatcher.dispatch(A_KEY, blocking(started));
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(1));
+			for (int i = 0; i < CAPACITY; i++)
+				dispatcher.dispatch(A_KEY, blocking(started));
+			
+			assertThatThrownBy(() -> dispatcher.dispatch(ANOTHER_KEY, blocking(started)))
+				.isInstanceOf(RejectedExecutionException.class)
+				.hasMessage("Too many operations are waiting to be run.");
+			
+			assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Failing task")
+		void testDispatchWhenTaskFailsShouldRunTheNextOneWithTheSameKey() {
+			AtomicInteger started = new AtomicInteger();
+			dispatcher.dispatch(A_KEY, () -> {
+				throw new IllegalStateException();
+			});
+			
+			dispatcher.dispatch(A_KEY, started::incrementAndGet);
+			
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(1));
+		}
+
+		@Test
+		@DisplayName("Dispatcher is closed")
+		void testDispatchWhenDispatcherIsClosedShouldReject() {
+			dispatcher.close();
+			
+			assertThatThrownBy(() -> dispatcher.dispatch(A_KEY, () -> {}))
+				.isInstanceOf(RejectedExecutionException.class)
+				.hasMessage("Dispatcher has already been closed.");
+		}
+
+		@Test
+		@DisplayName("Dispatcher is closed with tasks waiting for their key")
+		void testDispatchWhenDispatcherIsClosedWithTasksWaitingShouldDropThem() {
+			AtomicInteger started = new AtomicInteger();
+			dispatcher.dispatch(A_KEY, blocking(started));
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(1));
+			dispatcher.dispatch(A_KEY, started::incrementAndGet);
+			dispatcher.dispatch(A_KEY, started::incrementAndGet);
+			
+			dispatcher.close();
+			release.countDown();
+			
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(dispatcher.getQueueDepth()).isZero());
+			assertThat(started).hasValue(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for wait metrics")
+	class WaitMetricsTest {
+
+		@Test
+		@DisplayName("No task started")
+		void testWaitMetricsWhenNoTaskHasStartedShouldBeZero() {
+			assertThat(dispatcher.getAverageWait()).isZero();
+			assertThat(dispatcher.getMaxWait()).isZero();
+		}
+
+		@Test
+		@DisplayName("Task waiting for its key")
+		void testWaitMetricsWhenTaskWaitedShouldAccountForTheWait() throws Exception {
+			AtomicInteger started = new AtomicInteger();
+			dispatcher.dispatch(A_KEY, blocking(started));
+			dispatcher.dispatch(A_KEY, started::incrementAndGet);
+			
+			Thread.sleep(50);
+			release.countDown();
+			
+			await().atMost(2, SECONDS).untilAsserted(() -> assertThat(started).hasValue(2));
+			assertThat(dispatcher.getMaxWait()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+			assertThat(dispatcher.getAverageWait()).isLessThanOrEqualTo(dispatcher.getMaxWait());
+		}
+	}
+}
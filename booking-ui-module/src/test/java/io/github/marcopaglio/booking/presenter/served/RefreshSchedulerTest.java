@@ -0,0 +1,115 @@
+package io.github.marcopaglio.booking.presenter.served;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for RefreshScheduler class")
+class RefreshSchedulerTest {
+	private static final Duration A_WINDOW = Duration.ofMillis(100);
+
+	private final AtomicInteger refreshes = new AtomicInteger();
+
+	@Test
+	@DisplayName("Null window")
+	void testRefreshSchedulerWhenWindowIsNullShouldThrow() {
+		assertThatThrownBy(() -> new RefreshScheduler(refreshes::incrementAndGet, null))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Window of refresh debouncing cannot be negative.");
+	}
+
+	@Test
+	@DisplayName("No window")
+	void testRequestRefreshWhenWindowIsZeroShouldRefreshAtOnce() {
+		RefreshScheduler scheduler = new RefreshScheduler(refreshes::incrementAndGet, Duration.ZERO);
+		
+		scheduler.requestRefresh();
+		scheduler.requestRefresh();
+		
+		assertThat(refreshes).hasValue(2);
+		assertThat(scheduler.getSavedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("Requests during a refresh")
+	void testRequestRefreshWhenRefreshIsRunningShouldMergeTheRequestsIntoOneMore() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RefreshScheduler scheduler = new RefreshScheduler(() -> {
+			if (refreshes.incrementAndGet() == 1) {
+				running.countDown();
+				awaitQuietly(release);
+			}
+		}, Duration.ZERO);
+		Thread first = new Thread(scheduler::requestRefresh);
+		first.start();
+		running.await();
+		
+		scheduler.requestRefresh();
+		scheduler.requestRefresh();
+		release.countDown();
+		
+		await().atMost(2, SECONDS).until(() -> !first.isAlive());
+		assertThat(refreshes).hasValue(2);
+		assertThat(scheduler.getSavedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Requests within the window")
+	void testRequestRefreshWhenRequestsAreWithinTheWindowShouldRefreshOnce() throws Exception {
+		RefreshScheduler scheduler = new RefreshScheduler(refreshes::incrementAndGet, A_WINDOW);
+		
+		scheduler.requestRefresh();
+		scheduler.requestRefresh();
+		scheduler.requestRefresh();
+		
+		assertThat(refreshes).hasValue(0);
+		await().atMost(2, SECONDS).untilAsserted(() -> assertThat(refreshes).hasValue(1));
+		Thread.sleep(A_WINDOW.toMillis() * 2);
+		assertThat(refreshes).hasValue(1);
+		assertThat(scheduler.getSavedCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Snapshot within the window")
+	void testRequestRefreshWhenSnapshotIsTakenWithinTheWindowShouldSkipTheRefresh() throws Exception {
+		RefreshScheduler scheduler = new RefreshScheduler(refreshes::incrementAndGet, A_WINDOW);
+		
+		scheduler.requestRefresh();
+		scheduler.snapshotTaken();
+		
+		Thread.sleep(A_WINDOW.toMillis() * 3);
+		assertThat(refreshes).hasValue(0);
+		assertThat(scheduler.getSavedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Refresh fails")
+	void testRequestRefreshWhenRefreshThrowsShouldAcceptNewRequests() {
+		RefreshScheduler scheduler = new RefreshScheduler(() -> {
+			if (refreshes.incrementAndGet() == 1)
+				throw new IllegalStateException();
+		}, Duration.ZERO);
+		
+		assertThatThrownBy(scheduler::requestRefresh).isInstanceOf(IllegalStateException.class);
+		scheduler.requestRefresh();
+		
+		assertThat(refreshes).hasValue(2);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,13 +1,18 @@
 package io.github.marcopaglio.booking.presenter.served;
 
+import static io.github.marcopaglio.booking.model.Reservation.DEFAULT_RESOURCE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -24,24 +29,32 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.github.marcopaglio.booking.changefeed.ChangeEvent;
+import io.github.marcopaglio.booking.changefeed.ChangeEvent.Kind;
+import io.github.marcopaglio.booking.changefeed.ChangeFeed;
 import io.github.marcopaglio.booking.exception.DatabaseException;
 import io.github.marcopaglio.booking.exception.InstanceAlreadyExistsException;
 import io.github.marcopaglio.booking.exception.InstanceNotFoundException;
+import io.github.marcopaglio.booking.model.BookingSnapshot;
 import io.github.marcopaglio.booking.model.Client;
 import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
 import io.github.marcopaglio.booking.service.BookingService;
 import io.github.marcopaglio.booking.validator.ClientValidator;
 import io.github.marcopaglio.booking.validator.ReservationValidator;
@@ -52,6 +65,7 @@ import io.github.marcopaglio.booking.view.BookingView;
 class ServedBookingPresenterTest {
 	private static final int NUM_OF_THREADS = 10;
 
+	final static private String A_RESOURCE = "court-1";
 	final static private String A_FIRSTNAME = "Mario";
 	final static private String A_LASTNAME = "Rossi";
 	final static private UUID A_CLIENT_UUID = UUID.fromString("0617d050-9cde-49e5-8fca-d448a7115ccd");
@@ -63,6 +77,9 @@ class ServedBookingPresenterTest {
 	final static private String CLIENT_STRING = "Client named " + A_FIRSTNAME + " " + A_LASTNAME;
 	final static private String RESERVATION_STRING = "Reservation on " + A_DATE;
 
+	final static private BookingSnapshot EMPTY_SNAPSHOT =
+			new BookingSnapshot(Collections.emptyList(), Collections.emptyList());
+
 	@Mock
 	private BookingService bookingService;
 
@@ -75,7 +92,6 @@ class ServedBookingPresenterTest {
 	@Mock
 	private BookingView view;
 
-	@InjectMocks
 	private ServedBookingPresenter servedBookingPresenter;
 
 	private Client client;
@@ -83,6 +99,9 @@ class ServedBookingPresenterTest {
 
 	@BeforeEach
 	void setEntities() throws Exception {
+		servedBookingPresenter = new ServedBookingPresenter(view, bookingService,
+				clientValidator, reservationValidator);
+		
 		client = new Client(A_FIRSTNAME, A_LASTNAME);
 		client.setId(A_CLIENT_UUID);
 		reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
@@ -194,6 +213,101 @@ class ServedBookingPresenterTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Tests for 'reservationsPage'")
+	class ReservationsPageTest {
+
+		@Test
+		@DisplayName("Page of reservations in repository")
+		void testReservationsPageShouldCallViewWithThePage() {
+			ReservationPage page = new ReservationPage(1, 2L,
+					Arrays.asList(new Reservation(A_CLIENT_UUID, A_LOCALDATE)));
+			
+			when(bookingService.findReservationsPage(1, 1)).thenReturn(page);
+			
+			servedBookingPresenter.reservationsPage(1, 1);
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			
+			inOrder.verify(bookingService).findReservationsPage(1, 1);
+			inOrder.verify(view).showReservationsPage(page);
+			
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Database request fails")
+		void testReservationsPageWhenDatabaseRequestFailsShouldShowErrorAndNotThrow() {
+			doThrow(new DatabaseException()).when(bookingService).findReservationsPage(0, 1);
+			
+			assertThatNoException().isThrownBy(() -> servedBookingPresenter.reservationsPage(0, 1));
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			
+			inOrder.verify(bookingService).findReservationsPage(0, 1);
+			inOrder.verify(view).showOperationError("Something went wrong while updating reservations.");
+			
+			verifyNoMoreInteractions(bookingService, view);
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'allClientsAndReservations'")
+	class AllClientsAndReservationsTest {
+
+		@Test
+		@DisplayName("No entities in repository")
+		void testAllClientsAndReservationsWhenThereAreNoEntitiesInRepositoryShouldCallViewWithEmptyLists() {
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.allClientsAndReservations();
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			
+			inOrder.verify(bookingService).snapshot();
+			inOrder.verify(view).showAllReservations(Collections.emptyList());
+			inOrder.verify(view).showAllClients(Collections.emptyList());
+			
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Several entities in repository")
+		void testAllClientsAndReservationsWhenThereAreSeveralEntitiesInRepositoryShouldCallViewWithBothLists() {
+			List<Client> clients = Arrays.asList(client, new Client("Maria", "De Lucia"));
+			List<Reservation> reservations = Arrays.asList(
+					reservation, new Reservation(A_CLIENT_UUID, LocalDate.parse("2023-09-05")));
+			
+			when(bookingService.snapshot()).thenReturn(new BookingSnapshot(clients, reservations));
+			
+			servedBookingPresenter.allClientsAndReservations();
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			
+			inOrder.verify(bookingService).snapshot();
+			inOrder.verify(view).showAllReservations(reservations);
+			inOrder.verify(view).showAllClients(clients);
+			
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Database request fails")
+		void testAllClientsAndReservationsWhenDatabaseRequestFailsShouldShowErrorAndNotThrow() {
+			doThrow(new DatabaseException()).when(bookingService).snapshot();
+			
+			assertThatNoException().isThrownBy(() -> servedBookingPresenter.allClientsAndReservations());
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			
+			inOrder.verify(bookingService).snapshot();
+			inOrder.verify(view).showOperationError(
+					"Something went wrong while updating clients and reservations.");
+			
+			verifyNoMoreInteractions(bookingService, view);
+		}
+	}
+
 	@Nested
 	@DisplayName("Tests for 'deleteClient'")
 	class DeleteClientTest {
@@ -230,8 +344,7 @@ class ServedBookingPresenterTest {
 		void testDeleteClientWhenClientIsNotInRepositoryShouldShowErrorAndUpdateView() {
 			doThrow(new InstanceNotFoundException())
 				.when(bookingService).removeClientNamed(A_FIRSTNAME, A_LASTNAME);
-			// default stubbing for bookingService.findAllReservations()
-			// default stubbing for bookingService.findAllClients()
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			assertThatNoException().isThrownBy(
 					() -> servedBookingPresenter.deleteClient(client));
@@ -246,8 +359,7 @@ class ServedBookingPresenterTest {
 		void testDeleteClientWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 			doThrow(new DatabaseException())
 				.when(bookingService).removeClientNamed(A_FIRSTNAME, A_LASTNAME);
-			// default stubbing for bookingService.findAllReservations()
-			// default stubbing for bookingService.findAllClients()
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			assertThatNoException().isThrownBy(
 					() -> servedBookingPresenter.deleteClient(client));
@@ -273,6 +385,7 @@ class ServedBookingPresenterTest {
 				}
 				else throw new InstanceNotFoundException();
 			}).when(bookingService).removeClientNamed(A_FIRSTNAME, A_LASTNAME);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 					.mapToObj(i -> new Thread(() ->
@@ -288,6 +401,55 @@ class ServedBookingPresenterTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Tests for refreshes after failures")
+	class RefreshAfterFailureTest {
+
+		@Test
+		@DisplayName("Failures within the window")
+		void testRefreshWhenFailuresOccurWithinTheWindowShouldRefreshOnce() {
+			servedBookingPresenter = new ServedBookingPresenter(view, bookingService,
+					clientValidator, reservationValidator, Duration.ofMillis(200));
+			doThrow(new DatabaseException())
+				.when(bookingService).removeReservationOn(eq(DEFAULT_RESOURCE), any(LocalDate.class));
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.deleteReservation(reservation);
+			servedBookingPresenter.deleteReservation(reservation);
+			servedBookingPresenter.deleteReservation(reservation);
+			
+			verify(bookingService, timeout(2000)).snapshot();
+			verify(view, timeout(2000)).showAllClients(Collections.emptyList());
+			verify(bookingService, after(300).times(1)).snapshot();
+			assertThat(servedBookingPresenter.getSavedRefreshCount()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Failure superseded by a snapshot")
+		void testRefreshWhenSnapshotIsTakenWithinTheWindowShouldSkipTheRefresh() {
+			servedBookingPresenter = new ServedBookingPresenter(view, bookingService,
+					clientValidator, reservationValidator, Duration.ofMillis(200));
+			doThrow(new DatabaseException())
+				.when(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.deleteReservation(reservation);
+			servedBookingPresenter.allClientsAndReservations();
+			
+			verify(bookingService, after(500).times(1)).snapshot();
+			assertThat(servedBookingPresenter.getSavedRefreshCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Negative window")
+		void testServedBookingPresenterWhenRefreshWindowIsNegativeShouldThrow() {
+			assertThatThrownBy(() -> new ServedBookingPresenter(view, bookingService,
+					clientValidator, reservationValidator, Duration.ofMillis(-1)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Window of refresh debouncing cannot be negative.");
+		}
+	}
+
 	@Nested
 	@DisplayName("Tests for 'deleteReservation'")
 	class DeleteReservationTest {
@@ -311,7 +473,7 @@ class ServedBookingPresenterTest {
 			
 			InOrder inOrder = Mockito.inOrder(bookingService, view);
 			
-			inOrder.verify(bookingService).removeReservationOn(A_LOCALDATE);
+			inOrder.verify(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
 			inOrder.verify(view).reservationRemoved(reservation);
 			
 			verifyNoMoreInteractions(bookingService, view);
@@ -321,9 +483,8 @@ class ServedBookingPresenterTest {
 		@DisplayName("Reservation is not in repository")
 		void testDeleteReservationWhenReservationIsNotInRepositoryShouldShowErrorAndUpdateView() {
 			doThrow(new InstanceNotFoundException())
-				.when(bookingService).removeReservationOn(A_LOCALDATE);
-			// default stubbing for bookingService.findAllReservations()
-			// default stubbing for bookingService.findAllClients()
+				.when(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			assertThatNoException().isThrownBy(
 					() -> servedBookingPresenter.deleteReservation(reservation));
@@ -337,9 +498,8 @@ class ServedBookingPresenterTest {
 		@DisplayName("Database request fails")
 		void testDeleteReservationWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 			doThrow(new DatabaseException())
-				.when(bookingService).removeReservationOn(A_LOCALDATE);
-			// default stubbing for bookingService.findAllReservations()
-			// default stubbing for bookingService.findAllClients()
+				.when(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			assertThatNoException().isThrownBy(
 					() -> servedBookingPresenter.deleteReservation(reservation));
@@ -364,7 +524,8 @@ class ServedBookingPresenterTest {
 					return null;
 				}
 				else throw new InstanceNotFoundException();
-			}).when(bookingService).removeReservationOn(A_LOCALDATE);
+			}).when(bookingService).removeReservationOn(DEFAULT_RESOURCE, A_LOCALDATE);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 			
 			List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 					.mapToObj(i -> new Thread(() ->
@@ -378,6 +539,56 @@ class ServedBookingPresenterTest {
 			// should be removed a single element from the list
 			assertThat(reservations).hasSize(NUM_OF_THREADS-1);
 		}
+
+		@Test
+		@DisplayName("Concurrent requests on different dates occur")
+		void testDeleteReservationWhenConcurrentRequestsOnDifferentDatesOccurShouldRunInParallel() {
+			Reservation anotherReservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE.plusDays(1));
+			CountDownLatch bothInService = new CountDownLatch(2);
+			List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+			
+			doAnswer(invocation -> {
+				bothInService.countDown();
+				// succeeds only if the other deletion enters the service meanwhile
+				overlapped.add(bothInService.await(2, SECONDS));
+				return null;
+			}).when(bookingService).removeReservationOn(eq(DEFAULT_RESOURCE), any(LocalDate.class));
+			
+			List<Thread> threads = Stream.of(reservation, anotherReservation)
+					.map(r -> new Thread(() -> servedBookingPresenter.deleteReservation(r)))
+					.peek(t -> t.start())
+					.toList();
+			
+			await().atMost(10, SECONDS)
+				.until(() -> threads.stream().noneMatch(t -> t.isAlive()));
+			
+			assertThat(overlapped).containsExactly(true, true);
+		}
+
+		@Test
+		@DisplayName("Concurrent requests on different resources at the same date occur")
+		void testDeleteReservationWhenConcurrentRequestsOnDifferentResourcesOccurShouldRunInParallel() {
+			Reservation anotherReservation = new Reservation(A_CLIENT_UUID, A_RESOURCE, A_LOCALDATE);
+			CountDownLatch bothInService = new CountDownLatch(2);
+			List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+			
+			doAnswer(invocation -> {
+				bothInService.countDown();
+				// succeeds only if the other deletion enters the service meanwhile
+				overlapped.add(bothInService.await(2, SECONDS));
+				return null;
+			}).when(bookingService).removeReservationOn(any(String.class), eq(A_LOCALDATE));
+			
+			List<Thread> threads = Stream.of(reservation, anotherReservation)
+					.map(r -> new Thread(() -> servedBookingPresenter.deleteReservation(r)))
+					.peek(t -> t.start())
+					.toList();
+			
+			await().atMost(10, SECONDS)
+				.until(() -> threads.stream().noneMatch(t -> t.isAlive()));
+			
+			assertThat(overlapped).containsExactly(true, true);
+		}
 	}
 
 	@Nested
@@ -418,8 +629,8 @@ class ServedBookingPresenterTest {
 				
 				when(bookingService.insertNewClient(client))
 					.thenThrow(new InstanceAlreadyExistsException());
-				// default stubbing for bookingService.findAllReservations()
-				when(bookingService.findAllClients()).thenReturn(clientsInDB);
+				when(bookingService.snapshot())
+					.thenReturn(new BookingSnapshot(clientsInDB, Collections.emptyList()));
 				
 				assertThatNoException().isThrownBy(
 						() -> servedBookingPresenter.addClient(A_FIRSTNAME, A_LASTNAME));
@@ -433,8 +644,7 @@ class ServedBookingPresenterTest {
 			@DisplayName("Database request fails")
 			void testAddClientWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 				when(bookingService.insertNewClient(client)).thenThrow(new DatabaseException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(
 						() -> servedBookingPresenter.addClient(A_FIRSTNAME, A_LASTNAME));
@@ -459,6 +669,7 @@ class ServedBookingPresenterTest {
 					}
 					else throw new InstanceAlreadyExistsException();
 				}).when(bookingService).insertNewClient(client);
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 						.mapToObj(i -> new Thread(() ->
@@ -560,8 +771,8 @@ class ServedBookingPresenterTest {
 				
 				when(bookingService.insertNewReservation(reservation))
 					.thenThrow(new InstanceAlreadyExistsException());
-				when(bookingService.findAllReservations()).thenReturn(reservationsInDB);
-				when(bookingService.findAllClients()).thenReturn(clientsInDB);
+				when(bookingService.snapshot())
+					.thenReturn(new BookingSnapshot(clientsInDB, reservationsInDB));
 				
 				assertThatNoException().isThrownBy(
 						() -> servedBookingPresenter.addReservation(client, A_DATE));
@@ -576,8 +787,7 @@ class ServedBookingPresenterTest {
 			void testAddReservationWhenAssociatedClientIsNotInDatabaseShouldShowErrorAndUpdateView() {
 				when(bookingService.insertNewReservation(reservation))
 					.thenThrow(new InstanceNotFoundException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(
 						() -> servedBookingPresenter.addReservation(client, A_DATE));
@@ -592,8 +802,7 @@ class ServedBookingPresenterTest {
 			void testAddReservationWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 				when(bookingService.insertNewReservation(reservation))
 					.thenThrow(new DatabaseException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(
 						() -> servedBookingPresenter.addReservation(client, A_DATE));
@@ -618,6 +827,7 @@ class ServedBookingPresenterTest {
 					}
 					else throw new InstanceAlreadyExistsException();
 				}).when(bookingService).insertNewReservation(reservation);
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 						.mapToObj(i -> new Thread(() ->
@@ -631,6 +841,34 @@ class ServedBookingPresenterTest {
 				// there should be a single element in the list
 				assertThat(reservations).hasSize(1);
 			}
+
+			@Test
+			@DisplayName("Concurrent deletion of the client occurs")
+			void testAddReservationWhenClientIsBeingDeletedShouldWaitForTheDeletion() throws Exception {
+				CountDownLatch deleting = new CountDownLatch(1);
+				CountDownLatch release = new CountDownLatch(1);
+				
+				doAnswer(invocation -> {
+					deleting.countDown();
+					release.await(2, SECONDS);
+					return null;
+				}).when(bookingService).removeClientNamed(A_FIRSTNAME, A_LASTNAME);
+				when(bookingService.insertNewReservation(reservation))
+					.thenThrow(new InstanceNotFoundException());
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+				
+				Thread deletion = new Thread(() -> servedBookingPresenter.deleteClient(client));
+				deletion.start();
+				deleting.await();
+				Thread addition = new Thread(() -> servedBookingPresenter.addReservation(client, A_DATE));
+				addition.start();
+				
+				verify(bookingService, after(100).never()).insertNewReservation(reservation);
+				release.countDown();
+				await().atMost(10, SECONDS)
+					.until(() -> !deletion.isAlive() && !addition.isAlive());
+				verify(bookingService).insertNewReservation(reservation);
+			}
 		}
 
 		@Nested
@@ -768,8 +1006,8 @@ class ServedBookingPresenterTest {
 				
 				when(bookingService.renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName))
 					.thenThrow(new InstanceAlreadyExistsException());
-				// default stubbing for bookingService.findAllReservations()
-				when(bookingService.findAllClients()).thenReturn(clientsInDB);
+				when(bookingService.snapshot())
+					.thenReturn(new BookingSnapshot(clientsInDB, Collections.emptyList()));
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.renameClient(client, newFirstName, newLastName));
@@ -785,8 +1023,7 @@ class ServedBookingPresenterTest {
 			void testRenameClientWhenClientIsNotInDatabaseShouldShowErrorAndUpdateView() {
 				when(bookingService.renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName))
 					.thenThrow(new InstanceNotFoundException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.renameClient(client, newFirstName, newLastName));
@@ -801,8 +1038,7 @@ class ServedBookingPresenterTest {
 			void testRenameClientWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 				when(bookingService.renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName))
 					.thenThrow(new DatabaseException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.renameClient(client, newFirstName, newLastName));
@@ -829,6 +1065,7 @@ class ServedBookingPresenterTest {
 					}
 					else throw new InstanceAlreadyExistsException();
 				}).when(bookingService).renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName);
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 						.mapToObj(i -> new Thread(() ->
@@ -883,6 +1120,135 @@ class ServedBookingPresenterTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Tests for the optimistic mode")
+	class OptimisticTest {
+		private String validatedFirstName = "Maria";
+		private String validatedLastName = "De Lucia";
+		private Client renamedClient = new Client(validatedFirstName, validatedLastName);
+
+		@BeforeEach
+		void setOptimistic() throws Exception {
+			servedBookingPresenter.setOptimistic(true);
+		}
+
+		@Test
+		@DisplayName("Client is added")
+		void testAddClientWhenOptimisticShouldShowPendingClientAndConfirmIt() {
+			when(clientValidator.validateFirstName(A_FIRSTNAME)).thenReturn(A_FIRSTNAME);
+			when(clientValidator.validateLastName(A_LASTNAME)).thenReturn(A_LASTNAME);
+			when(bookingService.insertNewClient(client)).thenReturn(client);
+			
+			servedBookingPresenter.addClient(A_FIRSTNAME, A_LASTNAME);
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			ArgumentCaptor<Client> pendingCaptor = ArgumentCaptor.forClass(Client.class);
+			inOrder.verify(view).clientAdding(pendingCaptor.capture());
+			inOrder.verify(bookingService).insertNewClient(client);
+			inOrder.verify(view).clientAdded(client);
+			
+			assertThat(pendingCaptor.getValue()).isEqualTo(client).isNotSameAs(client);
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Client is not added")
+		void testAddClientWhenOptimisticAndClientIsNotNewShouldWithdrawPendingClientAndShowError() {
+			when(clientValidator.validateFirstName(A_FIRSTNAME)).thenReturn(A_FIRSTNAME);
+			when(clientValidator.validateLastName(A_LASTNAME)).thenReturn(A_LASTNAME);
+			when(bookingService.insertNewClient(client)).thenThrow(new InstanceAlreadyExistsException());
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.addClient(A_FIRSTNAME, A_LASTNAME);
+			
+			InOrder inOrder = Mockito.inOrder(view);
+			ArgumentCaptor<Client> pendingCaptor = ArgumentCaptor.forClass(Client.class);
+			inOrder.verify(view).clientAdding(pendingCaptor.capture());
+			inOrder.verify(view).clientAddingFailed(same(pendingCaptor.getValue()));
+			inOrder.verify(view).showOperationError(CLIENT_STRING + " already exists.");
+			verify(view, never()).clientAdded(any());
+		}
+
+		@Test
+		@DisplayName("Reservation is added")
+		void testAddReservationWhenOptimisticShouldShowPendingReservationAndConfirmIt() {
+			when(reservationValidator.validateClientId(A_CLIENT_UUID)).thenReturn(A_CLIENT_UUID);
+			when(reservationValidator.validateDate(A_DATE)).thenReturn(A_LOCALDATE);
+			when(bookingService.insertNewReservation(reservation)).thenReturn(reservation);
+			
+			servedBookingPresenter.addReservation(client, A_DATE);
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			ArgumentCaptor<Reservation> pendingCaptor = ArgumentCaptor.forClass(Reservation.class);
+			inOrder.verify(view).reservationAdding(pendingCaptor.capture());
+			inOrder.verify(bookingService).insertNewReservation(reservation);
+			inOrder.verify(view).reservationAdded(reservation);
+			
+			assertThat(pendingCaptor.getValue()).isEqualTo(reservation).isNotSameAs(reservation);
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Reservation is not added")
+		void testAddReservationWhenOptimisticAndClientIsNotInDatabaseShouldWithdrawPendingReservationAndShowError() {
+			when(reservationValidator.validateClientId(A_CLIENT_UUID)).thenReturn(A_CLIENT_UUID);
+			when(reservationValidator.validateDate(A_DATE)).thenReturn(A_LOCALDATE);
+			when(bookingService.insertNewReservation(reservation))
+				.thenThrow(new InstanceNotFoundException());
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.addReservation(client, A_DATE);
+			
+			InOrder inOrder = Mockito.inOrder(view);
+			ArgumentCaptor<Reservation> pendingCaptor = ArgumentCaptor.forClass(Reservation.class);
+			inOrder.verify(view).reservationAdding(pendingCaptor.capture());
+			inOrder.verify(view).reservationAddingFailed(same(pendingCaptor.getValue()));
+			inOrder.verify(view).showOperationError(CLIENT_STRING + " no longer exists.");
+			verify(view, never()).reservationAdded(any());
+		}
+
+		@Test
+		@DisplayName("Client is renamed")
+		void testRenameClientWhenOptimisticShouldShowPendingRenamedClientAndConfirmIt() {
+			when(clientValidator.validateFirstName(validatedFirstName)).thenReturn(validatedFirstName);
+			when(clientValidator.validateLastName(validatedLastName)).thenReturn(validatedLastName);
+			when(bookingService.renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName))
+				.thenReturn(renamedClient);
+			
+			servedBookingPresenter.renameClient(client, validatedFirstName, validatedLastName);
+			
+			InOrder inOrder = Mockito.inOrder(bookingService, view);
+			ArgumentCaptor<Client> pendingCaptor = ArgumentCaptor.forClass(Client.class);
+			inOrder.verify(view).clientRenaming(eq(client), pendingCaptor.capture());
+			inOrder.verify(bookingService).renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName);
+			inOrder.verify(view).clientRenamed(client, renamedClient);
+			
+			assertThat(pendingCaptor.getValue()).isEqualTo(renamedClient);
+			assertThat(pendingCaptor.getValue().getId()).isEqualTo(A_CLIENT_UUID);
+			verifyNoMoreInteractions(bookingService, view);
+		}
+
+		@Test
+		@DisplayName("Client is not renamed")
+		void testRenameClientWhenOptimisticAndDatabaseFailsShouldRestoreClientAndShowError() {
+			when(clientValidator.validateFirstName(validatedFirstName)).thenReturn(validatedFirstName);
+			when(clientValidator.validateLastName(validatedLastName)).thenReturn(validatedLastName);
+			when(bookingService.renameClient(A_CLIENT_UUID, validatedFirstName, validatedLastName))
+				.thenThrow(new DatabaseException());
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.renameClient(client, validatedFirstName, validatedLastName);
+			
+			InOrder inOrder = Mockito.inOrder(view);
+			ArgumentCaptor<Client> pendingCaptor = ArgumentCaptor.forClass(Client.class);
+			inOrder.verify(view).clientRenaming(eq(client), pendingCaptor.capture());
+			inOrder.verify(view).clientRenamingFailed(eq(client), same(pendingCaptor.getValue()));
+			inOrder.verify(view).showOperationError(
+					"Something went wrong while renaming " + CLIENT_STRING + ".");
+			verify(view, never()).clientRenamed(any(), any());
+		}
+	}
+
 	@Nested
 	@DisplayName("Tests for 'rescheduleReservation'")
 	class RescheduleReservationTest {
@@ -936,8 +1302,8 @@ class ServedBookingPresenterTest {
 				
 				when(bookingService.rescheduleReservation(A_RESERVATION_UUID, validatedDate))
 					.thenThrow(new InstanceAlreadyExistsException());
-				when(bookingService.findAllReservations()).thenReturn(reservationsInDB);
-				when(bookingService.findAllClients()).thenReturn(clientsInDB);
+				when(bookingService.snapshot())
+					.thenReturn(new BookingSnapshot(clientsInDB, reservationsInDB));
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.rescheduleReservation(reservation, newDate));
@@ -953,8 +1319,7 @@ class ServedBookingPresenterTest {
 			void testRescheduleReservationWhenReservationIsNotInDatabaseShouldShowErrorAndUpdateView() {
 				when(bookingService.rescheduleReservation(A_RESERVATION_UUID, validatedDate))
 					.thenThrow(new InstanceNotFoundException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.rescheduleReservation(reservation, newDate));
@@ -969,8 +1334,7 @@ class ServedBookingPresenterTest {
 			void testRescheduleReservationWhenDatabaseRequestFailsShouldShowErrorAndUpdateView() {
 				when(bookingService.rescheduleReservation(A_RESERVATION_UUID, validatedDate))
 					.thenThrow(new DatabaseException());
-				// default stubbing for bookingService.findAllReservations()
-				// default stubbing for bookingService.findAllClients()
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				assertThatNoException().isThrownBy(() -> servedBookingPresenter
 						.rescheduleReservation(reservation, newDate));
@@ -1010,6 +1374,7 @@ class ServedBookingPresenterTest {
 					}
 					else throw new InstanceAlreadyExistsException();
 				}).when(bookingService).rescheduleReservation(A_RESERVATION_UUID, validatedDate);
+				when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
 				
 				List<Thread> threads = IntStream.range(0, NUM_OF_THREADS)
 						.mapToObj(i -> new Thread(() ->
@@ -1041,4 +1406,139 @@ class ServedBookingPresenterTest {
 				.rescheduleReservation(same(A_RESERVATION_UUID), any(LocalDate.class));
 		}
 	}
+
+	@Nested
+	@DisplayName("Tests for following a change feed")
+	class ChangeListenerTest {
+		private Client renamedClient;
+		private Reservation rescheduledReservation;
+
+		@Mock
+		private ChangeFeed changeFeed;
+
+		@BeforeEach
+		void setUpChanges() throws Exception {
+			renamedClient = new Client("Maria", "De Lucia");
+			renamedClient.setId(A_CLIENT_UUID);
+			rescheduledReservation = new Reservation(A_CLIENT_UUID, LocalDate.parse("2023-09-05"));
+			rescheduledReservation.setId(A_RESERVATION_UUID);
+		}
+
+		@Test
+		@DisplayName("'followChanges' registers the presenter")
+		void testFollowChangesShouldRegisterThePresenterAsListener() {
+			servedBookingPresenter.followChanges(changeFeed);
+			
+			verify(changeFeed).addListener(servedBookingPresenter);
+		}
+
+		@Test
+		@DisplayName("Remote client changes")
+		void testClientChangedWhenMadeByOthersShouldUpdateTheView() {
+			servedBookingPresenter.followChanges(changeFeed);
+			
+			servedBookingPresenter.clientChanged(new ChangeEvent<>(Kind.INSERT, A_CLIENT_UUID, null, client));
+			servedBookingPresenter.clientChanged(
+					new ChangeEvent<>(Kind.UPDATE, A_CLIENT_UUID, client, renamedClient));
+			servedBookingPresenter.clientChanged(
+					new ChangeEvent<>(Kind.DELETE, A_CLIENT_UUID, renamedClient, null));
+			
+			InOrder inOrder = Mockito.inOrder(view);
+			inOrder.verify(view).clientAdded(client);
+			inOrder.verify(view).clientRenamed(client, renamedClient);
+			inOrder.verify(view).clientRemoved(renamedClient);
+			verifyNoInteractions(bookingService);
+		}
+
+		@Test
+		@DisplayName("Remote reservation changes")
+		void testReservationChangedWhenMadeByOthersShouldUpdateTheView() {
+			servedBookingPresenter.followChanges(changeFeed);
+			
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.INSERT, A_RESERVATION_UUID, null, reservation));
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.UPDATE, A_RESERVATION_UUID, reservation, rescheduledReservation));
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, rescheduledReservation, null));
+			
+			InOrder inOrder = Mockito.inOrder(view);
+			inOrder.verify(view).reservationAdded(reservation);
+			inOrder.verify(view).reservationRescheduled(reservation, rescheduledReservation);
+			inOrder.verify(view).reservationRemoved(rescheduledReservation);
+			verifyNoInteractions(bookingService);
+		}
+
+		@Test
+		@DisplayName("Remote changes without previous state")
+		void testChangedWhenPreviousStateIsUnknownShouldReloadTheEntities() {
+			servedBookingPresenter.followChanges(changeFeed);
+			
+			servedBookingPresenter.clientChanged(new ChangeEvent<>(Kind.DELETE, A_CLIENT_UUID, null, null));
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.UPDATE, A_RESERVATION_UUID, null, reservation));
+			
+			verify(bookingService).findAllClients();
+			verify(view).showAllClients(Collections.emptyList());
+			verify(bookingService).findAllReservations();
+			verify(view).showAllReservations(Collections.emptyList());
+			verifyNoMoreInteractions(view);
+		}
+
+		@Test
+		@DisplayName("Echo of an own change")
+		void testReservationChangedWhenEchoOfOwnChangeShouldBeSkippedOnce() {
+			servedBookingPresenter.followChanges(changeFeed);
+			servedBookingPresenter.deleteReservation(reservation);
+			ChangeEvent<Reservation> event = new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, reservation, null);
+			
+			servedBookingPresenter.reservationChanged(event);
+			
+			verify(view).reservationRemoved(reservation);
+			
+			servedBookingPresenter.reservationChanged(event);
+			
+			verify(view, Mockito.times(2)).reservationRemoved(reservation);
+		}
+
+		@Test
+		@DisplayName("Echoes of an own client deletion")
+		void testChangedWhenEchoesOfOwnClientDeletionShouldSkipAlsoItsReservations() {
+			servedBookingPresenter.followChanges(changeFeed);
+			servedBookingPresenter.deleteClient(client);
+			
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, reservation, null));
+			servedBookingPresenter.clientChanged(new ChangeEvent<>(Kind.DELETE, A_CLIENT_UUID, client, null));
+			
+			verify(view).clientRemoved(client);
+			verify(view, never()).reservationRemoved(any());
+		}
+
+		@Test
+		@DisplayName("Changes without following a feed")
+		void testChangedWhenNotFollowingAFeedShouldNotExpectEchoes() {
+			servedBookingPresenter.deleteReservation(reservation);
+			
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, reservation, null));
+			
+			verify(view, Mockito.times(2)).reservationRemoved(reservation);
+		}
+
+		@Test
+		@DisplayName("Missed changes")
+		void testChangesMissedShouldReloadAllAndForgetEchoes() {
+			servedBookingPresenter.followChanges(changeFeed);
+			servedBookingPresenter.deleteReservation(reservation);
+			when(bookingService.snapshot()).thenReturn(EMPTY_SNAPSHOT);
+			
+			servedBookingPresenter.changesMissed();
+			servedBookingPresenter.reservationChanged(
+					new ChangeEvent<>(Kind.DELETE, A_RESERVATION_UUID, reservation, null));
+			
+			verify(bookingService).snapshot();
+			verify(view, Mockito.times(2)).reservationRemoved(reservation);
+		}
+	}
 }
\ No newline at end of file
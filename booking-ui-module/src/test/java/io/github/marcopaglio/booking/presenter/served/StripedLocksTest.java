@@ -0,0 +1,117 @@
+package io.github.marcopaglio.booking.presenter.served;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for StripedLocks class")
+class StripedLocksTest {
+	private static final int STRIPES = 16;
+
+	private static final String A_KEY = "a-key";
+
+	private StripedLocks locks;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		locks = new StripedLocks(STRIPES);
+	}
+
+	private String keyOnAnotherStripe(String key) {
+		int i = 0;
+		while (locks.stripeOf("key-" + i) == locks.stripeOf(key))
+			i++;
+		return "key-" + i;
+	}
+
+	@Test
+	@DisplayName("Not positive stripes")
+	void testStripedLocksWhenStripeCountIsNotPositiveShouldThrow() {
+		assertThatThrownBy(() -> new StripedLocks(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Number of lock stripes must be positive.");
+	}
+
+	@Test
+	@DisplayName("Same key is locked")
+	void testRunLockedWhenKeyIsLockedShouldWaitForIt() throws Exception {
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean ran = new AtomicBoolean();
+		Thread holder = new Thread(() -> locks.runLocked(() -> {
+			holding.countDown();
+			awaitQuietly(release);
+		}, A_KEY));
+		holder.start();
+		holding.await();
+		
+		Thread waiter = new Thread(() -> locks.runLocked(() -> ran.set(true), A_KEY));
+		waiter.start();
+		
+		Thread.sleep(50);
+		assertThat(ran).isFalse();
+		release.countDown();
+		await().atMost(2, SECONDS).untilTrue(ran);
+	}
+
+	@Test
+	@DisplayName("Different stripes")
+	void testRunLockedWhenKeysAreOnDifferentStripesShouldNotWait() throws Exception {
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean ran = new AtomicBoolean();
+		new Thread(() -> locks.runLocked(() -> {
+			holding.countDown();
+			awaitQuietly(release);
+		}, A_KEY)).start();
+		holding.await();
+		
+		new Thread(() -> locks.runLocked(() -> ran.set(true), keyOnAnotherStripe(A_KEY))).start();
+		
+		await().atMost(2, SECONDS).untilTrue(ran);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("Several keys and null ones")
+	void testRunLockedWhenKeysAreSeveralOrNullShouldRunAndReleaseThem() {
+		AtomicBoolean ran = new AtomicBoolean();
+		
+		locks.runLocked(() -> ran.set(true), A_KEY, null, keyOnAnotherStripe(A_KEY), A_KEY);
+		
+		assertThat(ran).isTrue();
+		AtomicBoolean ranAgain = new AtomicBoolean();
+		Thread other = new Thread(() -> locks.runLocked(() -> ranAgain.set(true), A_KEY));
+		other.start();
+		await().atMost(2, SECONDS).untilTrue(ranAgain);
+	}
+
+	@Test
+	@DisplayName("Action fails")
+	void testRunLockedWhenActionThrowsShouldReleaseTheLocks() {
+		assertThatThrownBy(() -> locks.runLocked(() -> {
+			throw new IllegalStateException();
+		}, A_KEY)).isInstanceOf(IllegalStateException.class);
+		
+		AtomicBoolean ran = new AtomicBoolean();
+		Thread other = new Thread(() -> locks.runLocked(() -> ran.set(true), A_KEY));
+		other.start();
+		await().atMost(2, SECONDS).untilTrue(ran);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
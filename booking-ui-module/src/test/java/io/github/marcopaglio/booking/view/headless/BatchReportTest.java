@@ -0,0 +1,59 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for BatchReport class")
+class BatchReportTest {
+	private static final long ONE_SECOND = 1_000_000_000L;
+
+	@Test
+	@DisplayName("Percentiles")
+	void testGetLatencyPercentileShouldUseTheNearestRank() {
+		// latencies from 100 down to 1, unsorted on purpose
+		BatchReport report = new BatchReport(LongStream.rangeClosed(1, 100).map(i -> 101 - i).toArray(),
+				ONE_SECOND);
+		
+		assertThat(report.getLatencyPercentile(50)).isEqualTo(50);
+		assertThat(report.getLatencyPercentile(99)).isEqualTo(99);
+		assertThat(report.getLatencyPercentile(99.9)).isEqualTo(100);
+		assertThat(report.getLatencyPercentile(100)).isEqualTo(100);
+		assertThat(report.getLatencyPercentile(0.1)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Throughput")
+	void testGetThroughputShouldDivideOperationsByElapsedSeconds() {
+		BatchReport report = new BatchReport(new long[250], ONE_SECOND / 2);
+		
+		assertThat(report.getOperationCount()).isEqualTo(250);
+		assertThat(report.getThroughput()).isEqualTo(500.0);
+	}
+
+	@Test
+	@DisplayName("No operations")
+	void testReportWhenThereAreNoOperationsShouldReportZeros() {
+		BatchReport report = new BatchReport(new long[0], 0);
+		
+		assertThat(report.getThroughput()).isZero();
+		assertThat(report.getLatencyPercentile(99)).isZero();
+		assertThat(report.format()).startsWith("0 operations");
+	}
+
+	@Test
+	@DisplayName("Percentile out of range")
+	void testGetLatencyPercentileWhenOutOfRangeShouldThrow() {
+		BatchReport report = new BatchReport(new long[] { 1 }, ONE_SECOND);
+		
+		assertThatThrownBy(() -> report.getLatencyPercentile(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Percentile must be greater than 0 and at most 100.");
+		assertThatThrownBy(() -> report.getLatencyPercentile(100.1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+
+@DisplayName("Tests for BatchRunner class")
+class BatchRunnerTest {
+	private static final int WORKERS = 4;
+
+	private BookingPresenter presenter;
+	private HeadlessBookingView view;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		presenter = mock(BookingPresenter.class);
+		view = new HeadlessBookingView();
+	}
+
+	@Test
+	@DisplayName("Not positive workers")
+	void testBatchRunnerWhenWorkerCountIsNotPositiveShouldThrow() {
+		assertThatThrownBy(() -> new BatchRunner(presenter, view, 0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Number of batch workers must be positive.");
+	}
+
+	@Test
+	@DisplayName("Generated sessions")
+	void testRunShouldRunAllOperationsAndReportTheirLatencies() throws Exception {
+		// the presenter notifies the view as the served one does
+		doAnswer(invocation -> {
+			Client client = new Client(invocation.getArgument(0), invocation.getArgument(1));
+			client.setId(UUID.randomUUID());
+			view.clientAdded(client);
+			return null;
+		}).when(presenter).addClient(anyString(), anyString());
+		doAnswer(invocation -> {
+			Client oldClient = invocation.getArgument(0);
+			Client renamedClient = new Client(invocation.getArgument(1), invocation.getArgument(2));
+			renamedClient.setId(oldClient.getId());
+			view.clientRenamed(oldClient, renamedClient);
+			return null;
+		}).when(presenter).renameClient(any(), anyString(), anyString());
+		BatchScript script = BatchScript.generate(20, 42);
+		
+		BatchReport report = new BatchRunner(presenter, view, WORKERS).run(script);
+		
+		assertThat(report.getOperationCount()).isEqualTo(script.getOperationCount());
+		assertThat(report.getElapsedNanos()).isPositive();
+		assertThat(report.getLatencyPercentile(100)).isPositive();
+		verify(presenter, times(20)).addClient(anyString(), anyString());
+		verify(presenter, times(20)).deleteClient(notNull());
+	}
+
+	@Test
+	@DisplayName("Sessions run concurrently")
+	void testRunShouldRunSessionsOnManyWorkers() throws Exception {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> {
+			threads.add(Thread.currentThread());
+			Thread.sleep(20);
+			return null;
+		}).when(presenter).allClients();
+		BatchScript script = BatchScript.parse(List.of("allClients", "", "allClients", "", "allClients",
+				"", "allClients"));
+		
+		new BatchRunner(presenter, view, WORKERS).run(script);
+		
+		assertThat(threads).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	@DisplayName("Unexpected failure")
+	void testRunWhenAnOperationThrowsShouldThrow() {
+		doThrow(new IllegalStateException("boom")).when(presenter).allClients();
+		BatchScript script = BatchScript.parse(List.of("allClients"));
+		BatchRunner runner = new BatchRunner(presenter, view, WORKERS);
+		
+		assertThatThrownBy(() -> runner.run(script))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("A batch operation failed unexpectedly.")
+			.hasRootCauseMessage("boom");
+	}
+}
@@ -0,0 +1,172 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.presenter.BookingPresenter;
+import io.github.marcopaglio.booking.view.headless.BatchScript.Command;
+import io.github.marcopaglio.booking.view.headless.BatchScript.Operation;
+
+@DisplayName("Tests for BatchScript class")
+class BatchScriptTest {
+	private static final String A_FIRSTNAME = "Mario";
+	private static final String A_LASTNAME = "Rossi";
+	private static final String A_DATE = "2023-04-24";
+	private static final String ANOTHER_DATE = "2023-09-05";
+	private static final UUID A_CLIENT_UUID = UUID.fromString("0617d050-9cde-49e5-8fca-d448a7115ccd");
+
+	@Nested
+	@DisplayName("Tests for 'parse'")
+	class ParseTest {
+
+		@Test
+		@DisplayName("Sessions and comments")
+		void testParseShouldSplitSessionsByBlankLinesAndSkipComments() {
+			BatchScript script = BatchScript.parse(List.of(
+					"# first session",
+					"addClient;" + A_FIRSTNAME + ";" + A_LASTNAME,
+					"addReservation;" + A_FIRSTNAME + ";" + A_LASTNAME + ";" + A_DATE,
+					"",
+					"   ",
+					"allClientsAndReservations",
+					""));
+			
+			assertThat(script.getSessions()).hasSize(2);
+			assertThat(script.getOperationCount()).isEqualTo(3);
+			assertThat(script.getSessions().get(0))
+				.extracting(Operation::toString)
+				.containsExactly("addClient;" + A_FIRSTNAME + ";" + A_LASTNAME,
+						"addReservation;" + A_FIRSTNAME + ";" + A_LASTNAME + ";" + A_DATE);
+			assertThat(script.getSessions().get(1).get(0).getCommand())
+				.isEqualTo(Command.ALL_CLIENTS_AND_RESERVATIONS);
+		}
+
+		@Test
+		@DisplayName("Unknown operation")
+		void testParseWhenOperationIsUnknownShouldThrow() {
+			List<String> lines = List.of("addClient;" + A_FIRSTNAME + ";" + A_LASTNAME, "bookEverything");
+			
+			assertThatThrownBy(() -> BatchScript.parse(lines))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Line 2: unknown operation 'bookEverything'.");
+		}
+
+		@Test
+		@DisplayName("Wrong number of arguments")
+		void testParseWhenArgumentsAreMissingShouldThrow() {
+			List<String> lines = List.of("renameClient;" + A_FIRSTNAME + ";" + A_LASTNAME);
+			
+			assertThatThrownBy(() -> BatchScript.parse(lines))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Line 1: operation 'renameClient' needs 4 arguments.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'generate'")
+	class GenerateTest {
+
+		@Test
+		@DisplayName("Not positive sessions")
+		void testGenerateWhenSessionCountIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> BatchScript.generate(0, 42))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Number of generated sessions must be positive.");
+		}
+
+		@Test
+		@DisplayName("Same seed")
+		void testGenerateWhenSeedIsTheSameShouldGenerateTheSameOperations() {
+			assertThat(lines(BatchScript.generate(50, 42))).isEqualTo(lines(BatchScript.generate(50, 42)));
+		}
+
+		@Test
+		@DisplayName("Sessions do not collide")
+		void testGenerateShouldUseClientsAndDatesOfEachSessionOnly() {
+			BatchScript script = BatchScript.generate(100, 42);
+			
+			assertThat(script.getSessions()).hasSize(100).allSatisfy(session -> {
+				assertThat(session.get(0).getCommand()).isEqualTo(Command.ADD_CLIENT);
+				assertThat(session.get(session.size() - 1).getCommand()).isEqualTo(Command.DELETE_CLIENT);
+			});
+			Map<String, Long> sessionsByLastName = script.getSessions().stream()
+				.map(session -> session.get(0).getArguments().get(1))
+				.collect(Collectors.groupingBy(lastName -> lastName, Collectors.counting()));
+			assertThat(sessionsByLastName).hasSize(100);
+			assertThat(script.getSessions().stream().flatMap(List::stream)
+					.filter(operation -> operation.getCommand() == Command.ADD_RESERVATION)
+					.map(operation -> operation.getArguments().get(2)))
+				.doesNotHaveDuplicates();
+		}
+
+		@Test
+		@DisplayName("Names of generated clients")
+		void testGenerateShouldGenerateNamesWithLettersOnly() {
+			assertThat(BatchScript.generate(1000, 42).getSessions())
+				.flatMap(session -> session.get(0).getArguments())
+				.allMatch(name -> name.chars().allMatch(Character::isLetter));
+		}
+
+		private List<String> lines(BatchScript script) {
+			return script.getSessions().stream().flatMap(List::stream).map(Operation::toString).toList();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'runOn'")
+	class RunOnTest {
+		private BookingPresenter presenter = mock(BookingPresenter.class);
+		private HeadlessBookingView view = new HeadlessBookingView();
+
+		@Test
+		@DisplayName("Client shown")
+		void testRunOnWhenClientIsShownShouldPassItToThePresenter() {
+			Client client = new Client(A_FIRSTNAME, A_LASTNAME);
+			client.setId(A_CLIENT_UUID);
+			view.clientAdded(client);
+			
+			run("addReservation;" + A_FIRSTNAME + ";" + A_LASTNAME + ";" + A_DATE);
+			
+			verify(presenter).addReservation(client, A_DATE);
+		}
+
+		@Test
+		@DisplayName("Reservation shown")
+		void testRunOnWhenReservationIsShownShouldPassItToThePresenter() {
+			Reservation reservation = new Reservation(A_CLIENT_UUID, LocalDate.parse(A_DATE));
+			view.reservationAdded(reservation);
+			
+			run("rescheduleReservation;" + A_DATE + ";" + ANOTHER_DATE);
+			
+			verify(presenter).rescheduleReservation(reservation, ANOTHER_DATE);
+		}
+
+		@Test
+		@DisplayName("Entities not shown")
+		void testRunOnWhenEntitiesAreNotShownShouldPassNullToThePresenter() {
+			run("deleteClient;" + A_FIRSTNAME + ";" + A_LASTNAME);
+			run("deleteReservation;not-a-date");
+			
+			verify(presenter).deleteClient(null);
+			verify(presenter).deleteReservation(null);
+		}
+
+		private void run(String line) {
+			BatchScript.parse(List.of(line)).getSessions().get(0).get(0).runOn(presenter, view);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package io.github.marcopaglio.booking.view.headless;
+
+import static io.github.marcopaglio.booking.view.headless.HeadlessBookingView.RECENT_ERRORS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.marcopaglio.booking.model.Client;
+import io.github.marcopaglio.booking.model.Reservation;
+import io.github.marcopaglio.booking.model.ReservationPage;
+
+@DisplayName("Tests for HeadlessBookingView class")
+class HeadlessBookingViewTest {
+	private static final String A_FIRSTNAME = "Mario";
+	private static final String A_LASTNAME = "Rossi";
+	private static final String ANOTHER_FIRSTNAME = "Maria";
+	private static final String ANOTHER_LASTNAME = "De Lucia";
+	private static final UUID A_CLIENT_UUID = UUID.fromString("0617d050-9cde-49e5-8fca-d448a7115ccd");
+	private static final LocalDate A_LOCALDATE = LocalDate.parse("2023-04-24");
+	private static final LocalDate ANOTHER_LOCALDATE = LocalDate.parse("2023-09-05");
+
+	private HeadlessBookingView view;
+
+	private Client client;
+	private Reservation reservation;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		view = new HeadlessBookingView();
+		
+		client = new Client(A_FIRSTNAME, A_LASTNAME);
+		client.setId(A_CLIENT_UUID);
+		reservation = new Reservation(A_CLIENT_UUID, A_LOCALDATE);
+	}
+
+	@Test
+	@DisplayName("Client added")
+	void testClientAddedShouldRecordItAndCountTheChange() {
+		view.clientAdded(client);
+		
+		assertThat(view.findClient(A_FIRSTNAME, A_LASTNAME)).isSameAs(client);
+		assertThat(view.getChangeCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Client renamed")
+	void testClientRenamedShouldReplaceTheOldClient() {
+		Client renamedClient = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+		renamedClient.setId(A_CLIENT_UUID);
+		view.clientAdded(client);
+		
+		view.clientRenamed(client, renamedClient);
+		
+		assertThat(view.findClient(A_FIRSTNAME, A_LASTNAME)).isNull();
+		assertThat(view.findClient(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME)).isSameAs(renamedClient);
+		assertThat(view.getChangeCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Client removed")
+	void testClientRemovedShouldForgetIt() {
+		view.clientAdded(client);
+		
+		view.clientRemoved(client);
+		
+		assertThat(view.getClients()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Reservation rescheduled")
+	void testReservationRescheduledShouldReplaceTheOldReservation() {
+		Reservation rescheduledReservation = new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE);
+		view.reservationAdded(reservation);
+		
+		view.reservationRescheduled(reservation, rescheduledReservation);
+		
+		assertThat(view.findReservation(A_LOCALDATE)).isNull();
+		assertThat(view.findReservation(ANOTHER_LOCALDATE)).isSameAs(rescheduledReservation);
+	}
+
+	@Test
+	@DisplayName("Reservation removed")
+	void testReservationRemovedShouldForgetIt() {
+		view.reservationAdded(reservation);
+		
+		view.reservationRemoved(reservation);
+		
+		assertThat(view.getReservations()).isEmpty();
+		assertThat(view.getChangeCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Reload while adding")
+	void testShowAllWhenEntitiesAreBeingAddedShouldNotDropThem() {
+		Client anotherClient = new Client(ANOTHER_FIRSTNAME, ANOTHER_LASTNAME);
+		view.clientAdded(client);
+		view.reservationAdded(reservation);
+		
+		view.showAllClients(List.of(anotherClient));
+		view.showReservationsPage(new ReservationPage(0, 1,
+				List.of(new Reservation(A_CLIENT_UUID, ANOTHER_LOCALDATE))));
+		
+		assertThat(view.getClients()).containsExactlyInAnyOrder(client, anotherClient);
+		assertThat(view.findReservation(A_LOCALDATE)).isSameAs(reservation);
+		assertThat(view.findReservation(ANOTHER_LOCALDATE)).isNotNull();
+		assertThat(view.getChangeCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Pending changes")
+	void testPendingChangesShouldNotBeRecorded() {
+		view.clientAdding(client);
+		view.reservationAdding(reservation);
+		
+		assertThat(view.getClients()).isEmpty();
+		assertThat(view.getReservations()).isEmpty();
+		assertThat(view.getChangeCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("Errors")
+	void testShowErrorsShouldCountThemAndKeepTheMostRecentOnes() {
+		view.showFormError("form error");
+		for (int i = 0; i <= RECENT_ERRORS; i++)
+			view.showOperationError("operation error " + i);
+		
+		assertThat(view.getFormErrorCount()).isEqualTo(1);
+		assertThat(view.getOperationErrorCount()).isEqualTo(RECENT_ERRORS + 1L);
+		assertThat(view.getRecentErrors())
+			.hasSize(RECENT_ERRORS)
+			.doesNotContain("form error")
+			.endsWith("operation error " + RECENT_ERRORS);
+	}
+}
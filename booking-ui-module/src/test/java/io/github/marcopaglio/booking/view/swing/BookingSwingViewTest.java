@@ -22,6 +22,8 @@ import java.util.UUID;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.ListCellRenderer;
 
 import org.assertj.swing.annotation.GUITest;
 import org.assertj.swing.core.matcher.JButtonMatcher;
@@ -66,6 +68,8 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 	private static final String A_RESERVATION_DISPLAYED = "Reservation [" + A_DATE + "]";
 	private static final String ANOTHER_RESERVATION_DISPLAYED = "Reservation [" + ANOTHER_DATE + "]";
 	private static final String CHANGED_RESERVATION_DISPLAYED = "Reservation [" + CHANGED_DATE + "]";
+	private static final String A_RESOURCE = "court-1";
+	private static final String A_RESOURCE_RESERVATION_DISPLAYED = "Reservation [" + A_RESOURCE + ", " + CHANGED_DATE + "]";
 
 	private static final String OPERATIONS_ERROR_MSG = "An error message that involves operations.";
 	private static final String FORMS_ERROR_MSG = "An error message that involves forms.";
@@ -196,6 +200,11 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 			
 			// Fourth row
 			window.scrollPane("clientScrollPane");
+			window.textBox("clientFilterTxt")
+				.requireEnabled()
+				.requireEditable()
+				.requireEmpty()
+				.requireToolTip("Search clients by the beginning of their first or last name");
 			clientList.requireNoSelection();
 			
 			window.scrollPane("reservationScrollPane");
@@ -295,6 +304,53 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 		////////////// Reservation List Selection
 
 
+		////////////// Client Filter
+			@Test @GUITest
+			@DisplayName("Prefix of a last name typed")
+			public void testClientFilterWhenPrefixIsTypedShouldShowOnlyMatchingClients() {
+				bookingSwingView.showAllClients(Arrays.asList(client, anotherClient));
+				
+				window.textBox("clientFilterTxt").enterText("ross");
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED);
+			}
+
+			@Test @GUITest
+			@DisplayName("Filter cleared")
+			public void testClientFilterWhenTextIsDeletedShouldShowAllClients() {
+				bookingSwingView.showAllClients(Arrays.asList(client, anotherClient));
+				window.textBox("clientFilterTxt").enterText("mari");
+				
+				window.textBox("clientFilterTxt").deleteText();
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED, ANOTHER_CLIENT_DISPLAYED);
+			}
+
+			@Test @GUITest
+			@DisplayName("Client added while filtering")
+			public void testClientFilterWhenAMatchingClientIsAddedShouldShowIt() {
+				bookingSwingView.clientAdded(client);
+				window.textBox("clientFilterTxt").enterText("de l");
+				
+				bookingSwingView.clientAdded(anotherClient);
+				
+				assertThat(clientList.contents()).containsExactly(ANOTHER_CLIENT_DISPLAYED);
+			}
+
+			@Test @GUITest
+			@DisplayName("Selected client filtered out")
+			public void testClientFilterWhenTheSelectedClientIsFilteredOutShouldClearSelection() {
+				bookingSwingView.showAllClients(Arrays.asList(client, anotherClient));
+				clientList.selectItem(A_CLIENT_DISPLAYED);
+				
+				window.textBox("clientFilterTxt").enterText("maria");
+				
+				clientList.requireNoSelection();
+				removeClientBtn.requireDisabled();
+			}
+		////////////// Client Filter
+
+
 		////////////// Add Client Button
 			////////////// Name Form Text
 				@Test @GUITest
@@ -1770,7 +1826,7 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 					.rescheduleReservation(reservation, ANOTHER_DATE);
 			}
 		////////////// Reschedule Reservation Button
-
+		
 		////////////// Remove Reservation Button
 			////////////// Reservation List
 				@Test @GUITest
@@ -1849,7 +1905,7 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 
 			@Test @GUITest
 			@DisplayName("Client selected")
-			public void testShowAllClientsWhenAClientIsSelectedShouldClearTheSelectionAndDisableRelatedButtons() {
+			public void testShowAllClientsWhenTheSelectedClientIsStillShownShouldKeepItSelected() {
 				addClientInList(client);
 				addClientInList(anotherClient);
 				clientList.selectItem(0);
@@ -1857,7 +1913,27 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 				enableButton(bookingSwingView.getRemoveClientBtn());
 				enableButton(bookingSwingView.getAddReservationBtn());
 				
-				bookingSwingView.showAllClients(Arrays.asList(client, anotherClient));
+				bookingSwingView.showAllClients(Arrays.asList(anotherClient, client));
+				
+				assertThat(clientList.contents())
+					.containsExactly(ANOTHER_CLIENT_DISPLAYED, A_CLIENT_DISPLAYED);
+				clientList.requireSelection(A_CLIENT_DISPLAYED);
+				removeClientBtn.requireEnabled();
+				renameBtn.requireDisabled();
+				addReservationBtn.requireDisabled();
+			}
+
+			@Test @GUITest
+			@DisplayName("Selected client no longer shown")
+			public void testShowAllClientsWhenTheSelectedClientIsNoLongerShownShouldClearTheSelectionAndDisableRelatedButtons() {
+				addClientInList(client);
+				addClientInList(anotherClient);
+				clientList.selectItem(0);
+				enableButton(bookingSwingView.getRenameBtn());
+				enableButton(bookingSwingView.getRemoveClientBtn());
+				enableButton(bookingSwingView.getAddReservationBtn());
+				
+				bookingSwingView.showAllClients(Arrays.asList(anotherClient));
 				
 				clientList.requireNoSelection();
 				renameBtn.requireDisabled();
@@ -1903,18 +1979,45 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 
 			@Test @GUITest
 			@DisplayName("Reservation selected")
-			public void testShowAllReservationsWhenAReservationIsSelectedShouldClearTheSelectionAndDisableRelatedButtons() {
+			public void testShowAllReservationsWhenTheSelectedReservationIsStillShownShouldKeepItSelected() {
 				addReservationInList(reservation);
 				reservationList.selectItem(0);
 				enableButton(bookingSwingView.getRescheduleBtn());
 				enableButton(bookingSwingView.getRemoveReservationBtn());
 				
-				bookingSwingView.showAllReservations(Arrays.asList(reservation, anotherReservation));
+				bookingSwingView.showAllReservations(Arrays.asList(anotherReservation, reservation));
+				
+				assertThat(reservationList.contents())
+					.containsExactly(A_RESERVATION_DISPLAYED, ANOTHER_RESERVATION_DISPLAYED);
+				reservationList.requireSelection(A_RESERVATION_DISPLAYED);
+				removeReservationBtn.requireEnabled();
+				rescheduleBtn.requireDisabled();
+			}
+
+			@Test @GUITest
+			@DisplayName("Selected reservation no longer shown")
+			public void testShowAllReservationsWhenTheSelectedReservationIsNoLongerShownShouldClearTheSelectionAndDisableRelatedButtons() {
+				addReservationInList(reservation);
+				reservationList.selectItem(0);
+				enableButton(bookingSwingView.getRescheduleBtn());
+				enableButton(bookingSwingView.getRemoveReservationBtn());
+				
+				bookingSwingView.showAllReservations(Arrays.asList(anotherReservation));
 				
 				reservationList.requireNoSelection();
 				rescheduleBtn.requireDisabled();
 				removeReservationBtn.requireDisabled();
 			}
+
+			@Test @GUITest
+			@DisplayName("Reservation of another resource")
+			public void testShowAllReservationsWhenAReservationIsOfAnotherResourceShouldShowItWithItsResource() {
+				bookingSwingView.showAllReservations(Arrays.asList(
+						new Reservation(A_CLIENT_UUID, A_RESOURCE, LocalDate.parse(CHANGED_DATE))));
+				
+				assertThat(reservationList.contents())
+					.containsExactly(A_RESOURCE_RESERVATION_DISPLAYED);
+			}
 		////////////// Tests for 'showAllReservations'
 
 
@@ -1941,6 +2044,17 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 					.containsExactlyInAnyOrder(A_RESERVATION_DISPLAYED, ANOTHER_RESERVATION_DISPLAYED);
 			}
 
+			@Test @GUITest
+			@DisplayName("Later reservations displayed")
+			public void testReservationAddedWhenLaterReservationsAreDisplayedShouldInsertItBeforeThem() {
+				addReservationInList(anotherReservation);
+				
+				bookingSwingView.reservationAdded(reservation);
+				
+				assertThat(reservationList.contents())
+					.containsExactly(A_RESERVATION_DISPLAYED, ANOTHER_RESERVATION_DISPLAYED);
+			}
+
 			@Test @GUITest
 			@DisplayName("Reservation selected")
 			public void testReservationAddedWhenThereIsAReservationsSelectedShouldNotChangeTheSelection() {
@@ -1983,6 +2097,18 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 				formErrorMsgLbl.requireText(" ");
 				operationErrorMsgLbl.requireText(" ");
 			}
+
+			@Test @GUITest
+			@DisplayName("Reservation already displayed")
+			public void testReservationAddedWhenReservationIsAlreadyDisplayedShouldNotDuplicateIt() {
+				addReservationInList(reservation);
+				
+				bookingSwingView.reservationAdded(reservation);
+				
+				assertThat(reservationList.contents())
+					.hasSize(1)
+					.containsExactly(A_RESERVATION_DISPLAYED);
+			}
 		////////////// Tests for 'reservationAdded'
 
 
@@ -2049,6 +2175,18 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 				formErrorMsgLbl.requireText(" ");
 				operationErrorMsgLbl.requireText(" ");
 			}
+
+			@Test @GUITest
+			@DisplayName("Client already displayed")
+			public void testClientAddedWhenClientIsAlreadyDisplayedShouldNotDuplicateIt() {
+				addClientInList(client);
+				
+				bookingSwingView.clientAdded(client);
+				
+				assertThat(clientList.contents())
+					.hasSize(1)
+					.containsExactly(A_CLIENT_DISPLAYED);
+			}
 		////////////// Tests for 'clientAdded'
 
 
@@ -2299,6 +2437,99 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 		////////////// Tests for 'clientRenamed'
 
 
+		////////////// Tests for pending changes
+			@Test @GUITest
+			@DisplayName("Pending client displayed")
+			public void testClientAddingShouldDisplayThePendingClientInItalics() {
+				bookingSwingView.clientAdding(new Client(A_FIRSTNAME, A_LASTNAME));
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED);
+				assertThat(isRenderedAsPending(clientList, 0)).isTrue();
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending client confirmed")
+			public void testClientAddedWhenClientIsPendingShouldConfirmItWithoutDuplicatingIt() {
+				bookingSwingView.clientAdding(new Client(A_FIRSTNAME, A_LASTNAME));
+				
+				bookingSwingView.clientAdded(client);
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED);
+				assertThat(isRenderedAsPending(clientList, 0)).isFalse();
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending client failed")
+			public void testClientAddingFailedWhenClientIsPendingShouldRemoveIt() {
+				addClientInList(anotherClient);
+				Client pendingClient = new Client(A_FIRSTNAME, A_LASTNAME);
+				bookingSwingView.clientAdding(pendingClient);
+				
+				bookingSwingView.clientAddingFailed(pendingClient);
+				
+				assertThat(clientList.contents()).containsExactly(ANOTHER_CLIENT_DISPLAYED);
+			}
+
+			@Test @GUITest
+			@DisplayName("Failed client already confirmed")
+			public void testClientAddingFailedWhenEqualClientIsNotPendingShouldNotRemoveIt() {
+				addClientInList(client);
+				
+				bookingSwingView.clientAddingFailed(new Client(A_FIRSTNAME, A_LASTNAME));
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED);
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending reservation confirmed")
+			public void testReservationAddedWhenReservationIsPendingShouldConfirmItWithoutDuplicatingIt() {
+				bookingSwingView.reservationAdding(new Reservation(A_CLIENT_UUID, LocalDate.parse(A_DATE)));
+				assertThat(isRenderedAsPending(reservationList, 0)).isTrue();
+				
+				bookingSwingView.reservationAdded(reservation);
+				
+				assertThat(reservationList.contents()).containsExactly(A_RESERVATION_DISPLAYED);
+				assertThat(isRenderedAsPending(reservationList, 0)).isFalse();
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending reservation failed")
+			public void testReservationAddingFailedWhenReservationIsPendingShouldRemoveIt() {
+				Reservation pendingReservation = new Reservation(A_CLIENT_UUID, LocalDate.parse(A_DATE));
+				bookingSwingView.reservationAdding(pendingReservation);
+				
+				bookingSwingView.reservationAddingFailed(pendingReservation);
+				
+				assertThat(reservationList.contents()).isEmpty();
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending renaming confirmed")
+			public void testClientRenamedWhenRenamingIsPendingShouldConfirmIt() {
+				addClientInList(client);
+				bookingSwingView.clientRenaming(client, new Client(CHANGED_FIRSTNAME, CHANGED_LASTNAME));
+				
+				bookingSwingView.clientRenamed(client, new Client(CHANGED_FIRSTNAME, CHANGED_LASTNAME));
+				
+				assertThat(clientList.contents()).containsExactly(CHANGED_CLIENT_DISPLAYED);
+				assertThat(isRenderedAsPending(clientList, 0)).isFalse();
+			}
+
+			@Test @GUITest
+			@DisplayName("Pending renaming failed")
+			public void testClientRenamingFailedWhenRenamingIsPendingShouldRestoreTheOldClient() {
+				addClientInList(client);
+				Client pendingClient = new Client(CHANGED_FIRSTNAME, CHANGED_LASTNAME);
+				bookingSwingView.clientRenaming(client, pendingClient);
+				
+				bookingSwingView.clientRenamingFailed(client, pendingClient);
+				
+				assertThat(clientList.contents()).containsExactly(A_CLIENT_DISPLAYED);
+				assertThat(isRenderedAsPending(clientList, 0)).isFalse();
+			}
+		////////////// Tests for pending changes
+
+
 		////////////// Tests for 'reservationRescheduled'
 			@Test @GUITest
 			@DisplayName("Only that reservation displayed")
@@ -2315,21 +2546,17 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 
 			@Test @GUITest
 			@DisplayName("Other reservations displayed")
-			public void testReservationRescheduledWhenOtherReservationsAreDisplayedShouldNotChangeItsPosition() {
+			public void testReservationRescheduledWhenOtherReservationsAreDisplayedShouldMoveItToItsDate() {
 				Reservation rescheduledReservation = new Reservation(
 						A_CLIENT_UUID, LocalDate.parse(CHANGED_DATE));
 				
 				addReservationInList(reservation);
 				addReservationInList(anotherReservation);
-				int initialIndex = bookingSwingView.getReservationListModel().indexOf(reservation);
 				
 				bookingSwingView.reservationRescheduled(reservation, rescheduledReservation);
 				
 				assertThat(reservationList.contents())
-					.doesNotContain(A_RESERVATION_DISPLAYED)
-					.containsExactlyInAnyOrder(ANOTHER_RESERVATION_DISPLAYED, CHANGED_RESERVATION_DISPLAYED);
-				assertThat(bookingSwingView.getReservationListModel().indexOf(rescheduledReservation))
-					.isEqualTo(initialIndex);
+					.containsExactly(ANOTHER_RESERVATION_DISPLAYED, CHANGED_RESERVATION_DISPLAYED);
 			}
 
 			@Test @GUITest
@@ -2430,4 +2657,14 @@ public class BookingSwingViewTest extends AssertJSwingJUnitTestCase {
 	private void addReservationInList(Reservation reservation) {
 		GuiActionRunner.execute(() -> bookingSwingView.getReservationListModel().addElement(reservation));
 	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private boolean isRenderedAsPending(JListFixture list, int index) {
+		return GuiActionRunner.execute(() -> {
+			JList target = list.target();
+			ListCellRenderer renderer = target.getCellRenderer();
+			return renderer.getListCellRendererComponent(target,
+					target.getModel().getElementAt(index), index, false, false).getFont().isItalic();
+		});
+	}
 }
\ No newline at end of file
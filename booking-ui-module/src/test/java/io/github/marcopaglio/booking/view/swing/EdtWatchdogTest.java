@@ -0,0 +1,183 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for EdtWatchdog class")
+class EdtWatchdogTest {
+	private static final Duration STALL_THRESHOLD = Duration.ofMillis(20);
+
+	private List<Runnable> eventQueue;
+
+	private EdtWatchdog watchdog;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		eventQueue = new ArrayList<>();
+		watchdog = new EdtWatchdog(STALL_THRESHOLD, eventQueue::add);
+	}
+
+	private void runPosted() {
+		List<Runnable> posted = new ArrayList<>(eventQueue);
+		eventQueue.clear();
+		posted.forEach(Runnable::run);
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'EdtWatchdog'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Not positive threshold")
+		void testEdtWatchdogWhenStallThresholdIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new EdtWatchdog(Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Stall threshold must be positive.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'invokeLater'")
+	class InvokeLaterTest {
+
+		@Test
+		@DisplayName("Task is posted")
+		void testInvokeLaterShouldPostTheTaskAndMeasureItOnceRun() {
+			List<String> runs = new ArrayList<>();
+			
+			watchdog.invokeLater("task", () -> runs.add("task"));
+			
+			assertThat(runs).isEmpty();
+			assertThat(watchdog.getTaskCount()).isZero();
+			
+			runPosted();
+			
+			assertThat(runs).containsExactly("task");
+			assertThat(watchdog.getTaskCount()).isOne();
+			assertThat(watchdog.getStallCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Task waits too long")
+		void testInvokeLaterWhenTaskWaitsLongerThanThresholdShouldCountAStall() {
+			watchdog.invokeLater("task", () -> {});
+			sleep(STALL_THRESHOLD.multipliedBy(2));
+			
+			runPosted();
+			
+			assertThat(watchdog.getStallCount()).isOne();
+			assertThat(watchdog.getWaitPercentile(100)).isGreaterThan(STALL_THRESHOLD.toNanos());
+		}
+
+		@Test
+		@DisplayName("Task runs too long")
+		void testInvokeLaterWhenTaskRunsLongerThanThresholdShouldCountAStall() {
+			watchdog.invokeLater("task", () -> sleep(STALL_THRESHOLD.multipliedBy(2)));
+			
+			runPosted();
+			
+			assertThat(watchdog.getStallCount()).isOne();
+			assertThat(watchdog.getRunPercentile(100)).isGreaterThan(STALL_THRESHOLD.toNanos());
+		}
+
+		@Test
+		@DisplayName("Task is checked while stalling")
+		void testInvokeLaterWhenStallIsCheckedWhileTaskRunsShouldCountItOnce() {
+			watchdog.invokeLater("task", () -> {
+				sleep(STALL_THRESHOLD.multipliedBy(2));
+				watchdog.checkStall();
+				watchdog.checkStall();
+			});
+			
+			runPosted();
+			
+			assertThat(watchdog.getStallCount()).isOne();
+		}
+
+		@Test
+		@DisplayName("Task is checked before stalling")
+		void testInvokeLaterWhenStallIsCheckedBeforeThresholdShouldNotCountIt() {
+			watchdog.invokeLater("task", watchdog::checkStall);
+			
+			runPosted();
+			
+			assertThat(watchdog.getStallCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Task throws")
+		void testInvokeLaterWhenTaskThrowsShouldMeasureItAnyway() {
+			watchdog.invokeLater("task", () -> {
+				throw new IllegalStateException();
+			});
+			
+			assertThatThrownBy(() -> runPosted()).isInstanceOf(IllegalStateException.class);
+			
+			assertThat(watchdog.getTaskCount()).isOne();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for percentiles")
+	class PercentileTest {
+
+		@Test
+		@DisplayName("No tasks")
+		void testGetRunPercentileWhenThereAreNoTasksShouldReturnZero() {
+			assertThat(watchdog.getRunPercentile(50)).isZero();
+			assertThat(watchdog.getWaitPercentile(50)).isZero();
+		}
+
+		@Test
+		@DisplayName("Percentile out of range")
+		void testGetRunPercentileWhenPercentileIsOutOfRangeShouldThrow() {
+			assertThatThrownBy(() -> watchdog.getRunPercentile(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Percentile must be greater than 0 and at most 100.");
+			assertThatThrownBy(() -> watchdog.getWaitPercentile(101))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Percentile must be greater than 0 and at most 100.");
+		}
+
+		@Test
+		@DisplayName("Percentiles are ordered")
+		void testGetRunPercentileShouldBeOrderedByPercentile() {
+			watchdog.invokeLater("short", () -> {});
+			watchdog.invokeLater("long", () -> sleep(Duration.ofMillis(5)));
+			runPosted();
+			
+			assertThat(watchdog.getRunPercentile(50)).isLessThan(watchdog.getRunPercentile(100));
+			assertThat(watchdog.getRunPercentile(100)).isGreaterThanOrEqualTo(Duration.ofMillis(5).toNanos());
+		}
+
+		@Test
+		@DisplayName("Measures are reset")
+		void testResetShouldForgetTasksAndStalls() {
+			watchdog.invokeLater("task", () -> sleep(STALL_THRESHOLD.multipliedBy(2)));
+			runPosted();
+			
+			watchdog.reset();
+			
+			assertThat(watchdog.getTaskCount()).isZero();
+			assertThat(watchdog.getStallCount()).isZero();
+			assertThat(watchdog.getRunPercentile(100)).isZero();
+		}
+	}
+}
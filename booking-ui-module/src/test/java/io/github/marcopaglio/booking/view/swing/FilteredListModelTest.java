@@ -0,0 +1,180 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for FilteredListModel class")
+class FilteredListModelTest {
+	private SnapshotListModel<String> source;
+
+	private PrefixIndex<String> index;
+
+	private FilteredListModel<String> model;
+
+	private List<String> events;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		source = new SnapshotListModel<>();
+		index = new PrefixIndex<>(List::of);
+		model = new FilteredListModel<>(source, index);
+		events = new ArrayList<>();
+		model.addListDataListener(new ListDataListener() {
+			@Override
+			public void intervalAdded(ListDataEvent e) {
+				events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void intervalRemoved(ListDataEvent e) {
+				events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void contentsChanged(ListDataEvent e) {
+				events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+		});
+	}
+
+	private void add(String... elements) {
+		for (String element : elements) {
+			index.add(element);
+			source.addElement(element);
+		}
+	}
+
+	private List<String> contents() {
+		return IntStream.range(0, model.getSize()).mapToObj(model::getElementAt).toList();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'setQuery'")
+	class SetQueryTest {
+
+		@Test
+		@DisplayName("No query")
+		void testSetQueryWhenQueryIsBlankShouldShowAllTheElements() {
+			add("bob", "alice", "bill");
+			model.setQuery("b");
+			
+			model.setQuery(" ");
+			
+			assertThat(contents()).containsExactly("bob", "alice", "bill");
+		}
+
+		@Test
+		@DisplayName("Query set")
+		void testSetQueryShouldShowTheMatchingElementsInTheOrderOfTheSource() {
+			add("bob", "alice", "bill", "anna");
+			events.clear();
+			
+			model.setQuery("B");
+			
+			assertThat(contents()).containsExactly("bob", "bill");
+			assertThat(events).containsExactly("changed 0-1", "removed 2-3");
+			assertThat(model.indexOf("bill")).isEqualTo(1);
+			assertThat(model.indexOf("alice")).isEqualTo(-1);
+			assertThat(model.toViewIndex(2)).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Query extended")
+		void testSetQueryWhenQueryExtendsThePreviousOneShouldNarrowItsMatches() {
+			add("bob", "alice", "bill", "bea");
+			model.setQuery("b");
+			events.clear();
+			
+			model.setQuery("bi");
+			
+			assertThat(contents()).containsExactly("bill");
+			assertThat(events).containsExactly("changed 0-0", "removed 1-2");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for changes of the source")
+	class SourceChangeTest {
+
+		@BeforeEach
+		void filter() throws Exception {
+			add("bob", "alice", "bill");
+			model.setQuery("b");
+			events.clear();
+		}
+
+		@Test
+		@DisplayName("Matching element added")
+		void testSourceAddWhenElementMatchesShouldShowIt() {
+			index.add("ben");
+			source.add(1, "ben");
+			
+			assertThat(contents()).containsExactly("bob", "ben", "bill");
+			assertThat(events).containsExactly("added 1-1");
+		}
+
+		@Test
+		@DisplayName("Other element added")
+		void testSourceAddWhenElementDoesNotMatchShouldOnlyShiftTheOthers() {
+			index.add("carl");
+			source.add(0, "carl");
+			
+			assertThat(contents()).containsExactly("bob", "bill");
+			assertThat(events).isEmpty();
+			assertThat(model.toViewIndex(3)).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Elements removed")
+		void testSourceRemoveShouldHideTheRemovedElements() {
+			source.removeElement("bob");
+			
+			assertThat(contents()).containsExactly("bill");
+			assertThat(events).containsExactly("removed 0-0");
+			assertThat(model.toViewIndex(1)).isZero();
+		}
+
+		@Test
+		@DisplayName("Element replaced")
+		void testSourceSetWhenNewElementDoesNotMatchShouldHideIt() {
+			index.remove("bob");
+			index.add("rob");
+			source.set(0, "rob");
+			
+			assertThat(contents()).containsExactly("bill");
+			assertThat(events).containsExactly("removed 0-0");
+		}
+
+		@Test
+		@DisplayName("Snapshot applied")
+		void testSourceReplaceAllShouldFilterTheChangedRangesOnly() {
+			index.add("bea");
+			index.add("dan");
+			
+			source.replaceAll(Arrays.asList("bob", "dan", "bea", "bill"));
+			
+			assertThat(contents()).containsExactly("bob", "bea", "bill");
+		}
+
+		@Test
+		@DisplayName("Display strings of the elements shown")
+		void testGetDisplayStringAtShouldReturnTheOnesOfTheSourcePositions() {
+			source.setDisplayStringFunction(String::toUpperCase);
+			
+			assertThat(model.getDisplayStringAt(0)).isEqualTo("BOB");
+			assertThat(model.getDisplayStringAt(1)).isEqualTo("BILL");
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for IndexedListModel class")
+class IndexedListModelTest {
+	private IndexedListModel<String, Character> model;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// elements are keyed by their first letter
+		model = new IndexedListModel<>(element -> element.charAt(0));
+	}
+
+	private void fill(String... elements) {
+		Arrays.stream(elements).forEach(model::addElement);
+	}
+
+	private List<String> contents() {
+		return IntStream.range(0, model.getSize()).mapToObj(model::getElementAt).toList();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'indexOf' and 'indexOfKey'")
+	class IndexOfTest {
+
+		@Test
+		@DisplayName("Elements appended")
+		void testIndexOfWhenElementsAreAppendedShouldReturnTheirPositions() {
+			fill("alpha", "beta", "gamma");
+			
+			assertThat(model.indexOf("beta")).isEqualTo(1);
+			assertThat(model.indexOfKey('g')).isEqualTo(2);
+			assertThat(model.indexOf("delta")).isEqualTo(-1);
+			assertThat(model.indexOfKey('d')).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("Element inserted")
+		void testIndexOfWhenAnElementIsInsertedShouldShiftTheFollowingOnes() {
+			fill("alpha", "gamma");
+			
+			model.add(1, "beta");
+			
+			assertThat(contents()).containsExactly("alpha", "beta", "gamma");
+			assertThat(model.indexOf("gamma")).isEqualTo(2);
+			assertThat(model.indexOfKey('b')).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Element removed")
+		void testIndexOfWhenAnElementIsRemovedShouldShiftTheFollowingOnes() {
+			fill("alpha", "beta", "gamma");
+			
+			assertThat(model.removeElement("beta")).isTrue();
+			
+			assertThat(model.indexOf("beta")).isEqualTo(-1);
+			assertThat(model.indexOfKey('b')).isEqualTo(-1);
+			assertThat(model.indexOf("gamma")).isEqualTo(1);
+			assertThat(model.indexOfKey('g')).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("Element replaced")
+		void testIndexOfWhenAnElementIsReplacedShouldIndexTheNewOne() {
+			fill("alpha", "beta");
+			
+			assertThat(model.set(0, "apex")).isEqualTo("alpha");
+			
+			assertThat(model.indexOf("alpha")).isEqualTo(-1);
+			assertThat(model.indexOf("apex")).isZero();
+			assertThat(model.indexOfKey('a')).isZero();
+		}
+
+		@Test
+		@DisplayName("Snapshot applied")
+		void testIndexOfWhenASnapshotIsAppliedShouldIndexItsElements() {
+			fill("alpha", "beta");
+			
+			model.replaceAll(Arrays.asList("gamma", "beta", "delta"));
+			
+			assertThat(model.indexOf("alpha")).isEqualTo(-1);
+			assertThat(model.indexOfKey('b')).isEqualTo(1);
+			assertThat(model.indexOfKey('d')).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Null element")
+		void testIndexOfWhenElementIsNullShouldNotIndexItByKey() {
+			fill("alpha");
+			
+			model.addElement(null);
+			
+			assertThat(model.indexOf(null)).isEqualTo(1);
+			assertThat(model.indexOfKey(null)).isEqualTo(-1);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for PagedListModel class")
+class PagedListModelTest {
+	private static final int PAGE_SIZE = 10;
+	private static final int CACHED_PAGES = 3;
+	private static final int TOTAL = 100;
+
+	private PagedListModel<String> model;
+
+	private List<Integer> requestedOffsets;
+
+	private List<Integer> sizes;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		requestedOffsets = new ArrayList<>();
+		sizes = new ArrayList<>();
+		model = new PagedListModel<>(PAGE_SIZE, CACHED_PAGES,
+				(offset, limit) -> requestedOffsets.add(offset), Runnable::run);
+		model.addListDataListener(new ListDataListener() {
+			@Override
+			public void intervalAdded(ListDataEvent e) {
+				sizes.add(model.getSize());
+			}
+
+			@Override
+			public void intervalRemoved(ListDataEvent e) {
+				sizes.add(model.getSize());
+			}
+
+			@Override
+			public void contentsChanged(ListDataEvent e) {
+				// only the changes of size are recorded
+			}
+		});
+	}
+
+	private static List<String> page(int offset) {
+		return IntStream.range(offset, Math.min(offset + PAGE_SIZE, TOTAL)).mapToObj(i -> "row" + i).toList();
+	}
+
+	private void load(int offset) {
+		model.pageLoaded(offset, TOTAL, page(offset));
+	}
+
+	@Nested
+	@DisplayName("Tests for 'PagedListModel'")
+	class ConstructorTest {
+
+		@Test
+		@DisplayName("Not positive page size")
+		void testPagedListModelWhenPageSizeIsNotPositiveShouldThrow() {
+			assertThatThrownBy(() -> new PagedListModel<String>(0, CACHED_PAGES, (offset, limit) -> {}))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Size of pages must be positive.");
+		}
+
+		@Test
+		@DisplayName("Too few cached pages")
+		void testPagedListModelWhenCachedPagesAreLessThanThreeShouldThrow() {
+			assertThatThrownBy(() -> new PagedListModel<String>(PAGE_SIZE, 2, (offset, limit) -> {}))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Number of cached pages cannot be less than three.");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for loading pages")
+	class LoadingTest {
+
+		@Test
+		@DisplayName("First page")
+		void testInvalidateWhenModelIsEmptyShouldRequestTheFirstPage() {
+			model.invalidate();
+			
+			assertThat(requestedOffsets).containsExactly(0);
+			load(0);
+			
+			assertThat(model.getSize()).isEqualTo(TOTAL);
+			assertThat(sizes).containsExactly(TOTAL);
+			assertThat(model.getElementAt(5)).isEqualTo("row5");
+		}
+
+		@Test
+		@DisplayName("Element of a page not loaded")
+		void testGetElementAtWhenPageIsNotLoadedShouldRequestItWithItsNeighbours() {
+			model.invalidate();
+			load(0);
+			requestedOffsets.clear();
+			
+			assertThat(model.getElementAt(55)).isNull();
+			assertThat(model.getElementAt(56)).isNull();
+			
+			assertThat(requestedOffsets).containsExactly(50, 60, 40);
+			load(50);
+			assertThat(model.getElementAt(55)).isEqualTo("row55");
+		}
+
+		@Test
+		@DisplayName("Least recently displayed page")
+		void testPageLoadedWhenTooManyPagesAreKeptShouldEvictTheLeastRecentlyDisplayedOne() {
+			model.invalidate();
+			load(0);
+			model.getElementAt(30);
+			load(30);
+			load(40);
+			load(20);
+			requestedOffsets.clear();
+			
+			assertThat(model.getCachedCount()).isEqualTo(CACHED_PAGES * PAGE_SIZE);
+			assertThat(model.getElementAt(5)).isNull();
+			assertThat(requestedOffsets).containsExactly(0, 10);
+		}
+
+		@Test
+		@DisplayName("Page not requested")
+		void testPageLoadedWhenPageIsNoLongerRequestedShouldIgnoreIt() {
+			model.invalidate();
+			load(0);
+			model.getElementAt(30);
+			model.invalidate();
+			
+			load(30);
+			
+			assertThat(model.getCachedCount()).isZero();
+			load(0);
+			assertThat(model.getCachedCount()).isEqualTo(PAGE_SIZE);
+		}
+
+		@Test
+		@DisplayName("Total changed")
+		void testPageLoadedWhenTotalChangesShouldResizeAndDropTheOtherPages() {
+			model.invalidate();
+			load(0);
+			model.getElementAt(50);
+			
+			model.pageLoaded(50, TOTAL - 1L, page(50));
+			
+			assertThat(sizes).containsExactly(TOTAL, TOTAL - 1);
+			assertThat(model.getCachedCount()).isEqualTo(PAGE_SIZE);
+			assertThat(model.getElementAt(55)).isEqualTo("row55");
+		}
+	}
+}
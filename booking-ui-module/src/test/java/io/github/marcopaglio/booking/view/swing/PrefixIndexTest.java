@@ -0,0 +1,113 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for PrefixIndex class")
+class PrefixIndexTest {
+	private static final String MARIO_ROSSI = "Mario Rossi";
+	private static final String MARIA_ROSSINI = "María Rossini";
+	private static final String LUCA_BIANCHI = "Luca Bianchi";
+
+	private PrefixIndex<String> index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// full names are searched by first and by last name
+		index = new PrefixIndex<>(fullName -> {
+			String[] names = fullName.split(" ");
+			return List.of(names[0] + " " + names[1], names[1] + " " + names[0]);
+		});
+	}
+
+	@Nested
+	@DisplayName("Tests for 'normalize'")
+	class NormalizeTest {
+
+		@Test
+		@DisplayName("Mixed case, accents and spaces")
+		void testNormalizeShouldIgnoreCaseAccentsAndRepeatedSpaces() {
+			assertThat(PrefixIndex.normalize("  ÉlOdie \t D'Àngelo ")).isEqualTo("elodie d'angelo");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'search'")
+	class SearchTest {
+
+		@BeforeEach
+		void fill() throws Exception {
+			index.replaceAll(Arrays.asList(MARIO_ROSSI, MARIA_ROSSINI, LUCA_BIANCHI));
+		}
+
+		@Test
+		@DisplayName("Prefix of first names")
+		void testSearchWhenQueryIsPrefixOfFirstNamesShouldReturnThoseElements() {
+			assertThat(index.search("mari")).containsExactlyInAnyOrder(MARIO_ROSSI, MARIA_ROSSINI);
+		}
+
+		@Test
+		@DisplayName("Prefix of last names without accents")
+		void testSearchWhenQueryIsPrefixOfLastNamesShouldReturnThoseElements() {
+			assertThat(index.search("ROSS")).containsExactlyInAnyOrder(MARIO_ROSSI, MARIA_ROSSINI);
+			assertThat(index.search("maria r")).containsExactly(MARIA_ROSSINI);
+		}
+
+		@Test
+		@DisplayName("Last name followed by first name")
+		void testSearchWhenQueryStartsByLastNameShouldReturnThoseElements() {
+			assertThat(index.search("bianchi l")).containsExactly(LUCA_BIANCHI);
+		}
+
+		@Test
+		@DisplayName("No matches")
+		void testSearchWhenNoTermStartsByQueryShouldReturnEmptySet() {
+			assertThat(index.search("verdi")).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for incremental updates")
+	class UpdateTest {
+
+		@Test
+		@DisplayName("Element removed")
+		void testRemoveShouldDropTheElementFromTheResults() {
+			index.add(MARIO_ROSSI);
+			index.add(MARIA_ROSSINI);
+			
+			index.remove(MARIO_ROSSI);
+			
+			assertThat(index.search("ross")).containsExactly(MARIA_ROSSINI);
+			assertThat(index.matches(MARIO_ROSSI, "mario")).isFalse();
+		}
+
+		@Test
+		@DisplayName("Elements replaced")
+		void testReplaceAllShouldKeepOnlyTheNewElements() {
+			index.replaceAll(Arrays.asList(MARIO_ROSSI, LUCA_BIANCHI));
+			
+			index.replaceAll(Arrays.asList(LUCA_BIANCHI, MARIA_ROSSINI));
+			
+			assertThat(index.search("ma")).containsExactly(MARIA_ROSSINI);
+			assertThat(index.search("b")).containsExactly(LUCA_BIANCHI);
+		}
+
+		@Test
+		@DisplayName("Element matched")
+		void testMatchesShouldCheckTheNormalizedTermsOfTheElement() {
+			index.add(MARIA_ROSSINI);
+			
+			assertThat(index.matches(MARIA_ROSSINI, "maria")).isTrue();
+			assertThat(index.matches(MARIA_ROSSINI, "rossini m")).isTrue();
+			assertThat(index.matches(MARIA_ROSSINI, "mario")).isFalse();
+		}
+	}
+}
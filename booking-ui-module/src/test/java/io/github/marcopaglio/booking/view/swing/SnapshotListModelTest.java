@@ -0,0 +1,270 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static javax.swing.event.ListDataEvent.CONTENTS_CHANGED;
+import static javax.swing.event.ListDataEvent.INTERVAL_ADDED;
+import static javax.swing.event.ListDataEvent.INTERVAL_REMOVED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for SnapshotListModel class")
+class SnapshotListModelTest {
+	private SnapshotListModel<String> model;
+
+	private List<String> events;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		model = new SnapshotListModel<>();
+		events = new ArrayList<>();
+		model.addListDataListener(new ListDataListener() {
+			@Override
+			public void intervalAdded(ListDataEvent e) {
+				record(e);
+			}
+
+			@Override
+			public void intervalRemoved(ListDataEvent e) {
+				record(e);
+			}
+
+			@Override
+			public void contentsChanged(ListDataEvent e) {
+				record(e);
+			}
+		});
+	}
+
+	private void record(ListDataEvent e) {
+		String type = switch (e.getType()) {
+			case INTERVAL_ADDED -> "added";
+			case INTERVAL_REMOVED -> "removed";
+			case CONTENTS_CHANGED -> "changed";
+			default -> throw new IllegalStateException();
+		};
+		events.add(type + " " + e.getIndex0() + "-" + e.getIndex1());
+	}
+
+	private void fill(String... elements) {
+		Arrays.stream(elements).forEach(model::addElement);
+		events.clear();
+	}
+
+	private List<String> contents() {
+		return IntStream.range(0, model.getSize()).mapToObj(model::getElementAt).toList();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'replaceAll'")
+	class ReplaceAllTest {
+
+		@Test
+		@DisplayName("Same elements")
+		void testReplaceAllWhenElementsAreTheSameShouldNotFireEvents() {
+			fill("a", "b", "c");
+			
+			model.replaceAll(Arrays.asList("a", "b", "c"));
+			
+			assertThat(contents()).containsExactly("a", "b", "c");
+			assertThat(events).isEmpty();
+		}
+
+		@Test
+		@DisplayName("Empty model")
+		void testReplaceAllWhenModelIsEmptyShouldFireOneInsertion() {
+			model.replaceAll(Arrays.asList("a", "b", "c"));
+			
+			assertThat(contents()).containsExactly("a", "b", "c");
+			assertThat(events).containsExactly("added 0-2");
+		}
+
+		@Test
+		@DisplayName("Empty snapshot")
+		void testReplaceAllWhenSnapshotIsEmptyShouldFireOneRemoval() {
+			fill("a", "b", "c");
+			
+			model.replaceAll(Collections.emptyList());
+			
+			assertThat(contents()).isEmpty();
+			assertThat(events).containsExactly("removed 0-2");
+		}
+
+		@Test
+		@DisplayName("Elements inserted and removed")
+		void testReplaceAllWhenElementsAreInsertedAndRemovedShouldFireMinimalRanges() {
+			fill("a", "b", "c", "d", "e");
+			
+			model.replaceAll(Arrays.asList("a", "x", "y", "c", "e"));
+			
+			assertThat(contents()).containsExactly("a", "x", "y", "c", "e");
+			assertThat(events).containsExactly("changed 1-1", "added 2-2", "removed 4-4");
+		}
+
+		@Test
+		@DisplayName("Element moved")
+		void testReplaceAllWhenAnElementIsMovedShouldRemoveAndInsertIt() {
+			fill("a", "b", "c");
+			
+			model.replaceAll(Arrays.asList("b", "c", "a"));
+			
+			assertThat(contents()).containsExactly("b", "c", "a");
+			assertThat(events).containsExactly("removed 0-0", "added 2-2");
+		}
+
+		@Test
+		@DisplayName("Region too large for a diff")
+		void testReplaceAllWhenChangedRegionIsTooLargeShouldReplaceItInBulk() {
+			int size = (int) Math.sqrt(SnapshotListModel.DIFF_LIMIT) + 1;
+			fill(IntStream.range(0, size).mapToObj(i -> "old" + i).toArray(String[]::new));
+			List<String> snapshot = IntStream.range(0, size + 2).mapToObj(i -> "new" + i).toList();
+			
+			model.replaceAll(snapshot);
+			
+			assertThat(contents()).isEqualTo(snapshot);
+			assertThat(events).containsExactly(
+					"changed 0-" + (size - 1), "added " + size + "-" + (size + 1));
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for single element updates")
+	class SingleUpdateTest {
+
+		@Test
+		@DisplayName("Element inserted")
+		void testAddShouldFireOneInsertion() {
+			fill("a", "c");
+			
+			model.add(1, "b");
+			
+			assertThat(contents()).containsExactly("a", "b", "c");
+			assertThat(events).containsExactly("added 1-1");
+		}
+
+		@Test
+		@DisplayName("Element removed")
+		void testRemoveElementWhenElementIsInModelShouldFireOneRemoval() {
+			fill("a", "b", "c");
+			
+			assertThat(model.removeElement("b")).isTrue();
+			
+			assertThat(contents()).containsExactly("a", "c");
+			assertThat(events).containsExactly("removed 1-1");
+		}
+
+		@Test
+		@DisplayName("Element not in model")
+		void testRemoveElementWhenElementIsNotInModelShouldNotFireEvents() {
+			fill("a");
+			
+			assertThat(model.removeElement("b")).isFalse();
+			
+			assertThat(events).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for display strings")
+	class DisplayStringTest {
+		private List<String> computed;
+
+		@BeforeEach
+		void setUp() throws Exception {
+			computed = new ArrayList<>();
+			model.setDisplayStringFunction(element -> {
+				computed.add(element);
+				return element.toUpperCase();
+			});
+		}
+
+		@Test
+		@DisplayName("Default display strings")
+		void testGetDisplayStringAtWhenFunctionIsNotSetShouldUseStringValueOf() {
+			SnapshotListModel<Integer> numbers = new SnapshotListModel<>();
+			numbers.addElement(42);
+			
+			assertThat(numbers.getDisplayStringAt(0)).isEqualTo("42");
+		}
+
+		@Test
+		@DisplayName("Display string read again")
+		void testGetDisplayStringAtWhenReadAgainShouldComputeItOnce() {
+			fill("a", "b");
+			
+			assertThat(model.getDisplayStringAt(1)).isEqualTo("B");
+			assertThat(model.getDisplayStringAt(1)).isEqualTo("B");
+			
+			assertThat(computed).containsExactly("b");
+		}
+
+		@Test
+		@DisplayName("Element replaced")
+		void testGetDisplayStringAtWhenElementIsReplacedShouldComputeItAgain() {
+			fill("a", "b", "c");
+			readAll();
+			
+			model.set(1, "x");
+			readAll();
+			
+			assertThat(computed).containsExactly("a", "b", "c", "x");
+		}
+
+		@Test
+		@DisplayName("Elements inserted and removed")
+		void testGetDisplayStringAtWhenElementsAreInsertedAndRemovedShouldKeepTheOthers() {
+			fill("a", "b", "c");
+			readAll();
+			
+			model.add(1, "x");
+			model.removeElement("c");
+			
+			assertThat(contentsDisplayed()).containsExactly("A", "X", "B");
+			assertThat(computed).containsExactly("a", "b", "c", "x");
+		}
+
+		@Test
+		@DisplayName("Snapshot replaced")
+		void testGetDisplayStringAtWhenSnapshotIsReplacedShouldComputeOnlyTheChangedElements() {
+			fill("a", "b", "c", "d", "e");
+			readAll();
+			computed.clear();
+			
+			model.replaceAll(Arrays.asList("a", "x", "y", "c", "e"));
+			
+			assertThat(contentsDisplayed()).containsExactly("A", "X", "Y", "C", "E");
+			assertThat(computed).containsExactly("x", "y");
+		}
+
+		@Test
+		@DisplayName("Function changed")
+		void testSetDisplayStringFunctionShouldForgetTheDisplayStringsAndFireAChange() {
+			fill("a", "b");
+			readAll();
+			
+			model.setDisplayStringFunction(element -> element + "!");
+			
+			assertThat(contentsDisplayed()).containsExactly("a!", "b!");
+			assertThat(events).containsExactly("changed 0-1");
+		}
+
+		private void readAll() {
+			IntStream.range(0, model.getSize()).forEach(model::getDisplayStringAt);
+		}
+
+		private List<String> contentsDisplayed() {
+			return IntStream.range(0, model.getSize()).mapToObj(model::getDisplayStringAt).toList();
+		}
+	}
+}
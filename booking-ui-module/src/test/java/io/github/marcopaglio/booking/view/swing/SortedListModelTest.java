@@ -0,0 +1,152 @@
+package io.github.marcopaglio.booking.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for SortedListModel class")
+class SortedListModelTest {
+	// elements are sorted by their first letter only
+	private static final Comparator<String> BY_INITIAL = Comparator.comparing(element -> element.charAt(0));
+
+	private SortedListModel<String> model;
+
+	private List<String> events;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		model = new SortedListModel<>(BY_INITIAL);
+		events = new ArrayList<>();
+		model.addListDataListener(new ListDataListener() {
+			@Override
+			public void intervalAdded(ListDataEvent e) {
+				events.add("added " + e.getIndex0());
+			}
+
+			@Override
+			public void intervalRemoved(ListDataEvent e) {
+				events.add("removed " + e.getIndex0());
+			}
+
+			@Override
+			public void contentsChanged(ListDataEvent e) {
+				events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+		});
+	}
+
+	private void fill(String... elements) {
+		Arrays.stream(elements).forEach(model::addElement);
+		events.clear();
+	}
+
+	private List<String> contents() {
+		return IntStream.range(0, model.getSize()).mapToObj(model::getElementAt).toList();
+	}
+
+	@Nested
+	@DisplayName("Tests for 'addElement'")
+	class AddElementTest {
+
+		@Test
+		@DisplayName("Element in the middle")
+		void testAddElementWhenElementIsBetweenOthersShouldInsertItInOrder() {
+			fill("a", "c", "e");
+			
+			model.addElement("d");
+			
+			assertThat(contents()).containsExactly("a", "c", "d", "e");
+			assertThat(events).containsExactly("added 2");
+		}
+
+		@Test
+		@DisplayName("Element by index")
+		void testAddWhenIndexIsSpecifiedShouldThrow() {
+			fill("a");
+			
+			assertThatThrownBy(() -> model.add(0, "b"))
+				.isInstanceOf(UnsupportedOperationException.class)
+				.hasMessage("Elements of a sorted model cannot be placed by index.");
+			
+			assertThat(contents()).containsExactly("a");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'indexOf'")
+	class IndexOfTest {
+
+		@Test
+		@DisplayName("Element in model")
+		void testIndexOfWhenElementIsInModelShouldReturnItsPosition() {
+			fill("a", "c", "e", "g");
+			
+			assertThat(model.indexOf("e")).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("Elements equal for the comparator")
+		void testIndexOfWhenOtherElementsAreEqualForTheComparatorShouldReturnTheEqualOne() {
+			fill("a", "b1", "b2", "b3", "c");
+			
+			assertThat(model.getElementAt(model.indexOf("b1"))).isEqualTo("b1");
+			assertThat(model.getElementAt(model.indexOf("b2"))).isEqualTo("b2");
+			assertThat(model.getElementAt(model.indexOf("b3"))).isEqualTo("b3");
+			assertThat(model.indexOf("b4")).isEqualTo(-1);
+		}
+
+		@Test
+		@DisplayName("Element not in model")
+		void testIndexOfWhenElementIsNotInModelShouldReturnMinusOne() {
+			fill("a", "c");
+			
+			assertThat(model.indexOf("b")).isEqualTo(-1);
+			assertThat(model.indexOf(null)).isEqualTo(-1);
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'removeElement'")
+	class RemoveElementTest {
+
+		@Test
+		@DisplayName("Element in model")
+		void testRemoveElementWhenElementIsInModelShouldRemoveIt() {
+			fill("a", "c", "e");
+			
+			assertThat(model.removeElement("c")).isTrue();
+			
+			assertThat(contents()).containsExactly("a", "e");
+			assertThat(events).containsExactly("removed 1");
+		}
+	}
+
+	@Nested
+	@DisplayName("Tests for 'replaceAll'")
+	class ReplaceAllTest {
+
+		@Test
+		@DisplayName("Unsorted snapshot")
+		void testReplaceAllWhenSnapshotIsNotSortedShouldShowItSorted() {
+			fill("a", "c");
+			
+			model.replaceAll(Arrays.asList("d", "a", "c"));
+			
+			assertThat(contents()).containsExactly("a", "c", "d");
+			assertThat(events).containsExactly("added 2");
+		}
+	}
+}